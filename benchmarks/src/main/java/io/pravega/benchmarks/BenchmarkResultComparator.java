@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Preconditions;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.Data;
+
+/**
+ * Compares two JMH result files (produced with "-rf json") and flags any benchmark that regressed by more than a given
+ * threshold. A benchmark is identified by its name, mode and parameters; benchmarks that exist in only one of the files
+ * are ignored.
+ *
+ * A change is considered a regression if both of these hold:
+ * - The score moved in the "bad" direction (lower for throughput modes, higher for time-based modes) by more than the
+ * threshold (in percent of the baseline score).
+ * - The difference between the two scores is larger than the sum of their reported score errors (so we do not flag noise).
+ *
+ * Usage: BenchmarkResultComparator &lt;baseline.json&gt; &lt;current.json&gt; [threshold-percent]. The process exits
+ * with a non-zero code if any regressions were found.
+ */
+public final class BenchmarkResultComparator {
+    private static final double DEFAULT_THRESHOLD_PERCENT = 5.0;
+    private static final String THROUGHPUT_MODE = "thrpt";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args[0].isEmpty() || args[1].isEmpty()) {
+            System.err.println("Usage: BenchmarkResultComparator <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        Map<String, Result> baseline = load(MAPPER.readTree(new File(args[0])));
+        Map<String, Result> current = load(MAPPER.readTree(new File(args[1])));
+        List<Comparison> comparisons = compare(baseline, current, threshold);
+
+        int regressionCount = 0;
+        System.out.println(String.format("%-100s %16s %16s %9s", "Benchmark", "Baseline", "Current", "Change"));
+        for (Comparison c : comparisons) {
+            System.out.println(c);
+            regressionCount += c.isRegression() ? 1 : 0;
+        }
+
+        System.out.println(String.format("Compared %d benchmark(s) with a threshold of %.1f%%; %d regression(s) found.",
+                comparisons.size(), threshold, regressionCount));
+        if (regressionCount > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Parses the contents of a JMH JSON result file.
+     *
+     * @param root The root {@link JsonNode} of the file (an array of benchmark results).
+     * @return A Map of benchmark identifiers (name, mode and parameters) to {@link Result}s.
+     */
+    static Map<String, Result> load(JsonNode root) {
+        Preconditions.checkArgument(root.isArray(), "Expected a JSON array of JMH results.");
+        Map<String, Result> result = new LinkedHashMap<>();
+        for (JsonNode n : root) {
+            JsonNode metric = n.get("primaryMetric");
+            String mode = n.get("mode").asText();
+            StringBuilder id = new StringBuilder(n.get("benchmark").asText()).append(" [").append(mode).append(']');
+            JsonNode params = n.get("params");
+            if (params != null) {
+                // Sort the parameters so that the identifier does not depend on their order in the file.
+                TreeMap<String, String> sortedParams = new TreeMap<>();
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> f = fields.next();
+                    sortedParams.put(f.getKey(), f.getValue().asText());
+                }
+                id.append(sortedParams);
+            }
+
+            double error = metric.path("scoreError").asDouble(0);
+            result.put(id.toString(), new Result(mode, metric.get("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error, metric.path("scoreUnit").asText()));
+        }
+
+        return result;
+    }
+
+    /**
+     * Compares the given results.
+     *
+     * @param baseline         Baseline results.
+     * @param current          Current results.
+     * @param thresholdPercent The maximum allowed change (in percent) in the "bad" direction before flagging a regression.
+     * @return A List of {@link Comparison}s, one for each benchmark that exists in both baseline and current.
+     */
+    static List<Comparison> compare(Map<String, Result> baseline, Map<String, Result> current, double thresholdPercent) {
+        Preconditions.checkArgument(thresholdPercent >= 0, "thresholdPercent must be a non-negative number.");
+        List<Comparison> result = new ArrayList<>();
+        for (Map.Entry<String, Result> e : baseline.entrySet()) {
+            Result c = current.get(e.getKey());
+            if (c != null) {
+                result.add(new Comparison(e.getKey(), e.getValue(), c, thresholdPercent));
+            }
+        }
+
+        return result;
+    }
+
+    @Data
+    static class Result {
+        private final String mode;
+        private final double score;
+        private final double scoreError;
+        private final String unit;
+    }
+
+    @Data
+    static class Comparison {
+        private final String benchmark;
+        private final Result baseline;
+        private final Result current;
+        private final double thresholdPercent;
+
+        /**
+         * Gets the relative change (in percent) between baseline and current. Positive values are improvements,
+         * negative values are degradations, regardless of the benchmark mode.
+         */
+        double getImprovementPercent() {
+            if (this.baseline.getScore() == 0) {
+                return 0;
+            }
+
+            double change = (this.current.getScore() - this.baseline.getScore()) / this.baseline.getScore() * 100;
+            return THROUGHPUT_MODE.equals(this.baseline.getMode()) ? change : -change;
+        }
+
+        boolean isRegression() {
+            double difference = Math.abs(this.current.getScore() - this.baseline.getScore());
+            return getImprovementPercent() < -this.thresholdPercent
+                    && difference > this.baseline.getScoreError() + this.current.getScoreError();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-100s %16.3f %16.3f %+8.2f%% %s %s", this.benchmark, this.baseline.getScore(),
+                    this.current.getScore(), getImprovementPercent(), this.current.getUnit(), isRegression() ? "REGRESSION" : "");
+        }
+    }
+}
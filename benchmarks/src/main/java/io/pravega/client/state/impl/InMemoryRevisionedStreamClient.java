@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.state.impl;
+
+import io.pravega.client.segment.impl.Segment;
+import io.pravega.client.state.InitialUpdate;
+import io.pravega.client.state.Revision;
+import io.pravega.client.state.Revisioned;
+import io.pravega.client.state.RevisionedStreamClient;
+import io.pravega.client.state.Update;
+import io.pravega.client.stream.Serializer;
+import io.pravega.client.stream.TruncatedDataException;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link RevisionedStreamClient} for a {@link StateSynchronizerImpl} that keeps all of its entries, in serialized form,
+ * in memory. Every read deserializes the entries it returns, so the cost of (de)serialization is accounted for just like
+ * with a real Segment.
+ *
+ * @param <StateT> Type of the synchronized state.
+ */
+@ThreadSafe
+public class InMemoryRevisionedStreamClient<StateT extends Revisioned> implements RevisionedStreamClient<UpdateOrInit<StateT>> {
+    private final Segment segment;
+    private final Serializer<UpdateOrInit<StateT>> serializer;
+    @GuardedBy("this")
+    private final List<ByteBuffer> entries = new ArrayList<>();
+    @GuardedBy("this")
+    private final List<Long> endOffsets = new ArrayList<>();
+    @GuardedBy("this")
+    private long startOffset;
+    @GuardedBy("this")
+    private long length;
+    @GuardedBy("this")
+    private Revision mark;
+
+    /**
+     * Creates a new instance of the InMemoryRevisionedStreamClient class.
+     *
+     * @param segment           The Segment the client pretends to be reading from and writing to.
+     * @param updateSerializer  The serializer for updates.
+     * @param initialSerializer The serializer for initial updates.
+     * @param <UpdateT>         Type of the updates.
+     * @param <InitT>           Type of the initial updates.
+     */
+    public <UpdateT extends Update<StateT>, InitT extends InitialUpdate<StateT>> InMemoryRevisionedStreamClient(
+            Segment segment, Serializer<UpdateT> updateSerializer, Serializer<InitT> initialSerializer) {
+        this.segment = segment;
+        this.serializer = new UpdateOrInitSerializer<>(updateSerializer, initialSerializer);
+    }
+
+    /**
+     * Creates a new {@link StateSynchronizerImpl} that uses this client.
+     *
+     * @return A new {@link StateSynchronizerImpl}.
+     */
+    public StateSynchronizerImpl<StateT> createSynchronizer() {
+        return new StateSynchronizerImpl<>(this.segment, this);
+    }
+
+    @Override
+    public synchronized Revision fetchOldestRevision() {
+        return new RevisionImpl(this.segment, this.startOffset, 0);
+    }
+
+    @Override
+    public synchronized Revision fetchLatestRevision() {
+        return new RevisionImpl(this.segment, this.length, 0);
+    }
+
+    @Override
+    public synchronized Iterator<Map.Entry<Revision, UpdateOrInit<StateT>>> readFrom(Revision start) throws TruncatedDataException {
+        long offset = start.asImpl().getOffsetInSegment();
+        if (offset < this.startOffset) {
+            throw new TruncatedDataException();
+        }
+
+        List<Map.Entry<Revision, UpdateOrInit<StateT>>> result = new ArrayList<>();
+        for (int i = 0; i < this.entries.size(); i++) {
+            long endOffset = this.endOffsets.get(i);
+            if (endOffset > offset) {
+                result.add(new AbstractMap.SimpleImmutableEntry<>(new RevisionImpl(this.segment, endOffset, 0),
+                        this.serializer.deserialize(this.entries.get(i).duplicate())));
+            }
+        }
+        return result.iterator();
+    }
+
+    @Override
+    public synchronized Revision writeConditionally(Revision latestRevision, UpdateOrInit<StateT> value) {
+        if (latestRevision.asImpl().getOffsetInSegment() != this.length) {
+            return null;
+        }
+
+        writeUnconditionally(value);
+        return new RevisionImpl(this.segment, this.length, 0);
+    }
+
+    @Override
+    public synchronized void writeUnconditionally(UpdateOrInit<StateT> value) {
+        ByteBuffer serialized = this.serializer.serialize(value);
+        // Account for the length prefix, just like the RevisionedStreamClientImpl does.
+        this.length += serialized.remaining() + Integer.BYTES;
+        this.entries.add(serialized);
+        this.endOffsets.add(this.length);
+    }
+
+    @Override
+    public synchronized Revision getMark() {
+        return this.mark;
+    }
+
+    @Override
+    public synchronized boolean compareAndSetMark(Revision expected, Revision newLocation) {
+        if (expected == null ? this.mark != null : !expected.equals(this.mark)) {
+            return false;
+        }
+
+        this.mark = newLocation;
+        return true;
+    }
+
+    @Override
+    public synchronized void truncateToRevision(Revision revision) {
+        long offset = revision.asImpl().getOffsetInSegment();
+        while (!this.endOffsets.isEmpty() && this.endOffsets.get(0) <= offset) {
+            this.startOffset = this.endOffsets.remove(0);
+            this.entries.remove(0);
+        }
+    }
+
+    @Override
+    public void close() {
+        // Nothing to do.
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.stream.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.pravega.client.stream.CompressionCodec;
+import io.pravega.shared.protocol.netty.WireCommandType;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link EventCompression}: the cost of framing (and compressing) events on the writer and of decompressing
+ * them on the reader, as well as the number of bytes that end up being sent to (and stored by) the Segment Store.
+ *
+ * The "eventBytes" and "wireBytes" secondary results of the write benchmark are the total number of bytes before and
+ * after framing; their ratio is the compression ratio.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EventCompressionBenchmark {
+    private static final String NO_COMPRESSION = "none";
+
+    @Param({NO_COMPRESSION, "deflate"})
+    private String codec;
+    @Param({"256", "4096"})
+    private int eventLength;
+    /**
+     * Whether the events are JSON documents (compressible) or random bytes (incompressible).
+     */
+    @Param({"json", "random"})
+    private String payload;
+    private CompressionCodec compressionCodec;
+    private ByteBuffer event;
+    private byte codecId;
+    private int uncompressedLength;
+    private ByteBuffer serializedEvent;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.compressionCodec = NO_COMPRESSION.equals(this.codec) ? null : EventCompression.getCodec(this.codec);
+        this.event = ByteBuffer.wrap("json".equals(this.payload) ? generateJson(this.eventLength) : generateRandom(this.eventLength));
+
+        // Prepare an event for the read benchmark, exactly as the reader would see it after parsing its header.
+        ByteBuf frame = EventCompression.serialize(this.compressionCodec, this.event);
+        boolean compressed = frame.readInt() == WireCommandType.COMPRESSED_EVENT.getCode();
+        frame.readInt();
+        this.codecId = compressed ? frame.readByte() : 0;
+        this.uncompressedLength = compressed ? frame.readInt() : -1;
+        this.serializedEvent = frame.nioBuffer();
+    }
+
+    /**
+     * Frames (and compresses, if configured) an event, exactly as the {@link EventStreamWriterImpl} does.
+     *
+     * @param counters Byte counters.
+     * @return The framed event.
+     */
+    @Benchmark
+    public ByteBuf write(ByteCounters counters) {
+        ByteBuf result = EventCompression.serialize(this.compressionCodec, this.event);
+        counters.eventBytes += this.event.remaining();
+        counters.wireBytes += result.readableBytes();
+        return result;
+    }
+
+    /**
+     * Decompresses an event (if it was compressed), exactly as the EventSegmentReaderImpl does.
+     *
+     * @return The event.
+     */
+    @Benchmark
+    public ByteBuffer read() {
+        ByteBuffer data = this.serializedEvent.duplicate();
+        return this.uncompressedLength < 0 ? data : EventCompression.decompress(this.codecId, data, this.uncompressedLength);
+    }
+
+    private static byte[] generateJson(int length) {
+        Random random = new Random(0);
+        StringBuilder sb = new StringBuilder(length + 100);
+        while (sb.length() < length) {
+            sb.append(String.format("{\"device\":\"device-%04d\",\"timestamp\":%d,\"temperature\":%.2f,\"status\":\"%s\"}",
+                    random.nextInt(1000), 1600000000000L + random.nextInt(1000000), random.nextDouble() * 100,
+                    random.nextBoolean() ? "OK" : "WARN"));
+        }
+        return sb.substring(0, length).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] generateRandom(int length) {
+        byte[] result = new byte[length];
+        new Random(0).nextBytes(result);
+        return result;
+    }
+
+    /**
+     * Counts the bytes before and after framing and compression.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ByteCounters {
+        public long eventBytes;
+        public long wireBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.eventBytes = 0;
+            this.wireBytes = 0;
+        }
+    }
+}
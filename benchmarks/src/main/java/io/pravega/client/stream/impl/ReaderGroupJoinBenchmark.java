@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.stream.impl;
+
+import io.pravega.client.admin.impl.ReaderGroupManagerImpl;
+import io.pravega.client.segment.impl.Segment;
+import io.pravega.client.state.impl.InMemoryRevisionedStreamClient;
+import io.pravega.client.state.impl.StateSynchronizerImpl;
+import io.pravega.client.stream.ReaderGroupConfig;
+import io.pravega.client.stream.Stream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the {@link StateSynchronizerImpl} of a large {@link ReaderGroupState} (many segments and readers), backed
+ * by an {@link InMemoryRevisionedStreamClient}.
+ *
+ * The "join" benchmark measures the time it takes a new reader to load the state (the latest compaction plus the updates
+ * after it), while the "compact" benchmark measures the cost of writing a compaction as the
+ * {@link ReaderGroupStateManager} does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ReaderGroupJoinBenchmark {
+    private static final String SCOPE = "scope";
+    private static final String STREAM = "stream";
+    private static final Segment SYNC_SEGMENT = new Segment(SCOPE, "_RGgroup", 0);
+
+    @Param({"10000"})
+    private int segmentCount;
+    @Param({"100"})
+    private int readerCount;
+    /**
+     * The number of (conditional) updates that follow the latest compaction.
+     */
+    @Param({"1000"})
+    private int tailLength;
+    private InMemoryRevisionedStreamClient<ReaderGroupState> client;
+    private StateSynchronizerImpl<ReaderGroupState> compactor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.client = new InMemoryRevisionedStreamClient<>(SYNC_SEGMENT, new ReaderGroupManagerImpl.ReaderGroupStateUpdatesSerializer(),
+                new ReaderGroupManagerImpl.ReaderGroupStateInitSerializer());
+        this.compactor = this.client.createSynchronizer();
+
+        Map<SegmentWithRange, Long> segments = new HashMap<>();
+        for (int i = 0; i < this.segmentCount; i++) {
+            double low = (double) i / this.segmentCount;
+            double high = (double) (i + 1) / this.segmentCount;
+            segments.put(new SegmentWithRange(new Segment(SCOPE, STREAM, i), low, high), 0L);
+        }
+
+        ReaderGroupConfig config = ReaderGroupConfig.builder().stream(Stream.of(SCOPE, STREAM)).build();
+        this.compactor.initialize(new ReaderGroupState.ReaderGroupStateInit(config, segments, new HashMap<>()));
+
+        // Assign all segments, in a round-robin fashion, to the readers.
+        List<String> readers = new ArrayList<>();
+        for (int i = 0; i < this.readerCount; i++) {
+            String readerId = "reader" + i;
+            readers.add(readerId);
+            this.compactor.updateState((state, updates) -> {
+                updates.add(new ReaderGroupState.AddReader(readerId));
+            });
+        }
+
+        this.compactor.updateState((state, updates) -> {
+            int i = 0;
+            for (SegmentWithRange s : state.getUnassignedSegments().keySet()) {
+                updates.add(new ReaderGroupState.AcquireSegment(readers.get(i++ % readers.size()), s.getSegment()));
+            }
+        });
+
+        this.compactor.compact(ReaderGroupState.CompactReaderGroupState::new);
+        for (int i = 0; i < this.tailLength; i++) {
+            String readerId = readers.get(i % readers.size());
+            long distance = i;
+            this.compactor.updateState((state, updates) -> {
+                updates.add(new ReaderGroupState.UpdateDistanceToTail(readerId, distance, null));
+            });
+        }
+    }
+
+    /**
+     * Loads the state from scratch, as a reader that joins the reader group does.
+     *
+     * @return The loaded state.
+     */
+    @Benchmark
+    public ReaderGroupState join() {
+        StateSynchronizerImpl<ReaderGroupState> sync = this.client.createSynchronizer();
+        sync.fetchUpdates();
+        return sync.getState();
+    }
+
+    /**
+     * Compacts the state and then fetches any updates, as the {@link ReaderGroupStateManager} does.
+     */
+    @Benchmark
+    public void compact() {
+        this.compactor.compact(ReaderGroupState.CompactReaderGroupState::new);
+        this.compactor.fetchUpdates();
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.tables.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.pravega.client.tables.IteratorItem;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.util.AsyncIterator;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput (ops/s) of concurrent, single-key puts and gets on a {@link TableSegment}, with and without a
+ * {@link CoalescingTableSegment} in front of it.
+ *
+ * The {@link TableSegment} is simulated: each request is processed, one at a time, on a single thread and costs a fixed
+ * amount of time plus a (much smaller) amount for each of its entries, which approximates the per-request overhead of
+ * sending a wire request and having it processed by the Segment Store.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TableSegmentCoalescingBenchmark {
+    private static final int THREAD_COUNT = 32;
+    private static final int KEY_COUNT = 100000;
+    private static final int KEY_LENGTH = 16;
+    private static final int VALUE_LENGTH = 128;
+    private static final int MAX_BATCH_SIZE = 1024 * 1024;
+
+    @Param({"false", "true"})
+    private boolean coalesce;
+    @Param({"0"})
+    private int windowMillis;
+    @Param({"50"})
+    private int requestCostMicros;
+    @Param({"1"})
+    private int entryCostMicros;
+    private ScheduledExecutorService executor;
+    private TableSegment segment;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(4, "benchmark");
+        this.segment = new SimulatedTableSegment(TimeUnit.MICROSECONDS.toNanos(this.requestCostMicros),
+                TimeUnit.MICROSECONDS.toNanos(this.entryCostMicros));
+        if (this.coalesce) {
+            this.segment = new CoalescingTableSegment(this.segment, this.executor, Duration.ofMillis(this.windowMillis), MAX_BATCH_SIZE);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.segment.close();
+        ExecutorServiceHelpers.shutdown(this.executor);
+    }
+
+    @Benchmark
+    @Threads(THREAD_COUNT)
+    public TableSegmentKeyVersion put() {
+        ByteBuf key = randomBuffer(KEY_LENGTH, KEY_COUNT);
+        ByteBuf value = randomBuffer(VALUE_LENGTH, Integer.MAX_VALUE);
+        return this.segment.put(TableSegmentEntry.unversioned(key, value)).join();
+    }
+
+    @Benchmark
+    @Threads(THREAD_COUNT)
+    public TableSegmentEntry get() {
+        return this.segment.get(randomBuffer(KEY_LENGTH, KEY_COUNT)).join();
+    }
+
+    private static ByteBuf randomBuffer(int length, int distinctValues) {
+        ByteBuf buffer = Unpooled.buffer(length);
+        buffer.writeInt(ThreadLocalRandom.current().nextInt(distinctValues));
+        buffer.writeZero(length - Integer.BYTES);
+        return buffer;
+    }
+
+    /**
+     * A {@link TableSegment} that processes each request sequentially, taking a fixed amount of time per request and
+     * per entry.
+     */
+    private static class SimulatedTableSegment implements TableSegment {
+        private final ScheduledExecutorService server = ExecutorServiceHelpers.newScheduledThreadPool(1, "server");
+        private final long requestCostNanos;
+        private final long entryCostNanos;
+
+        SimulatedTableSegment(long requestCostNanos, long entryCostNanos) {
+            this.requestCostNanos = requestCostNanos;
+            this.entryCostNanos = entryCostNanos;
+        }
+
+        @Override
+        public CompletableFuture<List<TableSegmentKeyVersion>> put(Iterator<TableSegmentEntry> entries) {
+            List<TableSegmentKeyVersion> result = new ArrayList<>();
+            entries.forEachRemaining(e -> result.add(TableSegmentKeyVersion.from(result.size())));
+            return process(result);
+        }
+
+        @Override
+        public CompletableFuture<Void> remove(Iterator<TableSegmentKey> keys) {
+            List<Void> result = new ArrayList<>();
+            keys.forEachRemaining(k -> result.add(null));
+            return process(result).thenApply(r -> null);
+        }
+
+        @Override
+        public CompletableFuture<List<TableSegmentEntry>> get(Iterator<ByteBuf> keys) {
+            List<TableSegmentEntry> result = new ArrayList<>();
+            keys.forEachRemaining(k -> result.add(TableSegmentEntry.notFound(k)));
+            return process(result);
+        }
+
+        @Override
+        public AsyncIterator<IteratorItem<TableSegmentKey>> keyIterator(IteratorArgs args) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AsyncIterator<IteratorItem<TableSegmentEntry>> entryIterator(IteratorArgs args) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getSegmentId() {
+            return 0;
+        }
+
+        @Override
+        public void close() {
+            ExecutorServiceHelpers.shutdown(this.server);
+        }
+
+        private <T> CompletableFuture<List<T>> process(List<T> result) {
+            long cost = this.requestCostNanos + result.size() * this.entryCostNanos;
+            return CompletableFuture.supplyAsync(() -> {
+                long end = System.nanoTime() + cost;
+                while (System.nanoTime() < end) {
+                    // Simulate the work; sleeping is too coarse for these durations.
+                }
+                return result;
+            }, this.server);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.common.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the {@link SortedIndex} implementations, using an access pattern similar to that of a Segment's Read
+ * Index: entries are inserted in increasing order of their keys and looked up using {@link SortedIndex#getFloor}.
+ * <p>
+ * Run with "-prof gc" to measure the heap used per entry: the "gc.alloc.rate.norm" value reported for {@link #insert}
+ * is the number of bytes allocated per inserted entry (which includes the entry itself, {@link #ENTRY_SIZE} bytes).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SortedIndexBenchmark {
+    private static final int ENTRY_COUNT = 100 * 1000;
+    private static final int ENTRY_LENGTH = 100;
+    private static final int ENTRY_SIZE = 16;
+    @Param({"AVL_TREE", "RED_BLACK_TREE", "SORTED_ARRAY"})
+    private String indexType;
+    private SortedIndex<Entry> index;
+    private long[] lookupKeys;
+    private int nextLookup;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.index = createIndex();
+        populate(this.index);
+        Random rnd = new Random(0);
+        this.lookupKeys = new long[1024];
+        for (int i = 0; i < this.lookupKeys.length; i++) {
+            this.lookupKeys[i] = rnd.nextInt(ENTRY_COUNT * ENTRY_LENGTH);
+        }
+    }
+
+    @Benchmark
+    public Entry getFloor() {
+        this.nextLookup = (this.nextLookup + 1) % this.lookupKeys.length;
+        return this.index.getFloor(this.lookupKeys[this.nextLookup]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRY_COUNT)
+    public SortedIndex<Entry> insert() {
+        SortedIndex<Entry> index = createIndex();
+        populate(index);
+        return index;
+    }
+
+    private SortedIndex<Entry> createIndex() {
+        switch (this.indexType) {
+            case "AVL_TREE":
+                return new AvlTreeIndex<>();
+            case "RED_BLACK_TREE":
+                return new RedBlackTreeIndex<>();
+            case "SORTED_ARRAY":
+                return new SortedArrayIndex<>();
+            default:
+                throw new IllegalArgumentException(this.indexType);
+        }
+    }
+
+    private static void populate(SortedIndex<Entry> index) {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            index.put(new Entry((long) i * ENTRY_LENGTH));
+        }
+    }
+
+    /**
+     * Minimal entry (object header and key only), so that the per-entry overhead of each index stands out.
+     */
+    public static class Entry implements SortedIndex.IndexEntry {
+        private final long key;
+
+        Entry(long key) {
+            this.key = key;
+        }
+
+        @Override
+        public long key() {
+            return this.key;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.common.util.btree;
+
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.util.BitConverter;
+import io.pravega.common.util.ByteArraySegment;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link BTreeIndex#get} and {@link BTreeIndex#update}. The index uses the same key and value lengths as
+ * the Segment Attribute Index and is backed by an in-memory page store which completes all requests synchronously.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BTreeIndexBenchmark {
+    private static final int KEY_LENGTH = 16;
+    private static final int VALUE_LENGTH = 8;
+    private static final int MAX_PAGE_SIZE = 8 * 1024;
+    private static final int INITIAL_BATCH_SIZE = 1000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Param({"10000", "100000"})
+    private int keyCount;
+    @Param({"1", "100"})
+    private int batchSize;
+    private ScheduledExecutorService executor;
+    private BTreeIndex index;
+    private List<ByteArraySegment> keys;
+    private Random random;
+    private long nextValue;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.random = new Random(0);
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(1, "btree-benchmark");
+        PageStore store = new PageStore();
+        this.index = BTreeIndex.builder()
+                .maxPageSize(MAX_PAGE_SIZE)
+                .keyLength(KEY_LENGTH)
+                .valueLength(VALUE_LENGTH)
+                .readPage(store::read)
+                .writePages(store::write)
+                .getLength(store::getLength)
+                .executor(this.executor)
+                .build();
+        this.index.initialize(TIMEOUT).join();
+
+        // Generate unique keys and insert them into the index.
+        HashSet<ByteArraySegment> uniqueKeys = new HashSet<>();
+        this.keys = new ArrayList<>(this.keyCount);
+        while (this.keys.size() < this.keyCount) {
+            byte[] key = new byte[KEY_LENGTH];
+            this.random.nextBytes(key);
+            ByteArraySegment k = new ByteArraySegment(key);
+            if (uniqueKeys.add(k)) {
+                this.keys.add(k);
+            }
+        }
+
+        for (int i = 0; i < this.keys.size(); i += INITIAL_BATCH_SIZE) {
+            List<PageEntry> batch = new ArrayList<>(INITIAL_BATCH_SIZE);
+            for (int j = i; j < Math.min(this.keys.size(), i + INITIAL_BATCH_SIZE); j++) {
+                batch.add(new PageEntry(this.keys.get(j), newValue()));
+            }
+            this.index.update(batch, TIMEOUT).join();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ExecutorServiceHelpers.shutdown(this.executor);
+    }
+
+    /**
+     * Looks up a random batch of existing keys.
+     */
+    @Benchmark
+    public List<ByteArraySegment> get() {
+        List<ByteArraySegment> toGet = new ArrayList<>(this.batchSize);
+        for (int i = 0; i < this.batchSize; i++) {
+            toGet.add(this.keys.get(this.random.nextInt(this.keys.size())));
+        }
+        return this.index.get(toGet, TIMEOUT).join();
+    }
+
+    /**
+     * Updates the values of a random batch of (distinct) existing keys.
+     */
+    @Benchmark
+    public long update() {
+        HashMap<ByteArraySegment, PageEntry> toUpdate = new HashMap<>();
+        while (toUpdate.size() < this.batchSize) {
+            ByteArraySegment key = this.keys.get(this.random.nextInt(this.keys.size()));
+            toUpdate.put(key, new PageEntry(key, newValue()));
+        }
+        return this.index.update(toUpdate.values(), TIMEOUT).join();
+    }
+
+    private ByteArraySegment newValue() {
+        byte[] value = new byte[VALUE_LENGTH];
+        BitConverter.writeLong(value, 0, ++this.nextValue);
+        return new ByteArraySegment(value);
+    }
+
+    /**
+     * In-memory page store. Truncated pages are discarded so that the memory usage stays bounded during the benchmark.
+     */
+    @ThreadSafe
+    private static class PageStore {
+        @GuardedBy("this")
+        private final TreeMap<Long, ByteArraySegment> pages = new TreeMap<>();
+        @GuardedBy("this")
+        private long length = 0;
+        @GuardedBy("this")
+        private long rootPointer = BTreeIndex.IndexInfo.EMPTY.getRootPointer();
+
+        synchronized CompletableFuture<BTreeIndex.IndexInfo> getLength(Duration timeout) {
+            return CompletableFuture.completedFuture(new BTreeIndex.IndexInfo(this.length, this.rootPointer));
+        }
+
+        synchronized CompletableFuture<ByteArraySegment> read(long offset, int length, Duration timeout) {
+            ByteArraySegment page = this.pages.get(offset);
+            assert page != null && page.getLength() == length : "unexpected page read";
+            return CompletableFuture.completedFuture(new ByteArraySegment(page.getCopy()));
+        }
+
+        synchronized CompletableFuture<Long> write(List<Map.Entry<Long, ByteArraySegment>> toWrite, Collection<Long> obsoleteOffsets,
+                                                   long truncateOffset, Duration timeout) {
+            for (Map.Entry<Long, ByteArraySegment> e : toWrite) {
+                assert e.getKey() == this.length : "non-contiguous page write";
+                this.pages.put(e.getKey(), new ByteArraySegment(e.getValue().getCopy()));
+                this.length += e.getValue().getLength();
+            }
+
+            this.pages.headMap(truncateOffset).clear();
+            if (!toWrite.isEmpty()) {
+                // Last thing to write is always the root page.
+                this.rootPointer = toWrite.get(toWrite.size() - 1).getKey();
+            }
+            return CompletableFuture.completedFuture(this.length);
+        }
+    }
+}
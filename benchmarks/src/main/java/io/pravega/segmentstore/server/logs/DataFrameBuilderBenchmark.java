@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.server.logs.operations.Operation;
+import io.pravega.segmentstore.server.logs.operations.OperationSerializer;
+import io.pravega.segmentstore.server.logs.operations.StreamSegmentAppendOperation;
+import io.pravega.shared.protocol.netty.ByteBufWrapper;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the serialization of {@link StreamSegmentAppendOperation}s into DataFrames using the {@link DataFrameBuilder}.
+ * The DataFrames are committed to a {@link NoOpDurableDataLog}, so only the serialization and framing costs are measured.
+ * <p>
+ * Append payloads may either be copied into the DataFrames or included by reference (zero-copy), and may reside in a
+ * heap array or in a pooled direct Netty buffer (as they would if received over the wire).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DataFrameBuilderBenchmark {
+    private static final int MAX_FRAME_LENGTH = 1024 * 1024;
+    private static final long SEGMENT_ID = 1;
+
+    @Param({"100", "1024", "8192", "65536"})
+    private int appendLength;
+    @Param({"false", "true"})
+    private boolean zeroCopy;
+    @Param({"false", "true"})
+    private boolean directBuffer;
+    private NoOpDurableDataLog log;
+    private DataFrameBuilder<Operation> builder;
+    private BufferView appendData;
+    private AtomicReference<Throwable> failure;
+    private long sequenceNumber;
+    private long segmentOffset;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        byte[] contents = new byte[this.appendLength];
+        new Random(0).nextBytes(contents);
+        if (this.directBuffer) {
+            ByteBuf buf = PooledByteBufAllocator.DEFAULT.directBuffer(contents.length);
+            buf.writeBytes(contents);
+            this.appendData = new ByteBufWrapper(buf);
+        } else {
+            this.appendData = new ByteArraySegment(contents);
+        }
+
+        this.failure = new AtomicReference<>();
+        this.log = new NoOpDurableDataLog(MAX_FRAME_LENGTH);
+        int minReferenceLength = this.zeroCopy ? DataFrameOutputStream.DEFAULT_MIN_REFERENCE_LENGTH : Integer.MAX_VALUE;
+        DataFrameBuilder.Args args = new DataFrameBuilder.Args(ca -> { }, ca -> { }, (ex, ca) -> this.failure.set(ex),
+                Runnable::run, () -> Integer.MAX_VALUE, minReferenceLength);
+        this.builder = new DataFrameBuilder<>(this.log, OperationSerializer.DEFAULT, args);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.builder.close();
+        this.log.close();
+        this.appendData.release();
+        if (this.failure.get() != null) {
+            throw new IllegalStateException("DataFrame commit failed.", this.failure.get());
+        }
+    }
+
+    /**
+     * Serializes a single {@link StreamSegmentAppendOperation}. DataFrames are sealed and committed whenever they fill up.
+     * The operation is closed right away (as it would be once committed); DataFrames hold their own references to its data.
+     *
+     * @throws IOException If the serialization failed.
+     */
+    @Benchmark
+    public void serializeAppend() throws IOException {
+        StreamSegmentAppendOperation op = new StreamSegmentAppendOperation(SEGMENT_ID, this.segmentOffset, this.appendData, null);
+        op.setSequenceNumber(++this.sequenceNumber);
+        this.builder.append(op);
+        op.close();
+        this.segmentOffset += this.appendLength;
+    }
+}
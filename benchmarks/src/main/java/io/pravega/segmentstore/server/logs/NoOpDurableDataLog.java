@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs;
+
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.CloseableIterator;
+import io.pravega.segmentstore.storage.DurableDataLog;
+import io.pravega.segmentstore.storage.DurableDataLogException;
+import io.pravega.segmentstore.storage.LogAddress;
+import io.pravega.segmentstore.storage.QueueStats;
+import io.pravega.segmentstore.storage.ThrottleSourceListener;
+import io.pravega.segmentstore.storage.WriteSettings;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+/**
+ * {@link DurableDataLog} implementation that acknowledges every write immediately and discards its contents. Useful for
+ * measuring the cost of the code that sits in front of the {@link DurableDataLog} without including any I/O.
+ */
+class NoOpDurableDataLog implements DurableDataLog {
+    private final AtomicLong sequence = new AtomicLong();
+    @Getter
+    private final WriteSettings writeSettings;
+
+    NoOpDurableDataLog(int maxWriteLength) {
+        this.writeSettings = new WriteSettings(maxWriteLength, Duration.ofMinutes(1), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void initialize(Duration timeout) {
+        // Nothing to do.
+    }
+
+    @Override
+    public void enable() {
+        // Nothing to do.
+    }
+
+    @Override
+    public void disable() {
+        // Nothing to do.
+    }
+
+    @Override
+    public CompletableFuture<LogAddress> append(BufferView data, Duration timeout) {
+        return CompletableFuture.completedFuture(new TestLogAddress(this.sequence.incrementAndGet()));
+    }
+
+    @Override
+    public CompletableFuture<Void> truncate(LogAddress upToAddress, Duration timeout) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CloseableIterator<ReadItem, DurableDataLogException> getReader() {
+        throw new UnsupportedOperationException("getReader is not supported on NoOpDurableDataLog.");
+    }
+
+    @Override
+    public long getEpoch() {
+        return 1;
+    }
+
+    @Override
+    public QueueStats getQueueStatistics() {
+        return QueueStats.DEFAULT;
+    }
+
+    @Override
+    public void registerQueueStateChangeListener(ThrottleSourceListener listener) {
+        // No-op (because getQueueStatistics() doesn't return anything interesting).
+    }
+
+    @Override
+    public void close() {
+        // Nothing to do.
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.common.TimeoutTimer;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.tables.TableAttributes;
+import io.pravega.segmentstore.contracts.tables.TableKey;
+import io.pravega.segmentstore.server.CacheManager;
+import io.pravega.segmentstore.server.CachePolicy;
+import io.pravega.segmentstore.server.TableStoreMock;
+import io.pravega.segmentstore.storage.cache.CacheStorage;
+import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link ContainerKeyIndex#getBucketOffsets} lookups for keys that exist in the cache and for keys that do
+ * not exist at all (which require a lookup in the Segment's attribute index).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-XX:MaxDirectMemorySize=1g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ContainerKeyIndexBenchmark {
+    private static final int CONTAINER_ID = 0;
+    private static final int KEY_LENGTH = 64;
+    private static final int UPDATE_BATCH_SIZE = 1000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final KeyHasher HASHER = KeyHasher.sha256();
+
+    @Param({"100000"})
+    private int keyCount;
+    @Param({"1", "100"})
+    private int lookupCount;
+    @Param({"false", "true"})
+    private boolean useKeyFilter;
+    private ScheduledExecutorService executor;
+    private CacheStorage cacheStorage;
+    private CacheManager cacheManager;
+    private SegmentMock segment;
+    private ContainerKeyIndex index;
+    private List<UUID> existingHashes;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(2, "key-index-benchmark");
+        this.cacheStorage = new DirectMemoryCache(256 * 1024 * 1024);
+        this.cacheManager = new CacheManager(CachePolicy.INFINITE, this.cacheStorage, this.executor);
+        this.segment = new SegmentMock(this.executor);
+        this.segment.updateAttributes(TableAttributes.DEFAULT_VALUES);
+        TableStoreMock sortedKeyStorage = new TableStoreMock(this.executor);
+        SortedKeyIndexDataSource ds = new SortedKeyIndexDataSource(sortedKeyStorage::put, sortedKeyStorage::remove, sortedKeyStorage::get);
+        this.index = new ContainerKeyIndex(CONTAINER_ID, this.cacheManager, new ContainerSortedKeyIndex(ds, this.executor), HASHER,
+                this.useKeyFilter, this.executor);
+        this.random = new Random(0);
+
+        // Populate the index with the given number of keys (unconditional updates).
+        this.existingHashes = new ArrayList<>(this.keyCount);
+        long offset = 0;
+        while (this.existingHashes.size() < this.keyCount) {
+            TableKeyBatch batch = TableKeyBatch.update();
+            for (int i = 0; i < UPDATE_BATCH_SIZE; i++) {
+                ByteArraySegment key = newKey();
+                UUID hash = HASHER.hash(key);
+                batch.add(TableKey.unversioned(key), hash, key.getLength());
+                this.existingHashes.add(hash);
+            }
+
+            long batchOffset = offset;
+            this.index.update(this.segment, batch, () -> CompletableFuture.completedFuture(batchOffset), new TimeoutTimer(TIMEOUT)).join();
+            offset += batch.getLength();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.index.close();
+        this.cacheManager.close();
+        this.cacheStorage.close();
+        ExecutorServiceHelpers.shutdown(this.executor);
+    }
+
+    /**
+     * Looks up Bucket Offsets for keys that exist in the index (full cache hits).
+     */
+    @Benchmark
+    public Map<UUID, Long> getExistingKeys() {
+        List<UUID> hashes = new ArrayList<>(this.lookupCount);
+        for (int i = 0; i < this.lookupCount; i++) {
+            hashes.add(this.existingHashes.get(this.random.nextInt(this.existingHashes.size())));
+        }
+        return this.index.getBucketOffsets(this.segment, hashes, new TimeoutTimer(TIMEOUT)).join();
+    }
+
+    /**
+     * Looks up Bucket Offsets for keys that have never been inserted (cache misses that need to consult the index).
+     */
+    @Benchmark
+    public Map<UUID, Long> getMissingKeys() {
+        List<UUID> hashes = new ArrayList<>(this.lookupCount);
+        for (int i = 0; i < this.lookupCount; i++) {
+            hashes.add(HASHER.hash(newKey()));
+        }
+        return this.index.getBucketOffsets(this.segment, hashes, new TimeoutTimer(TIMEOUT)).join();
+    }
+
+    private ByteArraySegment newKey() {
+        byte[] key = new byte[KEY_LENGTH];
+        this.random.nextBytes(key);
+        return new ByteArraySegment(key);
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link DirectMemoryCache#insert}, {@link DirectMemoryCache#append} and {@link DirectMemoryCache#get}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-XX:MaxDirectMemorySize=2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DirectMemoryCacheBenchmark {
+    private static final long CACHE_SIZE = 1024 * 1024 * 1024;
+    private static final int PREPOPULATED_ENTRY_COUNT = 10000;
+
+    @Param({"100", "4096", "65536"})
+    private int entryLength;
+    private DirectMemoryCache cache;
+    private ByteArraySegment data;
+    private ByteArraySegment appendData;
+    private int[] addresses;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.cache = new DirectMemoryCache(CACHE_SIZE);
+        byte[] contents = new byte[this.entryLength];
+        new Random(0).nextBytes(contents);
+        this.data = new ByteArraySegment(contents);
+        this.appendData = this.data.slice(0, Math.min(this.entryLength, 100));
+        this.addresses = new int[PREPOPULATED_ENTRY_COUNT];
+        for (int i = 0; i < this.addresses.length; i++) {
+            this.addresses[i] = this.cache.insert(this.data);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.cache.close();
+    }
+
+    /**
+     * Inserts a new entry and deletes it right away (so that the cache never fills up).
+     */
+    @Benchmark
+    public int insertDelete() {
+        int address = this.cache.insert(this.data);
+        this.cache.delete(address);
+        return address;
+    }
+
+    /**
+     * Creates a new empty entry and fills up its only block using small appends, then deletes it.
+     */
+    @Benchmark
+    public int append() {
+        int address = this.cache.insert(BufferView.empty());
+        int length = 0;
+        while (this.cache.getAppendableLength(length) >= this.appendData.getLength()) {
+            length += this.cache.append(address, length, this.appendData);
+        }
+
+        this.cache.delete(address);
+        return length;
+    }
+
+    /**
+     * Reads a random, pre-existing entry.
+     *
+     * @param blackhole JMH {@link Blackhole} to consume the result.
+     */
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        blackhole.consume(this.cache.get(this.addresses[ThreadLocalRandom.current().nextInt(this.addresses.length)]));
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import io.pravega.common.util.ByteArraySegment;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link DirectMemoryCache#insert} (and {@link DirectMemoryCache#delete}) throughput as a function of the
+ * number of concurrent threads sharing the same cache instance. Each benchmark method is identical except for the
+ * number of threads it is executed with; the reported throughput is the aggregate across all threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-XX:MaxDirectMemorySize=2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DirectMemoryCacheConcurrencyBenchmark {
+    private static final long CACHE_SIZE = 1024 * 1024 * 1024;
+
+    @Param({"100", "4096"})
+    private int entryLength;
+    private DirectMemoryCache cache;
+    private ByteArraySegment data;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.cache = new DirectMemoryCache(CACHE_SIZE);
+        byte[] contents = new byte[this.entryLength];
+        new Random(0).nextBytes(contents);
+        this.data = new ByteArraySegment(contents);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.cache.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int insertDelete01Thread() {
+        return insertDelete();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public int insertDelete02Threads() {
+        return insertDelete();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int insertDelete04Threads() {
+        return insertDelete();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public int insertDelete08Threads() {
+        return insertDelete();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public int insertDelete16Threads() {
+        return insertDelete();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public int insertDelete32Threads() {
+        return insertDelete();
+    }
+
+    private int insertDelete() {
+        int address = this.cache.insert(this.data);
+        this.cache.delete(address);
+        return address;
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.shared.protocol.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.util.ReferenceCountUtil;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static io.pravega.shared.metrics.MetricNotifier.NO_OP_METRIC_NOTIFIER;
+
+/**
+ * Benchmarks {@link CommandEncoder}/{@link CommandDecoder} round trips, using the same handlers (and in the same order)
+ * as the Client and Segment Store Netty pipelines. No network is involved: encoded bytes are passed directly from one
+ * {@link EmbeddedChannel} to the other.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WireCommandsBenchmark {
+    private static final String SEGMENT = "scope/stream/0.#epoch.0";
+    private static final UUID WRITER_ID = new UUID(1, 2);
+    private static final long REQUEST_ID = 1;
+
+    @Param({"100", "1024", "65536"})
+    private int eventLength;
+    /**
+     * The Append Block size used by the {@link CommandEncoder}. 0 means no batching (one AppendBlockEnd per Event).
+     */
+    @Param({"0", "262144"})
+    private int appendBlockSize;
+    private byte[] eventData;
+    private EmbeddedChannel clientChannel;
+    private EmbeddedChannel serverChannel;
+    private long eventNumber;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.eventData = new byte[this.eventLength];
+        new Random(0).nextBytes(this.eventData);
+        AppendBatchSizeTracker batchSizeTracker = new FixedBatchSizeTracker(this.appendBlockSize);
+        this.clientChannel = new EmbeddedChannel(
+                new CommandEncoder(requestId -> batchSizeTracker, NO_OP_METRIC_NOTIFIER),
+                new LengthFieldBasedFrameDecoder(WireCommands.MAX_WIRECOMMAND_SIZE, 4, 4),
+                new CommandDecoder());
+        this.serverChannel = new EmbeddedChannel(
+                new CommandEncoder(null, NO_OP_METRIC_NOTIFIER),
+                new LengthFieldBasedFrameDecoder(WireCommands.MAX_WIRECOMMAND_SIZE, 4, 4),
+                new CommandDecoder(),
+                new AppendDecoder());
+
+        // Both Encoder and Decoder need to know about the Writer before they can process Appends.
+        this.clientChannel.writeOutbound(new WireCommands.SetupAppend(REQUEST_ID, WRITER_ID, SEGMENT, ""));
+        transfer(this.clientChannel, this.serverChannel);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.clientChannel.finishAndReleaseAll();
+        this.serverChannel.finishAndReleaseAll();
+    }
+
+    /**
+     * Encodes an {@link Append} (as {@link WireCommands.AppendBlock}/{@link WireCommands.AppendBlockEnd}s wrapping
+     * {@link WireCommands.Event}s) on the client side and decodes it back on the server side.
+     *
+     * @return The number of messages decoded by the server.
+     */
+    @Benchmark
+    public int appendRoundTrip() {
+        WireCommands.Event event = new WireCommands.Event(Unpooled.wrappedBuffer(this.eventData));
+        this.clientChannel.writeOutbound(new Append(SEGMENT, WRITER_ID, ++this.eventNumber, event, REQUEST_ID));
+        return transfer(this.clientChannel, this.serverChannel);
+    }
+
+    /**
+     * Encodes a {@link WireCommands.SegmentRead} on the server side and decodes it back on the client side.
+     *
+     * @return The number of messages decoded by the client.
+     */
+    @Benchmark
+    public int segmentReadRoundTrip() {
+        this.serverChannel.writeOutbound(new WireCommands.SegmentRead(SEGMENT, this.eventNumber++ * this.eventLength,
+                true, false, Unpooled.wrappedBuffer(this.eventData), REQUEST_ID));
+        return transfer(this.serverChannel, this.clientChannel);
+    }
+
+    /**
+     * Moves all encoded bytes from the source channel into the target channel and releases all decoded messages.
+     */
+    private int transfer(EmbeddedChannel source, EmbeddedChannel target) {
+        ByteBuf encoded;
+        while ((encoded = source.readOutbound()) != null) {
+            target.writeInbound(encoded);
+        }
+
+        int count = 0;
+        Object decoded;
+        while ((decoded = target.readInbound()) != null) {
+            if (decoded instanceof Append) {
+                ReferenceCountUtil.release(((Append) decoded).getData());
+            } else if (decoded instanceof WireCommands.ReleasableCommand) {
+                ((WireCommands.ReleasableCommand) decoded).release();
+            }
+            count++;
+        }
+        return count;
+    }
+
+    private static class FixedBatchSizeTracker implements AppendBatchSizeTracker {
+        private final int appendBlockSize;
+
+        FixedBatchSizeTracker(int appendBlockSize) {
+            this.appendBlockSize = appendBlockSize;
+        }
+
+        @Override
+        public void recordAppend(long eventNumber, int size) {
+            // Not needed for a fixed block size.
+        }
+
+        @Override
+        public long recordAck(long eventNumber) {
+            return 0;
+        }
+
+        @Override
+        public int getAppendBlockSize() {
+            return this.appendBlockSize;
+        }
+
+        @Override
+        public int getBatchTimeout() {
+            return 100;
+        }
+    }
+}
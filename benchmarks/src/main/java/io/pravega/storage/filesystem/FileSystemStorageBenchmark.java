@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.storage.filesystem;
+
+import io.pravega.common.io.FileHelpers;
+import io.pravega.segmentstore.storage.SegmentHandle;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link FileSystemStorage} write and read throughput with and without the open file channel cache and
+ * group sync. Each thread writes to (and reads from) its own segment, in a temporary directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FileSystemStorageBenchmark {
+    private static final int THREAD_COUNT = 4;
+    private static final int WRITE_LENGTH = 4096;
+    private static final int READ_LENGTH = 1024;
+
+    @Param({"0", "128"})
+    private int channelCacheSize;
+    @Param({"false", "true"})
+    private boolean groupSync;
+    private File baseDir;
+    private FileSystemStorage storage;
+    private byte[] writeData;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.baseDir = Files.createTempDirectory("benchmark_fs").toFile().getAbsoluteFile();
+        this.storage = new FileSystemStorage(FileSystemStorageConfig
+                .builder()
+                .with(FileSystemStorageConfig.ROOT, this.baseDir.getAbsolutePath())
+                .with(FileSystemStorageConfig.CHANNEL_CACHE_SIZE, this.channelCacheSize)
+                .with(FileSystemStorageConfig.GROUP_SYNC, this.groupSync)
+                .build());
+        this.storage.initialize(1);
+        this.writeData = new byte[WRITE_LENGTH];
+        new Random(0).nextBytes(this.writeData);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.storage.close();
+        FileHelpers.deleteFileOrDirectory(this.baseDir);
+    }
+
+    /**
+     * A segment owned by a single benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class SegmentState {
+        private static final AtomicInteger NEXT_ID = new AtomicInteger();
+        private SegmentHandle handle;
+        private long length;
+
+        @Setup(Level.Trial)
+        public void setup(FileSystemStorageBenchmark benchmark) throws Exception {
+            String segmentName = "segment_" + NEXT_ID.incrementAndGet();
+            benchmark.storage.create(segmentName);
+            this.handle = benchmark.storage.openWrite(segmentName);
+
+            // Make sure there is always something to read.
+            benchmark.append(this);
+        }
+    }
+
+    /**
+     * Appends data to the thread's segment.
+     *
+     * @param segment The thread's {@link SegmentState}.
+     * @return The new length of the segment.
+     * @throws Exception If an error occurred.
+     */
+    @Benchmark
+    @Threads(THREAD_COUNT)
+    public long write(SegmentState segment) throws Exception {
+        return append(segment);
+    }
+
+    /**
+     * Reads a random range from the thread's segment.
+     *
+     * @param segment The thread's {@link SegmentState}.
+     * @return The number of bytes read.
+     * @throws Exception If an error occurred.
+     */
+    @Benchmark
+    @Threads(THREAD_COUNT)
+    public int read(SegmentState segment) throws Exception {
+        int length = (int) Math.min(READ_LENGTH, segment.length);
+        long offset = ThreadLocalRandom.current().nextLong(segment.length - length + 1);
+        return this.storage.read(segment.handle, offset, new byte[length], 0, length);
+    }
+
+    private long append(SegmentState segment) throws Exception {
+        this.storage.write(segment.handle, segment.length, new ByteArrayInputStream(this.writeData), this.writeData.length);
+        segment.length += this.writeData.length;
+        return segment.length;
+    }
+}
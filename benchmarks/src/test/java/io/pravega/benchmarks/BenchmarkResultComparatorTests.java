@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link BenchmarkResultComparator} class.
+ */
+public class BenchmarkResultComparatorTests {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Tests parsing of JMH JSON results.
+     */
+    @Test
+    public void testLoad() throws Exception {
+        val results = load(result("a.B.thr", "thrpt", "{\"size\":\"10\",\"count\":\"1\"}", 100, 1),
+                result("a.B.avg", "avgt", null, 5, "NaN"));
+        Assert.assertEquals(2, results.size());
+        val thr = results.get("a.B.thr [thrpt]{count=1, size=10}");
+        Assert.assertNotNull("Parameters not included or not sorted.", thr);
+        Assert.assertEquals(100, thr.getScore(), 0);
+        Assert.assertEquals(1, thr.getScoreError(), 0);
+        val avg = results.get("a.B.avg [avgt]");
+        Assert.assertNotNull(avg);
+        Assert.assertEquals("NaN errors should be treated as 0.", 0, avg.getScoreError(), 0);
+    }
+
+    /**
+     * Tests the detection of regressions for both throughput and time-based modes.
+     */
+    @Test
+    public void testCompare() throws Exception {
+        val baseline = load(
+                result("thrpt.regressed", "thrpt", null, 100, 1),
+                result("thrpt.improved", "thrpt", null, 100, 1),
+                result("thrpt.noise", "thrpt", null, 100, 20),
+                result("thrpt.withinThreshold", "thrpt", null, 100, 0),
+                result("avgt.regressed", "avgt", null, 10, 0.1),
+                result("avgt.improved", "avgt", null, 10, 0.1),
+                result("missing", "thrpt", null, 10, 0));
+        val current = load(
+                result("thrpt.regressed", "thrpt", null, 80, 1),
+                result("thrpt.improved", "thrpt", null, 120, 1),
+                result("thrpt.noise", "thrpt", null, 80, 20),
+                result("thrpt.withinThreshold", "thrpt", null, 96, 0),
+                result("avgt.regressed", "avgt", null, 12, 0.1),
+                result("avgt.improved", "avgt", null, 8, 0.1),
+                result("new", "thrpt", null, 10, 0));
+
+        List<BenchmarkResultComparator.Comparison> comparisons = BenchmarkResultComparator.compare(baseline, current, 5);
+        Assert.assertEquals("Benchmarks that are not in both files should be excluded.", 6, comparisons.size());
+        for (val c : comparisons) {
+            boolean expectedRegression = c.getBenchmark().contains("regressed");
+            Assert.assertEquals("Unexpected result for " + c.getBenchmark(), expectedRegression, c.isRegression());
+            if (c.getBenchmark().contains("improved")) {
+                Assert.assertEquals("Unexpected improvement for " + c.getBenchmark(), 20, c.getImprovementPercent(), 0.001);
+            }
+        }
+    }
+
+    private Map<String, BenchmarkResultComparator.Result> load(String... results) throws Exception {
+        return BenchmarkResultComparator.load(MAPPER.readTree("[" + String.join(",", results) + "]"));
+    }
+
+    private String result(String name, String mode, String params, double score, Object error) {
+        String errorValue = error instanceof String ? "\"" + error + "\"" : error.toString();
+        return String.format("{\"benchmark\":\"%s\",\"mode\":\"%s\",%s\"primaryMetric\":{\"score\":%s,\"scoreError\":%s,\"scoreUnit\":\"ops/s\"}}",
+                name, mode, params == null ? "" : "\"params\":" + params + ",", score, errorValue);
+    }
+}
@@ -30,6 +30,7 @@ import com.google.common.base.Strings;
 import io.pravega.common.Exceptions;
 import io.pravega.common.LoggerHelpers;
 import io.pravega.common.Timer;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
 import io.pravega.common.io.StreamHelpers;
 import io.pravega.common.util.ImmutableDate;
 import io.pravega.segmentstore.contracts.BadOffsetException;
@@ -45,11 +46,16 @@ import io.pravega.segmentstore.storage.SyncStorage;
 import java.io.BufferedInputStream;
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -81,6 +87,10 @@ import org.apache.http.HttpStatus;
  * Multi part copy calls are idempotent too. Copying the same object at the same offset multiple times from different
  * hosts does not cause any form of inconsistency.
  *
+ * If configured with a transfer concurrency greater than 1 (see {@link ExtendedS3StorageConfig#getTransferConcurrency()}),
+ * large reads are split into multiple ranged GETs which are executed concurrently. Each instance (one per Segment Container) has its own
+ * bounded pool of threads for this, which limits the number of concurrent requests it may issue at any given time.
+ *
  */
 
 @Slf4j
@@ -93,6 +103,7 @@ public class ExtendedS3Storage implements SyncStorage {
     private final ExtendedS3StorageConfig config;
     private final S3Client client;
     private final AtomicBoolean closed;
+    private final ExecutorService transferExecutor;
 
     //endregion
 
@@ -102,7 +113,9 @@ public class ExtendedS3Storage implements SyncStorage {
         this.config = Preconditions.checkNotNull(config, "config");
         this.client = Preconditions.checkNotNull(client, "client");
         this.closed = new AtomicBoolean(false);
-
+        this.transferExecutor = config.getTransferConcurrency() > 1
+                ? ExecutorServiceHelpers.newScheduledThreadPool(config.getTransferConcurrency(), "extendeds3-transfer")
+                : null;
     }
 
     //endregion
@@ -220,8 +233,27 @@ public class ExtendedS3Storage implements SyncStorage {
             throw new ArrayIndexOutOfBoundsException();
         }
 
+        int bytesRead;
+        if (isParallelTransfer(length, config.getReadPartSize())) {
+            bytesRead = readParallel(handle.getSegmentName(), offset, buffer, bufferOffset, length);
+        } else {
+            bytesRead = readRange(handle.getSegmentName(), offset, buffer, bufferOffset, length);
+        }
+
+        Duration elapsed = timer.getElapsed();
+
+        ExtendedS3Metrics.READ_LATENCY.reportSuccessEvent(elapsed);
+        ExtendedS3Metrics.READ_BYTES.add(length);
+
+        log.debug("Read segment={} offset={} bytesWritten={} latency={}.", handle.getSegmentName(), offset, length, elapsed.toMillis());
+
+        LoggerHelpers.traceLeave(log, "read", traceId, bytesRead);
+        return bytesRead;
+    }
+
+    private int readRange(String segmentName, long offset, byte[] buffer, int bufferOffset, int length) throws Exception {
         try (InputStream reader = client.readObjectStream(config.getBucket(),
-                config.getPrefix() + handle.getSegmentName(), Range.fromOffsetLength(offset, length))) {
+                config.getPrefix() + segmentName, Range.fromOffsetLength(offset, length))) {
             /*
              * TODO: This implementation assumes that if S3Client.readObjectStream returns null, then
              * the object does not exist and we throw StreamNotExistsException. The javadoc, however,
@@ -231,21 +263,40 @@ public class ExtendedS3Storage implements SyncStorage {
              * See https://github.com/pravega/pravega/issues/1549
              */
             if (reader == null) {
-                throw new StreamSegmentNotExistsException(handle.getSegmentName());
+                throw new StreamSegmentNotExistsException(segmentName);
             }
 
-            int bytesRead = StreamHelpers.readAll(reader, buffer, bufferOffset, length);
-
-            Duration elapsed = timer.getElapsed();
+            return StreamHelpers.readAll(reader, buffer, bufferOffset, length);
+        }
+    }
 
-            ExtendedS3Metrics.READ_LATENCY.reportSuccessEvent(elapsed);
-            ExtendedS3Metrics.READ_BYTES.add(length);
+    /**
+     * Splits the given read into ranged GETs of (at most) {@link ExtendedS3StorageConfig#getReadPartSize()} bytes each,
+     * executes them concurrently and waits for all of them to complete. Each part is read directly into its own region
+     * of the given buffer, so no reassembly is necessary.
+     */
+    private int readParallel(String segmentName, long offset, byte[] buffer, int bufferOffset, int length) throws Exception {
+        int partSize = config.getReadPartSize();
+        List<Future<Integer>> parts = new ArrayList<>();
+        for (int partOffset = 0; partOffset < length; partOffset += partSize) {
+            final int po = partOffset;
+            final int partLength = Math.min(partSize, length - partOffset);
+            parts.add(this.transferExecutor.submit(() -> readRange(segmentName, offset + po, buffer, bufferOffset + po, partLength)));
+        }
 
-            log.debug("Read segment={} offset={} bytesWritten={} latency={}.", handle.getSegmentName(), offset, length, elapsed.toMillis());
+        List<Integer> partBytesRead = awaitAll(parts);
 
-            LoggerHelpers.traceLeave(log, "read", traceId, bytesRead);
-            return bytesRead;
+        // Only report the bytes that were read contiguously from the beginning of the range.
+        int bytesRead = 0;
+        for (int i = 0; i < partBytesRead.size(); i++) {
+            int count = partBytesRead.get(i);
+            bytesRead += count;
+            if (count < Math.min(partSize, length - i * partSize)) {
+                break;
+            }
         }
+
+        return bytesRead;
     }
 
     private StreamSegmentInformation doGetStreamSegmentInfo(String streamSegmentName) {
@@ -330,7 +381,7 @@ public class ExtendedS3Storage implements SyncStorage {
         return ExtendedS3SegmentHandle.getWriteHandle(streamSegmentName);
     }
 
-    private Void doWrite(SegmentHandle handle, long offset, InputStream data, int length) throws StreamSegmentException {
+    private Void doWrite(SegmentHandle handle, long offset, InputStream data, int length) throws Exception {
         Preconditions.checkArgument(!handle.isReadOnly(), "handle must not be read-only.");
         Timer timer = new Timer();
         long traceId = LoggerHelpers.traceEnter(log, "write", handle.getSegmentName(), offset, length);
@@ -359,6 +410,34 @@ public class ExtendedS3Storage implements SyncStorage {
         return null;
     }
 
+    private boolean isParallelTransfer(int length, int partSize) {
+        return this.transferExecutor != null && length > partSize;
+    }
+
+    /**
+     * Waits for all the given Futures to complete and returns their results, in order. If any of them failed, the first
+     * such failure is thrown, but only after all of them have completed (so that none of them is still executing).
+     */
+    private <T> List<T> awaitAll(List<Future<T>> futures) throws Exception {
+        List<T> results = new ArrayList<>(futures.size());
+        Exception failure = null;
+        for (Future<T> f : futures) {
+            try {
+                results.add(f.get());
+            } catch (ExecutionException ex) {
+                if (failure == null) {
+                    failure = ex.getCause() instanceof Exception ? (Exception) ex.getCause() : ex;
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+
+        return results;
+    }
+
     private Void doSeal(SegmentHandle handle) {
         Preconditions.checkArgument(!handle.isReadOnly(), "handle must not be read-only.");
         long traceId = LoggerHelpers.traceEnter(log, "seal", handle.getSegmentName());
@@ -545,7 +624,9 @@ public class ExtendedS3Storage implements SyncStorage {
 
     @Override
     public void close() {
-        this.closed.set(true);
+        if (!this.closed.getAndSet(true) && this.transferExecutor != null) {
+            ExecutorServiceHelpers.shutdown(this.transferExecutor);
+        }
     }
 
     //endregion
@@ -31,6 +31,8 @@ public class ExtendedS3StorageConfig {
     public static final Property<String> PREFIX = Property.named("prefix", "/");
     public static final Property<Boolean> USENONEMATCH = Property.named("noneMatch.enable", false, "useNoneMatch");
     public static final Property<Integer> SMALL_OBJECT_THRESHOLD = Property.named("concat.smallObject.threshold.size", 1024 * 1024, "smallObjectSizeLimitForConcat");
+    public static final Property<Integer> TRANSFER_CONCURRENCY = Property.named("transfer.concurrency", 1);
+    public static final Property<Integer> READ_PART_SIZE = Property.named("read.part.size", 4 * 1024 * 1024);
 
     private static final String COMPONENT_CODE = "extendeds3";
     private static final String PATH_SEPARATOR = "/";
@@ -84,6 +86,19 @@ public class ExtendedS3StorageConfig {
     @Getter
     private final int smallObjectSizeLimitForConcat;
 
+    /**
+     * The maximum number of concurrent requests that each ExtendedS3Storage instance (i.e., each Segment Container) may
+     * issue in order to execute a single large read. If 1, every read is executed as a single request.
+     */
+    @Getter
+    private final int transferConcurrency;
+
+    /**
+     * Size of each ranged GET that reads larger than this are split into, if transferConcurrency is greater than 1.
+     */
+    @Getter
+    private final int readPartSize;
+
     //endregion
 
     //region Constructor
@@ -103,6 +118,15 @@ public class ExtendedS3StorageConfig {
         this.prefix = givenPrefix.endsWith(PATH_SEPARATOR) ? givenPrefix : givenPrefix + PATH_SEPARATOR;
         this.useNoneMatch = properties.getBoolean(USENONEMATCH);
         this.smallObjectSizeLimitForConcat = properties.getInt(SMALL_OBJECT_THRESHOLD);
+        this.transferConcurrency = properties.getInt(TRANSFER_CONCURRENCY);
+        if (this.transferConcurrency <= 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a positive integer.", TRANSFER_CONCURRENCY));
+        }
+
+        this.readPartSize = properties.getInt(READ_PART_SIZE);
+        if (this.readPartSize <= 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a positive integer.", READ_PART_SIZE));
+        }
     }
 
     /**
@@ -0,0 +1,279 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.storage.filesystem;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.Exceptions;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Data;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A bounded, LRU cache of open {@link FileChannel}s, keyed by file path and open mode.
+ * <p>
+ * Channels are handed out via {@link Lease}s, which must be closed once the caller is done with the channel. A channel
+ * that is evicted (due to the cache being full) or invalidated (see {@link #invalidate}) while it is leased will only be
+ * closed once all of its leases have been closed. If the cache has a maximum size of 0, every {@link Lease} will have
+ * its own channel which will be closed along with it.
+ * <p>
+ * Callers must invalidate a file's channels whenever the file is deleted or its permissions change, since the cached
+ * channels would otherwise keep referring to the old file or allow writing to a sealed one.
+ */
+@Slf4j
+@ThreadSafe
+class FileChannelCache implements AutoCloseable {
+    //region Members
+
+    private final int maxSize;
+    private final ChannelOpener opener;
+    @GuardedBy("entries")
+    private final LinkedHashMap<Key, Entry> entries;
+    @GuardedBy("entries")
+    private long invalidationCount;
+    @GuardedBy("entries")
+    private boolean closed;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the FileChannelCache class.
+     *
+     * @param maxSize The maximum number of channels to keep open. If 0, no channels will be cached.
+     * @param opener  A {@link ChannelOpener} to use to open new channels.
+     */
+    FileChannelCache(int maxSize, @NonNull ChannelOpener opener) {
+        Preconditions.checkArgument(maxSize >= 0, "maxSize must be a non-negative integer.");
+        this.maxSize = maxSize;
+        this.opener = opener;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true); // Access order, so we can evict the least recently used.
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        ArrayList<Entry> toClose;
+        synchronized (this.entries) {
+            if (this.closed) {
+                return;
+            }
+
+            this.closed = true;
+            toClose = new ArrayList<>(this.entries.values());
+            this.entries.clear();
+            toClose.forEach(e -> e.evicted = true);
+            toClose.removeIf(e -> e.leaseCount > 0); // These will be closed when their last lease is closed.
+        }
+
+        toClose.forEach(Entry::closeChannel);
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Gets a {@link Lease} for a channel for the given file, opening a new channel if none is cached.
+     *
+     * @param path       The path of the file.
+     * @param openOption The option to open the file with (i.e., {@link StandardOpenOption#READ} or
+     *                   {@link StandardOpenOption#WRITE}).
+     * @return A new {@link Lease}. This must be closed when no longer needed.
+     * @throws IOException If the file could not be opened.
+     */
+    Lease acquire(Path path, StandardOpenOption openOption) throws IOException {
+        Key key = new Key(path, openOption);
+        long invalidationCount;
+        synchronized (this.entries) {
+            Exceptions.checkNotClosed(this.closed, this);
+            Entry e = this.entries.get(key);
+            if (e != null) {
+                e.leaseCount++;
+                return new Lease(e);
+            }
+
+            invalidationCount = this.invalidationCount;
+        }
+
+        // Open the channel outside of the lock; this may take a while (especially on remote file systems).
+        Entry newEntry = new Entry(this.opener.open(path, openOption));
+        newEntry.leaseCount++;
+        if (this.maxSize == 0) {
+            newEntry.evicted = true; // Not cached; close with the lease.
+            return new Lease(newEntry);
+        }
+
+        ArrayList<Entry> toClose = new ArrayList<>();
+        Entry result;
+        synchronized (this.entries) {
+            Entry existing = this.closed ? null : this.entries.get(key);
+            if (existing != null) {
+                // Someone else opened it concurrently. Use theirs instead.
+                existing.leaseCount++;
+                newEntry.evicted = true;
+                toClose.add(newEntry);
+                result = existing;
+            } else {
+                if (this.closed || this.invalidationCount != invalidationCount) {
+                    // We were closed or some file was invalidated (and possibly deleted) while we were opening ours. Let
+                    // the caller use it, but do not cache it, as it may refer to a file that no longer exists.
+                    newEntry.evicted = true;
+                } else {
+                    this.entries.put(key, newEntry);
+                    evictIfNeeded(toClose);
+                }
+
+                result = newEntry;
+            }
+        }
+
+        toClose.forEach(Entry::closeChannel);
+        return new Lease(result);
+    }
+
+    /**
+     * Removes all channels for the given file from the cache. Those which are not currently leased are closed
+     * immediately; the others will be closed when their last lease is closed.
+     *
+     * @param path The path of the file.
+     */
+    void invalidate(Path path) {
+        ArrayList<Entry> toClose = new ArrayList<>();
+        synchronized (this.entries) {
+            this.invalidationCount++;
+            for (StandardOpenOption o : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE}) {
+                Entry e = this.entries.remove(new Key(path, o));
+                if (e != null) {
+                    e.evicted = true;
+                    if (e.leaseCount == 0) {
+                        toClose.add(e);
+                    }
+                }
+            }
+        }
+
+        toClose.forEach(Entry::closeChannel);
+    }
+
+    /**
+     * Gets the number of channels currently in the cache.
+     *
+     * @return The number of channels.
+     */
+    int size() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    @GuardedBy("entries")
+    private void evictIfNeeded(ArrayList<Entry> toClose) {
+        Iterator<Map.Entry<Key, Entry>> iterator = this.entries.entrySet().iterator();
+        while (this.entries.size() > this.maxSize && iterator.hasNext()) {
+            Entry e = iterator.next().getValue();
+            iterator.remove();
+            e.evicted = true;
+            if (e.leaseCount == 0) {
+                toClose.add(e);
+            }
+        }
+    }
+
+    private void release(Entry e) {
+        boolean close;
+        synchronized (this.entries) {
+            assert e.leaseCount > 0 : "Lease released too many times.";
+            e.leaseCount--;
+            close = e.evicted && e.leaseCount == 0;
+        }
+
+        if (close) {
+            e.closeChannel();
+        }
+    }
+
+    //endregion
+
+    //region Helper Classes
+
+    /**
+     * Opens {@link FileChannel}s.
+     */
+    @FunctionalInterface
+    interface ChannelOpener {
+        FileChannel open(Path path, StandardOpenOption openOption) throws IOException;
+    }
+
+    /**
+     * Grants temporary use of a cached {@link FileChannel}. The channel must not be closed directly; close this instead.
+     */
+    @RequiredArgsConstructor
+    class Lease implements AutoCloseable {
+        private final Entry entry;
+        private boolean closed;
+
+        /**
+         * Gets the leased {@link FileChannel}.
+         *
+         * @return The channel.
+         */
+        FileChannel getChannel() {
+            return this.entry.channel;
+        }
+
+        @Override
+        public void close() {
+            if (!this.closed) {
+                this.closed = true;
+                release(this.entry);
+            }
+        }
+    }
+
+    @Data
+    private static class Key {
+        private final Path path;
+        private final StandardOpenOption openOption;
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        final FileChannel channel;
+        @GuardedBy("FileChannelCache.this.entries")
+        int leaseCount;
+        @GuardedBy("FileChannelCache.this.entries")
+        boolean evicted;
+
+        void closeChannel() {
+            try {
+                this.channel.close();
+            } catch (IOException ex) {
+                log.warn("Unable to close FileChannel.", ex);
+            }
+        }
+    }
+
+    //endregion
+}
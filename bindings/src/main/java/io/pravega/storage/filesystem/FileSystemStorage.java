@@ -12,9 +12,13 @@ package io.pravega.storage.filesystem;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
+import io.netty.buffer.Unpooled;
 import io.pravega.common.Exceptions;
 import io.pravega.common.LoggerHelpers;
 import io.pravega.common.Timer;
+import io.pravega.common.io.StreamHelpers;
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
 import io.pravega.common.util.ImmutableDate;
 import io.pravega.segmentstore.contracts.BadOffsetException;
 import io.pravega.segmentstore.contracts.SegmentProperties;
@@ -25,16 +29,17 @@ import io.pravega.segmentstore.contracts.StreamSegmentNotExistsException;
 import io.pravega.segmentstore.contracts.StreamSegmentSealedException;
 import io.pravega.segmentstore.storage.SegmentHandle;
 import io.pravega.segmentstore.storage.SyncStorage;
+import io.pravega.shared.protocol.netty.ByteBufWrapper;
 import java.util.Iterator;
+import java.io.EOFException;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.NonWritableChannelException;
-import java.nio.channels.ReadableByteChannel;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
@@ -74,6 +79,15 @@ import static java.nio.file.attribute.PosixFilePermission.OWNER_WRITE;
  * In the absence of locking this is the expected behavior in case of ownership change: both the hosts will keep
  * writing the same data at the same offset till the time the earlier owner gets a notification that it is not the
  * current owner. Once the earlier owner received this notification, it stops writing to the segment.
+ *
+ * Open file channels are kept in a bounded LRU cache (see {@link FileChannelCache}) and reused across reads and writes.
+ * Channels are invalidated whenever their file is sealed, unsealed, concatenated or deleted by this instance.
+ *
+ * If enabled (see {@link FileSystemStorageConfig#isMappedReadsEnabled()}), {@link #read(SegmentHandle, long, int)} will
+ * return memory-mapped regions of sealed segment files instead of copying their contents. Sealed files are never modified,
+ * so such mappings remain valid for as long as they are referenced (even if the file is deleted in the meantime). Each
+ * sealed file is mapped once and its mapping is reused by all reads, with the number of mapped files bounded by the same
+ * limit as the number of cached channels (see {@link MappedFileCache}).
  */
 @Slf4j
 public class FileSystemStorage implements SyncStorage {
@@ -90,8 +104,20 @@ public class FileSystemStorage implements SyncStorage {
             PosixFilePermission.GROUP_READ,
             PosixFilePermission.OTHERS_READ);
 
+    /**
+     * The size of each buffer that the contents of a write is read into.
+     */
+    private static final int WRITE_BUFFER_SIZE = 128 * 1024;
+    /**
+     * The maximum number of buffers to write to the file using a single (gathering) write.
+     */
+    private static final int MAX_WRITE_BUFFER_COUNT = 16;
+
     private final FileSystemStorageConfig config;
     private final AtomicBoolean closed;
+    private final FileChannelCache channels;
+    private final MappedFileCache mappings;
+    private final ForceCoalescer forceCoalescer;
 
     //endregion
 
@@ -105,7 +131,11 @@ public class FileSystemStorage implements SyncStorage {
     public FileSystemStorage(FileSystemStorageConfig config) {
         this.config = Preconditions.checkNotNull(config, "config");
         this.closed = new AtomicBoolean(false);
-
+        this.channels = new FileChannelCache(config.getChannelCacheSize(), this::getFileChannel);
+        this.mappings = config.isMappedReadsEnabled() && config.getChannelCacheSize() > 0
+                ? new MappedFileCache(config.getChannelCacheSize(), this::mapFile)
+                : null;
+        this.forceCoalescer = config.isGroupSyncEnabled() ? new ForceCoalescer() : null;
     }
 
     //endregion
@@ -131,6 +161,15 @@ public class FileSystemStorage implements SyncStorage {
         return execute(handle.getSegmentName(), () -> doRead(handle, offset, buffer, bufferOffset, length));
     }
 
+    @Override
+    public BufferView read(SegmentHandle handle, long offset, int length) throws StreamSegmentException {
+        if (this.mappings == null) {
+            return SyncStorage.super.read(handle, offset, length);
+        }
+
+        return execute(handle.getSegmentName(), () -> doMappedRead(handle, offset, length));
+    }
+
     @Override
     public SegmentProperties getStreamSegmentInfo(String streamSegmentName) throws StreamSegmentException {
         return execute(streamSegmentName, () -> doGetStreamSegmentInfo(streamSegmentName));
@@ -223,7 +262,9 @@ public class FileSystemStorage implements SyncStorage {
 
     @Override
     public void close() {
-        this.closed.set(true);
+        if (!this.closed.getAndSet(true)) {
+            this.channels.close();
+        }
     }
 
     //endregion
@@ -277,7 +318,8 @@ public class FileSystemStorage implements SyncStorage {
                     "current size of segment (%d).", offset, fileSize));
         }
 
-        try (FileChannel channel = getFileChannel(path, StandardOpenOption.READ)) {
+        try (FileChannelCache.Lease lease = this.channels.acquire(path, StandardOpenOption.READ)) {
+            FileChannel channel = lease.getChannel();
             int totalBytesRead = 0;
             long readOffset = offset;
             do {
@@ -295,6 +337,32 @@ public class FileSystemStorage implements SyncStorage {
         }
     }
 
+    private BufferView doMappedRead(SegmentHandle handle, long offset, int length) throws IOException {
+        Path path = Paths.get(config.getRoot(), handle.getSegmentName());
+        PosixFileAttributes attrs = Files.readAttributes(path, PosixFileAttributes.class);
+        if (attrs.permissions().contains(OWNER_WRITE) || attrs.size() > Integer.MAX_VALUE) {
+            // Not sealed (so its contents may still change) or too large to be mapped at once. Read it by copying.
+            byte[] buffer = new byte[length];
+            int bytesRead = doRead(handle, offset, buffer, 0, length);
+            return new ByteArraySegment(buffer, 0, bytesRead);
+        }
+
+        long traceId = LoggerHelpers.traceEnter(log, "mappedRead", handle.getSegmentName(), offset, length);
+        Timer timer = new Timer();
+        ByteBuffer data = this.mappings.get(path, offset, length);
+        FileSystemMetrics.READ_LATENCY.reportSuccessEvent(timer.getElapsed());
+        FileSystemMetrics.READ_BYTES.add(length);
+        LoggerHelpers.traceLeave(log, "mappedRead", traceId, length);
+        return new ByteBufWrapper(Unpooled.wrappedBuffer(data));
+    }
+
+    private MappedByteBuffer mapFile(Path path) throws IOException {
+        try (FileChannelCache.Lease lease = this.channels.acquire(path, StandardOpenOption.READ)) {
+            FileChannel channel = lease.getChannel();
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
     private SegmentProperties doGetStreamSegmentInfo(String streamSegmentName) throws IOException {
         long traceId = LoggerHelpers.traceEnter(log, "getStreamSegmentInfo", streamSegmentName);
         PosixFileAttributes attrs = Files.readAttributes(Paths.get(config.getRoot(), streamSegmentName),
@@ -345,23 +413,24 @@ public class FileSystemStorage implements SyncStorage {
         }
 
         long totalBytesWritten = 0;
-        try (FileChannel channel = getFileChannel(path, StandardOpenOption.WRITE)) {
+        try (FileChannelCache.Lease lease = this.channels.acquire(path, StandardOpenOption.WRITE)) {
+            FileChannel channel = lease.getChannel();
             long fileSize = channel.size();
             if (fileSize != offset) {
                 throw new BadOffsetException(handle.getSegmentName(), fileSize, offset);
             }
 
-            // Wrap the input data into a ReadableByteChannel, but do not close it. Doing so will result in closing
-            // the underlying InputStream, which is not desirable if it is to be reused.
-            ReadableByteChannel sourceChannel = Channels.newChannel(data);
             while (length != 0) {
-                long bytesWritten = channel.transferFrom(sourceChannel, offset, length);
-                assert bytesWritten > 0 : "Unable to make any progress transferring data.";
+                // Read a batch of buffers from the input data (we do not close it, as the caller may reuse it) and write
+                // them with a single gathering write, instead of issuing one small write for each chunk of data.
+                ByteBuffer[] buffers = readBuffers(data, length);
+                long bytesWritten = writeBuffers(channel, offset, buffers);
                 offset += bytesWritten;
                 totalBytesWritten += bytesWritten;
                 length -= bytesWritten;
             }
-            channel.force(false);
+
+            force(channel);
         }
         FileSystemMetrics.WRITE_LATENCY.reportSuccessEvent(timer.getElapsed());
         FileSystemMetrics.WRITE_BYTES.add(totalBytesWritten);
@@ -369,6 +438,51 @@ public class FileSystemStorage implements SyncStorage {
         return null;
     }
 
+    private ByteBuffer[] readBuffers(InputStream data, int length) throws IOException {
+        int count = Math.min(MAX_WRITE_BUFFER_COUNT, (length + WRITE_BUFFER_SIZE - 1) / WRITE_BUFFER_SIZE);
+        ByteBuffer[] result = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            byte[] buffer = new byte[Math.min(WRITE_BUFFER_SIZE, length)];
+            int bytesRead = StreamHelpers.readAll(data, buffer, 0, buffer.length);
+            if (bytesRead < buffer.length) {
+                throw new EOFException(String.format("Unable to read %d bytes from the given input; only %d available.",
+                        buffer.length, bytesRead));
+            }
+
+            result[i] = ByteBuffer.wrap(buffer);
+            length -= buffer.length;
+        }
+
+        return result;
+    }
+
+    private long writeBuffers(FileChannel channel, long offset, ByteBuffer[] buffers) throws IOException {
+        long expectedLength = 0;
+        for (ByteBuffer b : buffers) {
+            expectedLength += b.remaining();
+        }
+
+        // Gathering writes use (and update) the channel's position. The channel may be shared with other writers (from
+        // the cache), so we need exclusive access to it while we do that.
+        long bytesWritten = 0;
+        synchronized (channel) {
+            channel.position(offset);
+            while (bytesWritten < expectedLength) {
+                bytesWritten += channel.write(buffers);
+            }
+        }
+
+        return bytesWritten;
+    }
+
+    private void force(FileChannel channel) throws IOException {
+        if (this.forceCoalescer == null) {
+            channel.force(false);
+        } else {
+            this.forceCoalescer.force(channel);
+        }
+    }
+
     private boolean isWritableFile(Path path) throws IOException {
         PosixFileAttributes attrs = Files.readAttributes(path, PosixFileAttributes.class);
         return attrs.permissions().contains(OWNER_WRITE);
@@ -380,14 +494,18 @@ public class FileSystemStorage implements SyncStorage {
             throw new IllegalArgumentException(handle.getSegmentName());
         }
 
-        Files.setPosixFilePermissions(Paths.get(config.getRoot(), handle.getSegmentName()), READ_ONLY_PERMISSION);
+        Path path = Paths.get(config.getRoot(), handle.getSegmentName());
+        Files.setPosixFilePermissions(path, READ_ONLY_PERMISSION);
+        invalidate(path);
         LoggerHelpers.traceLeave(log, "seal", traceId);
         return null;
     }
 
     private Void doUnseal(SegmentHandle handle) throws IOException {
         long traceId = LoggerHelpers.traceEnter(log, "unseal", handle.getSegmentName());
-        Files.setPosixFilePermissions(Paths.get(config.getRoot(), handle.getSegmentName()), READ_WRITE_PERMISSION);
+        Path path = Paths.get(config.getRoot(), handle.getSegmentName());
+        Files.setPosixFilePermissions(path, READ_WRITE_PERMISSION);
+        invalidate(path);
         LoggerHelpers.traceLeave(log, "unseal", traceId);
         return null;
     }
@@ -409,28 +527,40 @@ public class FileSystemStorage implements SyncStorage {
         Path targetPath = Paths.get(config.getRoot(), targetHandle.getSegmentName());
 
         long length = getFileSize(sourcePath);
-        try (FileChannel targetChannel = FileChannel.open(targetPath, StandardOpenOption.WRITE);
+        try (FileChannelCache.Lease targetLease = this.channels.acquire(targetPath, StandardOpenOption.WRITE);
              RandomAccessFile sourceFile = new RandomAccessFile(String.valueOf(sourcePath), "r")) {
             if (isWritableFile(sourcePath)) {
                 throw new IllegalStateException(String.format("Source segment (%s) is not sealed.", sourceSegment));
             }
+            FileChannel targetChannel = targetLease.getChannel();
             while (length > 0) {
                 long bytesTransferred = targetChannel.transferFrom(sourceFile.getChannel(), offset, length);
                 offset += bytesTransferred;
                 length -= bytesTransferred;
             }
-            targetChannel.force(false);
+            force(targetChannel);
             Files.delete(sourcePath);
+            invalidate(sourcePath);
             LoggerHelpers.traceLeave(log, "concat", traceId);
             return null;
         }
     }
 
     private Void doDelete(SegmentHandle handle) throws IOException {
-        Files.delete(Paths.get(config.getRoot(), handle.getSegmentName()));
+        // Invalidate after deleting, so that no channel opened before the file was deleted may remain in the cache.
+        Path path = Paths.get(config.getRoot(), handle.getSegmentName());
+        Files.delete(path);
+        invalidate(path);
         return null;
     }
 
+    private void invalidate(Path path) {
+        this.channels.invalidate(path);
+        if (this.mappings != null) {
+            this.mappings.invalidate(path);
+        }
+    }
+
     /**
      * Executes the given Callable and returns its result, while translating any Exceptions bubbling out of it into
      * StreamSegmentExceptions.
@@ -24,6 +24,9 @@ public class FileSystemStorageConfig {
     //region Config Names
 
     public static final Property<String> ROOT = Property.named("root", "/fs/");
+    public static final Property<Integer> CHANNEL_CACHE_SIZE = Property.named("channel.cache.size", 128);
+    public static final Property<Boolean> GROUP_SYNC = Property.named("sync.group.enable", false);
+    public static final Property<Boolean> MAPPED_READS = Property.named("read.mmap.enable", false);
     public static final String COMPONENT_CODE = "filesystem";
 
     //endregion
@@ -37,6 +40,27 @@ public class FileSystemStorageConfig {
     @Getter
     private final String root;
 
+    /**
+     * The maximum number of open file channels to keep around for reuse. If 0, a new channel is opened (and closed)
+     * for every read or write.
+     */
+    @Getter
+    private final int channelCacheSize;
+
+    /**
+     * Whether to coalesce the forcing of written data to the storage device across concurrent writes, instead of
+     * forcing each write individually.
+     */
+    @Getter
+    private final boolean groupSyncEnabled;
+
+    /**
+     * Whether to serve reads from sealed segment files using memory-mapped regions of those files, instead of copying
+     * their contents into a new buffer.
+     */
+    @Getter
+    private final boolean mappedReadsEnabled;
+
     //endregion
 
     //region Constructor
@@ -48,6 +72,13 @@ public class FileSystemStorageConfig {
      */
     private FileSystemStorageConfig(TypedProperties properties) throws ConfigurationException {
         this.root = properties.get(ROOT);
+        this.channelCacheSize = properties.getInt(CHANNEL_CACHE_SIZE);
+        if (this.channelCacheSize < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", CHANNEL_CACHE_SIZE));
+        }
+
+        this.groupSyncEnabled = properties.getBoolean(GROUP_SYNC);
+        this.mappedReadsEnabled = properties.getBoolean(MAPPED_READS);
     }
 
     /**
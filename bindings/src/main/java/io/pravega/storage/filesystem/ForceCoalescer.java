@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.storage.filesystem;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Coalesces {@link FileChannel#force} invocations from concurrent writers (group commit).
+ * <p>
+ * A writer that needs its data to be durable invokes {@link #force(FileChannel)}, which blocks until a force covering
+ * its data has completed. While one group of channels is being forced, requests from other writers accumulate into the
+ * next group, which is then forced by one of them once the current group is done. Every channel is forced at most once
+ * per group, no matter how many writers requested it, so concurrent flushes of many segments (or multiple flushes of
+ * the same segment) result in fewer, batched, force calls.
+ */
+@ThreadSafe
+class ForceCoalescer {
+    //region Members
+
+    @GuardedBy("this")
+    private Group pending = new Group();
+    @GuardedBy("this")
+    private boolean forceInProgress;
+    @GuardedBy("this")
+    private long groupCount;
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Forces the given channel's contents (but not its metadata) to the storage device. This method will block until a
+     * group containing the given channel has been forced (which may be done by this thread or by a different one).
+     *
+     * @param channel The {@link FileChannel} to force. This channel must not be closed until this method returns.
+     * @throws IOException If the channel could not be forced or if the thread was interrupted while waiting.
+     */
+    void force(FileChannel channel) throws IOException {
+        Group group;
+        synchronized (this) {
+            group = this.pending;
+            group.channels.add(channel);
+        }
+
+        while (true) {
+            Group toForce;
+            synchronized (this) {
+                if (group.done) {
+                    break;
+                } else if (this.forceInProgress || this.pending != group) {
+                    // Someone else is forcing a group; once they're done, our group will be the next one.
+                    waitForGroup();
+                    continue;
+                }
+
+                // We will force our own group (on behalf of everyone else in it).
+                toForce = group;
+                this.pending = new Group();
+                this.forceInProgress = true;
+                this.groupCount++;
+            }
+
+            try {
+                toForce.forceAll();
+            } finally {
+                synchronized (this) {
+                    toForce.done = true;
+                    this.forceInProgress = false;
+                    notifyAll();
+                }
+            }
+        }
+
+        IOException ex = group.failures.get(channel);
+        if (ex != null) {
+            throw ex;
+        }
+    }
+
+    /**
+     * Gets the number of groups that have been forced so far.
+     *
+     * @return The number of groups.
+     */
+    synchronized long getGroupCount() {
+        return this.groupCount;
+    }
+
+    @GuardedBy("this")
+    private void waitForGroup() throws InterruptedIOException {
+        try {
+            wait();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a FileChannel to be forced.");
+        }
+    }
+
+    //endregion
+
+    //region Group
+
+    private static class Group {
+        /**
+         * The channels to force. Only modified (under the ForceCoalescer's lock) while this group is pending.
+         */
+        final Set<FileChannel> channels = Collections.newSetFromMap(new IdentityHashMap<>());
+        /**
+         * Channels that could not be forced. Only modified while this group is being forced, and only read after it is done.
+         */
+        final Map<FileChannel, IOException> failures = new IdentityHashMap<>();
+        @GuardedBy("ForceCoalescer.this")
+        boolean done;
+
+        void forceAll() {
+            for (FileChannel c : this.channels) {
+                try {
+                    c.force(false);
+                } catch (IOException ex) {
+                    this.failures.put(c, ex);
+                }
+            }
+        }
+    }
+
+    //endregion
+}
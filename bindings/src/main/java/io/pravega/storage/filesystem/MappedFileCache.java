@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.storage.filesystem;
+
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.NonNull;
+
+/**
+ * A bounded, LRU cache of read-only memory mappings of entire files, keyed by file path.
+ * <p>
+ * Each cached file is mapped only once, and every read of it is served from a slice of that one mapping. Mappings are
+ * never unmapped explicitly, since their slices may still be referenced by readers (and accessing an unmapped region
+ * crashes the JVM). A mapping that is evicted (due to the cache being full) or invalidated (see {@link #invalidate}) is
+ * released once it and all of its slices have been garbage-collected.
+ * <p>
+ * Only files whose contents never change (i.e., sealed files) may be mapped. Callers must invalidate a file's mapping
+ * whenever the file is deleted or unsealed, since the cached mapping would otherwise keep referring to the old contents.
+ */
+@ThreadSafe
+class MappedFileCache {
+    //region Members
+
+    private final int maxSize;
+    private final FileMapper mapper;
+    @GuardedBy("mappings")
+    private final LinkedHashMap<Path, MappedByteBuffer> mappings;
+    @GuardedBy("mappings")
+    private long invalidationCount;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the MappedFileCache class.
+     *
+     * @param maxSize The maximum number of mappings to keep. Must be a positive integer.
+     * @param mapper  A {@link FileMapper} to use to map files.
+     */
+    MappedFileCache(int maxSize, @NonNull FileMapper mapper) {
+        Preconditions.checkArgument(maxSize > 0, "maxSize must be a positive integer.");
+        this.maxSize = maxSize;
+        this.mapper = mapper;
+        this.mappings = new LinkedHashMap<>(16, 0.75f, true); // Access order, so we can evict the least recently used.
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Gets a read-only view of the given range of the given file, mapping the file if it is not already mapped.
+     *
+     * @param path   The path of the file.
+     * @param offset The offset within the file where the range begins.
+     * @param length The length of the range.
+     * @return A new {@link ByteBuffer} containing the requested range.
+     * @throws IOException              If the file could not be mapped.
+     * @throws IllegalArgumentException If the range is not entirely within the file.
+     */
+    ByteBuffer get(Path path, long offset, int length) throws IOException {
+        MappedByteBuffer mapping = getMapping(path);
+        if (offset < 0 || length < 0 || offset + length > mapping.capacity()) {
+            throw new IllegalArgumentException(String.format("Unable to read (Offset = %d, Length = %d) from a " +
+                    "file of size %d.", offset, length, mapping.capacity()));
+        }
+
+        // Never change the position or limit of the cached mapping itself, as it is shared by concurrent readers.
+        ByteBuffer result = mapping.duplicate();
+        result.position((int) offset);
+        result.limit((int) offset + length);
+        return result.slice();
+    }
+
+    /**
+     * Removes the mapping for the given file from the cache, if any.
+     *
+     * @param path The path of the file.
+     */
+    void invalidate(Path path) {
+        synchronized (this.mappings) {
+            this.invalidationCount++;
+            this.mappings.remove(path);
+        }
+    }
+
+    /**
+     * Gets the number of mappings currently in the cache.
+     *
+     * @return The number of mappings.
+     */
+    int size() {
+        synchronized (this.mappings) {
+            return this.mappings.size();
+        }
+    }
+
+    private MappedByteBuffer getMapping(Path path) throws IOException {
+        long invalidationCount;
+        synchronized (this.mappings) {
+            MappedByteBuffer existing = this.mappings.get(path);
+            if (existing != null) {
+                return existing;
+            }
+
+            invalidationCount = this.invalidationCount;
+        }
+
+        // Map the file outside of the lock; this may take a while (especially on remote file systems).
+        MappedByteBuffer mapping = this.mapper.map(path);
+        synchronized (this.mappings) {
+            MappedByteBuffer existing = this.mappings.get(path);
+            if (existing != null) {
+                // Someone else mapped it concurrently. Use theirs instead; ours will be released when garbage-collected.
+                return existing;
+            }
+
+            if (this.invalidationCount == invalidationCount) {
+                // Only cache it if no file has been invalidated (and possibly deleted or unsealed) while we were mapping
+                // it. Otherwise let the caller use it, but do not cache it, as it may refer to outdated contents.
+                this.mappings.put(path, mapping);
+                Iterator<Path> iterator = this.mappings.keySet().iterator();
+                while (this.mappings.size() > this.maxSize && iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+        }
+
+        return mapping;
+    }
+
+    //endregion
+
+    //region Helper Classes
+
+    /**
+     * Creates read-only memory mappings of entire files.
+     */
+    @FunctionalInterface
+    interface FileMapper {
+        MappedByteBuffer map(Path path) throws IOException;
+    }
+
+    //endregion
+}
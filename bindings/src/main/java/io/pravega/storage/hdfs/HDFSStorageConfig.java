@@ -28,6 +28,7 @@ public class HDFSStorageConfig {
     public static final Property<Integer> REPLICATION = Property.named("replication.factor", 3, "replication");
     public static final Property<Integer> BLOCK_SIZE = Property.named("block.size", 1024 * 1024, "blockSize");
     public static final Property<Boolean> REPLACE_DATANODES_ON_FAILURE = Property.named("replaceDataNodesOnFailure.enable", true, "replaceDataNodesOnFailure");
+    public static final Property<Integer> NEXT_CHUNK_PREFETCH_LENGTH = Property.named("nextChunk.prefetch.length", 0);
     private static final String COMPONENT_CODE = "hdfs";
 
     //endregion
@@ -67,6 +68,14 @@ public class HDFSStorageConfig {
     @Getter
     private final boolean replaceDataNodesOnFailure;
 
+    /**
+     * The number of bytes to prefetch from the beginning of the next chunk of a Segment while reading from the current one.
+     * Opening a file is expensive on HDFS, so doing this in the background helps sequential readers that cross chunk
+     * boundaries. If 0, no prefetching is done.
+     */
+    @Getter
+    private final int nextChunkPrefetchLength;
+
     //endregion
 
     //region Constructor
@@ -82,6 +91,10 @@ public class HDFSStorageConfig {
         this.replication = (short) properties.getInt(REPLICATION);
         this.blockSize = properties.getInt(BLOCK_SIZE);
         this.replaceDataNodesOnFailure = properties.getBoolean(REPLACE_DATANODES_ON_FAILURE);
+        this.nextChunkPrefetchLength = properties.getInt(NEXT_CHUNK_PREFETCH_LENGTH);
+        if (this.nextChunkPrefetchLength < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", NEXT_CHUNK_PREFETCH_LENGTH));
+        }
     }
 
     /**
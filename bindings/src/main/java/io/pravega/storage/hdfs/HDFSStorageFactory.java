@@ -11,6 +11,7 @@ package io.pravega.storage.hdfs;
 
 import com.google.common.base.Preconditions;
 import io.pravega.segmentstore.storage.AsyncStorageWrapper;
+import io.pravega.segmentstore.storage.SegmentRollingPolicy;
 import io.pravega.segmentstore.storage.Storage;
 import io.pravega.segmentstore.storage.StorageFactory;
 import io.pravega.segmentstore.storage.SyncStorage;
@@ -40,7 +41,9 @@ public class HDFSStorageFactory implements StorageFactory {
     @Override
     public Storage createStorageAdapter() {
         HDFSStorage s = new HDFSStorage(this.config);
-        return new AsyncStorageWrapper(new RollingStorage(s), this.executor);
+        return new AsyncStorageWrapper(
+                new RollingStorage(s, SegmentRollingPolicy.NO_ROLLING, this.config.getNextChunkPrefetchLength(), this.executor),
+                this.executor);
     }
 
     @Override
@@ -31,8 +31,10 @@ import io.pravega.storage.IdempotentStorageTestBase;
 import io.pravega.test.common.TestUtils;
 
 import java.io.ByteArrayInputStream;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
@@ -249,6 +251,48 @@ public class ExtendedS3StorageTest extends IdempotentStorageTestBase {
         }
     }
 
+    /**
+     * Tests read() with parallel ranged reads.
+     *
+     * @throws Exception if an unexpected error occurred.
+     */
+    @Test
+    public void testParallelReads() throws Exception {
+        val adapterConfig = ExtendedS3StorageConfig.builder()
+                .with(ExtendedS3StorageConfig.CONFIGURI, setup.configUri)
+                .with(ExtendedS3StorageConfig.BUCKET, setup.adapterConfig.getBucket())
+                .with(ExtendedS3StorageConfig.PREFIX, "samplePrefix")
+                .with(ExtendedS3StorageConfig.USENONEMATCH, true)
+                .with(ExtendedS3StorageConfig.TRANSFER_CONCURRENCY, 4)
+                .with(ExtendedS3StorageConfig.READ_PART_SIZE, 100)
+                .build();
+        final String segmentName = createSegmentName("ParallelReads");
+        val rnd = new Random(0);
+        byte[] expectedData = new byte[1550];
+        rnd.nextBytes(expectedData);
+        try (Storage s = createStorage(setup.client, adapterConfig, executorService())) {
+            s.initialize(DEFAULT_EPOCH);
+            s.create(segmentName, null).join();
+            val handle = s.openWrite(segmentName).join();
+            s.write(handle, 0, new ByteArrayInputStream(expectedData, 0, 1000), 1000, null).join();
+            s.write(handle, 1000, new ByteArrayInputStream(expectedData, 1000, 550), 550, null).join();
+            assertEquals(expectedData.length, s.getStreamSegmentInfo(segmentName, null).join().getLength());
+
+            // Full read.
+            byte[] readBuffer = new byte[expectedData.length];
+            int bytesRead = s.read(handle, 0, readBuffer, 0, readBuffer.length, null).join();
+            assertEquals(expectedData.length, bytesRead);
+            Assert.assertArrayEquals("Unexpected data read.", expectedData, readBuffer);
+
+            // Partial read, not aligned to part boundaries.
+            readBuffer = new byte[777];
+            bytesRead = s.read(handle, 123, readBuffer, 0, readBuffer.length, null).join();
+            assertEquals(readBuffer.length, bytesRead);
+            Assert.assertArrayEquals("Unexpected data read for partial read.",
+                    Arrays.copyOfRange(expectedData, 123, 123 + readBuffer.length), readBuffer);
+        }
+    }
+
     /**
      * Tests the next batch of segments in ExtendedS3Storage.
      * @throws Exception if an unexpected error occurred.
@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.storage.filesystem;
+
+import io.pravega.common.ObjectClosedException;
+import io.pravega.common.io.FileHelpers;
+import io.pravega.test.common.AssertExtensions;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Unit tests for the {@link FileChannelCache} class.
+ */
+public class FileChannelCacheTest {
+    private static final int FILE_COUNT = 5;
+    @Rule
+    public Timeout globalTimeout = Timeout.seconds(10);
+    private File baseDir;
+    private Path[] files;
+    private AtomicInteger openCount;
+
+    @Before
+    public void setUp() throws Exception {
+        this.baseDir = Files.createTempDirectory("test_channel_cache").toFile().getAbsoluteFile();
+        this.files = new Path[FILE_COUNT];
+        for (int i = 0; i < FILE_COUNT; i++) {
+            this.files[i] = Files.createFile(this.baseDir.toPath().resolve("file" + i));
+        }
+
+        this.openCount = new AtomicInteger();
+    }
+
+    @After
+    public void tearDown() {
+        FileHelpers.deleteFileOrDirectory(this.baseDir);
+    }
+
+    /**
+     * Tests that channels are reused and that the least recently used ones are evicted (and closed) when the cache is full.
+     */
+    @Test
+    public void testLruEviction() throws Exception {
+        @Cleanup
+        val cache = new FileChannelCache(2, this::open);
+        FileChannel c0 = acquireAndRelease(cache, this.files[0]);
+        FileChannel c1 = acquireAndRelease(cache, this.files[1]);
+        Assert.assertSame("Expected a cached channel to be reused.", c0, acquireAndRelease(cache, this.files[0]));
+        Assert.assertEquals(2, this.openCount.get());
+
+        // File 1 is now the least recently used one, so it should be evicted.
+        FileChannel c2 = acquireAndRelease(cache, this.files[2]);
+        Assert.assertEquals(2, cache.size());
+        Assert.assertFalse("Expected evicted channel to be closed.", c1.isOpen());
+        Assert.assertTrue(c0.isOpen());
+        Assert.assertTrue(c2.isOpen());
+
+        // Different open options should result in different channels.
+        try (val lease = cache.acquire(this.files[0], StandardOpenOption.READ)) {
+            Assert.assertNotSame(c0, lease.getChannel());
+        }
+
+        cache.close();
+        Assert.assertFalse(c0.isOpen());
+        AssertExtensions.assertThrows(
+                "acquire() worked after close().",
+                () -> cache.acquire(this.files[0], StandardOpenOption.WRITE),
+                ex -> ex instanceof ObjectClosedException);
+    }
+
+    /**
+     * Tests that channels that are leased are not closed when evicted, invalidated or when the cache is closed; they
+     * should only be closed when their last lease is released.
+     */
+    @Test
+    public void testLeasedChannels() throws Exception {
+        val cache = new FileChannelCache(1, this::open);
+        val lease1 = cache.acquire(this.files[0], StandardOpenOption.WRITE);
+        val lease2 = cache.acquire(this.files[0], StandardOpenOption.WRITE);
+        Assert.assertSame(lease1.getChannel(), lease2.getChannel());
+
+        // Evict it.
+        acquireAndRelease(cache, this.files[1]);
+        Assert.assertTrue("Leased channel closed upon eviction.", lease1.getChannel().isOpen());
+        lease1.close();
+        lease1.close(); // This should have no effect.
+        Assert.assertTrue("Channel closed while still leased.", lease2.getChannel().isOpen());
+        lease2.close();
+        Assert.assertFalse("Evicted channel not closed when its last lease was released.", lease2.getChannel().isOpen());
+
+        // Invalidate.
+        val lease3 = cache.acquire(this.files[1], StandardOpenOption.WRITE);
+        cache.invalidate(this.files[1]);
+        Assert.assertEquals(0, cache.size());
+        Assert.assertTrue("Leased channel closed upon invalidation.", lease3.getChannel().isOpen());
+        val lease4 = cache.acquire(this.files[1], StandardOpenOption.WRITE);
+        Assert.assertNotSame("Invalidated channel was reused.", lease3.getChannel(), lease4.getChannel());
+        lease3.close();
+        Assert.assertFalse(lease3.getChannel().isOpen());
+
+        // Close.
+        cache.close();
+        Assert.assertTrue("Leased channel closed upon cache close.", lease4.getChannel().isOpen());
+        lease4.close();
+        Assert.assertFalse(lease4.getChannel().isOpen());
+    }
+
+    /**
+     * Tests the case when the cache has a maximum size of 0 (no channels should be cached).
+     */
+    @Test
+    public void testNoCaching() throws Exception {
+        @Cleanup
+        val cache = new FileChannelCache(0, this::open);
+        FileChannel c1 = acquireAndRelease(cache, this.files[0]);
+        FileChannel c2 = acquireAndRelease(cache, this.files[0]);
+        Assert.assertNotSame(c1, c2);
+        Assert.assertFalse(c1.isOpen());
+        Assert.assertFalse(c2.isOpen());
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(2, this.openCount.get());
+    }
+
+    private FileChannel acquireAndRelease(FileChannelCache cache, Path path) throws Exception {
+        try (val lease = cache.acquire(path, StandardOpenOption.WRITE)) {
+            Assert.assertTrue(lease.getChannel().isOpen());
+            return lease.getChannel();
+        }
+    }
+
+    private FileChannel open(Path path, StandardOpenOption openOption) throws IOException {
+        this.openCount.incrementAndGet();
+        return FileChannel.open(path, openOption);
+    }
+}
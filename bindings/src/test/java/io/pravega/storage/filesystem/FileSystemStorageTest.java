@@ -9,7 +9,10 @@
  */
 package io.pravega.storage.filesystem;
 
+import io.pravega.common.concurrent.Futures;
 import io.pravega.common.io.FileHelpers;
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
 import io.pravega.segmentstore.contracts.BadOffsetException;
 import io.pravega.segmentstore.contracts.StreamSegmentNotExistsException;
 import io.pravega.segmentstore.storage.AsyncStorageWrapper;
@@ -19,9 +22,16 @@ import io.pravega.shared.metrics.MetricsConfig;
 import io.pravega.shared.metrics.MetricsProvider;
 import io.pravega.shared.metrics.StatsProvider;
 import io.pravega.storage.IdempotentStorageTestBase;
+import io.pravega.test.common.AssertExtensions;
 import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import lombok.val;
 import org.junit.After;
 import org.junit.Assert;
@@ -135,6 +145,152 @@ public class FileSystemStorageTest extends IdempotentStorageTestBase {
 
     //endregion
 
+    /**
+     * Tests writes that span multiple (gathering) file writes, as well as reading them back.
+     *
+     * @throws Exception if an unexpected error occurred.
+     */
+    @Test(timeout = 30000)
+    public void testLargeWrite() throws Exception {
+        String segmentName = "foo_large_write";
+        byte[] writeData = new byte[3 * 1024 * 1024 + 123];
+        new Random(0).nextBytes(writeData);
+        try (Storage s = createStorage()) {
+            s.initialize(DEFAULT_EPOCH);
+            val writeHandle = s.create(segmentName, TIMEOUT).thenCompose(v -> s.openWrite(segmentName)).join();
+            s.write(writeHandle, 0, new ByteArrayInputStream(writeData), writeData.length, TIMEOUT).join();
+
+            // Not enough data in the input stream.
+            assertSuppliedFutureThrows(
+                    "write() did not throw for a short input stream.",
+                    () -> s.write(writeHandle, writeData.length, new ByteArrayInputStream(new byte[10]), 11, TIMEOUT),
+                    ex -> ex instanceof EOFException);
+
+            byte[] readData = new byte[writeData.length];
+            val readHandle = s.openRead(segmentName).join();
+            int bytesRead = s.read(readHandle, 0, readData, 0, readData.length, TIMEOUT).join();
+            Assert.assertEquals(writeData.length, bytesRead);
+            Assert.assertArrayEquals("Unexpected data read back.", writeData, readData);
+        }
+    }
+
+    /**
+     * Tests that channels cached for a segment are not reused after the segment has been deleted and recreated.
+     *
+     * @throws Exception if an unexpected error occurred.
+     */
+    @Test(timeout = 30000)
+    public void testDeleteAndRecreate() throws Exception {
+        String segmentName = "foo_recreate";
+        try (Storage s = createStorage()) {
+            s.initialize(DEFAULT_EPOCH);
+            for (int i = 0; i < 3; i++) {
+                byte[] writeData = String.format("Segment_%s_Attempt_%d", segmentName, i).getBytes();
+                val writeHandle = s.create(segmentName, TIMEOUT).thenCompose(v -> s.openWrite(segmentName)).join();
+                s.write(writeHandle, 0, new ByteArrayInputStream(writeData), writeData.length, TIMEOUT).join();
+
+                byte[] readData = new byte[writeData.length];
+                s.read(writeHandle, 0, readData, 0, readData.length, TIMEOUT).join();
+                Assert.assertArrayEquals("Unexpected data read back after recreating segment.", writeData, readData);
+                Assert.assertEquals(writeData.length, s.getStreamSegmentInfo(segmentName, TIMEOUT).join().getLength());
+                s.delete(writeHandle, TIMEOUT).join();
+            }
+        }
+    }
+
+    /**
+     * Tests concurrent writes to multiple segments with group sync enabled.
+     *
+     * @throws Exception if an unexpected error occurred.
+     */
+    @Test(timeout = 30000)
+    public void testConcurrentWritesWithGroupSync() throws Exception {
+        this.adapterConfig = FileSystemStorageConfig
+                .builder()
+                .with(FileSystemStorageConfig.ROOT, this.baseDir.getAbsolutePath())
+                .with(FileSystemStorageConfig.GROUP_SYNC, true)
+                .with(FileSystemStorageConfig.CHANNEL_CACHE_SIZE, 2)
+                .build();
+        int segmentCount = 4;
+        int appendCount = 50;
+        try (Storage s = createStorage()) {
+            s.initialize(DEFAULT_EPOCH);
+            val futures = new ArrayList<CompletableFuture<Void>>();
+            for (int i = 0; i < segmentCount; i++) {
+                String segmentName = "foo_group_sync_" + i;
+                val writeHandle = s.create(segmentName, TIMEOUT).thenCompose(v -> s.openWrite(segmentName)).join();
+                futures.add(CompletableFuture.runAsync(() -> {
+                    long offset = 0;
+                    for (int j = 0; j < appendCount; j++) {
+                        byte[] writeData = String.format("Segment_%s_Append_%d", segmentName, j).getBytes();
+                        s.write(writeHandle, offset, new ByteArrayInputStream(writeData), writeData.length, TIMEOUT).join();
+                        offset += writeData.length;
+                    }
+                }, executorService()));
+            }
+
+            Futures.allOf(futures).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            for (int i = 0; i < segmentCount; i++) {
+                String segmentName = "foo_group_sync_" + i;
+                long expectedLength = 0;
+                for (int j = 0; j < appendCount; j++) {
+                    expectedLength += String.format("Segment_%s_Append_%d", segmentName, j).length();
+                }
+
+                Assert.assertEquals("Unexpected length for " + segmentName, expectedLength,
+                        s.getStreamSegmentInfo(segmentName, TIMEOUT).join().getLength());
+            }
+        }
+    }
+
+    /**
+     * Tests reading into {@link BufferView}s with memory-mapped reads enabled. Sealed segments should be memory-mapped,
+     * while non-sealed ones should be read into a new buffer.
+     *
+     * @throws Exception if an unexpected error occurred.
+     */
+    @Test(timeout = 30000)
+    public void testMappedReads() throws Exception {
+        this.adapterConfig = FileSystemStorageConfig
+                .builder()
+                .with(FileSystemStorageConfig.ROOT, this.baseDir.getAbsolutePath())
+                .with(FileSystemStorageConfig.MAPPED_READS, true)
+                .build();
+        String segmentName = "foo_mapped_read";
+        byte[] writeData = new byte[10000];
+        new Random(0).nextBytes(writeData);
+        try (FileSystemStorage s = new FileSystemStorage(this.adapterConfig)) {
+            s.initialize(DEFAULT_EPOCH);
+            val writeHandle = s.create(segmentName);
+            s.write(writeHandle, 0, new ByteArrayInputStream(writeData), writeData.length);
+
+            // Not sealed yet.
+            BufferView readData = s.read(s.openRead(segmentName), 100, 1000);
+            Assert.assertTrue("Not expecting a non-sealed segment to be memory-mapped.", readData instanceof ByteArraySegment);
+            AssertExtensions.assertArrayEquals("Unexpected data read from non-sealed segment.",
+                    writeData, 100, readData.getCopy(), 0, readData.getLength());
+
+            // Sealed.
+            s.seal(writeHandle);
+            val readHandle = s.openRead(segmentName);
+            readData = s.read(readHandle, 0, writeData.length);
+            Assert.assertFalse("Expecting a sealed segment to be memory-mapped.", readData instanceof ByteArraySegment);
+            Assert.assertArrayEquals("Unexpected data read from sealed segment.", writeData, readData.getCopy());
+            readData = s.read(readHandle, 1234, 5678);
+            AssertExtensions.assertArrayEquals("Unexpected data read from sealed segment (partial).",
+                    writeData, 1234, readData.getCopy(), 0, readData.getLength());
+            AssertExtensions.assertThrows(
+                    "read() did not throw for a read beyond the end of the segment.",
+                    () -> s.read(readHandle, writeData.length - 10, 11),
+                    ex -> ex instanceof IllegalArgumentException);
+
+            // The mapping should still be readable after the segment was deleted.
+            s.delete(writeHandle);
+            Assert.assertArrayEquals("Unexpected data read from mapping after deletion.",
+                    Arrays.copyOfRange(writeData, 1234, 1234 + 5678), readData.getCopy());
+        }
+    }
+
     @Override
     protected Storage createStorage() {
         return new AsyncStorageWrapper(new FileSystemStorage(this.adapterConfig), executorService());
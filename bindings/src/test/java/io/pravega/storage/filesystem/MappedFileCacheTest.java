@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.storage.filesystem;
+
+import io.pravega.common.io.FileHelpers;
+import io.pravega.test.common.AssertExtensions;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.val;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Unit tests for the {@link MappedFileCache} class.
+ */
+public class MappedFileCacheTest {
+    private static final int FILE_COUNT = 3;
+    private static final int FILE_SIZE = 100;
+    @Rule
+    public Timeout globalTimeout = Timeout.seconds(10);
+    private File baseDir;
+    private Path[] files;
+    private AtomicInteger mapCount;
+
+    @Before
+    public void setUp() throws Exception {
+        this.baseDir = Files.createTempDirectory("test_mapped_file_cache").toFile().getAbsoluteFile();
+        this.files = new Path[FILE_COUNT];
+        for (int i = 0; i < FILE_COUNT; i++) {
+            byte[] contents = new byte[FILE_SIZE];
+            for (int j = 0; j < contents.length; j++) {
+                contents[j] = (byte) (i + j);
+            }
+
+            this.files[i] = Files.write(this.baseDir.toPath().resolve("file" + i), contents);
+        }
+
+        this.mapCount = new AtomicInteger();
+    }
+
+    @After
+    public void tearDown() {
+        FileHelpers.deleteFileOrDirectory(this.baseDir);
+    }
+
+    /**
+     * Tests that each file is mapped only once, that the least recently used mappings are evicted when the cache is full
+     * and that invalidated mappings are not reused.
+     */
+    @Test
+    public void testReuseAndEviction() throws Exception {
+        val cache = new MappedFileCache(2, this::map);
+        checkRange(cache.get(this.files[0], 10, 20), 0, 10, 20);
+        checkRange(cache.get(this.files[0], 50, 50), 0, 50, 50);
+        checkRange(cache.get(this.files[1], 0, FILE_SIZE), 1, 0, FILE_SIZE);
+        Assert.assertEquals("Expected each file to be mapped once.", 2, this.mapCount.get());
+
+        // File 1 is the least recently used one, so it should be evicted.
+        cache.get(this.files[0], 0, 1);
+        cache.get(this.files[2], 0, 1);
+        Assert.assertEquals(2, cache.size());
+        cache.get(this.files[0], 0, 1);
+        Assert.assertEquals(3, this.mapCount.get());
+        cache.get(this.files[1], 0, 1);
+        Assert.assertEquals("Expected an evicted file to be mapped again.", 4, this.mapCount.get());
+
+        // Invalidation.
+        cache.invalidate(this.files[1]);
+        Assert.assertEquals(1, cache.size());
+        checkRange(cache.get(this.files[1], 5, 5), 1, 5, 5);
+        Assert.assertEquals("Expected an invalidated file to be mapped again.", 5, this.mapCount.get());
+
+        AssertExtensions.assertThrows(
+                "get() did not throw for a range beyond the end of the file.",
+                () -> cache.get(this.files[0], FILE_SIZE - 10, 11),
+                ex -> ex instanceof IllegalArgumentException);
+    }
+
+    /**
+     * Tests that a file that is invalidated while it is being mapped is not cached.
+     */
+    @Test
+    public void testInvalidateWhileMapping() throws Exception {
+        val cache = new MappedFileCache[1];
+        cache[0] = new MappedFileCache(2, path -> {
+            cache[0].invalidate(this.files[2]);
+            return map(path);
+        });
+
+        checkRange(cache[0].get(this.files[0], 0, FILE_SIZE), 0, 0, FILE_SIZE);
+        Assert.assertEquals("Not expecting a mapping to be cached if invalidated concurrently.", 0, cache[0].size());
+    }
+
+    private void checkRange(ByteBuffer data, int fileIndex, int offset, int length) {
+        Assert.assertEquals("Unexpected length.", length, data.remaining());
+        for (int i = 0; i < length; i++) {
+            Assert.assertEquals("Unexpected data at offset " + (offset + i), (byte) (fileIndex + offset + i), data.get(i));
+        }
+    }
+
+    private MappedByteBuffer map(Path path) throws IOException {
+        this.mapCount.incrementAndGet();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
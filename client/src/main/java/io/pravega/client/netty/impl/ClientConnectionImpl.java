@@ -14,7 +14,6 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelPromise;
-import io.netty.channel.EventLoop;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.ImmediateEventExecutor;
 import io.netty.util.concurrent.PromiseCombiner;
@@ -74,7 +73,6 @@ public class ClientConnectionImpl implements ClientConnection {
 
     private void write(Append cmd) throws ConnectionFailedException {
         Channel channel = nettyHandler.getChannel();
-        EventLoop eventLoop = channel.eventLoop();
         ChannelPromise promise = channel.newPromise();
         promise.addListener(new ChannelFutureListener() {
             @Override
@@ -87,7 +85,8 @@ public class ClientConnectionImpl implements ClientConnection {
             }
         });
         // Work around for https://github.com/netty/netty/issues/3246
-        eventLoop.execute(() -> {
+        // If the write cannot be scheduled, the promise's listener will never run, so the throttle is released right away.
+        nettyHandler.enqueueWrite(channel, () -> {
             try {
                 if (!closed.get()) {
                     channel.write(cmd, promise);
@@ -95,13 +94,12 @@ public class ClientConnectionImpl implements ClientConnection {
             } catch (Exception e) {
                 channel.pipeline().fireExceptionCaught(e);
             }
-        });
+        }, false, e -> throttle.release(cmd.getDataLength()));
         Exceptions.handleInterrupted(() -> throttle.acquire(cmd.getDataLength()));
     }
     
     private void write(WireCommand cmd) throws ConnectionFailedException {
         Channel channel = nettyHandler.getChannel();
-        EventLoop eventLoop = channel.eventLoop();
         ChannelPromise promise = channel.newPromise();
         promise.addListener(new ChannelFutureListener() {
             @Override
@@ -113,7 +111,7 @@ public class ClientConnectionImpl implements ClientConnection {
             }
         });
         // Work around for https://github.com/netty/netty/issues/3246
-        eventLoop.execute(() -> {
+        nettyHandler.enqueueWrite(channel, () -> {
             try {
                 if (!closed.get()) {
                     channel.write(cmd, promise);
@@ -121,7 +119,7 @@ public class ClientConnectionImpl implements ClientConnection {
             } catch (Exception e) {
                 channel.pipeline().fireExceptionCaught(e);
             }
-        });
+        }, false, promise::tryFailure);
     }
     
     @Override
@@ -131,15 +129,24 @@ public class ClientConnectionImpl implements ClientConnection {
             checkClientConnectionClosed();
             channel = nettyHandler.getChannel();
             log.debug("Write and flush message {} on channel {}", cmd, channel);
-            channel.writeAndFlush(cmd)
-                   .addListener((Future<? super Void> f) -> {
-                       nettyHandler.setRecentMessage();
-                       if (f.isSuccess()) {
-                           callback.complete(null);
-                       } else {
-                           callback.complete(new ConnectionFailedException(f.cause()));
-                       }
-                   });
+            final Channel ch = channel;
+            ChannelPromise promise = ch.newPromise();
+            promise.addListener((Future<? super Void> f) -> {
+                nettyHandler.setRecentMessage();
+                if (f.isSuccess()) {
+                    callback.complete(null);
+                } else {
+                    callback.complete(new ConnectionFailedException(f.cause()));
+                }
+            });
+            // Queued along with the other writes on this connection so that it cannot overtake any previous send().
+            nettyHandler.enqueueWrite(ch, () -> {
+                try {
+                    ch.write(cmd, promise);
+                } catch (Exception e) {
+                    promise.tryFailure(e);
+                }
+            }, true, e -> callback.complete(new ConnectionFailedException(e)));
         } catch (ConnectionFailedException cfe) {
             log.debug("ConnectionFailedException observed when attempting to write WireCommand {} ", cmd);
             callback.complete(cfe);
@@ -159,18 +166,23 @@ public class ClientConnectionImpl implements ClientConnection {
             callback.complete(new ConnectionFailedException("Connection to " + connectionName + " is not established."));
             return;
         }
-        PromiseCombiner combiner = new PromiseCombiner(ImmediateEventExecutor.INSTANCE);
-        for (Append append : appends) {
-            combiner.add(ch.write(append));
-        }
-        ch.flush();
         ChannelPromise promise = ch.newPromise();
         promise.addListener(future -> {
             nettyHandler.setRecentMessage();
             Throwable cause = future.cause();
             callback.complete(cause == null ? null : new ConnectionFailedException(cause));
         });
-        combiner.finish(promise);
+        nettyHandler.enqueueWrite(ch, () -> {
+            try {
+                PromiseCombiner combiner = new PromiseCombiner(ImmediateEventExecutor.INSTANCE);
+                for (Append append : appends) {
+                    combiner.add(ch.write(append));
+                }
+                combiner.finish(promise);
+            } catch (Exception e) {
+                promise.tryFailure(e);
+            }
+        }, true, e -> callback.complete(new ConnectionFailedException(e)));
     }
 
     @Override
@@ -47,23 +47,18 @@ import io.pravega.shared.protocol.netty.PravegaNodeUri;
 import io.pravega.shared.protocol.netty.ReplyProcessor;
 import io.pravega.shared.protocol.netty.WireCommands;
 import java.io.File;
-import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
-import javax.annotation.concurrent.GuardedBy;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
 import javax.net.ssl.SSLParameters;
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Synchronized;
 import lombok.extern.slf4j.Slf4j;
 
 import static io.pravega.shared.metrics.MetricNotifier.NO_OP_METRIC_NOTIFIER;
@@ -86,8 +81,11 @@ public class ConnectionPoolImpl implements ConnectionPool {
     @VisibleForTesting
     @Getter(AccessLevel.PACKAGE)
     private final ChannelGroup channelGroup = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
-    @GuardedBy("$lock")
-    private final Map<PravegaNodeUri, List<Connection>> connectionMap = new HashMap<>();
+    /**
+     * Connections to each Segment Store, each with a fixed number of slots (ClientConfig#getMaxConnectionsPerSegmentStore)
+     * which are populated lazily. Flows are spread across these slots by hashing their ids.
+     */
+    private final ConcurrentHashMap<PravegaNodeUri, AtomicReferenceArray<Connection>> connectionMap = new ConcurrentHashMap<>();
 
     public ConnectionPoolImpl(ClientConfig clientConfig) {
         this.clientConfig = clientConfig;
@@ -98,44 +96,24 @@ public class ConnectionPoolImpl implements ConnectionPool {
     }
 
     @Override
-    @Synchronized
     public CompletableFuture<ClientConnection> getClientConnection(Flow flow, PravegaNodeUri location, ReplyProcessor rp) {
         Preconditions.checkNotNull(flow, "Flow");
         Preconditions.checkNotNull(location, "Location");
         Preconditions.checkNotNull(rp, "ReplyProcessor");
         Exceptions.checkNotClosed(closed.get(), this);
 
-        final List<Connection> connectionList = connectionMap.getOrDefault(location, new ArrayList<>());
-
-        // remove connections for which the underlying network connection is disconnected.
-        List<Connection> prunedConnectionList = connectionList.stream().filter(connection -> {
-            // Filter out Connection objects which have been completed exceptionally or have been disconnected.
-            return !connection.getConnected().isDone() || (Futures.isSuccessful(connection.getConnected()) && connection.getFlowHandler().isConnectionEstablished());
-        }).collect(Collectors.toList());
-        log.debug("List of connections to {} that can be used: {}", location, prunedConnectionList);
+        final AtomicReferenceArray<Connection> slots = connectionMap.computeIfAbsent(location,
+                l -> new AtomicReferenceArray<>(clientConfig.getMaxConnectionsPerSegmentStore()));
+        Connection connection;
+        do {
+            connection = getOrCreateConnection(flow, location, slots);
+        } while (connection == null);
 
-        // Choose the connection with the least number of flows.
-        Optional<Connection> suggestedConnection = prunedConnectionList.stream().min(COMPARATOR);
-
-        final Connection connection;
-        if (suggestedConnection.isPresent() && (prunedConnectionList.size() >= clientConfig.getMaxConnectionsPerSegmentStore() || isUnused(suggestedConnection.get()))) {
-            log.info("Reusing connection: {}", suggestedConnection.get());
-            connection = suggestedConnection.get();
-        } else {
-            // create a new connection.
-            log.info("Creating a new connection to {}", location);
-            final FlowHandler handler = new FlowHandler(location.getEndpoint(), metricNotifier);
-            CompletableFuture<Void> establishedFuture = establishConnection(location, handler);
-            connection = new Connection(location, handler, establishedFuture);
-            prunedConnectionList.add(connection);
-        }
         ClientConnection result = connection.getFlowHandler().createFlow(flow, rp);
-        connectionMap.put(location, prunedConnectionList);
         return connection.getConnected().thenApply(v -> result);
     }
 
     @Override
-    @Synchronized
     public CompletableFuture<ClientConnection> getClientConnection(PravegaNodeUri location, ReplyProcessor rp) {
         Preconditions.checkNotNull(location, "Location");
         Preconditions.checkNotNull(rp, "ReplyProcessor");
@@ -149,22 +127,84 @@ public class ConnectionPoolImpl implements ConnectionPool {
         return connectedFuture.thenApply(v -> result);
     }
 
+    /**
+     * Picks a {@link Connection} for the given {@link Flow} among the ones to the given location:
+     * 1. An established connection that has no flows, if any.
+     * 2. Otherwise, a new connection, if there is a free slot (or one whose connection has been dropped).
+     * 3. Otherwise, the connection in the slot that the flow id hashes to, if established, or the least loaded one.
+     *
+     * @return The {@link Connection}, or null if a new connection was concurrently created in the chosen slot by someone
+     * else (in which case the caller should try again).
+     */
+    private Connection getOrCreateConnection(Flow flow, PravegaNodeUri location, AtomicReferenceArray<Connection> slots) {
+        final int slotCount = slots.length();
+        final int hashedSlot = Math.floorMod(flow.getFlowId(), slotCount);
+        int freeSlot = -1;
+        Connection leastLoaded = null;
+        for (int i = 0; i < slotCount; i++) {
+            int slot = (hashedSlot + i) % slotCount;
+            Connection connection = slots.get(slot);
+            if (connection == null || isDisconnected(connection)) {
+                if (freeSlot < 0) {
+                    freeSlot = slot;
+                }
+            } else if (isUnused(connection)) {
+                log.info("Reusing connection: {}", connection);
+                return connection;
+            } else if (leastLoaded == null || COMPARATOR.compare(connection, leastLoaded) < 0) {
+                leastLoaded = connection;
+            }
+        }
+
+        if (freeSlot >= 0) {
+            return createConnection(location, slots, freeSlot);
+        }
+
+        Connection hashed = slots.get(hashedSlot);
+        return hashed != null && Futures.isSuccessful(hashed.getConnected()) ? hashed : leastLoaded;
+    }
+
+    /**
+     * Creates a new {@link Connection} in the given slot, provided that the slot is still free (or its connection has
+     * been dropped). Only the thread that manages to claim the slot actually connects, so concurrent requests for the
+     * same slot never result in multiple network connections.
+     *
+     * @return The new {@link Connection}, or null if the slot has been taken by someone else in the meantime.
+     */
+    private Connection createConnection(PravegaNodeUri location, AtomicReferenceArray<Connection> slots, int slot) {
+        final Connection old = slots.get(slot);
+        final FlowHandler handler = new FlowHandler(location.getEndpoint(), metricNotifier,
+                location.getEndpoint() + ":" + location.getPort() + "-" + slot);
+        final Connection connection = new Connection(location, handler, new CompletableFuture<>());
+        if ((old != null && !isDisconnected(old)) || !slots.compareAndSet(slot, old, connection)) {
+            return null;
+        }
+
+        log.info("Creating a new connection to {}", location);
+        Futures.completeAfter(() -> establishConnection(location, handler), connection.getConnected());
+        return connection;
+    }
+
     private boolean isUnused(Connection connection) {
         return Futures.isSuccessful(connection.getConnected()) && connection.getFlowCount() == 0;
     }
 
+    private boolean isDisconnected(Connection connection) {
+        // Connections which have failed to connect or whose underlying network connection has been dropped.
+        return connection.getConnected().isCompletedExceptionally()
+                || (connection.getConnected().isDone() && !connection.getFlowHandler().isConnectionEstablished());
+    }
+
     /**
      * Used only for testing.
      */
     @VisibleForTesting
-    @Synchronized
     public void pruneUnusedConnections() {
-        for (List<Connection> connections : connectionMap.values()) {
-            for (Iterator<Connection> iterator = connections.iterator(); iterator.hasNext();) {
-                Connection connection = iterator.next();
-                if (isUnused(connection)) {
+        for (AtomicReferenceArray<Connection> slots : connectionMap.values()) {
+            for (int i = 0; i < slots.length(); i++) {
+                Connection connection = slots.get(i);
+                if (connection != null && isUnused(connection) && slots.compareAndSet(i, connection, null)) {
                     connection.getFlowHandler().close();
-                    iterator.remove();
                 }
             }
         }
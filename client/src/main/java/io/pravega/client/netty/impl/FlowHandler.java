@@ -32,11 +32,15 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import static io.pravega.shared.NameUtils.connectionTags;
 import static io.pravega.shared.NameUtils.writerTags;
+import static io.pravega.shared.metrics.ClientMetricKeys.CLIENT_CONNECTION_FLOW_COUNT;
+import static io.pravega.shared.metrics.ClientMetricKeys.CLIENT_CONNECTION_QUEUE_DEPTH;
 import static io.pravega.shared.metrics.ClientMetricKeys.CLIENT_OUTSTANDING_APPEND_COUNT;
 
 @Slf4j
@@ -44,6 +48,7 @@ public class FlowHandler extends ChannelInboundHandlerAdapter implements AutoClo
     private static final int KEEP_ALIVE_TIMEOUT_SECONDS = 20;
     private static final int FLOW_DISABLED = 0;
     private final String connectionName;
+    private final String[] connectionTags;
     @Getter
     private final MetricNotifier metricNotifier;
     private final AtomicReference<Channel> channel = new AtomicReference<>();
@@ -61,14 +66,29 @@ public class FlowHandler extends ChannelInboundHandlerAdapter implements AutoClo
     private final ConcurrentHashMap<Integer, AppendBatchSizeTracker> flowIDBatchSizeTrackerMap = new ConcurrentHashMap<>();
 
     private final AtomicBoolean disableFlow = new AtomicBoolean(false);
+    private final OutboundQueue outboundQueue;
 
     public FlowHandler(String connectionName) {
         this(connectionName, MetricNotifier.NO_OP_METRIC_NOTIFIER);
     }
 
     public FlowHandler(String connectionName, MetricNotifier updateMetric) {
+        this(connectionName, updateMetric, connectionName);
+    }
+
+    /**
+     * Creates a new instance of the FlowHandler class.
+     *
+     * @param connectionName The name of the connection (typically the endpoint it connects to).
+     * @param updateMetric   The {@link MetricNotifier} to report connection metrics to.
+     * @param connectionId   The id to tag connection metrics with. This should be stable across reconnects (i.e., the
+     *                       connection pool slot rather than a unique id), so that the number of metrics remains bounded.
+     */
+    public FlowHandler(String connectionName, MetricNotifier updateMetric, String connectionId) {
         this.connectionName = connectionName;
         this.metricNotifier = updateMetric;
+        this.connectionTags = connectionTags(connectionId);
+        this.outboundQueue = new OutboundQueue(this::reportQueueDepth);
     }
 
     /**
@@ -86,6 +106,7 @@ public class FlowHandler extends ChannelInboundHandlerAdapter implements AutoClo
             throw new IllegalArgumentException("Multiple flows cannot be created with the same Flow id " + flowID);
         }
         createAppendBatchSizeTrackerIfNeeded(flowID);
+        reportFlowCount();
         return new ClientConnectionImpl(connectionName, flowID, this);
     }
 
@@ -114,6 +135,7 @@ public class FlowHandler extends ChannelInboundHandlerAdapter implements AutoClo
         log.info("Closing Flow {} for endpoint {}", flow, clientConnectionImpl.getConnectionName());
         flowIdReplyProcessorMap.remove(flow);
         flowIDBatchSizeTrackerMap.remove(flow);
+        reportFlowCount();
         if (flow == FLOW_DISABLED) {
             // close the channel immediately since this netty channel will not be reused by other flows.
             close();
@@ -158,6 +180,28 @@ public class FlowHandler extends ChannelInboundHandlerAdapter implements AutoClo
         return flowIdReplyProcessorMap.size();
     }
     
+    /**
+     * Returns the number of writes (from all flows) that are waiting to be executed on this connection.
+     * @return Outbound queue size.
+     */
+    public int getOutboundQueueSize() {
+        return outboundQueue.size();
+    }
+
+    /**
+     * Queues a write on this connection. Writes from all the flows on this connection are executed, in order, in batches
+     * on the channel's event loop; see {@link OutboundQueue}.
+     *
+     * @param channel   The {@link Channel} to write to (obtained via {@link #getChannel()}).
+     * @param write     A Runnable that performs the write. This should not flush the channel.
+     * @param flush     True if the channel should be flushed after this write.
+     * @param onFailure Invoked (instead of executing the write) if the write could not be scheduled on the channel's
+     *                  event loop (i.e., because it has been shut down).
+     */
+    void enqueueWrite(Channel channel, Runnable write, boolean flush, Consumer<Throwable> onFailure) {
+        outboundQueue.add(channel, write, flush, onFailure);
+    }
+
     /**
      * Check the current status of Connection.
      * @return True if the connection is established.
@@ -350,6 +394,19 @@ public class FlowHandler extends ChannelInboundHandlerAdapter implements AutoClo
         }
     }
 
+    private void reportFlowCount() {
+        // Only publish client side metrics when there is some metrics notifier configured for efficiency.
+        if (!metricNotifier.equals(MetricNotifier.NO_OP_METRIC_NOTIFIER)) {
+            metricNotifier.updateSuccessMetric(CLIENT_CONNECTION_FLOW_COUNT, connectionTags, flowIdReplyProcessorMap.size());
+        }
+    }
+
+    private void reportQueueDepth(int queueDepth) {
+        if (!metricNotifier.equals(MetricNotifier.NO_OP_METRIC_NOTIFIER)) {
+            metricNotifier.updateSuccessMetric(CLIENT_CONNECTION_QUEUE_DEPTH, connectionTags, queueDepth);
+        }
+    }
+
     private Optional<ReplyProcessor> getReplyProcessor(Reply cmd) {
         int flowId = disableFlow.get() ? FLOW_DISABLED : Flow.toFlowID(cmd.getRequestId());
         final ReplyProcessor processor = flowIdReplyProcessorMap.get(flowId);
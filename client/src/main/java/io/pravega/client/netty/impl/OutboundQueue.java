@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.netty.impl;
+
+import io.netty.channel.Channel;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coordinates the writes of all the flows that share a single network connection (see {@link FlowHandler}).
+ *
+ * Writes are queued (in order) and executed on the channel's event loop by a single drain task, which is only scheduled
+ * when the queue goes from empty to non-empty. When many flows write concurrently, their writes are executed in batches
+ * (instead of scheduling one event loop task per write) and all the flushes requested within a batch are coalesced into
+ * a single flush at the end of it. Since all writes go through the same queue, the order in which they are executed is
+ * the order in which they were added, regardless of whether they require a flush or not.
+ *
+ * If the drain task cannot be scheduled (i.e., the event loop has been shut down), every queued write is failed (see
+ * {@link #add}) instead of being executed, so that no caller is left waiting on a write that will never happen.
+ */
+@Slf4j
+@ThreadSafe
+@RequiredArgsConstructor
+class OutboundQueue {
+    private final ConcurrentLinkedQueue<PendingWrite> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    /**
+     * Invoked (on the event loop) with the number of writes at the beginning of each batch.
+     */
+    private final IntConsumer batchListener;
+
+    /**
+     * Queues the given write. It will be executed on the given channel's event loop after all the previously queued writes.
+     *
+     * @param channel   The channel the write is for.
+     * @param write     A Runnable that performs the write. This should not flush the channel.
+     * @param flush     True if the channel should be flushed after this write (and any other writes in the same batch).
+     * @param onFailure Invoked (instead of executing the write) with the cause if the write could not be scheduled on
+     *                  the channel's event loop. This may be invoked on any thread that calls this method.
+     */
+    void add(Channel channel, Runnable write, boolean flush, Consumer<Throwable> onFailure) {
+        this.queue.add(new PendingWrite(channel, write, flush, onFailure));
+        if (this.size.getAndIncrement() == 0) {
+            // We are the first ones in; nobody else is draining the queue.
+            try {
+                channel.eventLoop().execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                // Nobody will ever drain the queue, and other writes may have been queued behind ours in the meantime.
+                log.warn("Unable to schedule writes on channel {}; failing all queued writes.", channel, ex);
+                failAll(ex);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of writes that are currently queued.
+     *
+     * @return The number of writes.
+     */
+    int size() {
+        return this.size.get();
+    }
+
+    private void drain() {
+        int count = this.size.get();
+        while (count > 0) {
+            this.batchListener.accept(count);
+            Channel toFlush = null;
+            for (int i = 0; i < count; i++) {
+                // Every write is added to the queue before the size is incremented, so this will never be null.
+                PendingWrite w = this.queue.poll();
+                try {
+                    w.write.run();
+                } catch (Exception ex) {
+                    log.warn("Unable to execute write on channel {}.", w.channel, ex);
+                }
+
+                if (w.flush) {
+                    toFlush = w.channel;
+                }
+            }
+
+            if (toFlush != null) {
+                toFlush.flush();
+            }
+
+            count = this.size.addAndGet(-count);
+        }
+    }
+
+    private void failAll(Throwable cause) {
+        // Same as drain(), except that it fails the writes instead of executing them. Once the size is back to 0, the next
+        // call to add() will attempt to schedule a new drain task.
+        int count = this.size.get();
+        while (count > 0) {
+            for (int i = 0; i < count; i++) {
+                PendingWrite w = this.queue.poll();
+                try {
+                    w.onFailure.accept(cause);
+                } catch (Exception ex) {
+                    log.warn("Unable to fail write on channel {}.", w.channel, ex);
+                }
+            }
+
+            count = this.size.addAndGet(-count);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class PendingWrite {
+        final Channel channel;
+        final Runnable write;
+        final boolean flush;
+        final Consumer<Throwable> onFailure;
+    }
+}
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import javax.annotation.concurrent.GuardedBy;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -37,6 +38,7 @@ public class RawClient implements AutoCloseable {
 
     private final CompletableFuture<ClientConnection> connection;
     private final Segment segmentId;
+    private final Consumer<Hello> helloListener;
 
     private final Object lock = new Object();
     @GuardedBy("lock")
@@ -64,6 +66,12 @@ public class RawClient implements AutoCloseable {
             }
         }
 
+        @Override
+        public void hello(Hello hello) {
+            super.hello(hello);
+            helloListener.accept(hello);
+        }
+
         @Override
         public void connectionDropped() {
             closeConnection(new ConnectionFailedException());
@@ -83,13 +91,28 @@ public class RawClient implements AutoCloseable {
     }
 
     public RawClient(PravegaNodeUri uri, ConnectionFactory connectionFactory) {
+        this(uri, connectionFactory, hello -> { });
+    }
+
+    /**
+     * Creates a new instance of the RawClient class.
+     *
+     * @param uri               The endpoint to connect to.
+     * @param connectionFactory The ConnectionFactory to use.
+     * @param helloListener     Invoked with every {@link Hello} received from the server. Note that if the underlying
+     *                          connection is shared with other Flows, the server may have already sent its Hello by the
+     *                          time this client is registered, in which case this will not be invoked.
+     */
+    public RawClient(PravegaNodeUri uri, ConnectionFactory connectionFactory, Consumer<Hello> helloListener) {
         this.segmentId = null;
+        this.helloListener = helloListener;
         this.connection = connectionFactory.establishConnection(flow, uri, responseProcessor);
         Futures.exceptionListener(connection, e -> closeConnection(e));
     }
 
     public RawClient(Controller controller, ConnectionFactory connectionFactory, Segment segmentId) {
         this.segmentId = segmentId;
+        this.helloListener = hello -> { };
         this.connection = controller.getEndpointForSegment(segmentId.getScopedName())
                                     .thenCompose((PravegaNodeUri uri) -> connectionFactory.establishConnection(flow, uri, responseProcessor));
         Futures.exceptionListener(connection, e -> closeConnection(e));
@@ -51,6 +51,8 @@ class AsyncSegmentInputStreamImpl extends AsyncSegmentInputStream {
     @GuardedBy("lock")
     private CompletableFuture<ClientConnection> connection = null;
     @GuardedBy("lock")
+    private PravegaNodeUri endpoint = null;
+    @GuardedBy("lock")
     private final Map<Long, CompletableFuture<WireCommands.SegmentRead>> outstandingRequests = new HashMap<>();
 
     private final ResponseProcessor responseProcessor = new ResponseProcessor();
@@ -61,6 +63,12 @@ class AsyncSegmentInputStreamImpl extends AsyncSegmentInputStream {
     @Getter
     private final long requestId = Flow.create().asLong();
     private final Semaphore replyAvailable;
+    private final SegmentReadBatcher readBatcher;
+    /**
+     * Whether the last read reached the tail of the Segment. Reads at the tail are not batched, since the Segment Store
+     * would not wait for new data when serving them as part of a batch.
+     */
+    private volatile boolean atTail = false;
 
     private final class ResponseProcessor extends FailingReplyProcessor {
 
@@ -72,6 +80,20 @@ class AsyncSegmentInputStreamImpl extends AsyncSegmentInputStream {
             }
         }
         
+        @Override
+        public void hello(WireCommands.Hello hello) {
+            super.hello(hello);
+            if (readBatcher != null) {
+                PravegaNodeUri uri;
+                synchronized (lock) {
+                    uri = endpoint;
+                }
+                if (uri != null) {
+                    readBatcher.setServerVersion(uri, hello.getHighVersion());
+                }
+            }
+        }
+
         @Override
         public void connectionDropped() {
             closeConnection(new ConnectionFailedException());
@@ -153,6 +175,22 @@ class AsyncSegmentInputStreamImpl extends AsyncSegmentInputStream {
 
     public AsyncSegmentInputStreamImpl(Controller controller, ConnectionFactory connectionFactory, Segment segment,
                                        DelegationTokenProvider tokenProvider, Semaphore dataAvailable) {
+        this(controller, connectionFactory, segment, tokenProvider, dataAvailable, null);
+    }
+
+    /**
+     * Creates a new instance of the AsyncSegmentInputStreamImpl class.
+     *
+     * @param controller        The Controller to use.
+     * @param connectionFactory The ConnectionFactory to use.
+     * @param segment           The Segment to read from.
+     * @param tokenProvider     The DelegationTokenProvider to use.
+     * @param dataAvailable     A Semaphore to release whenever a reply is received (may be null).
+     * @param readBatcher       A SegmentReadBatcher (shared with other readers) that reads will be attempted through
+     *                          before being sent individually. May be null (in which case reads are never batched).
+     */
+    AsyncSegmentInputStreamImpl(Controller controller, ConnectionFactory connectionFactory, Segment segment,
+                                DelegationTokenProvider tokenProvider, Semaphore dataAvailable, SegmentReadBatcher readBatcher) {
         super(segment);
         this.tokenProvider = tokenProvider;
         Preconditions.checkNotNull(controller);
@@ -161,6 +199,7 @@ class AsyncSegmentInputStreamImpl extends AsyncSegmentInputStream {
         this.controller = controller;
         this.connectionFactory = connectionFactory;
         this.replyAvailable = dataAvailable;
+        this.readBatcher = readBatcher;
     }
 
     @Override
@@ -179,7 +218,8 @@ class AsyncSegmentInputStreamImpl extends AsyncSegmentInputStream {
     @Override
     public CompletableFuture<SegmentRead> read(long offset, int length) {
         Exceptions.checkNotClosed(closed.get(), this);
-        return backoffSchedule.retryWhen(t -> {
+        AtomicBoolean servedByBatch = new AtomicBoolean(false);
+        CompletableFuture<SegmentRead> result = backoffSchedule.retryWhen(t -> {
             Throwable ex = Exceptions.unwrap(t);
             if (closed.get()) {
                 log.debug("Exception: {} while reading from Segment : {}", ex.toString(), segmentId);
@@ -190,21 +230,63 @@ class AsyncSegmentInputStreamImpl extends AsyncSegmentInputStream {
         }).runAsync(() -> this.tokenProvider.retrieveToken().thenComposeAsync(token -> {
             final WireCommands.ReadSegment request = new WireCommands.ReadSegment(segmentId.getScopedName(), offset, length,
                     token, requestId);
-            return getConnection()
-                    .whenComplete((connection1, ex) -> {
-                        if (ex != null) {
-                            log.warn("Exception while establishing connection with Pravega node {}: ", connection1,  ex);
-                            closeConnection(new ConnectionFailedException(ex));
-                        }
-                    }).thenCompose(c -> sendRequestOverConnection(request, c)
-                            .whenComplete((reply, ex) -> {
-                                if (ex instanceof ConnectionFailedException) {
-                                    log.debug("ConnectionFailedException observed when sending request {}", request, ex);
-                                    closeConnection((ConnectionFailedException) ex);
-                                }
-                            })
-                    );
+            return readBatched(request).thenCompose(reply -> {
+                if (reply != null) {
+                    servedByBatch.set(true);
+                    return CompletableFuture.completedFuture(reply);
+                }
+                return readIndividually(request);
+            });
         }, connectionFactory.getInternalExecutor()), connectionFactory.getInternalExecutor());
+        result.thenAccept(reply -> atTail = reply.isAtTail());
+        if (replyAvailable != null) {
+            // Replies to batched reads do not go through our ResponseProcessor, so we need to signal them here.
+            result.thenRun(() -> {
+                if (servedByBatch.get()) {
+                    replyAvailable.release();
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Attempts to execute the given request via the {@link SegmentReadBatcher}, if we have one, if the Segment Store
+     * we are connected to supports it and if we are not reading at the tail of the Segment.
+     *
+     * @return A CompletableFuture that will contain the result, or null if the read needs to be sent individually.
+     */
+    private CompletableFuture<SegmentRead> readBatched(WireCommands.ReadSegment request) {
+        PravegaNodeUri uri = null;
+        if (readBatcher != null && !atTail) {
+            synchronized (lock) {
+                if (connection != null && Futures.isSuccessful(connection)) {
+                    uri = endpoint;
+                }
+            }
+        }
+
+        if (uri == null || !readBatcher.isSupported(uri)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return readBatcher.read(uri, request);
+    }
+
+    private CompletableFuture<SegmentRead> readIndividually(WireCommands.ReadSegment request) {
+        return getConnection()
+                .whenComplete((connection1, ex) -> {
+                    if (ex != null) {
+                        log.warn("Exception while establishing connection with Pravega node {}: ", connection1,  ex);
+                        closeConnection(new ConnectionFailedException(ex));
+                    }
+                }).thenCompose(c -> sendRequestOverConnection(request, c)
+                        .whenComplete((reply, ex) -> {
+                            if (ex instanceof ConnectionFailedException) {
+                                log.debug("ConnectionFailedException observed when sending request {}", request, ex);
+                                closeConnection((ConnectionFailedException) ex);
+                            }
+                        })
+                );
     }
         
     private CompletableFuture<SegmentRead> sendRequestOverConnection(WireCommands.ReadSegment request, ClientConnection c) {
@@ -239,6 +321,7 @@ class AsyncSegmentInputStreamImpl extends AsyncSegmentInputStream {
         synchronized (lock) {
             c = connection;
             connection = null;
+            endpoint = null;
         }
         if (c != null && Futures.isSuccessful(c)) {
             try {
@@ -260,6 +343,7 @@ class AsyncSegmentInputStreamImpl extends AsyncSegmentInputStream {
         return controller.getEndpointForSegment(segmentId.getScopedName()).thenCompose((PravegaNodeUri uri) -> {
             synchronized (lock) {
                 if (connection == null) {
+                    endpoint = uri;
                     connection = connectionFactory.establishConnection(Flow.from(requestId), uri, responseProcessor);
                 }
                 return connection;
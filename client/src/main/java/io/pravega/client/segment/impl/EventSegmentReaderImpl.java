@@ -10,10 +10,12 @@
 package io.pravega.client.segment.impl;
 
 import com.google.common.base.Preconditions;
+import io.pravega.client.stream.impl.EventCompression;
 import io.pravega.common.LoggerHelpers;
 import io.pravega.shared.protocol.netty.InvalidMessageException;
 import io.pravega.shared.protocol.netty.WireCommandType;
 import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.shared.protocol.netty.WireCommands.CompressedEvent;
 import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -101,10 +103,12 @@ class EventSegmentReaderImpl implements EventSegmentReader {
         headerReadingBuffer.flip();
         int type = headerReadingBuffer.getInt();
         int length = headerReadingBuffer.getInt();
-        if (type != WireCommandType.EVENT.getCode()) {
+        boolean compressed = type == WireCommandType.COMPRESSED_EVENT.getCode();
+        if (type != WireCommandType.EVENT.getCode() && !compressed) {
             throw new InvalidMessageException("Event was of wrong type: " + type);
         }
-        if (length < 0 || length > WireCommands.MAX_WIRECOMMAND_SIZE) {
+        if (length < 0 || length > WireCommands.MAX_WIRECOMMAND_SIZE
+                || (compressed && length < CompressedEvent.COMPRESSION_HEADER_SIZE)) {
             throw new InvalidMessageException("Event of invalid length: " + length);
         }
         ByteBuffer result = ByteBuffer.allocate(length);
@@ -114,7 +118,16 @@ class EventSegmentReaderImpl implements EventSegmentReader {
             readEventDataFromSegmentInputStream(result);
         }
         result.flip();
-        return result;
+        return compressed ? decompress(result) : result;
+    }
+
+    private ByteBuffer decompress(ByteBuffer compressedEvent) {
+        byte codecId = compressedEvent.get();
+        int uncompressedLength = compressedEvent.getInt();
+        if (uncompressedLength < 0 || uncompressedLength > WireCommands.MAX_WIRECOMMAND_SIZE) {
+            throw new InvalidMessageException("Compressed event of invalid uncompressed length: " + uncompressedLength);
+        }
+        return EventCompression.decompress(codecId, compressedEvent.slice(), uncompressedLength);
     }
 
     private void readEventDataFromSegmentInputStream(ByteBuffer result) throws EndOfSegmentException, SegmentTruncatedException, TimeoutException {
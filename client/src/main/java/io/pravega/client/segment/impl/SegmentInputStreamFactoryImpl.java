@@ -17,14 +17,24 @@ import io.pravega.client.control.impl.Controller;
 import io.pravega.common.MathHelpers;
 import io.pravega.common.concurrent.Futures;
 import java.util.concurrent.Semaphore;
-import lombok.RequiredArgsConstructor;
+import lombok.NonNull;
 
 @VisibleForTesting
-@RequiredArgsConstructor
 public class SegmentInputStreamFactoryImpl implements SegmentInputStreamFactory {
 
     private final Controller controller;
     private final ConnectionFactory cf;
+    /**
+     * Shared by all event readers created by this factory, so that reads for multiple Segments on the same Segment Store
+     * can be combined.
+     */
+    private final SegmentReadBatcher readBatcher;
+
+    public SegmentInputStreamFactoryImpl(@NonNull Controller controller, @NonNull ConnectionFactory cf) {
+        this.controller = controller;
+        this.cf = cf;
+        this.readBatcher = new SegmentReadBatcher(cf);
+    }
 
     @Override
     public EventSegmentReader createEventReaderForSegment(Segment segment) {
@@ -47,7 +57,7 @@ public class SegmentInputStreamFactoryImpl implements SegmentInputStreamFactory
                                                                                                                  .getStreamName()),
                                                                 RuntimeException::new);
         AsyncSegmentInputStreamImpl async = new AsyncSegmentInputStreamImpl(controller, cf, segment,
-                DelegationTokenProviderFactory.create(delegationToken, controller, segment), hasData);
+                DelegationTokenProviderFactory.create(delegationToken, controller, segment), hasData, readBatcher);
         async.getConnection();                      //Sanity enforcement
         bufferSize = MathHelpers.minMax(bufferSize, SegmentInputStreamImpl.MIN_BUFFER_SIZE, SegmentInputStreamImpl.MAX_BUFFER_SIZE);
         return getEventSegmentReader(async, 0, endOffset, bufferSize);
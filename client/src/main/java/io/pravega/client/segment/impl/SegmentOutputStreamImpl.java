@@ -70,6 +70,7 @@ import static com.google.common.base.Preconditions.checkState;
 @Slf4j
 @ToString(of = {"segmentName", "writerId", "state"})
 class SegmentOutputStreamImpl implements SegmentOutputStream {
+    private static final float MAX_ROUTING_KEY_HASH = Math.nextDown(1.0f);
 
     @Getter
     private final String segmentName;
@@ -377,7 +378,8 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
                                                                       1,
                                                                       entry.getValue().getData(),
                                                                       null,
-                                                                      requestId
+                                                                      requestId,
+                                                                      getRoutingKeyHash(entry.getValue())
                                                                       ))
                                              .collect(Collectors.toList());
             ClientConnection connection = state.getConnection();
@@ -475,7 +477,8 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
             }
             long eventNumber = state.addToInflight(event);
             try {
-                Append append = new Append(segmentName, writerId, eventNumber, 1, event.getData(), null, requestId);
+                Append append = new Append(segmentName, writerId, eventNumber, 1, event.getData(), null, requestId,
+                        getRoutingKeyHash(event));
                 log.trace("Sending append request: {}", append);
                 connection.send(append);
             } catch (ConnectionFailedException e) {
@@ -485,6 +488,15 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
         }
     }
 
+    /**
+     * Gets the routing key hash of the given event, which the Segment Store uses to figure out how to split the Segment
+     * if it needs to be scaled up. This is the hash the event was routed by, narrowed to a float; that may round it up
+     * to 1, which is outside of the key space, so it is clamped below that.
+     */
+    private static float getRoutingKeyHash(PendingEvent event) {
+        return Math.min((float) event.getRoutingKeyHash(), MAX_ROUTING_KEY_HASH);
+    }
+
     /**
      * Establish a connection and wait for it to be setup. (Retries built in)
      */
@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.segment.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.pravega.client.netty.impl.ConnectionFactory;
+import io.pravega.client.netty.impl.RawClient;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.protocol.netty.Reply;
+import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.shared.protocol.netty.WireCommands.ReadSegment;
+import io.pravega.shared.protocol.netty.WireCommands.SegmentRead;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Data;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Combines {@link ReadSegment} requests for different Segments owned by the same Segment Store into a single
+ * {@link WireCommands.ReadSegments} request, so that a reader with several Segments on that Segment Store can fetch
+ * data for all of them in one round trip.
+ *
+ * Reads passed to {@link #read} are queued up per endpoint. The first read queued for an endpoint schedules a flush on
+ * the {@link ConnectionFactory}'s executor, and every read queued by the time that flush runs is sent along with it. If
+ * only one read is pending at that time, nothing is sent. All the batches for an endpoint are sent over the same
+ * {@link RawClient} (and thus the same Flow on a pooled connection), which is only replaced if it gets closed.
+ *
+ * The Segment Store does not wait for new data to be appended when serving a batch, so reads at the tail of a Segment
+ * are left out of the reply; callers should only use this for reads that are catching up. Any read that did not make
+ * it into the reply (or any read in a batch that could not be sent) is completed with null; the caller is then
+ * expected to issue it individually.
+ */
+@Slf4j
+@ThreadSafe
+@RequiredArgsConstructor
+class SegmentReadBatcher {
+    /**
+     * The first wire protocol version that supports {@link WireCommands.ReadSegments}.
+     */
+    @VisibleForTesting
+    static final int READ_SEGMENTS_WIRE_VERSION = 11;
+    @NonNull
+    private final ConnectionFactory connectionFactory;
+    @GuardedBy("pendingReads")
+    private final Map<PravegaNodeUri, List<PendingRead>> pendingReads = new HashMap<>();
+    @GuardedBy("clients")
+    private final Map<PravegaNodeUri, RawClient> clients = new HashMap<>();
+    private final Set<PravegaNodeUri> supportedEndpoints = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Records the highest wire protocol version supported by the Segment Store at the given endpoint. Reads for an
+     * endpoint will not be batched until this has been invoked with a version that supports it.
+     *
+     * @param endpoint    The Segment Store endpoint.
+     * @param highVersion The highest wire protocol version supported by it (see {@link WireCommands.Hello}).
+     */
+    void setServerVersion(PravegaNodeUri endpoint, int highVersion) {
+        if (highVersion >= READ_SEGMENTS_WIRE_VERSION) {
+            this.supportedEndpoints.add(endpoint);
+        } else {
+            this.supportedEndpoints.remove(endpoint);
+        }
+    }
+
+    /**
+     * Gets a value indicating whether reads for the given endpoint may be batched.
+     *
+     * @param endpoint The Segment Store endpoint.
+     * @return True if {@link #read} may be used for this endpoint, false otherwise.
+     */
+    boolean isSupported(PravegaNodeUri endpoint) {
+        return this.supportedEndpoints.contains(endpoint);
+    }
+
+    /**
+     * Queues up the given read so that it may be sent along with other reads for the same endpoint.
+     *
+     * @param endpoint The Segment Store endpoint that owns the Segment.
+     * @param request  The read to execute.
+     * @return A CompletableFuture that will be completed with the {@link SegmentRead} for this request, or with null if
+     * the request was not served as part of a batch and should be sent individually. This future never fails.
+     */
+    CompletableFuture<SegmentRead> read(@NonNull PravegaNodeUri endpoint, @NonNull ReadSegment request) {
+        PendingRead read = new PendingRead(request);
+        boolean scheduleFlush;
+        synchronized (this.pendingReads) {
+            List<PendingRead> reads = this.pendingReads.computeIfAbsent(endpoint, e -> new ArrayList<>());
+            scheduleFlush = reads.isEmpty();
+            reads.add(read);
+        }
+
+        if (scheduleFlush) {
+            this.connectionFactory.getInternalExecutor().execute(() -> flush(endpoint));
+        }
+        return read.getResult();
+    }
+
+    private void flush(PravegaNodeUri endpoint) {
+        List<PendingRead> reads;
+        synchronized (this.pendingReads) {
+            reads = this.pendingReads.remove(endpoint);
+        }
+
+        if (reads == null) {
+            return;
+        } else if (reads.size() < 2) {
+            // Nothing to combine this with. Sending it as a batch would only delay it.
+            reads.forEach(r -> r.getResult().complete(null));
+            return;
+        }
+
+        RawClient client = getClient(endpoint);
+        WireCommands.ReadSegments request = new WireCommands.ReadSegments(client.getFlow().getNextSequenceNumber(),
+                reads.stream().map(PendingRead::getRequest).collect(Collectors.toList()));
+        log.trace("Sending batched read request {} to {}.", request, endpoint);
+        client.sendRequest(request.getRequestId(), request)
+              .whenComplete((reply, ex) -> {
+                  if (ex != null) {
+                      log.info("Batched read request to {} failed; reads will be retried individually. {}", endpoint, ex.toString());
+                  } else {
+                      complete(reply, reads);
+                  }
+
+                  // Whatever is left was not served by this batch.
+                  reads.forEach(r -> r.getResult().complete(null));
+              });
+    }
+
+    private RawClient getClient(PravegaNodeUri endpoint) {
+        synchronized (this.clients) {
+            RawClient client = this.clients.get(endpoint);
+            if (client == null || client.isClosed()) {
+                client = new RawClient(endpoint, this.connectionFactory);
+                this.clients.put(endpoint, client);
+            }
+
+            return client;
+        }
+    }
+
+    private void complete(Reply reply, List<PendingRead> reads) {
+        if (!(reply instanceof WireCommands.SegmentsRead)) {
+            log.info("Unexpected reply to batched read request: {}; reads will be retried individually.", reply);
+            return;
+        }
+
+        for (SegmentRead segmentRead : ((WireCommands.SegmentsRead) reply).getReads()) {
+            PendingRead read = reads.stream()
+                    .filter(r -> r.getRequest().getSegment().equals(segmentRead.getSegment())
+                            && r.getRequest().getOffset() == segmentRead.getOffset()
+                            && !r.getResult().isDone())
+                    .findFirst().orElse(null);
+            if (read == null || !read.getResult().complete(segmentRead)) {
+                // Nobody is going to consume this one.
+                segmentRead.release();
+            }
+        }
+    }
+
+    //region Helper Classes
+
+    @Data
+    private static class PendingRead {
+        private final ReadSegment request;
+        private final CompletableFuture<SegmentRead> result = new CompletableFuture<>();
+    }
+
+    //endregion
+}
@@ -39,6 +39,12 @@ public class StateSynchronizerImpl<StateT extends Revisioned>
     private final RevisionedStreamClient<UpdateOrInit<StateT>> client;
     @GuardedBy("$lock")
     private StateT currentState;
+    /**
+     * The revision of the latest initial update (i.e., a compaction) that was read or written, whether or not it was
+     * used to create the current state.
+     */
+    @GuardedBy("$lock")
+    private Revision latestInitRevision;
     private Segment segment;
 
     /**
@@ -82,10 +88,7 @@ public class StateSynchronizerImpl<StateT extends Revisioned>
                 Entry<Revision, UpdateOrInit<StateT>> entry = iter.next();
                 log.trace("Found entry {} ", entry.getValue());
                 if (entry.getValue().isInit()) {
-                    InitialUpdate<StateT> init = entry.getValue().getInit();
-                    if (isNewer(entry.getKey())) {
-                        updateCurrentState(init.create(segment.getScopedStreamName(), entry.getKey()));
-                    }
+                    applyInit(entry.getKey(), entry.getValue().getInit());
                 } else {
                     applyUpdates(entry.getKey().asImpl(), entry.getValue().getUpdates());
                 }
@@ -109,11 +112,7 @@ public class StateSynchronizerImpl<StateT extends Revisioned>
             Entry<Revision, UpdateOrInit<StateT>> entry = iter.next();
             if (entry.getValue().isInit()) {
                 log.trace("Found entry {} ", entry.getValue());
-                InitialUpdate<StateT> init = entry.getValue().getInit();
-                if (isNewer(entry.getKey())) {
-                    updateCurrentState(init.create(segment.getScopedStreamName(), entry.getKey()));
-                    foundInit = true;
-                }
+                foundInit = applyInit(entry.getKey(), entry.getValue().getInit());
             }
         }
         if (!foundInit) {
@@ -123,6 +122,15 @@ public class StateSynchronizerImpl<StateT extends Revisioned>
         return null;
     }
 
+    private boolean applyInit(Revision revision, InitialUpdate<StateT> init) {
+        updateLatestInitRevision(revision);
+        if (isNewer(revision)) {
+            updateCurrentState(init.create(segment.getScopedStreamName(), revision));
+            return true;
+        }
+        return false;
+    }
+
     private void applyUpdates(Revision readRevision, List<? extends Update<StateT>> updates) {
         int i = 0;
         for (Update<StateT> update : updates) {
@@ -174,15 +182,23 @@ public class StateSynchronizerImpl<StateT extends Revisioned>
         if (result == null) {
             fetchUpdates();
         } else {
-            updateCurrentState(initial.create(segment.getScopedStreamName(), result));
+            applyInit(result, initial);
         }
     }
     
+    /**
+     * {@inheritDoc}
+     * The compaction itself (which may be large) is not counted, so this only reflects the updates written after it.
+     */
     @Override
     public long bytesWrittenSinceCompaction() {
         Revision mark = client.getMark();
+        Revision latestInit = getLatestInitRevision();
         StateT state = getState();
         long compaction = (mark == null) ? 0 : mark.asImpl().getOffsetInSegment();
+        if (latestInit != null) {
+            compaction = Math.max(compaction, latestInit.asImpl().getOffsetInSegment());
+        }
         long current = (state == null) ? 0 : state.getRevision().asImpl().getOffsetInSegment();
         return Math.max(0, current - compaction);
     }
@@ -234,7 +250,10 @@ public class StateSynchronizerImpl<StateT extends Revisioned>
             if (newRevision == null) {
                 fetchUpdates();
             } else {
-                if (!toWrite.isInit()) {
+                if (toWrite.isInit()) {
+                    // Apply it locally, so that we do not need to read (and deserialize) it back.
+                    applyInit(newRevision, toWrite.getInit());
+                } else {
                     applyUpdates(newRevision, toWrite.getUpdates());
                 }
                 log.debug("Conditional write to segment {} completed with revision {}", segment, newRevision);
@@ -248,6 +267,18 @@ public class StateSynchronizerImpl<StateT extends Revisioned>
         return currentState == null || currentState.getRevision().compareTo(revision) < 0;
     }
 
+    @Synchronized
+    private Revision getLatestInitRevision() {
+        return latestInitRevision;
+    }
+
+    @Synchronized
+    private void updateLatestInitRevision(Revision revision) {
+        if (latestInitRevision == null || latestInitRevision.compareTo(revision) < 0) {
+            latestInitRevision = revision;
+        }
+    }
+
     @Synchronized
     private void updateCurrentState(StateT newValue) {
         if (newValue != null && isNewer(newValue.getRevision())) {
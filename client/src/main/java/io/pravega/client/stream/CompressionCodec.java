@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.stream;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compresses the serialized events written by an {@link EventStreamWriter} and decompresses them for the
+ * {@link EventStreamReader}. A codec is selected on the writer using {@link EventWriterConfig#getCompressionCodec()};
+ * the id of the codec is written alongside every compressed event, so that readers can pick the same codec when
+ * reading it back. Readers that do not have the codec will fail with {@link UnsupportedCompressionException}.
+ * <p>
+ * Pravega comes with a "deflate" codec (see {@link java.util.zip.Deflater}). Other codecs may be added by implementing
+ * this interface and registering the implementation using `ServiceLoader`
+ * (https://docs.oracle.com/javase/7/docs/api/java/util/ServiceLoader.html). Such codecs must be available to both the
+ * writers and the readers of a Stream.
+ * <p>
+ * Implementations must be thread safe.
+ */
+public interface CompressionCodec {
+    /**
+     * Gets the name of this codec. This is the value to use with {@link EventWriterConfig#getCompressionCodec()}.
+     *
+     * @return The name.
+     */
+    String getName();
+
+    /**
+     * Gets the id of this codec. This is written alongside every compressed event and must be unique among all codecs
+     * that may be used by the readers of a Stream. Ids 0 to 15 are reserved for codecs that come with Pravega.
+     *
+     * @return The id.
+     */
+    byte getId();
+
+    /**
+     * Compresses the given data.
+     *
+     * @param data The data to compress. The position of this buffer must not be changed.
+     * @return A new buffer containing the compressed data.
+     */
+    ByteBuffer compress(ByteBuffer data);
+
+    /**
+     * Decompresses the given data.
+     *
+     * @param data               The data to decompress. This is the exact buffer that was returned by {@link #compress}.
+     * @param uncompressedLength The length of the data before it was compressed.
+     * @return A new buffer containing the decompressed data.
+     */
+    ByteBuffer decompress(ByteBuffer data, int uncompressedLength);
+}
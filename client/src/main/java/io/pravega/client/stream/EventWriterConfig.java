@@ -54,6 +54,12 @@ public class EventWriterConfig implements Serializable {
      */
     private final boolean automaticallyNoteTime;
 
+    /**
+     * The name of the {@link CompressionCodec} to compress events with, or null (default) if events should not be
+     * compressed. Events that are too small, or that do not get any smaller, are written uncompressed.
+     */
+    private final String compressionCodec;
+
     public static final class EventWriterConfigBuilder {
         private static final long MIN_TRANSACTION_TIMEOUT_TIME_MILLIS = 10000;
         private int initalBackoffMillis = 1;
@@ -64,6 +70,7 @@ public class EventWriterConfig implements Serializable {
         private boolean automaticallyNoteTime = false; 
         // connection pooling for event writers is disabled by default.
         private boolean enableConnectionPooling = false;
+        private String compressionCodec = null;
         
         public EventWriterConfig build() {
             Preconditions.checkArgument(transactionTimeoutTime >= MIN_TRANSACTION_TIMEOUT_TIME_MILLIS, "Transaction time must be at least 10 seconds.");
@@ -74,7 +81,8 @@ public class EventWriterConfig implements Serializable {
             return new EventWriterConfig(initalBackoffMillis, maxBackoffMillis, retryAttempts, backoffMultiple,
                                          enableConnectionPooling,
                                          transactionTimeoutTime,
-                                         automaticallyNoteTime);
+                                         automaticallyNoteTime,
+                                         compressionCodec);
         }
     }
 }
@@ -0,0 +1,27 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.stream;
+
+/**
+ * Thrown when an event has been compressed with a {@link CompressionCodec} that is not available to the reader.
+ */
+public class UnsupportedCompressionException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new instance of UnsupportedCompressionException class.
+     *
+     * @param msg Exception description.
+     */
+    public UnsupportedCompressionException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.stream.impl;
+
+import com.google.common.base.Preconditions;
+import io.pravega.client.stream.CompressionCodec;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * {@link CompressionCodec} that uses the DEFLATE algorithm (as implemented by the JDK's {@link Deflater}), tuned for
+ * speed rather than compression ratio.
+ */
+final class DeflateCompressionCodec implements CompressionCodec {
+    static final String NAME = "deflate";
+    static final byte ID = 1;
+    // Deflater and Inflater instances are expensive to create, but they are not thread safe.
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public ByteBuffer compress(ByteBuffer data) {
+        Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        setInput(data, deflater::setInput);
+        deflater.finish();
+
+        // DEFLATE may slightly expand incompressible data; start with enough room for that and grow if needed.
+        byte[] result = new byte[data.remaining() + data.remaining() / 1000 + 64];
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == result.length) {
+                result = Arrays.copyOf(result, result.length * 2);
+            }
+            length += deflater.deflate(result, length, result.length - length);
+        }
+
+        return ByteBuffer.wrap(result, 0, length);
+    }
+
+    @Override
+    public ByteBuffer decompress(ByteBuffer data, int uncompressedLength) {
+        Preconditions.checkArgument(uncompressedLength >= 0, "uncompressedLength must be a non-negative number.");
+        Inflater inflater = INFLATER.get();
+        inflater.reset();
+        setInput(data, inflater::setInput);
+        byte[] result = new byte[uncompressedLength];
+        int length = 0;
+        try {
+            while (length < result.length && !inflater.finished()) {
+                int count = inflater.inflate(result, length, result.length - length);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += count;
+            }
+        } catch (DataFormatException ex) {
+            throw new IllegalArgumentException("Unable to decompress data.", ex);
+        }
+
+        Preconditions.checkArgument(length == uncompressedLength && inflater.finished(),
+                "Unexpected decompressed length. Expected %s, found at least %s.", uncompressedLength, length);
+        return ByteBuffer.wrap(result);
+    }
+
+    private void setInput(ByteBuffer data, InputSetter setter) {
+        if (data.hasArray()) {
+            setter.setInput(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        } else {
+            byte[] array = new byte[data.remaining()];
+            data.duplicate().get(array);
+            setter.setInput(array, 0, array.length);
+        }
+    }
+
+    @FunctionalInterface
+    private interface InputSetter {
+        void setInput(byte[] array, int offset, int length);
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.stream.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.pravega.client.stream.CompressionCodec;
+import io.pravega.client.stream.Serializer;
+import io.pravega.client.stream.UnsupportedCompressionException;
+import io.pravega.shared.protocol.netty.WireCommands.CompressedEvent;
+import io.pravega.shared.protocol.netty.WireCommands.Event;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Frames serialized events for writing, compressing them if a {@link CompressionCodec} has been configured, and
+ * decompresses them when reading.
+ *
+ * Compression is applied to each event individually (and not to the blocks of appends that are sent to the Segment
+ * Store) because every event must be readable on its own, starting from its own offset in the Segment (see
+ * {@link io.pravega.client.stream.EventPointer} and {@link io.pravega.client.stream.Position}).
+ */
+@Slf4j
+public final class EventCompression {
+    /**
+     * Events smaller than this are never compressed. The savings would be negligible and likely offset by the
+     * compression header.
+     */
+    @VisibleForTesting
+    static final int MIN_COMPRESSION_SIZE = 128;
+    private static final Map<Byte, CompressionCodec> CODECS_BY_ID;
+    private static final Map<String, CompressionCodec> CODECS_BY_NAME;
+
+    static {
+        Map<Byte, CompressionCodec> byId = new HashMap<>();
+        Map<String, CompressionCodec> byName = new HashMap<>();
+        register(new DeflateCompressionCodec(), byId, byName);
+        for (CompressionCodec codec : ServiceLoader.load(CompressionCodec.class)) {
+            register(codec, byId, byName);
+        }
+
+        CODECS_BY_ID = Collections.unmodifiableMap(byId);
+        CODECS_BY_NAME = Collections.unmodifiableMap(byName);
+    }
+
+    private EventCompression() {
+    }
+
+    private static void register(CompressionCodec codec, Map<Byte, CompressionCodec> byId, Map<String, CompressionCodec> byName) {
+        CompressionCodec existing = byId.get(codec.getId());
+        if (existing == null) {
+            existing = byName.get(codec.getName());
+        }
+
+        if (existing != null) {
+            log.warn("Ignoring CompressionCodec '{}' (Id = {}) because it conflicts with '{}' (Id = {}).",
+                    codec.getName(), codec.getId(), existing.getName(), existing.getId());
+            return;
+        }
+
+        byId.put(codec.getId(), codec);
+        byName.put(codec.getName(), codec);
+    }
+
+    /**
+     * Gets the {@link CompressionCodec} with the given name.
+     *
+     * @param name The name of the codec. May be null.
+     * @return The {@link CompressionCodec}, or null if name is null.
+     * @throws IllegalArgumentException If there is no codec with the given name.
+     */
+    public static CompressionCodec getCodec(String name) {
+        if (name == null) {
+            return null;
+        }
+
+        CompressionCodec codec = CODECS_BY_NAME.get(name);
+        Preconditions.checkArgument(codec != null, "No CompressionCodec named '%s' is available. Available codecs: %s.",
+                name, CODECS_BY_NAME.keySet());
+        return codec;
+    }
+
+    /**
+     * Frames the given serialized event so that it can be written to a Segment. If a codec is provided, the event will
+     * be compressed using it, unless that would not make it any smaller.
+     *
+     * @param codec The {@link CompressionCodec} to use. May be null, in which case the event is not compressed.
+     * @param data  The serialized event.
+     * @return A {@link ByteBuf} containing the framed (and possibly compressed) event.
+     */
+    public static ByteBuf serialize(CompressionCodec codec, ByteBuffer data) {
+        if (codec != null && data.remaining() >= MIN_COMPRESSION_SIZE && data.remaining() <= Serializer.MAX_EVENT_SIZE) {
+            ByteBuffer compressed = codec.compress(data);
+            if (compressed.remaining() + CompressedEvent.COMPRESSION_HEADER_SIZE < data.remaining()) {
+                return new CompressedEvent(codec.getId(), data.remaining(), Unpooled.wrappedBuffer(compressed)).getAsByteBuf();
+            }
+        }
+
+        return new Event(Unpooled.wrappedBuffer(data)).getAsByteBuf();
+    }
+
+    /**
+     * Decompresses an event that was written as a {@link CompressedEvent}. If no codec with the given id is available,
+     * this throws an {@link UnsupportedCompressionException}.
+     *
+     * @param codecId            The id of the {@link CompressionCodec} that was used to compress the event.
+     * @param data               The compressed event.
+     * @param uncompressedLength The length of the event before compression.
+     * @return The decompressed event.
+     */
+    public static ByteBuffer decompress(byte codecId, ByteBuffer data, int uncompressedLength) {
+        CompressionCodec codec = CODECS_BY_ID.get(codecId);
+        if (codec == null) {
+            throw new UnsupportedCompressionException(String.format(
+                    "Event was compressed using a CompressionCodec with Id %s, which is not available. Available codecs: %s.",
+                    codecId, CODECS_BY_NAME.keySet()));
+        }
+
+        return codec.decompress(data, uncompressedLength);
+    }
+}
@@ -40,7 +40,6 @@ import io.pravega.client.stream.impl.SegmentWithRange.Range;
 import io.pravega.common.Exceptions;
 import io.pravega.common.Timer;
 import io.pravega.common.util.CopyOnWriteHashMap;
-import io.pravega.shared.protocol.netty.WireCommands;
 import java.nio.ByteBuffer;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
@@ -134,6 +133,7 @@ public class EventStreamReaderImpl<Type> implements EventStreamReader<Type> {
         Timer timer = new Timer();
         Segment segment = null;
         long offset = -1;
+        int length = 0;
         ByteBuffer buffer = null;
         do {
             String checkpoint = updateGroupStateIfNeeded();
@@ -150,6 +150,8 @@ public class EventStreamReaderImpl<Type> implements EventStreamReader<Type> {
                 offset = segmentReader.getOffset();
                 try {
                     buffer = segmentReader.read(firstByteTimeoutMillis);
+                    // This includes the event header, and it may differ from the size of buffer if the event was compressed.
+                    length = (int) (segmentReader.getOffset() - offset);
                 } catch (EndOfSegmentException e) {
                     boolean isSegmentSealed = e.getErrorType().equals(END_OF_SEGMENT_REACHED);
                     handleEndOfSegment(segmentReader, isSegmentSealed);
@@ -170,7 +172,6 @@ public class EventStreamReaderImpl<Type> implements EventStreamReader<Type> {
             return createEmptyEvent(null);
         } 
         lastRead = Sequence.create(segment.getSegmentId(), offset);
-        int length = buffer.remaining() + WireCommands.TYPE_PLUS_LENGTH_SIZE;
         addSegmentOffsetUpdateIfNeeded(segment, offset + length);
         return new EventReadImpl<>(deserializer.deserialize(buffer), getCurrentPosition(), new EventPointerImpl(segment, offset, length), null);
     }
@@ -17,6 +17,7 @@ import io.pravega.client.segment.impl.Segment;
 import io.pravega.client.segment.impl.SegmentOutputStream;
 import io.pravega.client.segment.impl.SegmentOutputStreamFactory;
 import io.pravega.client.segment.impl.SegmentSealedException;
+import io.pravega.client.stream.CompressionCodec;
 import io.pravega.client.stream.EventStreamWriter;
 import io.pravega.client.stream.EventWriterConfig;
 import io.pravega.client.stream.Serializer;
@@ -69,6 +70,7 @@ public class EventStreamWriterImpl<Type> implements EventStreamWriter<Type> {
     private final Stream stream;
     private final String writerId;
     private final Serializer<Type> serializer;
+    private final CompressionCodec compressionCodec;
     private final Controller controller;
     private final AtomicBoolean closed = new AtomicBoolean(false);
     private final EventWriterConfig config;
@@ -89,6 +91,7 @@ public class EventStreamWriterImpl<Type> implements EventStreamWriter<Type> {
         this.tokenProvider = DelegationTokenProviderFactory.create(this.controller, this.stream.getScope(), this.stream.getStreamName());
         this.selector = new SegmentSelector(stream, controller, outputStreamFactory, config, tokenProvider);
         this.serializer = Preconditions.checkNotNull(serializer);
+        this.compressionCodec = EventCompression.getCodec(config.getCompressionCodec());
         this.config = config;
         this.retransmitPool = Preconditions.checkNotNull(retransmitPool);
         this.pinger = new Pinger(config.getTransactionTimeoutTime(), stream, controller, internalExecutor);
@@ -116,15 +119,16 @@ public class EventStreamWriterImpl<Type> implements EventStreamWriter<Type> {
         Exceptions.checkNotClosed(closed.get(), this);
         ByteBuffer data = serializer.serialize(event);
         CompletableFuture<Void> ackFuture = new CompletableFuture<Void>();
+        PendingEvent pendingEvent = PendingEvent.withHeader(routingKey, data, compressionCodec, ackFuture);
         synchronized (writeFlushLock) {
             synchronized (writeSealLock) {                
-                SegmentOutputStream segmentWriter = selector.getSegmentOutputStreamForKey(routingKey);
+                SegmentOutputStream segmentWriter = selector.getSegmentOutputStreamForEvent(pendingEvent);
                 while (segmentWriter == null) {
-                    log.info("Don't have a writer for segment: {}", selector.getSegmentForEvent(routingKey));
+                    log.info("Don't have a writer for segment: {}", selector.getSegmentForEvent(pendingEvent));
                     handleMissingLog();
-                    segmentWriter = selector.getSegmentOutputStreamForKey(routingKey);
+                    segmentWriter = selector.getSegmentOutputStreamForEvent(pendingEvent);
                 }
-                segmentWriter.write(PendingEvent.withHeader(routingKey, data, ackFuture));
+                segmentWriter.write(pendingEvent);
             }
         }
         return ackFuture;
@@ -195,7 +199,7 @@ public class EventStreamWriterImpl<Type> implements EventStreamWriter<Type> {
                 if (sendFailed) {
                     unsent.add(event);
                 } else {
-                    SegmentOutputStream segmentWriter = selector.getSegmentOutputStreamForKey(event.getRoutingKey());
+                    SegmentOutputStream segmentWriter = selector.getSegmentOutputStreamForEvent(event);
                     if (segmentWriter == null) {
                         log.info("No writer for segment during resend.");
                         unsent.addAll(selector.refreshSegmentEventWriters(segmentSealedCallBack));
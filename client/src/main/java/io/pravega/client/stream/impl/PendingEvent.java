@@ -12,6 +12,7 @@ package io.pravega.client.stream.impl;
 import com.google.common.base.Preconditions;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.pravega.client.stream.CompressionCodec;
 import io.pravega.client.stream.Serializer;
 import io.pravega.shared.protocol.netty.WireCommands.Event;
 import java.nio.ByteBuffer;
@@ -42,6 +43,11 @@ public class PendingEvent {
      * Callback to be invoked when the data is written.
      */
     private final CompletableFuture<Void> ackFuture;
+    /**
+     * The hash of the routing key (see {@link StreamSegments#hashRoutingKey}), or {@link Double#NaN} if there is no
+     * routing key. This is computed once and used both to route the event and to report it to the Segment Store.
+     */
+    private final double routingKeyHash;
        
     private PendingEvent(String routingKey, ByteBuf data, CompletableFuture<Void> ackFuture) {
         Preconditions.checkNotNull(data);
@@ -49,12 +55,16 @@ public class PendingEvent {
         this.routingKey = routingKey;
         this.data = data;
         this.ackFuture = ackFuture;
+        this.routingKeyHash = routingKey == null ? Double.NaN : StreamSegments.hashRoutingKey(routingKey);
     }
     
     public static PendingEvent withHeader(String routingKey, ByteBuffer data, CompletableFuture<Void> ackFuture) {
-        ByteBuf eventBuf = new Event(Unpooled.wrappedBuffer(data)).getAsByteBuf();
+        return withHeader(routingKey, data, null, ackFuture);
+    }
+
+    public static PendingEvent withHeader(String routingKey, ByteBuffer data, CompressionCodec codec, CompletableFuture<Void> ackFuture) {
+        ByteBuf eventBuf = EventCompression.serialize(codec, data);
         return new PendingEvent(routingKey, eventBuf, ackFuture);
-        
     }
     
     public static PendingEvent withoutHeader(String routingKey, ByteBuffer data, CompletableFuture<Void> ackFuture) {
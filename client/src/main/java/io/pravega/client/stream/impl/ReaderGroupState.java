@@ -446,7 +446,14 @@ public class ReaderGroupState implements Revisioned {
 
         @VisibleForTesting
         static class CompactReaderGroupStateBuilder implements ObjectBuilder<CompactReaderGroupState> {
+            /**
+             * Every segment is written multiple times to a compacted state, so we only parse each one once.
+             */
+            private final Map<String, Segment> parsedSegments = new HashMap<>();
 
+            private Segment parseSegment(String scopedName) {
+                return parsedSegments.computeIfAbsent(scopedName, Segment::fromScopedName);
+            }
         }
         
         static class CompactReaderGroupStateSerializer extends VersionedSerializer.WithBuilder<CompactReaderGroupState, CompactReaderGroupStateBuilder> {
@@ -470,8 +477,8 @@ public class ReaderGroupState implements Revisioned {
                                 CompactReaderGroupStateBuilder builder) throws IOException {
                 ElementDeserializer<String> stringDeserializer = RevisionDataInput::readUTF;
                 ElementDeserializer<Long> longDeserializer = RevisionDataInput::readLong;
-                ElementDeserializer<Segment> segmentDeserializer = in -> Segment.fromScopedName(in.readUTF());
-                ElementDeserializer<SegmentWithRange> segmentWithRangeDeserializer = in -> new SegmentWithRange(Segment.fromScopedName(in.readUTF()),
+                ElementDeserializer<Segment> segmentDeserializer = in -> builder.parseSegment(in.readUTF());
+                ElementDeserializer<SegmentWithRange> segmentWithRangeDeserializer = in -> new SegmentWithRange(builder.parseSegment(in.readUTF()),
                                                                                                                 null);
                 builder.config(ReaderGroupConfig.fromBytes(ByteBuffer.wrap(revisionDataInput.readArray())));
                 builder.checkpointState(CheckpointState.fromBytes(ByteBuffer.wrap(revisionDataInput.readArray())));
@@ -489,7 +496,7 @@ public class ReaderGroupState implements Revisioned {
             private void read01(RevisionDataInput revisionDataInput,
                                 CompactReaderGroupStateBuilder builder) throws IOException {
                 
-                ElementDeserializer<Segment> segmentDeserializer = in -> Segment.fromScopedName(in.readUTF());
+                ElementDeserializer<Segment> segmentDeserializer = in -> builder.parseSegment(in.readUTF());
                 Map<Segment, Long> lastReadPos = revisionDataInput.readMap(segmentDeserializer, RevisionDataInput::readLong);              
                 Map<Segment, Range> ranges = revisionDataInput.readMap(segmentDeserializer, ReaderGroupState::readRange);
 
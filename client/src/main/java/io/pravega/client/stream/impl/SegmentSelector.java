@@ -86,6 +86,32 @@ public class SegmentSelector {
         return currentSegments.getSegmentForKey(routingKey);
     }
 
+    /**
+     * Selects which segment the given event should be written to, using the routing key hash that it already carries.
+     *
+     * @param event The event to be written.
+     * @return The SegmentOutputStream for the segment that has been selected or null if
+     *         {@link #refreshSegmentEventWriters(Consumer)} needs to be called.
+     */
+    @Synchronized
+    public SegmentOutputStream getSegmentOutputStreamForEvent(PendingEvent event) {
+        if (currentSegments == null) {
+            return null;
+        }
+        return writers.get(getSegmentForEvent(event));
+    }
+
+    @Synchronized
+    public Segment getSegmentForEvent(PendingEvent event) {
+        if (currentSegments == null) {
+            return null;
+        }
+        if (event.getRoutingKey() == null) {
+            return currentSegments.getSegmentForKey(random.nextDouble());
+        }
+        return currentSegments.getSegmentForKey(event.getRoutingKeyHash());
+    }
+
     /**
      * Refresh segment writers corresponding to the successors of the sealed segment and return inflight event list of the sealed segment.
      * The segment writer for sealed segment is not removed.
@@ -11,6 +11,7 @@ package io.pravega.client.stream.impl;
 
 import io.pravega.client.segment.impl.SegmentOutputStream;
 import io.pravega.client.segment.impl.SegmentSealedException;
+import io.pravega.client.stream.CompressionCodec;
 import io.pravega.client.stream.Serializer;
 import io.pravega.client.stream.TxnFailedException;
 import io.pravega.common.concurrent.Futures;
@@ -25,6 +26,7 @@ import lombok.val;
 
 final class SegmentTransactionImpl<Type> implements SegmentTransaction<Type> {
     private final Serializer<Type> serializer;
+    private final CompressionCodec compressionCodec;
     private final UUID txId;
     private final Object lock = new Object();
     @GuardedBy("lock")
@@ -34,9 +36,14 @@ final class SegmentTransactionImpl<Type> implements SegmentTransaction<Type> {
     private final AtomicReference<Throwable> txnFailedCause = new AtomicReference<>();
 
     SegmentTransactionImpl(UUID txId, SegmentOutputStream out, Serializer<Type> serializer) {
+        this(txId, out, serializer, null);
+    }
+
+    SegmentTransactionImpl(UUID txId, SegmentOutputStream out, Serializer<Type> serializer, CompressionCodec compressionCodec) {
         this.txId = txId;
         this.out = out;
         this.serializer = serializer;
+        this.compressionCodec = compressionCodec;
     }
 
     @Override
@@ -44,7 +51,7 @@ final class SegmentTransactionImpl<Type> implements SegmentTransaction<Type> {
         checkFailed();
         ByteBuffer buffer = serializer.serialize(event);
         CompletableFuture<Void> ack = new CompletableFuture<Void>();
-        PendingEvent pendingEvent = PendingEvent.withHeader(null, buffer, ack);
+        PendingEvent pendingEvent = PendingEvent.withHeader(null, buffer, compressionCodec, ack);
         synchronized (lock) {
             out.write(pendingEvent);
             outstanding.addLast(ack);
@@ -44,7 +44,18 @@ public class StreamSegments extends SegmentCollection {
 
     @Override
     protected double hashToRange(String key) {
-        return HASHER.hashToRange(key);
+        return hashRoutingKey(key);
+    }
+
+    /**
+     * Hashes the given routing key to the key space (the interval [0, 1)) that the Segments of a Stream are assigned
+     * ranges of.
+     *
+     * @param routingKey The routing key.
+     * @return The hash of the routing key.
+     */
+    public static double hashRoutingKey(String routingKey) {
+        return HASHER.hashToRange(routingKey);
     }
 
     public int getNumberOfSegments() {
@@ -16,6 +16,7 @@ import io.pravega.client.security.auth.DelegationTokenProviderFactory;
 import io.pravega.client.segment.impl.Segment;
 import io.pravega.client.segment.impl.SegmentOutputStream;
 import io.pravega.client.segment.impl.SegmentOutputStreamFactory;
+import io.pravega.client.stream.CompressionCodec;
 import io.pravega.client.stream.EventWriterConfig;
 import io.pravega.client.stream.Serializer;
 import io.pravega.client.stream.Stream;
@@ -49,6 +50,7 @@ public class TransactionalEventStreamWriterImpl<Type> implements TransactionalEv
     private final Stream stream;
     private final String writerId;
     private final Serializer<Type> serializer;
+    private final CompressionCodec compressionCodec;
     private final SegmentOutputStreamFactory outputStreamFactory;
     private final Controller controller;
     private final AtomicBoolean closed = new AtomicBoolean(false);
@@ -62,6 +64,7 @@ public class TransactionalEventStreamWriterImpl<Type> implements TransactionalEv
         this.controller = Preconditions.checkNotNull(controller);
         this.outputStreamFactory = Preconditions.checkNotNull(outputStreamFactory);
         this.serializer = Preconditions.checkNotNull(serializer);
+        this.compressionCodec = EventCompression.getCodec(config.getCompressionCodec());
         this.config = config;
         this.pinger = new Pinger(config.getTransactionTimeoutTime(), stream, controller, executor);
     }
@@ -191,7 +194,7 @@ public class TransactionalEventStreamWriterImpl<Type> implements TransactionalEv
             }
             SegmentOutputStream out = outputStreamFactory.createOutputStreamForTransaction(s, txnId,
                     config, tokenProvider);
-            SegmentTransactionImpl<Type> impl = new SegmentTransactionImpl<>(txnId, out, serializer);
+            SegmentTransactionImpl<Type> impl = new SegmentTransactionImpl<>(txnId, out, serializer, compressionCodec);
             transactions.put(s, impl);
         }
         pinger.startPing(txnId);
@@ -221,7 +224,7 @@ public class TransactionalEventStreamWriterImpl<Type> implements TransactionalEv
             }
             SegmentOutputStream out = outputStreamFactory.createOutputStreamForTransaction(s, txId, config,
                     tokenProvider);
-            SegmentTransactionImpl<Type> impl = new SegmentTransactionImpl<>(txId, out, serializer);
+            SegmentTransactionImpl<Type> impl = new SegmentTransactionImpl<>(txId, out, serializer, compressionCodec);
             transactions.put(s, impl);
         }
         return new TransactionImpl<Type>(writerId, txId, transactions, segments, controller, stream, pinger);
@@ -27,19 +27,39 @@ public class KeyValueTableClientConfiguration implements Serializable {
     private final int maxBackoffMillis;
     private final int retryAttempts;
     private final int backoffMultiple;
+    /**
+     * Whether concurrent requests to the same Table Segment should be combined into fewer wire requests. Only
+     * unconditional updates and retrievals are ever combined.
+     */
+    private final boolean requestCoalescingEnabled;
+    /**
+     * The amount of time (in milliseconds) to wait for other requests to combine a request with. If 0, only requests
+     * that are issued while the previous ones are waiting to be sent will be combined.
+     */
+    private final int requestCoalescingWindowMillis;
+    /**
+     * The maximum size (in bytes, of Keys and Values) of a combined request.
+     */
+    private final int maxCoalescedRequestSize;
 
     public static final class KeyValueTableClientConfigurationBuilder {
         private int initialBackoffMillis = 10;
         private int maxBackoffMillis = 30000;
         private int retryAttempts = 10;
         private int backoffMultiple = 4;
+        private boolean requestCoalescingEnabled = false;
+        private int requestCoalescingWindowMillis = 0;
+        private int maxCoalescedRequestSize = 1024 * 1024;
 
         public KeyValueTableClientConfiguration build() {
             Preconditions.checkArgument(this.initialBackoffMillis >= 0, "Initial backoff must be non-negative number.");
             Preconditions.checkArgument(this.backoffMultiple >= 0, "Backoff multiple must be a non-negative number.");
             Preconditions.checkArgument(this.maxBackoffMillis >= 0, "Max backoff time must be non-negative number.");
             Preconditions.checkArgument(this.retryAttempts > 0, "Retry attempts must be a positive number.");
-            return new KeyValueTableClientConfiguration(this.initialBackoffMillis, this.maxBackoffMillis, this.retryAttempts, this.backoffMultiple);
+            Preconditions.checkArgument(this.requestCoalescingWindowMillis >= 0, "Request coalescing window must be a non-negative number.");
+            Preconditions.checkArgument(this.maxCoalescedRequestSize > 0, "Max coalesced request size must be a positive number.");
+            return new KeyValueTableClientConfiguration(this.initialBackoffMillis, this.maxBackoffMillis, this.retryAttempts, this.backoffMultiple,
+                    this.requestCoalescingEnabled, this.requestCoalescingWindowMillis, this.maxCoalescedRequestSize);
         }
     }
 }
@@ -0,0 +1,403 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.tables.impl;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import io.pravega.client.tables.IteratorItem;
+import io.pravega.common.Exceptions;
+import io.pravega.common.ObjectClosedException;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.AsyncIterator;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A {@link TableSegment} that combines concurrent requests into fewer wire requests, which are then executed on an
+ * underlying {@link TableSegment}.
+ *
+ * Requests are queued up and the first request that is queued schedules a flush to run once the coalescing window has
+ * elapsed (or right away, if the pending requests reach the maximum batch size before that). Upon a flush:
+ * <ul>
+ * <li> Unconditional puts are combined into a single {@link TableSegment#put} call, as long as no two of them update the
+ * same Key. Since the underlying put is atomic, a combined put either succeeds or fails for all of them; it cannot fail
+ * because of a condition.
+ * <li> Gets are combined into a single {@link TableSegment#get} call, as long as no two of them request the same Key.
+ * <li> Conditional puts and removals are never combined with anything else, so that a failed condition is only ever
+ * reported to the caller that set it.
+ * </ul>
+ * Updates (puts and removals) are issued to the underlying {@link TableSegment} in the order in which they were received,
+ * so updates to the same Key are never reordered. A conditional put or a removal that arrives while no other update is
+ * pending is issued right away.
+ */
+@Slf4j
+@ThreadSafe
+class CoalescingTableSegment implements TableSegment {
+    //region Members
+
+    private final TableSegment segment;
+    private final ScheduledExecutorService executor;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final PendingQueue pendingUpdates = new PendingQueue();
+    private final PendingQueue pendingReads = new PendingQueue();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the {@link CoalescingTableSegment} class.
+     *
+     * @param segment      The {@link TableSegment} to execute the (combined) requests on.
+     * @param executor     An executor to schedule flushes on.
+     * @param window       The amount of time to wait for other requests to combine the first pending request with.
+     * @param maxBatchSize The maximum size (in bytes, of Keys and Values) of a combined request. Once the pending requests
+     *                     reach this size, they are flushed without waiting for the window to elapse. A request that
+     *                     exceeds this size by itself is not combined with anything else.
+     */
+    CoalescingTableSegment(@NonNull TableSegment segment, @NonNull ScheduledExecutorService executor, @NonNull Duration window,
+                           int maxBatchSize) {
+        Preconditions.checkArgument(!window.isNegative(), "window must be a non-negative duration.");
+        Preconditions.checkArgument(maxBatchSize > 0, "maxBatchSize must be a positive number.");
+        this.segment = segment;
+        this.executor = executor;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            List<PendingRequest<?>> pending = this.pendingUpdates.drain();
+            pending.addAll(this.pendingReads.drain());
+            ObjectClosedException ex = new ObjectClosedException(this);
+            pending.forEach(r -> r.getResult().completeExceptionally(ex));
+            this.segment.close();
+        }
+    }
+
+    //endregion
+
+    //region TableSegment Implementation
+
+    @Override
+    public CompletableFuture<List<TableSegmentKeyVersion>> put(@NonNull Iterator<TableSegmentEntry> tableEntries) {
+        PendingPut put = new PendingPut(toList(tableEntries));
+        update(put);
+        return put.getResult();
+    }
+
+    @Override
+    public CompletableFuture<Void> remove(@NonNull Iterator<TableSegmentKey> tableKeys) {
+        PendingRemove remove = new PendingRemove(toList(tableKeys));
+        update(remove);
+        return Futures.toVoid(remove.getResult());
+    }
+
+    @Override
+    public CompletableFuture<List<TableSegmentEntry>> get(@NonNull Iterator<ByteBuf> keys) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        PendingGet get = new PendingGet(toList(keys));
+        enqueue(get, this.pendingReads, this::flushReads);
+        return get.getResult();
+    }
+
+    @Override
+    public AsyncIterator<IteratorItem<TableSegmentKey>> keyIterator(@NonNull IteratorArgs args) {
+        return this.segment.keyIterator(args);
+    }
+
+    @Override
+    public AsyncIterator<IteratorItem<TableSegmentEntry>> entryIterator(@NonNull IteratorArgs args) {
+        return this.segment.entryIterator(args);
+    }
+
+    @Override
+    public long getSegmentId() {
+        return this.segment.getSegmentId();
+    }
+
+    //endregion
+
+    //region Coalescing
+
+    private void update(PendingRequest<?> request) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        if (!request.isCoalescable()) {
+            synchronized (this.pendingUpdates) {
+                if (this.pendingUpdates.isEmpty()) {
+                    // Nothing to combine it with, and nothing that needs to be issued before it.
+                    request.executeAlone(this.segment);
+                    return;
+                }
+            }
+        }
+
+        enqueue(request, this.pendingUpdates, this::flushUpdates);
+    }
+
+    private void enqueue(PendingRequest<?> request, PendingQueue queue, Runnable flush) {
+        boolean scheduleFlush;
+        boolean flushNow;
+        synchronized (queue) {
+            scheduleFlush = queue.isEmpty();
+            flushNow = queue.add(request) >= this.maxBatchSize;
+        }
+
+        if (flushNow || (scheduleFlush && this.window.isZero())) {
+            this.executor.execute(flush);
+        } else if (scheduleFlush) {
+            this.executor.schedule(flush, this.window.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void flushUpdates() {
+        // Updates are issued while holding the lock, so that an update that arrives in the meantime (and which is issued
+        // right away) cannot overtake them.
+        synchronized (this.pendingUpdates) {
+            execute(this.pendingUpdates.drain(), PendingPut.class, this::putCombined);
+        }
+    }
+
+    private void flushReads() {
+        execute(this.pendingReads.drain(), PendingGet.class, this::getCombined);
+    }
+
+    private <T, R extends PendingRequest<T>> void execute(List<PendingRequest<?>> requests, Class<R> coalescableType,
+                                                          Function<List<R>, CompletableFuture<List<T>>> executeCombined) {
+        List<R> batch = new ArrayList<>();
+        Set<ByteBuf> batchKeys = new HashSet<>();
+        int batchSize = 0;
+        for (PendingRequest<?> r : requests) {
+            boolean fits = r.isCoalescable()
+                    && batchSize + r.getSize() <= this.maxBatchSize
+                    && r.getKeys().stream().noneMatch(batchKeys::contains);
+            if (!fits) {
+                executeBatch(batch, executeCombined);
+                batch = new ArrayList<>();
+                batchKeys.clear();
+                batchSize = 0;
+            }
+
+            if (r.isCoalescable()) {
+                batch.add(coalescableType.cast(r));
+                batchKeys.addAll(r.getKeys());
+                batchSize += r.getSize();
+            } else {
+                r.executeAlone(this.segment);
+            }
+        }
+
+        executeBatch(batch, executeCombined);
+    }
+
+    private <T, R extends PendingRequest<T>> void executeBatch(List<R> batch, Function<List<R>, CompletableFuture<List<T>>> executeCombined) {
+        if (batch.isEmpty()) {
+            return;
+        } else if (batch.size() == 1) {
+            // Nothing to combine this with.
+            batch.get(0).executeAlone(this.segment);
+            return;
+        }
+
+        log.trace("TableSegment[{}]: Combining {} requests.", this.segment.getSegmentId(), batch.size());
+        CompletableFuture<List<T>> combined;
+        try {
+            combined = executeCombined.apply(batch);
+        } catch (Exception ex) {
+            combined = Futures.failedFuture(ex);
+        }
+
+        combined.whenComplete((results, ex) -> {
+            if (ex != null) {
+                Throwable cause = Exceptions.unwrap(ex);
+                batch.forEach(r -> r.getResult().completeExceptionally(cause));
+                return;
+            }
+
+            // Each request gets the slice of the results that corresponds to its own items.
+            int index = 0;
+            for (R r : batch) {
+                r.getResult().complete(new ArrayList<>(results.subList(index, index + r.getKeys().size())));
+                index += r.getKeys().size();
+            }
+        });
+    }
+
+    private CompletableFuture<List<TableSegmentKeyVersion>> putCombined(List<PendingPut> batch) {
+        List<TableSegmentEntry> entries = batch.stream()
+                .flatMap(r -> r.getEntries().stream())
+                .collect(Collectors.toList());
+        return this.segment.put(entries.iterator());
+    }
+
+    private CompletableFuture<List<TableSegmentEntry>> getCombined(List<PendingGet> batch) {
+        List<ByteBuf> keys = batch.stream()
+                .flatMap(r -> r.getKeys().stream())
+                .collect(Collectors.toList());
+        return this.segment.get(keys.iterator());
+    }
+
+    private static <T> List<T> toList(Iterator<T> items) {
+        List<T> result = new ArrayList<>();
+        items.forEachRemaining(result::add);
+        return result;
+    }
+
+    //endregion
+
+    //region Pending Requests
+
+    /**
+     * Requests that have not yet been issued to the underlying {@link TableSegment}, in the order in which they were
+     * received. All access must be synchronized on this instance.
+     */
+    private static class PendingQueue {
+        @GuardedBy("this")
+        private final List<PendingRequest<?>> requests = new ArrayList<>();
+        @GuardedBy("this")
+        private int size;
+
+        synchronized boolean isEmpty() {
+            return this.requests.isEmpty();
+        }
+
+        /**
+         * Adds the given request.
+         *
+         * @param request The request to add.
+         * @return The total size of the pending requests, including this one.
+         */
+        synchronized int add(PendingRequest<?> request) {
+            this.requests.add(request);
+            this.size += request.getSize();
+            return this.size;
+        }
+
+        /**
+         * Removes all the pending requests.
+         *
+         * @return A List of the removed requests, in the order in which they were added.
+         */
+        synchronized List<PendingRequest<?>> drain() {
+            List<PendingRequest<?>> result = new ArrayList<>(this.requests);
+            this.requests.clear();
+            this.size = 0;
+            return result;
+        }
+    }
+
+    /**
+     * A request that has not yet been issued to the underlying {@link TableSegment}.
+     *
+     * @param <T> Type of the items in the result.
+     */
+    @Getter
+    private abstract static class PendingRequest<T> {
+        /**
+         * The Keys this request refers to. The result will contain one item for each of them, in the same order.
+         */
+        private final List<ByteBuf> keys;
+        /**
+         * The size of the Keys and Values in this request.
+         */
+        private final int size;
+        private final boolean coalescable;
+        private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+
+        PendingRequest(List<ByteBuf> keys, int size, boolean coalescable) {
+            this.keys = keys;
+            this.size = size;
+            this.coalescable = coalescable;
+        }
+
+        /**
+         * Issues this request, by itself, to the given {@link TableSegment} and completes {@link #getResult()} with its
+         * outcome.
+         *
+         * @param segment The {@link TableSegment}.
+         */
+        void executeAlone(TableSegment segment) {
+            try {
+                Futures.completeAfter(() -> execute(segment), this.result);
+            } catch (Exception ex) {
+                // Already reported via the result.
+            }
+        }
+
+        protected abstract CompletableFuture<List<T>> execute(TableSegment segment);
+    }
+
+    @Getter
+    private static class PendingPut extends PendingRequest<TableSegmentKeyVersion> {
+        private final List<TableSegmentEntry> entries;
+
+        PendingPut(List<TableSegmentEntry> entries) {
+            super(entries.stream().map(e -> e.getKey().getKey()).collect(Collectors.toList()),
+                    entries.stream().mapToInt(e -> e.getKey().getKey().readableBytes() + e.getValue().readableBytes()).sum(),
+                    entries.stream().allMatch(e -> e.getKey().getVersion().getSegmentVersion() == TableSegmentKeyVersion.NO_VERSION.getSegmentVersion()));
+            this.entries = entries;
+        }
+
+        @Override
+        protected CompletableFuture<List<TableSegmentKeyVersion>> execute(TableSegment segment) {
+            return segment.put(this.entries.iterator());
+        }
+    }
+
+    private static class PendingRemove extends PendingRequest<Void> {
+        private final List<TableSegmentKey> tableKeys;
+
+        PendingRemove(List<TableSegmentKey> tableKeys) {
+            super(tableKeys.stream().map(TableSegmentKey::getKey).collect(Collectors.toList()),
+                    tableKeys.stream().mapToInt(k -> k.getKey().readableBytes()).sum(), false);
+            this.tableKeys = tableKeys;
+        }
+
+        @Override
+        protected CompletableFuture<List<Void>> execute(TableSegment segment) {
+            return segment.remove(this.tableKeys.iterator()).thenApply(v -> null);
+        }
+    }
+
+    private static class PendingGet extends PendingRequest<TableSegmentEntry> {
+        PendingGet(List<ByteBuf> keys) {
+            super(keys, keys.stream().mapToInt(ByteBuf::readableBytes).sum(), true);
+        }
+
+        @Override
+        protected CompletableFuture<List<TableSegmentEntry>> execute(TableSegment segment) {
+            return segment.get(getKeys().iterator());
+        }
+    }
+
+    //endregion
+}
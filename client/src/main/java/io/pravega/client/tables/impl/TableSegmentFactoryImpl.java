@@ -14,6 +14,7 @@ import io.pravega.client.netty.impl.ConnectionFactory;
 import io.pravega.client.security.auth.DelegationTokenProvider;
 import io.pravega.client.segment.impl.Segment;
 import io.pravega.client.tables.KeyValueTableClientConfiguration;
+import java.time.Duration;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
@@ -32,6 +33,11 @@ class TableSegmentFactoryImpl implements TableSegmentFactory {
 
     @Override
     public TableSegment forSegment(@NonNull Segment segment) {
-        return new TableSegmentImpl(segment, this.controller, this.connectionFactory, this.clientConfig, this.tokenProvider);
+        TableSegment tableSegment = new TableSegmentImpl(segment, this.controller, this.connectionFactory, this.clientConfig, this.tokenProvider);
+        if (this.clientConfig.isRequestCoalescingEnabled()) {
+            tableSegment = new CoalescingTableSegment(tableSegment, this.connectionFactory.getInternalExecutor(),
+                    Duration.ofMillis(this.clientConfig.getRequestCoalescingWindowMillis()), this.clientConfig.getMaxCoalescedRequestSize());
+        }
+        return tableSegment;
     }
 }
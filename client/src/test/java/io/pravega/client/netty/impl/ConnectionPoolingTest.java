@@ -30,6 +30,7 @@ import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslHandler;
 import io.pravega.client.ClientConfig;
+import io.pravega.common.concurrent.Futures;
 import io.pravega.shared.protocol.netty.CommandDecoder;
 import io.pravega.shared.protocol.netty.CommandEncoder;
 import io.pravega.shared.protocol.netty.ConnectionFailedException;
@@ -43,9 +44,12 @@ import java.io.File;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
 import javax.net.ssl.SSLParameters;
@@ -303,4 +307,73 @@ public class ConnectionPoolingTest {
         }, 10000);
     }
 
+    @Test
+    public void testConcurrentFlowsAreSharded() throws Exception {
+        final int maxConnections = 4;
+        final int flowCount = 40;
+        ClientConfig clientConfig = ClientConfig.builder()
+                                                .controllerURI(URI.create((this.ssl ? "tls://" : "tcp://")
+                                                        + "localhost"))
+                                                .trustStore(SecurityConfigDefaults.TLS_CA_CERT_PATH)
+                                                .maxConnectionsPerSegmentStore(maxConnections)
+                                                .build();
+        ConnectionPoolImpl connectionPool = new ConnectionPoolImpl(clientConfig);
+        @Cleanup
+        ConnectionFactoryImpl factory = new ConnectionFactoryImpl(clientConfig, connectionPool, 1);
+
+        ArrayBlockingQueue<WireCommands.SegmentRead> msgRead = new ArrayBlockingQueue<>(flowCount);
+        FailingReplyProcessor rp = new FailingReplyProcessor() {
+            @Override
+            public void connectionDropped() {
+
+            }
+
+            @Override
+            public void segmentRead(WireCommands.SegmentRead data) {
+                msgRead.add(data);
+            }
+
+            @Override
+            public void processingFailure(Exception error) {
+
+            }
+
+            @Override
+            public void authTokenCheckFailed(WireCommands.AuthTokenCheckFailed authTokenCheckFailed) {
+
+            }
+        };
+
+        // Request all the flows concurrently; this must never open more than maxConnections channels.
+        List<Flow> flows = new ArrayList<>();
+        List<CompletableFuture<ClientConnection>> futures = new ArrayList<>();
+        for (int i = 0; i < flowCount; i++) {
+            flows.add(new Flow(i + 1, 0));
+        }
+        flows.parallelStream()
+             .map(flow -> factory.establishConnection(flow, new PravegaNodeUri("localhost", port), rp))
+             .collect(Collectors.toList())
+             .forEach(futures::add);
+        List<ClientConnection> connections = Futures.allOfWithResults(futures).join();
+        assertTrue(factory.getActiveChannelCount() <= maxConnections);
+
+        // Every flow must still get its own replies.
+        for (int i = 0; i < flowCount; i++) {
+            connections.get(i).send(readRequestGenerator.apply(flows.get(i).asLong()));
+        }
+        HashSet<WireCommands.SegmentRead> msgs = new HashSet<>();
+        for (int i = 0; i < flowCount; i++) {
+            msgs.add(msgRead.take());
+        }
+        for (Flow flow : flows) {
+            assertTrue(msgs.contains(readResponseGenerator.apply(flow.asLong())));
+        }
+
+        connections.forEach(ClientConnection::close);
+        AssertExtensions.assertEventuallyEquals(0, () -> {
+            connectionPool.pruneUnusedConnections();
+            return factory.getActiveChannelCount();
+        }, 10000);
+    }
+
 }
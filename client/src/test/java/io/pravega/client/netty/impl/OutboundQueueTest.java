@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.netty.impl;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.EventLoop;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.Cleanup;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OutboundQueueTest {
+    private static final Consumer<Throwable> NO_FAILURE = ex -> fail("Unexpected failure: " + ex);
+
+    /**
+     * Verifies that writes are executed in order, in a single batch, with a single flush at the end.
+     */
+    @Test
+    public void testBatching() {
+        AtomicInteger flushCount = new AtomicInteger();
+        @Cleanup("finishAndReleaseAll")
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void flush(ChannelHandlerContext ctx) throws Exception {
+                flushCount.incrementAndGet();
+                super.flush(ctx);
+            }
+        });
+        List<Integer> batches = new ArrayList<>();
+        OutboundQueue queue = new OutboundQueue(batches::add);
+
+        for (int i = 0; i < 10; i++) {
+            final int value = i;
+            queue.add(channel, () -> channel.write(value), i % 3 == 0, NO_FAILURE);
+        }
+        assertEquals(10, queue.size());
+        assertEquals(0, flushCount.get());
+
+        channel.runPendingTasks();
+        assertEquals(0, queue.size());
+        assertEquals("Expected a single batch.", Arrays.asList(10), batches);
+        assertEquals("Expected a single flush for the whole batch.", 1, flushCount.get());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("Unexpected write order.", i, (int) channel.readOutbound());
+        }
+
+        // Writes that do not need a flush should not cause one.
+        queue.add(channel, () -> channel.write(10), false, NO_FAILURE);
+        channel.runPendingTasks();
+        assertEquals(Arrays.asList(10, 1), batches);
+        assertEquals(1, flushCount.get());
+        channel.flush();
+        assertEquals(10, (int) channel.readOutbound());
+    }
+
+    /**
+     * Verifies that writes which are added while the queue is being drained are executed as part of the same task,
+     * and that a failing write does not prevent the others from being executed.
+     */
+    @Test
+    public void testAddWhileDraining() {
+        @Cleanup("finishAndReleaseAll")
+        EmbeddedChannel channel = new EmbeddedChannel();
+        List<Integer> batches = new ArrayList<>();
+        OutboundQueue queue = new OutboundQueue(batches::add);
+
+        queue.add(channel, () -> {
+            channel.write(0);
+            queue.add(channel, () -> channel.write(1), true, NO_FAILURE);
+            queue.add(channel, () -> {
+                throw new IllegalStateException("intentional");
+            }, false, NO_FAILURE);
+            queue.add(channel, () -> channel.write(2), false, NO_FAILURE);
+        }, false, NO_FAILURE);
+
+        channel.runPendingTasks();
+        assertEquals(0, queue.size());
+        assertEquals(Arrays.asList(1, 3), batches);
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Unexpected write order.", i, (int) channel.readOutbound());
+        }
+    }
+
+    /**
+     * Verifies that if the drain task cannot be scheduled, the queued writes are failed instead of being left behind, and
+     * that the queue can be used again afterwards.
+     */
+    @Test
+    public void testRejectedExecution() {
+        EventLoop eventLoop = mock(EventLoop.class);
+        doThrow(new RejectedExecutionException("intentional")).when(eventLoop).execute(any(Runnable.class));
+        Channel channel = mock(Channel.class);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+        OutboundQueue queue = new OutboundQueue(count -> fail("Not expecting any batch."));
+
+        List<Throwable> failures = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            queue.add(channel, () -> fail("Not expecting the write to be executed."), true, failures::add);
+            assertEquals(0, queue.size());
+            assertEquals(i + 1, failures.size());
+            assertTrue(failures.get(i) instanceof RejectedExecutionException);
+        }
+
+        verify(eventLoop, times(2)).execute(any(Runnable.class));
+    }
+}
@@ -11,8 +11,12 @@
 package io.pravega.client.segment.impl;
 
 
+import io.netty.buffer.ByteBuf;
+import io.pravega.client.stream.UnsupportedCompressionException;
+import io.pravega.client.stream.impl.EventCompression;
 import io.pravega.shared.protocol.netty.WireCommandType;
 import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.test.common.AssertExtensions;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.Timeout;
@@ -22,7 +26,9 @@ import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -125,4 +131,51 @@ public class EventSegmentReaderImplTest {
         verify(segmentInputStream, times(1)).setOffset(0L, true);
         verify(segmentInputStream, times(0)).setOffset(0);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCompressedEvent() throws SegmentTruncatedException, EndOfSegmentException {
+        byte[] event = new byte[1000];
+        for (int i = 0; i < event.length; i++) {
+            event[i] = (byte) (i % 10);
+        }
+        ByteBuf frame = EventCompression.serialize(EventCompression.getCodec("deflate"), ByteBuffer.wrap(event));
+        assertTrue("Expected a compressed event.", frame.readableBytes() < event.length);
+
+        SegmentInputStream segmentInputStream = mock(SegmentInputStream.class);
+        EventSegmentReaderImpl segmentReader = new EventSegmentReaderImpl(segmentInputStream);
+        doAnswer(i -> {
+            ByteBuffer target = i.getArgument(0);
+            int length = Math.min(target.remaining(), frame.readableBytes());
+            frame.readBytes(target.array(), target.position(), length);
+            target.position(target.position() + length);
+            return length;
+        }).when(segmentInputStream).read(any(ByteBuffer.class), anyLong());
+        when(segmentInputStream.getSegmentId()).thenReturn(new Segment("scope", "stream", 0L));
+
+        ByteBuffer readData = segmentReader.read(1000);
+        assertEquals(ByteBuffer.wrap(event), readData);
+    }
+
+    @Test
+    public void testCompressedEventUnknownCodec() throws SegmentTruncatedException, EndOfSegmentException {
+        SegmentInputStream segmentInputStream = mock(SegmentInputStream.class);
+        EventSegmentReaderImpl segmentReader = new EventSegmentReaderImpl(segmentInputStream);
+        doAnswer(i -> {
+            ByteBuffer headerReadingBuffer = i.getArgument(0);
+            headerReadingBuffer.putInt(WireCommandType.COMPRESSED_EVENT.getCode());
+            headerReadingBuffer.putInt(WireCommands.CompressedEvent.COMPRESSION_HEADER_SIZE + 1);
+            return WireCommands.TYPE_PLUS_LENGTH_SIZE;
+        }).doAnswer(i -> {
+            ByteBuffer data = i.getArgument(0);
+            data.put((byte) 127); // Codec id.
+            data.putInt(10); // Uncompressed length.
+            data.put((byte) 0);
+            return WireCommands.CompressedEvent.COMPRESSION_HEADER_SIZE + 1;
+        }).when(segmentInputStream).read(any(ByteBuffer.class), anyLong());
+        when(segmentInputStream.getSegmentId()).thenReturn(new Segment("scope", "stream", 0L));
+
+        // The reader must not skip over (or return) an event it cannot decompress.
+        AssertExtensions.assertThrows(UnsupportedCompressionException.class, () -> segmentReader.read(1000));
+        verify(segmentInputStream, times(1)).setOffset(0L, false);
+    }
+}
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.segment.impl;
+
+import io.netty.buffer.Unpooled;
+import io.pravega.client.netty.impl.ClientConnection;
+import io.pravega.client.stream.mock.MockConnectionFactoryImpl;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.shared.protocol.netty.WireCommands.ReadSegment;
+import io.pravega.shared.protocol.netty.WireCommands.SegmentRead;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import lombok.Cleanup;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * Unit tests for the {@link SegmentReadBatcher} class.
+ */
+public class SegmentReadBatcherTest {
+    private static final PravegaNodeUri ENDPOINT = new PravegaNodeUri("localhost", 12345);
+
+    @Test
+    public void testServerVersion() {
+        @Cleanup
+        MockConnectionFactoryImpl connectionFactory = new MockConnectionFactoryImpl();
+        SegmentReadBatcher batcher = new SegmentReadBatcher(connectionFactory);
+        assertFalse(batcher.isSupported(ENDPOINT));
+        batcher.setServerVersion(ENDPOINT, SegmentReadBatcher.READ_SEGMENTS_WIRE_VERSION - 1);
+        assertFalse(batcher.isSupported(ENDPOINT));
+        batcher.setServerVersion(ENDPOINT, SegmentReadBatcher.READ_SEGMENTS_WIRE_VERSION);
+        assertTrue(batcher.isSupported(ENDPOINT));
+        batcher.setServerVersion(ENDPOINT, SegmentReadBatcher.READ_SEGMENTS_WIRE_VERSION - 1);
+        assertFalse(batcher.isSupported(ENDPOINT));
+    }
+
+    /**
+     * Verifies that a read that has nothing to be combined with is not sent as a batch.
+     */
+    @Test
+    public void testSingleRead() {
+        @Cleanup
+        MockConnectionFactoryImpl connectionFactory = new MockConnectionFactoryImpl();
+        List<Runnable> tasks = setupExecutor(connectionFactory);
+        ClientConnection connection = mock(ClientConnection.class);
+        connectionFactory.provideConnection(ENDPOINT, connection);
+        SegmentReadBatcher batcher = new SegmentReadBatcher(connectionFactory);
+
+        CompletableFuture<SegmentRead> result = batcher.read(ENDPOINT, new ReadSegment("scope/stream/0", 0, 100, "", 1));
+        assertFalse(result.isDone());
+        runAll(tasks);
+        assertNull("Not expecting a single read to be served.", result.join());
+        verifyNoMoreInteractions(connection);
+    }
+
+    /**
+     * Verifies that multiple reads are combined into a single request, that only the reads included in the reply are
+     * served and that subsequent batches reuse the same connection.
+     */
+    @Test
+    public void testBatchedReads() {
+        @Cleanup
+        MockConnectionFactoryImpl connectionFactory = new MockConnectionFactoryImpl();
+        List<Runnable> tasks = setupExecutor(connectionFactory);
+        ClientConnection connection = mock(ClientConnection.class);
+        connectionFactory.provideConnection(ENDPOINT, connection);
+        SegmentReadBatcher batcher = new SegmentReadBatcher(connectionFactory);
+
+        List<ReadSegment> requests = Arrays.asList(
+                new ReadSegment("scope/stream/0", 0, 100, "", 1),
+                new ReadSegment("scope/stream/1", 10, 100, "", 2),
+                new ReadSegment("scope/stream/2", 20, 100, "", 3));
+        List<CompletableFuture<SegmentRead>> results = new ArrayList<>();
+        requests.forEach(r -> results.add(batcher.read(ENDPOINT, r)));
+        assertEquals("Expected a single flush to be scheduled.", 1, tasks.size());
+        runAll(tasks);
+
+        ArgumentCaptor<WireCommands.ReadSegments> sent = ArgumentCaptor.forClass(WireCommands.ReadSegments.class);
+        verify(connection).sendAsync(sent.capture(), any(ClientConnection.CompletedCallback.class));
+        assertEquals("Unexpected reads sent.", requests, sent.getValue().getReads());
+        results.forEach(r -> assertFalse(r.isDone()));
+
+        // Reply with data for two of the reads (and one that was never requested).
+        SegmentRead read0 = new SegmentRead("scope/stream/0", 0, false, false, Unpooled.wrappedBuffer(new byte[10]), 1);
+        SegmentRead read2 = new SegmentRead("scope/stream/2", 20, true, true, Unpooled.EMPTY_BUFFER, 3);
+        SegmentRead unknown = new SegmentRead("scope/stream/3", 30, false, false, Unpooled.wrappedBuffer(new byte[10]), 4);
+        connectionFactory.getProcessor(ENDPOINT).process(
+                new WireCommands.SegmentsRead(sent.getValue().getRequestId(), Arrays.asList(read0, unknown, read2)));
+        assertEquals(read0, results.get(0).join());
+        assertNull("Not expecting a read that was left out of the reply to be served.", results.get(1).join());
+        assertEquals(read2, results.get(2).join());
+        verify(connection, never()).close();
+
+        // The next batch should go out on the same connection, with a new request id.
+        batcher.read(ENDPOINT, new ReadSegment("scope/stream/0", 10, 100, "", 1));
+        batcher.read(ENDPOINT, new ReadSegment("scope/stream/1", 10, 100, "", 2));
+        runAll(tasks);
+        verify(connection, times(2)).sendAsync(sent.capture(), any(ClientConnection.CompletedCallback.class));
+        assertNotEquals("Expected a new request id.", sent.getAllValues().get(0).getRequestId(), sent.getValue().getRequestId());
+        verify(connection, never()).close();
+    }
+
+    /**
+     * Verifies that all reads in a batch are left for the caller to retry individually if the connection fails.
+     */
+    @Test
+    public void testConnectionDropped() {
+        @Cleanup
+        MockConnectionFactoryImpl connectionFactory = new MockConnectionFactoryImpl();
+        List<Runnable> tasks = setupExecutor(connectionFactory);
+        ClientConnection connection = mock(ClientConnection.class);
+        connectionFactory.provideConnection(ENDPOINT, connection);
+        SegmentReadBatcher batcher = new SegmentReadBatcher(connectionFactory);
+
+        CompletableFuture<SegmentRead> result1 = batcher.read(ENDPOINT, new ReadSegment("scope/stream/0", 0, 100, "", 1));
+        CompletableFuture<SegmentRead> result2 = batcher.read(ENDPOINT, new ReadSegment("scope/stream/1", 0, 100, "", 2));
+        runAll(tasks);
+        verify(connection).sendAsync(any(WireCommands.ReadSegments.class), any(ClientConnection.CompletedCallback.class));
+
+        connectionFactory.getProcessor(ENDPOINT).connectionDropped();
+        assertNull(result1.join());
+        assertNull(result2.join());
+        verify(connection).close();
+
+        // Subsequent reads should start a new batch.
+        batcher.read(ENDPOINT, new ReadSegment("scope/stream/0", 0, 100, "", 1));
+        assertEquals(1, tasks.size());
+        runAll(tasks);
+    }
+
+    private List<Runnable> setupExecutor(MockConnectionFactoryImpl connectionFactory) {
+        List<Runnable> tasks = new ArrayList<>();
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(executor).execute(any(Runnable.class));
+        connectionFactory.setExecutor(executor);
+        return tasks;
+    }
+
+    private void runAll(List<Runnable> tasks) {
+        List<Runnable> toRun = new ArrayList<>(tasks);
+        tasks.clear();
+        toRun.forEach(Runnable::run);
+    }
+}
@@ -260,22 +260,61 @@ public class SynchronizerTest {
         assertEquals(sync.getState().getValue(), "c");
         assertEquals(3, callCount.get());
         assertEquals(0, sync.bytesWrittenSinceCompaction());
+        // The compaction was applied locally, so the next update need not be retried.
         sync.updateState((state, updates) -> {
             callCount.incrementAndGet();
             updates.add(new RegularUpdate("e"));
         });
         assertEquals(sync.getState().getValue(), "e");
-        assertEquals(5, callCount.get());
+        assertEquals(4, callCount.get());
         assertEquals(size, sync.bytesWrittenSinceCompaction());
         sync.compact(state -> {
             callCount.incrementAndGet();
             return new RegularUpdate("e");
         });
         assertEquals(sync.getState().getValue(), "e");
-        assertEquals(6, callCount.get());
+        assertEquals(5, callCount.get());
         assertEquals(0, sync.bytesWrittenSinceCompaction());
     }
 
+    @Test(timeout = 20000)
+    public void testCompactionSizeIsNotCounted() {
+        String streamName = "streamName";
+        String scope = "scope";
+
+        MockSegmentStreamFactory ioFactory = new MockSegmentStreamFactory();
+        @Cleanup
+        MockClientFactory clientFactory = new MockClientFactory(scope, ioFactory);
+        createScopeAndStream(streamName, scope, clientFactory.getController());
+
+        StateSynchronizer<RevisionedImpl> syncA = clientFactory.createStateSynchronizer(streamName, new JavaSerializer<>(),
+                new JavaSerializer<>(), SynchronizerConfig.builder().build());
+        StateSynchronizer<RevisionedImpl> syncB = clientFactory.createStateSynchronizer(streamName, new JavaSerializer<>(),
+                new JavaSerializer<>(), SynchronizerConfig.builder().build());
+        String largeValue = String.join("", Collections.nCopies(10000, "x"));
+        syncA.initialize(new RegularUpdate(largeValue));
+        assertEquals(0, syncA.bytesWrittenSinceCompaction());
+        syncA.updateState((state, updates) -> {
+            updates.add(new RegularUpdate("b"));
+        });
+        long updateSize = syncA.bytesWrittenSinceCompaction();
+        assertTrue(updateSize > 0 && updateSize < largeValue.length());
+
+        // A large compaction, written by someone else, should not count either.
+        syncB.fetchUpdates();
+        assertEquals(updateSize, syncB.bytesWrittenSinceCompaction());
+        syncB.compact(state -> new RegularUpdate(largeValue));
+        assertEquals(largeValue, syncB.getState().getValue());
+        assertEquals(0, syncB.bytesWrittenSinceCompaction());
+        syncA.fetchUpdates();
+        assertEquals(largeValue, syncA.getState().getValue());
+        assertEquals(0, syncA.bytesWrittenSinceCompaction());
+        syncA.updateState((state, updates) -> {
+            updates.add(new RegularUpdate("c"));
+        });
+        assertEquals(updateSize, syncA.bytesWrittenSinceCompaction());
+    }
+
     @Test(timeout = 20000)
     public void testConsistency() {
         String streamName = "streamName";
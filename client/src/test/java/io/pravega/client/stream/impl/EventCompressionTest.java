@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.stream.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.pravega.client.stream.CompressionCodec;
+import io.pravega.client.stream.UnsupportedCompressionException;
+import io.pravega.shared.protocol.netty.WireCommandType;
+import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.test.common.AssertExtensions;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class EventCompressionTest {
+
+    @Test
+    public void testGetCodec() {
+        assertNull(EventCompression.getCodec(null));
+        CompressionCodec codec = EventCompression.getCodec(DeflateCompressionCodec.NAME);
+        assertEquals(DeflateCompressionCodec.ID, codec.getId());
+        AssertExtensions.assertThrows(IllegalArgumentException.class, () -> EventCompression.getCodec("unknown"));
+    }
+
+    @Test
+    public void testCompressedRoundTrip() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            sb.append(String.format("{\"sensor\":\"sensor-%d\",\"temperature\":%d,\"status\":\"OK\"}", i % 7, i));
+        }
+        ByteBuffer event = ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8));
+        ByteBuf frame = EventCompression.serialize(EventCompression.getCodec(DeflateCompressionCodec.NAME), event);
+        assertEquals("The event must not be modified.", 0, event.position());
+
+        assertEquals(WireCommandType.COMPRESSED_EVENT.getCode(), frame.readInt());
+        int length = frame.readInt();
+        assertEquals(frame.readableBytes(), length);
+        byte codecId = frame.readByte();
+        int uncompressedLength = frame.readInt();
+        assertEquals(DeflateCompressionCodec.ID, codecId);
+        assertEquals(event.remaining(), uncompressedLength);
+        assertTrue("Expected event to be compressed.", length < event.remaining() / 2);
+
+        ByteBuffer compressed = ByteBuffer.allocate(frame.readableBytes());
+        frame.readBytes(compressed);
+        compressed.flip();
+        assertEquals(event, EventCompression.decompress(codecId, compressed, uncompressedLength));
+    }
+
+    @Test
+    public void testUncompressedEvents() {
+        CompressionCodec codec = EventCompression.getCodec(DeflateCompressionCodec.NAME);
+
+        // No codec.
+        ByteBuffer event = ByteBuffer.wrap(new byte[1000]);
+        checkUncompressed(event, EventCompression.serialize(null, event));
+
+        // Too small to be worth compressing.
+        event = ByteBuffer.wrap(new byte[EventCompression.MIN_COMPRESSION_SIZE - 1]);
+        checkUncompressed(event, EventCompression.serialize(codec, event));
+
+        // Does not get any smaller.
+        byte[] random = new byte[1000];
+        new Random(0).nextBytes(random);
+        event = ByteBuffer.wrap(random);
+        checkUncompressed(event, EventCompression.serialize(codec, event));
+    }
+
+    @Test
+    public void testUnknownCodec() {
+        AssertExtensions.assertThrows(UnsupportedCompressionException.class,
+                () -> EventCompression.decompress((byte) 127, ByteBuffer.allocate(10), 100));
+    }
+
+    private void checkUncompressed(ByteBuffer event, ByteBuf frame) {
+        assertEquals(WireCommandType.EVENT.getCode(), frame.readInt());
+        assertEquals(event.remaining(), frame.readInt());
+        assertEquals(event, frame.nioBuffer());
+        assertEquals(WireCommands.TYPE_PLUS_LENGTH_SIZE + event.remaining(), frame.writerIndex());
+    }
+}
@@ -59,6 +59,7 @@ import io.pravega.client.segment.impl.SegmentTruncatedException;
 import io.pravega.client.state.RevisionedStreamClient;
 import io.pravega.client.state.StateSynchronizer;
 import io.pravega.client.state.SynchronizerConfig;
+import io.pravega.client.stream.CompressionCodec;
 import io.pravega.client.stream.EventRead;
 import io.pravega.client.stream.EventWriterConfig;
 import io.pravega.client.stream.ReaderConfig;
@@ -417,6 +418,49 @@ public class EventStreamReaderTest {
         reader.close();
     }
 
+    @Test(timeout = 10000)
+    public void testCompressedEvents() throws SegmentSealedException, NoSuchEventException, ReaderNotInReaderGroupException {
+        AtomicLong clock = new AtomicLong();
+        MockSegmentStreamFactory segmentStreamFactory = new MockSegmentStreamFactory();
+        Orderer orderer = new Orderer();
+        ReaderGroupStateManager groupState = Mockito.mock(ReaderGroupStateManager.class);
+        EventStreamReaderImpl<byte[]> reader = new EventStreamReaderImpl<>(segmentStreamFactory, segmentStreamFactory,
+                                                                           new ByteArraySerializer(), groupState,
+                                                                           orderer, clock::get,
+                                                                           ReaderConfig.builder().build(),
+                                                                           createWatermarkReaders(),
+                                                                           Mockito.mock(Controller.class));
+        Segment segment = Segment.fromScopedName("Foo/Bar/0");
+        Mockito.when(groupState.acquireNewSegmentsIfNeeded(eq(0L), any()))
+               .thenReturn(ImmutableMap.of(new SegmentWithRange(segment, 0, 1), 0L))
+               .thenReturn(Collections.emptyMap());
+        Mockito.when(groupState.getEndOffsetForSegment(any(Segment.class))).thenReturn(Long.MAX_VALUE);
+        SegmentOutputStream stream = segmentStreamFactory.createOutputStreamForSegment(segment, segmentSealedCallback,
+                writerConfig, DelegationTokenProviderFactory.createWithEmptyToken());
+        CompressionCodec codec = EventCompression.getCodec("deflate");
+        ByteBuffer buffer1 = ByteBuffer.wrap(new byte[1000]);
+        stream.write(PendingEvent.withHeader(null, buffer1, codec, new CompletableFuture<Void>()));
+        ByteBuffer buffer2 = writeInt(stream, 2);
+        ByteBuffer buffer3 = ByteBuffer.wrap(new byte[2000]);
+        stream.write(PendingEvent.withHeader(null, buffer3, codec, new CompletableFuture<Void>()));
+        EventRead<byte[]> event1 = reader.readNextEvent(0);
+        EventRead<byte[]> event2 = reader.readNextEvent(0);
+        EventRead<byte[]> event3 = reader.readNextEvent(0);
+        assertEquals(buffer1, ByteBuffer.wrap(event1.getEvent()));
+        assertEquals(buffer2, ByteBuffer.wrap(event2.getEvent()));
+        assertEquals(buffer3, ByteBuffer.wrap(event3.getEvent()));
+        assertNull(reader.readNextEvent(0).getEvent());
+
+        // Event pointers must refer to the compressed events, as they were written to the Segment.
+        EventPointerInternal pointer1 = event1.getEventPointer().asImpl();
+        EventPointerInternal pointer2 = event2.getEventPointer().asImpl();
+        assertTrue(pointer1.getEventLength() < buffer1.remaining());
+        assertEquals(pointer1.getEventStartOffset() + pointer1.getEventLength(), pointer2.getEventStartOffset());
+        assertEquals(buffer3, ByteBuffer.wrap(reader.fetchEvent(event3.getEventPointer())));
+        assertEquals(buffer1, ByteBuffer.wrap(reader.fetchEvent(event1.getEventPointer())));
+        reader.close();
+    }
+
     @Test(timeout = 10000)
     public void testCheckpoint() throws SegmentSealedException, ReaderNotInReaderGroupException {
         AtomicLong clock = new AtomicLong();
@@ -43,6 +43,7 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import static io.pravega.test.common.AssertExtensions.assertThrows;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -75,6 +76,34 @@ public class EventStreamWriterTest extends LeakDetectorTestSuite {
         }
     }
 
+    @Test
+    public void testCompression() throws Exception {
+        String scope = "scope";
+        String streamName = "stream";
+        StreamImpl stream = new StreamImpl(scope, streamName);
+        Segment segment = new Segment(scope, streamName, 0);
+        SegmentOutputStreamFactory streamFactory = Mockito.mock(SegmentOutputStreamFactory.class);
+        Controller controller = Mockito.mock(Controller.class);
+        Mockito.when(controller.getCurrentSegments(scope, streamName)).thenReturn(getSegmentsFuture(segment));
+        MockSegmentIoStreams outputStream = new MockSegmentIoStreams(segment, null);
+        Mockito.when(streamFactory.createOutputStreamForSegment(eq(segment), any(), any(), any())).thenReturn(outputStream);
+
+        // Unknown codecs are rejected when the writer is created, not when the first event is written.
+        EventWriterConfig invalidConfig = EventWriterConfig.builder().compressionCodec("unknown").build();
+        assertThrows(IllegalArgumentException.class, () -> new EventStreamWriterImpl<>(stream, "id", controller, streamFactory,
+                new JavaSerializer<>(), invalidConfig, executorService(), executorService()));
+
+        EventWriterConfig config = EventWriterConfig.builder().compressionCodec("deflate").build();
+        JavaSerializer<String> serializer = new JavaSerializer<>();
+        EventStreamWriter<String> writer = new EventStreamWriterImpl<>(stream, "id", controller, streamFactory,
+                serializer, config, executorService(), executorService());
+        String event = String.join("", Collections.nCopies(100, "compressible "));
+        writer.writeEvent(event).join();
+        writer.close();
+        assertTrue(outputStream.fetchCurrentSegmentLength() < serializer.serialize(event).remaining());
+        assertEquals(event, serializer.deserialize(outputStream.read()));
+    }
+
     private StreamSegments getSegments(Segment segment) {
         NavigableMap<Double, SegmentWithRange> segments = new TreeMap<>();
         segments.put(1.0, new SegmentWithRange(segment, 0.0, 1.0));
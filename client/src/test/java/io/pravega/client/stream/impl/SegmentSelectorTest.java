@@ -138,6 +138,32 @@ public class SegmentSelectorTest {
         assertArrayEquals(new int[] { 20, 0, 0, 0 }, counts);
     }
 
+    @Test
+    public void testPendingEventRoutedByItsHash() {
+        Controller controller = Mockito.mock(Controller.class);
+        SegmentOutputStreamFactory factory = Mockito.mock(SegmentOutputStreamFactory.class);
+        SegmentSelector selector = new SegmentSelector(new StreamImpl(scope, streamName), controller, factory, config,
+                DelegationTokenProviderFactory.createWithEmptyToken());
+        TreeMap<Double, SegmentWithRange> segments = new TreeMap<>();
+        addNewSegment(segments, 0, 0.0, 0.25);
+        addNewSegment(segments, 1, 0.25, 0.5);
+        addNewSegment(segments, 2, 0.5, 0.75);
+        addNewSegment(segments, 3, 0.75, 1.0);
+        StreamSegments streamSegments = new StreamSegments(segments, "");
+
+        when(controller.getCurrentSegments(scope, streamName))
+               .thenReturn(CompletableFuture.completedFuture(streamSegments));
+        selector.refreshSegmentEventWriters(segmentSealedCallback);
+        for (int i = 0; i < 20; i++) {
+            PendingEvent event = PendingEvent.withoutHeader("" + i, ByteBuffer.allocate(0), null);
+            assertEquals(StreamSegments.hashRoutingKey("" + i), event.getRoutingKeyHash(), 0);
+            assertEquals(selector.getSegmentForEvent("" + i), selector.getSegmentForEvent(event));
+        }
+        PendingEvent noKey = PendingEvent.withoutHeader(null, ByteBuffer.allocate(0), null);
+        assertTrue(Double.isNaN(noKey.getRoutingKeyHash()));
+        assertNotNull(selector.getSegmentForEvent(noKey));
+    }
+
     @Test
     public void testStreamDeletion() {
         final Segment segment0 = new Segment(scope, streamName, 0);
@@ -21,8 +21,10 @@ import io.pravega.client.segment.impl.SegmentMetadataClient;
 import io.pravega.client.segment.impl.SegmentOutputStream;
 import io.pravega.client.segment.impl.SegmentSealedException;
 import io.pravega.client.segment.impl.SegmentTruncatedException;
+import io.pravega.client.stream.impl.EventCompression;
 import io.pravega.client.stream.impl.PendingEvent;
 import io.pravega.common.util.ByteBufferUtils;
+import io.pravega.shared.protocol.netty.WireCommandType;
 import io.pravega.shared.protocol.netty.WireCommands;
 import java.nio.ByteBuffer;
 import java.util.Collections;
@@ -106,7 +108,13 @@ public class MockSegmentIoStreams implements SegmentOutputStream, SegmentInputSt
         ByteBuffer buffer = dataWritten.floorEntry(readOffset).getValue();
         readOffset += buffer.remaining();
         ByteBuffer result = buffer.slice();
+        int type = result.getInt();
         result.position(WireCommands.TYPE_PLUS_LENGTH_SIZE);
+        if (type == WireCommandType.COMPRESSED_EVENT.getCode()) {
+            byte codecId = result.get();
+            int uncompressedLength = result.getInt();
+            return EventCompression.decompress(codecId, result.slice(), uncompressedLength);
+        }
         return result;
     }
     
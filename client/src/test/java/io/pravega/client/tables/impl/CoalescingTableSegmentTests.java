@@ -0,0 +1,294 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.client.tables.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.pravega.client.tables.BadKeyVersionException;
+import io.pravega.client.tables.IteratorItem;
+import io.pravega.common.ObjectClosedException;
+import io.pravega.common.util.AsyncIterator;
+import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.IntentionalException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for the {@link CoalescingTableSegment} class.
+ */
+public class CoalescingTableSegmentTests {
+    private static final Duration WINDOW = Duration.ofMillis(10);
+    private static final int MAX_BATCH_SIZE = 1024;
+
+    /**
+     * Verifies that unconditional puts are combined, as long as they do not update the same Key, and that each caller
+     * gets the versions for its own entries.
+     */
+    @Test
+    public void testUnconditionalPuts() {
+        val context = new TestContext(MAX_BATCH_SIZE);
+        val put1 = context.coalescing.put(Arrays.asList(entry("k1"), entry("k2")).iterator());
+        val put2 = context.coalescing.put(entry("k3"));
+        val put3 = context.coalescing.put(entry("k1"));
+        val put4 = context.coalescing.put(entry("k4"));
+        Assert.assertEquals("Expected a single flush to be scheduled.", 1, context.scheduledTasks.size());
+        Assert.assertEquals("Not expecting any request to be issued before the flush.", 0, context.segment.calls.size());
+
+        context.runAll();
+        Assert.assertEquals("Expected the puts to be split where a Key is updated again.",
+                Arrays.asList(keys("k1", "k2", "k3"), keys("k1", "k4")),
+                context.segment.calls.stream().map(Call::getKeys).collect(Collectors.toList()));
+
+        context.segment.calls.get(0).getPutResult().complete(versions(1, 2, 3));
+        Assert.assertEquals(versions(1, 2), put1.join());
+        Assert.assertEquals(versions(3).get(0), put2.join());
+        Assert.assertFalse(put3.isDone());
+
+        context.segment.calls.get(1).getPutResult().completeExceptionally(new IntentionalException());
+        AssertExtensions.assertFutureThrows("Expected a failed combined put to fail all its requests.",
+                put3, ex -> ex instanceof IntentionalException);
+        AssertExtensions.assertFutureThrows("Expected a failed combined put to fail all its requests.",
+                put4, ex -> ex instanceof IntentionalException);
+    }
+
+    /**
+     * Verifies that conditional puts and removals are never combined and that they are issued in order with the other
+     * updates.
+     */
+    @Test
+    public void testConditionalUpdates() {
+        val context = new TestContext(MAX_BATCH_SIZE);
+
+        // Nothing pending: this should be issued right away.
+        val conditional1 = context.coalescing.put(TableSegmentEntry.notExists(bytes("k1"), bytes("v")));
+        Assert.assertEquals(1, context.segment.calls.size());
+        Assert.assertEquals(0, context.tasks.size());
+
+        val put1 = context.coalescing.put(entry("k2"));
+        val conditional2 = context.coalescing.put(TableSegmentEntry.versioned(bytes("k3"), bytes("v"), 1L));
+        val remove = context.coalescing.remove(TableSegmentKey.unversioned(bytes("k4")));
+        val put2 = context.coalescing.put(entry("k5"));
+        val put3 = context.coalescing.put(entry("k6"));
+        Assert.assertEquals("Not expecting updates to be issued while others are pending.", 1, context.segment.calls.size());
+
+        context.runAll();
+        Assert.assertEquals("Unexpected requests or order.",
+                Arrays.asList("put", "put", "put", "remove", "put"),
+                context.segment.calls.stream().map(Call::getType).collect(Collectors.toList()));
+        Assert.assertEquals(
+                Arrays.asList(keys("k1"), keys("k2"), keys("k3"), keys("k4"), keys("k5", "k6")),
+                context.segment.calls.stream().map(Call::getKeys).collect(Collectors.toList()));
+
+        // A failed condition is only reported to the request that set it.
+        context.segment.calls.get(2).getPutResult().completeExceptionally(new BadKeyVersionException("table"));
+        context.segment.calls.get(1).getPutResult().complete(versions(2));
+        context.segment.calls.get(3).getRemoveResult().complete(null);
+        context.segment.calls.get(4).getPutResult().complete(versions(5, 6));
+        AssertExtensions.assertFutureThrows("Expected the conditional put to fail.",
+                conditional2, ex -> ex instanceof BadKeyVersionException);
+        Assert.assertEquals(versions(2).get(0), put1.join());
+        remove.join();
+        Assert.assertEquals(versions(5).get(0), put2.join());
+        Assert.assertEquals(versions(6).get(0), put3.join());
+        Assert.assertFalse(conditional1.isDone());
+    }
+
+    /**
+     * Verifies that gets are combined, as long as they do not request the same Key.
+     */
+    @Test
+    public void testGets() {
+        val context = new TestContext(MAX_BATCH_SIZE);
+        val get1 = context.coalescing.get(Arrays.asList(bytes("k1"), bytes("k2")).iterator());
+        val get2 = context.coalescing.get(bytes("k3"));
+        val get3 = context.coalescing.get(bytes("k1"));
+        Assert.assertEquals("Expected a single flush to be scheduled.", 1, context.scheduledTasks.size());
+
+        context.runAll();
+        Assert.assertEquals(Arrays.asList(keys("k1", "k2", "k3"), keys("k1")),
+                context.segment.calls.stream().map(Call::getKeys).collect(Collectors.toList()));
+
+        val e1 = TableSegmentEntry.versioned(bytes("k1"), bytes("v1"), 1L);
+        val e3 = TableSegmentEntry.versioned(bytes("k3"), bytes("v3"), 3L);
+        context.segment.calls.get(0).getGetResult().complete(Arrays.asList(e1, null, e3));
+        context.segment.calls.get(1).getGetResult().complete(Arrays.asList(e1));
+        Assert.assertEquals(Arrays.asList(e1, null), get1.join());
+        Assert.assertEquals(e3, get2.join());
+        Assert.assertEquals(e1, get3.join());
+    }
+
+    /**
+     * Verifies that requests are flushed as soon as they reach the maximum batch size and that combined requests do not
+     * exceed it.
+     */
+    @Test
+    public void testMaxBatchSize() {
+        // Each of these entries has 4 bytes (2 for the Key, 2 for the Value).
+        val context = new TestContext(10);
+        context.coalescing.put(entry("k1"));
+        context.coalescing.put(entry("k2"));
+        Assert.assertEquals("Expected a flush to be scheduled after the window.", 0, context.tasks.size());
+        Assert.assertEquals(1, context.scheduledTasks.size());
+        context.coalescing.put(entry("k3"));
+        Assert.assertEquals("Expected an immediate flush once the maximum batch size was reached.", 1, context.tasks.size());
+
+        context.runAll();
+        Assert.assertEquals(Arrays.asList(keys("k1", "k2"), keys("k3")),
+                context.segment.calls.stream().map(Call::getKeys).collect(Collectors.toList()));
+    }
+
+    /**
+     * Verifies that closing fails all pending requests and closes the underlying {@link TableSegment}.
+     */
+    @Test
+    public void testClose() {
+        val context = new TestContext(MAX_BATCH_SIZE);
+        val put = context.coalescing.put(entry("k1"));
+        val get = context.coalescing.get(bytes("k1"));
+        context.coalescing.close();
+        Assert.assertTrue(context.segment.closed);
+        AssertExtensions.assertFutureThrows("Expected pending put to be failed.", put, ex -> ex instanceof ObjectClosedException);
+        AssertExtensions.assertFutureThrows("Expected pending get to be failed.", get, ex -> ex instanceof ObjectClosedException);
+        AssertExtensions.assertThrows("Not expecting new requests to be accepted.",
+                () -> context.coalescing.put(entry("k2")), ex -> ex instanceof ObjectClosedException);
+
+        context.runAll();
+        Assert.assertEquals("Not expecting any request to be issued after closing.", 0, context.segment.calls.size());
+    }
+
+    private static TableSegmentEntry entry(String key) {
+        return TableSegmentEntry.unversioned(bytes(key), bytes("v" + key.substring(1)));
+    }
+
+    private static ByteBuf bytes(String s) {
+        return Unpooled.wrappedBuffer(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<ByteBuf> keys(String... keys) {
+        return Arrays.stream(keys).map(CoalescingTableSegmentTests::bytes).collect(Collectors.toList());
+    }
+
+    private static List<TableSegmentKeyVersion> versions(long... versions) {
+        return Arrays.stream(versions).mapToObj(TableSegmentKeyVersion::from).collect(Collectors.toList());
+    }
+
+    //region Helper Classes
+
+    private static class TestContext {
+        final List<Runnable> tasks = new ArrayList<>();
+        final List<Runnable> scheduledTasks = new ArrayList<>();
+        final RecordingTableSegment segment = new RecordingTableSegment();
+        final CoalescingTableSegment coalescing;
+
+        TestContext(int maxBatchSize) {
+            ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+            doAnswer(invocation -> this.tasks.add(invocation.getArgument(0))).when(executor).execute(any(Runnable.class));
+            doAnswer(invocation -> {
+                this.scheduledTasks.add(invocation.getArgument(0));
+                return null;
+            }).when(executor).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS));
+            this.coalescing = new CoalescingTableSegment(this.segment, executor, WINDOW, maxBatchSize);
+        }
+
+        void runAll() {
+            List<Runnable> toRun = new ArrayList<>(this.tasks);
+            toRun.addAll(this.scheduledTasks);
+            this.tasks.clear();
+            this.scheduledTasks.clear();
+            toRun.forEach(Runnable::run);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Call {
+        private final String type;
+        private final List<ByteBuf> keys;
+        private final CompletableFuture<List<TableSegmentKeyVersion>> putResult = new CompletableFuture<>();
+        private final CompletableFuture<Void> removeResult = new CompletableFuture<>();
+        private final CompletableFuture<List<TableSegmentEntry>> getResult = new CompletableFuture<>();
+    }
+
+    /**
+     * A {@link TableSegment} that records every request it receives and lets the test complete them.
+     */
+    private static class RecordingTableSegment implements TableSegment {
+        private final List<Call> calls = new ArrayList<>();
+        private boolean closed;
+
+        @Override
+        public CompletableFuture<List<TableSegmentKeyVersion>> put(Iterator<TableSegmentEntry> entries) {
+            List<ByteBuf> keys = new ArrayList<>();
+            entries.forEachRemaining(e -> keys.add(e.getKey().getKey()));
+            return record("put", keys).getPutResult();
+        }
+
+        @Override
+        public CompletableFuture<Void> remove(Iterator<TableSegmentKey> keys) {
+            List<ByteBuf> rawKeys = new ArrayList<>();
+            keys.forEachRemaining(k -> rawKeys.add(k.getKey()));
+            return record("remove", rawKeys).getRemoveResult();
+        }
+
+        @Override
+        public CompletableFuture<List<TableSegmentEntry>> get(Iterator<ByteBuf> keys) {
+            List<ByteBuf> rawKeys = new ArrayList<>();
+            keys.forEachRemaining(rawKeys::add);
+            return record("get", rawKeys).getGetResult();
+        }
+
+        @Override
+        public AsyncIterator<IteratorItem<TableSegmentKey>> keyIterator(IteratorArgs args) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AsyncIterator<IteratorItem<TableSegmentEntry>> entryIterator(IteratorArgs args) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getSegmentId() {
+            return 0;
+        }
+
+        @Override
+        public void close() {
+            this.closed = true;
+        }
+
+        private Call record(String type, List<ByteBuf> keys) {
+            Call call = new Call(type, keys);
+            this.calls.add(call);
+            return call;
+        }
+    }
+
+    //endregion
+}
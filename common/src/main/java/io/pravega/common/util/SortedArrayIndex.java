@@ -0,0 +1,304 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.common.util;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.function.Consumer;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * SortedIndex backed by a pair of parallel arrays: a primitive array of Keys (sorted) and an array of IndexEntries.
+ * <p>
+ * Compared to the tree-based indices, this one does not allocate a node object for each entry and its lookups are a
+ * binary search over a contiguous long[], which makes it considerably more compact (roughly 12 bytes per entry, as
+ * opposed to about 40 for {@link AvlTreeIndex}) and cheaper for the GC to scan. Its insertion cost is optimized for the
+ * case where items are added in increasing order of their keys (appending at the end is amortized O(1)); inserting in the
+ * middle requires shifting the subsequent items.
+ * <p>
+ * Removed items leave a gap in the arrays, which is reused if an item is inserted in its place. Gaps at either end of the
+ * arrays are skipped right away; all gaps are compacted in bulk once there are more gaps than items.
+ * <p>
+ * Note: This class is not thread-safe and requires external synchronization when in a multi-threaded environment.
+ *
+ * @param <V> The type of the IndexEntries.
+ */
+@NotThreadSafe
+public class SortedArrayIndex<V extends SortedIndex.IndexEntry> implements SortedIndex<V> {
+    //region Members
+
+    @VisibleForTesting
+    static final int INITIAL_CAPACITY = 16;
+    private long[] keys;
+    private Object[] items;
+    /**
+     * The position of the first item (all positions before this one are unused). If the index is empty, this equals {@link #end}.
+     */
+    private int start;
+    /**
+     * One past the position of the last item (all positions starting at this one are unused).
+     */
+    private int end;
+    private int size;
+    private int modCount;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the SortedArrayIndex class.
+     */
+    public SortedArrayIndex() {
+        reset();
+    }
+
+    //endregion
+
+    //region SortedIndex Implementation
+
+    @Override
+    public void clear() {
+        reset();
+        this.modCount++;
+    }
+
+    @Override
+    public V put(V item) {
+        Preconditions.checkNotNull(item, "item");
+        long key = item.key();
+        int pos = Arrays.binarySearch(this.keys, this.start, this.end, key);
+        if (pos >= 0) {
+            // Existing key or a gap with the same key.
+            V existing = getAt(pos);
+            this.items[pos] = item;
+            if (existing == null) {
+                this.size++;
+            }
+
+            this.modCount++;
+            return existing;
+        }
+
+        pos = -pos - 1;
+        if (pos > this.start && pos < this.end) {
+            // Inserting between two existing positions. Reuse a gap if there is one next to the insertion point.
+            if (this.items[pos - 1] == null) {
+                pos--;
+            } else if (this.items[pos] != null) {
+                pos = insertGap(pos, key);
+                if (pos < 0) {
+                    // We had to make room for it, which moved everything around.
+                    return put(item);
+                }
+            }
+        } else if (pos == this.start && this.start > 0) {
+            // Smaller than everything else and there is room at the beginning.
+            pos = --this.start;
+        } else if (pos == this.start || this.end == this.keys.length) {
+            // Smaller than everything else and no room at the beginning, or larger than everything else and no room at the end.
+            pos = insertGap(pos, key);
+            if (pos < 0) {
+                return put(item);
+            }
+        } else {
+            // Larger than everything else and there is room at the end (most common case).
+            this.end++;
+        }
+
+        this.keys[pos] = key;
+        this.items[pos] = item;
+        this.size++;
+        this.modCount++;
+        return null;
+    }
+
+    @Override
+    public V remove(long key) {
+        int pos = Arrays.binarySearch(this.keys, this.start, this.end, key);
+        if (pos < 0 || this.items[pos] == null) {
+            return null;
+        }
+
+        V result = getAt(pos);
+        this.items[pos] = null;
+        this.size--;
+        this.modCount++;
+        if (this.size == 0) {
+            reset();
+        } else if (this.size < (this.end - this.start) / 2 || (this.keys.length > INITIAL_CAPACITY && this.size < this.keys.length / 4)) {
+            // More gaps than items, or we are using too little of the allocated space.
+            compact(Math.max(INITIAL_CAPACITY, this.size * 2));
+        } else {
+            // Skip over any gaps at either end.
+            while (this.items[this.start] == null) {
+                this.start++;
+            }
+
+            while (this.items[this.end - 1] == null) {
+                this.end--;
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public V get(long key) {
+        int pos = Arrays.binarySearch(this.keys, this.start, this.end, key);
+        return pos >= 0 ? getAt(pos) : null;
+    }
+
+    @Override
+    public V getCeiling(long key) {
+        int pos = Arrays.binarySearch(this.keys, this.start, this.end, key);
+        if (pos < 0) {
+            pos = -pos - 1;
+        }
+
+        // There are never any gaps at the end, so we are bound to find something if we are within bounds.
+        while (pos < this.end && this.items[pos] == null) {
+            pos++;
+        }
+
+        return pos < this.end ? getAt(pos) : null;
+    }
+
+    @Override
+    public V getFloor(long key) {
+        int pos = Arrays.binarySearch(this.keys, this.start, this.end, key);
+        if (pos < 0) {
+            pos = -pos - 2;
+        }
+
+        // There are never any gaps at the beginning, so we are bound to find something if we are within bounds.
+        while (pos >= this.start && this.items[pos] == null) {
+            pos--;
+        }
+
+        return pos >= this.start ? getAt(pos) : null;
+    }
+
+    @Override
+    public V getFirst() {
+        return this.size == 0 ? null : getAt(this.start);
+    }
+
+    @Override
+    public V getLast() {
+        return this.size == 0 ? null : getAt(this.end - 1);
+    }
+
+    @Override
+    public void forEach(Consumer<V> consumer) {
+        int originalModCount = this.modCount;
+        for (int i = this.start; i < this.end; i++) {
+            V item = getAt(i);
+            if (item != null) {
+                consumer.accept(item);
+                if (this.modCount != originalModCount) {
+                    throw new ConcurrentModificationException("SortedArrayIndex has been modified; forEach cannot continue.");
+                }
+            }
+        }
+    }
+
+    //endregion
+
+    //region Helpers
+
+    /**
+     * Gets a value indicating the number of positions allocated for Keys and IndexEntries.
+     *
+     * @return The capacity.
+     */
+    @VisibleForTesting
+    int getCapacity() {
+        return this.keys.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V getAt(int pos) {
+        return (V) this.items[pos];
+    }
+
+    /**
+     * Opens up a gap for the given key right before the given position, by shifting the surrounding items towards
+     * whichever end of the arrays has unused space. If there is no unused space, the arrays are compacted (and grown, if
+     * needed) instead.
+     *
+     * @param pos The insertion point.
+     * @param key The Key to insert.
+     * @return The position of the gap, or -1 if the arrays have been compacted and the insertion point needs to be
+     * recalculated.
+     */
+    private int insertGap(int pos, long key) {
+        if (this.end < this.keys.length) {
+            System.arraycopy(this.keys, pos, this.keys, pos + 1, this.end - pos);
+            System.arraycopy(this.items, pos, this.items, pos + 1, this.end - pos);
+            this.end++;
+            return pos;
+        } else if (this.start > 0) {
+            System.arraycopy(this.keys, this.start, this.keys, this.start - 1, pos - this.start);
+            System.arraycopy(this.items, this.start, this.items, this.start - 1, pos - this.start);
+            this.start--;
+            return pos - 1;
+        } else {
+            compact(Math.max(INITIAL_CAPACITY, (this.size + 1) * 2));
+            return -1;
+        }
+    }
+
+    /**
+     * Moves all the items to the beginning of newly allocated arrays of the given capacity, removing any gaps between them.
+     *
+     * @param capacity The capacity of the new arrays. Must be at least {@link #size()}.
+     */
+    private void compact(int capacity) {
+        long[] newKeys = new long[capacity];
+        Object[] newItems = new Object[capacity];
+        int count = 0;
+        for (int i = this.start; i < this.end; i++) {
+            if (this.items[i] != null) {
+                newKeys[count] = this.keys[i];
+                newItems[count] = this.items[i];
+                count++;
+            }
+        }
+
+        assert count == this.size;
+        this.keys = newKeys;
+        this.items = newItems;
+        this.start = 0;
+        this.end = count;
+    }
+
+    private void reset() {
+        if (this.keys == null || this.keys.length != INITIAL_CAPACITY) {
+            this.keys = new long[INITIAL_CAPACITY];
+            this.items = new Object[INITIAL_CAPACITY];
+        } else {
+            Arrays.fill(this.items, this.start, this.end, null);
+        }
+
+        this.start = 0;
+        this.end = 0;
+        this.size = 0;
+    }
+
+    //endregion
+}
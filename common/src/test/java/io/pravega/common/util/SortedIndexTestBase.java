@@ -54,6 +54,71 @@ abstract class SortedIndexTestBase {
         }
     }
 
+    /**
+     * Unit tests for the SortedArrayIndex class.
+     */
+    public static class SortedArrayIndexTests extends SortedIndexTestBase {
+        @Override
+        protected SortedIndex<TestEntry> createIndex() {
+            return new SortedArrayIndex<>();
+        }
+
+        /**
+         * Tests the ability to reuse and compact the gaps left behind by removed items.
+         */
+        @Test
+        public void testGaps() {
+            final int itemCount = 10000;
+            val index = new SortedArrayIndex<TestEntry>();
+            for (int i = 0; i < itemCount; i++) {
+                index.put(new TestEntry(i * 10));
+            }
+
+            int fullCapacity = index.getCapacity();
+
+            // Remove every other item. This leaves gaps in the middle, which must be skipped over.
+            for (int i = 1; i < itemCount; i += 2) {
+                Assert.assertNotNull("Expected an item to be removed.", index.remove(i * 10));
+            }
+
+            Assert.assertEquals("Unexpected size after removal.", itemCount / 2, index.size());
+            for (int i = 0; i < itemCount; i++) {
+                long key = i * 10;
+                long expectedFloor = (i % 2 == 0 ? i : i - 1) * 10;
+                long expectedCeiling = (i % 2 == 0 ? i : i + 1) * 10;
+                Assert.assertEquals("Unexpected get() result.", i % 2 == 0, index.get(key) != null);
+                Assert.assertEquals("Unexpected getFloor() result.", expectedFloor, index.getFloor(key).key());
+                if (expectedCeiling < itemCount * 10) {
+                    Assert.assertEquals("Unexpected getCeiling() result.", expectedCeiling, index.getCeiling(key).key());
+                } else {
+                    Assert.assertNull("Unexpected getCeiling() result at the end.", index.getCeiling(key));
+                }
+            }
+
+            // Reinsert items in between the remaining ones. These should reuse existing gaps, if any.
+            for (int i = 1; i < itemCount; i += 2) {
+                Assert.assertNull("Not expecting an item to be displaced.", index.put(new TestEntry(i * 10 + 1)));
+            }
+
+            Assert.assertEquals("Unexpected size after reinsertion.", itemCount, index.size());
+            Assert.assertEquals("Not expecting the index to grow.", fullCapacity, index.getCapacity());
+            val keys = new ArrayList<Long>();
+            index.forEach(e -> keys.add(e.key()));
+            for (int i = 0; i < itemCount; i++) {
+                Assert.assertEquals("Unexpected key order.", i * 10 + (i % 2), (long) keys.get(i));
+            }
+
+            // Removing most items should shrink the index.
+            for (int i = 0; i < itemCount - 1; i++) {
+                index.remove(i * 10 + (i % 2));
+            }
+
+            Assert.assertEquals("Unexpected size after removing most items.", 1, index.size());
+            Assert.assertEquals("Expected the index to shrink.", SortedArrayIndex.INITIAL_CAPACITY, index.getCapacity());
+            Assert.assertEquals("Unexpected remaining item.", (itemCount - 1) * 10 + 1, index.getFirst().key());
+        }
+    }
+
     //endregion
 
     //region Test Definitions
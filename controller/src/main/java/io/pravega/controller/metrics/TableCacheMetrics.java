@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.controller.metrics;
+
+import io.pravega.shared.metrics.OpStatsLogger;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.pravega.shared.MetricsNames.METADATA_CACHE_HITS;
+import static io.pravega.shared.MetricsNames.METADATA_CACHE_LOAD_LATENCY;
+import static io.pravega.shared.MetricsNames.METADATA_CACHE_MISSES;
+import static io.pravega.shared.MetricsTags.tableTag;
+
+/**
+ * Class to encapsulate the logic to report Controller metrics related to the cache of metadata records stored in tables.
+ * All metrics are tagged with the kind of table (e.g., "metadata") rather than with the name of each individual table,
+ * which would otherwise create a set of metrics for every Stream.
+ */
+public final class TableCacheMetrics extends AbstractControllerMetrics {
+    private final Map<String, OpStatsLogger> loadLatencies = new ConcurrentHashMap<>();
+
+    /**
+     * This method reports a lookup that found the requested record in the cache.
+     *
+     * @param tableKind Kind of table the record belongs to.
+     */
+    public void reportHit(String tableKind) {
+        DYNAMIC_LOGGER.incCounterValue(METADATA_CACHE_HITS, 1, tableTag(tableKind));
+    }
+
+    /**
+     * This method reports a lookup that did not find the requested record in the cache.
+     *
+     * @param tableKind Kind of table the record belongs to.
+     */
+    public void reportMiss(String tableKind) {
+        DYNAMIC_LOGGER.incCounterValue(METADATA_CACHE_MISSES, 1, tableTag(tableKind));
+    }
+
+    /**
+     * This method reports the latency of loading a record into the cache.
+     *
+     * @param tableKind Kind of table the record belongs to.
+     * @param latency   Time elapsed while loading the record.
+     */
+    public void reportLoadLatency(String tableKind, Duration latency) {
+        loadLatencies.computeIfAbsent(tableKind, kind -> STATS_LOGGER.createStats(METADATA_CACHE_LOAD_LATENCY, tableTag(kind)))
+                     .reportSuccessEvent(latency);
+    }
+}
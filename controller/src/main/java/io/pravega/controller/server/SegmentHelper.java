@@ -9,6 +9,7 @@
  */
 package io.pravega.controller.server;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -27,24 +28,33 @@ import io.pravega.client.tables.impl.TableSegmentKey;
 import io.pravega.client.tables.impl.TableSegmentKeyVersion;
 import io.pravega.common.Exceptions;
 import io.pravega.common.cluster.Host;
+import io.pravega.common.concurrent.Futures;
 import io.pravega.common.tracing.TagLogger;
 import io.pravega.controller.store.host.HostControllerStore;
 import io.pravega.controller.store.stream.records.RecordHelper;
 import io.pravega.controller.stream.api.grpc.v1.Controller;
 import io.pravega.controller.stream.api.grpc.v1.Controller.TxnStatus;
 import io.pravega.shared.protocol.netty.ConnectionFailedException;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
 import io.pravega.shared.protocol.netty.Reply;
 import io.pravega.shared.protocol.netty.Request;
 import io.pravega.shared.protocol.netty.WireCommand;
 import io.pravega.shared.protocol.netty.WireCommandType;
 import io.pravega.shared.protocol.netty.WireCommands;
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -60,6 +70,13 @@ import static io.pravega.shared.NameUtils.getTransactionNameFromId;
  */
 public class SegmentHelper implements AutoCloseable {
 
+    /**
+     * The first wire protocol version that supports {@link WireCommands.CreateSegments}, {@link WireCommands.SealSegments}
+     * and {@link WireCommands.DeleteSegments}.
+     */
+    @VisibleForTesting
+    static final int SEGMENT_BATCHES_WIRE_VERSION = 12;
+
     private static final TagLogger log = new TagLogger(LoggerFactory.getLogger(SegmentHelper.class));
 
     private static final Map<Class<? extends Request>, Set<Class<? extends Reply>>> EXPECTED_SUCCESS_REPLIES =
@@ -102,6 +119,10 @@ public class SegmentHelper implements AutoCloseable {
 
     private final HostControllerStore hostStore;
     private final ConnectionFactory connectionFactory;
+    /**
+     * Segment Store endpoints that have advertised (via {@link WireCommands.Hello}) support for segment batch requests.
+     */
+    private final Set<PravegaNodeUri> batchEndpoints = ConcurrentHashMap.newKeySet();
 
     public SegmentHelper(final ConnectionFactory clientCF, HostControllerStore hostStore) {
         this.connectionFactory = clientCF;
@@ -130,7 +151,7 @@ public class SegmentHelper implements AutoCloseable {
         final Controller.NodeUri uri = getSegmentUri(scope, stream, segmentId);
         final WireCommandType type = WireCommandType.CREATE_SEGMENT;
 
-        RawClient connection = new RawClient(ModelHelper.encode(uri), connectionFactory);
+        RawClient connection = createClient(uri);
         final long requestId = connection.getFlow().asLong();
         Pair<Byte, Integer> extracted = extractFromPolicy(policy);
 
@@ -139,6 +160,33 @@ public class SegmentHelper implements AutoCloseable {
             .thenAccept(r -> handleReply(clientRequestId, r, connection, qualifiedStreamSegmentName, WireCommands.CreateSegment.class, type));
     }
 
+    /**
+     * Creates the given Segments using as few requests as possible: all the Segments that are owned by the same Segment
+     * Store are created using a single {@link WireCommands.CreateSegments} request. Segments that do not share their
+     * Segment Store with any other Segment in this call, or whose Segment Store is not known to support batches, are not sent.
+     *
+     * @param scope           stream scope
+     * @param stream          stream name
+     * @param segmentIds      ids of the segments to be created
+     * @param policy          the scaling policy of the stream
+     * @param controllerToken the token to be presented to segmentstore.
+     * @param clientRequestId client-generated id for end-to-end tracing
+     * @return A CompletableFuture that will contain the ids of the segments that have been created (or that already
+     * existed). Any other segment should be created using {@link #createSegment}. This future never completes exceptionally.
+     */
+    public CompletableFuture<Set<Long>> createSegments(final String scope,
+                                                       final String stream,
+                                                       final Collection<Long> segmentIds,
+                                                       final ScalingPolicy policy,
+                                                       String controllerToken,
+                                                       final long clientRequestId) {
+        Pair<Byte, Integer> extracted = extractFromPolicy(policy);
+        return sendSegmentBatches(scope, stream, segmentIds, clientRequestId, WireCommandType.CREATE_SEGMENTS,
+                (requestId, segments) -> new WireCommands.CreateSegments(requestId, segments, extracted.getLeft(),
+                        extracted.getRight(), controllerToken),
+                reply -> reply instanceof WireCommands.SegmentsCreated ? ((WireCommands.SegmentsCreated) reply).getSegments() : null);
+    }
+
     public CompletableFuture<Void> truncateSegment(final String scope,
                                                       final String stream,
                                                       final long segmentId,
@@ -149,7 +197,7 @@ public class SegmentHelper implements AutoCloseable {
         final String qualifiedStreamSegmentName = getQualifiedStreamSegmentName(scope, stream, segmentId);
         final WireCommandType type = WireCommandType.TRUNCATE_SEGMENT;
 
-        RawClient connection = new RawClient(ModelHelper.encode(uri), connectionFactory);
+        RawClient connection = createClient(uri);
         final long requestId = connection.getFlow().asLong();
 
         return sendRequest(connection, requestId, new WireCommands.TruncateSegment(requestId, qualifiedStreamSegmentName, offset, delegationToken))
@@ -164,13 +212,36 @@ public class SegmentHelper implements AutoCloseable {
         final Controller.NodeUri uri = getSegmentUri(scope, stream, segmentId);
         final String qualifiedStreamSegmentName = getQualifiedStreamSegmentName(scope, stream, segmentId);
         final WireCommandType type = WireCommandType.DELETE_SEGMENT;
-        RawClient connection = new RawClient(ModelHelper.encode(uri), connectionFactory);
+        RawClient connection = createClient(uri);
         final long requestId = connection.getFlow().asLong();
 
         return sendRequest(connection, requestId, new WireCommands.DeleteSegment(requestId, qualifiedStreamSegmentName, delegationToken))
                 .thenAccept(r -> handleReply(clientRequestId, r, connection, qualifiedStreamSegmentName, WireCommands.DeleteSegment.class, type));
     }
 
+    /**
+     * Deletes the given Segments using as few requests as possible: all the Segments that are owned by the same Segment
+     * Store are deleted using a single {@link WireCommands.DeleteSegments} request. Segments that do not share their
+     * Segment Store with any other Segment in this call, or whose Segment Store is not known to support batches, are not sent.
+     *
+     * @param scope           stream scope
+     * @param stream          stream name
+     * @param segmentIds      ids of the segments to be deleted
+     * @param delegationToken the token to be presented to segmentstore.
+     * @param clientRequestId client-generated id for end-to-end tracing
+     * @return A CompletableFuture that will contain the ids of the segments that have been deleted (or that did not exist).
+     * Any other segment should be deleted using {@link #deleteSegment}. This future never completes exceptionally.
+     */
+    public CompletableFuture<Set<Long>> deleteSegments(final String scope,
+                                                       final String stream,
+                                                       final Collection<Long> segmentIds,
+                                                       String delegationToken,
+                                                       final long clientRequestId) {
+        return sendSegmentBatches(scope, stream, segmentIds, clientRequestId, WireCommandType.DELETE_SEGMENTS,
+                (requestId, segments) -> new WireCommands.DeleteSegments(requestId, segments, delegationToken),
+                reply -> reply instanceof WireCommands.SegmentsDeleted ? ((WireCommands.SegmentsDeleted) reply).getSegments() : null);
+    }
+
     /**
      * This method sends segment sealed message for the specified segment.
      *
@@ -189,13 +260,36 @@ public class SegmentHelper implements AutoCloseable {
         final Controller.NodeUri uri = getSegmentUri(scope, stream, segmentId);
         final String qualifiedName = getQualifiedStreamSegmentName(scope, stream, segmentId);
         final WireCommandType type = WireCommandType.SEAL_SEGMENT;
-        RawClient connection = new RawClient(ModelHelper.encode(uri), connectionFactory);
+        RawClient connection = createClient(uri);
         final long requestId = connection.getFlow().asLong();
 
         return sendRequest(connection, requestId, new WireCommands.SealSegment(requestId, qualifiedName, delegationToken))
                 .thenAccept(r -> handleReply(clientRequestId, r, connection, qualifiedName, WireCommands.SealSegment.class, type));
     }
 
+    /**
+     * Seals the given Segments using as few requests as possible: all the Segments that are owned by the same Segment
+     * Store are sealed using a single {@link WireCommands.SealSegments} request. Segments that do not share their
+     * Segment Store with any other Segment in this call, or whose Segment Store is not known to support batches, are not sent.
+     *
+     * @param scope           stream scope
+     * @param stream          stream name
+     * @param segmentIds      ids of the segments to be sealed
+     * @param delegationToken the token to be presented to segmentstore.
+     * @param clientRequestId client-generated id for end-to-end tracing
+     * @return A CompletableFuture that will contain the ids of the segments that have been sealed (or that were already
+     * sealed). Any other segment should be sealed using {@link #sealSegment}. This future never completes exceptionally.
+     */
+    public CompletableFuture<Set<Long>> sealSegments(final String scope,
+                                                     final String stream,
+                                                     final Collection<Long> segmentIds,
+                                                     String delegationToken,
+                                                     final long clientRequestId) {
+        return sendSegmentBatches(scope, stream, segmentIds, clientRequestId, WireCommandType.SEAL_SEGMENTS,
+                (requestId, segments) -> new WireCommands.SealSegments(requestId, segments, delegationToken),
+                reply -> reply instanceof WireCommands.SegmentsSealed ? ((WireCommands.SegmentsSealed) reply).getSegments() : null);
+    }
+
     public CompletableFuture<Void> createTransaction(final String scope,
                                                      final String stream,
                                                      final long segmentId,
@@ -205,7 +299,7 @@ public class SegmentHelper implements AutoCloseable {
         final String transactionName = getTransactionName(scope, stream, segmentId, txId);
         final WireCommandType type = WireCommandType.CREATE_SEGMENT;
 
-        RawClient connection = new RawClient(ModelHelper.encode(uri), connectionFactory);
+        RawClient connection = createClient(uri);
         final long requestId = connection.getFlow().asLong();
 
         WireCommands.CreateSegment request = new WireCommands.CreateSegment(requestId, transactionName,
@@ -236,7 +330,7 @@ public class SegmentHelper implements AutoCloseable {
         final String transactionName = getTransactionName(scope, stream, sourceSegmentId, txId);
         final WireCommandType type = WireCommandType.MERGE_SEGMENTS;
 
-        RawClient connection = new RawClient(ModelHelper.encode(uri), connectionFactory);
+        RawClient connection = createClient(uri);
         final long requestId = connection.getFlow().asLong();
         
         WireCommands.MergeSegments request = new WireCommands.MergeSegments(requestId,
@@ -269,7 +363,7 @@ public class SegmentHelper implements AutoCloseable {
         final Controller.NodeUri uri = getSegmentUri(scope, stream, segmentId);
         final WireCommandType type = WireCommandType.DELETE_SEGMENT;
 
-        RawClient connection = new RawClient(ModelHelper.encode(uri), connectionFactory);
+        RawClient connection = createClient(uri);
         final long requestId = connection.getFlow().asLong();
         WireCommands.DeleteSegment request = new WireCommands.DeleteSegment(requestId, transactionName, delegationToken);
 
@@ -286,7 +380,7 @@ public class SegmentHelper implements AutoCloseable {
         
         Pair<Byte, Integer> extracted = extractFromPolicy(policy);
 
-        RawClient connection = new RawClient(ModelHelper.encode(uri), connectionFactory);
+        RawClient connection = createClient(uri);
         final long requestId = connection.getFlow().asLong();
 
         WireCommands.UpdateSegmentPolicy request = new WireCommands.UpdateSegmentPolicy(requestId,
@@ -302,7 +396,7 @@ public class SegmentHelper implements AutoCloseable {
         final Controller.NodeUri uri = getSegmentUri(scope, stream, segmentId);
 
         final WireCommandType type = WireCommandType.GET_STREAM_SEGMENT_INFO;
-        RawClient connection = new RawClient(ModelHelper.encode(uri), connectionFactory);
+        RawClient connection = createClient(uri);
         final long requestId = connection.getFlow().asLong();
 
         WireCommands.GetStreamSegmentInfo request = new WireCommands.GetStreamSegmentInfo(requestId,
@@ -334,7 +428,7 @@ public class SegmentHelper implements AutoCloseable {
         final Controller.NodeUri uri = getTableUri(tableName);
         final WireCommandType type = WireCommandType.CREATE_TABLE_SEGMENT;
 
-        RawClient connection = new RawClient(ModelHelper.encode(uri), connectionFactory);
+        RawClient connection = createClient(uri);
         final long requestId = connection.getFlow().asLong();
 
         // All Controller Metadata Segments are non-sorted.
@@ -360,7 +454,7 @@ public class SegmentHelper implements AutoCloseable {
         final Controller.NodeUri uri = getTableUri(tableName);
         final WireCommandType type = WireCommandType.DELETE_TABLE_SEGMENT;
 
-        RawClient connection = new RawClient(ModelHelper.encode(uri), connectionFactory);
+        RawClient connection = createClient(uri);
         final long requestId = connection.getFlow().asLong();
 
         return sendRequest(connection, requestId, new WireCommands.DeleteTableSegment(requestId, tableName, mustBeEmpty, delegationToken))
@@ -391,7 +485,7 @@ public class SegmentHelper implements AutoCloseable {
             return new AbstractMap.SimpleImmutableEntry<>(key, value);
         }).collect(Collectors.toList());
 
-        RawClient connection = new RawClient(ModelHelper.encode(uri), connectionFactory);
+        RawClient connection = createClient(uri);
         final long requestId = connection.getFlow().asLong();
         WireCommands.UpdateTableEntries request = new WireCommands.UpdateTableEntries(requestId, tableName, delegationToken,
                 new WireCommands.TableEntries(wireCommandEntries), WireCommands.NULL_TABLE_SEGMENT_OFFSET);
@@ -429,7 +523,7 @@ public class SegmentHelper implements AutoCloseable {
             return key;
         }).collect(Collectors.toList());
 
-        RawClient connection = new RawClient(ModelHelper.encode(uri), connectionFactory);
+        RawClient connection = createClient(uri);
         final long requestId = connection.getFlow().asLong();
 
         WireCommands.RemoveTableKeys request = new WireCommands.RemoveTableKeys(
@@ -462,7 +556,7 @@ public class SegmentHelper implements AutoCloseable {
             return new WireCommands.TableKey(k.getKey(), k.getVersion().getSegmentVersion());
         }).collect(Collectors.toList());
 
-        RawClient connection = new RawClient(ModelHelper.encode(uri), connectionFactory);
+        RawClient connection = createClient(uri);
         final long requestId = connection.getFlow().asLong();
 
         WireCommands.ReadTable request = new WireCommands.ReadTable(requestId, tableName, delegationToken, keyList);
@@ -494,7 +588,7 @@ public class SegmentHelper implements AutoCloseable {
 
         final Controller.NodeUri uri = getTableUri(tableName);
         final WireCommandType type = WireCommandType.READ_TABLE_KEYS;
-        RawClient connection = new RawClient(ModelHelper.encode(uri), connectionFactory);
+        RawClient connection = createClient(uri);
         final long requestId = connection.getFlow().asLong();
 
         final IteratorStateImpl token = (state == null) ? IteratorStateImpl.EMPTY : state;
@@ -532,7 +626,7 @@ public class SegmentHelper implements AutoCloseable {
 
         final Controller.NodeUri uri = getTableUri(tableName);
         final WireCommandType type = WireCommandType.READ_TABLE_ENTRIES;
-        RawClient connection = new RawClient(ModelHelper.encode(uri), connectionFactory);
+        RawClient connection = createClient(uri);
         final long requestId = connection.getFlow().asLong();
 
         final IteratorStateImpl token = (state == null) ? IteratorStateImpl.EMPTY : state;
@@ -593,6 +687,76 @@ public class SegmentHelper implements AutoCloseable {
         return new ImmutablePair<>(rateType, desiredRate);
     }
 
+    /**
+     * Groups the given Segments by the Segment Store that owns them and sends one batch request to each Segment Store that
+     * owns more than one of them and is known to support it (see {@link #SEGMENT_BATCHES_WIRE_VERSION}). Segments owned by
+     * any other Segment Store, as well as any failure, result in the affected Segments being left out of the result, so
+     * that the caller may fall back to individual requests.
+     */
+    private <T extends Request & WireCommand> CompletableFuture<Set<Long>> sendSegmentBatches(
+            String scope, String stream, Collection<Long> segmentIds, long clientRequestId, WireCommandType type,
+            BiFunction<Long, List<String>, T> createRequest, Function<Reply, List<String>> getProcessedSegments) {
+        try {
+            Map<Controller.NodeUri, List<Long>> segmentsByUri = segmentIds.stream().distinct()
+                    .collect(Collectors.groupingBy(segmentId -> getSegmentUri(scope, stream, segmentId)));
+            List<CompletableFuture<Set<Long>>> batches = segmentsByUri.entrySet().stream()
+                    .filter(e -> e.getValue().size() > 1 && this.batchEndpoints.contains(ModelHelper.encode(e.getKey())))
+                    .map(e -> sendSegmentBatch(scope, stream, e.getKey(), e.getValue(), clientRequestId, type, createRequest,
+                            getProcessedSegments))
+                    .collect(Collectors.toList());
+            return Futures.allOfWithResults(batches)
+                          .thenApply(results -> results.stream().flatMap(Set::stream).collect(Collectors.toSet()));
+        } catch (Exception ex) {
+            log.warn(clientRequestId, "{} {}/{} could not be sent; falling back to individual requests.", type, scope, stream, ex);
+            return CompletableFuture.completedFuture(Collections.emptySet());
+        }
+    }
+
+    private <T extends Request & WireCommand> CompletableFuture<Set<Long>> sendSegmentBatch(
+            String scope, String stream, Controller.NodeUri uri, List<Long> segmentIds, long clientRequestId, WireCommandType type,
+            BiFunction<Long, List<String>, T> createRequest, Function<Reply, List<String>> getProcessedSegments) {
+        Map<String, Long> segmentNames = segmentIds.stream()
+                .collect(Collectors.toMap(segmentId -> getQualifiedStreamSegmentName(scope, stream, segmentId), segmentId -> segmentId));
+        RawClient connection = createClient(uri);
+        final long requestId = connection.getFlow().asLong();
+
+        return sendRequest(connection, requestId, createRequest.apply(requestId, new ArrayList<>(segmentNames.keySet())))
+                .thenApply(reply -> {
+                    closeConnection(reply, connection);
+                    List<String> processed = getProcessedSegments.apply(reply);
+                    if (processed == null) {
+                        log.warn(clientRequestId, "{} {}/{} unexpected reply {}; falling back to individual requests.",
+                                type, scope, stream, reply);
+                        return Collections.<Long>emptySet();
+                    }
+
+                    log.info(clientRequestId, "{} {}/{}: {} of {} segments processed {}.", type, scope, stream, processed.size(),
+                            segmentIds.size(), reply.getRequestId());
+                    return processed.stream().map(segmentNames::get).filter(Objects::nonNull).collect(Collectors.toSet());
+                })
+                .exceptionally(ex -> {
+                    log.warn(clientRequestId, "{} {}/{} failed; falling back to individual requests: {}.", type, scope, stream,
+                            Exceptions.unwrap(ex).toString());
+                    connection.close();
+                    return Collections.emptySet();
+                });
+    }
+
+    /**
+     * Creates a new RawClient for the given Segment Store, which records whether that Segment Store supports segment batch
+     * requests once it receives its {@link WireCommands.Hello}.
+     */
+    private RawClient createClient(Controller.NodeUri uri) {
+        PravegaNodeUri endpoint = ModelHelper.encode(uri);
+        return new RawClient(endpoint, connectionFactory, hello -> {
+            if (hello.getHighVersion() >= SEGMENT_BATCHES_WIRE_VERSION) {
+                this.batchEndpoints.add(endpoint);
+            } else {
+                this.batchEndpoints.remove(endpoint);
+            }
+        });
+    }
+
     private void closeConnection(Reply reply, RawClient client) {
         log.info("Closing connection as a result of receiving: {}", reply);
         if (client != null) {
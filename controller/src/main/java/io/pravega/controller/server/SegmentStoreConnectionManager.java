@@ -303,6 +303,11 @@ class SegmentStoreConnectionManager implements AutoCloseable {
             execute(ReplyProcessor::segmentRead, segmentRead);
         }
 
+        @Override
+        public void segmentsRead(WireCommands.SegmentsRead segmentsRead) {
+            execute(ReplyProcessor::segmentsRead, segmentsRead);
+        }
+
         @Override
         public void segmentAttributeUpdated(WireCommands.SegmentAttributeUpdated segmentAttributeUpdated) {
             execute(ReplyProcessor::segmentAttributeUpdated, segmentAttributeUpdated);
@@ -323,6 +328,11 @@ class SegmentStoreConnectionManager implements AutoCloseable {
             execute(ReplyProcessor::segmentCreated, segmentCreated);
         }
 
+        @Override
+        public void segmentsCreated(WireCommands.SegmentsCreated segmentsCreated) {
+            execute(ReplyProcessor::segmentsCreated, segmentsCreated);
+        }
+
         @Override
         public void segmentsMerged(WireCommands.SegmentsMerged segmentsMerged) {
             execute(ReplyProcessor::segmentsMerged, segmentsMerged);
@@ -333,6 +343,11 @@ class SegmentStoreConnectionManager implements AutoCloseable {
             execute(ReplyProcessor::segmentSealed, segmentSealed);
         }
 
+        @Override
+        public void segmentsSealed(WireCommands.SegmentsSealed segmentsSealed) {
+            execute(ReplyProcessor::segmentsSealed, segmentsSealed);
+        }
+
         @Override
         public void segmentTruncated(WireCommands.SegmentTruncated segmentTruncated) {
             execute(ReplyProcessor::segmentTruncated, segmentTruncated);
@@ -343,6 +358,11 @@ class SegmentStoreConnectionManager implements AutoCloseable {
             execute(ReplyProcessor::segmentDeleted, segmentDeleted);
         }
 
+        @Override
+        public void segmentsDeleted(WireCommands.SegmentsDeleted segmentsDeleted) {
+            execute(ReplyProcessor::segmentsDeleted, segmentsDeleted);
+        }
+
         @Override
         public void operationUnsupported(WireCommands.OperationUnsupported operationUnsupported) {
             execute(ReplyProcessor::operationUnsupported, operationUnsupported);
@@ -9,6 +9,7 @@
  */
 package io.pravega.controller.server.eventProcessor.requesthandlers;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import io.pravega.client.stream.ScalingPolicy;
@@ -46,6 +47,12 @@ public class AutoScaleTask {
 
     private static final long REQUEST_VALIDITY_PERIOD = Duration.ofMinutes(10).toMillis();
 
+    /**
+     * The minimum number of routing key hashes (within the Segment's key range) that are needed to pick non-uniform
+     * split points.
+     */
+    private static final int MIN_ROUTING_KEY_SAMPLE_SIZE = 8;
+
     private final StreamMetadataTasks streamMetadataTasks;
     private final StreamMetadataStore streamMetadataStore;
     private final ScheduledExecutorService executor;
@@ -99,22 +106,71 @@ public class AutoScaleTask {
                 .thenComposeAsync(segment -> {
                     // do not go above scale factor. Minimum scale factor is 2 though.
                     int numOfSplits = Math.min(Math.max(2, request.getNumOfSplits()), Math.max(2, policy.getScaleFactor()));
-                    double delta = (segment.getKeyEnd() - segment.getKeyStart()) / numOfSplits;
+                    List<Double> splitPoints = getSplitPoints(segment.getKeyStart(), segment.getKeyEnd(), numOfSplits,
+                            request.getRoutingKeySample());
+                    if (splitPoints.isEmpty()) {
+                        double delta = (segment.getKeyEnd() - segment.getKeyStart()) / numOfSplits;
+                        for (int i = 1; i < numOfSplits; i++) {
+                            splitPoints.add(segment.getKeyStart() + delta * i);
+                        }
+                    } else {
+                        log.info(request.getRequestId(), "Splitting stream segment {} at {}, based on its routing key sample.",
+                                qualifiedName, splitPoints);
+                    }
 
                     final ArrayList<Map.Entry<Double, Double>> simpleEntries = new ArrayList<>();
-                    for (int i = 0; i < numOfSplits - 1; i++) {
-                        simpleEntries.add(new AbstractMap.SimpleEntry<>(segment.getKeyStart() + delta * i,
-                                segment.getKeyStart() + (delta * (i + 1))));
+                    double rangeStart = segment.getKeyStart();
+                    for (double splitPoint : splitPoints) {
+                        simpleEntries.add(new AbstractMap.SimpleEntry<>(rangeStart, splitPoint));
+                        rangeStart = splitPoint;
                     }
                     // add the last entry such that is key end matches original segments key end.
                     // This is because of doubles precision which may mean `start + n * ((end - start) / n)` may not equal `end`.
-                    simpleEntries.add(new AbstractMap.SimpleEntry<>(segment.getKeyStart() + delta * (numOfSplits -1),
-                            segment.getKeyEnd()));
+                    simpleEntries.add(new AbstractMap.SimpleEntry<>(rangeStart, segment.getKeyEnd()));
 
                     return postScaleRequest(request, Lists.newArrayList(request.getSegmentId()), simpleEntries, request.getRequestId());
                 }, executor);
     }
 
+    /**
+     * Picks the points at which to split the given key range so that each of the resulting ranges receives a similar
+     * share of the Segment's load, as estimated by the given sample of routing key hashes. Each split point is placed
+     * halfway between two consecutive sampled hashes, at the appropriate quantile of the sample.
+     *
+     * @param keyStart         The start of the Segment's key range.
+     * @param keyEnd           The end of the Segment's key range.
+     * @param numOfSplits      The desired number of ranges.
+     * @param routingKeySample A sorted sample of the routing key hashes of the Segment's traffic.
+     * @return A (mutable) sorted list of distinct split points, strictly within the Segment's key range. This is empty if
+     * the sample does not hold enough distinct keys to split the range into the desired number of ranges, in which case
+     * the range should be split uniformly.
+     */
+    @VisibleForTesting
+    static List<Double> getSplitPoints(double keyStart, double keyEnd, int numOfSplits, List<Double> routingKeySample) {
+        final List<Double> sample = routingKeySample.stream()
+                                                    .filter(hash -> hash >= keyStart && hash < keyEnd)
+                                                    .sorted()
+                                                    .collect(Collectors.toList());
+        final List<Double> result = new ArrayList<>();
+        if (sample.size() < MIN_ROUTING_KEY_SAMPLE_SIZE) {
+            return result;
+        }
+
+        for (int i = 1; i < numOfSplits; i++) {
+            int index = Math.min(sample.size() - 1, Math.max(1, (int) Math.round((double) i * sample.size() / numOfSplits)));
+            double splitPoint = (sample.get(index - 1) + sample.get(index)) / 2;
+            if (splitPoint > keyStart && splitPoint < keyEnd && (result.isEmpty() || splitPoint > result.get(result.size() - 1))) {
+                result.add(splitPoint);
+            }
+        }
+
+        if (result.size() < numOfSplits - 1) {
+            // Too few distinct keys (i.e., a few hot keys) to pick all the split points; split uniformly instead.
+            result.clear();
+        }
+        return result;
+    }
+
     private CompletableFuture<Void> processScaleDown(final AutoScaleEvent request, final ScalingPolicy policy, final OperationContext context) {
         String qualifiedName = NameUtils.getQualifiedStreamSegmentName(request.getScope(), request.getStream(), request.getSegmentId());
         log.info(request.getRequestId(), "Scale down request received for stream segment {}", qualifiedName);
@@ -95,10 +95,7 @@ public class TruncateStreamTask implements StreamTask<TruncateStreamEvent> {
     private CompletableFuture<Void> notifyDeleteSegments(String scope, String stream, Set<Long> segmentsToDelete,
                                                          String delegationToken, long requestId) {
         log.debug(requestId, "{}/{} deleting segments {}", scope, stream, segmentsToDelete);
-        return Futures.allOf(segmentsToDelete.stream()
-                .parallel()
-                .map(segment -> streamMetadataTasks.notifyDeleteSegment(scope, stream, segment, delegationToken, requestId))
-                .collect(Collectors.toList()));
+        return streamMetadataTasks.notifyDeleteSegments(scope, stream, segmentsToDelete, delegationToken, requestId);
     }
 
     private CompletableFuture<Void> notifyTruncateSegments(String scope, String stream, Map<Long, Long> streamCut,
@@ -25,11 +25,14 @@ import io.pravega.common.util.ContinuationTokenAsyncIterator;
 import io.pravega.common.util.RetriesExhaustedException;
 import io.pravega.controller.server.SegmentHelper;
 import io.pravega.controller.server.WireCommandFailedException;
+import io.pravega.controller.metrics.TableCacheMetrics;
 import io.pravega.controller.server.rpc.auth.GrpcAuthHelper;
 import io.pravega.controller.store.host.HostStoreException;
 import io.pravega.controller.store.stream.Cache;
 import io.pravega.controller.store.stream.StoreException;
+import io.pravega.controller.util.Config;
 import io.pravega.controller.util.RetryHelper;
+import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.Collections;
@@ -38,6 +41,7 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -49,6 +53,7 @@ import org.apache.curator.shaded.com.google.common.base.Charsets;
 
 import static io.pravega.controller.server.WireCommandFailedException.Reason.ConnectionDropped;
 import static io.pravega.controller.server.WireCommandFailedException.Reason.ConnectionFailed;
+import static io.pravega.controller.store.stream.PravegaTablesStreamMetadataStore.SEPARATOR;
 
 /**
  * Helper class for all table related queries to segment store. This class invokes appropriate wire command calls into
@@ -57,12 +62,16 @@ import static io.pravega.controller.server.WireCommandFailedException.Reason.Con
 @Slf4j
 public class PravegaTablesStoreHelper {
     private static final int NUM_OF_RETRIES = 15; // approximately 1 minute worth of retries
+    // Approximate heap footprint of a cache entry, excluding its key and value (the cache's own entry, the future, the
+    // record wrapper and its version).
+    private static final int CACHE_ENTRY_OVERHEAD_BYTES = 200;
     private final SegmentHelper segmentHelper;
     private final ScheduledExecutorService executor;
     private final Cache cache;
     private final AtomicReference<String> authToken;
     private final GrpcAuthHelper authHelper;
     private final int numOfRetries;
+    private final TableCacheMetrics cacheMetrics;
     
     @lombok.Data
     @EqualsAndHashCode(exclude = {"fromBytesFunc"})
@@ -79,16 +88,29 @@ public class PravegaTablesStoreHelper {
 
     @VisibleForTesting
     PravegaTablesStoreHelper(SegmentHelper segmentHelper, GrpcAuthHelper authHelper, ScheduledExecutorService executor, int numOfRetries) {
+        this(segmentHelper, authHelper, executor, numOfRetries, Config.METADATA_CACHE_SIZE_BYTES);
+    }
+
+    @VisibleForTesting
+    PravegaTablesStoreHelper(SegmentHelper segmentHelper, GrpcAuthHelper authHelper, ScheduledExecutorService executor,
+                             int numOfRetries, long cacheSizeBytes) {
         this.segmentHelper = segmentHelper;
         this.executor = executor;
+        this.cacheMetrics = new TableCacheMetrics();
 
-        cache = new Cache(x -> {
+        // The cache is bounded by the approximate number of bytes its entries take up, which we derive from the size of
+        // the serialized values as they are read from (or written to) the tables.
+        cache = new Cache(cacheSizeBytes, x -> {
             TableCacheKey<?> entryKey = (TableCacheKey<?>) x;
+            AtomicInteger valueLength = new AtomicInteger();
 
             // Since there are be multiple tables, we will cache `table+key` in our cache
-            return getEntry(entryKey.getTable(), entryKey.getKey(), entryKey.fromBytesFunc)
-                    .thenApply(v -> new VersionedMetadata<>(v.getObject(), v.getVersion()));
-        });
+            return getEntry(entryKey.getTable(), entryKey.getKey(), bytes -> {
+                valueLength.set(bytes.length);
+                return entryKey.fromBytesFunc.apply(bytes);
+            }).thenApply(v -> new Cache.WeighedMetadata(new VersionedMetadata<>(v.getObject(), v.getVersion()),
+                    getCacheWeight(entryKey.getTable(), entryKey.getKey(), valueLength.get())));
+        }, new CacheStatsRecorder());
         this.authHelper = authHelper;
         this.authToken = new AtomicReference<>(authHelper.retrieveMasterToken());
         this.numOfRetries = numOfRetries;
@@ -123,6 +145,54 @@ public class PravegaTablesStoreHelper {
         cache.invalidateCache(new TableCacheKey<>(table, key, x -> null));
     }
 
+    /**
+     * Method to update the cached value for the specified key with a value that has just been written to the table.
+     * @param table table name
+     * @param key key to update
+     * @param value value that was written
+     * @param version version that the table assigned to the value
+     * @param serializedLength length of the serialized value
+     * @param <T> Type of the value.
+     */
+    private <T> void updateCache(String table, String key, T value, Version version, int serializedLength) {
+        cache.updateCache(new TableCacheKey<>(table, key, x -> null), new VersionedMetadata<>(value, version),
+                getCacheWeight(table, key, serializedLength));
+    }
+
+    private static int getCacheWeight(String table, String key, int serializedLength) {
+        // Each key holds its own copy of the table name (2 bytes per char).
+        return CACHE_ENTRY_OVERHEAD_BYTES + 2 * (table.length() + key.length()) + serializedLength;
+    }
+
+    /**
+     * Gets the kind of the given table, which is its name stripped of its path as well as of any id or number that is
+     * specific to a particular Stream, KeyValueTable or batch (e.g. "metadata" for the metadata table of any Stream).
+     * @param table table name
+     * @return the kind of table.
+     */
+    @VisibleForTesting
+    static String getTableKind(String table) {
+        int start = table.lastIndexOf('/') + 1;
+        int end = table.indexOf(SEPARATOR, start);
+        if (end < 0) {
+            end = table.length();
+        }
+
+        int dash = table.lastIndexOf('-', end - 1);
+        if (dash >= start && dash < end - 1) {
+            boolean numeric = true;
+            for (int i = dash + 1; i < end && numeric; i++) {
+                numeric = Character.isDigit(table.charAt(i));
+            }
+
+            if (numeric) {
+                end = dash;
+            }
+        }
+
+        return table.substring(start, end);
+    }
+
     /**
      * Method to create a new Table. If the table already exists, segment helper responds with success.
      * @param tableName table name
@@ -204,6 +274,31 @@ public class PravegaTablesStoreHelper {
         return expectingDataExists(addNewEntry(tableName, key, value), null);
     }
 
+    /**
+     * Method to add new entry to table if it does not exist. If the entry is added, the value is also written through to
+     * the cache, so that subsequent calls to {@link #getCachedData} need not read it back from the table. Otherwise any
+     * cached value for this key is invalidated.
+     * @param tableName tableName
+     * @param key Key to add
+     * @param value value to add
+     * @param toBytes serialization function.
+     * @param <T> Type of the value.
+     * @return CompletableFuture which when completed will have added entry to the table if it did not exist. Its value
+     * will be the version of the new entry, or null if the entry already existed.
+     */
+    public <T> CompletableFuture<Version> addNewEntryIfAbsent(String tableName, String key, @NonNull T value, Function<T, byte[]> toBytes) {
+        byte[] serialized = toBytes.apply(value);
+        return addNewEntryIfAbsent(tableName, key, serialized)
+                .thenApply(version -> {
+                    if (version == null) {
+                        invalidateCache(tableName, key);
+                    } else {
+                        updateCache(tableName, key, value, version, serialized.length);
+                    }
+                    return version;
+                });
+    }
+
     /**
      * Method to add a batch of entries if absent. Table implementation on segment store guarantees that either all or none of
      * the entries are added.
@@ -265,6 +360,26 @@ public class PravegaTablesStoreHelper {
                 .whenComplete((r, ex) -> releaseEntries(entries));
     }
 
+    /**
+     * Method to update a single entry. Once the update is successful, the new value is also written through to the cache
+     * along with its new version, so that subsequent calls to {@link #getCachedData} need not read it back from the table.
+     * @param tableName tablename
+     * @param key key
+     * @param value value
+     * @param toBytes serialization function.
+     * @param ver previous key version
+     * @param <T> Type of the value.
+     * @return CompletableFuture which when completed will indicate that the value is updated in the table.
+     */
+    public <T> CompletableFuture<Version> updateEntry(String tableName, String key, T value, Function<T, byte[]> toBytes, Version ver) {
+        byte[] serialized = toBytes.apply(value);
+        return updateEntry(tableName, key, serialized, ver)
+                .thenApply(version -> {
+                    updateCache(tableName, key, value, version, serialized.length);
+                    return version;
+                });
+    }
+
     /**
      * Method to retrieve the value for a given key from a table. This method takes a deserialization function and deserializes
      * the received byte[] using the supplied function.
@@ -611,4 +726,24 @@ public class PravegaTablesStoreHelper {
             ReferenceCountUtil.safeRelease(e.getValue());
         }
     }
+
+    /**
+     * Reports cache hits, misses and load latencies, tagged with the kind of table the records belong to.
+     */
+    private class CacheStatsRecorder implements Cache.StatsRecorder {
+        @Override
+        public void recordHit(Cache.CacheKey key) {
+            cacheMetrics.reportHit(getTableKind(((TableCacheKey<?>) key).getTable()));
+        }
+
+        @Override
+        public void recordMiss(Cache.CacheKey key) {
+            cacheMetrics.reportMiss(getTableKind(((TableCacheKey<?>) key).getTable()));
+        }
+
+        @Override
+        public void recordLoad(Cache.CacheKey key, Duration elapsed) {
+            cacheMetrics.reportLoadLatency(getTableKind(((TableCacheKey<?>) key).getTable()), elapsed);
+        }
+    }
 }
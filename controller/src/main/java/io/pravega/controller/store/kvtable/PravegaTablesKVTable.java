@@ -115,11 +115,7 @@ class PravegaTablesKVTable extends AbstractKVTableBase {
     CompletableFuture<Version> setStateData(final VersionedMetadata<KVTStateRecord> state) {
         return getMetadataTable()
                 .thenCompose(metadataTable -> storeHelper.updateEntry(metadataTable, STATE_KEY,
-                        state.getObject().toBytes(), state.getVersion())
-                        .thenApply(r -> {
-                            storeHelper.invalidateCache(metadataTable, STATE_KEY);
-                            return r;
-                        }));
+                        state.getObject(), KVTStateRecord::toBytes, state.getVersion()));
     }
 
     @Override
@@ -204,23 +200,23 @@ class PravegaTablesKVTable extends AbstractKVTableBase {
         byte[] b = new byte[Long.BYTES];
         BitConverter.writeLong(b, 0, creationTime);
         return getMetadataTable()
-                .thenCompose(metadataTable -> storeHelper.addNewEntryIfAbsent(metadataTable, CREATION_TIME_KEY, b)
-                        .thenAccept(v -> storeHelper.invalidateCache(metadataTable, CREATION_TIME_KEY)));
+                .thenCompose(metadataTable -> Futures.toVoid(storeHelper.addNewEntryIfAbsent(metadataTable, CREATION_TIME_KEY,
+                        creationTime, t -> b)));
     }
 
     @Override
     public CompletableFuture<Void> createConfigurationIfAbsent(final KVTConfigurationRecord configuration) {
         return getMetadataTable()
-                .thenCompose(metadataTable -> storeHelper.addNewEntryIfAbsent(metadataTable, CONFIGURATION_KEY, configuration.toBytes())
-                        .thenAccept(v -> storeHelper.invalidateCache(metadataTable, CONFIGURATION_KEY)));
+                .thenCompose(metadataTable -> Futures.toVoid(storeHelper.addNewEntryIfAbsent(metadataTable, CONFIGURATION_KEY,
+                        configuration, KVTConfigurationRecord::toBytes)));
     }
 
     @Override
     CompletableFuture<Void> createEpochRecordDataIfAbsent(int epoch, KVTEpochRecord data) {
         String key = String.format(EPOCH_RECORD_KEY_FORMAT, epoch);
         return getMetadataTable()
-                .thenCompose(metadataTable -> storeHelper.addNewEntryIfAbsent(metadataTable, key, data.toBytes())
-                        .thenAccept(v -> storeHelper.invalidateCache(metadataTable, key)));
+                .thenCompose(metadataTable -> Futures.toVoid(storeHelper.addNewEntryIfAbsent(metadataTable, key, data,
+                        KVTEpochRecord::toBytes)));
     }
 
     @Override
@@ -228,10 +224,8 @@ class PravegaTablesKVTable extends AbstractKVTableBase {
         byte[] epochData = new byte[Integer.BYTES];
         BitConverter.writeInt(epochData, 0, data.getEpoch());
         return getMetadataTable()
-                .thenCompose(metadataTable -> storeHelper.addNewEntryIfAbsent(metadataTable, CURRENT_EPOCH_KEY, epochData)
-                       .thenAccept(v -> {
-                           storeHelper.invalidateCache(metadataTable, CURRENT_EPOCH_KEY);
-                       }));
+                .thenCompose(metadataTable -> Futures.toVoid(storeHelper.addNewEntryIfAbsent(metadataTable, CURRENT_EPOCH_KEY,
+                        data.getEpoch(), epoch -> epochData)));
     }
 
     @Override
@@ -9,12 +9,18 @@
  */
 package io.pravega.controller.store.stream;
 
+import com.google.common.base.Preconditions;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import io.pravega.common.Timer;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.controller.store.Version;
 import io.pravega.controller.store.VersionedMetadata;
+import lombok.Data;
 
 import javax.annotation.ParametersAreNonnullByDefault;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
@@ -22,44 +28,193 @@ import java.util.function.Function;
 
 /**
  * Cache for asynchronously retrieving and loading records from underlying store using the supplied loader.
- * This uses Guava's loading cache and takes a loader function for loading entries into the cache. 
+ * This uses Guava's loading cache and takes a loader function for loading entries into the cache.
  * This class caches Futures which hold the metadata record with version. The cache is untyped and the CompletableFutures
  * can hold any value under the VersionedMetadata wrapper.
  * The values are by default held for 2 minutes after creation unless invalidated explicitly.
- * The maximum number of records that can be held in the cache is 10000. 
+ *
+ * Each entry has a weight, which is supplied by the loader along with the record (or with {@link #updateCache}), and the
+ * total weight of all entries is bounded. By default each entry weighs 1, which caps the cache at 10000 records. Entries
+ * are weighed once their load completes; until then they count as a single unit.
  */
 public class Cache {
     private static final int MAX_CACHE_SIZE = 10000;
-    
-    private final LoadingCache<CacheKey, CompletableFuture<VersionedMetadata<?>>> cache;
+    private static final int PENDING_WEIGHT = 1;
+
+    private final LoadingCache<CacheKey, Entry> cache;
+    private final StatsRecorder stats;
 
     public Cache(final Function<CacheKey, CompletableFuture<VersionedMetadata<?>>> loader) {
+        this(MAX_CACHE_SIZE, key -> loader.apply(key).thenApply(v -> new WeighedMetadata(v, 1)), StatsRecorder.NO_OP);
+    }
+
+    /**
+     * Creates a new instance of the Cache class.
+     *
+     * @param maxWeight The maximum total weight of all the entries in the cache.
+     * @param loader    A function that loads the record for a given key along with its weight.
+     * @param stats     A {@link StatsRecorder} to report cache hits, misses and load latencies to.
+     */
+    public Cache(final long maxWeight, final Function<CacheKey, CompletableFuture<WeighedMetadata>> loader, final StatsRecorder stats) {
+        Preconditions.checkArgument(maxWeight > 0, "maxWeight must be a positive number.");
+        this.stats = Preconditions.checkNotNull(stats, "stats");
         cache = CacheBuilder.newBuilder()
-                            .maximumSize(MAX_CACHE_SIZE)
+                            .maximumWeight(maxWeight)
+                            .weigher((CacheKey key, Entry entry) -> entry.weight)
                             .expireAfterAccess(2, TimeUnit.MINUTES)
-                            .build(new CacheLoader<CacheKey, CompletableFuture<VersionedMetadata<?>>>() {
+                            .build(new CacheLoader<CacheKey, Entry>() {
                                 @ParametersAreNonnullByDefault
                                 @Override
-                                public CompletableFuture<VersionedMetadata<?>> load(final CacheKey key) {
-                                    return loader.apply(key);
+                                public Entry load(final CacheKey key) {
+                                    return loadEntry(key, loader);
                                 }
                             });
     }
 
     public CompletableFuture<VersionedMetadata<?>> getCachedData(CacheKey key) {
-        return cache.getUnchecked(key).exceptionally(ex -> {
-            invalidateCache(key);
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            stats.recordMiss(key);
+            entry = cache.getUnchecked(key);
+            if (entry.loading != null) {
+                reweighWhenLoaded(key, entry);
+            }
+        } else {
+            stats.recordHit(key);
+        }
+
+        Entry e = entry;
+        return entry.value.exceptionally(ex -> {
+            // Only remove this entry; it may have already been replaced by a newer one.
+            cache.asMap().remove(key, e);
             throw new CompletionException(ex);
         });
     }
 
+    /**
+     * Updates the cached record for the given key (write-through). This should be invoked after the record has been
+     * successfully updated in the underlying store, so that subsequent reads need not reload it. If the cache already
+     * holds a record with a higher version for this key, it is left untouched.
+     *
+     * @param key    The key to update.
+     * @param value  The new record, along with the version that the store assigned it.
+     * @param weight The weight of the new record.
+     */
+    public void updateCache(final CacheKey key, final VersionedMetadata<?> value, final int weight) {
+        Entry newEntry = new Entry(CompletableFuture.completedFuture(value), weight, null);
+        cache.asMap().compute(key, (k, existing) -> existing != null && isNewer(existing, value.getVersion()) ? existing : newEntry);
+    }
+
     public void invalidateCache(final CacheKey key) {
         cache.invalidate(key);
     }
 
+    private Entry loadEntry(CacheKey key, Function<CacheKey, CompletableFuture<WeighedMetadata>> loader) {
+        Timer timer = new Timer();
+        CompletableFuture<WeighedMetadata> result = loader.apply(key);
+        result.thenAccept(loaded -> stats.recordLoad(key, timer.getElapsed()));
+        if (Futures.isSuccessful(result)) {
+            // Already loaded; it can be weighed right away.
+            return new Entry(result.thenApply(WeighedMetadata::getMetadata), result.join().getWeight(), null);
+        }
+
+        return new Entry(result.thenApply(WeighedMetadata::getMetadata), PENDING_WEIGHT, result);
+    }
+
+    private void reweighWhenLoaded(CacheKey key, Entry entry) {
+        // This cannot be done from the loader itself, since the entry only becomes visible in the cache once the loader
+        // returns. Re-insert the entry so that it is weighed according to what has actually been loaded. If the entry has
+        // been replaced or evicted in the meantime, there is nothing to do.
+        entry.loading.thenAccept(loaded -> {
+            if (loaded.getWeight() != PENDING_WEIGHT) {
+                cache.asMap().replace(key, entry, new Entry(entry.value, loaded.getWeight(), null));
+            }
+        });
+    }
+
+    private static boolean isNewer(Entry existing, Version version) {
+        if (!Futures.isSuccessful(existing.value)) {
+            return false;
+        }
+
+        Version existingVersion = existing.value.join().getVersion();
+        if (existingVersion instanceof Version.LongVersion && version instanceof Version.LongVersion) {
+            return existingVersion.asLongVersion().getLongValue() > version.asLongVersion().getLongValue();
+        } else if (existingVersion instanceof Version.IntVersion && version instanceof Version.IntVersion) {
+            return existingVersion.asIntVersion().getIntValue() > version.asIntVersion().getIntValue();
+        } else {
+            return false;
+        }
+    }
+
     /**
-     * All entries in the cache are cached against objects of type CacheKey. 
+     * All entries in the cache are cached against objects of type CacheKey.
      */
     public interface CacheKey {
     }
+
+    /**
+     * A loaded record along with its weight.
+     */
+    @Data
+    public static class WeighedMetadata {
+        private final VersionedMetadata<?> metadata;
+        private final int weight;
+    }
+
+    /**
+     * Receives notifications about cache lookups and loads, typically in order to report metrics.
+     */
+    public interface StatsRecorder {
+        StatsRecorder NO_OP = new StatsRecorder() {
+            @Override
+            public void recordHit(CacheKey key) {
+            }
+
+            @Override
+            public void recordMiss(CacheKey key) {
+            }
+
+            @Override
+            public void recordLoad(CacheKey key, Duration elapsed) {
+            }
+        };
+
+        /**
+         * Invoked when a lookup found the given key in the cache.
+         *
+         * @param key The key.
+         */
+        void recordHit(CacheKey key);
+
+        /**
+         * Invoked when a lookup did not find the given key in the cache and it has to be loaded.
+         *
+         * @param key The key.
+         */
+        void recordMiss(CacheKey key);
+
+        /**
+         * Invoked when a record has been successfully loaded into the cache.
+         *
+         * @param key     The key.
+         * @param elapsed The time it took to load the record.
+         */
+        void recordLoad(CacheKey key, Duration elapsed);
+    }
+
+    private static class Entry {
+        private final CompletableFuture<VersionedMetadata<?>> value;
+        private final int weight;
+        /**
+         * The result of the loader, if the entry has not been weighed according to it yet. Null otherwise.
+         */
+        private final CompletableFuture<WeighedMetadata> loading;
+
+        Entry(CompletableFuture<VersionedMetadata<?>> value, int weight, CompletableFuture<WeighedMetadata> loading) {
+            this.value = value;
+            this.weight = weight;
+            this.loading = loading;
+        }
+    }
 }
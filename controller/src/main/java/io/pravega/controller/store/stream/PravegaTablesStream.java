@@ -317,8 +317,8 @@ class PravegaTablesStream extends PersistentStreamBase {
     CompletableFuture<Void> createStreamCutRecordData(long recordingTime, StreamCutRecord record) {
         String key = String.format(RETENTION_STREAM_CUT_RECORD_KEY_FORMAT, recordingTime);
         return getMetadataTable()
-                .thenCompose(metadataTable -> storeHelper.addNewEntryIfAbsent(metadataTable, key, record.toBytes())
-                                                         .thenAccept(v -> storeHelper.invalidateCache(metadataTable, key)));
+                .thenCompose(metadataTable -> Futures.toVoid(storeHelper.addNewEntryIfAbsent(metadataTable, key, record,
+                        StreamCutRecord::toBytes)));
     }
 
     @Override
@@ -341,8 +341,8 @@ class PravegaTablesStream extends PersistentStreamBase {
     CompletableFuture<Void> createHistoryTimeSeriesChunkDataIfAbsent(int chunkNumber, HistoryTimeSeries data) {
         String key = String.format(HISTORY_TIMESERES_CHUNK_FORMAT, chunkNumber);
         return getMetadataTable()
-                .thenCompose(metadataTable -> storeHelper.addNewEntryIfAbsent(metadataTable, key, data.toBytes())
-                                                         .thenAccept(x -> storeHelper.invalidateCache(metadataTable, key)));
+                .thenCompose(metadataTable -> Futures.toVoid(storeHelper.addNewEntryIfAbsent(metadataTable, key, data,
+                        HistoryTimeSeries::toBytes)));
     }
 
     @Override
@@ -361,13 +361,8 @@ class PravegaTablesStream extends PersistentStreamBase {
     CompletableFuture<Version> updateHistoryTimeSeriesChunkData(int chunkNumber, VersionedMetadata<HistoryTimeSeries> data) {
         String key = String.format(HISTORY_TIMESERES_CHUNK_FORMAT, chunkNumber);
         return getMetadataTable()
-                .thenCompose(metadataTable -> {
-                    return storeHelper.updateEntry(metadataTable, key, data.getObject().toBytes(), data.getVersion())
-                                      .thenApply(version -> {
-                                          storeHelper.invalidateCache(metadataTable, key);
-                                          return version;
-                                      });
-                });
+                .thenCompose(metadataTable -> storeHelper.updateEntry(metadataTable, key, data.getObject(),
+                        HistoryTimeSeries::toBytes, data.getVersion()));
     }
 
     @Override
@@ -376,12 +371,8 @@ class PravegaTablesStream extends PersistentStreamBase {
         BitConverter.writeInt(epochData, 0, data.getEpoch());
 
         return getMetadataTable()
-                .thenCompose(metadataTable -> {
-                    return storeHelper.addNewEntryIfAbsent(metadataTable, CURRENT_EPOCH_KEY, epochData)
-                                      .thenAccept(v -> {
-                                          storeHelper.invalidateCache(metadataTable, CURRENT_EPOCH_KEY);
-                                      });
-                });
+                .thenCompose(metadataTable -> Futures.toVoid(storeHelper.addNewEntryIfAbsent(metadataTable, CURRENT_EPOCH_KEY,
+                        data.getEpoch(), epoch -> epochData)));
     }
 
     @Override
@@ -390,11 +381,8 @@ class PravegaTablesStream extends PersistentStreamBase {
         BitConverter.writeInt(epochData, 0, data.getObject().getEpoch());
 
         return getMetadataTable()
-                .thenCompose(metadataTable -> storeHelper.updateEntry(metadataTable, CURRENT_EPOCH_KEY, epochData, data.getVersion())
-                                                         .thenApply(v -> {
-                                                             storeHelper.invalidateCache(metadataTable, CURRENT_EPOCH_KEY);
-                                                             return v;
-                                                         }));
+                .thenCompose(metadataTable -> storeHelper.updateEntry(metadataTable, CURRENT_EPOCH_KEY,
+                        data.getObject().getEpoch(), epoch -> epochData, data.getVersion()));
     }
 
     @Override
@@ -416,8 +404,7 @@ class PravegaTablesStream extends PersistentStreamBase {
     CompletableFuture<Void> createEpochRecordDataIfAbsent(int epoch, EpochRecord data) {
         String key = String.format(EPOCH_RECORD_KEY_FORMAT, epoch);
         return getMetadataTable()
-                .thenCompose(metadataTable -> storeHelper.addNewEntryIfAbsent(metadataTable, key, data.toBytes())
-                                                         .thenAccept(v -> storeHelper.invalidateCache(metadataTable, key)))
+                .thenCompose(metadataTable -> storeHelper.addNewEntryIfAbsent(metadataTable, key, data, EpochRecord::toBytes))
                 .thenCompose(v -> {
                     if (data.getEpoch() == data.getReferenceEpoch()) {
                         // this is an original epoch. we should create transactions in epoch table
@@ -512,15 +499,15 @@ class PravegaTablesStream extends PersistentStreamBase {
         BitConverter.writeLong(b, 0, creationTime);
 
         return getMetadataTable()
-                .thenCompose(metadataTable -> storeHelper.addNewEntryIfAbsent(metadataTable, CREATION_TIME_KEY, b)
-                                                         .thenAccept(v -> storeHelper.invalidateCache(metadataTable, CREATION_TIME_KEY)));
+                .thenCompose(metadataTable -> Futures.toVoid(storeHelper.addNewEntryIfAbsent(metadataTable, CREATION_TIME_KEY,
+                        creationTime, t -> b)));
     }
 
     @Override
     public CompletableFuture<Void> createConfigurationIfAbsent(final StreamConfigurationRecord configuration) {
         return getMetadataTable()
-                .thenCompose(metadataTable -> storeHelper.addNewEntryIfAbsent(metadataTable, CONFIGURATION_KEY, configuration.toBytes())
-                                                         .thenAccept(v -> storeHelper.invalidateCache(metadataTable, CONFIGURATION_KEY)));
+                .thenCompose(metadataTable -> Futures.toVoid(storeHelper.addNewEntryIfAbsent(metadataTable, CONFIGURATION_KEY,
+                        configuration, StreamConfigurationRecord::toBytes)));
     }
 
     @Override
@@ -811,11 +798,7 @@ class PravegaTablesStream extends PersistentStreamBase {
     CompletableFuture<Version> setTruncationData(final VersionedMetadata<StreamTruncationRecord> truncationRecord) {
         return getMetadataTable()
                 .thenCompose(metadataTable -> storeHelper.updateEntry(metadataTable, TRUNCATION_KEY,
-                        truncationRecord.getObject().toBytes(), truncationRecord.getVersion())
-                                                         .thenApply(r -> {
-                                                             storeHelper.invalidateCache(metadataTable, TRUNCATION_KEY);
-                                                             return r;
-                                                         }));
+                        truncationRecord.getObject(), StreamTruncationRecord::toBytes, truncationRecord.getVersion()));
     }
 
     @Override
@@ -834,11 +817,7 @@ class PravegaTablesStream extends PersistentStreamBase {
     CompletableFuture<Version> setConfigurationData(final VersionedMetadata<StreamConfigurationRecord> configuration) {
         return getMetadataTable()
                 .thenCompose(metadataTable -> storeHelper.updateEntry(metadataTable, CONFIGURATION_KEY,
-                        configuration.getObject().toBytes(), configuration.getVersion())
-                                                         .thenApply(r -> {
-                                                             storeHelper.invalidateCache(metadataTable, CONFIGURATION_KEY);
-                                                             return r;
-                                                         }));
+                        configuration.getObject(), StreamConfigurationRecord::toBytes, configuration.getVersion()));
     }
 
     @Override
@@ -857,11 +836,7 @@ class PravegaTablesStream extends PersistentStreamBase {
     CompletableFuture<Version> setStateData(final VersionedMetadata<StateRecord> state) {
         return getMetadataTable()
                 .thenCompose(metadataTable -> storeHelper.updateEntry(metadataTable, STATE_KEY,
-                        state.getObject().toBytes(), state.getVersion())
-                                                         .thenApply(r -> {
-                                                             storeHelper.invalidateCache(metadataTable, STATE_KEY);
-                                                             return r;
-                                                         }));
+                        state.getObject(), StateRecord::toBytes, state.getVersion()));
     }
 
     @Override
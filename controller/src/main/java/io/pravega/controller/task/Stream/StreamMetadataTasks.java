@@ -810,13 +810,19 @@ public class StreamMetadataTasks extends TaskBase {
                 .thenCompose(configuration -> notifyNewSegments(scope, stream, configuration, segmentIds, controllerToken, requestId));
     }
 
+    /**
+     * Creates the given segments. Segments that are owned by the same segment store are first created using a single batch
+     * request; any segment that was not created that way is then created individually (with retries).
+     */
     public CompletableFuture<Void> notifyNewSegments(String scope, String stream, StreamConfiguration configuration,
                                                      List<Long> segmentIds, String controllerToken, long requestId) {
-        return Futures.toVoid(Futures.allOfWithResults(segmentIds
-                .stream()
-                .parallel()
-                .map(segment -> notifyNewSegment(scope, stream, segment, configuration.getScalingPolicy(), controllerToken, requestId))
-                .collect(Collectors.toList())));
+        return segmentHelper.createSegments(scope, stream, segmentIds, configuration.getScalingPolicy(), controllerToken, requestId)
+                .thenCompose(created -> Futures.toVoid(Futures.allOfWithResults(segmentIds
+                        .stream()
+                        .filter(segment -> !created.contains(segment))
+                        .parallel()
+                        .map(segment -> notifyNewSegment(scope, stream, segment, configuration.getScalingPolicy(), controllerToken, requestId))
+                        .collect(Collectors.toList()))));
     }
 
     public CompletableFuture<Void> notifyNewSegment(String scope, String stream, long segmentId, ScalingPolicy policy,
@@ -831,13 +837,19 @@ public class StreamMetadataTasks extends TaskBase {
                 stream, segmentId, policy, controllerToken, requestId), executor));
     }
 
+    /**
+     * Deletes the given segments. Segments that are owned by the same segment store are first deleted using a single batch
+     * request; any segment that was not deleted that way is then deleted individually (with retries).
+     */
     public CompletableFuture<Void> notifyDeleteSegments(String scope, String stream, Set<Long> segmentsToDelete,
                                                         String delegationToken, long requestId) {
-        return Futures.allOf(segmentsToDelete
-                 .stream()
-                 .parallel()
-                 .map(segment -> notifyDeleteSegment(scope, stream, segment, delegationToken, requestId))
-                 .collect(Collectors.toList()));
+        return segmentHelper.deleteSegments(scope, stream, segmentsToDelete, delegationToken, requestId)
+                .thenCompose(deleted -> Futures.allOf(segmentsToDelete
+                         .stream()
+                         .filter(segment -> !deleted.contains(segment))
+                         .parallel()
+                         .map(segment -> notifyDeleteSegment(scope, stream, segment, delegationToken, requestId))
+                         .collect(Collectors.toList())));
     }
 
     public CompletableFuture<Void> notifyDeleteSegment(String scope, String stream, long segmentId, String delegationToken,
@@ -865,14 +877,20 @@ public class StreamMetadataTasks extends TaskBase {
         return notifySealedSegments(scope, stream, sealedSegments, delegationToken, RequestTag.NON_EXISTENT_ID);
     }
 
+    /**
+     * Seals the given segments. Segments that are owned by the same segment store are first sealed using a single batch
+     * request; any segment that was not sealed that way is then sealed individually (with retries).
+     */
     public CompletableFuture<Void> notifySealedSegments(String scope, String stream, List<Long> sealedSegments,
                                                          String delegationToken, long requestId) {
-        return Futures.allOf(
-                sealedSegments
-                        .stream()
-                        .parallel()
-                        .map(id -> notifySealedSegment(scope, stream, id, delegationToken, requestId))
-                        .collect(Collectors.toList()));
+        return segmentHelper.sealSegments(scope, stream, sealedSegments, delegationToken, requestId)
+                .thenCompose(sealed -> Futures.allOf(
+                        sealedSegments
+                                .stream()
+                                .filter(id -> !sealed.contains(id))
+                                .parallel()
+                                .map(id -> notifySealedSegment(scope, stream, id, delegationToken, requestId))
+                                .collect(Collectors.toList())));
     }
 
     private CompletableFuture<Void> notifySealedSegment(final String scope, final String stream, final long sealedSegment,
@@ -68,6 +68,9 @@ public final class Config {
     public static final Property<Boolean> PROPERTY_USE_PRAVEGA_TABLES = Property.named(
             "pravegaTables.enable", true, "usePravegaTables");
 
+    public static final Property<Integer> PROPERTY_METADATA_CACHE_SIZE_MB = Property.named(
+            "pravegaTables.cache.size.mb", 128);
+
     public static final Property<Integer> PROPERTY_SERVICE_PORT = Property.named(
             "service.rpc.listener.port", 9090, "service.port");
 
@@ -237,6 +240,7 @@ public final class Config {
 
     // Store configuration
     public static final boolean USE_PRAVEGA_TABLES;
+    public static final long METADATA_CACHE_SIZE_BYTES;
     //Transaction configuration
     public static final long MIN_LEASE_VALUE;
     public static final long MAX_LEASE_VALUE;
@@ -329,6 +333,7 @@ public final class Config {
         SCALE_READER_GROUP = p.get(PROPERTY_SCALE_READER_GROUP);
         DUMP_STACK_ON_SHUTDOWN = p.getBoolean(PROPERTY_DUMP_STACK_ON_SHUTDOWN);
         USE_PRAVEGA_TABLES = p.getBoolean(PROPERTY_USE_PRAVEGA_TABLES);
+        METADATA_CACHE_SIZE_BYTES = p.getInt(PROPERTY_METADATA_CACHE_SIZE_MB) * 1024L * 1024L;
         GRPC_SERVER_CONFIG = createGrpcServerConfig();
         METRICS_CONFIG = createMetricsConfig(properties);
     }
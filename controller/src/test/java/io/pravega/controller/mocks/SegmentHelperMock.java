@@ -67,6 +67,16 @@ public class SegmentHelperMock {
         doReturn(CompletableFuture.completedFuture(null)).when(helper).deleteSegment(
                 anyString(), anyString(), anyLong(), any(), anyLong());
 
+        // No segment is ever processed by a batch request; this makes the callers fall back to the individual requests above.
+        doReturn(CompletableFuture.completedFuture(Collections.emptySet())).when(helper).sealSegments(
+                anyString(), anyString(), any(), any(), anyLong());
+
+        doReturn(CompletableFuture.completedFuture(Collections.emptySet())).when(helper).createSegments(
+                anyString(), anyString(), any(), any(), any(), anyLong());
+
+        doReturn(CompletableFuture.completedFuture(Collections.emptySet())).when(helper).deleteSegments(
+                anyString(), anyString(), any(), any(), anyLong());
+
         doReturn(CompletableFuture.completedFuture(null)).when(helper).createTransaction(
                 anyString(), anyString(), anyLong(), any(), any());
 
@@ -109,6 +119,16 @@ public class SegmentHelperMock {
         doReturn(Futures.failedFuture(new RuntimeException())).when(helper).deleteSegment(
                 anyString(), anyString(), anyLong(), any(), anyLong());
 
+        // No segment is ever processed by a batch request; this makes the callers fall back to the individual requests above.
+        doReturn(CompletableFuture.completedFuture(Collections.emptySet())).when(helper).sealSegments(
+                anyString(), anyString(), any(), any(), anyLong());
+
+        doReturn(CompletableFuture.completedFuture(Collections.emptySet())).when(helper).createSegments(
+                anyString(), anyString(), any(), any(), any(), anyLong());
+
+        doReturn(CompletableFuture.completedFuture(Collections.emptySet())).when(helper).deleteSegments(
+                anyString(), anyString(), any(), any(), anyLong());
+
         doReturn(Futures.failedFuture(new RuntimeException())).when(helper).createTransaction(
                 anyString(), anyString(), anyLong(), any(), any());
 
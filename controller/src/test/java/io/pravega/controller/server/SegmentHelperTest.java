@@ -35,6 +35,8 @@ import io.pravega.shared.protocol.netty.WireCommands;
 import io.pravega.test.common.AssertExtensions;
 import java.util.AbstractMap;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -177,6 +179,55 @@ public class SegmentHelperTest {
         testConnectionFailure(factory, futureSupplier);
     }
 
+    @Test
+    public void batchSegmentRequests() {
+        MockConnectionFactory factory = new MockConnectionFactory();
+        SegmentHelper helper = new SegmentHelper(factory, new MockHostControllerStore());
+        List<Long> segmentIds = Arrays.asList(0L, 1L, 2L);
+
+        // Nothing is batched until the Segment Store has advertised (via Hello) a wire version that supports batches.
+        assertTrue(helper.sealSegments("", "", segmentIds, "", Long.MIN_VALUE).join().isEmpty());
+        CompletableFuture<Void> individual = helper.sealSegment("", "", 0L, "", Long.MIN_VALUE);
+        factory.rp.hello(new WireCommands.Hello(SegmentHelper.SEGMENT_BATCHES_WIRE_VERSION - 1, WireCommands.OLDEST_COMPATIBLE_VERSION));
+        long requestId = ((MockConnection) (factory.connection)).getRequestId();
+        factory.rp.process(new WireCommands.SegmentSealed(requestId, getQualifiedStreamSegmentName("", "", 0L)));
+        individual.join();
+        assertTrue(helper.sealSegments("", "", segmentIds, "", Long.MIN_VALUE).join().isEmpty());
+
+        individual = helper.sealSegment("", "", 0L, "", Long.MIN_VALUE);
+        factory.rp.hello(new WireCommands.Hello(WireCommands.WIRE_VERSION, WireCommands.OLDEST_COMPATIBLE_VERSION));
+        requestId = ((MockConnection) (factory.connection)).getRequestId();
+        factory.rp.process(new WireCommands.SegmentSealed(requestId, getQualifiedStreamSegmentName("", "", 0L)));
+        individual.join();
+
+        // Only the segments included in the reply are reported as processed.
+        CompletableFuture<Set<Long>> created = helper.createSegments("", "", segmentIds, ScalingPolicy.fixed(2), "", Long.MIN_VALUE);
+        requestId = ((MockConnection) (factory.connection)).getRequestId();
+        factory.rp.process(new WireCommands.SegmentsCreated(requestId, Arrays.asList(
+                getQualifiedStreamSegmentName("", "", 0L), getQualifiedStreamSegmentName("", "", 2L))));
+        assertEquals(new HashSet<>(Arrays.asList(0L, 2L)), created.join());
+
+        CompletableFuture<Set<Long>> sealed = helper.sealSegments("", "", segmentIds, "", Long.MIN_VALUE);
+        requestId = ((MockConnection) (factory.connection)).getRequestId();
+        factory.rp.process(new WireCommands.SegmentsSealed(requestId, segmentIds.stream()
+                .map(id -> getQualifiedStreamSegmentName("", "", id)).collect(Collectors.toList())));
+        assertEquals(new HashSet<>(segmentIds), sealed.join());
+
+        // An unexpected reply means that nothing was processed.
+        CompletableFuture<Set<Long>> deleted = helper.deleteSegments("", "", segmentIds, "", Long.MIN_VALUE);
+        requestId = ((MockConnection) (factory.connection)).getRequestId();
+        factory.rp.process(new WireCommands.SegmentsSealed(requestId, Collections.emptyList()));
+        assertTrue(deleted.join().isEmpty());
+
+        // A failed request means that nothing was processed.
+        deleted = helper.deleteSegments("", "", segmentIds, "", Long.MIN_VALUE);
+        factory.rp.processingFailure(new ConnectionFailedException());
+        assertTrue(deleted.join().isEmpty());
+
+        // A segment that does not share its Segment Store with any other segment is never batched.
+        assertTrue(helper.sealSegments("", "", Collections.singletonList(0L), "", Long.MIN_VALUE).join().isEmpty());
+    }
+
     @Test
     public void sealSegment() {
         MockConnectionFactory factory = new MockConnectionFactory();
@@ -241,6 +241,11 @@ public class SegmentStoreConnectionManagerTest {
 
             }
 
+            @Override
+            public void segmentsRead(WireCommands.SegmentsRead segmentsRead) {
+
+            }
+
             @Override
             public void segmentAttributeUpdated(WireCommands.SegmentAttributeUpdated segmentAttributeUpdated) {
 
@@ -261,6 +266,11 @@ public class SegmentStoreConnectionManagerTest {
 
             }
 
+            @Override
+            public void segmentsCreated(WireCommands.SegmentsCreated segmentsCreated) {
+
+            }
+
             @Override
             public void segmentsMerged(WireCommands.SegmentsMerged segmentsMerged) {
 
@@ -271,6 +281,11 @@ public class SegmentStoreConnectionManagerTest {
 
             }
 
+            @Override
+            public void segmentsSealed(WireCommands.SegmentsSealed segmentsSealed) {
+
+            }
+
             @Override
             public void segmentTruncated(WireCommands.SegmentTruncated segmentTruncated) {
 
@@ -281,6 +296,11 @@ public class SegmentStoreConnectionManagerTest {
 
             }
 
+            @Override
+            public void segmentsDeleted(WireCommands.SegmentsDeleted segmentsDeleted) {
+
+            }
+
             @Override
             public void operationUnsupported(WireCommands.OperationUnsupported operationUnsupported) {
 
@@ -60,6 +60,7 @@ import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -947,6 +948,35 @@ public abstract class ScaleRequestHandlerTest {
         assertTrue(scaleOpEvent.getNewRanges().get(0).getValue().doubleValue() == scaleOpEvent.getNewRanges().get(1).getKey().doubleValue());
     }
 
+    @Test(timeout = 30000)
+    public void testScaleRangeWithRoutingKeySample() throws ExecutionException, InterruptedException {
+        StreamSegmentRecord segment = new StreamSegmentRecord(2, 1, 100L, 0.2, 1.0);
+        doReturn(CompletableFuture.completedFuture(segment)).when(streamStore).getSegment(any(), any(), anyLong(), any(), any());
+
+        AutoScaleTask requestHandler = new AutoScaleTask(streamMetadataTasks, streamStore, executor);
+        ScaleOperationTask scaleRequestHandler = new ScaleOperationTask(streamMetadataTasks, streamStore, executor);
+        StreamRequestHandler multiplexer = new StreamRequestHandler(requestHandler, scaleRequestHandler, null,
+                null, null, null, streamStore, executor);
+        EventWriterMock writer = new EventWriterMock();
+        streamMetadataTasks.setRequestEventWriter(writer);
+
+        // Most of the traffic is for keys at the lower end of the segment's range (the first value is out of range and
+        // should be ignored).
+        List<Double> sample = Arrays.asList(0.1, 0.21, 0.22, 0.23, 0.24, 0.25, 0.26, 0.27, 0.28, 0.9, 0.95);
+        AutoScaleEvent scaleUpEvent = new AutoScaleEvent(scope, stream, NameUtils.computeSegmentId(2, 1),
+                AutoScaleEvent.UP, System.currentTimeMillis(), 2, false, System.currentTimeMillis(), sample);
+        assertTrue(Futures.await(multiplexer.process(scaleUpEvent, () -> false)));
+
+        reset(streamStore);
+        assertEquals(1, writer.queue.size());
+        ScaleOpEvent scaleOpEvent = (ScaleOpEvent) writer.queue.take();
+        assertEquals(2, scaleOpEvent.getNewRanges().size());
+        assertEquals(0.2, scaleOpEvent.getNewRanges().get(0).getKey(), 0.0);
+        assertEquals((0.25 + 0.26) / 2, scaleOpEvent.getNewRanges().get(0).getValue(), 0.0);
+        assertEquals((0.25 + 0.26) / 2, scaleOpEvent.getNewRanges().get(1).getKey(), 0.0);
+        assertEquals(1.0, scaleOpEvent.getNewRanges().get(1).getValue(), 0.0);
+    }
+
     @Test(timeout = 30000)
     public void testWithExistingEpochTransition() {
         ScaleOperationTask scaleRequestHandler = new ScaleOperationTask(streamMetadataTasks, streamStore, executor);
@@ -38,6 +38,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
@@ -181,6 +182,87 @@ public class PravegaTablesStoreHelperTest {
         assertEquals(keys.get(3), values.get(3).getObject());
     }
 
+    @Test
+    public void testCacheWriteThrough() {
+        SegmentHelper segmentHelper = spy(SegmentHelperMock.getSegmentHelperMockForTables(executor));
+        PravegaTablesStoreHelper storeHelper = new PravegaTablesStoreHelper(segmentHelper, authHelper, executor);
+        String table = "table";
+        String key = "key";
+        storeHelper.createTable(table).join();
+
+        // A newly added entry is cached right away.
+        Version version = storeHelper.addNewEntryIfAbsent(table, key, "value", String::getBytes).join();
+        VersionedMetadata<String> cached = storeHelper.getCachedData(table, key, String::new).join();
+        assertEquals("value", cached.getObject());
+        assertEquals(version, cached.getVersion());
+
+        // So is an updated one, along with its new version.
+        version = storeHelper.updateEntry(table, key, "value2", String::getBytes, version).join();
+        cached = storeHelper.getCachedData(table, key, String::new).join();
+        assertEquals("value2", cached.getObject());
+        assertEquals(version, cached.getVersion());
+        verify(segmentHelper, never()).readTable(anyString(), any(), anyString(), anyLong());
+
+        // A failed update leaves the cache untouched.
+        AssertExtensions.assertFutureThrows("bad version",
+                storeHelper.updateEntry(table, key, "value3", String::getBytes, new Version.LongVersion(version.asLongVersion().getLongValue() - 1)),
+                e -> Exceptions.unwrap(e) instanceof StoreException.WriteConflictException);
+        assertEquals("value2", storeHelper.getCachedData(table, key, String::new).join().getObject());
+
+        // If the entry already exists, the value we tried to add is not what is stored, so it is read from the table.
+        assertNull(storeHelper.addNewEntryIfAbsent(table, key, "value4", String::getBytes).join());
+        assertEquals("value2", storeHelper.getCachedData(table, key, String::new).join().getObject());
+        verify(segmentHelper, times(1)).readTable(anyString(), any(), anyString(), anyLong());
+    }
+
+    @Test
+    public void testCacheSize() {
+        SegmentHelper segmentHelper = spy(SegmentHelperMock.getSegmentHelperMockForTables(executor));
+        int valueLength = 1000;
+        int entryCount = 10;
+        PravegaTablesStoreHelper storeHelper = new PravegaTablesStoreHelper(segmentHelper, authHelper, executor, 2, 2 * valueLength);
+        String table = "table";
+        storeHelper.createTable(table).join();
+        for (int i = 0; i < entryCount; i++) {
+            storeHelper.addNewEntry(table, Integer.toString(i), new byte[valueLength]).join();
+        }
+
+        // Each entry is too large to be kept in such a small cache, so every lookup needs to load it.
+        for (int j = 0; j < 2; j++) {
+            for (int i = 0; i < entryCount; i++) {
+                assertEquals(valueLength, storeHelper.getCachedData(table, Integer.toString(i), x -> x).join().getObject().length);
+            }
+        }
+
+        verify(segmentHelper, times(2 * entryCount)).readTable(anyString(), any(), anyString(), anyLong());
+
+        // Whereas a cache large enough to hold them all needs to load each of them only once.
+        segmentHelper = spy(SegmentHelperMock.getSegmentHelperMockForTables(executor));
+        storeHelper = new PravegaTablesStoreHelper(segmentHelper, authHelper, executor, 2, 100 * entryCount * valueLength);
+        storeHelper.createTable(table).join();
+        for (int i = 0; i < entryCount; i++) {
+            storeHelper.addNewEntry(table, Integer.toString(i), new byte[valueLength]).join();
+        }
+
+        for (int j = 0; j < 2; j++) {
+            for (int i = 0; i < entryCount; i++) {
+                assertEquals(valueLength, storeHelper.getCachedData(table, Integer.toString(i), x -> x).join().getObject().length);
+            }
+        }
+
+        verify(segmentHelper, times(entryCount)).readTable(anyString(), any(), anyString(), anyLong());
+    }
+
+    @Test
+    public void testGetTableKind() {
+        assertEquals("metadata", PravegaTablesStoreHelper.getTableKind("_system/_tables/scope/stream/metadata.#.1234-abcd"));
+        assertEquals("transactionsInEpoch", PravegaTablesStoreHelper.getTableKind("_system/_tables/scope/stream/transactionsInEpoch-3.#.1234"));
+        assertEquals("completedTransactionsBatch", PravegaTablesStoreHelper.getTableKind("_system/_tables/completedTransactionsBatch-12"));
+        assertEquals("scopes", PravegaTablesStoreHelper.getTableKind("_system/_tables/scopes"));
+        assertEquals("table", PravegaTablesStoreHelper.getTableKind("table"));
+        assertEquals("table-", PravegaTablesStoreHelper.getTableKind("table-"));
+    }
+
     @Test
     public void testRetriesExhausted() {
         SegmentHelper segmentHelper = spy(SegmentHelperMock.getSegmentHelperMockForTables(executor));
@@ -32,6 +32,26 @@ public class IteratorArgs {
      */
     @Beta
     private final BufferView prefixFilter;
+    /**
+     * EXPERIMENTAL!
+     * (Optional) The lower bound of the iteration (inclusive). If specified, only those entries whose keys are greater
+     * than or equal to this key will be included. This may be combined with {@link #getPrefixFilter()} and
+     * {@link #getToKey()}, in which case only those entries that satisfy all of them will be included.
+     * This option only applies to Sorted Table Segments (see {@link TableStore}. An attempt to use it on a non-Sorted
+     * Table Segment will result in an {@link IllegalArgumentException}.
+     */
+    @Beta
+    private final BufferView fromKey;
+    /**
+     * EXPERIMENTAL!
+     * (Optional) The upper bound of the iteration (exclusive). If specified, only those entries whose keys are smaller
+     * than this key will be included. This may be combined with {@link #getPrefixFilter()} and {@link #getFromKey()},
+     * in which case only those entries that satisfy all of them will be included.
+     * This option only applies to Sorted Table Segments (see {@link TableStore}. An attempt to use it on a non-Sorted
+     * Table Segment will result in an {@link IllegalArgumentException}.
+     */
+    @Beta
+    private final BufferView toKey;
     /**
      * (Optional) The serialized form of the State. This can be obtained from {@link IteratorItem#getState()}.
      * If provided, the iteration will resume from where it left off, otherwise it will start from the beginning.
@@ -292,7 +292,8 @@ public class AppendProcessor extends DelegatingRequestProcessor {
 
         if (success) {
             // Record any necessary metrics or statistics, but after we have sent the ack back and initiated the next append.
-            this.statsRecorder.recordAppend(append.getSegment(), append.getDataLength(), append.getEventCount(), elapsedTimer.getElapsed());
+            this.statsRecorder.recordAppend(append.getSegment(), append.getDataLength(), append.getEventCount(),
+                    append.getRoutingKeyHashes(), elapsedTimer.getElapsed());
         }
     }
 
@@ -19,6 +19,7 @@ import io.pravega.auth.TokenExpiredException;
 import io.pravega.common.Exceptions;
 import io.pravega.common.LoggerHelpers;
 import io.pravega.common.Timer;
+import io.pravega.common.concurrent.Futures;
 import io.pravega.common.tracing.TagLogger;
 import io.pravega.common.util.BufferView;
 import io.pravega.segmentstore.contracts.AttributeUpdate;
@@ -54,8 +55,10 @@ import io.pravega.shared.protocol.netty.RequestProcessor;
 import io.pravega.shared.protocol.netty.WireCommands;
 import io.pravega.shared.protocol.netty.WireCommands.AuthTokenCheckFailed;
 import io.pravega.shared.protocol.netty.WireCommands.CreateSegment;
+import io.pravega.shared.protocol.netty.WireCommands.CreateSegments;
 import io.pravega.shared.protocol.netty.WireCommands.CreateTableSegment;
 import io.pravega.shared.protocol.netty.WireCommands.DeleteSegment;
+import io.pravega.shared.protocol.netty.WireCommands.DeleteSegments;
 import io.pravega.shared.protocol.netty.WireCommands.DeleteTableSegment;
 import io.pravega.shared.protocol.netty.WireCommands.GetSegmentAttribute;
 import io.pravega.shared.protocol.netty.WireCommands.GetStreamSegmentInfo;
@@ -64,7 +67,9 @@ import io.pravega.shared.protocol.netty.WireCommands.MergeTableSegments;
 import io.pravega.shared.protocol.netty.WireCommands.NoSuchSegment;
 import io.pravega.shared.protocol.netty.WireCommands.OperationUnsupported;
 import io.pravega.shared.protocol.netty.WireCommands.ReadSegment;
+import io.pravega.shared.protocol.netty.WireCommands.ReadSegments;
 import io.pravega.shared.protocol.netty.WireCommands.SealSegment;
+import io.pravega.shared.protocol.netty.WireCommands.SealSegments;
 import io.pravega.shared.protocol.netty.WireCommands.SegmentAlreadyExists;
 import io.pravega.shared.protocol.netty.WireCommands.SegmentAttribute;
 import io.pravega.shared.protocol.netty.WireCommands.SegmentAttributeUpdated;
@@ -76,6 +81,10 @@ import io.pravega.shared.protocol.netty.WireCommands.SegmentPolicyUpdated;
 import io.pravega.shared.protocol.netty.WireCommands.SegmentRead;
 import io.pravega.shared.protocol.netty.WireCommands.SegmentSealed;
 import io.pravega.shared.protocol.netty.WireCommands.SegmentTruncated;
+import io.pravega.shared.protocol.netty.WireCommands.SegmentsCreated;
+import io.pravega.shared.protocol.netty.WireCommands.SegmentsDeleted;
+import io.pravega.shared.protocol.netty.WireCommands.SegmentsRead;
+import io.pravega.shared.protocol.netty.WireCommands.SegmentsSealed;
 import io.pravega.shared.protocol.netty.WireCommands.StreamSegmentInfo;
 import io.pravega.shared.protocol.netty.WireCommands.TableSegmentNotEmpty;
 import io.pravega.shared.protocol.netty.WireCommands.TruncateSegment;
@@ -90,10 +99,13 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.annotation.concurrent.GuardedBy;
@@ -110,6 +122,7 @@ import static io.pravega.segmentstore.contracts.Attributes.SCALE_POLICY_TYPE;
 import static io.pravega.segmentstore.contracts.ReadResultEntryType.Cache;
 import static io.pravega.segmentstore.contracts.ReadResultEntryType.EndOfStreamSegment;
 import static io.pravega.segmentstore.contracts.ReadResultEntryType.Future;
+import static io.pravega.segmentstore.contracts.ReadResultEntryType.Storage;
 import static io.pravega.segmentstore.contracts.ReadResultEntryType.Truncated;
 import static io.pravega.shared.protocol.netty.WireCommands.TYPE_PLUS_LENGTH_SIZE;
 import static java.lang.Math.max;
@@ -126,6 +139,7 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
     static final Duration TIMEOUT = Duration.ofMinutes(1);
     private static final TagLogger log = new TagLogger(LoggerFactory.getLogger(PravegaRequestProcessor.class));
     private static final int MAX_READ_SIZE = 2 * 1024 * 1024;
+    private static final int MAX_BATCH_READ_SIZE = 4 * MAX_READ_SIZE;
     private static final String EMPTY_STACK_TRACE = "";
     private final StreamSegmentStore segmentStore;
     private final TableStore tableStore;
@@ -200,6 +214,83 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                                                          wrapCancellationException(ex)));
     }
 
+    /**
+     * Processes a batch of reads. Unlike {@link #readSegment}, this will not wait for new data to be appended: any read
+     * at the tail of a Segment, or that fails for any reason (including token verification), is simply left out of the
+     * reply. The client is expected to only batch reads that are catching up, and to retry any read left out of the reply
+     * individually, which will then report any errors.
+     */
+    @Override
+    public void readSegments(ReadSegments readSegments) {
+        Timer timer = new Timer();
+        final String operation = "readSegments";
+        long trace = LoggerHelpers.traceEnter(log, operation, readSegments);
+        val reads = readSegments.getReads().stream()
+                .map(this::readAvailable)
+                .collect(toList());
+        Futures.allOfWithResults(reads)
+               .thenAccept(results -> {
+                   List<SegmentRead> replies = new ArrayList<>();
+                   int totalLength = 0;
+                   for (SegmentRead r : results) {
+                       if (r != null && totalLength + r.getData().readableBytes() <= MAX_BATCH_READ_SIZE) {
+                           totalLength += r.getData().readableBytes();
+                           replies.add(r);
+                           this.statsRecorder.read(r.getSegment(), r.getData().readableBytes());
+                       }
+                   }
+
+                   LoggerHelpers.traceLeave(log, operation, trace, replies.size());
+                   connection.send(new SegmentsRead(readSegments.getRequestId(), replies));
+                   this.statsRecorder.readComplete(timer.getElapsed());
+               });
+    }
+
+    /**
+     * Executes the given {@link ReadSegment} as part of a {@link ReadSegments} batch.
+     *
+     * @return A CompletableFuture that will contain a {@link SegmentRead} with the data that was available in the Cache
+     * (or, if none, the data fetched from Storage), or null if the read is at the tail of the Segment (or could not be
+     * performed). This future never completes exceptionally.
+     */
+    private CompletableFuture<SegmentRead> readAvailable(ReadSegment request) {
+        final String segment = request.getSegment();
+        try {
+            tokenVerifier.verifyToken(segment, request.getDelegationToken(), READ);
+        } catch (TokenException e) {
+            log.debug(request.getRequestId(), "Excluding read for segment '{}' from batch: {}.", segment, e.toString());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final int readSize = min(MAX_READ_SIZE, max(TYPE_PLUS_LENGTH_SIZE, request.getSuggestedLength()));
+        return segmentStore.read(segment, request.getOffset(), readSize, TIMEOUT)
+                .thenCompose(readResult -> {
+                    ArrayList<BufferView> cachedEntries = new ArrayList<>();
+                    ReadResultEntry nonCachedEntry = collectCachedEntries(request.getOffset(), readResult, cachedEntries);
+                    boolean endOfSegment = nonCachedEntry != null && nonCachedEntry.getType() == EndOfStreamSegment;
+                    boolean atTail = nonCachedEntry != null && nonCachedEntry.getType() == Future;
+                    if (!cachedEntries.isEmpty() || endOfSegment) {
+                        return CompletableFuture.completedFuture(new SegmentRead(segment, request.getOffset(), atTail,
+                                endOfSegment, toByteBuf(cachedEntries), request.getRequestId()));
+                    } else if (nonCachedEntry != null && nonCachedEntry.getType() == Storage) {
+                        // Catch-up read. Fetch the data from Storage; this is what the client would be waiting for anyway.
+                        nonCachedEntry.requestContent(TIMEOUT);
+                        return nonCachedEntry.getContent()
+                                .thenApply(contents -> new SegmentRead(segment, request.getOffset(), false, false,
+                                        toByteBuf(contents), request.getRequestId()));
+                    }
+
+                    // At the tail (or truncated). The client will need to issue this read individually.
+                    readResult.close();
+                    return CompletableFuture.<SegmentRead>completedFuture(null);
+                })
+                .exceptionally(ex -> {
+                    log.debug(request.getRequestId(), "Excluding read for segment '{}' from batch: {}.", segment,
+                            Exceptions.unwrap(ex).toString());
+                    return null;
+                });
+    }
+
     private boolean verifyToken(String segment, long requestId, String delegationToken, String operation) {
         boolean isTokenValid = false;
         try {
@@ -250,7 +341,7 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                     .thenAccept(contents -> {
                         ByteBuf data = toByteBuf(Collections.singletonList(contents));
                         SegmentRead reply = new SegmentRead(segment, nonCachedEntry.getStreamSegmentOffset(),
-                                false, endOfSegment,
+                                atTail, endOfSegment,
                                 data, request.getRequestId());
                         connection.send(reply);
                         this.statsRecorder.read(segment, reply.getData().readableBytes());
@@ -419,11 +510,7 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
         Timer timer = new Timer();
         final String operation = "createSegment";
 
-        Collection<AttributeUpdate> attributes = Arrays.asList(
-                new AttributeUpdate(SCALE_POLICY_TYPE, AttributeUpdateType.Replace, ((Byte) createStreamSegment.getScaleType()).longValue()),
-                new AttributeUpdate(SCALE_POLICY_RATE, AttributeUpdateType.Replace, ((Integer) createStreamSegment.getTargetRate()).longValue()),
-                new AttributeUpdate(CREATION_TIME, AttributeUpdateType.None, System.currentTimeMillis())
-        );
+        Collection<AttributeUpdate> attributes = getCreateAttributes(createStreamSegment.getScaleType(), createStreamSegment.getTargetRate());
 
        if (!verifyToken(createStreamSegment.getSegment(), createStreamSegment.getRequestId(), createStreamSegment.getDelegationToken(), operation)) {
             return;
@@ -442,6 +529,34 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                 });
     }
 
+    /**
+     * Creates all the Segments in the given {@link CreateSegments} batch. The {@link SegmentsCreated} reply contains every
+     * Segment that was created (or that already existed); any Segment that could not be created (including due to token
+     * verification) is simply left out. The client is expected to retry those individually, which will report any errors.
+     */
+    @Override
+    public void createSegments(CreateSegments createSegments) {
+        Timer timer = new Timer();
+        final String operation = "createSegments";
+        final byte scaleType = createSegments.getScaleType();
+        final int targetRate = createSegments.getTargetRate();
+
+        log.info(createSegments.getRequestId(), "Creating {} stream segments {}.", createSegments.getSegments().size(), createSegments);
+        processSegmentBatch(createSegments.getRequestId(), createSegments.getSegments(), createSegments.getDelegationToken(), operation,
+                segment -> segmentStore.createStreamSegment(segment, getCreateAttributes(scaleType, targetRate), TIMEOUT)
+                                       .thenRun(() -> statsRecorder.createSegment(segment, scaleType, targetRate, timer.getElapsed())),
+                StreamSegmentExistsException.class)
+                .thenAccept(created -> connection.send(new SegmentsCreated(createSegments.getRequestId(), created)));
+    }
+
+    private Collection<AttributeUpdate> getCreateAttributes(byte scaleType, int targetRate) {
+        return Arrays.asList(
+                new AttributeUpdate(SCALE_POLICY_TYPE, AttributeUpdateType.Replace, ((Byte) scaleType).longValue()),
+                new AttributeUpdate(SCALE_POLICY_RATE, AttributeUpdateType.Replace, ((Integer) targetRate).longValue()),
+                new AttributeUpdate(CREATION_TIME, AttributeUpdateType.None, System.currentTimeMillis())
+        );
+    }
+
     @Override
     public void mergeSegments(MergeSegments mergeSegments) {
         final String operation = "mergeSegments";
@@ -498,6 +613,23 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                 });
     }
 
+    /**
+     * Seals all the Segments in the given {@link SealSegments} batch. The {@link SegmentsSealed} reply contains every
+     * Segment that was sealed (or that was already sealed); any Segment that could not be sealed is left out and should
+     * be retried individually.
+     */
+    @Override
+    public void sealSegments(SealSegments sealSegments) {
+        final String operation = "sealSegments";
+
+        log.info(sealSegments.getRequestId(), "Sealing {} segments {}.", sealSegments.getSegments().size(), sealSegments);
+        processSegmentBatch(sealSegments.getRequestId(), sealSegments.getSegments(), sealSegments.getDelegationToken(), operation,
+                segment -> segmentStore.sealStreamSegment(segment, TIMEOUT)
+                                       .thenRun(() -> statsRecorder.sealSegment(segment)),
+                StreamSegmentSealedException.class)
+                .thenAccept(sealed -> connection.send(new SegmentsSealed(sealSegments.getRequestId(), sealed)));
+    }
+
     @Override
     public void truncateSegment(TruncateSegment truncateSegment) {
         String segment = truncateSegment.getSegment();
@@ -533,6 +665,62 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                 .exceptionally(e -> handleException(deleteSegment.getRequestId(), segment, operation, e));
     }
 
+    /**
+     * Deletes all the Segments in the given {@link DeleteSegments} batch. The {@link SegmentsDeleted} reply contains every
+     * Segment that was deleted (or that did not exist); any Segment that could not be deleted is left out and should be
+     * retried individually.
+     */
+    @Override
+    public void deleteSegments(DeleteSegments deleteSegments) {
+        final String operation = "deleteSegments";
+
+        log.info(deleteSegments.getRequestId(), "Deleting {} segments {}.", deleteSegments.getSegments().size(), deleteSegments);
+        processSegmentBatch(deleteSegments.getRequestId(), deleteSegments.getSegments(), deleteSegments.getDelegationToken(), operation,
+                segment -> segmentStore.deleteStreamSegment(segment, TIMEOUT)
+                                       .thenRun(() -> statsRecorder.deleteSegment(segment)),
+                StreamSegmentNotExistsException.class)
+                .thenAccept(deleted -> connection.send(new SegmentsDeleted(deleteSegments.getRequestId(), deleted)));
+    }
+
+    /**
+     * Executes the given action for each Segment in a batch request, in parallel.
+     *
+     * @param requestId       The Id of the batch request.
+     * @param segments        The Segments to process.
+     * @param delegationToken The delegation token, which is verified for each Segment.
+     * @param operation       The name of the operation, for logging purposes.
+     * @param action          A Function that executes the operation on a Segment.
+     * @param alreadyDone     The type of the exception that indicates that the operation has already been applied to
+     *                        the Segment (which is not an error when the operation is retried).
+     * @return A CompletableFuture that will contain the Segments that the operation was successfully applied to (in the
+     * order in which they were given). This future never completes exceptionally.
+     */
+    private CompletableFuture<List<String>> processSegmentBatch(long requestId, List<String> segments, String delegationToken,
+                                                                String operation, Function<String, CompletableFuture<Void>> action,
+                                                                Class<? extends Exception> alreadyDone) {
+        val results = segments.stream().map(segment -> {
+            try {
+                tokenVerifier.verifyToken(segment, delegationToken, READ);
+            } catch (TokenException e) {
+                log.debug(requestId, "Excluding segment '{}' from {} batch: {}.", segment, operation, e.toString());
+                return CompletableFuture.<String>completedFuture(null);
+            }
+
+            return action.apply(segment)
+                         .handle((r, ex) -> {
+                             if (ex == null || alreadyDone.isInstance(Exceptions.unwrap(ex))) {
+                                 return segment;
+                             }
+
+                             log.debug(requestId, "Excluding segment '{}' from {} batch: {}.", segment, operation,
+                                     Exceptions.unwrap(ex).toString());
+                             return null;
+                         });
+        }).collect(toList());
+        return Futures.allOfWithResults(results)
+                      .thenApply(r -> r.stream().filter(Objects::nonNull).collect(toList()));
+    }
+
     @Override
     public void updateSegmentPolicy(UpdateSegmentPolicy updateSegmentPolicy) {
         final String operation = "updateSegmentPolicy";
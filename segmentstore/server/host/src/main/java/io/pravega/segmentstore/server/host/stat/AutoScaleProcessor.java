@@ -33,6 +33,8 @@ import io.pravega.shared.controller.event.ControllerEventSerializer;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -208,7 +210,7 @@ public class AutoScaleProcessor implements AutoCloseable {
         return uriScheme.equals("tls") || uriScheme.equals("pravegas");
     }
 
-    private void triggerScaleUp(String streamSegmentName, int numOfSplits) {
+    private void triggerScaleUp(String streamSegmentName, int numOfSplits, List<Double> routingKeySample) {
         Pair<Long, Long> pair = cache.getIfPresent(streamSegmentName);
         long lastRequestTs = 0;
 
@@ -223,7 +225,7 @@ public class AutoScaleProcessor implements AutoCloseable {
 
             Segment segment = Segment.fromScopedName(streamSegmentName);
             AutoScaleEvent event = new AutoScaleEvent(segment.getScope(), segment.getStreamName(), segment.getSegmentId(),
-                    AutoScaleEvent.UP, timestamp, numOfSplits, false, requestId);
+                    AutoScaleEvent.UP, timestamp, numOfSplits, false, requestId, routingKeySample);
             // Mute scale for timestamp for both scale up and down
             writeRequest(event, () -> cache.put(streamSegmentName, new ImmutablePair<>(timestamp, timestamp)));
         }
@@ -269,6 +271,26 @@ public class AutoScaleProcessor implements AutoCloseable {
     }
 
     void report(String streamSegmentName, long targetRate, long startTime, double twoMinuteRate, double fiveMinuteRate, double tenMinuteRate, double twentyMinuteRate) {
+        report(streamSegmentName, targetRate, startTime, twoMinuteRate, fiveMinuteRate, tenMinuteRate, twentyMinuteRate,
+                Collections.emptyList());
+    }
+
+    /**
+     * Determines whether the given Segment needs to be scaled, based on its traffic, and requests the scale if so.
+     *
+     * @param streamSegmentName The name of the Segment.
+     * @param targetRate        The target rate, as per the Stream's scaling policy.
+     * @param startTime         The time when the Segment's statistics started being collected.
+     * @param twoMinuteRate     The two-minute rate.
+     * @param fiveMinuteRate    The five-minute rate.
+     * @param tenMinuteRate     The ten-minute rate.
+     * @param twentyMinuteRate  The twenty-minute rate.
+     * @param routingKeySample  A sorted sample of the routing key hashes of the Segment's traffic (may be empty). This is
+     *                          passed on to the Controller (with scale up requests) so that it can split the Segment's key
+     *                          range by load, rather than uniformly.
+     */
+    void report(String streamSegmentName, long targetRate, long startTime, double twoMinuteRate, double fiveMinuteRate,
+                double tenMinuteRate, double twentyMinuteRate, List<Double> routingKeySample) {
         log.info("received traffic for {} with twoMinute rate = {} and targetRate = {}", streamSegmentName, twoMinuteRate, targetRate);
         // note: we are working on caller's thread. We should not do any blocking computation here and return as quickly as
         // possible.
@@ -284,7 +306,7 @@ public class AutoScaleProcessor implements AutoCloseable {
                 int numOfSplits = Math.max(2, (int) (Double.max(Double.max(twoMinuteRate, fiveMinuteRate), tenMinuteRate) / targetRate));
                 log.debug("triggering scale up for {} with number of splits {}", streamSegmentName, numOfSplits);
 
-                triggerScaleUp(streamSegmentName, numOfSplits);
+                triggerScaleUp(streamSegmentName, numOfSplits, routingKeySample);
             }
 
             if (twoMinuteRate < targetRate &&
@@ -12,6 +12,10 @@ package io.pravega.segmentstore.server.host.stat;
 import com.google.common.annotations.VisibleForTesting;
 import io.pravega.shared.segment.ScaleType;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
@@ -43,6 +47,11 @@ abstract class SegmentAggregates {
     private static final double M10_ALPHA = 1 - StrictMath.exp((double) -INTERVAL_IN_SECONDS / (double) SECONDS_PER_MINUTE / 10);
     private static final double M20_ALPHA = 1 - StrictMath.exp((double) -INTERVAL_IN_SECONDS / (double) SECONDS_PER_MINUTE / 20);
 
+    /**
+     * Maximum number of routing key hashes to keep in the sample.
+     */
+    private static final int ROUTING_KEY_SAMPLE_SIZE = 16;
+
     private final AtomicLong lastReportedTime;
 
     @GuardedBy("this")
@@ -74,6 +83,17 @@ abstract class SegmentAggregates {
     @GuardedBy("this")
     private long currentCount;
 
+    /**
+     * A weighted reservoir sample of the routing key hashes of the traffic received since the last time the sample was
+     * drained = 16 * 4 bytes. This is allocated lazily, since older clients do not send routing key hashes.
+     */
+    @GuardedBy("this")
+    private float[] routingKeySample;
+    @GuardedBy("this")
+    private int routingKeySampleCount;
+    @GuardedBy("this")
+    private double routingKeySampleWeight;
+
     @VisibleForTesting
     SegmentAggregates(int targetRate) {
         this.targetRate = targetRate;
@@ -118,9 +138,17 @@ abstract class SegmentAggregates {
         return true;
     }
 
-    synchronized boolean update(long dataLength, int numOfEvents) {
+    boolean update(long dataLength, int numOfEvents) {
+        return update(dataLength, numOfEvents, null);
+    }
+
+    synchronized boolean update(long dataLength, int numOfEvents, float[] routingKeyHashes) {
         if (isScalingEnabled()) {
-            currentCount += getUpdateCountDelta(dataLength, numOfEvents);
+            long countDelta = getUpdateCountDelta(dataLength, numOfEvents);
+            currentCount += countDelta;
+            if (routingKeyHashes != null && routingKeyHashes.length > 0 && countDelta > 0) {
+                sampleRoutingKeys(routingKeyHashes, (double) countDelta / routingKeyHashes.length);
+            }
             final long newTick = getTimeMillis();
             final long age = newTick - lastTick;
             if (age > TICK_INTERVAL) {
@@ -157,6 +185,47 @@ abstract class SegmentAggregates {
         }
     }
 
+    /**
+     * Includes the given routing key hashes in the sample. Each hash is weighted by the share of the traffic (as measured
+     * by this Segment's scale type) that it stands for, so that the sample reflects the load on each key range rather than
+     * just the number of appends.
+     */
+    @GuardedBy("this")
+    private void sampleRoutingKeys(float[] routingKeyHashes, double weight) {
+        if (routingKeySample == null) {
+            routingKeySample = new float[ROUTING_KEY_SAMPLE_SIZE];
+        }
+
+        for (float hash : routingKeyHashes) {
+            routingKeySampleWeight += weight;
+            if (routingKeySampleCount < routingKeySample.length) {
+                routingKeySample[routingKeySampleCount++] = hash;
+            } else if (ThreadLocalRandom.current().nextDouble() * routingKeySampleWeight < routingKeySample.length * weight) {
+                routingKeySample[ThreadLocalRandom.current().nextInt(routingKeySample.length)] = hash;
+            }
+        }
+    }
+
+    /**
+     * Gets the routing key hashes that have been sampled since the last call to this method, and resets the sample.
+     *
+     * @return A sorted List of routing key hashes. This will be empty if no hashes were recorded.
+     */
+    synchronized List<Double> drainRoutingKeySample() {
+        if (routingKeySampleCount == 0) {
+            return Collections.emptyList();
+        }
+
+        List<Double> result = new ArrayList<>(routingKeySampleCount);
+        for (int i = 0; i < routingKeySampleCount; i++) {
+            result.add((double) routingKeySample[i]);
+        }
+        result.sort(Double::compare);
+        routingKeySampleCount = 0;
+        routingKeySampleWeight = 0;
+        return result;
+    }
+
     @GuardedBy("this")
     private void computeDecay(long count, double duration) {
         twoMinuteRate = decayingRate(count, twoMinuteRate, M2_ALPHA, duration);
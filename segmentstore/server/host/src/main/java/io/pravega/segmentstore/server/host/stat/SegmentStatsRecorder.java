@@ -56,6 +56,19 @@ public interface SegmentStatsRecorder extends AutoCloseable {
      */
     void recordAppend(String streamSegmentName, long dataLength, int numOfEvents, Duration elapsed);
 
+    /**
+     * Method to record incoming traffic, along with the routing key hashes of (a sample of) the events.
+     *
+     * @param streamSegmentName segment name.
+     * @param dataLength        data length.
+     * @param numOfEvents       number of events.
+     * @param routingKeyHashes  the routing key hashes of a sample of the events, or null if not known.
+     * @param elapsed           The amount of time elapsed for the append to process.
+     */
+    default void recordAppend(String streamSegmentName, long dataLength, int numOfEvents, float[] routingKeyHashes, Duration elapsed) {
+        recordAppend(streamSegmentName, dataLength, numOfEvents, elapsed);
+    }
+
     /**
      * Method to notify merge of transaction.
      *
@@ -54,6 +54,8 @@ class SegmentStatsRecorderImpl implements SegmentStatsRecorder {
     // At 100k * with each aggregate approximately ~80 bytes = 8 Mb of memory foot print.
     // Assuming 32 bytes for streamSegmentName used as the key in the cache = 3Mb
     // So this can handle 100k concurrently active stream segments with about 11-12 Mb footprint.
+    // Aggregates for segments that receive routing key hashes additionally hold a sample of ~80 bytes, for a total of
+    // about 20 Mb if all 100k segments are written to with routing keys.
     // If cache overflows beyond this, entries will be evicted in order of last accessed.
     // So we will lose relevant traffic history if we have 100k active 'stream segments' across containers
     // where traffic is flowing concurrently.
@@ -204,6 +206,23 @@ class SegmentStatsRecorderImpl implements SegmentStatsRecorder {
      */
     @Override
     public void recordAppend(String streamSegmentName, long dataLength, int numOfEvents, Duration elapsed) {
+        recordAppend(streamSegmentName, dataLength, numOfEvents, null, elapsed);
+    }
+
+    /**
+     * Updates segment specific aggregates (including the routing key sample, if any routing key hashes are provided).
+     * Then if two minutes have elapsed between last report
+     * of aggregates for this segment, send a new update to the monitor.
+     * This update to the monitor is processed by monitor asynchronously.
+     *
+     * @param streamSegmentName stream segment name
+     * @param dataLength        length of data that was written
+     * @param numOfEvents       number of events that were written
+     * @param routingKeyHashes  routing key hashes of a sample of the events that were written, or null if not known
+     * @param elapsed           elapsed time for the append
+     */
+    @Override
+    public void recordAppend(String streamSegmentName, long dataLength, int numOfEvents, float[] routingKeyHashes, Duration elapsed) {
         getWriteStreamSegment().reportSuccessEvent(elapsed);
         DynamicLogger dl = getDynamicLogger();
         dl.incCounterValue(globalMetricName(SEGMENT_WRITE_BYTES), dataLength);
@@ -220,7 +239,7 @@ class SegmentStatsRecorderImpl implements SegmentStatsRecorder {
                 // do not maintain intermittent txn segment stats. Txn stats will be accounted for
                 // only upon txn commit. This is done via merge method. So here we can get a txn which
                 // we do not know about and hence we can get null and ignore.
-                if (aggregates != null && aggregates.update(dataLength, numOfEvents)) {
+                if (aggregates != null && aggregates.update(dataLength, numOfEvents, routingKeyHashes)) {
                     report(streamSegmentName, aggregates);
                 }
             } catch (Exception e) {
@@ -267,7 +286,8 @@ class SegmentStatsRecorderImpl implements SegmentStatsRecorder {
                     reporter.report(streamSegmentName,
                             aggregates.getTargetRate(), aggregates.getStartTime(),
                             aggregates.getTwoMinuteRate(), aggregates.getFiveMinuteRate(),
-                            aggregates.getTenMinuteRate(), aggregates.getTwentyMinuteRate());
+                            aggregates.getTenMinuteRate(), aggregates.getTwentyMinuteRate(),
+                            aggregates.drainRoutingKeySample());
                 } catch (Exception ex) {
                     log.error("Unable to report Segment Aggregates for '{}'.", streamSegmentName, ex);
                 }
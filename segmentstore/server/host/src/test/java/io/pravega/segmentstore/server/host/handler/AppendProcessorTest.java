@@ -82,9 +82,11 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -125,7 +127,9 @@ public class AppendProcessorTest extends ThreadPooledTestSuite {
 
         SetupAppend setupAppendCommand = new SetupAppend(1, clientId, streamSegmentName, "");
         processor.setupAppend(setupAppendCommand);
-        processor.append(new Append(streamSegmentName, clientId, data.length, 1, Unpooled.wrappedBuffer(data), null, requestId));
+        float[] routingKeyHashes = new float[]{0.25f};
+        processor.append(new Append(streamSegmentName, clientId, data.length, 1, Unpooled.wrappedBuffer(data), null, requestId,
+                routingKeyHashes));
 
         verify(store).getAttributes(anyString(), eq(Collections.singleton(clientId)), eq(true), eq(AppendProcessor.TIMEOUT));
         verifyStoreAppend(ac, data);
@@ -136,7 +140,7 @@ public class AppendProcessorTest extends ThreadPooledTestSuite {
         verifyNoMoreInteractions(connection);
         verifyNoMoreInteractions(store);
 
-        verify(mockedRecorder).recordAppend(eq(streamSegmentName), eq(8L), eq(1), any());
+        verify(mockedRecorder).recordAppend(eq(streamSegmentName), eq(8L), eq(1), aryEq(routingKeyHashes), any());
         assertTrue(processor.isSetupAppendCompleted(setupAppendCommand.getSegment(), setupAppendCommand.getWriterId()));
     }
 
@@ -260,7 +264,7 @@ public class AppendProcessorTest extends ThreadPooledTestSuite {
         verifyNoMoreInteractions(connection);
         verifyNoMoreInteractions(store);
 
-        verify(mockedRecorder).recordAppend(eq(streamSegmentName), eq(8L), eq(1), any());
+        verify(mockedRecorder).recordAppend(eq(streamSegmentName), eq(8L), eq(1), isNull(), any());
     }
 
     @Test
@@ -331,7 +335,7 @@ public class AppendProcessorTest extends ThreadPooledTestSuite {
         verify(tracker, times(2)).updateOutstandingBytes(connection, -data.length, 0);
         verifyNoMoreInteractions(connection);
         verifyNoMoreInteractions(store);
-        verify(mockedRecorder, times(2)).recordAppend(eq(streamSegmentName), eq(8L), eq(1), any());
+        verify(mockedRecorder, times(2)).recordAppend(eq(streamSegmentName), eq(8L), eq(1), isNull(), any());
     }
 
     @Test
@@ -370,7 +374,7 @@ public class AppendProcessorTest extends ThreadPooledTestSuite {
         verify(tracker, times(2)).updateOutstandingBytes(connection, -data.length, 0);
         verifyNoMoreInteractions(connection);
         verifyNoMoreInteractions(store);
-        verify(mockedRecorder).recordAppend(eq(streamSegmentName), eq(8L), eq(1), any());
+        verify(mockedRecorder).recordAppend(eq(streamSegmentName), eq(8L), eq(1), isNull(), any());
     }
 
     @Test
@@ -489,7 +493,7 @@ public class AppendProcessorTest extends ThreadPooledTestSuite {
         verify(store, atMost(1)).append(any(), any(), any(), any());
         verifyNoMoreInteractions(connection);
 
-        verify(mockedRecorder, never()).recordAppend(eq(streamSegmentName), eq(8L), eq(1), any());
+        verify(mockedRecorder, never()).recordAppend(eq(streamSegmentName), eq(8L), eq(1), any(), any());
     }
 
     @Test(timeout = 5000)
@@ -187,6 +187,86 @@ public class PravegaRequestProcessorTest {
         verifyNoMoreInteractions(store);
     }
 
+    @Test(timeout = 20000)
+    public void testReadSegments() {
+        // Set up PravegaRequestProcessor instance to execute read segments request against.
+        String cachedSegment = "scope/stream/cached";
+        String sealedSegment = "scope/stream/sealed";
+        String tailSegment = "scope/stream/tail";
+        String missingSegment = "scope/stream/missing";
+        String storageSegment = "scope/stream/storage";
+        byte[] data = new byte[]{1, 2, 3, 4, 6, 7, 8, 9};
+        int readLength = 1000;
+
+        StreamSegmentStore store = mock(StreamSegmentStore.class);
+        ServerConnection connection = mock(ServerConnection.class);
+        PravegaRequestProcessor processor = new PravegaRequestProcessor(store, mock(TableStore.class), connection);
+
+        // Data available in the cache: this should be returned.
+        TestReadResultEntry cachedEntry = new TestReadResultEntry(ReadResultEntryType.Cache, 0, readLength);
+        cachedEntry.complete(new ByteArraySegment(data));
+        TestReadResultEntry cachedTailEntry = new TestReadResultEntry(ReadResultEntryType.Future, data.length, readLength);
+        when(store.read(cachedSegment, 0, readLength, PravegaRequestProcessor.TIMEOUT))
+                .thenReturn(CompletableFuture.completedFuture(new TestReadResult(0, readLength, new ArrayList<>(asList(cachedEntry, cachedTailEntry)))));
+
+        // End of segment: this should be returned (with no data).
+        TestReadResultEntry sealedEntry = new TestReadResultEntry(ReadResultEntryType.EndOfStreamSegment, 10, readLength);
+        when(store.read(sealedSegment, 10, readLength, PravegaRequestProcessor.TIMEOUT))
+                .thenReturn(CompletableFuture.completedFuture(new TestReadResult(10, readLength, new ArrayList<>(asList(sealedEntry)))));
+
+        // At the tail: this should be left out, since it would require waiting.
+        TestReadResultEntry tailEntry = new TestReadResultEntry(ReadResultEntryType.Future, 20, readLength);
+        TestReadResult tailResult = new TestReadResult(20, readLength, new ArrayList<>(asList(tailEntry)));
+        when(store.read(tailSegment, 20, readLength, PravegaRequestProcessor.TIMEOUT))
+                .thenReturn(CompletableFuture.completedFuture(tailResult));
+
+        // Failed read: this should be left out too.
+        when(store.read(missingSegment, 30, readLength, PravegaRequestProcessor.TIMEOUT))
+                .thenReturn(Futures.failedFuture(new StreamSegmentNotExistsException(missingSegment)));
+
+        // Catch-up read from Storage: this should be fetched and returned.
+        TestReadResultEntry storageEntry = new TestReadResultEntry(ReadResultEntryType.Storage, 40, readLength);
+        storageEntry.complete(new ByteArraySegment(data));
+        when(store.read(storageSegment, 40, readLength, PravegaRequestProcessor.TIMEOUT))
+                .thenReturn(CompletableFuture.completedFuture(new TestReadResult(40, readLength, new ArrayList<>(asList(storageEntry)))));
+
+        processor.readSegments(new WireCommands.ReadSegments(requestId, asList(
+                new WireCommands.ReadSegment(cachedSegment, 0, readLength, "", requestId + 1),
+                new WireCommands.ReadSegment(sealedSegment, 10, readLength, "", requestId + 2),
+                new WireCommands.ReadSegment(tailSegment, 20, readLength, "", requestId + 3),
+                new WireCommands.ReadSegment(missingSegment, 30, readLength, "", requestId + 4),
+                new WireCommands.ReadSegment(storageSegment, 40, readLength, "", requestId + 5))));
+        verify(connection).send(new WireCommands.SegmentsRead(requestId, asList(
+                new WireCommands.SegmentRead(cachedSegment, 0, true, false, Unpooled.wrappedBuffer(data), requestId + 1),
+                new WireCommands.SegmentRead(sealedSegment, 10, false, true, Unpooled.EMPTY_BUFFER, requestId + 2),
+                new WireCommands.SegmentRead(storageSegment, 40, false, false, Unpooled.wrappedBuffer(data), requestId + 5))));
+        verifyNoMoreInteractions(connection);
+        assertTrue("Expected the ReadResult of the excluded read to be closed.", tailResult.closed);
+    }
+
+    @Test(timeout = 20000)
+    public void testReadSegmentAtTail() {
+        // Set up PravegaRequestProcessor instance to execute read segment request against
+        String streamSegmentName = "scope/stream/testReadSegment";
+        byte[] data = new byte[]{1, 2, 3, 4, 6, 7, 8, 9};
+        int readLength = 1000;
+
+        StreamSegmentStore store = mock(StreamSegmentStore.class);
+        ServerConnection connection = mock(ServerConnection.class);
+        PravegaRequestProcessor processor = new PravegaRequestProcessor(store, mock(TableStore.class), connection);
+
+        TestReadResultEntry entry = new TestReadResultEntry(ReadResultEntryType.Future, 0, readLength);
+        when(store.read(streamSegmentName, 0, readLength, PravegaRequestProcessor.TIMEOUT))
+                .thenReturn(CompletableFuture.completedFuture(new TestReadResult(0, readLength, new ArrayList<>(asList(entry)))));
+
+        // Nothing should be sent until the data is appended; then it should be reported as being at the tail.
+        processor.readSegment(new WireCommands.ReadSegment(streamSegmentName, 0, readLength, "", requestId));
+        verifyNoMoreInteractions(connection);
+        entry.complete(new ByteArraySegment(data));
+        verify(connection).send(new WireCommands.SegmentRead(streamSegmentName, 0, true, false, Unpooled.wrappedBuffer(data), requestId));
+        verifyNoMoreInteractions(connection);
+    }
+
     @Test(timeout = 20000)
     public void testReadSegmentEmptySealed() {
         // Set up PravegaRequestProcessor instance to execute read segment request against
@@ -555,6 +635,53 @@ public class PravegaRequestProcessorTest {
         order.verifyNoMoreInteractions();
     }
 
+    @Test(timeout = 20000)
+    public void testBatchCreateSealDelete() throws Exception {
+        // Set up PravegaRequestProcessor instance to execute requests against.
+        String segment1 = "scope/stream/testBatchCreateSealDelete1";
+        String segment2 = "scope/stream/testBatchCreateSealDelete2";
+        String missingSegment = "scope/stream/testBatchCreateSealDelete3";
+        @Cleanup
+        ServiceBuilder serviceBuilder = newInlineExecutionInMemoryBuilder(getBuilderConfig());
+        serviceBuilder.initialize();
+        StreamSegmentStore store = serviceBuilder.createStreamSegmentService();
+        ServerConnection connection = mock(ServerConnection.class);
+        InOrder order = inOrder(connection);
+        val recorderMock = mock(SegmentStatsRecorder.class);
+        PravegaRequestProcessor processor = new PravegaRequestProcessor(store, mock(TableStore.class), connection, recorderMock,
+                TableSegmentStatsRecorder.noOp(), new PassingTokenVerifier(), false);
+
+        // Create one segment individually, then both in a batch. The existing one must be reported as created too.
+        processor.createSegment(new WireCommands.CreateSegment(requestId, segment1, WireCommands.CreateSegment.NO_SCALE, 0, ""));
+        processor.createSegments(new WireCommands.CreateSegments(requestId, asList(segment1, segment2),
+                WireCommands.CreateSegment.NO_SCALE, 0, ""));
+        assertTrue(append(segment1, 1, store));
+        assertTrue(append(segment2, 1, store));
+        verify(recorderMock).createSegment(eq(segment2), eq(WireCommands.CreateSegment.NO_SCALE), eq(0), any());
+
+        // Seal both, along with a segment that does not exist (which must be left out of the reply).
+        processor.sealSegments(new WireCommands.SealSegments(requestId, asList(segment1, segment2, missingSegment), ""));
+        assertFalse(append(segment1, 2, store));
+        assertFalse(append(segment2, 2, store));
+
+        // Seal again - verify idempotence.
+        processor.sealSegments(new WireCommands.SealSegments(requestId, asList(segment1, segment2), ""));
+
+        // Delete all. The segment that does not exist must be reported as deleted.
+        processor.deleteSegments(new WireCommands.DeleteSegments(requestId, asList(segment1, segment2, missingSegment), ""));
+        assertFalse(append(segment1, 3, store));
+        assertFalse(append(segment2, 3, store));
+        verify(recorderMock).deleteSegment(segment1);
+        verify(recorderMock).deleteSegment(segment2);
+
+        // Verify connection response with same order.
+        order.verify(connection).send(new WireCommands.SegmentCreated(requestId, segment1));
+        order.verify(connection).send(new WireCommands.SegmentsCreated(requestId, asList(segment1, segment2)));
+        order.verify(connection, times(2)).send(new WireCommands.SegmentsSealed(requestId, asList(segment1, segment2)));
+        order.verify(connection).send(new WireCommands.SegmentsDeleted(requestId, asList(segment1, segment2, missingSegment)));
+        order.verifyNoMoreInteractions();
+    }
+
     @Test(timeout = 20000)
     public void testUnsupportedOperation() throws Exception {
         // Set up PravegaRequestProcessor instance to execute requests against
@@ -22,6 +22,8 @@ import io.pravega.test.common.SecurityConfigDefaults;
 import io.pravega.test.common.ThreadPooledTestSuite;
 import java.net.URI;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
@@ -133,6 +135,7 @@ public class AutoScaleProcessorTest extends ThreadPooledTestSuite {
     
     @Test (timeout = 10000)
     public void scaleTest() {
+        List<Double> routingKeySample = Arrays.asList(0.1, 0.2, 0.3);
         CompletableFuture<Void> result = new CompletableFuture<>();
         CompletableFuture<Void> result2 = new CompletableFuture<>();
         CompletableFuture<Void> result3 = new CompletableFuture<>();
@@ -159,7 +162,8 @@ public class AutoScaleProcessorTest extends ThreadPooledTestSuite {
             if (event.getScope().equals(SCOPE) &&
                     event.getStream().equals(STREAM4) &&
                     event.getDirection() == AutoScaleEvent.UP &&
-                    event.getNumOfSplits() == 2) {
+                    event.getNumOfSplits() == 2 &&
+                    event.getRoutingKeySample().equals(routingKeySample)) {
                 result4.complete(null);
             }
         });
@@ -189,7 +193,7 @@ public class AutoScaleProcessorTest extends ThreadPooledTestSuite {
 
         monitor.report(streamSegmentName3, 10, twentyminutesback, 0.0, 0.0, 0.0, 0.0);
 
-        monitor.report(streamSegmentName4, 10, twentyminutesback, 0.0, 0.0, 10.10, 0.0);
+        monitor.report(streamSegmentName4, 10, twentyminutesback, 0.0, 0.0, 10.10, 0.0, routingKeySample);
 
         monitor.notifySealed(streamSegmentName1);
         assertTrue(Futures.await(result));
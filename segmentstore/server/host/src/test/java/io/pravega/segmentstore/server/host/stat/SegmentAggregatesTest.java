@@ -9,7 +9,11 @@
  */
 package io.pravega.segmentstore.server.host.stat;
 
+import com.google.common.collect.Ordering;
+import io.pravega.shared.segment.ScaleType;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
@@ -153,6 +157,41 @@ public class SegmentAggregatesTest {
         assert aggregates.getTwoMinuteRate() > 219;
     }
 
+    @Test
+    public void routingKeySample() {
+        setClock(0);
+        SegmentAggregates aggregates = new TestSegmentAggregatesThroughput(1);
+        assertTrue(aggregates.drainRoutingKeySample().isEmpty());
+
+        // Few (but large) appends for key 0.1 and many small appends for key 0.9; the sample should be weighted by load.
+        for (int i = 0; i < 1000; i++) {
+            aggregates.update(1024 * 1024, 1, new float[]{0.1f});
+            for (int j = 0; j < 10; j++) {
+                aggregates.update(10, 1, new float[]{0.9f});
+            }
+        }
+
+        List<Double> sample = aggregates.drainRoutingKeySample();
+        assertEquals(16, sample.size());
+        assertTrue("Expected a sorted sample.", Ordering.natural().isOrdered(sample));
+        long heavyCount = sample.stream().filter(hash -> hash == (double) 0.1f).count();
+        assertTrue("Expected the sample to be weighted by load: " + sample, heavyCount > sample.size() / 2);
+        assertEquals(sample.size(), heavyCount + sample.stream().filter(hash -> hash == (double) 0.9f).count());
+
+        // The sample should be reset after being drained, and updates without hashes should not be sampled.
+        assertTrue(aggregates.drainRoutingKeySample().isEmpty());
+        aggregates.update(100, 1);
+        aggregates.update(100, 1, null);
+        assertTrue(aggregates.drainRoutingKeySample().isEmpty());
+        aggregates.update(100, 1, new float[]{0.5f, 0.6f});
+        assertEquals(Arrays.asList((double) 0.5f, (double) 0.6f), aggregates.drainRoutingKeySample());
+
+        // Segments that do not scale should not sample anything.
+        SegmentAggregates fixed = SegmentAggregates.forPolicy(ScaleType.NoScaling, 0);
+        fixed.update(100, 1, new float[]{0.5f});
+        assertTrue(fixed.drainRoutingKeySample().isEmpty());
+    }
+
     private void write(SegmentAggregates aggregates, int numOfEvents) {
         aggregates.update(0, numOfEvents);
     }
@@ -19,6 +19,7 @@ import io.pravega.common.concurrent.Services;
 import io.pravega.segmentstore.storage.cache.CacheState;
 import io.pravega.segmentstore.storage.cache.CacheStorage;
 import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
+import io.pravega.segmentstore.storage.cache.TieredCacheStorage;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -44,6 +45,12 @@ import lombok.extern.slf4j.Slf4j;
  * (in the clients) that is generated or updated gets assigned the current generation. As the CacheManager determines that
  * there are too many Cache Entries or that the maximum size has been exceeded, it will increment the oldest generation.
  * The CacheManager Clients can use this information to evict those Cache Entries that have a generation below the oldest generation number.
+ *
+ * If the {@link CacheStorage} is a {@link TieredCacheStorage}, the CacheManager also holds a demotion generation (which
+ * is always at least the oldest generation). In this case, the oldest generation is driven by the utilization of the
+ * Secondary tier (and the maximum age of entries), while the demotion generation is driven by the utilization of the
+ * Primary tier. The CacheManager Clients can use this information to move those Cache Entries that have a generation
+ * below the demotion generation from the Primary tier to the Secondary tier instead of evicting them altogether.
  */
 @Slf4j
 @ThreadSafe
@@ -56,13 +63,16 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
     private final ScheduledExecutorService executorService;
     private final AtomicInteger currentGeneration;
     private final AtomicInteger oldestGeneration;
+    private final AtomicInteger demotionGeneration;
     private final AtomicReference<CacheState> lastCacheState;
+    private final AtomicReference<CacheState> lastSecondaryCacheState;
     private final AtomicBoolean running;
     private final CachePolicy policy;
     private final AtomicBoolean closed;
     private final SegmentStoreMetrics.CacheManager metrics;
     @Getter
     private final CacheStorage cacheStorage;
+    private final TieredCacheStorage tieredCacheStorage;
     @Getter
     private final CacheUtilizationProvider utilizationProvider;
     private final Object lock = new Object();
@@ -94,12 +104,15 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
         this.executorService = Preconditions.checkNotNull(executorService, "executorService");
         this.cacheStorage = Preconditions.checkNotNull(cacheStorage, "cacheStorage");
         this.cacheStorage.setCacheFullCallback(this::cacheFullCallback, CACHE_FULL_RETRY_BASE_MILLIS);
+        this.tieredCacheStorage = cacheStorage instanceof TieredCacheStorage ? (TieredCacheStorage) cacheStorage : null;
         this.clients = new HashSet<>();
         this.oldestGeneration = new AtomicInteger(0);
+        this.demotionGeneration = new AtomicInteger(0);
         this.currentGeneration = new AtomicInteger(0);
         this.running = new AtomicBoolean();
         this.closed = new AtomicBoolean();
         this.lastCacheState = new AtomicReference<>();
+        this.lastSecondaryCacheState = new AtomicReference<>();
         this.metrics = new SegmentStoreMetrics.CacheManager();
         this.utilizationProvider = new CacheUtilizationProvider(this.policy, this::getStoredBytes);
         fetchCacheState();
@@ -174,7 +187,7 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
             }
         }
 
-        client.updateGenerations(this.currentGeneration.get(), this.oldestGeneration.get());
+        client.updateGenerations(this.currentGeneration.get(), this.oldestGeneration.get(), this.demotionGeneration.get());
         log.info("{} Registered {}.", TRACE_OBJECT_ID, client);
     }
 
@@ -258,7 +271,7 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
         // Run through all the active clients and gather status.
         CacheStatus currentStatus = collectStatus();
         fetchCacheState();
-        if (currentStatus == null || this.lastCacheState.get().getStoredBytes() == 0) {
+        if (currentStatus == null || getTotalStoredBytes() == 0) {
             // We either have no clients or we have clients and they do not have any data stored.
             return false;
         }
@@ -266,8 +279,9 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
         // Increment current generation (if needed).
         boolean currentChanged = adjustCurrentGeneration(currentStatus);
 
-        // Increment oldest generation (if needed and if possible).
+        // Increment oldest and demotion generations (if needed and if possible).
         boolean oldestChanged = adjustOldestGeneration(currentStatus);
+        oldestChanged = adjustDemotionGeneration(currentStatus) | oldestChanged;
 
         if (!currentChanged && !oldestChanged) {
             // Nothing changed, nothing to do.
@@ -295,6 +309,7 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
                     // Adjust oldest generation if needed.
                     logCurrentStatus(currentStatus);
                     oldestChanged = adjustOldestGeneration(currentStatus);
+                    oldestChanged = adjustDemotionGeneration(currentStatus) | oldestChanged;
                 }
             }
         } while (reducedInIteration && oldestChanged);
@@ -346,17 +361,25 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
     }
 
     private void fetchCacheState() {
-        this.lastCacheState.set(this.cacheStorage.getState());
+        if (this.tieredCacheStorage == null) {
+            this.lastCacheState.set(this.cacheStorage.getState());
+        } else {
+            // All of our utilization-based decisions (and throttling) are based on the Primary tier (memory). The
+            // Secondary tier is only used to decide when entries must be evicted altogether.
+            this.lastCacheState.set(this.tieredCacheStorage.getPrimaryState());
+            this.lastSecondaryCacheState.set(this.tieredCacheStorage.getSecondaryState());
+        }
     }
 
     private boolean updateClients() {
         final int cg = this.currentGeneration.get();
         final int og = this.oldestGeneration.get();
+        final int dg = this.demotionGeneration.get();
         ArrayList<Client> toUnregister = new ArrayList<>();
         boolean reduced = false;
         for (Client c : getClients()) {
             try {
-                reduced = c.updateGenerations(cg, og) | reduced;
+                reduced = c.updateGenerations(cg, og, dg) | reduced;
             } catch (ObjectClosedException ex) {
                 // This object was closed but it was not unregistered. Do it now.
                 log.warn("{} Detected closed client {}.", TRACE_OBJECT_ID, c);
@@ -380,7 +403,8 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
         // with the newest generation from the retrieved status.
         // 2. We are currently exceeding the eviction threshold. It is possible that even with no activity, some entries
         // may have recently become eligible for eviction, in which case we should try to evict them.
-        boolean shouldIncrement = currentStatus.getNewestGeneration() >= this.currentGeneration.get() || exceedsEvictionThreshold();
+        boolean shouldIncrement = currentStatus.getNewestGeneration() >= this.currentGeneration.get()
+                || exceedsEvictionThreshold() || exceedsSecondaryEvictionThreshold();
         if (shouldIncrement) {
             this.currentGeneration.incrementAndGet();
         }
@@ -410,11 +434,31 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
         return isAdjusted;
     }
 
+    private boolean adjustDemotionGeneration(CacheStatus currentStatus) {
+        int newDemotionGeneration = Math.max(this.demotionGeneration.get(), this.oldestGeneration.get());
+        if (this.tieredCacheStorage != null && exceedsEvictionThreshold()) {
+            // The Primary tier is too full. Demote the oldest generation that is still in it. Since we do not know what
+            // that is (clients only report their oldest generation across both tiers), we move the threshold one step
+            // at a time, for as long as the clients report they were able to demote anything.
+            newDemotionGeneration = Math.max(newDemotionGeneration, currentStatus.oldestGeneration) + 1;
+            newDemotionGeneration = Math.min(newDemotionGeneration, this.currentGeneration.get());
+        }
+
+        boolean isAdjusted = newDemotionGeneration > this.demotionGeneration.get();
+        if (isAdjusted) {
+            this.demotionGeneration.set(newDemotionGeneration);
+        }
+
+        return isAdjusted;
+    }
+
     private boolean exceedsPolicy(CacheStatus currentStatus) {
         // We need to increment the OldestGeneration only if any of the following conditions occurred:
-        // 1. We currently exceed the maximum usable size as defined by the cache policy.
+        // 1. We currently exceed the maximum usable size as defined by the cache policy (if we have a Secondary tier,
+        // this refers to the Secondary tier; the Primary tier is handled via demotions).
         // 2. The oldest generation reported by the clients is older than the oldest permissible generation.
-        return exceedsEvictionThreshold()
+        boolean exceedsSize = this.tieredCacheStorage == null ? exceedsEvictionThreshold() : exceedsSecondaryEvictionThreshold();
+        return exceedsSize
                 || currentStatus.getOldestGeneration() < getOldestPermissibleGeneration();
     }
 
@@ -422,6 +466,15 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
         return this.lastCacheState.get().getUsedBytes() > this.policy.getEvictionThreshold();
     }
 
+    private boolean exceedsSecondaryEvictionThreshold() {
+        if (this.tieredCacheStorage == null) {
+            return false;
+        }
+
+        CacheState s = this.lastSecondaryCacheState.get();
+        return s.getUsedBytes() > s.getMaxBytes() * this.policy.getTargetUtilization();
+    }
+
     private int getOldestPermissibleGeneration() {
         return this.currentGeneration.get() - this.policy.getMaxGenerations() + 1;
     }
@@ -437,6 +490,15 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
         }
     }
 
+    private long getTotalStoredBytes() {
+        long result = this.lastCacheState.get().getStoredBytes();
+        if (this.tieredCacheStorage != null) {
+            result += this.lastSecondaryCacheState.get().getStoredBytes();
+        }
+
+        return result;
+    }
+
     //endregion
 
     //region Client
@@ -460,6 +522,24 @@ public class CacheManager extends AbstractScheduledService implements AutoClosea
          * @return If any cache data was trimmed with this update.
          */
         boolean updateGenerations(int currentGeneration, int oldestGeneration);
+
+        /**
+         * Called by the CacheManager to notify when there is a generation change (either current, oldest or demotion).
+         * This is only different from {@link #updateGenerations(int, int)} if the CacheStorage is a {@link TieredCacheStorage}.
+         * Clients that do not support tiering need not implement this; the default implementation ignores the demotion
+         * generation.
+         *
+         * @param currentGeneration  The value of the current generation.
+         * @param oldestGeneration   The value of the oldest generation. This is the cutoff for which entries can still
+         *                           exist in the cache.
+         * @param demotionGeneration The value of the demotion generation. This is the cutoff for which entries can still
+         *                           exist in the Primary tier of a {@link TieredCacheStorage}; entries older than this
+         *                           should be moved to the Secondary tier. This is always at least oldestGeneration.
+         * @return If any cache data was trimmed or demoted with this update.
+         */
+        default boolean updateGenerations(int currentGeneration, int oldestGeneration, int demotionGeneration) {
+            return updateGenerations(currentGeneration, oldestGeneration);
+        }
     }
 
     //endregion
@@ -12,6 +12,7 @@ package io.pravega.segmentstore.server;
 import com.google.common.base.Preconditions;
 import io.pravega.common.concurrent.ExecutorServiceHelpers;
 import io.pravega.segmentstore.server.logs.operations.CompletableOperation;
+import io.pravega.segmentstore.server.logs.operations.OperationLatencyBreakdown;
 import io.pravega.segmentstore.storage.cache.CacheState;
 import io.pravega.shared.MetricsNames;
 import io.pravega.shared.metrics.Counter;
@@ -22,8 +23,10 @@ import io.pravega.shared.metrics.StatsLogger;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -61,6 +64,122 @@ public final class SegmentStoreMetrics {
 
     //endregion
 
+    //region ReadIndex
+
+    /**
+     * ContainerReadIndex metrics.
+     */
+    public final static class ReadIndex implements AutoCloseable {
+        private final String[] containerTag;
+
+        /**
+         * Average length of the cache entries of a Segment, as observed during each Cache Manager cycle.
+         */
+        private final OpStatsLogger entryLength;
+
+        public ReadIndex(int containerId) {
+            this.containerTag = containerTag(containerId);
+            this.entryLength = STATS_LOGGER.createStats(MetricsNames.READ_INDEX_ENTRY_LENGTH, this.containerTag);
+        }
+
+        public void prefetched(int byteCount) {
+            DYNAMIC_LOGGER.incCounterValue(MetricsNames.READ_INDEX_PREFETCH_BYTES, byteCount, this.containerTag);
+        }
+
+        public void prefetchHit(long byteCount) {
+            DYNAMIC_LOGGER.incCounterValue(MetricsNames.READ_INDEX_PREFETCH_HIT_BYTES, byteCount, this.containerTag);
+        }
+
+        public void prefetchWasted(long byteCount) {
+            DYNAMIC_LOGGER.incCounterValue(MetricsNames.READ_INDEX_PREFETCH_WASTED_BYTES, byteCount, this.containerTag);
+        }
+
+        public void entriesCoalesced(int entryCount) {
+            DYNAMIC_LOGGER.incCounterValue(MetricsNames.READ_INDEX_COALESCED_ENTRIES, entryCount, this.containerTag);
+        }
+
+        public void averageEntryLength(long length) {
+            this.entryLength.reportSuccessValue(length);
+        }
+
+        @Override
+        public void close() {
+            this.entryLength.close();
+            DYNAMIC_LOGGER.freezeCounter(MetricsNames.READ_INDEX_COALESCED_ENTRIES, this.containerTag);
+            DYNAMIC_LOGGER.freezeCounter(MetricsNames.READ_INDEX_PREFETCH_BYTES, this.containerTag);
+            DYNAMIC_LOGGER.freezeCounter(MetricsNames.READ_INDEX_PREFETCH_HIT_BYTES, this.containerTag);
+            DYNAMIC_LOGGER.freezeCounter(MetricsNames.READ_INDEX_PREFETCH_WASTED_BYTES, this.containerTag);
+        }
+    }
+
+    //endregion
+
+    //region TableKeyIndex
+
+    /**
+     * Table Segment ContainerKeyIndex metrics.
+     */
+    public final static class TableKeyIndex implements AutoCloseable {
+        private final String[] containerTag;
+
+        public TableKeyIndex(int containerId) {
+            this.containerTag = containerTag(containerId);
+        }
+
+        public void keyFilterNegative(int count) {
+            DYNAMIC_LOGGER.incCounterValue(MetricsNames.TABLE_SEGMENT_KEY_FILTER_NEGATIVE, count, this.containerTag);
+        }
+
+        public void keyFilterFalsePositive(int count) {
+            DYNAMIC_LOGGER.incCounterValue(MetricsNames.TABLE_SEGMENT_KEY_FILTER_FALSE_POSITIVE, count, this.containerTag);
+        }
+
+        public void keyFilterSize(long sizeBytes) {
+            DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.TABLE_SEGMENT_KEY_FILTER_SIZE_BYTES, sizeBytes, this.containerTag);
+        }
+
+        @Override
+        public void close() {
+            DYNAMIC_LOGGER.freezeCounter(MetricsNames.TABLE_SEGMENT_KEY_FILTER_NEGATIVE, this.containerTag);
+            DYNAMIC_LOGGER.freezeCounter(MetricsNames.TABLE_SEGMENT_KEY_FILTER_FALSE_POSITIVE, this.containerTag);
+            DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.TABLE_SEGMENT_KEY_FILTER_SIZE_BYTES, this.containerTag);
+        }
+    }
+
+    //endregion
+
+    //region TableCompaction
+
+    /**
+     * Table Segment compaction metrics.
+     */
+    public final static class TableCompaction implements AutoCloseable {
+        private final String[] containerTag;
+
+        /**
+         * Number of bytes between a Table Segment's compaction offset and its last indexed offset, after each compaction.
+         */
+        private final OpStatsLogger compactionLag;
+
+        public TableCompaction(int containerId) {
+            this.containerTag = containerTag(containerId);
+            this.compactionLag = STATS_LOGGER.createStats(MetricsNames.TABLE_SEGMENT_COMPACTION_LAG_BYTES, this.containerTag);
+        }
+
+        public void compacted(long reclaimedBytes, long lagBytes) {
+            DYNAMIC_LOGGER.incCounterValue(MetricsNames.TABLE_SEGMENT_COMPACTION_RECLAIMED_BYTES, reclaimedBytes, this.containerTag);
+            this.compactionLag.reportSuccessValue(lagBytes);
+        }
+
+        @Override
+        public void close() {
+            this.compactionLag.close();
+            DYNAMIC_LOGGER.freezeCounter(MetricsNames.TABLE_SEGMENT_COMPACTION_RECLAIMED_BYTES, this.containerTag);
+        }
+    }
+
+    //endregion
+
     //region ThreadPool
 
     /**
@@ -145,6 +264,17 @@ public final class SegmentStoreMetrics {
          */
         private final OpStatsLogger processOperationsLatency;
         private final OpStatsLogger processOperationsBatchSize;
+
+        /**
+         * Target DataFrame length and linger time chosen by the OperationProcessor after each DurableDataLog write.
+         */
+        private final OpStatsLogger groupCommitFrameLength;
+        private final OpStatsLogger groupCommitLingerMillis;
+
+        /**
+         * Amount of time sampled operations spend in each processing stage.
+         */
+        private final Map<OperationLatencyBreakdown.Stage, OpStatsLogger> stageLatencies;
         private final int containerId;
         private final String[] containerTag;
         private Set<String> throttlers = Collections.synchronizedSet(new HashSet<>());
@@ -161,6 +291,15 @@ public final class SegmentStoreMetrics {
             this.memoryCommitCount = STATS_LOGGER.createStats(MetricsNames.OPERATION_COMMIT_MEMORY_COUNT, this.containerTag);
             this.processOperationsLatency = STATS_LOGGER.createStats(MetricsNames.PROCESS_OPERATIONS_LATENCY, this.containerTag);
             this.processOperationsBatchSize = STATS_LOGGER.createStats(MetricsNames.PROCESS_OPERATIONS_BATCH_SIZE, this.containerTag);
+            this.groupCommitFrameLength = STATS_LOGGER.createStats(MetricsNames.OPERATION_PROCESSOR_FRAME_LENGTH, this.containerTag);
+            this.groupCommitLingerMillis = STATS_LOGGER.createStats(MetricsNames.OPERATION_PROCESSOR_LINGER_MILLIS, this.containerTag);
+            this.stageLatencies = new EnumMap<>(OperationLatencyBreakdown.Stage.class);
+            this.stageLatencies.put(OperationLatencyBreakdown.Stage.QUEUE, STATS_LOGGER.createStats(MetricsNames.OPERATION_STAGE_QUEUE_LATENCY, this.containerTag));
+            this.stageLatencies.put(OperationLatencyBreakdown.Stage.FRAMING, STATS_LOGGER.createStats(MetricsNames.OPERATION_STAGE_FRAMING_LATENCY, this.containerTag));
+            this.stageLatencies.put(OperationLatencyBreakdown.Stage.BATCHING, STATS_LOGGER.createStats(MetricsNames.OPERATION_STAGE_BATCHING_LATENCY, this.containerTag));
+            this.stageLatencies.put(OperationLatencyBreakdown.Stage.DURABLE_WRITE, STATS_LOGGER.createStats(MetricsNames.OPERATION_STAGE_DURABLE_WRITE_LATENCY, this.containerTag));
+            this.stageLatencies.put(OperationLatencyBreakdown.Stage.COMPLETION, STATS_LOGGER.createStats(MetricsNames.OPERATION_STAGE_COMPLETION_LATENCY, this.containerTag));
+            this.stageLatencies.put(OperationLatencyBreakdown.Stage.MEMORY_COMMIT, STATS_LOGGER.createStats(MetricsNames.OPERATION_STAGE_MEMORY_COMMIT_LATENCY, this.containerTag));
         }
 
         @Override
@@ -174,6 +313,9 @@ public final class SegmentStoreMetrics {
             this.memoryCommitCount.close();
             this.processOperationsLatency.close();
             this.processOperationsBatchSize.close();
+            this.groupCommitFrameLength.close();
+            this.groupCommitLingerMillis.close();
+            this.stageLatencies.values().forEach(OpStatsLogger::close);
             for (String throttler : throttlers) {
                 DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.OPERATION_PROCESSOR_DELAY_MILLIS, throttlerTag(containerId, throttler));
             }
@@ -193,6 +335,15 @@ public final class SegmentStoreMetrics {
             );
         }
 
+        public void groupCommit(int targetFrameLength, int lingerMillis) {
+            this.groupCommitFrameLength.reportSuccessValue(targetFrameLength);
+            this.groupCommitLingerMillis.reportSuccessValue(lingerMillis);
+        }
+
+        public void operationStageLatency(OperationLatencyBreakdown.Stage stage, long elapsedNanos) {
+            this.stageLatencies.get(stage).reportSuccessValue(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+
         public void operationQueueWaitTime(long queueWaitTimeMillis) {
             this.operationQueueWaitTime.reportSuccessValue(queueWaitTimeMillis);
         }
@@ -414,5 +565,18 @@ public final class SegmentStoreMetrics {
         DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CONTAINER_RECOVERY_TIME, duration, containerTag(containerId));
     }
 
+    /**
+     * Reports the throughput of a container recovery.
+     *
+     * @param operationsPerSecond Number of Operations recovered per second.
+     * @param mbPerSecond         Amount of data (MB) recovered per second.
+     * @param containerId         Container id related to the recovery process.
+     */
+    public static void recoveryThroughput(long operationsPerSecond, double mbPerSecond, int containerId) {
+        String[] tag = containerTag(containerId);
+        DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CONTAINER_RECOVERY_OPERATIONS_PER_SEC, operationsPerSecond, tag);
+        DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.CONTAINER_RECOVERY_MB_PER_SEC, mbPerSecond, tag);
+    }
+
     //endregion
 }
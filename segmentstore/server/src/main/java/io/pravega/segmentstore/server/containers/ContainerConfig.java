@@ -29,6 +29,7 @@ public class ContainerConfig {
     public static final Property<Integer> MAX_ACTIVE_SEGMENT_COUNT = Property.named("segment.active.count.max", 25000, "maxActiveSegmentCount");
     public static final Property<Integer> MAX_CONCURRENT_SEGMENT_EVICTION_COUNT = Property.named("segment.eviction.concurrent.count.max", 2500, "maxConcurrentSegmentEvictionCount");
     public static final Property<Integer> MAX_CACHED_EXTENDED_ATTRIBUTE_COUNT = Property.named("extended.attribute.cached.count.max", 4096, "maxCachedExtendedAttributeCount");
+    public static final Property<Boolean> TABLE_KEY_FILTER_ENABLE = Property.named("tables.keyfilter.enable", false);
     private static final String COMPONENT_CODE = "containers";
 
     /**
@@ -61,6 +62,13 @@ public class ContainerConfig {
     @Getter
     private final int maxCachedExtendedAttributeCount;
 
+    /**
+     * Whether to keep an in-memory Bloom Filter of indexed Key Hashes for each Table Segment, which is used to answer
+     * lookups for inexistent Keys without reading the Table Segment's index.
+     */
+    @Getter
+    private final boolean tableKeyFilterEnabled;
+
     //endregion
 
     //region Constructor
@@ -99,6 +107,8 @@ public class ContainerConfig {
         if (this.maxCachedExtendedAttributeCount <= 0) {
             throw new ConfigurationException(String.format("Property '%s' must be a positive integer.", MAX_CACHED_EXTENDED_ATTRIBUTE_COUNT));
         }
+
+        this.tableKeyFilterEnabled = properties.getBoolean(TABLE_KEY_FILTER_ENABLE);
     }
 
     /**
@@ -23,15 +23,22 @@ import io.pravega.segmentstore.storage.LogAddress;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import javax.annotation.concurrent.NotThreadSafe;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.SneakyThrows;
+import lombok.val;
 
 /**
  * Helps serialize entries into fixed-size batches. Allows writing multiple records per frame, as well as splitting a record
  * across multiple frames.
+ * <p>
+ * Data may be appended either by copying it into the frame's own buffer (see {@link #append(BufferView.Reader)}) or by
+ * reference (see {@link #appendReference(BufferView)}). Referenced data is retained by this frame (and interleaved with
+ * the frame's own buffer when {@link #getData()} is invoked) until {@link #release()} is called. Both methods produce
+ * the exact same serialization.
  */
 @NotThreadSafe
 public class DataFrame {
@@ -54,8 +61,18 @@ public class DataFrame {
     private LogAddress address;
 
     private int writeEntryStartIndex;
+    private int writeEntryOwnedStartIndex;
+    private int writeEntryReferenceCount;
     private WriteEntryHeader writeEntryHeader;
+    /**
+     * The logical write position within the frame's contents (includes referenced data).
+     */
     private int writePosition;
+    /**
+     * The write position within this frame's own buffer (excludes referenced data).
+     */
+    private int ownedPosition;
+    private final ArrayList<Reference> references;
     private boolean sealed;
 
     //endregion
@@ -72,6 +89,8 @@ public class DataFrame {
         this.writeEntryStartIndex = -1;
         this.sealed = false;
         this.writePosition = this.sealed ? -1 : 0;
+        this.ownedPosition = 0;
+        this.references = new ArrayList<>();
 
         //We want to use the DataFrame for at least 1 byte of data.
         int sourceLength = this.data.getLength();
@@ -109,11 +128,54 @@ public class DataFrame {
     }
 
     /**
-     * Returns an ArrayView representing the serialized form of this frame.
+     * Gets a value indicating the number of bytes written to this frame so far, including the header. Unlike getLength(),
+     * this can also be used for frames that are not yet sealed.
      */
-    CompositeArrayView getData() {
-        //  Only return the segment of the buffer that contains data.
-        return this.data.slice(0, getLength());
+    int getWrittenLength() {
+        return this.sealed ? getLength() : this.header.getSerializationLength() + this.writePosition;
+    }
+
+    /**
+     * Returns a BufferView representing the serialized form of this frame. If any data has been appended by reference,
+     * the result will refer to it (without copying); it is only valid until {@link #release()} is invoked.
+     */
+    BufferView getData() {
+        if (this.references.isEmpty()) {
+            //  Only return the segment of the buffer that contains data.
+            return this.data.slice(0, getLength());
+        }
+
+        // Interleave our own buffer (frame header, entry headers and any data that was copied) with referenced data.
+        val builder = BufferView.builder(2 * this.references.size() + 1);
+        int ownedOffset = 0;
+        for (Reference r : this.references) {
+            int ownedEnd = FrameHeader.SERIALIZATION_LENGTH + r.ownedOffset;
+            if (ownedEnd > ownedOffset) {
+                builder.add(this.data.slice(ownedOffset, ownedEnd - ownedOffset));
+            }
+
+            builder.add(r.data);
+            ownedOffset = ownedEnd;
+        }
+
+        int ownedEnd = FrameHeader.SERIALIZATION_LENGTH + this.ownedPosition;
+        if (ownedEnd > ownedOffset) {
+            builder.add(this.data.slice(ownedOffset, ownedEnd - ownedOffset));
+        }
+
+        BufferView result = builder.build();
+        assert result.getLength() == getLength() : "getData() length mismatch.";
+        return result;
+    }
+
+    /**
+     * Releases all data that has been appended to this frame by reference. After this method is invoked, any BufferView
+     * previously returned by {@link #getData()} may no longer be used. Invoking this method multiple times has no
+     * further effect.
+     */
+    void release() {
+        this.references.forEach(r -> r.data.release());
+        this.references.clear();
     }
 
     /**
@@ -154,9 +216,12 @@ public class DataFrame {
         }
 
         this.writeEntryStartIndex = this.writePosition;
-        this.writeEntryHeader = new WriteEntryHeader(this.contents.slice(this.writePosition, WriteEntryHeader.HEADER_SIZE));
+        this.writeEntryOwnedStartIndex = this.ownedPosition;
+        this.writeEntryReferenceCount = this.references.size();
+        this.writeEntryHeader = new WriteEntryHeader(this.contents.slice(this.ownedPosition, WriteEntryHeader.HEADER_SIZE));
         this.writeEntryHeader.setFirstRecordEntry(firstRecordEntry);
         this.writePosition += WriteEntryHeader.HEADER_SIZE;
+        this.ownedPosition += WriteEntryHeader.HEADER_SIZE;
         return true;
     }
 
@@ -169,8 +234,13 @@ public class DataFrame {
             return;
         }
 
-        // Revert back to where we began the current entry.
+        // Revert back to where we began the current entry and release anything it referenced.
         this.writePosition = this.writeEntryStartIndex;
+        this.ownedPosition = this.writeEntryOwnedStartIndex;
+        while (this.references.size() > this.writeEntryReferenceCount) {
+            this.references.remove(this.references.size() - 1).data.release();
+        }
+
         this.writeEntryStartIndex = -1;
         this.writeEntryHeader = null;
     }
@@ -210,8 +280,9 @@ public class DataFrame {
     int append(byte b) {
         ensureAppendConditions();
         if (getAvailableLength() >= 1) {
-            this.contents.set(writePosition, b);
-            writePosition++;
+            this.contents.set(this.ownedPosition, b);
+            this.ownedPosition++;
+            this.writePosition++;
             return 1;
         } else {
             // Current DataFrame is full. we can't write anymore.
@@ -232,8 +303,32 @@ public class DataFrame {
 
         int actualLength = Math.min(data.available(), getAvailableLength());
         if (actualLength > 0) {
-            this.contents.copyFrom(data, writePosition, actualLength);
-            writePosition += actualLength;
+            this.contents.copyFrom(data, this.ownedPosition, actualLength);
+            this.ownedPosition += actualLength;
+            this.writePosition += actualLength;
+        }
+
+        return actualLength;
+    }
+
+    /**
+     * Appends the given {@link BufferView} to the DataFrame by reference, without copying it. The appended range will be
+     * retained (see {@link BufferView#retain()}) until {@link #release()} is invoked or the current entry is discarded.
+     *
+     * @param data The {@link BufferView} to append.
+     * @return The number of bytes appended (from the beginning of data). If less than {@link BufferView#getLength()},
+     * the frame is full and cannot write anything anymore. The remaining bytes will need to be written to a new frame.
+     * @throws IllegalStateException If the frame is sealed or no entry has been started.
+     */
+    int appendReference(BufferView data) {
+        ensureAppendConditions();
+
+        int actualLength = Math.min(data.getLength(), getAvailableLength());
+        if (actualLength > 0) {
+            BufferView slice = data.slice(0, actualLength);
+            slice.retain();
+            this.references.add(new Reference(this.ownedPosition, slice));
+            this.writePosition += actualLength;
         }
 
         return actualLength;
@@ -267,6 +362,18 @@ public class DataFrame {
         Preconditions.checkState(this.writeEntryStartIndex >= 0, "No entry started.");
     }
 
+    /**
+     * A range of data that has been appended by reference.
+     */
+    @RequiredArgsConstructor
+    private static class Reference {
+        /**
+         * The offset within the frame's own contents buffer where this data is to be inserted.
+         */
+        final int ownedOffset;
+        final BufferView data;
+    }
+
     //endregion
 
     //region Reading
@@ -12,6 +12,7 @@ package io.pravega.segmentstore.server.logs;
 import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
 import io.pravega.common.ObjectClosedException;
+import io.pravega.common.Timer;
 import io.pravega.common.util.SequencedItemList;
 import io.pravega.segmentstore.server.logs.operations.CompletableOperation;
 import io.pravega.segmentstore.storage.DurableDataLog;
@@ -25,6 +26,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 import javax.annotation.concurrent.NotThreadSafe;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -68,7 +70,8 @@ class DataFrameBuilder<T extends SequencedItemList.Element> implements AutoClose
         this.args = Preconditions.checkNotNull(args, "args");
         Preconditions.checkNotNull(args.commitSuccess, "args.commitSuccess");
         Preconditions.checkNotNull(args.commitFailure, "args.commitFailure");
-        this.outputStream = new DataFrameOutputStream(targetLog.getWriteSettings().getMaxWriteLength(), this::handleDataFrameComplete);
+        this.outputStream = new DataFrameOutputStream(targetLog.getWriteSettings().getMaxWriteLength(), args.minReferenceLength,
+                this::handleDataFrameComplete);
         this.lastSerializedSequenceNumber = -1;
         this.lastStartedSequenceNumber = -1;
         this.failureCause = new AtomicReference<>();
@@ -81,10 +84,12 @@ class DataFrameBuilder<T extends SequencedItemList.Element> implements AutoClose
 
     @Override
     public void close() {
-        if (!this.closed.compareAndSet(false, true)) {
-            // Close the underlying stream (which destroys whatever we have in flight).
-            this.outputStream.close();
-        }
+        this.closed.set(true);
+
+        // Close the underlying stream (which destroys whatever we have in flight and releases any buffers it refers to).
+        // This must not be invoked concurrently with append() or flush(); async failures only mark us as closed (see
+        // handleProcessingException) and leave it to our owner to invoke this method.
+        this.outputStream.close();
     }
 
     //endregion
@@ -162,6 +167,12 @@ class DataFrameBuilder<T extends SequencedItemList.Element> implements AutoClose
 
             throw ex;
         }
+
+        // The record is complete. If the current DataFrame has reached its target length, ship it now instead of waiting
+        // for it to fill up.
+        if (this.outputStream.getCurrentFrameLength() >= this.args.targetFrameLength.getAsInt()) {
+            this.outputStream.flush();
+        }
     }
 
     /**
@@ -183,12 +194,14 @@ class DataFrameBuilder<T extends SequencedItemList.Element> implements AutoClose
         try {
             this.args.beforeCommit.accept(commitArgs);
             this.targetLog.append(dataFrame.getData(), this.args.writeTimeout)
+                    .whenComplete((logAddress, ex) -> dataFrame.release()) // The DurableDataLog is done with it.
                     .thenAcceptAsync(logAddress -> {
                         commitArgs.setLogAddress(logAddress);
                         this.args.commitSuccess.accept(commitArgs);
                     }, this.args.executor)
                     .exceptionally(ex -> handleProcessingException(ex, commitArgs));
         } catch (Throwable ex) {
+            dataFrame.release();
             handleProcessingException(ex, commitArgs);
 
             // Even though we invoked the dataFrameCommitFailureCallback() - which was for the DurableLog to handle,
@@ -208,7 +221,7 @@ class DataFrameBuilder<T extends SequencedItemList.Element> implements AutoClose
         }
 
         this.args.commitFailure.accept(ex, commitArgs);
-        close();
+        this.closed.set(true);
         return null;
     }
 
@@ -256,6 +269,12 @@ class DataFrameBuilder<T extends SequencedItemList.Element> implements AutoClose
         @Setter
         private List<CompletableOperation> operations;
 
+        /**
+         * Measures the time elapsed since the DataFrame was sealed and submitted to the DurableDataLog.
+         */
+        @Getter
+        private final Timer timer;
+
         /**
          * Creates a new instance of the CommitArgs class.
          *
@@ -271,6 +290,7 @@ class DataFrameBuilder<T extends SequencedItemList.Element> implements AutoClose
             this.lastStartedSequenceNumber = lastStartedSequenceNumber;
             this.dataFrameLength = dataFrameLength;
             this.logAddress = new AtomicReference<>();
+            this.timer = new Timer();
         }
 
         /**
@@ -319,7 +339,29 @@ class DataFrameBuilder<T extends SequencedItemList.Element> implements AutoClose
          */
         final BiConsumer<Throwable, CommitArgs> commitFailure;
         final Executor executor;
+
+        /**
+         * A Supplier for the length (in bytes) at which a DataFrame should be sealed and submitted to the DurableDataLog,
+         * even if it still has room for more entries. This is evaluated after every append. DataFrames will never exceed
+         * the DurableDataLog's maximum write length, regardless of what this returns.
+         */
+        final IntSupplier targetFrameLength;
+
+        /**
+         * The minimum length of a buffer (such as the payload of an append) for it to be included in a DataFrame by
+         * reference instead of being copied into it. See {@link DataFrameOutputStream}.
+         */
+        final int minReferenceLength;
         final Duration writeTimeout = Duration.ofSeconds(30); // TODO: actual timeout.
+
+        Args(Consumer<CommitArgs> beforeCommit, Consumer<CommitArgs> commitSuccess, BiConsumer<Throwable, CommitArgs> commitFailure, Executor executor) {
+            this(beforeCommit, commitSuccess, commitFailure, executor, () -> Integer.MAX_VALUE);
+        }
+
+        Args(Consumer<CommitArgs> beforeCommit, Consumer<CommitArgs> commitSuccess, BiConsumer<Throwable, CommitArgs> commitFailure,
+             Executor executor, IntSupplier targetFrameLength) {
+            this(beforeCommit, commitSuccess, commitFailure, executor, targetFrameLength, DataFrameOutputStream.DEFAULT_MIN_REFERENCE_LENGTH);
+        }
     }
 
     //endregion
@@ -26,17 +26,28 @@ import lombok.Getter;
  * from one Data Frame to another if the previous Data Frame was full.
  * <p>
  * Data written with this class can be read back using DataFrameInputStream.
+ * <p>
+ * Buffers passed to {@link #writeBuffer} that are at least {@link #getMinReferenceLength()} bytes long are not copied;
+ * instead they are appended to the current Data Frame by reference (see {@link DataFrame#appendReference}). Such Data
+ * Frames must be released (see {@link DataFrame#release()}) once the dataFrameCompleteCallback is done with them.
  */
 @NotThreadSafe
 class DataFrameOutputStream extends OutputStream implements BufferViewSink {
     //region Members
 
+    /**
+     * Default value for {@link #getMinReferenceLength()}. Copying anything smaller than this is cheaper than keeping track
+     * of (and later assembling) a separate buffer for it.
+     */
+    static final int DEFAULT_MIN_REFERENCE_LENGTH = 1024;
     private final Consumer<DataFrame> dataFrameCompleteCallback;
     private DataFrame currentFrame;
     private boolean hasDataInCurrentFrame;
     @Getter
     private boolean closed;
     private final int maxDataFrameSize;
+    @Getter
+    private final int minReferenceLength;
 
     //endregion
 
@@ -51,10 +62,26 @@ class DataFrameOutputStream extends OutputStream implements BufferViewSink {
      * @throws NullPointerException     If any of the arguments are null.
      */
     DataFrameOutputStream(int maxDataFrameSize, Consumer<DataFrame> dataFrameCompleteCallback) {
+        this(maxDataFrameSize, DEFAULT_MIN_REFERENCE_LENGTH, dataFrameCompleteCallback);
+    }
+
+    /**
+     * Creates a new instance of the DataFrameOutputStream class.
+     *
+     * @param maxDataFrameSize          The maximum size, in bytes, of a Data Frame.
+     * @param minReferenceLength        The minimum length of a buffer passed to {@link #writeBuffer} for it to be appended
+     *                                  by reference instead of being copied. Use {@link Integer#MAX_VALUE} to always copy.
+     * @param dataFrameCompleteCallback A callback that will be invoked when a Data Frame is full.
+     * @throws IllegalArgumentException If maxDataFrameSize or minReferenceLength are not positive integers.
+     * @throws NullPointerException     If any of the arguments are null.
+     */
+    DataFrameOutputStream(int maxDataFrameSize, int minReferenceLength, Consumer<DataFrame> dataFrameCompleteCallback) {
         Exceptions.checkArgument(maxDataFrameSize > DataFrame.MIN_ENTRY_LENGTH_NEEDED, "maxDataFrameSize",
                 "Must be a at least %s.", DataFrame.MIN_ENTRY_LENGTH_NEEDED);
+        Exceptions.checkArgument(minReferenceLength > 0, "minReferenceLength", "Must be a positive integer.");
 
         this.maxDataFrameSize = maxDataFrameSize;
+        this.minReferenceLength = minReferenceLength;
         this.dataFrameCompleteCallback = Preconditions.checkNotNull(dataFrameCompleteCallback, "dataFrameCompleteCallback");
     }
 
@@ -73,10 +100,7 @@ class DataFrameOutputStream extends OutputStream implements BufferViewSink {
             // We attempt to write 1 byte. If append() says it wrote 0 bytes, it means the current frame is full. Seal it and create a new one.
             totalBytesWritten += this.currentFrame.append((byte) b);
             if (totalBytesWritten == 0) {
-                this.currentFrame.endEntry(false); // Close the current entry, and indicate it is not the last one of the record.
-                flush();
-                createNewFrame();
-                startNewRecordInCurrentFrame(false);
+                startNewFrameForCurrentRecord();
             }
 
             attemptCount++;
@@ -89,11 +113,20 @@ class DataFrameOutputStream extends OutputStream implements BufferViewSink {
 
     @Override
     public void write(byte[] data, int offset, int length) throws IOException {
-        writeBuffer(new ByteArraySegment(data, offset, length));
+        // Callers may reuse their arrays as soon as we return, so we must always copy these.
+        copyBuffer(new ByteArraySegment(data, offset, length));
     }
 
     @Override
     public void writeBuffer(BufferView data) throws IOException {
+        if (data.getLength() >= this.minReferenceLength) {
+            referenceBuffer(data);
+        } else {
+            copyBuffer(data);
+        }
+    }
+
+    private void copyBuffer(BufferView data) throws IOException {
         Exceptions.checkNotClosed(this.closed, this);
         Preconditions.checkState(this.currentFrame != null, "No current frame exists. Most likely no record is started.");
 
@@ -109,10 +142,29 @@ class DataFrameOutputStream extends OutputStream implements BufferViewSink {
 
             if (reader.available() > 0) {
                 // We were only able to write this partially because the current frame is full. Seal it and create a new one.
-                this.currentFrame.endEntry(false);
-                flush();
-                createNewFrame();
-                startNewRecordInCurrentFrame(false);
+                startNewFrameForCurrentRecord();
+            }
+        }
+    }
+
+    private void referenceBuffer(BufferView data) throws IOException {
+        Exceptions.checkNotClosed(this.closed, this);
+        Preconditions.checkState(this.currentFrame != null, "No current frame exists. Most likely no record is started.");
+
+        int attemptsWithNoProgress = 0;
+        int offset = 0;
+        while (offset < data.getLength()) {
+            int bytesWritten = this.currentFrame.appendReference(data.slice(offset, data.getLength() - offset));
+            offset += bytesWritten;
+            attemptsWithNoProgress = bytesWritten == 0 ? attemptsWithNoProgress + 1 : 0;
+            if (attemptsWithNoProgress > 1) {
+                // We had two consecutive attempts to write to a frame with no progress made.
+                throw new IOException("Unable to make progress in serializing to DataFrame.");
+            }
+
+            if (offset < data.getLength()) {
+                // We were only able to write this partially because the current frame is full. Seal it and create a new one.
+                startNewFrameForCurrentRecord();
             }
         }
     }
@@ -135,8 +187,9 @@ class DataFrameOutputStream extends OutputStream implements BufferViewSink {
 
         // Invoke the callback. At the end of this, the frame is committed so we can get rid of it.
         if (!this.currentFrame.isEmpty()) {
-            // Only flush something if it's not empty.
+            // Only flush something if it's not empty. The callback now owns the frame (and must release it).
             this.dataFrameCompleteCallback.accept(this.currentFrame);
+            this.currentFrame = null;
         }
 
         reset();
@@ -147,7 +200,7 @@ class DataFrameOutputStream extends OutputStream implements BufferViewSink {
         // drop current frame and stop accepting any new operation after this.
         if (!this.closed) {
             this.closed = true;
-            this.currentFrame = null;
+            releaseCurrentFrame();
         }
     }
 
@@ -200,15 +253,38 @@ class DataFrameOutputStream extends OutputStream implements BufferViewSink {
         }
     }
 
+    /**
+     * Gets a value indicating the number of bytes written to the current frame so far.
+     *
+     * @return The number of bytes written to the current frame, or 0 if there is no current frame.
+     */
+    int getCurrentFrameLength() {
+        return this.currentFrame == null ? 0 : this.currentFrame.getWrittenLength();
+    }
+
     /**
      * Discards all the data currently accumulated in the current frame.
      */
     void reset() {
         Exceptions.checkNotClosed(this.closed, this);
-        this.currentFrame = null;
+        releaseCurrentFrame();
         this.hasDataInCurrentFrame = false;
     }
 
+    private void releaseCurrentFrame() {
+        if (this.currentFrame != null) {
+            this.currentFrame.release();
+            this.currentFrame = null;
+        }
+    }
+
+    private void startNewFrameForCurrentRecord() throws SerializationException {
+        this.currentFrame.endEntry(false); // Close the current entry, and indicate it is not the last one of the record.
+        flush();
+        createNewFrame();
+        startNewRecordInCurrentFrame(false);
+    }
+
     private void createNewFrame() {
         Preconditions.checkState(this.currentFrame == null || this.currentFrame.isSealed(), "Cannot create a new frame if we currently have a non-sealed frame.");
 
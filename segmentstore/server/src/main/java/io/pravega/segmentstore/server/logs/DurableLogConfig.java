@@ -26,6 +26,8 @@ public class DurableLogConfig {
     public static final Property<Integer> CHECKPOINT_COMMIT_COUNT = Property.named("checkpoint.commit.threshold.count", 300, "checkpointCommitCountThreshold");
     public static final Property<Long> CHECKPOINT_TOTAL_COMMIT_LENGTH = Property.named("checkpoint.commit.length.total", 256 * 1024 * 1024L, "checkpointTotalCommitLengthThreshold");
     public static final Property<Integer> START_RETRY_DELAY_MILLIS = Property.named("start.retry.delay.millis", 60 * 1000, "startRetryDelayMillis");
+    public static final Property<Integer> GROUP_COMMIT_TARGET_LATENCY_MILLIS = Property.named("groupcommit.latency.target.millis", 0);
+    public static final Property<Integer> LATENCY_SAMPLING_INTERVAL = Property.named("latency.sampling.interval", 100);
     private static final String COMPONENT_CODE = "durablelog";
 
     //endregion
@@ -56,6 +58,21 @@ public class DurableLogConfig {
     @Getter
     private Duration startRetryDelay;
 
+    /**
+     * The DurableDataLog write latency that the OperationProcessor should aim for when deciding how large its DataFrames
+     * should be and how long to wait to aggregate Operations into them. A value of {@link Duration#ZERO} disables this
+     * and causes DataFrames to always be filled up to the DurableDataLog's maximum write length.
+     */
+    @Getter
+    private final Duration groupCommitTargetLatency;
+
+    /**
+     * On average, one in this many Operations will have its per-stage latency breakdown tracked by the OperationProcessor.
+     * A value of 0 disables this tracking.
+     */
+    @Getter
+    private final int latencySamplingInterval;
+
     //endregion
 
     //region Constructor
@@ -80,6 +97,15 @@ public class DurableLogConfig {
             throw new ConfigurationException(String.format("Property '%s' must be a positive integer.", START_RETRY_DELAY_MILLIS));
         }
         this.startRetryDelay = Duration.ofMillis(startRetryDelayMillis);
+        int groupCommitTargetLatencyMillis = properties.getInt(GROUP_COMMIT_TARGET_LATENCY_MILLIS);
+        if (groupCommitTargetLatencyMillis < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", GROUP_COMMIT_TARGET_LATENCY_MILLIS));
+        }
+        this.groupCommitTargetLatency = Duration.ofMillis(groupCommitTargetLatencyMillis);
+        this.latencySamplingInterval = properties.getInt(LATENCY_SAMPLING_INTERVAL);
+        if (this.latencySamplingInterval < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", LATENCY_SAMPLING_INTERVAL));
+        }
     }
 
     /**
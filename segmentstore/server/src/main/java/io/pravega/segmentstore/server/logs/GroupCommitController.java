@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.common.MathHelpers;
+import io.pravega.segmentstore.storage.QueueStats;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.NonNull;
+
+/**
+ * Decides how large the DataFrames written to the DurableDataLog should be and how long the OperationProcessor should
+ * wait (linger) in order to aggregate more Operations into them, with the goal of keeping the DurableDataLog's write
+ * latency at or below a target value.
+ *
+ * The DurableDataLog's write latency is tracked as an exponentially weighted moving average of the time it takes for
+ * each DataFrame to be acknowledged.
+ * - If it is above target, the target DataFrame length is cut in half (smaller writes complete faster and do not hold
+ * up the ones queued behind them as much) and there will be no lingering.
+ * - If it is at or below target, the target DataFrame length is increased by a fixed step (up to the DurableDataLog's
+ * maximum write length). If there are writes in flight, we may also linger for up to however much latency headroom we
+ * have left, as we would be waiting for those writes to complete anyway.
+ */
+@ThreadSafe
+class GroupCommitController {
+    //region Members
+
+    /**
+     * The weight of each new write latency sample in the moving average.
+     */
+    @VisibleForTesting
+    static final double LATENCY_SMOOTHING_FACTOR = 0.2;
+    /**
+     * The target DataFrame length is never decreased below 1/Nth of the maximum write length, and it is increased by
+     * this same amount every time the write latency is at or below target.
+     */
+    @VisibleForTesting
+    static final int FRAME_LENGTH_STEP_DIVISOR = 16;
+    private final int targetLatencyMillis;
+    private final int maxFrameLength;
+    private final int frameLengthStep;
+    private final Supplier<QueueStats> getQueueStats;
+    private volatile double writeLatencyMillis;
+    private volatile int targetFrameLength;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the GroupCommitController class.
+     *
+     * @param targetLatencyMillis The target DurableDataLog write latency, in milliseconds.
+     * @param maxFrameLength      The maximum length of a DataFrame (generally the DurableDataLog's maximum write length).
+     * @param getQueueStats       A Supplier that, when invoked, returns a QueueStats object representing the most recent
+     *                            statistics about the DurableDataLog write queue.
+     */
+    GroupCommitController(int targetLatencyMillis, int maxFrameLength, @NonNull Supplier<QueueStats> getQueueStats) {
+        Preconditions.checkArgument(targetLatencyMillis > 0, "targetLatencyMillis must be a positive integer.");
+        Preconditions.checkArgument(maxFrameLength > 0, "maxFrameLength must be a positive integer.");
+        this.targetLatencyMillis = targetLatencyMillis;
+        this.maxFrameLength = maxFrameLength;
+        this.frameLengthStep = Math.max(1, maxFrameLength / FRAME_LENGTH_STEP_DIVISOR);
+        this.getQueueStats = getQueueStats;
+        this.writeLatencyMillis = 0;
+        this.targetFrameLength = maxFrameLength;
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Records the amount of time it took for a DataFrame to be written to the DurableDataLog and adjusts the target
+     * DataFrame length accordingly.
+     *
+     * @param elapsedMillis The time elapsed, in milliseconds, between the DataFrame being sealed and it being acknowledged.
+     */
+    synchronized void recordWrite(long elapsedMillis) {
+        this.writeLatencyMillis = LATENCY_SMOOTHING_FACTOR * elapsedMillis + (1 - LATENCY_SMOOTHING_FACTOR) * this.writeLatencyMillis;
+        if (this.writeLatencyMillis > this.targetLatencyMillis) {
+            this.targetFrameLength = Math.max(this.frameLengthStep, this.targetFrameLength / 2);
+        } else {
+            this.targetFrameLength = Math.min(this.maxFrameLength, this.targetFrameLength + this.frameLengthStep);
+        }
+    }
+
+    /**
+     * Gets the moving average of the DurableDataLog write latency, in milliseconds.
+     *
+     * @return The write latency.
+     */
+    double getWriteLatencyMillis() {
+        return this.writeLatencyMillis;
+    }
+
+    /**
+     * Gets the length, in bytes, at which a DataFrame should be sealed and written to the DurableDataLog.
+     *
+     * @return The target DataFrame length.
+     */
+    int getTargetFrameLength() {
+        return this.targetFrameLength;
+    }
+
+    /**
+     * Calculates the amount of time, in milliseconds, to wait before processing more Operations so that they may be
+     * aggregated into larger DataFrames. This never exceeds {@link ThrottlerCalculator#MAX_BATCHING_DELAY_MILLIS}.
+     *
+     * @return The linger time.
+     */
+    int getLingerMillis() {
+        int headroomMillis = (int) (this.targetLatencyMillis - this.writeLatencyMillis);
+        if (headroomMillis <= 0) {
+            // We are already above the target latency; any wait would only make it worse.
+            return 0;
+        }
+
+        QueueStats stats = this.getQueueStats.get();
+        if (stats.getSize() == 0) {
+            // Nothing in flight, so there is nothing we could piggyback on. Waiting would only add latency.
+            return 0;
+        }
+
+        // The higher the average fill rate, the more efficient use we make of the available capacity. As such, for high
+        // fill ratios we don't want to wait too long.
+        double fillRatioAdj = MathHelpers.minMax(1 - stats.getAverageItemFillRatio(), 0, 1);
+        int lingerMillis = (int) Math.round(Math.min(headroomMillis, stats.getExpectedProcessingTimeMillis()) * fillRatioAdj);
+        return Math.min(lingerMillis, ThrottlerCalculator.MAX_BATCHING_DELAY_MILLIS);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WriteLatency = %.1fms, TargetLatency = %dms, TargetFrameLength = %d",
+                this.writeLatencyMillis, this.targetLatencyMillis, this.targetFrameLength);
+    }
+
+    //endregion
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
+import io.pravega.segmentstore.server.logs.operations.CompletableOperation;
+import io.pravega.segmentstore.server.logs.operations.OperationLatencyBreakdown;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Samples {@link CompletableOperation}s processed by the {@link OperationProcessor}, reports their per-stage latencies
+ * and keeps track of the slowest ones that completed recently.
+ *
+ * Only one in every {@link #getSamplingInterval()} Operations (on average) is sampled; the others are not touched at all,
+ * which keeps the overhead of this class proportional to the sampling rate.
+ */
+@Slf4j
+@ThreadSafe
+class OperationLatencyTracker {
+    //region Members
+
+    @VisibleForTesting
+    static final int SLOWEST_OPERATION_COUNT = 10;
+    @VisibleForTesting
+    static final long SLOWEST_OPERATION_WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final Comparator<OperationLatencyBreakdown> TOTAL_LATENCY_COMPARATOR =
+            Comparator.comparingLong(OperationLatencyBreakdown::getTotalNanos);
+    private static final OperationLatencyBreakdown.Stage[] COMPLETION_STAGES = {
+            OperationLatencyBreakdown.Stage.QUEUE, OperationLatencyBreakdown.Stage.FRAMING, OperationLatencyBreakdown.Stage.BATCHING,
+            OperationLatencyBreakdown.Stage.DURABLE_WRITE, OperationLatencyBreakdown.Stage.COMPLETION};
+
+    private final String traceObjectId;
+    private final int samplingInterval;
+    private final SegmentStoreMetrics.OperationProcessor metrics;
+    private final LongSupplier nanoTime;
+    @GuardedBy("slowest")
+    private final PriorityQueue<OperationLatencyBreakdown> slowest;
+    @GuardedBy("slowest")
+    private List<OperationLatencyBreakdown> previousSlowest;
+    @GuardedBy("slowest")
+    private long windowStartNanos;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the OperationLatencyTracker class.
+     *
+     * @param containerId      The Id of the Container the Operations belong to.
+     * @param samplingInterval On average, one in this many Operations will be sampled. If 0, no Operation will be sampled.
+     * @param metrics          The OperationProcessor metrics to report stage latencies to.
+     */
+    OperationLatencyTracker(int containerId, int samplingInterval, SegmentStoreMetrics.OperationProcessor metrics) {
+        this(containerId, samplingInterval, metrics, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    OperationLatencyTracker(int containerId, int samplingInterval, SegmentStoreMetrics.OperationProcessor metrics, LongSupplier nanoTime) {
+        Preconditions.checkArgument(samplingInterval >= 0, "samplingInterval must be a non-negative number.");
+        this.traceObjectId = String.format("OperationLatencyTracker[%d]", containerId);
+        this.samplingInterval = samplingInterval;
+        this.metrics = Preconditions.checkNotNull(metrics, "metrics");
+        this.nanoTime = nanoTime;
+        this.slowest = new PriorityQueue<>(SLOWEST_OPERATION_COUNT + 1, TOTAL_LATENCY_COMPARATOR);
+        this.previousSlowest = new ArrayList<>();
+        this.windowStartNanos = nanoTime.getAsLong();
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Gets a value indicating the average number of Operations between two sampled ones.
+     *
+     * @return The sampling interval, or 0 if sampling is disabled.
+     */
+    int getSamplingInterval() {
+        return this.samplingInterval;
+    }
+
+    /**
+     * Decides whether the given Operation should be sampled and, if so, attaches an {@link OperationLatencyBreakdown}
+     * to it. This should be invoked right before the Operation is queued up.
+     *
+     * @param operation The Operation.
+     */
+    void sample(CompletableOperation operation) {
+        if (this.samplingInterval > 0 && ThreadLocalRandom.current().nextInt(this.samplingInterval) == 0) {
+            operation.setLatencyBreakdown(new OperationLatencyBreakdown());
+        }
+    }
+
+    /**
+     * Records the fact that the given Operation has completed successfully and reports its latency breakdown.
+     *
+     * @param operation The Operation. Nothing will be done if it was not sampled.
+     */
+    void completed(CompletableOperation operation) {
+        OperationLatencyBreakdown b = operation.getLatencyBreakdown();
+        if (b == null) {
+            return;
+        }
+
+        b.stageEnded(OperationLatencyBreakdown.Stage.COMPLETION);
+        for (OperationLatencyBreakdown.Stage stage : COMPLETION_STAGES) {
+            this.metrics.operationStageLatency(stage, b.getStageNanos(stage));
+        }
+
+        recordSlowest(b, operation);
+    }
+
+    /**
+     * Records the fact that the given Operation has been applied to the in-memory state and reports how long that took.
+     *
+     * @param operation The Operation. Nothing will be done if it was not sampled.
+     */
+    void memoryCommitted(CompletableOperation operation) {
+        OperationLatencyBreakdown b = operation.getLatencyBreakdown();
+        if (b != null) {
+            b.stageEnded(OperationLatencyBreakdown.Stage.MEMORY_COMMIT);
+            this.metrics.operationStageLatency(OperationLatencyBreakdown.Stage.MEMORY_COMMIT, b.getStageNanos(OperationLatencyBreakdown.Stage.MEMORY_COMMIT));
+        }
+    }
+
+    /**
+     * Gets the slowest sampled Operations (by total latency) that completed during the current and previous tracking
+     * windows, in descending order of their total latency.
+     *
+     * @return A List containing at most {@link #SLOWEST_OPERATION_COUNT} items.
+     */
+    List<OperationLatencyBreakdown> getSlowestOperations() {
+        List<OperationLatencyBreakdown> result;
+        synchronized (this.slowest) {
+            rollWindowIfNeeded();
+            result = new ArrayList<>(this.slowest);
+            result.addAll(this.previousSlowest);
+        }
+
+        result.sort(TOTAL_LATENCY_COMPARATOR.reversed());
+        return result.size() <= SLOWEST_OPERATION_COUNT ? result : new ArrayList<>(result.subList(0, SLOWEST_OPERATION_COUNT));
+    }
+
+    private void recordSlowest(OperationLatencyBreakdown b, CompletableOperation operation) {
+        synchronized (this.slowest) {
+            rollWindowIfNeeded();
+            if (this.slowest.size() >= SLOWEST_OPERATION_COUNT
+                    && TOTAL_LATENCY_COMPARATOR.compare(b, this.slowest.peek()) <= 0) {
+                // Not slow enough.
+                return;
+            }
+
+            b.setDescription(operation.getOperation().toString());
+            this.slowest.add(b);
+            if (this.slowest.size() > SLOWEST_OPERATION_COUNT) {
+                this.slowest.poll();
+            }
+        }
+    }
+
+    @GuardedBy("slowest")
+    private void rollWindowIfNeeded() {
+        long now = this.nanoTime.getAsLong();
+        if (now - this.windowStartNanos < SLOWEST_OPERATION_WINDOW_NANOS) {
+            return;
+        }
+
+        // If nothing was recorded for more than a whole window, the current window's Operations are no longer recent.
+        this.previousSlowest = now - this.windowStartNanos < 2 * SLOWEST_OPERATION_WINDOW_NANOS
+                ? new ArrayList<>(this.slowest)
+                : new ArrayList<>();
+        this.slowest.clear();
+        this.windowStartNanos = now;
+        if (log.isDebugEnabled() && !this.previousSlowest.isEmpty()) {
+            List<OperationLatencyBreakdown> toLog = new ArrayList<>(this.previousSlowest);
+            toLog.sort(TOTAL_LATENCY_COMPARATOR.reversed());
+            toLog.forEach(b -> log.debug("{}: Slow Operation {}.", this.traceObjectId, b));
+        }
+    }
+
+    //endregion
+}
@@ -9,6 +9,7 @@
  */
 package io.pravega.segmentstore.server.logs;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
 import io.pravega.common.ObjectClosedException;
@@ -24,6 +25,7 @@ import io.pravega.segmentstore.server.SegmentStoreMetrics;
 import io.pravega.segmentstore.server.UpdateableContainerMetadata;
 import io.pravega.segmentstore.server.logs.operations.CompletableOperation;
 import io.pravega.segmentstore.server.logs.operations.Operation;
+import io.pravega.segmentstore.server.logs.operations.OperationLatencyBreakdown;
 import io.pravega.segmentstore.server.logs.operations.OperationSerializer;
 import io.pravega.segmentstore.storage.DataLogWriterNotPrimaryException;
 import io.pravega.segmentstore.storage.DurableDataLog;
@@ -72,13 +74,16 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
     private final SegmentStoreMetrics.OperationProcessor metrics;
     private final Throttler throttler;
     private final CacheUtilizationProvider cacheUtilizationProvider;
+    private final GroupCommitController groupCommitController;
+    private final OperationLatencyTracker latencyTracker;
 
     //endregion
 
     //region Constructor
 
     /**
-     * Creates a new instance of the OperationProcessor class.
+     * Creates a new instance of the OperationProcessor class, using the default group commit target latency and latency
+     * sampling interval.
      *
      * @param metadata         The ContainerMetadata for the Container to process operations for.
      * @param stateUpdater     A MemoryStateUpdater that is used to update in-memory structures upon successful Operation committal.
@@ -87,7 +92,31 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
      * @param executor         An Executor to use for async operations.
      * @throws NullPointerException If any of the arguments are null.
      */
+    @VisibleForTesting
     OperationProcessor(UpdateableContainerMetadata metadata, MemoryStateUpdater stateUpdater, DurableDataLog durableDataLog, MetadataCheckpointPolicy checkpointPolicy, ScheduledExecutorService executor) {
+        this(metadata, stateUpdater, durableDataLog, checkpointPolicy,
+                Duration.ofMillis(DurableLogConfig.GROUP_COMMIT_TARGET_LATENCY_MILLIS.getDefaultValue()),
+                DurableLogConfig.LATENCY_SAMPLING_INTERVAL.getDefaultValue(), executor);
+    }
+
+    /**
+     * Creates a new instance of the OperationProcessor class.
+     *
+     * @param metadata                 The ContainerMetadata for the Container to process operations for.
+     * @param stateUpdater             A MemoryStateUpdater that is used to update in-memory structures upon successful Operation committal.
+     * @param durableDataLog           The DataFrameLog to write DataFrames to.
+     * @param checkpointPolicy         The Checkpoint Policy for Metadata.
+     * @param groupCommitTargetLatency The DurableDataLog write latency to aim for when sizing DataFrames and batching
+     *                                 Operations. If {@link Duration#ZERO}, DataFrames will always be filled up to the
+     *                                 DurableDataLog's maximum write length.
+     * @param latencySamplingInterval  On average, one in this many Operations will have its per-stage latency tracked.
+     *                                 If 0, no latency breakdown will be tracked.
+     * @param executor                 An Executor to use for async operations.
+     * @throws NullPointerException If any of the arguments are null.
+     */
+    OperationProcessor(UpdateableContainerMetadata metadata, MemoryStateUpdater stateUpdater, DurableDataLog durableDataLog,
+                       MetadataCheckpointPolicy checkpointPolicy, Duration groupCommitTargetLatency, int latencySamplingInterval,
+                       ScheduledExecutorService executor) {
         super(String.format("OperationProcessor[%d]", metadata.getContainerId()), executor);
         Preconditions.checkNotNull(durableDataLog, "durableDataLog");
         this.metadata = metadata;
@@ -96,16 +125,28 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         this.operationQueue = new BlockingDrainingQueue<>();
         this.commitQueue = new BlockingDrainingQueue<>();
         this.state = new QueueProcessingState(checkpointPolicy);
-        val args = new DataFrameBuilder.Args(this.state::frameSealed, this.state::commit, this.state::fail, this.executor);
-        this.dataFrameBuilder = new DataFrameBuilder<>(durableDataLog, OperationSerializer.DEFAULT, args);
         this.metrics = new SegmentStoreMetrics.OperationProcessor(this.metadata.getContainerId());
+        this.latencyTracker = new OperationLatencyTracker(this.metadata.getContainerId(), latencySamplingInterval, this.metrics);
         this.cacheUtilizationProvider = stateUpdater.getCacheUtilizationProvider();
-        val throttlerCalculator = ThrottlerCalculator
+        val throttlerBuilder = ThrottlerCalculator
                 .builder()
                 .cacheThrottler(this.cacheUtilizationProvider::getCacheUtilization, this.cacheUtilizationProvider.getCacheTargetUtilization(), this.cacheUtilizationProvider.getCacheMaxUtilization())
-                .batchingThrottler(durableDataLog::getQueueStatistics)
-                .durableDataLogThrottler(durableDataLog.getWriteSettings(), durableDataLog::getQueueStatistics)
-                .build();
+                .durableDataLogThrottler(durableDataLog.getWriteSettings(), durableDataLog::getQueueStatistics);
+        DataFrameBuilder.Args args;
+        if (groupCommitTargetLatency.isZero()) {
+            this.groupCommitController = null;
+            args = new DataFrameBuilder.Args(this.state::frameSealed, this.state::commit, this.state::fail, this.executor);
+            throttlerBuilder.batchingThrottler(durableDataLog::getQueueStatistics);
+        } else {
+            this.groupCommitController = new GroupCommitController((int) groupCommitTargetLatency.toMillis(),
+                    durableDataLog.getWriteSettings().getMaxWriteLength(), durableDataLog::getQueueStatistics);
+            args = new DataFrameBuilder.Args(this.state::frameSealed, this.state::commit, this.state::fail, this.executor,
+                    this.groupCommitController::getTargetFrameLength);
+            throttlerBuilder.groupCommitThrottler(this.groupCommitController);
+        }
+
+        this.dataFrameBuilder = new DataFrameBuilder<>(durableDataLog, OperationSerializer.DEFAULT, args);
+        val throttlerCalculator = throttlerBuilder.build();
         this.throttler = new Throttler(this.metadata.getContainerId(), throttlerCalculator, executor, this.metrics);
         this.cacheUtilizationProvider.registerCleanupListener(this.throttler);
         durableDataLog.registerQueueStateChangeListener(this.throttler);
@@ -223,7 +264,9 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         } else {
             log.debug("{}: process {}.", this.traceObjectId, operation);
             try {
-                this.operationQueue.add(new CompletableOperation(operation, result));
+                CompletableOperation o = new CompletableOperation(operation, result);
+                this.latencyTracker.sample(o);
+                this.operationQueue.add(o);
             } catch (Throwable e) {
                 if (Exceptions.mustRethrow(e)) {
                     throw e;
@@ -236,6 +279,16 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         return result;
     }
 
+    /**
+     * Gets the slowest recently completed Operations among those sampled for latency tracking, along with the time each
+     * of them spent in each processing stage.
+     *
+     * @return A List of {@link OperationLatencyBreakdown}s, in descending order of their total latency.
+     */
+    List<OperationLatencyBreakdown> getSlowestOperations() {
+        return this.latencyTracker.getSlowestOperations();
+    }
+
     /**
      * Gets the maximum number of Operations to fetch from the operation queue. This is calculated based on the estimated
      * cache insertion capacity and its goal is to reduce the number of operations we have in flight as we near the
@@ -273,8 +326,10 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
                 while (!operations.isEmpty()) {
                     CompletableOperation o = operations.poll();
                     this.metrics.operationQueueWaitTime(o.getTimer().getElapsedMillis());
+                    stageEnded(o, OperationLatencyBreakdown.Stage.QUEUE);
                     try {
                         processOperation(o);
+                        stageEnded(o, OperationLatencyBreakdown.Stage.FRAMING);
                         this.state.addPending(o);
                         count++;
                     } catch (Throwable ex) {
@@ -361,6 +416,13 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         log.trace("{}: DataFrameBuilder.Append {}.", this.traceObjectId, entry);
     }
 
+    private static void stageEnded(CompletableOperation operation, OperationLatencyBreakdown.Stage stage) {
+        OperationLatencyBreakdown b = operation.getLatencyBreakdown();
+        if (b != null) {
+            b.stageEnded(stage);
+        }
+    }
+
     /**
      * Closes the Operation Queue and fails all Operations in it with the given exception.
      *
@@ -411,9 +473,15 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         try {
             do {
                 Timer memoryCommitTimer = new Timer();
-                this.stateUpdater.process(items.stream().flatMap(List::stream).map(CompletableOperation::getOperation).iterator(),
+                List<CompletableOperation> sampled = new ArrayList<>();
+                this.stateUpdater.process(items.stream().flatMap(List::stream).peek(o -> {
+                            if (o.getLatencyBreakdown() != null) {
+                                sampled.add(o);
+                            }
+                        }).map(CompletableOperation::getOperation).iterator(),
                         this.state::notifyOperationCommitted);
                 this.metrics.memoryCommit(items.size(), memoryCommitTimer.getElapsed());
+                sampled.forEach(this.latencyTracker::memoryCommitted);
                 items = this.commitQueue.poll(MAX_COMMIT_QUEUE_SIZE);
             } while (!items.isEmpty());
         } catch (Throwable ex) {
@@ -442,6 +510,10 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         @GuardedBy("stateLock")
         private ArrayList<CompletableOperation> nextFrameOperations;
         @GuardedBy("stateLock")
+        private ArrayList<CompletableOperation> nextFrameSampledOperations;
+        @GuardedBy("stateLock")
+        private final ArrayDeque<CompletableOperation> sampledOperationsInFlight;
+        @GuardedBy("stateLock")
         private int pendingOperationCount;
         private final MetadataCheckpointPolicy checkpointPolicy;
         @GuardedBy("stateLock")
@@ -452,6 +524,8 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         private QueueProcessingState(MetadataCheckpointPolicy checkpointPolicy) {
             this.checkpointPolicy = Preconditions.checkNotNull(checkpointPolicy, "checkpointPolicy");
             this.nextFrameOperations = new ArrayList<>();
+            this.nextFrameSampledOperations = new ArrayList<>();
+            this.sampledOperationsInFlight = new ArrayDeque<>();
             this.metadataTransactions = new ArrayDeque<>();
             this.highestCommittedDataFrame = -1;
             this.pendingOperationCount = 0;
@@ -466,6 +540,10 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
             cacheUtilizationProvider.adjustPendingBytes(operation.getOperation().getCacheLength());
             synchronized (stateLock) {
                 this.nextFrameOperations.add(operation);
+                if (operation.getLatencyBreakdown() != null) {
+                    this.nextFrameSampledOperations.add(operation);
+                }
+
                 this.pendingOperationCount++;
             }
         }
@@ -514,6 +592,12 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
                 commitArgs.setMetadataTransactionId(OperationProcessor.this.metadataUpdater.sealTransaction());
                 commitArgs.setOperations(Collections.unmodifiableList(this.nextFrameOperations));
                 this.nextFrameOperations = new ArrayList<>();
+                if (!this.nextFrameSampledOperations.isEmpty()) {
+                    this.nextFrameSampledOperations.forEach(o -> stageEnded(o, OperationLatencyBreakdown.Stage.BATCHING));
+                    this.sampledOperationsInFlight.addAll(this.nextFrameSampledOperations);
+                    this.nextFrameSampledOperations.clear();
+                }
+
                 this.metadataTransactions.addLast(commitArgs);
             }
         }
@@ -532,6 +616,11 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         void commit(DataFrameBuilder.CommitArgs commitArgs) {
             assert commitArgs.getMetadataTransactionId() >= 0 : "DataFrameBuilder.CommitArgs does not have a key set";
             log.debug("{}: CommitSuccess ({}).", traceObjectId, commitArgs);
+            if (groupCommitController != null) {
+                groupCommitController.recordWrite(commitArgs.getTimer().getElapsedMillis());
+                metrics.groupCommit(groupCommitController.getTargetFrameLength(), groupCommitController.getLingerMillis());
+            }
+
             Timer timer = new Timer();
 
             List<List<CompletableOperation>> toAck = null;
@@ -556,6 +645,7 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
 
                     // Collect operations to commit.
                     toAck = collectCompletionCandidates(commitArgs);
+                    recordDurableWrite(toAck);
 
                     // Commit metadata updates.
                     OperationProcessor.this.metadataUpdater.commit(commitArgs.getMetadataTransactionId());
@@ -567,7 +657,10 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
                 }
             } finally {
                 if (toAck != null) {
-                    toAck.stream().flatMap(Collection::stream).forEach(CompletableOperation::complete);
+                    toAck.stream().flatMap(Collection::stream).forEach(o -> {
+                        o.complete();
+                        latencyTracker.completed(o);
+                    });
                     metrics.operationsCompleted(toAck, timer.getElapsed());
                 }
                 this.checkpointPolicy.recordCommit(commitArgs.getDataFrameLength());
@@ -662,6 +755,29 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
             return toAck;
         }
 
+        /**
+         * Records the end of the {@link OperationLatencyBreakdown.Stage#DURABLE_WRITE} stage for those sampled Operations
+         * that are about to be completed. This must be done before they are handed off to the MemoryStateUpdater, which
+         * measures its own stage from this point on.
+         *
+         * @param toAck The Operations that are about to be completed, as returned by {@link #collectCompletionCandidates}.
+         */
+        @GuardedBy("stateLock")
+        private void recordDurableWrite(List<List<CompletableOperation>> toAck) {
+            if (this.sampledOperationsInFlight.isEmpty() || toAck.isEmpty()) {
+                return;
+            }
+
+            List<CompletableOperation> lastFrame = toAck.get(toAck.size() - 1);
+            long lastSequenceNumber = lastFrame.get(lastFrame.size() - 1).getOperation().getSequenceNumber();
+            long durableNanos = System.nanoTime();
+            while (!this.sampledOperationsInFlight.isEmpty()
+                    && this.sampledOperationsInFlight.peekFirst().getOperation().getSequenceNumber() <= lastSequenceNumber) {
+                this.sampledOperationsInFlight.pollFirst().getLatencyBreakdown()
+                        .stageEnded(OperationLatencyBreakdown.Stage.DURABLE_WRITE, durableNanos);
+            }
+        }
+
         /**
          * Rolls back any metadata that is affected by a failure for the given commit args and collects all pending
          * CompletableOperations that are affected. While the metadata is rolled back, the operations themselves
@@ -691,6 +807,8 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
 
             candidates.addAll(this.nextFrameOperations);
             this.nextFrameOperations.clear();
+            this.nextFrameSampledOperations.clear();
+            this.sampledOperationsInFlight.clear();
             return candidates;
         }
     }
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.util.CloseableIterator;
+import io.pravega.common.util.SequencedItemList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Wraps a {@link DataFrameReader} (or any other iterator of {@link DataFrameRecord}s) and fetches its records on a
+ * separate thread, ahead of the consumer. This allows the reading and decoding of DataFrames to proceed in parallel with
+ * the processing of the records that have already been decoded.
+ *
+ * Records are returned in the same order as in the wrapped iterator. At most a fixed number of records will be decoded
+ * ahead of the consumer. Any exception thrown by the wrapped iterator will be thrown by {@link #getNext()} after all the
+ * records decoded before it have been returned.
+ *
+ * The wrapped iterator is only accessed from a dedicated background thread; it is closed (on that thread) when it has
+ * no more records, when it throws an exception or when this instance is closed. A dedicated thread is used (as opposed
+ * to a shared Executor) because {@link #getNext()} blocks until the record is fetched; if the consumers were to occupy
+ * all the threads of a shared Executor (i.e., many Containers recovering at once), then no fetch would ever run.
+ *
+ * @param <T> Type of the items in the DataFrameRecords.
+ */
+@Slf4j
+@ThreadSafe
+class PipelinedDataFrameReader<T extends SequencedItemList.Element> implements CloseableIterator<DataFrameRecord<T>, Exception> {
+    //region Members
+
+    private static final long QUEUE_POLL_TIMEOUT_MILLIS = 100;
+    private final CloseableIterator<DataFrameRecord<T>, Exception> source;
+    private final BlockingQueue<Result<T>> queue;
+    private final AtomicBoolean closed;
+    private final CompletableFuture<Void> fetchTask;
+    private final String traceObjectId;
+    private volatile boolean endReached;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the PipelinedDataFrameReader class. This will immediately begin fetching records from
+     * the given source.
+     *
+     * @param source      The iterator to fetch records from. This will be closed when this instance is closed.
+     * @param capacity    The maximum number of records to fetch ahead of the consumer.
+     * @param containerId The Container Id (used for logging and for naming the fetch thread).
+     */
+    PipelinedDataFrameReader(@NonNull CloseableIterator<DataFrameRecord<T>, Exception> source, int capacity, int containerId) {
+        Preconditions.checkArgument(capacity > 0, "capacity must be a positive integer.");
+        this.source = source;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.closed = new AtomicBoolean();
+        this.traceObjectId = String.format("PipelinedDataFrameReader[%d]", containerId);
+        this.fetchTask = new CompletableFuture<>();
+        ExecutorServiceHelpers.getThreadFactory(String.format("recovery-fetch-%d", containerId))
+                              .newThread(this::fetchAll)
+                              .start();
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true)) {
+            // Unblock the fetcher (if it's waiting for room in the queue) and wait for it to close the source.
+            this.queue.clear();
+            this.fetchTask.join();
+        }
+    }
+
+    //endregion
+
+    //region CloseableIterator Implementation
+
+    /**
+     * Returns the next {@link DataFrameRecord}, waiting for it to be fetched if necessary.
+     *
+     * @return The next {@link DataFrameRecord}, or null if there are no more records.
+     * @throws Exception If the wrapped iterator threw an Exception while fetching this record.
+     */
+    @Override
+    public DataFrameRecord<T> getNext() throws Exception {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        if (this.endReached) {
+            return null;
+        }
+
+        Result<T> result = Exceptions.handleInterruptedCall(this.queue::take);
+        if (result.record == null) {
+            this.endReached = true;
+        }
+
+        if (result.failure != null) {
+            throw Exceptions.sneakyThrow(result.failure);
+        }
+
+        return result.record;
+    }
+
+    //endregion
+
+    //region Fetching
+
+    private void fetchAll() {
+        try {
+            DataFrameRecord<T> record;
+            do {
+                record = this.source.getNext();
+            } while (enqueue(new Result<>(record, null)) && record != null);
+        } catch (Throwable ex) {
+            if (!this.closed.get()) {
+                log.debug("{}: Fetching stopped due to exception.", this.traceObjectId, ex);
+            }
+
+            enqueue(new Result<>(null, ex));
+        } finally {
+            try {
+                this.source.close();
+            } finally {
+                this.fetchTask.complete(null);
+            }
+        }
+    }
+
+    private boolean enqueue(Result<T> result) {
+        try {
+            while (!this.closed.get()) {
+                if (this.queue.offer(result, QUEUE_POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        return false;
+    }
+
+    //endregion
+
+    //region Result
+
+    @RequiredArgsConstructor
+    private static class Result<T extends SequencedItemList.Element> {
+        final DataFrameRecord<T> record;
+        final Throwable failure;
+    }
+
+    //endregion
+}
@@ -12,6 +12,7 @@ package io.pravega.segmentstore.server.logs;
 import com.google.common.base.Preconditions;
 import io.pravega.common.LoggerHelpers;
 import io.pravega.common.Timer;
+import io.pravega.common.util.CloseableIterator;
 import io.pravega.segmentstore.contracts.ContainerException;
 import io.pravega.segmentstore.contracts.StreamSegmentException;
 import io.pravega.segmentstore.server.DataCorruptionException;
@@ -21,8 +22,11 @@ import io.pravega.segmentstore.server.logs.operations.MetadataCheckpointOperatio
 import io.pravega.segmentstore.server.logs.operations.Operation;
 import io.pravega.segmentstore.server.logs.operations.OperationSerializer;
 import io.pravega.segmentstore.storage.DurableDataLog;
+import io.pravega.segmentstore.storage.DurableDataLogException;
 import io.pravega.segmentstore.storage.LogAddress;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 
 /**
  * Helper class (for the DurableLog) that is used to execute the recovery process.
@@ -31,9 +35,14 @@ import lombok.extern.slf4j.Slf4j;
 class RecoveryProcessor {
     //region Members
 
+    /**
+     * Maximum number of Operations to decode ahead of the ones being applied, when pipelining is enabled.
+     */
+    private static final int PIPELINE_CAPACITY = 64;
     private final UpdateableContainerMetadata metadata;
     private final DurableDataLog durableDataLog;
     private final MemoryStateUpdater stateUpdater;
+    private final boolean pipelined;
     private final String traceObjectId;
 
     //endregion
@@ -41,16 +50,32 @@ class RecoveryProcessor {
     //region Constructor
 
     /**
-     * Creates a new instance of the RecoveryProcessor class.
+     * Creates a new instance of the RecoveryProcessor class which reads, decodes and applies Operations sequentially,
+     * on the thread that invokes {@link #performRecovery()}.
      *
      * @param metadata         The UpdateableContainerMetadata to use for recovery.
      * @param durableDataLog   The (uninitialized) DurableDataLog to read data from for recovery.
      * @param stateUpdater     A MemoryStateUpdater that can be used to apply the recovered operations.
      */
     RecoveryProcessor(UpdateableContainerMetadata metadata, DurableDataLog durableDataLog, MemoryStateUpdater stateUpdater) {
+        this(metadata, durableDataLog, stateUpdater, false);
+    }
+
+    /**
+     * Creates a new instance of the RecoveryProcessor class.
+     *
+     * @param metadata         The UpdateableContainerMetadata to use for recovery.
+     * @param durableDataLog   The (uninitialized) DurableDataLog to read data from for recovery.
+     * @param stateUpdater     A MemoryStateUpdater that can be used to apply the recovered operations.
+     * @param pipelined        If true, Operations will be read and decoded from the DurableDataLog on a dedicated thread,
+     *                         in parallel with them being applied (on the thread that invokes {@link #performRecovery()}).
+     *                         If false, Operations will be read, decoded and applied sequentially.
+     */
+    RecoveryProcessor(UpdateableContainerMetadata metadata, DurableDataLog durableDataLog, MemoryStateUpdater stateUpdater, boolean pipelined) {
         this.metadata = Preconditions.checkNotNull(metadata, "metadata");
         this.durableDataLog = Preconditions.checkNotNull(durableDataLog, "durableDataLog");
         this.stateUpdater = Preconditions.checkNotNull(stateUpdater, "stateUpdater");
+        this.pipelined = pipelined;
         this.traceObjectId = String.format("RecoveryProcessor[%s]", this.metadata.getContainerId());
     }
 
@@ -91,12 +116,18 @@ class RecoveryProcessor {
         boolean successfulRecovery = false;
         int recoveredItemCount;
         try {
-            recoveredItemCount = recoverAllOperations(metadataUpdater);
+            RecoveryResult result = recoverAllOperations(metadataUpdater);
+            recoveredItemCount = result.itemCount;
             this.metadata.setContainerEpoch(this.durableDataLog.getEpoch());
             long timeElapsed = timer.getElapsedMillis();
-            log.info("{} Recovery completed. Epoch = {}, Items Recovered = {}, Time = {}ms.", this.traceObjectId,
-                    this.metadata.getContainerEpoch(), recoveredItemCount, timeElapsed);
+            double seconds = Math.max(1, timeElapsed) / 1000.0;
+            double itemsPerSecond = recoveredItemCount / seconds;
+            double mbPerSecond = result.byteCount / seconds / (1024 * 1024);
+            log.info("{} Recovery completed. Epoch = {}, Items Recovered = {}, Bytes Recovered = {}, Time = {}ms, Throughput = {} items/s, {} MB/s.",
+                    this.traceObjectId, this.metadata.getContainerEpoch(), recoveredItemCount, result.byteCount, timeElapsed,
+                    String.format("%.1f", itemsPerSecond), String.format("%.2f", mbPerSecond));
             SegmentStoreMetrics.recoveryCompleted(timeElapsed, this.metadata.getContainerId());
+            SegmentStoreMetrics.recoveryThroughput((long) itemsPerSecond, mbPerSecond, this.metadata.getContainerId());
             successfulRecovery = true;
         } finally {
             // We must exit recovery mode when done, regardless of outcome.
@@ -116,17 +147,18 @@ class RecoveryProcessor {
      * been built up using the Operations up to them).
      *
      * @param metadataUpdater The OperationMetadataUpdater to use for updates.
-     * @return The number of Operations recovered.
+     * @return A RecoveryResult with the number of Operations recovered and their serialization length.
      */
-    private int recoverAllOperations(OperationMetadataUpdater metadataUpdater) throws Exception {
+    private RecoveryResult recoverAllOperations(OperationMetadataUpdater metadataUpdater) throws Exception {
         long traceId = LoggerHelpers.traceEnterWithContext(log, this.traceObjectId, "recoverAllOperations");
         int skippedOperationCount = 0;
         int skippedDataFramesCount = 0;
         int recoveredItemCount = 0;
+        long recoveredByteCount = 0;
 
         // Read all entries from the DataFrameLog and append them to the InMemoryOperationLog.
         // Also update metadata along the way.
-        try (DataFrameReader<Operation> reader = new DataFrameReader<>(this.durableDataLog, OperationSerializer.DEFAULT, this.metadata.getContainerId())) {
+        try (CloseableIterator<DataFrameRecord<Operation>, Exception> reader = createReader()) {
             DataFrameRecord<Operation> dataFrameRecord;
 
             // We can only recover starting from a MetadataCheckpointOperation; find the first one.
@@ -157,6 +189,7 @@ class RecoveryProcessor {
                 recordTruncationMarker(dataFrameRecord);
                 recoverOperation(dataFrameRecord, metadataUpdater);
                 recoveredItemCount++;
+                recoveredByteCount += getSerializationLength(dataFrameRecord);
 
                 // Fetch the next operation.
                 dataFrameRecord = reader.getNext();
@@ -167,7 +200,26 @@ class RecoveryProcessor {
         // This code will only be invoked if we haven't encountered any exceptions during recovery.
         metadataUpdater.commitAll();
         LoggerHelpers.traceLeave(log, this.traceObjectId, "recoverAllOperations", traceId, recoveredItemCount);
-        return recoveredItemCount;
+        return new RecoveryResult(recoveredItemCount, recoveredByteCount);
+    }
+
+    private CloseableIterator<DataFrameRecord<Operation>, Exception> createReader() throws DurableDataLogException {
+        val reader = new DataFrameReader<Operation>(this.durableDataLog, OperationSerializer.DEFAULT, this.metadata.getContainerId());
+        if (!this.pipelined) {
+            return reader;
+        }
+
+        // Read and decode the DataFrames on a separate thread, while we apply the Operations on this one.
+        return new PipelinedDataFrameReader<>(reader, PIPELINE_CAPACITY, this.metadata.getContainerId());
+    }
+
+    private long getSerializationLength(DataFrameRecord<Operation> dataFrameRecord) {
+        long result = 0;
+        for (DataFrameRecord.EntryInfo e : dataFrameRecord.getFrameEntries()) {
+            result += e.getLength();
+        }
+
+        return result;
     }
 
     protected void recoverOperation(DataFrameRecord<Operation> dataFrameRecord, OperationMetadataUpdater metadataUpdater) throws DataCorruptionException {
@@ -207,4 +259,14 @@ class RecoveryProcessor {
     }
 
     //endregion
+
+    //region RecoveryResult
+
+    @RequiredArgsConstructor
+    private static class RecoveryResult {
+        final int itemCount;
+        final long byteCount;
+    }
+
+    //endregion
 }
@@ -227,6 +227,33 @@ class ThrottlerCalculator {
         }
     }
 
+    /**
+     * Calculates the amount of time to wait before processing more operations from the queue in order to aggregate them
+     * into larger writes. This is decided by a {@link GroupCommitController}, which adapts it to the DurableDataLog's
+     * observed write latency.
+     */
+    @RequiredArgsConstructor
+    private static class GroupCommitThrottler extends Throttler {
+        @NonNull
+        private final GroupCommitController groupCommitController;
+
+        @Override
+        boolean isThrottlingRequired() {
+            // Same as BatchingThrottler: there is never an immediate need for throttling due to this reason.
+            return false;
+        }
+
+        @Override
+        int getDelayMillis() {
+            return this.groupCommitController.getLingerMillis();
+        }
+
+        @Override
+        ThrottlerName getName() {
+            return ThrottlerName.GroupCommit;
+        }
+    }
+
     /**
      * Calculates the amount of time to wait before processing more operations from the queue in order to relieve pressure
      * from the DurableDataLog. This is based on static information from the DurableDataLog's {@link WriteSettings} and dynamic
@@ -319,6 +346,17 @@ class ThrottlerCalculator {
             return throttler(new BatchingThrottler(getQueueStats));
         }
 
+        /**
+         * Includes a Batching Throttler whose delay is decided by the given {@link GroupCommitController}. This should be
+         * used instead of {@link #batchingThrottler}.
+         *
+         * @param groupCommitController The {@link GroupCommitController} to use.
+         * @return This builder.
+         */
+        ThrottlerCalculatorBuilder groupCommitThrottler(GroupCommitController groupCommitController) {
+            return throttler(new GroupCommitThrottler(groupCommitController));
+        }
+
         ThrottlerCalculatorBuilder durableDataLogThrottler(WriteSettings writeSettings, Supplier<QueueStats> getQueueStats) {
             return throttler(new DurableDataLogThrottler(writeSettings, getQueueStats));
         }
@@ -376,6 +414,11 @@ class ThrottlerCalculator {
          * Throttling is required in order to aggregate multiple operations together in a single write.
          */
         Batching,
+        /**
+         * Throttling is required in order to aggregate multiple operations together in a single write, as decided by
+         * a {@link GroupCommitController}.
+         */
+        GroupCommit,
         /**
          * Throttling is required due to excessive Cache utilization.
          */
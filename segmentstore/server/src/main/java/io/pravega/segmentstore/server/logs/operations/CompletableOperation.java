@@ -16,6 +16,7 @@ import io.pravega.common.function.Callbacks;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -30,6 +31,12 @@ public class CompletableOperation {
     private final Consumer<Void> successHandler;
     @Getter
     private final Timer timer;
+    /**
+     * Per-stage timestamps for this Operation, if it was sampled for latency tracking, or null otherwise.
+     */
+    @Getter
+    @Setter
+    private OperationLatencyBreakdown latencyBreakdown;
     private boolean done;
 
     //endregion
@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs.operations;
+
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Per-stage timestamps for a {@link CompletableOperation} that has been sampled for latency tracking.
+ *
+ * The stages {@link Stage#QUEUE}, {@link Stage#FRAMING}, {@link Stage#BATCHING}, {@link Stage#DURABLE_WRITE} and
+ * {@link Stage#COMPLETION} follow each other and add up to the latency observed by the caller. {@link Stage#MEMORY_COMMIT}
+ * starts at the same time as {@link Stage#COMPLETION} (when the DurableDataLog acknowledged the write) and runs in parallel
+ * to it, on a different thread.
+ */
+public class OperationLatencyBreakdown {
+    //region Members
+
+    private final long startNanos;
+    private final long[] stageEndNanos;
+    /**
+     * A description of the Operation, only set for those Operations that need to be reported individually.
+     */
+    @Getter
+    @Setter
+    private volatile String description;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the OperationLatencyBreakdown class. The first stage begins now.
+     */
+    public OperationLatencyBreakdown() {
+        this.startNanos = System.nanoTime();
+        this.stageEndNanos = new long[Stage.values().length];
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Records the fact that the given stage has just ended.
+     *
+     * @param stage The Stage.
+     */
+    public void stageEnded(Stage stage) {
+        stageEnded(stage, System.nanoTime());
+    }
+
+    /**
+     * Records the fact that the given stage has ended at the given time.
+     *
+     * @param stage    The Stage.
+     * @param endNanos The time (as returned by {@link System#nanoTime()}) when the stage ended.
+     */
+    public void stageEnded(Stage stage, long endNanos) {
+        synchronized (this.stageEndNanos) {
+            this.stageEndNanos[stage.ordinal()] = endNanos;
+        }
+    }
+
+    /**
+     * Gets the amount of time spent in the given stage.
+     *
+     * @param stage The Stage.
+     * @return The elapsed time, in nanoseconds, or 0 if the stage (or the one preceding it) has not yet ended.
+     */
+    public long getStageNanos(Stage stage) {
+        synchronized (this.stageEndNanos) {
+            long end = this.stageEndNanos[stage.ordinal()];
+            long start = stage.previous == null ? this.startNanos : this.stageEndNanos[stage.previous.ordinal()];
+            return end == 0 || start == 0 ? 0 : Math.max(0, end - start);
+        }
+    }
+
+    /**
+     * Gets the latency observed by the caller: the time elapsed from when the Operation was queued up until it was completed.
+     *
+     * @return The elapsed time, in nanoseconds, or 0 if the Operation has not yet been completed.
+     */
+    public long getTotalNanos() {
+        synchronized (this.stageEndNanos) {
+            long end = this.stageEndNanos[Stage.COMPLETION.ordinal()];
+            return end == 0 ? 0 : Math.max(0, end - this.startNanos);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder()
+                .append(this.description)
+                .append(": Total = ").append(toMicros(getTotalNanos())).append("us");
+        for (Stage s : Stage.values()) {
+            sb.append(", ").append(s).append(" = ").append(toMicros(getStageNanos(s))).append("us");
+        }
+
+        return sb.toString();
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    //endregion
+
+    //region Stage
+
+    /**
+     * Processing stages of an Operation. Each stage begins when the previous one ends.
+     */
+    @RequiredArgsConstructor
+    public enum Stage {
+        /**
+         * Waiting in the OperationProcessor's queue, including any throttling delay. Ends when dequeued.
+         */
+        QUEUE(null),
+        /**
+         * Validating the Operation against the Metadata and serializing it. Ends when added to a DataFrame.
+         */
+        FRAMING(QUEUE),
+        /**
+         * Waiting for the DataFrame to be filled up or its linger time to expire. Ends when the DataFrame is sealed.
+         */
+        BATCHING(FRAMING),
+        /**
+         * Writing the DataFrame to the DurableDataLog. Ends when the DurableDataLog acknowledged the write.
+         */
+        DURABLE_WRITE(BATCHING),
+        /**
+         * Committing the Metadata and invoking the Operation's callbacks. Ends when the Operation is completed.
+         */
+        COMPLETION(DURABLE_WRITE),
+        /**
+         * Applying the Operation to the in-memory state (InMemoryLog and ReadIndex). Begins at the same time as
+         * {@link #COMPLETION} and ends when the MemoryStateUpdater has processed the Operation.
+         */
+        MEMORY_COMMIT(DURABLE_WRITE);
+
+        private final Stage previous;
+    }
+
+    //endregion
+}
@@ -21,6 +21,8 @@ public class CacheIndexEntry extends ReadIndexEntry {
     private final int cacheAddress;
     @GuardedBy("this")
     private int length;
+    @GuardedBy("this")
+    private boolean prefetched;
 
     /**
      * Creates a new instance of the ReadIndexEntry class.
@@ -53,6 +55,47 @@ public class CacheIndexEntry extends ReadIndexEntry {
         this.length += delta;
     }
 
+    /**
+     * Gets a value indicating whether this entry has been prefetched from Storage and has not yet been read.
+     *
+     * @return True if prefetched and not yet read, false otherwise.
+     */
+    synchronized boolean isPrefetched() {
+        return this.prefetched;
+    }
+
+    /**
+     * Marks this entry as having been prefetched from Storage.
+     */
+    synchronized void markPrefetched() {
+        this.prefetched = true;
+    }
+
+    /**
+     * Clears the prefetched flag on this entry.
+     *
+     * @return True if the entry was marked as prefetched prior to this call, false otherwise.
+     */
+    synchronized boolean clearPrefetched() {
+        boolean result = this.prefetched;
+        this.prefetched = false;
+        return result;
+    }
+
+    /**
+     * Creates a new {@link CacheIndexEntry} that is a copy of this one, except that it points to a different address in
+     * the CacheStorage. The new entry will have the same offset, length, generation and prefetched flag as this one.
+     *
+     * @param cacheAddress The address of the new entry in the CacheStorage.
+     * @return A new {@link CacheIndexEntry}.
+     */
+    synchronized CacheIndexEntry withCacheAddress(int cacheAddress) {
+        CacheIndexEntry result = new CacheIndexEntry(getStreamSegmentOffset(), this.length, cacheAddress);
+        result.setGeneration(getGeneration());
+        result.prefetched = this.prefetched;
+        return result;
+    }
+
     @Override
     boolean isDataEntry() {
         return true;
@@ -60,6 +103,6 @@ public class CacheIndexEntry extends ReadIndexEntry {
 
     @Override
     public String toString() {
-        return String.format("%s, Address = %d", super.toString(), this.cacheAddress);
+        return String.format("%s, Address = %d%s", super.toString(), this.cacheAddress, isPrefetched() ? ", Prefetched" : "");
     }
 }
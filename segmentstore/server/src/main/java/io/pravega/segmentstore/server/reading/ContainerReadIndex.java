@@ -22,6 +22,7 @@ import io.pravega.segmentstore.server.ContainerMetadata;
 import io.pravega.segmentstore.server.DataCorruptionException;
 import io.pravega.segmentstore.server.ReadIndex;
 import io.pravega.segmentstore.server.SegmentMetadata;
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
 import io.pravega.segmentstore.storage.ReadOnlyStorage;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -65,6 +66,7 @@ public class ContainerReadIndex implements ReadIndex {
     @GuardedBy("lock")
     private ContainerMetadata preRecoveryMetadata;
     private final AtomicBoolean closed;
+    private final SegmentStoreMetrics.ReadIndex metrics;
 
     //endregion
 
@@ -96,6 +98,7 @@ public class ContainerReadIndex implements ReadIndex {
         this.executor = executor;
         this.preRecoveryMetadata = null;
         this.closed = new AtomicBoolean();
+        this.metrics = new SegmentStoreMetrics.ReadIndex(metadata.getContainerId());
     }
 
     //endregion
@@ -106,6 +109,7 @@ public class ContainerReadIndex implements ReadIndex {
     public void close() {
         if (!this.closed.getAndSet(true)) {
             closeAllIndices();
+            this.metrics.close();
             log.info("{}: Closed.", this.traceObjectId);
         }
     }
@@ -373,7 +377,8 @@ public class ContainerReadIndex implements ReadIndex {
                     throw new StreamSegmentNotExistsException(segmentMetadata.getName());
                 }
 
-                index = new StreamSegmentReadIndex(this.config, segmentMetadata, this.cacheManager.getCacheStorage(), this.storage, this.executor, isRecoveryMode());
+                index = new StreamSegmentReadIndex(this.config, segmentMetadata, this.cacheManager.getCacheStorage(),
+                        this.cacheManager.getUtilizationProvider(), this.storage, this.executor, isRecoveryMode(), this.metrics);
                 this.cacheManager.register(index);
                 this.readIndices.put(streamSegmentId, index);
             }
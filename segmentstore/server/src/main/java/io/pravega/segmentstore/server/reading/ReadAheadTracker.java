@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.reading;
+
+import com.google.common.base.Preconditions;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Data;
+
+/**
+ * Detects sequential access patterns for a single Segment and determines which ranges should be prefetched from Storage
+ * in order to stay ahead of a sequential reader.
+ * <p>
+ * A read is considered sequential if it begins at (or shortly after) the offset where the previous read ended, or within
+ * a range that has already been prefetched. Once a number of consecutive sequential reads have been observed, this class
+ * will indicate that up to a fixed number of aligned blocks after the reader's current position should be prefetched. It
+ * keeps track of what has already been prefetched so that the same range is never requested twice.
+ * <p>
+ * Once a sequential pattern has been established, reads that fall entirely within the last few blocks behind the reader
+ * are ignored (they are most likely out-of-order notifications from concurrent reads of the same data).
+ */
+@ThreadSafe
+class ReadAheadTracker {
+    //region Members
+
+    private final int alignment;
+    private final int prefetchCount;
+    private final int triggerCount;
+    @GuardedBy("this")
+    private long lastReadEndOffset;
+    @GuardedBy("this")
+    private long prefetchEndOffset;
+    @GuardedBy("this")
+    private int sequentialReadCount;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the ReadAheadTracker class.
+     *
+     * @param alignment     The Storage Read alignment. All prefetched ranges will end on a multiple of this value (or at
+     *                      the Segment's Storage Length).
+     * @param prefetchCount The maximum number of aligned blocks to prefetch ahead of the reader.
+     * @param triggerCount  The number of consecutive sequential reads required before prefetching begins.
+     */
+    ReadAheadTracker(int alignment, int prefetchCount, int triggerCount) {
+        Preconditions.checkArgument(alignment > 0, "alignment must be a positive integer.");
+        Preconditions.checkArgument(prefetchCount > 0, "prefetchCount must be a positive integer.");
+        Preconditions.checkArgument(triggerCount > 0, "triggerCount must be a positive integer.");
+        this.alignment = alignment;
+        this.prefetchCount = prefetchCount;
+        this.triggerCount = triggerCount;
+        reset();
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Records a read and determines what (if anything) should be prefetched as a result.
+     *
+     * @param offset        The offset where the read began.
+     * @param length        The length of the read.
+     * @param storageLength The current Storage Length of the Segment. Nothing at or beyond this offset will be prefetched.
+     * @return A {@link Range} that should be prefetched, or null if nothing should be prefetched.
+     */
+    synchronized Range recordRead(long offset, int length, long storageLength) {
+        Preconditions.checkArgument(offset >= 0 && length >= 0, "offset and length must be non-negative numbers.");
+        if (isStale(offset, length)) {
+            // Notifications may arrive slightly out of order if reads are recorded concurrently. This one refers to data
+            // we've already moved past, so it neither confirms nor refutes the sequential pattern.
+            return null;
+        } else if (isSequential(offset)) {
+            this.sequentialReadCount++;
+        } else {
+            // Random access (or the very first read). Discard whatever we knew about this reader.
+            this.sequentialReadCount = 1;
+            this.prefetchEndOffset = -1;
+        }
+
+        this.lastReadEndOffset = offset + length;
+        if (this.sequentialReadCount < this.triggerCount) {
+            return null;
+        }
+
+        long alignedEnd = alignUp(this.lastReadEndOffset);
+        long startOffset = Math.max(this.prefetchEndOffset, this.lastReadEndOffset);
+        long endOffset = Math.min(alignedEnd + (long) this.alignment * this.prefetchCount, storageLength);
+        if (startOffset >= endOffset) {
+            return null;
+        }
+
+        this.prefetchEndOffset = endOffset;
+        return new Range(startOffset, endOffset - startOffset);
+    }
+
+    /**
+     * Resets this ReadAheadTracker to its initial state. This should be invoked if a prefetch request failed, so that
+     * the range it covered may be requested again.
+     */
+    synchronized void reset() {
+        this.lastReadEndOffset = -1;
+        this.prefetchEndOffset = -1;
+        this.sequentialReadCount = 0;
+    }
+
+    @GuardedBy("this")
+    private boolean isStale(long offset, int length) {
+        return this.sequentialReadCount >= this.triggerCount
+                && offset + length <= this.lastReadEndOffset
+                && offset >= this.lastReadEndOffset - (long) this.alignment * this.prefetchCount;
+    }
+
+    @GuardedBy("this")
+    private boolean isSequential(long offset) {
+        if (this.lastReadEndOffset < 0) {
+            return false;
+        }
+
+        // We allow a small gap after the last read to account for data that the reader may have found in the cache, as
+        // well as any read that begins within the range we have already prefetched.
+        return offset >= this.lastReadEndOffset
+                && offset <= Math.max(this.lastReadEndOffset + this.alignment, this.prefetchEndOffset);
+    }
+
+    private long alignUp(long offset) {
+        long r = offset % this.alignment;
+        return r == 0 ? offset : offset + this.alignment - r;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("LastReadEnd = %d, PrefetchEnd = %d, SequentialReads = %d",
+                this.lastReadEndOffset, this.prefetchEndOffset, this.sequentialReadCount);
+    }
+
+    //endregion
+
+    //region Range
+
+    /**
+     * A range of bytes to prefetch.
+     */
+    @Data
+    static class Range {
+        /**
+         * The offset where the range begins.
+         */
+        private final long offset;
+        /**
+         * The length of the range.
+         */
+        private final long length;
+    }
+
+    //endregion
+}
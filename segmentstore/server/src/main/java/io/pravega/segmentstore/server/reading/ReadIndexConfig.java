@@ -24,6 +24,10 @@ public class ReadIndexConfig {
     public static final Property<Integer> STORAGE_READ_ALIGNMENT = Property.named("storageRead.alignment", 1024 * 1024, "storageReadAlignment");
     public static final Property<Integer> MEMORY_READ_MIN_LENGTH = Property.named("memoryRead.length.min", 4 * 1024, "memoryReadMinLength");
     public static final Property<Integer> STORAGE_READ_DEFAULT_TIMEOUT = Property.named("storageRead.timeout.default.millis", 30 * 1000, "storageReadDefaultTimeoutMillis");
+    public static final Property<Integer> STORAGE_READ_PREFETCH_COUNT = Property.named("storageRead.prefetch.count", 0);
+    public static final Property<Integer> STORAGE_READ_PREFETCH_TRIGGER_COUNT = Property.named("storageRead.prefetch.trigger.count", 2);
+    public static final Property<IndexType> INDEX_TYPE = Property.named("index.type", IndexType.AVL_TREE);
+    public static final Property<Integer> COALESCE_ENTRY_LENGTH_MAX = Property.named("coalesce.entry.length.max", 0);
     private static final String COMPONENT_CODE = "readindex";
 
     //endregion
@@ -57,6 +61,40 @@ public class ReadIndexConfig {
     @Getter
     private final Duration storageReadDefaultTimeout;
 
+    /**
+     * The maximum number of aligned Storage Reads (each of size {@link #getStorageReadAlignment()}) to keep in flight
+     * ahead of a sequential reader. Data read this way is inserted into the Cache with a lower priority than regular
+     * reads, so that it is the first to be evicted if it is never used.
+     * <p>
+     * Setting this to 0 will effectively disable this feature.
+     */
+    @Getter
+    private final int storageReadPrefetchCount;
+
+    /**
+     * The number of consecutive sequential Storage Reads that must be observed for a Segment before the Read Index will
+     * begin prefetching data for it.
+     */
+    @Getter
+    private final int storageReadPrefetchTriggerCount;
+
+    /**
+     * The type of {@link io.pravega.common.util.SortedIndex} to use for each Segment's Read Index Entries.
+     */
+    @Getter
+    private final IndexType indexType;
+
+    /**
+     * The maximum length of a cache entry resulting from coalescing contiguous cache entries which have already been
+     * written to Storage. When the Cache Manager runs its periodic eviction cycle, each Segment's Read Index merges runs of
+     * such entries into larger ones (up to this length) in order to reduce the number of index entries and the number of
+     * cache lookups needed to serve a read.
+     * <p>
+     * Setting this to 0 (default) will effectively disable this feature.
+     */
+    @Getter
+    private final int coalesceEntryLengthMax;
+
     //endregion
 
     //region Constructor
@@ -70,6 +108,21 @@ public class ReadIndexConfig {
         this.storageReadAlignment = properties.getInt(STORAGE_READ_ALIGNMENT);
         this.memoryReadMinLength = properties.getInt(MEMORY_READ_MIN_LENGTH);
         this.storageReadDefaultTimeout = Duration.ofMillis(properties.getInt(STORAGE_READ_DEFAULT_TIMEOUT));
+        this.storageReadPrefetchCount = properties.getInt(STORAGE_READ_PREFETCH_COUNT);
+        if (this.storageReadPrefetchCount < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", STORAGE_READ_PREFETCH_COUNT));
+        }
+
+        this.storageReadPrefetchTriggerCount = properties.getInt(STORAGE_READ_PREFETCH_TRIGGER_COUNT);
+        if (this.storageReadPrefetchTriggerCount <= 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a positive integer.", STORAGE_READ_PREFETCH_TRIGGER_COUNT));
+        }
+
+        this.indexType = properties.getEnum(INDEX_TYPE, IndexType.class);
+        this.coalesceEntryLengthMax = properties.getInt(COALESCE_ENTRY_LENGTH_MAX);
+        if (this.coalesceEntryLengthMax < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", COALESCE_ENTRY_LENGTH_MAX));
+        }
     }
 
     /**
@@ -82,4 +135,23 @@ public class ReadIndexConfig {
     }
 
     //endregion
+
+    //region IndexType
+
+    /**
+     * Types of {@link io.pravega.common.util.SortedIndex} that can back a Segment's Read Index.
+     */
+    public enum IndexType {
+        /**
+         * {@link io.pravega.common.util.AvlTreeIndex}. Allocates a tree node for every entry.
+         */
+        AVL_TREE,
+        /**
+         * {@link io.pravega.common.util.SortedArrayIndex}. Uses less heap per entry and has faster lookups, but inserting
+         * entries out of order is more expensive. Best suited for Segments with a large number of small cached entries.
+         */
+        SORTED_ARRAY
+    }
+
+    //endregion
 }
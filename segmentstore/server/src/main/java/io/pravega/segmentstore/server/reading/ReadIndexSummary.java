@@ -71,6 +71,19 @@ class ReadIndexSummary {
         this.generations.put(generation, newCount);
     }
 
+    /**
+     * Records the addition of a low-priority element. Such elements are recorded in the generation immediately preceding
+     * the current one, which makes them eligible for eviction before any element that was added or touched in the current
+     * generation.
+     *
+     * @return The generation the element was recorded in.
+     */
+    synchronized int addOneLowPriority() {
+        int generation = Math.max(0, this.currentGeneration - 1);
+        addOne(generation);
+        return generation;
+    }
+
     /**
      * Records the removal of an element from the given generation.
      *
@@ -14,20 +14,24 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Iterators;
 import io.pravega.common.Exceptions;
 import io.pravega.common.LoggerHelpers;
+import io.pravega.common.ObjectClosedException;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.AvlTreeIndex;
 import io.pravega.common.util.BufferView;
-import io.pravega.common.util.ByteArraySegment;
+import io.pravega.common.util.SortedArrayIndex;
 import io.pravega.common.util.SortedIndex;
 import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.ReadResultEntry;
 import io.pravega.segmentstore.contracts.ReadResultEntryType;
 import io.pravega.segmentstore.contracts.StreamSegmentSealedException;
 import io.pravega.segmentstore.server.CacheManager;
+import io.pravega.segmentstore.server.CacheUtilizationProvider;
 import io.pravega.segmentstore.server.SegmentMetadata;
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
 import io.pravega.segmentstore.storage.ReadOnlyStorage;
 import io.pravega.segmentstore.storage.cache.CacheFullException;
 import io.pravega.segmentstore.storage.cache.CacheStorage;
+import io.pravega.segmentstore.storage.cache.TieredCacheStorage;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -60,11 +64,38 @@ import lombok.val;
 class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
     //region Members
 
+    /**
+     * The minimum number of generations that must have elapsed since an entry was last accessed before it can be coalesced.
+     * Reads return views into the cache rather than copies, and these views may be held for a while after the read has
+     * completed (i.e., until sent over the network); the cache blocks of a coalesced entry are freed (and may be reused)
+     * right away, so we only touch entries that have been idle for much longer than that.
+     */
+    @VisibleForTesting
+    static final int COALESCE_MIN_GENERATION_AGE = 60;
+    /**
+     * The maximum number of groups of entries to coalesce during a single {@link #updateGenerations} call. This bounds the
+     * amount of data copied (and the extra cache space used until the original entries are deleted) during one cycle.
+     */
+    private static final int MAX_COALESCE_GROUPS = 16;
+    /**
+     * The maximum number of entries to examine during a single {@link #updateGenerations} call when looking for entries
+     * to coalesce. The next call resumes from where the previous one left off.
+     */
+    private static final int MAX_COALESCE_SCAN_ENTRIES = 1024;
+    /**
+     * The maximum number of entries to demote to the Secondary cache tier during a single {@link #updateGenerations} call.
+     * Any remaining entries will be demoted in subsequent calls.
+     */
+    private static final int MAX_DEMOTE_ENTRIES = 128;
     private final String traceObjectId;
     @GuardedBy("lock")
     private final SortedIndex<ReadIndexEntry> indexEntries;
+    @GuardedBy("lock")
+    private long coalesceScanOffset;
     private final ReadIndexConfig config;
     private final CacheStorage cacheStorage;
+    private final TieredCacheStorage tieredCacheStorage;
+    private final CacheUtilizationProvider utilizationProvider;
     private final FutureReadResultEntryCollection futureReads;
     @GuardedBy("lock")
     private final HashMap<Long, PendingMerge> pendingMergers; //Key = Source Segment Id, Value = Pending Merge Info.
@@ -78,6 +109,8 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
     private boolean merged;
     private final Object lock = new Object();
     private final int storageReadAlignment;
+    private final ReadAheadTracker readAheadTracker;
+    private final SegmentStoreMetrics.ReadIndex metrics;
 
     //endregion
 
@@ -89,25 +122,33 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      * @param config       Read Index Configuration.
      * @param metadata     The StreamSegmentMetadata to use.
      * @param cacheStorage    The CacheStorage to use to store, read and manage data entries.
+     * @param utilizationProvider A {@link CacheUtilizationProvider} that can be used to query the cache utilization.
      * @param storage      A ReadOnlyStorage to fetch data if not in Cache.
      * @param executor     An executor to run async operations.
      * @param recoveryMode Whether we are in recovery mode at the time of creation (this can change later on).
+     * @param metrics      A {@link SegmentStoreMetrics.ReadIndex} to report metrics to.
      * @throws NullPointerException If any of the arguments are null.
      */
-    StreamSegmentReadIndex(ReadIndexConfig config, SegmentMetadata metadata, CacheStorage cacheStorage, ReadOnlyStorage storage,
-                           ScheduledExecutorService executor, boolean recoveryMode) {
+    StreamSegmentReadIndex(ReadIndexConfig config, SegmentMetadata metadata, CacheStorage cacheStorage, CacheUtilizationProvider utilizationProvider,
+                           ReadOnlyStorage storage, ScheduledExecutorService executor, boolean recoveryMode, SegmentStoreMetrics.ReadIndex metrics) {
         Preconditions.checkNotNull(config, "config");
         Preconditions.checkNotNull(metadata, "metadata");
         Preconditions.checkNotNull(cacheStorage, "cacheStorage");
+        Preconditions.checkNotNull(utilizationProvider, "utilizationProvider");
         Preconditions.checkNotNull(storage, "storage");
         Preconditions.checkNotNull(executor, "executor");
+        Preconditions.checkNotNull(metrics, "metrics");
 
         this.traceObjectId = String.format("ReadIndex[%d-%d]", metadata.getContainerId(), metadata.getId());
         this.config = config;
         this.metadata = metadata;
         this.cacheStorage = cacheStorage;
+        this.tieredCacheStorage = cacheStorage instanceof TieredCacheStorage ? (TieredCacheStorage) cacheStorage : null;
+        this.utilizationProvider = utilizationProvider;
         this.recoveryMode = recoveryMode;
-        this.indexEntries = new AvlTreeIndex<>();
+        this.indexEntries = this.config.getIndexType() == ReadIndexConfig.IndexType.SORTED_ARRAY
+                ? new SortedArrayIndex<>()
+                : new AvlTreeIndex<>();
         this.futureReads = new FutureReadResultEntryCollection();
         this.pendingMergers = new HashMap<>();
         this.lastAppendedOffset = new AtomicLong(-1);
@@ -115,6 +156,10 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         this.executor = executor;
         this.summary = new ReadIndexSummary();
         this.storageReadAlignment = alignToCacheBlockSize(this.config.getStorageReadAlignment());
+        this.readAheadTracker = this.config.getStorageReadPrefetchCount() > 0
+                ? new ReadAheadTracker(this.storageReadAlignment, this.config.getStorageReadPrefetchCount(), this.config.getStorageReadPrefetchTriggerCount())
+                : null;
+        this.metrics = metrics;
     }
 
     private int alignToCacheBlockSize(int value) {
@@ -188,7 +233,10 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         Preconditions.checkState(this.closed, "Cannot call removeAllEntries unless the ReadIndex is closed.");
         int count;
         synchronized (this.lock) {
-            this.indexEntries.forEach(this::deleteData);
+            this.indexEntries.forEach(entry -> {
+                recordIfPrefetchWasted(entry);
+                deleteData(entry);
+            });
             count = this.indexEntries.size();
             this.indexEntries.clear();
         }
@@ -210,26 +258,33 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
 
     @Override
     public boolean updateGenerations(int currentGeneration, int oldestGeneration) {
+        return updateGenerations(currentGeneration, oldestGeneration, oldestGeneration);
+    }
+
+    @Override
+    public boolean updateGenerations(int currentGeneration, int oldestGeneration, int demotionGeneration) {
         Exceptions.checkNotClosed(this.closed, this);
 
         // Update the current generation with the provided info.
         this.summary.setCurrentGeneration(currentGeneration);
 
-        // Identify & collect those entries that can be removed, then remove them from the index.
+        // Identify & collect those entries that can be removed (or demoted), then remove them from the index.
         ArrayList<ReadIndexEntry> toRemove = new ArrayList<>();
+        ArrayList<CacheIndexEntry> toDemote = new ArrayList<>();
         synchronized (this.lock) {
             this.indexEntries.forEach(entry -> {
-                // We can only evict if both these conditions are met:
+                // We can only evict (or demote) if both these conditions are met:
                 // 1. The entry is a Cache Entry (Redirect entries cannot be removed).
                 // 2. Every single byte in the entry has to exist in Storage.
                 // In addition, we are free to evict (regardless of Generation, but still subject to the above rules) if
                 // every single byte in the entry has been truncated out.
                 long lastOffset = entry.getLastStreamSegmentOffset();
-                boolean canRemove = entry.isDataEntry()
-                        && lastOffset < this.metadata.getStorageLength()
-                        && (entry.getGeneration() < oldestGeneration || lastOffset < this.metadata.getStartOffset());
-                if (canRemove) {
+                boolean canEvict = entry.isDataEntry() && lastOffset < this.metadata.getStorageLength();
+                if (canEvict && (entry.getGeneration() < oldestGeneration || lastOffset < this.metadata.getStartOffset())) {
                     toRemove.add(entry);
+                } else if (canEvict && entry.getGeneration() < demotionGeneration && toDemote.size() < MAX_DEMOTE_ENTRIES
+                        && canDemote((CacheIndexEntry) entry)) {
+                    toDemote.add((CacheIndexEntry) entry);
                 }
             });
 
@@ -237,13 +292,25 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
             toRemove.forEach(e -> this.indexEntries.remove(e.key()));
         }
 
+        // Move the entries to be demoted to the Secondary tier. If it is full, then evict them instead.
+        List<Integer> demotedAddresses = demoteEntries(toDemote, demotionGeneration, toRemove);
+
         // Update the summary (no need for holding the lock here; we are not modifying the index).
         toRemove.forEach(e -> {
+            recordIfPrefetchWasted(e);
             deleteData(e);
             this.summary.removeOne(e.getGeneration());
         });
 
-        return !toRemove.isEmpty();
+        // Demoted entries have been replaced in the index by their Secondary tier copies (with the same generations),
+        // so we only need to free up their Primary tier data.
+        demotedAddresses.forEach(this.cacheStorage::delete);
+        if (!demotedAddresses.isEmpty()) {
+            log.debug("{}: Demoted {} cache entries.", this.traceObjectId, demotedAddresses.size());
+        }
+
+        coalesceEntries(currentGeneration);
+        return !toRemove.isEmpty() || !demotedAddresses.isEmpty();
     }
 
     //endregion
@@ -499,8 +566,8 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         LoggerHelpers.traceLeave(log, this.traceObjectId, "completeMerge", traceId);
     }
 
-    private void insert(long offset, ByteArraySegment data) {
-        log.debug("{}: Insert (Offset = {}, Length = {}).", this.traceObjectId, offset, data.getLength());
+    private void insert(long offset, BufferView data, boolean prefetched) {
+        log.debug("{}: Insert (Offset = {}, Length = {}, Prefetched = {}).", this.traceObjectId, offset, data.getLength(), prefetched);
 
         // There is a very small chance we might be adding data twice, if we get two concurrent requests that slipped past
         // the StorageReadManager. Fixing it would be complicated, so let's see if it poses any problems.
@@ -508,7 +575,7 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                 "The given range of bytes (Offset=%s, Length=%s) does not correspond to the StreamSegment range that is in Storage (%s).",
                 offset, data.getLength(), this.metadata.getStorageLength());
         try {
-            addToCacheAndIndex(data, offset, this::insertEntriesToCacheAndIndex);
+            addToCacheAndIndex(data, offset, (d, o) -> insertEntriesToCacheAndIndex(d, o, prefetched));
         } catch (CacheFullException ex) {
             // We have already ack-ed this request with the appropriate data to the upstream code, so it's not a problem
             // if we cannot insert it into the cache due to the cache being full.
@@ -598,10 +665,12 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
      *
      * @param data          A {@link BufferView} representing the data to insert.
      * @param segmentOffset The segment offset that maps to the first byte in the given {@link BufferView}.
+     * @param prefetched    If true, the data has been prefetched (and not explicitly requested by a reader). Such entries
+     *                      will be added with a lower priority, which will make them be evicted first.
      * @return A {@link CacheIndexEntry} representing the index entry added. If the given {@link BufferView} spanned
      * multiple entries (due to index fragmentation), only the last {@link CacheIndexEntry} is added.
      */
-    private CacheIndexEntry insertEntriesToCacheAndIndex(BufferView data, long segmentOffset) {
+    private CacheIndexEntry insertEntriesToCacheAndIndex(BufferView data, long segmentOffset, boolean prefetched) {
         CacheIndexEntry lastInsertedEntry = null;
         synchronized (this.lock) {
             while (data != null && data.getLength() > 0) {
@@ -625,6 +694,10 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
                     try {
                         dataAddress = this.cacheStorage.insert(dataToInsert);
                         newEntry = new CacheIndexEntry(segmentOffset, dataToInsert.getLength(), dataAddress);
+                        if (prefetched) {
+                            newEntry.markPrefetched();
+                        }
+
                         ReadIndexEntry overriddenEntry = addToIndex(newEntry);
                         assert overriddenEntry == null : "Insert overrode existing entry; " + segmentOffset + ":" + dataToInsert.getLength();
                         lastInsertedEntry = newEntry;
@@ -653,6 +726,9 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
             if (entry instanceof MergedIndexEntry) {
                 // This entry has already existed in the cache for a while; do not change its generation.
                 this.summary.addOne(entry.getGeneration());
+            } else if (((CacheIndexEntry) entry).isPrefetched()) {
+                // Nobody has asked for this data yet. Add it with a lower priority so that it is evicted first if unused.
+                entry.setGeneration(this.summary.addOneLowPriority());
             } else {
                 // Update the Stats with the entry's length, and set the entry's generation as well.
                 int generation = this.summary.addOne();
@@ -1110,6 +1186,12 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
             // Update its generation before returning it.
             int generation = this.summary.touchOne(entry.getGeneration());
             entry.setGeneration(generation);
+            if (((CacheIndexEntry) entry).clearPrefetched()) {
+                // First read from a prefetched entry. Record the hit and keep prefetching ahead of this reader. We are
+                // holding the lock, so do not issue any Storage Reads inline.
+                this.metrics.prefetchHit(entry.getLength());
+                this.executor.execute(() -> triggerPrefetch(streamSegmentOffset, length));
+            }
         }
 
         return new CacheReadResultEntry(entry.getStreamSegmentOffset() + entryOffset, data.slice(entryOffset, length));
@@ -1129,14 +1211,14 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         // Create a callback that inserts into the ReadIndex (and cache) and invokes the success callback.
         Consumer<StorageReadManager.Result> doneCallback = result -> {
             try {
-                ByteArraySegment data = result.getData();
+                BufferView data = result.getData();
 
                 // Make sure we invoke our callback first, before any chance of exceptions from insert() may block it.
                 successCallback.accept(data);
                 if (!result.isDerived()) {
                     // Only insert primary results into the cache. Derived results are always sub-portions of primaries
                     // and there is no need to insert them too, as they are already contained within.
-                    insert(offset, data);
+                    insert(offset, data, false);
                 }
             } catch (Exception ex) {
                 log.error("{}: Unable to process Storage Read callback. Offset={}, Result=[{}].", this.traceObjectId, offset, result);
@@ -1146,6 +1228,84 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         // Queue the request for async processing.
         length = getReadAlignedLength(offset, length);
         this.storageReadManager.execute(new StorageReadManager.Request(offset, length, doneCallback, failureCallback, timeout));
+        triggerPrefetch(offset, length);
+    }
+
+    /**
+     * Records a read in the {@link ReadAheadTracker} and, if a sequential access pattern has been detected, issues
+     * aligned Storage Reads for the data immediately following the reader's current position. Any ranges that are
+     * already in the index will be skipped.
+     *
+     * @param offset The offset where the read began.
+     * @param length The length of the read.
+     */
+    private void triggerPrefetch(long offset, int length) {
+        if (this.readAheadTracker == null || this.closed || this.recoveryMode || this.merged) {
+            return;
+        }
+
+        val range = this.readAheadTracker.recordRead(offset, length, this.metadata.getStorageLength());
+        if (range == null) {
+            return;
+        }
+
+        long prefetchOffset = range.getOffset();
+        long endOffset = range.getOffset() + range.getLength();
+        while (prefetchOffset < endOffset) {
+            int prefetchLength = getReadAlignedLength(prefetchOffset, (int) Math.min(endOffset - prefetchOffset, this.storageReadAlignment));
+            boolean cached;
+            synchronized (this.lock) {
+                ReadIndexEntry existingEntry = this.indexEntries.getFloor(prefetchOffset);
+                cached = existingEntry != null && existingEntry.getLastStreamSegmentOffset() >= prefetchOffset;
+                if (cached) {
+                    // Skip over what we already have.
+                    prefetchLength = (int) Math.min(prefetchLength, existingEntry.getLastStreamSegmentOffset() + 1 - prefetchOffset);
+                } else {
+                    prefetchLength = getLengthUntilNextEntry(prefetchOffset, prefetchLength);
+                }
+            }
+
+            if (!cached) {
+                queuePrefetchRead(prefetchOffset, prefetchLength);
+            }
+
+            prefetchOffset += prefetchLength;
+        }
+    }
+
+    private void queuePrefetchRead(long offset, int length) {
+        Consumer<StorageReadManager.Result> doneCallback = result -> {
+            try {
+                if (!result.isDerived()) {
+                    // Derived results are sub-portions of other (primary) results, which will be inserted on their own.
+                    BufferView data = result.getData();
+                    this.metrics.prefetched(data.getLength());
+                    insert(offset, data, true);
+                }
+            } catch (Exception ex) {
+                log.error("{}: Unable to process Storage Prefetch callback. Offset={}, Result=[{}].", this.traceObjectId, offset, result);
+            }
+        };
+        Consumer<Throwable> failureCallback = ex -> {
+            // Nothing is waiting on this, but we need to reset the tracker so that this range may be prefetched again.
+            log.debug("{}: Storage Prefetch failed. Offset={}, Length={}. {}", this.traceObjectId, offset, length, ex.toString());
+            this.readAheadTracker.reset();
+        };
+
+        log.trace("{}: Prefetch (Offset = {}, Length = {}).", this.traceObjectId, offset, length);
+        try {
+            this.storageReadManager.execute(new StorageReadManager.Request(offset, length, doneCallback, failureCallback,
+                    this.config.getStorageReadDefaultTimeout()));
+        } catch (ObjectClosedException ex) {
+            // We were closed concurrently with this. Nothing else to do.
+            log.debug("{}: Unable to Prefetch (Offset = {}, Length = {}) because the StorageReadManager is closed.", this.traceObjectId, offset, length);
+        }
+    }
+
+    private void recordIfPrefetchWasted(ReadIndexEntry entry) {
+        if (entry.isDataEntry() && ((CacheIndexEntry) entry).clearPrefetched()) {
+            this.metrics.prefetchWasted(entry.getLength());
+        }
     }
 
     /**
@@ -1226,6 +1386,280 @@ class StreamSegmentReadIndex implements CacheManager.Client, AutoCloseable {
         return result;
     }
 
+    private boolean canDemote(CacheIndexEntry entry) {
+        return this.tieredCacheStorage != null && !this.tieredCacheStorage.isSecondary(entry.getCacheAddress());
+    }
+
+    /**
+     * Copies the given entries to the Secondary tier of {@link #tieredCacheStorage} and updates the index to point to the
+     * copies. The data is copied without holding {@link #lock} (so that reads and appends are not blocked for the duration
+     * of the copy), hence any entry that has been removed, appended to or accessed in the meantime is left alone and its
+     * copy discarded. Entries that could not be copied because the Secondary tier is full are removed from the index.
+     *
+     * @param toDemote           The {@link CacheIndexEntry} instances to demote.
+     * @param demotionGeneration The generation that an entry must be older than in order to be demoted.
+     * @param toRemove           A List to add the entries that have been removed from the index to.
+     * @return The Primary tier addresses of the entries that have been demoted. These are no longer referenced by the index.
+     */
+    private List<Integer> demoteEntries(List<CacheIndexEntry> toDemote, int demotionGeneration, List<ReadIndexEntry> toRemove) {
+        ArrayList<Integer> demotedAddresses = new ArrayList<>();
+        if (toDemote.isEmpty()) {
+            return demotedAddresses;
+        }
+
+        long[] lengths = new long[toDemote.size()];
+        int[] newAddresses = new int[toDemote.size()];
+        for (int i = 0; i < toDemote.size(); i++) {
+            lengths[i] = toDemote.get(i).getLength();
+            newAddresses[i] = demoteData(toDemote.get(i));
+        }
+
+        ArrayList<Integer> discardedAddresses = new ArrayList<>();
+        synchronized (this.lock) {
+            for (int i = 0; i < toDemote.size(); i++) {
+                CacheIndexEntry e = toDemote.get(i);
+                boolean unchanged = this.indexEntries.get(e.key()) == e
+                        && e.getLength() == lengths[i]
+                        && e.getGeneration() < demotionGeneration;
+                if (!unchanged) {
+                    if (newAddresses[i] != CacheStorage.NO_ADDRESS) {
+                        discardedAddresses.add(newAddresses[i]);
+                    }
+                } else if (newAddresses[i] == CacheStorage.NO_ADDRESS) {
+                    this.indexEntries.remove(e.key());
+                    toRemove.add(e);
+                } else {
+                    this.indexEntries.put(e.withCacheAddress(newAddresses[i]));
+                    demotedAddresses.add(e.getCacheAddress());
+                }
+            }
+        }
+
+        discardedAddresses.forEach(this.cacheStorage::delete);
+        return demotedAddresses;
+    }
+
+    /**
+     * Copies the data for the given entry to the Secondary tier of {@link #tieredCacheStorage}.
+     *
+     * @param entry The {@link CacheIndexEntry} to demote.
+     * @return The address of the copy, or {@link CacheStorage#NO_ADDRESS} if the Secondary tier is full.
+     */
+    private int demoteData(CacheIndexEntry entry) {
+        try {
+            return this.tieredCacheStorage.copyToSecondary(entry.getCacheAddress());
+        } catch (CacheFullException ex) {
+            return CacheStorage.NO_ADDRESS;
+        }
+    }
+
+    /**
+     * Merges runs of contiguous {@link CacheIndexEntry} instances into larger ones (up to {@link ReadIndexConfig#getCoalesceEntryLengthMax()}
+     * or {@link CacheStorage#getMaxEntryLength()}, whichever is smaller). Many small appends result in many small entries,
+     * each of which costs an index node and a separate cache lookup when reading; this reduces both once the data is no
+     * longer changing.
+     * <p>
+     * Only entries that have been fully written to Storage, are not prefetched, live in the primary cache tier and have not
+     * been accessed for at least {@link #COALESCE_MIN_GENERATION_AGE} generations can be coalesced. Nothing is coalesced
+     * while the cache utilization exceeds its target, since that would compete for cache space with new data.
+     * <p>
+     * The data is copied without holding {@link #lock} (so that reads and appends are not blocked for the duration of the
+     * copy), hence any group in which an entry has been removed, appended to or accessed in the meantime is left alone and
+     * its copy discarded. Each coalesced entry inherits the most recent generation of the entries it replaces.
+     *
+     * @param currentGeneration The current Cache Manager generation.
+     */
+    private void coalesceEntries(int currentGeneration) {
+        int maxLength = Math.min(this.config.getCoalesceEntryLengthMax(), this.cacheStorage.getMaxEntryLength());
+        if (maxLength <= 0) {
+            // Disabled.
+            return;
+        } else if (this.utilizationProvider.getCacheUtilization() > this.utilizationProvider.getCacheTargetUtilization()) {
+            // The cache is under pressure; we'd rather evict (or demote) the data than make more copies of it.
+            return;
+        }
+
+        List<List<CacheIndexEntry>> groups;
+        synchronized (this.lock) {
+            groups = collectCoalesceGroups(currentGeneration, maxLength);
+        }
+
+        int[] lengths = new int[groups.size()];
+        int[] newAddresses = new int[groups.size()];
+        int copiedCount = 0;
+        try {
+            for (; copiedCount < groups.size(); copiedCount++) {
+                lengths[copiedCount] = getLength(groups.get(copiedCount));
+                newAddresses[copiedCount] = copyData(groups.get(copiedCount));
+            }
+        } catch (CacheFullException ex) {
+            // Cache is full. There is no point in continuing.
+            log.debug("{}: Unable to coalesce cache entries; cache is full.", this.traceObjectId);
+        }
+
+        ArrayList<CacheIndexEntry> toDelete = new ArrayList<>();
+        ArrayList<Integer> discardedAddresses = new ArrayList<>();
+        int coalescedCount = 0;
+        synchronized (this.lock) {
+            for (int i = 0; i < copiedCount; i++) {
+                List<CacheIndexEntry> group = groups.get(i);
+                if (newAddresses[i] == CacheStorage.NO_ADDRESS) {
+                    continue;
+                } else if (!isUnchanged(group, lengths[i], currentGeneration)) {
+                    discardedAddresses.add(newAddresses[i]);
+                    continue;
+                }
+
+                CacheIndexEntry newEntry = new CacheIndexEntry(group.get(0).getStreamSegmentOffset(), lengths[i], newAddresses[i]);
+                newEntry.setGeneration(group.stream().mapToInt(CacheIndexEntry::getGeneration).max().orElse(currentGeneration));
+                group.forEach(e -> this.indexEntries.remove(e.key()));
+                this.indexEntries.put(newEntry);
+                this.summary.addOne(newEntry.getGeneration());
+                toDelete.addAll(group);
+                coalescedCount++;
+            }
+        }
+
+        // Update the summary and free up the old data (no need for holding the lock; these entries are no longer indexed).
+        discardedAddresses.forEach(this.cacheStorage::delete);
+        toDelete.forEach(e -> {
+            deleteData(e);
+            this.summary.removeOne(e.getGeneration());
+        });
+
+        if (coalescedCount > 0) {
+            this.metrics.entriesCoalesced(toDelete.size());
+            log.debug("{}: Coalesced {} cache entries into {}.", this.traceObjectId, toDelete.size(), coalescedCount);
+        }
+    }
+
+    /**
+     * Identifies runs of contiguous entries that can be coalesced, examining at most {@link #MAX_COALESCE_SCAN_ENTRIES}
+     * entries starting from where the previous call left off. Also reports the average length of the examined cache
+     * entries to {@link #metrics}, as a sample of the average cache entry length.
+     *
+     * @param currentGeneration The current Cache Manager generation.
+     * @param maxLength         The maximum length of a coalesced entry.
+     * @return A List of groups to coalesce. Each group has at least two entries, ordered by offset.
+     */
+    @GuardedBy("lock")
+    private List<List<CacheIndexEntry>> collectCoalesceGroups(int currentGeneration, int maxLength) {
+        long storageLength = this.metadata.getStorageLength();
+        long startOffset = this.metadata.getStartOffset();
+        ReadIndexEntry lastEntry = this.indexEntries.getLast();
+        List<List<CacheIndexEntry>> result = new ArrayList<>();
+        List<CacheIndexEntry> group = new ArrayList<>();
+        long groupLength = 0;
+        long dataLength = 0;
+        int dataCount = 0;
+        int scanCount = 0;
+        ReadIndexEntry e = this.indexEntries.getCeiling(this.coalesceScanOffset);
+        if (e == null) {
+            // We reached the end during the previous call; start over.
+            e = this.indexEntries.getFirst();
+        }
+
+        for (; e != null && scanCount < MAX_COALESCE_SCAN_ENTRIES && result.size() < MAX_COALESCE_GROUPS;
+             e = this.indexEntries.getCeiling(e.key() + 1)) {
+            scanCount++;
+            if (e.isDataEntry()) {
+                dataLength += e.getLength();
+                dataCount++;
+            }
+
+            // The last entry may still be appended to, so we leave it alone.
+            boolean eligible = e != lastEntry
+                    && canCoalesce(e, currentGeneration, maxLength, storageLength, startOffset);
+            boolean canExtendGroup = eligible
+                    && !group.isEmpty()
+                    && e.getStreamSegmentOffset() == group.get(group.size() - 1).getLastStreamSegmentOffset() + 1
+                    && groupLength + e.getLength() <= maxLength;
+            if (!canExtendGroup) {
+                if (group.size() > 1) {
+                    result.add(group);
+                }
+
+                group = new ArrayList<>();
+                groupLength = 0;
+            }
+
+            if (eligible) {
+                group.add((CacheIndexEntry) e);
+                groupLength += e.getLength();
+            }
+        }
+
+        if (group.size() > 1 && result.size() < MAX_COALESCE_GROUPS) {
+            result.add(group);
+        } else if (!group.isEmpty()) {
+            // Pick up this (incomplete) group during the next call.
+            e = group.get(0);
+        }
+
+        this.coalesceScanOffset = e == null ? 0 : e.key();
+        if (dataCount > 0) {
+            this.metrics.averageEntryLength(dataLength / dataCount);
+        }
+
+        return result;
+    }
+
+    private boolean canCoalesce(ReadIndexEntry entry, int currentGeneration, int maxLength, long storageLength, long startOffset) {
+        return entry.isDataEntry()
+                && entry.getLength() < maxLength
+                && entry.getLastStreamSegmentOffset() < storageLength
+                && entry.getStreamSegmentOffset() >= startOffset
+                && isIdleForCoalescing(entry, currentGeneration)
+                && !((CacheIndexEntry) entry).isPrefetched()
+                && (this.tieredCacheStorage == null || !this.tieredCacheStorage.isSecondary(entry.getCacheAddress()));
+    }
+
+    private boolean isIdleForCoalescing(ReadIndexEntry entry, int currentGeneration) {
+        return entry.getGeneration() < currentGeneration - COALESCE_MIN_GENERATION_AGE;
+    }
+
+    /**
+     * Determines whether the given group (collected via {@link #collectCoalesceGroups}) can still be coalesced, i.e., none
+     * of its entries has been removed from the index, appended to or accessed since it was collected.
+     *
+     * @param group             The entries to check.
+     * @param length            The total length of the entries when they were collected.
+     * @param currentGeneration The current Cache Manager generation.
+     * @return True if the group is unchanged, false otherwise.
+     */
+    @GuardedBy("lock")
+    private boolean isUnchanged(List<CacheIndexEntry> group, int length, int currentGeneration) {
+        return getLength(group) == length
+                && group.stream().allMatch(e -> this.indexEntries.get(e.key()) == e && isIdleForCoalescing(e, currentGeneration));
+    }
+
+    private int getLength(List<CacheIndexEntry> group) {
+        return group.stream().mapToInt(e -> (int) e.getLength()).sum();
+    }
+
+    /**
+     * Copies the data for the given entries into a single new cache entry. This does not modify the index.
+     *
+     * @param group The entries to coalesce, ordered by offset.
+     * @return The address of the new cache entry, or {@link CacheStorage#NO_ADDRESS} if the data for any of the entries
+     * is no longer in the cache.
+     * @throws CacheFullException If the cache is full.
+     */
+    private int copyData(List<CacheIndexEntry> group) {
+        ArrayList<BufferView> contents = new ArrayList<>(group.size());
+        for (CacheIndexEntry e : group) {
+            BufferView data = this.cacheStorage.get(e.getCacheAddress());
+            if (data == null) {
+                // This entry has been removed in the meantime.
+                return CacheStorage.NO_ADDRESS;
+            }
+
+            contents.add(data);
+        }
+
+        return this.cacheStorage.insert(BufferView.wrap(contents));
+    }
+
     private void deleteData(ReadIndexEntry entry) {
         if (entry.isDataEntry()) {
             this.cacheStorage.delete(entry.getCacheAddress());
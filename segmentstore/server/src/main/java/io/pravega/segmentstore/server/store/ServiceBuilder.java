@@ -45,9 +45,14 @@ import io.pravega.segmentstore.storage.ConfigSetup;
 import io.pravega.segmentstore.storage.DurableDataLogException;
 import io.pravega.segmentstore.storage.DurableDataLogFactory;
 import io.pravega.segmentstore.storage.StorageFactory;
+import io.pravega.segmentstore.storage.cache.CacheStorage;
+import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
+import io.pravega.segmentstore.storage.cache.MappedFileCache;
+import io.pravega.segmentstore.storage.cache.TieredCacheStorage;
 import io.pravega.segmentstore.storage.mocks.InMemoryDurableDataLogFactory;
 import io.pravega.segmentstore.storage.mocks.InMemoryStorageFactory;
 import io.pravega.shared.segment.SegmentToContainerMapper;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
@@ -130,7 +135,18 @@ public class ServiceBuilder implements AutoCloseable {
                 instancePrefix + "low-priority-cleanup", Thread.MIN_PRIORITY);
         this.threadPoolMetrics = new SegmentStoreMetrics.ThreadPool(this.coreExecutor);
 
-        this.cacheManager = new CacheManager(serviceConfig.getCachePolicy(), this.coreExecutor);
+        this.cacheManager = new CacheManager(serviceConfig.getCachePolicy(), createCacheStorage(serviceConfig), this.coreExecutor);
+    }
+
+    private CacheStorage createCacheStorage(ServiceConfig serviceConfig) {
+        CacheStorage cacheStorage = new DirectMemoryCache(serviceConfig.getCachePolicy().getMaxSize());
+        if (serviceConfig.getCacheSpillMaxSize() > 0) {
+            // Anything that does not fit in memory will be moved to a memory-mapped file instead of being evicted.
+            cacheStorage = new TieredCacheStorage(cacheStorage,
+                    new MappedFileCache(Paths.get(serviceConfig.getCacheSpillPath()), serviceConfig.getCacheSpillMaxSize()));
+        }
+
+        return cacheStorage;
     }
 
     private String getInstanceIdPrefix(ServiceConfig serviceConfig) {
@@ -288,7 +304,9 @@ public class ServiceBuilder implements AutoCloseable {
 
     private Map<Class<? extends SegmentContainerExtension>, SegmentContainerExtension> createContainerExtensions(
             SegmentContainer container, ScheduledExecutorService executor) {
-        return Collections.singletonMap(ContainerTableExtension.class, new ContainerTableExtensionImpl(container, this.cacheManager, executor));
+        ContainerConfig containerConfig = this.serviceBuilderConfig.getConfig(ContainerConfig::builder);
+        return Collections.singletonMap(ContainerTableExtension.class,
+                new ContainerTableExtensionImpl(containerConfig, container, this.cacheManager, executor));
     }
 
     private SegmentContainerRegistry createSegmentContainerRegistry() {
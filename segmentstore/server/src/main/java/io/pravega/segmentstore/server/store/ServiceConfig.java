@@ -15,6 +15,7 @@ import io.pravega.common.util.ConfigurationException;
 import io.pravega.common.util.Property;
 import io.pravega.common.util.TypedProperties;
 import io.pravega.segmentstore.server.CachePolicy;
+import io.pravega.segmentstore.storage.cache.MappedFileCache;
 import java.net.Inet4Address;
 import java.net.UnknownHostException;
 import java.time.Duration;
@@ -58,6 +59,8 @@ public class ServiceConfig {
     public static final Property<Integer> CACHE_POLICY_MAX_UTILIZATION = Property.named("cache.utilization.percent.max", (int) (100 * CachePolicy.DEFAULT_MAX_UTILIZATION), "cacheMaxUtilizationPercent");
     public static final Property<Integer> CACHE_POLICY_MAX_TIME = Property.named("cache.time.seconds.max", 30 * 60, "cacheMaxTimeSeconds");
     public static final Property<Integer> CACHE_POLICY_GENERATION_TIME = Property.named("cache.generation.duration.seconds", 1, "cacheGenerationTimeSeconds");
+    public static final Property<Long> CACHE_SPILL_MAX_SIZE = Property.named("cache.spill.size.max", 0L);
+    public static final Property<String> CACHE_SPILL_PATH = Property.named("cache.spill.path", "");
     public static final Property<Boolean> REPLY_WITH_STACK_TRACE_ON_ERROR = Property.named("request.replyWithStackTraceOnError.enable", false, "replyWithStackTraceOnError");
     public static final Property<String> INSTANCE_ID = Property.named("instance.id", "");
 
@@ -271,6 +274,20 @@ public class ServiceConfig {
     @Getter
     private final CachePolicy cachePolicy;
 
+    /**
+     * The maximum size (in bytes) of the memory-mapped file Cache tier that Cache entries are moved to when they are
+     * evicted from memory. If 0, there is no such tier and entries are removed from the Cache altogether.
+     */
+    @Getter
+    private final long cacheSpillMaxSize;
+
+    /**
+     * The directory where the memory-mapped file Cache tier is located. Only used if {@link #getCacheSpillMaxSize()} is
+     * positive.
+     */
+    @Getter
+    private final String cacheSpillPath;
+
     /**
      * Defines whether server-side stack traces should be send to clients as part of an error response.
      */
@@ -346,6 +363,14 @@ public class ServiceConfig {
         int cachePolicyGenerationTime = properties.getInt(CACHE_POLICY_GENERATION_TIME);
         this.cachePolicy = new CachePolicy(cachePolicyMaxSize, cachePolicyTargetUtilization, cachePolicyMaxUtilization,
                 Duration.ofSeconds(cachePolicyMaxTime), Duration.ofSeconds(cachePolicyGenerationTime));
+        this.cacheSpillMaxSize = properties.getLong(CACHE_SPILL_MAX_SIZE);
+        if (this.cacheSpillMaxSize < 0 || this.cacheSpillMaxSize > MappedFileCache.MAX_SIZE_BYTES) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer no greater than %d.",
+                    CACHE_SPILL_MAX_SIZE, MappedFileCache.MAX_SIZE_BYTES));
+        }
+
+        String cacheSpillPath = properties.get(CACHE_SPILL_PATH);
+        this.cacheSpillPath = Strings.isNullOrEmpty(cacheSpillPath) ? System.getProperty("java.io.tmpdir") : cacheSpillPath;
         this.replyWithStackTraceOnError = properties.getBoolean(REPLY_WITH_STACK_TRACE_ON_ERROR);
         this.instanceId = properties.get(INSTANCE_ID);
     }
@@ -395,6 +420,8 @@ public class ServiceConfig {
                         Strings.isNullOrEmpty(keyFile) ? "unspecified" : "specified"))
                 .append(String.format("enableTlsReload: %b, ", enableTlsReload))
                 .append(String.format("cachePolicy is %s, ", (cachePolicy != null) ? cachePolicy.toString() : "null"))
+                .append(String.format("cacheSpillMaxSize: %d, ", cacheSpillMaxSize))
+                .append(String.format("cacheSpillPath: %s, ", cacheSpillPath))
                 .append(String.format("replyWithStackTraceOnError: %b, ", replyWithStackTraceOnError))
                 .append(String.format("instanceId: %s", instanceId))
                 .append(")")
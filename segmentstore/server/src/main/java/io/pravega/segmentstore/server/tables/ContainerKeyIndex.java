@@ -17,6 +17,7 @@ import io.pravega.common.TimeoutTimer;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.concurrent.MultiKeySequentialProcessor;
 import io.pravega.common.util.BufferView;
+import io.pravega.segmentstore.contracts.Attributes;
 import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.SegmentProperties;
 import io.pravega.segmentstore.contracts.tables.BadKeyVersionException;
@@ -27,6 +28,7 @@ import io.pravega.segmentstore.contracts.tables.TableKey;
 import io.pravega.segmentstore.contracts.tables.TableSegmentNotEmptyException;
 import io.pravega.segmentstore.server.CacheManager;
 import io.pravega.segmentstore.server.DirectSegmentAccess;
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
 import io.pravega.segmentstore.server.reading.AsyncReadResultProcessor;
 import java.io.IOException;
 import java.time.Duration;
@@ -77,6 +79,10 @@ class ContainerKeyIndex implements AutoCloseable {
      * Segment for which {@link #triggerCacheTailIndex} can be invoked.
      */
     private static final int MAX_TAIL_CACHE_PRE_INDEX_LENGTH = 64 * 1024 * 1024;
+    /**
+     * Timeout for each request made to the Segment's Attribute Index while building a {@link KeyHashFilter}.
+     */
+    private static final Duration KEY_FILTER_LOAD_TIMEOUT = Duration.ofSeconds(30);
     @Getter
     private final IndexReader indexReader;
     private final ScheduledExecutorService executor;
@@ -85,6 +91,8 @@ class ContainerKeyIndex implements AutoCloseable {
     private final MultiKeySequentialProcessor<Map.Entry<Long, UUID>> conditionalUpdateProcessor;
     private final ContainerSortedKeyIndex sortedKeyIndex;
     private final RecoveryTracker recoveryTracker;
+    private final KeyFilterTracker keyFilterTracker;
+    private final SegmentStoreMetrics.TableKeyIndex metrics;
     private final AtomicBoolean closed;
     private final KeyHasher keyHasher;
     private final String traceObjectId;
@@ -100,10 +108,12 @@ class ContainerKeyIndex implements AutoCloseable {
      * @param cacheManager   A {@link CacheManager} that can be used to manage Cache instances.
      * @param sortedKeyIndex A {@link ContainerSortedKeyIndex} that can be used to manage {@link SegmentSortedKeyIndex}es.
      * @param keyHasher      A {@link KeyHasher} that can be used to hash keys.
+     * @param useKeyFilter   If true, a {@link KeyHashFilter} will be maintained for every Table Segment and used to
+     *                       determine (without accessing the index) that a Key does not exist.
      * @param executor       Executor for async operations.
      */
     ContainerKeyIndex(int containerId, @NonNull CacheManager cacheManager, @NonNull ContainerSortedKeyIndex sortedKeyIndex,
-                      @NonNull KeyHasher keyHasher, @NonNull ScheduledExecutorService executor) {
+                      @NonNull KeyHasher keyHasher, boolean useKeyFilter, @NonNull ScheduledExecutorService executor) {
         this.cache = new ContainerKeyCache(cacheManager.getCacheStorage());
         this.cacheManager = cacheManager;
         this.cacheManager.register(this.cache);
@@ -112,6 +122,8 @@ class ContainerKeyIndex implements AutoCloseable {
         this.conditionalUpdateProcessor = new MultiKeySequentialProcessor<>(this.executor);
         this.sortedKeyIndex = sortedKeyIndex;
         this.recoveryTracker = new RecoveryTracker();
+        this.keyFilterTracker = useKeyFilter ? new KeyFilterTracker() : null;
+        this.metrics = new SegmentStoreMetrics.TableKeyIndex(containerId);
         this.keyHasher = keyHasher;
         this.closed = new AtomicBoolean();
         this.traceObjectId = String.format("KeyIndex[%d]", containerId);
@@ -128,6 +140,11 @@ class ContainerKeyIndex implements AutoCloseable {
             this.cacheManager.unregister(this.cache);
             this.cache.close();
             this.recoveryTracker.close();
+            if (this.keyFilterTracker != null) {
+                this.keyFilterTracker.close();
+            }
+
+            this.metrics.close();
             log.info("{}: Closed.", this.traceObjectId);
         }
     }
@@ -273,7 +290,7 @@ class ContainerKeyIndex implements AutoCloseable {
             return CompletableFuture.completedFuture(result);
         } else {
             // Fetch information for missing hashes.
-            return this.recoveryTracker.waitIfNeeded(segment, cacheUpdated -> getBucketOffsetFromSegment(segment, result, toLookup, cacheUpdated, timer));
+            return this.recoveryTracker.waitIfNeeded(segment, cacheUpdated -> getBucketOffsetFromSegment(segment, result, toLookup, cacheUpdated, true, timer));
         }
     }
 
@@ -292,15 +309,40 @@ class ContainerKeyIndex implements AutoCloseable {
     CompletableFuture<Long> getBucketOffsetDirect(DirectSegmentAccess segment, UUID keyHash, TimeoutTimer timer) {
         // Get the bucket offset from the segment, which will update the cache if actually newer.
         return this.recoveryTracker.waitIfNeeded(segment,
-                cacheUpdated -> getBucketOffsetFromSegment(segment, Collections.synchronizedMap(new HashMap<>()), Collections.singleton(keyHash), cacheUpdated, timer)
+                cacheUpdated -> getBucketOffsetFromSegment(segment, Collections.synchronizedMap(new HashMap<>()), Collections.singleton(keyHash), cacheUpdated, false, timer)
                         .thenApply(result -> result.get(keyHash)));
     }
 
     private CompletableFuture<Map<UUID, Long>> getBucketOffsetFromSegment(DirectSegmentAccess segment, Map<UUID, Long> result,
-                                                                          Collection<UUID> toLookup, boolean tryCache, TimeoutTimer timer) {
+                                                                          Collection<UUID> toLookup, boolean tryCache,
+                                                                          boolean useKeyFilter, TimeoutTimer timer) {
+        KeyHashFilter keyFilter = useKeyFilter && this.keyFilterTracker != null ? this.keyFilterTracker.getIfReady(segment) : null;
+        if (keyFilter != null) {
+            // Anything that has been ruled out by the Key Filter is not in the index, so there is no point in looking it up.
+            val toLocate = new ArrayList<UUID>(toLookup.size());
+            for (UUID keyHash : toLookup) {
+                if (keyFilter.mightContain(keyHash)) {
+                    toLocate.add(keyHash);
+                } else {
+                    result.put(keyHash, getNonIndexedBucketOffset(segment.getSegmentId(), keyHash, tryCache));
+                }
+            }
+
+            if (toLocate.size() < toLookup.size()) {
+                this.metrics.keyFilterNegative(toLookup.size() - toLocate.size());
+            }
+
+            if (toLocate.isEmpty()) {
+                return CompletableFuture.completedFuture(result);
+            }
+
+            toLookup = toLocate;
+        }
+
         return this.indexReader
                 .locateBuckets(segment, toLookup, timer)
                 .thenApplyAsync(bucketsByHash -> {
+                    int inexistentCount = 0;
                     for (val e : bucketsByHash.entrySet()) {
                         UUID keyHash = e.getKey();
                         TableBucket bucket = e.getValue();
@@ -311,22 +353,34 @@ class ContainerKeyIndex implements AutoCloseable {
                             long highestOffset = this.cache.includeExistingKey(
                                     segment.getSegmentId(), keyHash, bucket.getSegmentOffset());
                             result.put(keyHash, highestOffset);
-                        } else if (tryCache) {
-                            // We were instructed to retry the cache.
-                            val existingValue = this.cache.get(segment.getSegmentId(), keyHash);
-                            result.put(keyHash, existingValue == null || existingValue.isRemoval() ? TableKey.NOT_EXISTS : existingValue.getSegmentOffset());
                         } else {
-                            // Inexistent bucket. What we are looking for does not exist. Do not update the information
-                            // in the cache as this would have the potential to fill up the cache with useless keys
-                            // if the application requests a lot of them (excellent DoS opportunity!).
-                            result.put(keyHash, TableKey.NOT_EXISTS);
+                            result.put(keyHash, getNonIndexedBucketOffset(segment.getSegmentId(), keyHash, tryCache));
+                            inexistentCount++;
                         }
                     }
 
+                    if (keyFilter != null && inexistentCount > 0) {
+                        // The Key Filter indicated these might exist, but they did not.
+                        this.metrics.keyFilterFalsePositive(inexistentCount);
+                    }
+
                     return result;
                 }, this.executor);
     }
 
+    private long getNonIndexedBucketOffset(long segmentId, UUID keyHash, boolean tryCache) {
+        if (tryCache) {
+            // We were instructed to retry the cache.
+            val existingValue = this.cache.get(segmentId, keyHash);
+            return existingValue == null || existingValue.isRemoval() ? TableKey.NOT_EXISTS : existingValue.getSegmentOffset();
+        } else {
+            // Inexistent bucket. What we are looking for does not exist. Do not update the information
+            // in the cache as this would have the potential to fill up the cache with useless keys
+            // if the application requests a lot of them (excellent DoS opportunity!).
+            return TableKey.NOT_EXISTS;
+        }
+    }
+
     /**
      * Looks up a Backpointer offset.
      *
@@ -526,6 +580,24 @@ class ContainerKeyIndex implements AutoCloseable {
         this.cache.updateSegmentIndexOffset(segmentId, indexOffset);
         this.sortedKeyIndex.notifyIndexOffsetChanged(segmentId, indexOffset);
         this.recoveryTracker.updateSegmentIndexOffset(segmentId, indexOffset);
+        if (indexOffset < 0 && this.keyFilterTracker != null) {
+            this.keyFilterTracker.remove(segmentId, null);
+        }
+    }
+
+    /**
+     * Notifies this ContainerKeyIndex instance that the given Table Buckets have been persisted in the index for the
+     * given Segment. This must be invoked before the corresponding {@link #notifyIndexOffsetChanged} so that the
+     * {@link KeyHashFilter} for this Segment (if any) includes these Table Buckets by the time they are no longer
+     * guaranteed to be in the tail cache.
+     *
+     * @param segmentId The Id of the Segment.
+     * @param keyHashes A Collection of Key Hashes for the Table Buckets that exist in the index.
+     */
+    void notifyBucketsIndexed(long segmentId, Collection<UUID> keyHashes) {
+        if (this.keyFilterTracker != null) {
+            this.keyFilterTracker.add(segmentId, keyHashes);
+        }
     }
 
     /**
@@ -636,6 +708,11 @@ class ContainerKeyIndex implements AutoCloseable {
         }
     }
 
+    @VisibleForTesting
+    boolean isKeyFilterReady(long segmentId) {
+        return this.keyFilterTracker != null && this.keyFilterTracker.isReady(segmentId);
+    }
+
     @VisibleForTesting
     protected long getMaxTailCachePreIndexLength() {
         return MAX_TAIL_CACHE_PRE_INDEX_LENGTH;
@@ -670,6 +747,148 @@ class ContainerKeyIndex implements AutoCloseable {
 
     //endregion
 
+    //region KeyFilterTracker
+
+    /**
+     * Keeps track of the {@link KeyHashFilter} for each Table Segment.
+     *
+     * Each {@link KeyHashFilter} is built lazily (upon the first lookup for its Segment) by iterating through all the
+     * Table Buckets in the Segment's Attribute Index. It is registered before the iteration begins so that any Table
+     * Buckets indexed concurrently (see {@link #notifyBucketsIndexed}) are included as well, but it is not used until
+     * the iteration completes. It is discarded when its Segment is evicted or when it becomes saturated (in which case
+     * it will be rebuilt upon the next lookup, sized using the Segment's current Bucket Count).
+     */
+    @ThreadSafe
+    private class KeyFilterTracker implements AutoCloseable {
+        @GuardedBy("filters")
+        private final HashMap<Long, KeyHashFilter> filters = new HashMap<>();
+
+        @Override
+        public void close() {
+            synchronized (this.filters) {
+                this.filters.clear();
+            }
+        }
+
+        /**
+         * Gets the {@link KeyHashFilter} for the given Segment, but only if it is ready to be used. If no such filter
+         * exists, one will be created and built asynchronously.
+         *
+         * @param segment A {@link DirectSegmentAccess} representing the Segment to get the filter for.
+         * @return The {@link KeyHashFilter}, or null if not available yet.
+         */
+        KeyHashFilter getIfReady(DirectSegmentAccess segment) {
+            KeyHashFilter filter;
+            boolean isNew = false;
+            synchronized (this.filters) {
+                filter = this.filters.get(segment.getSegmentId());
+                if (filter == null && !closed.get()) {
+                    // Leave room for growth; we don't want to have to rebuild it too soon.
+                    filter = new KeyHashFilter(2 * indexReader.getBucketCount(segment.getInfo()));
+                    this.filters.put(segment.getSegmentId(), filter);
+                    isNew = true;
+                }
+            }
+
+            if (isNew) {
+                load(segment, filter);
+                return null;
+            }
+
+            return filter != null && filter.isReady() ? filter : null;
+        }
+
+        /**
+         * Gets a value indicating whether the {@link KeyHashFilter} for the given Segment exists and is ready to be used.
+         *
+         * @param segmentId The Id of the Segment.
+         * @return True if ready, false otherwise.
+         */
+        boolean isReady(long segmentId) {
+            synchronized (this.filters) {
+                KeyHashFilter filter = this.filters.get(segmentId);
+                return filter != null && filter.isReady();
+            }
+        }
+
+        /**
+         * Adds the given Key Hashes to the {@link KeyHashFilter} for the given Segment, if any.
+         *
+         * @param segmentId The Id of the Segment.
+         * @param keyHashes The Key Hashes to add.
+         */
+        void add(long segmentId, Collection<UUID> keyHashes) {
+            KeyHashFilter filter;
+            synchronized (this.filters) {
+                filter = this.filters.get(segmentId);
+            }
+
+            if (filter != null) {
+                keyHashes.forEach(filter::add);
+                if (filter.isSaturated()) {
+                    log.debug("{}: Key Filter for Table Segment {} is saturated ({}).", traceObjectId, segmentId, filter);
+                    remove(segmentId, filter);
+                }
+            }
+        }
+
+        /**
+         * Removes the {@link KeyHashFilter} for the given Segment.
+         *
+         * @param segmentId The Id of the Segment.
+         * @param expected  If non-null, the filter will only be removed if it is this instance.
+         */
+        void remove(long segmentId, KeyHashFilter expected) {
+            boolean removed;
+            synchronized (this.filters) {
+                KeyHashFilter existing = this.filters.get(segmentId);
+                removed = existing != null && (expected == null || existing == expected);
+                if (removed) {
+                    this.filters.remove(segmentId);
+                }
+            }
+
+            if (removed) {
+                reportSize();
+            }
+        }
+
+        private void load(DirectSegmentAccess segment, KeyHashFilter filter) {
+            log.debug("{}: Building Key Filter for Table Segment {} ({}).", traceObjectId, segment.getSegmentId(), filter);
+            segment.attributeIterator(KeyHasher.MIN_HASH, KeyHasher.MAX_HASH, KEY_FILTER_LOAD_TIMEOUT)
+                    .thenCompose(iterator -> iterator.forEachRemaining(batch -> batch.forEach(e -> {
+                        if (KeyHasher.isValid(e.getKey()) && e.getValue() != Attributes.NULL_ATTRIBUTE_VALUE) {
+                            filter.add(e.getKey());
+                        }
+                    }), executor))
+                    .whenComplete((r, ex) -> {
+                        if (ex == null) {
+                            filter.markReady();
+                            log.debug("{}: Built Key Filter for Table Segment {} ({}).", traceObjectId, segment.getSegmentId(), filter);
+                            reportSize();
+                        } else {
+                            log.warn("{}: Unable to build Key Filter for Table Segment {}.", traceObjectId, segment.getSegmentId(), Exceptions.unwrap(ex));
+                            remove(segment.getSegmentId(), filter);
+                        }
+                    });
+        }
+
+        private void reportSize() {
+            if (closed.get()) {
+                return;
+            }
+
+            long sizeBytes;
+            synchronized (this.filters) {
+                sizeBytes = this.filters.values().stream().mapToLong(KeyHashFilter::getSizeBytes).sum();
+            }
+
+            metrics.keyFilterSize(sizeBytes);
+        }
+    }
+
+    //endregion
+
     //region RecoveryTracker
 
     /**
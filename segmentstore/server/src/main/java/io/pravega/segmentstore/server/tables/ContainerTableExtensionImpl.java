@@ -33,8 +33,10 @@ import io.pravega.segmentstore.server.CacheManager;
 import io.pravega.segmentstore.server.DirectSegmentAccess;
 import io.pravega.segmentstore.server.SegmentContainer;
 import io.pravega.segmentstore.server.SegmentMetadata;
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
 import io.pravega.segmentstore.server.UpdateableSegmentMetadata;
 import io.pravega.segmentstore.server.WriterSegmentProcessor;
+import io.pravega.segmentstore.server.containers.ContainerConfig;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -72,6 +74,11 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
      * compaction will stall), but not too big, as that will introduce larger indexing pauses when compaction is running.
      */
     private static final int DEFAULT_MAX_COMPACTION_SIZE = 4 * EntrySerializer.MAX_SERIALIZATION_LENGTH; // Approx 4MB.
+    /**
+     * The default value to supply to a {@link WriterTableProcessor} to indicate how many passes (of at most
+     * {@link #DEFAULT_MAX_COMPACTION_SIZE} each) a compaction may make on a Table Segment with a very low utilization.
+     */
+    private static final int DEFAULT_MAX_COMPACTION_PASSES = 4;
     /**
      * The default Segment Attributes to set for every new Table Segment. These values will override the corresponding
      * defaults from {@link TableAttributes#DEFAULT_VALUES}.
@@ -84,6 +91,7 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
     private final ContainerSortedKeyIndex sortedKeyIndex;
     private final ContainerKeyIndex keyIndex;
     private final EntrySerializer serializer;
+    private final SegmentStoreMetrics.TableCompaction compactionMetrics;
     private final AtomicBoolean closed;
     private final String traceObjectId;
 
@@ -99,7 +107,20 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
      * @param executor         An Executor to use for async tasks.
      */
     public ContainerTableExtensionImpl(SegmentContainer segmentContainer, CacheManager cacheManager, ScheduledExecutorService executor) {
-        this(segmentContainer, cacheManager, KeyHasher.sha256(), executor);
+        this(segmentContainer, cacheManager, KeyHasher.sha256(), false, executor);
+    }
+
+    /**
+     * Creates a new instance of the ContainerTableExtensionImpl class.
+     *
+     * @param config           The {@link ContainerConfig} to use.
+     * @param segmentContainer The {@link SegmentContainer} to associate with.
+     * @param cacheManager     The {@link CacheManager} to use to manage the cache.
+     * @param executor         An Executor to use for async tasks.
+     */
+    public ContainerTableExtensionImpl(@NonNull ContainerConfig config, SegmentContainer segmentContainer, CacheManager cacheManager,
+                                       ScheduledExecutorService executor) {
+        this(segmentContainer, cacheManager, KeyHasher.sha256(), config.isTableKeyFilterEnabled(), executor);
     }
 
     /**
@@ -111,14 +132,32 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
      * @param executor         An Executor to use for async tasks.
      */
     @VisibleForTesting
+    ContainerTableExtensionImpl(SegmentContainer segmentContainer, CacheManager cacheManager, KeyHasher hasher,
+                                ScheduledExecutorService executor) {
+        this(segmentContainer, cacheManager, hasher, false, executor);
+    }
+
+    /**
+     * Creates a new instance of the ContainerTableExtensionImpl class with custom {@link KeyHasher}.
+     *
+     * @param segmentContainer The {@link SegmentContainer} to associate with.
+     * @param cacheManager     The {@link CacheManager} to use to manage the cache.
+     * @param hasher           The {@link KeyHasher} to use.
+     * @param useKeyFilter     Whether to use a {@link KeyHashFilter} for each Table Segment to speed up lookups for
+     *                         inexistent keys.
+     * @param executor         An Executor to use for async tasks.
+     */
+    @VisibleForTesting
     ContainerTableExtensionImpl(@NonNull SegmentContainer segmentContainer, @NonNull CacheManager cacheManager,
-                                @NonNull KeyHasher hasher, @NonNull ScheduledExecutorService executor) {
+                                @NonNull KeyHasher hasher, boolean useKeyFilter, @NonNull ScheduledExecutorService executor) {
         this.segmentContainer = segmentContainer;
         this.executor = executor;
         this.hasher = hasher;
         this.sortedKeyIndex = createSortedIndex();
-        this.keyIndex = new ContainerKeyIndex(segmentContainer.getId(), cacheManager, this.sortedKeyIndex, this.hasher, this.executor);
+        this.keyIndex = new ContainerKeyIndex(segmentContainer.getId(), cacheManager, this.sortedKeyIndex, this.hasher,
+                useKeyFilter, this.executor);
         this.serializer = new EntrySerializer();
+        this.compactionMetrics = new SegmentStoreMetrics.TableCompaction(segmentContainer.getId());
         this.closed = new AtomicBoolean();
         this.traceObjectId = String.format("TableExtension[%d]", this.segmentContainer.getId());
     }
@@ -139,6 +178,7 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
     public void close() {
         if (!this.closed.getAndSet(true)) {
             this.keyIndex.close();
+            this.compactionMetrics.close();
             log.info("{}: Closed.", this.traceObjectId);
         }
     }
@@ -380,6 +420,17 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
         return DEFAULT_MAX_COMPACTION_SIZE;
     }
 
+    /**
+     * When overridden in a derived class, this will indicate how many compaction steps may be performed at once on a
+     * Table Segment with a low utilization. By default this returns {@link #DEFAULT_MAX_COMPACTION_PASSES}.
+     *
+     * @return The maximum number of compaction steps to perform at once.
+     */
+    @VisibleForTesting
+    protected int getMaxCompactionPasses() {
+        return DEFAULT_MAX_COMPACTION_PASSES;
+    }
+
     private <T> TableKeyBatch batch(Collection<T> toBatch, Function<T, TableKey> getKey, Function<T, Integer> getLength, TableKeyBatch batch) {
         for (T item : toBatch) {
             val length = getLength.apply(item);
@@ -403,7 +454,9 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
         return this.keyIndex.getSortedKeyIndex(segment)
                 .thenApply(index -> {
                     val prefix = translateItem(args.getPrefixFilter(), SortedKeyIndexDataSource.EXTERNAL_TRANSLATOR, KeyTranslator::inbound);
-                    val range = index.getIteratorRange(args.getSerializedState(), prefix);
+                    val fromKey = translateItem(args.getFromKey(), SortedKeyIndexDataSource.EXTERNAL_TRANSLATOR, KeyTranslator::inbound);
+                    val toKey = translateItem(args.getToKey(), SortedKeyIndexDataSource.EXTERNAL_TRANSLATOR, KeyTranslator::inbound);
+                    val range = index.getIteratorRange(args.getSerializedState(), prefix, fromKey, toKey);
                     return index.iterator(range, args.getFetchTimeout())
                             .thenCompose(keys -> toSortedIteratorItem(keys, toResult, segment.getInfo()));
                 });
@@ -435,6 +488,7 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
                                                                                   @NonNull GetBucketReader<T> createBucketReader,
                                                                                   @NonNull BiFunction<KeyTranslator, T, T> translateItem) {
         Preconditions.checkArgument(args.getPrefixFilter() == null, "Cannot perform a KeyHash iteration with a prefix.");
+        Preconditions.checkArgument(args.getFromKey() == null && args.getToKey() == null, "Cannot perform a KeyHash iteration with a key range.");
         UUID fromHash;
         try {
             fromHash = KeyHasher.getNextHash(args.getSerializedState() == null ? null : IteratorState.deserialize(args.getSerializedState()).getKeyHash());
@@ -512,11 +566,26 @@ public class ContainerTableExtensionImpl implements ContainerTableExtension {
             ContainerTableExtensionImpl.this.keyIndex.notifyIndexOffsetChanged(this.metadata.getId(), lastIndexedOffset);
         }
 
+        @Override
+        public void notifyBucketsIndexed(Collection<UUID> keyHashes) {
+            ContainerTableExtensionImpl.this.keyIndex.notifyBucketsIndexed(this.metadata.getId(), keyHashes);
+        }
+
         @Override
         public int getMaxCompactionSize() {
             return ContainerTableExtensionImpl.this.getMaxCompactionSize();
         }
 
+        @Override
+        public int getMaxCompactionPasses() {
+            return ContainerTableExtensionImpl.this.getMaxCompactionPasses();
+        }
+
+        @Override
+        public void notifyCompacted(long reclaimedBytes, long compactionLag) {
+            ContainerTableExtensionImpl.this.compactionMetrics.compacted(reclaimedBytes, compactionLag);
+        }
+
         @Override
         public void close() {
             // Tell the KeyIndex that it's ok to clear any tail-end cache.
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import com.google.common.base.Preconditions;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+
+/**
+ * A Bloom Filter over the Key Hashes of the Table Buckets that have been indexed for a single Table Segment. This can be
+ * used to determine (without any I/O) that a Key Hash does not have a Table Bucket in the index.
+ *
+ * Key Hashes are already uniformly distributed (they are derived from a cryptographic hash), so we do not need to hash
+ * them again: we derive all our bit indices from the two halves of the {@link UUID} using double hashing.
+ *
+ * Items cannot be removed from this filter. Removed Table Buckets will remain in the filter and will be reported as
+ * false positives. Once more items than the filter's capacity have been added, the false positive rate will begin to
+ * exceed {@link #TARGET_FALSE_POSITIVE_RATE} (see {@link #isSaturated()}); the filter should then be discarded and rebuilt.
+ */
+@ThreadSafe
+class KeyHashFilter {
+    //region Members
+
+    /**
+     * The false positive rate we are sizing the filter for.
+     */
+    static final double TARGET_FALSE_POSITIVE_RATE = 0.01;
+    /**
+     * The smallest number of items that a filter will be sized for.
+     */
+    static final int MIN_CAPACITY = 1024;
+    /**
+     * The largest number of items that a filter will be sized for (this corresponds to about 75MB of memory).
+     */
+    static final int MAX_CAPACITY = 64 * 1024 * 1024;
+    private static final double LN2 = Math.log(2);
+    @Getter
+    private final long capacity;
+    private final int bitCount;
+    private final int hashFunctionCount;
+    private final AtomicLongArray bits;
+    private final AtomicLong itemCount;
+    private volatile boolean ready;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the KeyHashFilter class.
+     *
+     * @param capacity The number of items to size the filter for. This will be adjusted to be between {@link #MIN_CAPACITY}
+     *                 and {@link #MAX_CAPACITY}.
+     */
+    KeyHashFilter(long capacity) {
+        Preconditions.checkArgument(capacity >= 0, "capacity must be a non-negative number.");
+        this.capacity = Math.max(MIN_CAPACITY, Math.min(MAX_CAPACITY, capacity));
+        long optimalBits = (long) Math.ceil(-this.capacity * Math.log(TARGET_FALSE_POSITIVE_RATE) / (LN2 * LN2));
+        this.bits = new AtomicLongArray((int) ((optimalBits + Long.SIZE - 1) / Long.SIZE));
+        this.bitCount = this.bits.length() * Long.SIZE;
+        this.hashFunctionCount = Math.max(1, (int) Math.round((double) this.bitCount / this.capacity * LN2));
+        this.itemCount = new AtomicLong();
+        this.ready = false;
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Adds the given Key Hash to the filter.
+     *
+     * @param keyHash The Key Hash to add.
+     */
+    void add(UUID keyHash) {
+        long h1 = keyHash.getMostSignificantBits();
+        long h2 = keyHash.getLeastSignificantBits();
+        boolean changed = false;
+        for (int i = 0; i < this.hashFunctionCount; i++) {
+            int bitIndex = getBitIndex(h1, h2, i);
+            long mask = 1L << bitIndex;
+            int wordIndex = bitIndex >>> 6;
+            long word;
+            do {
+                word = this.bits.get(wordIndex);
+                if ((word & mask) != 0) {
+                    break;
+                }
+            } while (!this.bits.compareAndSet(wordIndex, word, word | mask));
+            changed |= (word & mask) == 0;
+        }
+
+        if (changed) {
+            // Only count items that weren't already (possibly) in the filter. The same Key Hash may be added many times
+            // (i.e., every time its Table Bucket is updated), but that does not affect the false positive rate.
+            this.itemCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Determines whether the given Key Hash may have been added to this filter.
+     *
+     * @param keyHash The Key Hash to check.
+     * @return False if the Key Hash has definitely not been added to this filter, true if it may have been.
+     */
+    boolean mightContain(UUID keyHash) {
+        long h1 = keyHash.getMostSignificantBits();
+        long h2 = keyHash.getLeastSignificantBits();
+        for (int i = 0; i < this.hashFunctionCount; i++) {
+            int bitIndex = getBitIndex(h1, h2, i);
+            if ((this.bits.get(bitIndex >>> 6) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Indicates that this filter contains all the Key Hashes in the index and it may now be used for lookups.
+     */
+    void markReady() {
+        this.ready = true;
+    }
+
+    /**
+     * Gets a value indicating whether {@link #markReady()} has been invoked.
+     *
+     * @return True if ready, false otherwise.
+     */
+    boolean isReady() {
+        return this.ready;
+    }
+
+    /**
+     * Gets a value indicating whether more (distinct) items have been added to this filter than it was sized for.
+     *
+     * @return True if saturated, false otherwise.
+     */
+    boolean isSaturated() {
+        return this.itemCount.get() > this.capacity;
+    }
+
+    /**
+     * Gets the number of bytes used by this filter's bit array.
+     *
+     * @return The size of this filter, in bytes.
+     */
+    long getSizeBytes() {
+        return (long) this.bits.length() * Long.BYTES;
+    }
+
+    private int getBitIndex(long h1, long h2, int i) {
+        long combined = h1 + i * h2;
+        return (int) ((combined & Long.MAX_VALUE) % this.bitCount);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Capacity = %d, Items = %d, Bits = %d, Hashes = %d, Ready = %s",
+                this.capacity, this.itemCount.get(), this.bitCount, this.hashFunctionCount, this.ready);
+    }
+
+    //endregion
+}
@@ -82,7 +82,23 @@ interface SegmentSortedKeyIndex {
      * @param prefix           The prefix of all keys returned.
      * @return An {@link IteratorRange}.
      */
-    IteratorRange getIteratorRange(@Nullable BufferView fromKeyExclusive, @Nullable BufferView prefix);
+    default IteratorRange getIteratorRange(@Nullable BufferView fromKeyExclusive, @Nullable BufferView prefix) {
+        return getIteratorRange(fromKeyExclusive, prefix, null, null);
+    }
+
+    /**
+     * Generates a {@link IteratorRange} that can be used as argument to {@link #iterator} from the given input. The
+     * resulting range is the intersection of the range defined by the prefix and the range [lowerBound, upperBound).
+     *
+     * @param fromKeyExclusive The lower bound of the iteration (exclusive). If this iteration is resumed (from a previously
+     *                         interrupted one), should be the last key that was returned.
+     * @param prefix           The prefix of all keys returned.
+     * @param lowerBound       The smallest key that may be returned (inclusive).
+     * @param upperBound       The upper bound of all keys returned (exclusive).
+     * @return An {@link IteratorRange}.
+     */
+    IteratorRange getIteratorRange(@Nullable BufferView fromKeyExclusive, @Nullable BufferView prefix,
+                                   @Nullable BufferView lowerBound, @Nullable BufferView upperBound);
 
     /**
      * Arguments for {@link #iterator}.
@@ -90,10 +106,15 @@ interface SegmentSortedKeyIndex {
     @Data
     class IteratorRange {
         /**
-         * An {@link ArrayView} representing the lower bound of the iteration (exclusive). All returned keys will be larger
-         * than this one. If null, the iteration will start from the smallest key in the segment.
+         * An {@link ArrayView} representing the lower bound of the iteration. All returned keys will be larger than (or,
+         * if {@link #isFromInclusive()}, equal to) this one. If null, the iteration will start from the smallest key in
+         * the segment.
          */
         private final ArrayView from;
+        /**
+         * Whether {@link #getFrom()} may itself be returned by the iteration.
+         */
+        private final boolean fromInclusive;
         /**
          * An {@link ArrayView representing the upper bound of the iteration (exclusive). All returned keys will be smaller
          * than this one. If null, the iteration will proceed through the largest key in the segment.
@@ -134,8 +155,9 @@ interface SegmentSortedKeyIndex {
             }
 
             @Override
-            public IteratorRange getIteratorRange(@Nullable BufferView fromKeyExclusive, @Nullable BufferView prefix) {
-                return new IteratorRange(null, null);
+            public IteratorRange getIteratorRange(@Nullable BufferView fromKeyExclusive, @Nullable BufferView prefix,
+                                                  @Nullable BufferView lowerBound, @Nullable BufferView upperBound) {
+                return new IteratorRange(null, false, null);
             }
         };
     }
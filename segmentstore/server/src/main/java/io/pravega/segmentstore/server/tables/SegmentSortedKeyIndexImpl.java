@@ -36,6 +36,7 @@ import java.util.NavigableMap;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
@@ -156,8 +157,13 @@ class SegmentSortedKeyIndexImpl implements SegmentSortedKeyIndex {
         // the iteration (i.e., calls to persist() and/or updateSegmentIndexOffset(), we may get inconsistent or incorrect
         // results. Since we do not guarantee that changes AFTER the iterator was initiated will be visible in the iteration,
         // it is OK to snapshot the tail now vs querying it every time.
+        if (range.getFrom() != null && range.getTo() != null && KEY_COMPARATOR.compare(range.getFrom(), range.getTo()) >= 0) {
+            // Nothing can be in this range.
+            return () -> CompletableFuture.completedFuture(null);
+        }
+
         val tailSnapshot = getTailSnapshot(range);
-        val persistedIterator = this.sortedKeys.iterator(range.getFrom(), false, range.getTo(), false, fetchTimeout);
+        val persistedIterator = this.sortedKeys.iterator(range.getFrom(), range.isFromInclusive(), range.getTo(), false, fetchTimeout);
 
         // Return a sequential iterator. It is important that no two requests overlap, otherwise the iterator's state may
         // get corrupted.
@@ -165,23 +171,39 @@ class SegmentSortedKeyIndexImpl implements SegmentSortedKeyIndex {
     }
 
     @Override
-    public IteratorRange getIteratorRange(@Nullable BufferView fromKeyExclusive, @Nullable BufferView prefix) {
-        return getIteratorRange(toArrayView(fromKeyExclusive), toArrayView(prefix));
+    public IteratorRange getIteratorRange(@Nullable BufferView fromKeyExclusive, @Nullable BufferView prefix,
+                                          @Nullable BufferView lowerBound, @Nullable BufferView upperBound) {
+        return getIteratorRange(toArrayView(fromKeyExclusive), toArrayView(prefix), toArrayView(lowerBound), toArrayView(upperBound));
     }
 
-    private IteratorRange getIteratorRange(ArrayView fromKeyExclusive, ArrayView prefix) {
-        if (fromKeyExclusive != null && prefix != null) {
-            // Validate args.
-            Preconditions.checkArgument(KEY_COMPARATOR.compare(fromKeyExclusive, prefix) >= 0,
-                    "FromKey does not begin with given prefix.");
+    private IteratorRange getIteratorRange(ArrayView fromKeyExclusive, ArrayView prefix, ArrayView lowerBound, ArrayView upperBound) {
+        if (lowerBound != null && upperBound != null) {
+            Preconditions.checkArgument(KEY_COMPARATOR.compare(lowerBound, upperBound) < 0,
+                    "LowerBound must be smaller than UpperBound.");
+        }
+
+        // Begin with the range defined by the prefix (if any), then narrow it down using the given bounds.
+        ArrayView from = prefix;
+        boolean fromInclusive = false;
+        if (lowerBound != null && (from == null || KEY_COMPARATOR.compare(lowerBound, from) > 0)) {
+            from = lowerBound;
+            fromInclusive = true;
+        }
+
+        ArrayView to = prefix == null ? null : ByteArrayComparator.getNextItemOfSameLength(prefix);
+        if (upperBound != null && (to == null || KEY_COMPARATOR.compare(upperBound, to) < 0)) {
+            to = upperBound;
         }
 
-        if (fromKeyExclusive == null) {
-            fromKeyExclusive = prefix;
+        if (fromKeyExclusive != null) {
+            // Resuming a previous iteration. Validate args.
+            Preconditions.checkArgument(from == null || KEY_COMPARATOR.compare(fromKeyExclusive, from) >= 0,
+                    "FromKey is not within the iteration range.");
+            from = fromKeyExclusive;
+            fromInclusive = false;
         }
 
-        val lastKeyExclusive = prefix == null ? null : ByteArrayComparator.getNextItemOfSameLength(prefix);
-        return new IteratorRange(fromKeyExclusive, lastKeyExclusive);
+        return new IteratorRange(from, fromInclusive, to);
     }
 
     //endregion
@@ -190,24 +212,24 @@ class SegmentSortedKeyIndexImpl implements SegmentSortedKeyIndex {
 
     private TreeMap<ArrayView, CacheBucketOffset> getTailSnapshot(IteratorRange range) {
         synchronized (this.tailKeys) {
-            return new TreeMap<>(subMap(this.tailKeys, range.getFrom(), range.getTo(), false));
+            return new TreeMap<>(subMap(this.tailKeys, range.getFrom(), range.isFromInclusive(), range.getTo(), false));
         }
     }
 
     private static NavigableMap<ArrayView, CacheBucketOffset> subMap(NavigableMap<ArrayView, CacheBucketOffset> tailKeys,
-                                                                     ArrayView fromExclusive, ArrayView to, boolean toInclusive) {
-        if (fromExclusive == null && to == null) {
+                                                                     ArrayView from, boolean fromInclusive, ArrayView to, boolean toInclusive) {
+        if (from == null && to == null) {
             // Full map.
             return tailKeys;
-        } else if (fromExclusive == null) {
+        } else if (from == null) {
             // No beginning.
             return tailKeys.headMap(to, toInclusive);
         } else if (to == null) {
             // No end.
-            return tailKeys.tailMap(fromExclusive, false);
+            return tailKeys.tailMap(from, fromInclusive);
         } else {
             // Beginning and end.
-            return tailKeys.subMap(fromExclusive, false, to, toInclusive);
+            return tailKeys.subMap(from, fromInclusive, to, toInclusive);
         }
     }
 
@@ -278,38 +300,44 @@ class SegmentSortedKeyIndexImpl implements SegmentSortedKeyIndex {
         private final AsyncIterator<List<ArrayView>> persistedIterator;
         private final IteratorRange range;
         private final AtomicReference<ArrayView> lastKey;
+        /**
+         * Whether {@link #lastKey} may be included in the next result. This is only the case before the first result.
+         */
+        private final AtomicBoolean lastKeyInclusive;
 
         SortedIterator(NavigableMap<ArrayView, CacheBucketOffset> tailSnapshot, AsyncIterator<List<ArrayView>> persistedIterator, IteratorRange range) {
             this.tailSnapshot = tailSnapshot;
             this.persistedIterator = persistedIterator;
             this.lastKey = new AtomicReference<>(range.getFrom());
+            this.lastKeyInclusive = new AtomicBoolean(range.isFromInclusive());
             this.range = range;
         }
 
         @Override
         public CompletableFuture<List<BufferView>> getNext() {
             return this.persistedIterator.getNext().thenApply(keys -> {
-                keys = mixWithTail(keys, this.tailSnapshot, lastKey.get(), range.getTo());
+                keys = mixWithTail(keys, this.tailSnapshot, lastKey.get(), lastKeyInclusive.get(), range.getTo());
                 if (keys != null && !keys.isEmpty()) {
                     // Keep track of the last key; we'll need it for the next iteration.
                     this.lastKey.set(keys.get(keys.size() - 1));
+                    this.lastKeyInclusive.set(false);
                 }
                 return keys == null ? null : keys.stream().map(a -> (BufferView) a).collect(Collectors.toList());
             });
         }
 
         private List<ArrayView> mixWithTail(List<ArrayView> persistedKeys, NavigableMap<ArrayView, CacheBucketOffset> tailSnapshot,
-                                            ArrayView fromExclusive, ArrayView toExclusive) {
+                                            ArrayView from, boolean fromInclusive, ArrayView toExclusive) {
             val tailResult = new ArrayList<ArrayView>();
             val tailKeys = new HashSet<ArrayView>();
 
             NavigableMap<ArrayView, CacheBucketOffset> tailSection;
             if (persistedKeys == null || persistedKeys.isEmpty()) {
                 // No (or no more) items from the persisted index. Return as much as we can from our tail index.
-                tailSection = subMap(tailSnapshot, fromExclusive, toExclusive, false);
+                tailSection = subMap(tailSnapshot, from, fromInclusive, toExclusive, false);
             } else {
                 // Match the range returned by BTreeSet.
-                tailSection = subMap(tailSnapshot, fromExclusive, persistedKeys.get(persistedKeys.size() - 1), true);
+                tailSection = subMap(tailSnapshot, from, fromInclusive, persistedKeys.get(persistedKeys.size() - 1), true);
             }
 
             tailSection.forEach((key, offset) -> {
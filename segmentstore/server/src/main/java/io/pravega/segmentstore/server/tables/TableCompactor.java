@@ -9,6 +9,7 @@
  */
 package io.pravega.segmentstore.server.tables;
 
+import com.google.common.collect.Iterables;
 import io.pravega.common.MathHelpers;
 import io.pravega.common.TimeoutTimer;
 import io.pravega.common.concurrent.Futures;
@@ -58,12 +59,19 @@ import lombok.val;
  * of this operation (namely {@link TableAttributes#COMPACTION_OFFSET} and {@link TableAttributes#TOTAL_ENTRY_COUNT}).
  * - These copied entries are not indexed as part of compaction. Similarly to normal updates, the {@link WriterTableProcessor}
  * will pick them up and index them.
+ * - If the Table Segment's utilization is well below its {@link TableAttributes#MIN_UTILIZATION}, the above may be
+ * repeated several times (up to {@link TableWriterConnector#getMaxCompactionPasses()}), with each pass resuming where
+ * the previous one left off. Reading and validating a pass overlaps with copying the previous one.
  */
 @Slf4j
 @RequiredArgsConstructor
 class TableCompactor {
     //region Members
 
+    /**
+     * The maximum number of Table Buckets to look up concurrently when excluding obsolete {@link Candidate}s.
+     */
+    private static final int MAX_CONCURRENT_BUCKET_LOOKUPS = 32;
     @NonNull
     private final TableWriterConnector connector;
     @NonNull
@@ -90,11 +98,7 @@ class TableCompactor {
             return false;
         }
 
-        long totalEntryCount = this.indexReader.getTotalEntryCount(info);
-        long entryCount = this.indexReader.getEntryCount(info);
-        long utilization = totalEntryCount == 0 ? 100 : MathHelpers.minMax(Math.round(100.0 * entryCount / totalEntryCount), 0, 100);
-        long utilizationThreshold = (int) MathHelpers.minMax(this.indexReader.getCompactionUtilizationThreshold(info), 0, 100);
-        return utilization < utilizationThreshold;
+        return getUtilization(info) < getUtilizationThreshold(info);
     }
 
     /**
@@ -155,7 +159,8 @@ class TableCompactor {
     CompletableFuture<Void> compact(@NonNull DirectSegmentAccess segment, TimeoutTimer timer) {
         SegmentProperties info = segment.getInfo();
         long startOffset = getCompactionStartOffset(info);
-        int maxLength = (int) Math.min(this.connector.getMaxCompactionSize(), this.indexReader.getLastIndexedOffset(info) - startOffset);
+        long lastIndexedOffset = this.indexReader.getLastIndexedOffset(info);
+        int maxLength = (int) Math.min(this.connector.getMaxCompactionSize(), lastIndexedOffset - startOffset);
         if (startOffset < 0 || maxLength < 0) {
             // The Segment's Compaction offset must be a value between 0 and the current LastIndexedOffset.
             return Futures.failedFuture(new DataCorruptionException(String.format(
@@ -167,13 +172,56 @@ class TableCompactor {
             return CompletableFuture.completedFuture(null);
         }
 
-        // Read the Table Entries beginning at the specified offset, without exceeding the given maximum length.
-        return readCandidates(segment, startOffset, maxLength, timer)
-                .thenComposeAsync(candidates -> this.indexReader
-                                .locateBuckets(segment, candidates.candidates.keySet(), timer)
-                                .thenComposeAsync(buckets -> excludeObsolete(segment, candidates, buckets, timer), this.executor)
-                                .thenComposeAsync(v -> copyCandidates(segment, candidates, timer), this.executor),
-                        this.executor);
+        // Read the Table Entries beginning at the specified offset, without exceeding the given maximum length. Segments
+        // with a low utilization may get more than one such pass.
+        int passCount = getCompactionPassCount(info);
+        return compact(segment, readCandidates(segment, startOffset, maxLength, timer), passCount, lastIndexedOffset,
+                CompletableFuture.completedFuture(0L), timer);
+    }
+
+    /**
+     * Performs one compaction pass (and, recursively, any subsequent ones) over the Table Entries that have been read
+     * from the Segment. The passes are pipelined: reading the next pass and validating its {@link Candidate}s overlaps
+     * with copying the {@link Candidate}s of the previous pass. The copies themselves are performed in order, one pass
+     * after another, since each of them must resume from the {@link TableAttributes#COMPACTION_OFFSET} where the previous
+     * one left off.
+     *
+     * Validating a pass ahead of the copy of the previous pass is equivalent to doing it afterwards: the copied
+     * {@link TableEntry} instances are not indexed as part of compaction, so the index does not change in the meantime.
+     *
+     * @param segment           A {@link DirectSegmentAccess} representing the Segment to operate on.
+     * @param read              A CompletableFuture that will contain the {@link CompactionArgs} for this pass.
+     * @param remainingPasses   The number of passes left to do, including this one.
+     * @param lastIndexedOffset The Segment's last indexed offset. No pass will process anything beyond it.
+     * @param previousPasses    A CompletableFuture that will complete when the copy of the previous pass completes and
+     *                          will contain the number of bytes reclaimed so far.
+     * @param timer             Timer for the operation.
+     * @return A CompletableFuture that, when completed, will indicate that all passes have completed.
+     */
+    private CompletableFuture<Void> compact(DirectSegmentAccess segment, CompletableFuture<CompactionArgs> read, int remainingPasses,
+                                            long lastIndexedOffset, CompletableFuture<Long> previousPasses, TimeoutTimer timer) {
+        // If we were unable to read this pass, let the previous one finish copying before failing; we do not want to
+        // return while there still is a modification in progress.
+        val candidates = Futures.exceptionallyCompose(read,
+                ex -> previousPasses.handle((r, ex2) -> (CompactionArgs) null).thenCompose(v -> Futures.<CompactionArgs>failedFuture(ex)));
+        return candidates.thenComposeAsync(args -> {
+            CompletableFuture<CompactionArgs> nextRead = null;
+            long remainingLength = lastIndexedOffset - args.endOffset;
+            if (remainingPasses > 1 && remainingLength > 0 && args.endOffset > args.startOffset) {
+                nextRead = readCandidates(segment, args.endOffset, (int) Math.min(this.connector.getMaxCompactionSize(), remainingLength), timer);
+            }
+
+            CompletableFuture<Long> thisPass = this.indexReader
+                    .locateBuckets(segment, args.candidates.keySet(), timer)
+                    .thenComposeAsync(buckets -> excludeObsolete(segment, args, buckets, timer), this.executor)
+                    .thenCombine(previousPasses, (v, reclaimed) -> reclaimed)
+                    .thenComposeAsync(reclaimed -> copyCandidates(segment, args, timer).thenApply(r -> reclaimed + r), this.executor);
+            if (nextRead == null) {
+                return thisPass.thenAccept(reclaimed -> this.connector.notifyCompacted(reclaimed, lastIndexedOffset - args.endOffset));
+            } else {
+                return compact(segment, nextRead, remainingPasses - 1, lastIndexedOffset, thisPass, timer);
+            }
+        }, this.executor);
     }
 
     /**
@@ -262,18 +310,20 @@ class TableCompactor {
         });
 
         // For every Bucket that still exists, find all its Keys and match with our candidates and figure out if our
-        // candidates are still eligible for compaction.
+        // candidates are still eligible for compaction. Each Bucket has its own CandidateSet, so we can look them up
+        // concurrently, up to MAX_CONCURRENT_BUCKET_LOOKUPS at a time.
         val br = TableBucketReader.key(segment, this.indexReader::getBackpointerOffset, this.executor);
-        val candidates = args.candidates.entrySet().iterator();
-        return Futures.loop(
-                candidates::hasNext,
-                () -> {
-                    val e = candidates.next();
-                    long bucketOffset = buckets.get(e.getKey()).getSegmentOffset();
-                    BiConsumer<TableKey, Long> handler = (key, offset) -> e.getValue().handleExistingKey(key, offset);
-                    return br.findAll(bucketOffset, handler, timer);
-                },
-                this.executor);
+        val batches = Iterables.partition(args.candidates.entrySet(), MAX_CONCURRENT_BUCKET_LOOKUPS);
+        return Futures.loop(batches, batch -> {
+            val lookups = new ArrayList<CompletableFuture<Void>>(batch.size());
+            for (val e : batch) {
+                long bucketOffset = buckets.get(e.getKey()).getSegmentOffset();
+                BiConsumer<TableKey, Long> handler = (key, offset) -> e.getValue().handleExistingKey(key, offset);
+                lookups.add(br.findAll(bucketOffset, handler, timer));
+            }
+
+            return Futures.allOf(lookups).thenApply(v -> true);
+        }, this.executor);
     }
 
     /**
@@ -282,9 +332,10 @@ class TableCompactor {
      * @param segment A {@link DirectSegmentAccess} representing the Segment to operate on.
      * @param args    A {@link CompactionArgs} containing the {@link Candidate}s to copy.
      * @param timer   Timer for the operation.
-     * @return A CompletableFuture that, when completed, indicate the candidates have been copied.
+     * @return A CompletableFuture that, when completed, indicate the candidates have been copied. It will contain the
+     * number of bytes reclaimed (the number of bytes processed minus the number of bytes copied).
      */
-    private CompletableFuture<Void> copyCandidates(DirectSegmentAccess segment, CompactionArgs args, TimeoutTimer timer) {
+    private CompletableFuture<Long> copyCandidates(DirectSegmentAccess segment, CompactionArgs args, TimeoutTimer timer) {
         // Collect all the candidates for copying and calculate the total serialization length.
         val toWrite = new ArrayList<TableEntry>();
         int totalLength = 0;
@@ -311,7 +362,8 @@ class TableCompactor {
             log.debug("TableCompactor[{}]: Compacting {}, CopyCount={}, CopyLength={}.", segment.getSegmentId(), args, toWrite.size(), totalLength);
         }
 
-        return Futures.toVoid(result);
+        long reclaimed = Math.max(0, args.endOffset - args.startOffset - totalLength);
+        return result.thenApply(v -> reclaimed);
     }
 
     /**
@@ -346,6 +398,42 @@ class TableCompactor {
         return Math.max(this.indexReader.getCompactionOffset(info), info.getStartOffset());
     }
 
+    /**
+     * Calculates the number of compaction passes to perform based on how far below its
+     * {@link TableAttributes#MIN_UTILIZATION} the Segment's utilization is. A Segment just below its threshold gets a
+     * single pass, while one that has almost no live entries left gets {@link TableWriterConnector#getMaxCompactionPasses()}.
+     *
+     * @param info A {@link SegmentProperties} representing the current state of the Segment.
+     * @return The number of compaction passes.
+     */
+    private int getCompactionPassCount(SegmentProperties info) {
+        int maxPasses = this.connector.getMaxCompactionPasses();
+        long utilization = getUtilization(info);
+        long utilizationThreshold = getUtilizationThreshold(info);
+        if (maxPasses <= 1 || utilization >= utilizationThreshold) {
+            return 1;
+        }
+
+        double deficit = (double) (utilizationThreshold - utilization) / utilizationThreshold;
+        return 1 + (int) Math.round(deficit * (maxPasses - 1));
+    }
+
+    /**
+     * Calculates the utilization of the Segment, as the percentage of Table Entries in it that are still live.
+     *
+     * @param info A {@link SegmentProperties} representing the current state of the Segment.
+     * @return The utilization, between 0 and 100.
+     */
+    private long getUtilization(SegmentProperties info) {
+        long totalEntryCount = this.indexReader.getTotalEntryCount(info);
+        long entryCount = this.indexReader.getEntryCount(info);
+        return totalEntryCount == 0 ? 100 : MathHelpers.minMax(Math.round(100.0 * entryCount / totalEntryCount), 0, 100);
+    }
+
+    private long getUtilizationThreshold(SegmentProperties info) {
+        return MathHelpers.minMax(this.indexReader.getCompactionUtilizationThreshold(info), 0, 100);
+    }
+
     //region Helper Classes
 
     @RequiredArgsConstructor
@@ -13,6 +13,8 @@ import io.pravega.segmentstore.contracts.tables.TableAttributes;
 import io.pravega.segmentstore.server.DirectSegmentAccess;
 import io.pravega.segmentstore.server.SegmentMetadata;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -66,6 +68,16 @@ interface TableWriterConnector extends AutoCloseable {
      */
     void notifyIndexOffsetChanged(long lastIndexedOffset);
 
+    /**
+     * This method will be invoked by the {@link WriterTableProcessor} after it has successfully persisted updates to
+     * the given Table Buckets in the index, but before it invokes {@link #notifyIndexOffsetChanged}.
+     *
+     * @param keyHashes A Collection of Key Hashes for those Table Buckets which exist in the index after the update.
+     */
+    default void notifyBucketsIndexed(Collection<UUID> keyHashes) {
+        // By default, nothing to do.
+    }
+
     /**
      * Gets a value representing the maximum length that a Table Segment compaction can process at once.
      *
@@ -73,6 +85,29 @@ interface TableWriterConnector extends AutoCloseable {
      */
     int getMaxCompactionSize();
 
+    /**
+     * Gets a value representing the maximum number of passes (each processing at most {@link #getMaxCompactionSize()})
+     * that a single Table Segment compaction may perform. The {@link TableCompactor} will only perform more than one pass
+     * if the Table Segment's utilization is well below its {@link TableAttributes#MIN_UTILIZATION}.
+     *
+     * @return The maximum number of compaction passes. By default, this is 1.
+     */
+    default int getMaxCompactionPasses() {
+        return 1;
+    }
+
+    /**
+     * This method will be invoked by the {@link TableCompactor} after every successful compaction of the Table Segment
+     * this connector refers to.
+     *
+     * @param reclaimedBytes The number of bytes (of obsolete Table Entries) that have been discarded by the compaction.
+     * @param compactionLag  The number of bytes between the {@link TableAttributes#COMPACTION_OFFSET} and the
+     *                       {@link TableAttributes#INDEX_OFFSET} after the compaction.
+     */
+    default void notifyCompacted(long reclaimedBytes, long compactionLag) {
+        // By default, nothing to do.
+    }
+
     /**
      * This method will be invoked by the {@link WriterTableProcessor} when it is closed.
      */
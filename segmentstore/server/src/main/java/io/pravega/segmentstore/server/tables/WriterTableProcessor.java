@@ -297,12 +297,22 @@ public class WriterTableProcessor implements WriterSegmentProcessor {
                                                     this.indexWriter.updateBuckets(segment, bucketUpdates,
                                                             this.aggregator.getLastIndexedOffset(), keyUpdates.getLastIndexedOffset(),
                                                             keyUpdates.getTotalUpdateCount(), timer.getRemaining()),
-                                                    this.executor);
+                                                    this.executor)
+                                            .thenRun(() -> notifyBucketsIndexed(bucketUpdates));
                                 }, this.executor),
                         this.executor)
                 .thenApply(ignored -> new TableWriterFlushResult(keyUpdates.getLastIndexedOffset(), keyUpdates.getHighestCopiedOffset()));
     }
 
+    private void notifyBucketsIndexed(Collection<BucketUpdate> bucketUpdates) {
+        // Only include those buckets that still exist; those which had all their keys removed are no longer in the index.
+        val keyHashes = bucketUpdates.stream()
+                .filter(bu -> bu.getBucketOffset() >= 0)
+                .map(bu -> bu.getBucket().getHash())
+                .collect(Collectors.toList());
+        this.connector.notifyBucketsIndexed(keyHashes);
+    }
+
     @SneakyThrows(DataCorruptionException.class)
     private void reconcileTableIndexOffset() {
         long tableIndexOffset = this.indexWriter.getLastIndexedOffset(this.connector.getMetadata());
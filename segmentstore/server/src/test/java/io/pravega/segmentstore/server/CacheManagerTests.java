@@ -17,6 +17,7 @@ import io.pravega.segmentstore.storage.ThrottleSourceListener;
 import io.pravega.segmentstore.storage.cache.CacheState;
 import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
 import io.pravega.segmentstore.storage.cache.NoOpCache;
+import io.pravega.segmentstore.storage.cache.TieredCacheStorage;
 import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.ThreadPooledTestSuite;
 import java.time.Duration;
@@ -302,6 +303,72 @@ public class CacheManagerTests extends ThreadPooledTestSuite {
         Assert.assertEquals("Not expecting multiple attempts at eviction.", 1, callCount.get());
     }
 
+    /**
+     * Tests the ability to increment the demotion generation (and the oldest generation) when using a
+     * {@link TieredCacheStorage}: the demotion generation should be driven by the Primary tier utilization, while the
+     * oldest generation should be driven by the Secondary tier utilization.
+     */
+    @Test
+    public void testDemotionGeneration() {
+        final int maxSize = 2048;
+        final int secondaryMaxSize = 10 * maxSize;
+        final int generationCount = 10;
+        final double targetUtilization = 0.5;
+        final double maxUtilization = 0.95;
+        final CachePolicy policy = new CachePolicy(maxSize, targetUtilization, maxUtilization, Duration.ofHours(100 * generationCount), Duration.ofHours(1));
+        val primary = new TestCache(policy.getMaxSize());
+        val secondary = new TestCache(secondaryMaxSize);
+        primary.setStoredBytes(1); // The Cache Manager won't do anything if there's no stored data.
+        @Cleanup
+        val cache = new TieredCacheStorage(primary, secondary);
+        @Cleanup
+        TestCacheManager cm = new TestCacheManager(policy, cache, executorService());
+        TestClient client = new TestClient();
+        cm.register(client);
+        val lastOldest = new AtomicInteger();
+        val lastDemotion = new AtomicInteger();
+
+        // Advance the current generation. Nothing exceeds any thresholds, so nothing should be demoted or evicted.
+        for (int cycleId = 0; cycleId < generationCount; cycleId++) {
+            client.setCacheStatus(0, cycleId);
+            client.setUpdateGenerationsImpl((current, oldest, demotion) -> {
+                Assert.assertEquals("Not expecting oldest generation to change.", 0, (int) oldest);
+                Assert.assertEquals("Not expecting demotion generation to change.", 0, (int) demotion);
+                return false;
+            });
+            cm.applyCachePolicy();
+        }
+
+        // Primary tier exceeds its threshold. Entries should be demoted (one generation at a time), but not evicted.
+        primary.setUsedBytes(policy.getEvictionThreshold() + 3);
+        client.setUpdateGenerationsImpl((current, oldest, demotion) -> {
+            Assert.assertEquals("Not expecting oldest generation to change while demoting.", 0, (int) oldest);
+            AssertExtensions.assertGreaterThan("Expected demotion generation to increase.", lastDemotion.get(), demotion);
+            lastDemotion.set(demotion);
+
+            // Each demoted generation moves one byte from the Primary tier to the Secondary tier.
+            primary.setUsedBytes(primary.getUsedBytes() - 1);
+            secondary.setUsedBytes(secondary.getUsedBytes() + 1);
+            return true;
+        });
+        cm.applyCachePolicy();
+        Assert.assertEquals("Unexpected Primary tier utilization after demotion.", policy.getEvictionThreshold(), primary.getUsedBytes());
+        Assert.assertEquals("Unexpected demotion generation.", 3, lastDemotion.get());
+
+        // Secondary tier exceeds its threshold. Entries should be evicted, and the demotion generation should follow suit.
+        secondary.setStoredBytes(1);
+        secondary.setUsedBytes((long) (secondaryMaxSize * targetUtilization) + 1);
+        client.setUpdateGenerationsImpl((current, oldest, demotion) -> {
+            AssertExtensions.assertGreaterThan("Expected oldest generation to increase.", lastOldest.get(), oldest);
+            AssertExtensions.assertGreaterThan("Expected demotion generation to be at least oldest generation.", oldest - 1, demotion);
+            lastOldest.set(oldest);
+            secondary.setUsedBytes(secondary.getUsedBytes() - 1);
+            return true;
+        });
+        cm.applyCachePolicy();
+        Assert.assertEquals("Unexpected oldest generation.", 1, lastOldest.get());
+    }
+
     /**
      * Tests the ability of the CacheManager to auto-unregister a client that was detected as having been closed.
      */
@@ -539,6 +606,7 @@ public class CacheManagerTests extends ThreadPooledTestSuite {
     private static class TestClient implements CacheManager.Client {
         private CacheManager.CacheStatus currentStatus;
         private BiFunction<Integer, Integer, Boolean> updateGenerationsImpl = (current, oldest) -> false;
+        private TriFunction<Integer, Integer, Integer, Boolean> updateGenerationsWithDemotionImpl = null;
 
         void setCacheStatus(int oldestGeneration, int newestGeneration) {
             this.currentStatus = new CacheManager.CacheStatus(oldestGeneration, newestGeneration);
@@ -546,6 +614,11 @@ public class CacheManagerTests extends ThreadPooledTestSuite {
 
         void setUpdateGenerationsImpl(BiFunction<Integer, Integer, Boolean> function) {
             this.updateGenerationsImpl = function;
+            this.updateGenerationsWithDemotionImpl = null;
+        }
+
+        void setUpdateGenerationsImpl(TriFunction<Integer, Integer, Integer, Boolean> function) {
+            this.updateGenerationsWithDemotionImpl = function;
         }
 
         @Override
@@ -557,6 +630,20 @@ public class CacheManagerTests extends ThreadPooledTestSuite {
         public boolean updateGenerations(int currentGeneration, int oldestGeneration) {
             return this.updateGenerationsImpl.apply(currentGeneration, oldestGeneration);
         }
+
+        @Override
+        public boolean updateGenerations(int currentGeneration, int oldestGeneration, int demotionGeneration) {
+            if (this.updateGenerationsWithDemotionImpl == null) {
+                return CacheManager.Client.super.updateGenerations(currentGeneration, oldestGeneration, demotionGeneration);
+            }
+
+            return this.updateGenerationsWithDemotionImpl.apply(currentGeneration, oldestGeneration, demotionGeneration);
+        }
+    }
+
+    @FunctionalInterface
+    private interface TriFunction<T1, T2, T3, R> {
+        R apply(T1 arg1, T2 arg2, T3 arg3);
     }
 
     private static class EmptyCacheClient extends TestClient {
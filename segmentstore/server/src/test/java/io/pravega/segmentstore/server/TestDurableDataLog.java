@@ -10,8 +10,8 @@
 package io.pravega.segmentstore.server;
 
 import com.google.common.base.Preconditions;
+import io.pravega.common.util.BufferView;
 import io.pravega.common.util.CloseableIterator;
-import io.pravega.common.util.CompositeArrayView;
 import io.pravega.segmentstore.storage.DurableDataLog;
 import io.pravega.segmentstore.storage.DurableDataLogException;
 import io.pravega.segmentstore.storage.LogAddress;
@@ -82,7 +82,7 @@ public class TestDurableDataLog implements DurableDataLog {
     }
 
     @Override
-    public CompletableFuture<LogAddress> append(CompositeArrayView data, Duration timeout) {
+    public CompletableFuture<LogAddress> append(BufferView data, Duration timeout) {
         ErrorInjector.throwSyncExceptionIfNeeded(this.appendSyncErrorInjector);
         return ErrorInjector.throwAsyncExceptionIfNeeded(this.appendAsyncErrorInjector,
                 () -> this.wrappedLog.append(data, timeout));
@@ -9,17 +9,24 @@
  */
 package io.pravega.segmentstore.server.logs;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.pravega.common.Exceptions;
 import io.pravega.common.ObjectClosedException;
 import io.pravega.common.function.Callbacks;
+import io.pravega.common.io.BufferViewSink;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.segmentstore.server.TestDurableDataLog;
+import io.pravega.shared.protocol.netty.ByteBufWrapper;
 import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.ErrorInjector;
 import io.pravega.test.common.IntentionalException;
+import io.pravega.test.common.LeakDetectorTestSuite;
 import io.pravega.test.common.TestUtils;
-import io.pravega.test.common.ThreadPooledTestSuite;
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -27,12 +34,14 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import lombok.Cleanup;
+import lombok.RequiredArgsConstructor;
 import lombok.val;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -42,7 +51,7 @@ import org.junit.rules.Timeout;
 /**
  * Unit tests for DataFrameBuilder class.
  */
-public class DataFrameBuilderTests extends ThreadPooledTestSuite {
+public class DataFrameBuilderTests extends LeakDetectorTestSuite {
     private static final int CONTAINER_ID = 1234567;
     private static final Duration TIMEOUT = Duration.ofSeconds(30);
     private static final int SMALL_RECORD_MIN_SIZE = 0;
@@ -217,6 +226,67 @@ public class DataFrameBuilderTests extends ThreadPooledTestSuite {
         Assert.assertEquals("Unexpected number of frames generated.", successCommits.size(), frames.size());
     }
 
+    /**
+     * Tests the ability to append LogItems whose contents are appended to DataFrames by reference (from pooled Netty
+     * buffers). Verifies that they are serialized correctly and that all buffers are released once the DurableDataLog
+     * has acknowledged (or failed) the DataFrames that refer to them. Any leaked buffers will also be reported by the
+     * Netty leak detector, which this test suite runs in paranoid mode.
+     */
+    @Test
+    public void testAppendByReference() throws Exception {
+        testAppendByReference(false);
+        testAppendByReference(true);
+    }
+
+    private void testAppendByReference(boolean failCommits) throws Exception {
+        val records = DataFrameTestHelpers.generateLogItems(RECORD_COUNT, LARGE_RECORD_MIN_SIZE, LARGE_RECORD_MAX_SIZE, 0);
+        val buffers = new HashMap<Long, ByteBuf>();
+        for (val r : records) {
+            val buffer = PooledByteBufAllocator.DEFAULT.directBuffer(r.getData().length);
+            buffer.writeBytes(r.getData());
+            buffers.put(r.getSequenceNumber(), buffer);
+        }
+
+        @Cleanup
+        TestDurableDataLog dataLog = TestDurableDataLog.create(CONTAINER_ID, FRAME_SIZE, APPEND_DELAY_MILLIS, executorService());
+        dataLog.initialize(TIMEOUT);
+        if (failCommits) {
+            dataLog.setAppendErrorInjectors(null, new ErrorInjector<>(count -> count >= RECORD_COUNT, IntentionalException::new));
+        }
+
+        val attemptCount = new AtomicInteger();
+        val failCount = new AtomicInteger();
+        val successCommits = Collections.synchronizedList(new ArrayList<DataFrameBuilder.CommitArgs>());
+        BiConsumer<Throwable, DataFrameBuilder.CommitArgs> errorCallback = (ex, a) -> {
+            Assert.assertTrue("Unexpected error occurred upon commit: " + ex, failCommits);
+            attemptCount.decrementAndGet();
+            failCount.incrementAndGet();
+        };
+        val args = new DataFrameBuilder.Args(ca -> attemptCount.incrementAndGet(), successCommits::add, errorCallback, executorService());
+        try (DataFrameBuilder<TestLogItem> b = new DataFrameBuilder<>(dataLog, new ReferenceSerializer(buffers), args)) {
+            for (val r : records) {
+                b.append(r);
+            }
+
+            b.flush();
+        } catch (ObjectClosedException ex) {
+            Assert.assertTrue("Not expecting DataFrameBuilder to close.", failCommits);
+        }
+
+        TestUtils.await(() -> successCommits.size() >= attemptCount.get(), 10, TIMEOUT.toMillis());
+        if (failCommits) {
+            AssertExtensions.assertGreaterThan("Expected some commits to fail.", 0, failCount.get());
+        } else {
+            val frames = dataLog.getAllEntries(ri -> DataFrame.read(ri.getPayload(), ri.getLength(), ri.getAddress()));
+            DataFrameTestHelpers.checkReadRecords(frames, records, r -> new ByteArraySegment(r.getFullSerialization()));
+        }
+
+        for (val buffer : buffers.values()) {
+            Assert.assertEquals("Expected all references held by DataFrames to be released.", 1, buffer.refCnt());
+            buffer.release();
+        }
+    }
+
     private void checkFailureCause(DataFrameBuilder<TestLogItem> builder, Predicate<Throwable> exceptionTester) {
         Throwable causingException = builder.failureCause();
         Assert.assertTrue("Unexpected failure cause for DataFrameBuilder: " + builder.failureCause(),
@@ -263,6 +333,74 @@ public class DataFrameBuilderTests extends ThreadPooledTestSuite {
         }
     }
 
+    /**
+     * Tests the ability to seal DataFrames once they reach a target length (which may change over time), even if they
+     * still have room for more records.
+     */
+    @Test
+    public void testTargetFrameLength() throws Exception {
+        try (TestDurableDataLog dataLog = TestDurableDataLog.create(CONTAINER_ID, FRAME_SIZE, executorService())) {
+            dataLog.initialize(TIMEOUT);
+
+            // Records need to be small enough so that half of them fit in a single DataFrame.
+            ArrayList<TestLogItem> records = DataFrameTestHelpers.generateLogItems(20, SMALL_RECORD_MIN_SIZE, FRAME_SIZE / 20, 0);
+            List<DataFrameBuilder.CommitArgs> commitFrames = Collections.synchronizedList(new ArrayList<>());
+            BiConsumer<Throwable, DataFrameBuilder.CommitArgs> errorCallback = (ex, a) ->
+                    Assert.fail(String.format("Unexpected error occurred upon commit. %s", ex));
+            val targetFrameLength = new AtomicInteger(1);
+            val args = new DataFrameBuilder.Args(Callbacks::doNothing, commitFrames::add, errorCallback, executorService(), targetFrameLength::get);
+
+            @Cleanup
+            DataFrameBuilder<TestLogItem> b = new DataFrameBuilder<>(dataLog, SERIALIZER, args);
+
+            // A tiny target length should cause each record to be written in its own DataFrame.
+            val firstHalf = records.size() / 2;
+            for (int i = 0; i < firstHalf; i++) {
+                b.append(records.get(i));
+            }
+
+            TestUtils.await(() -> commitFrames.size() >= firstHalf, 10, TIMEOUT.toMillis());
+            Assert.assertEquals("Expected one DataFrame per record.", firstHalf, commitFrames.size());
+
+            // A large target length should cause the remaining records to accumulate until flushed.
+            targetFrameLength.set(Integer.MAX_VALUE);
+            for (int i = firstHalf; i < records.size(); i++) {
+                b.append(records.get(i));
+            }
+
+            Assert.assertEquals("Not expecting any DataFrame to be generated before flush().", firstHalf, commitFrames.size());
+            b.flush();
+            TestUtils.await(() -> commitFrames.size() > firstHalf, 10, TIMEOUT.toMillis());
+
+            val frames = dataLog.getAllEntries(readItem -> DataFrame.read(readItem.getPayload(), readItem.getLength(), readItem.getAddress()));
+            AssertExtensions.assertLessThan("Expected the remaining records to be grouped into fewer DataFrames.",
+                    records.size(), frames.size());
+            DataFrameTestHelpers.checkReadRecords(frames, records, r -> new ByteArraySegment(r.getFullSerialization()));
+        }
+    }
+
+    /**
+     * Serializes {@link TestLogItem}s the same way {@link TestLogItem.TestLogItemSerializer} does, but writes their
+     * contents from (and by reference to) externally-provided buffers.
+     */
+    @RequiredArgsConstructor
+    private static class ReferenceSerializer implements Serializer<TestLogItem> {
+        private final Map<Long, ByteBuf> buffers;
+
+        @Override
+        public void serialize(OutputStream output, TestLogItem item) throws IOException {
+            val dataOutput = new DataOutputStream(output);
+            dataOutput.writeLong(item.getSequenceNumber());
+            dataOutput.writeInt(item.getData().length);
+            ((BufferViewSink) output).writeBuffer(new ByteBufWrapper(this.buffers.get(item.getSequenceNumber())));
+        }
+
+        @Override
+        public TestLogItem deserialize(InputStream input) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     private void testAppendNoFailure(int delayMillis) throws Exception {
         // Happy case: append a bunch of data, and make sure the frames that get output contain it.
         ArrayList<TestLogItem> records = DataFrameTestHelpers.generateLogItems(RECORD_COUNT / 2, SMALL_RECORD_MIN_SIZE, SMALL_RECORD_MAX_SIZE, 0);
@@ -9,7 +9,9 @@
  */
 package io.pravega.segmentstore.server.logs;
 
+import io.netty.buffer.Unpooled;
 import io.pravega.common.util.ByteArraySegment;
+import io.pravega.shared.protocol.netty.ByteBufWrapper;
 import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.IntentionalException;
 import java.io.ByteArrayOutputStream;
@@ -192,6 +194,59 @@ public class DataFrameOutputStreamTests {
         DataFrameTestHelpers.checkReadRecords(readFrames, records, ByteArraySegment::new);
     }
 
+    /**
+     * Tests the ability to write records using writeBuffer(), which appends large buffers by reference. Verifies that
+     * the resulting frames are identical to copied ones and that all references are released along with the frames.
+     */
+    @Test
+    public void testWriteBufferByReference() throws Exception {
+        int maxFrameSize = 512; // Very small frame, so we can test switching over to new frames.
+        int minReferenceLength = 100;
+        ArrayList<byte[]> records = DataFrameTestHelpers.generateRecords(20, 0, 10240);
+        val buffers = records.stream().map(Unpooled::wrappedBuffer).collect(Collectors.toList());
+
+        val discarded = Unpooled.wrappedBuffer(new byte[minReferenceLength]);
+        ArrayList<DataFrame> writtenFrames = new ArrayList<>();
+        try (DataFrameOutputStream s = new DataFrameOutputStream(maxFrameSize, minReferenceLength, writtenFrames::add)) {
+            for (val buffer : buffers) {
+                s.startNewRecord();
+                s.writeBuffer(new ByteBufWrapper(buffer));
+                s.endRecord();
+            }
+
+            s.flush();
+
+            // A discarded record must release whatever it referenced.
+            s.startNewRecord();
+            s.writeBuffer(new ByteBufWrapper(discarded));
+            Assert.assertEquals("Expected referenced buffer to be retained.", 2, discarded.refCnt());
+            s.discardRecord();
+            Assert.assertEquals("Expected discarded buffer to be released.", 1, discarded.refCnt());
+
+            // Closing the stream must release whatever is in the current (unflushed) frame.
+            s.startNewRecord();
+            s.writeBuffer(new ByteBufWrapper(discarded));
+            s.endRecord();
+            Assert.assertEquals("Expected referenced buffer to be retained.", 2, discarded.refCnt());
+        }
+
+        Assert.assertEquals("Expected unflushed buffer to be released upon close.", 1, discarded.refCnt());
+        AssertExtensions.assertGreaterThan("No frame has been created during the test.", 0, writtenFrames.size());
+        for (int i = 0; i < records.size(); i++) {
+            if (records.get(i).length >= minReferenceLength) {
+                AssertExtensions.assertGreaterThan("Expected large record to be referenced by frames.", 1, buffers.get(i).refCnt());
+            }
+        }
+
+        val readFrames = writtenFrames.stream().map(this::readFrame).collect(Collectors.toList());
+        DataFrameTestHelpers.checkReadRecords(readFrames, records, ByteArraySegment::new);
+
+        writtenFrames.forEach(DataFrame::release);
+        for (val buffer : buffers) {
+            Assert.assertEquals("Expected all references to be released.", 1, buffer.refCnt());
+        }
+    }
+
     /**
      * Tests the behavior of startNewRecord(), write(byte) and write(byte[]) when the commit callback throws an exception.
      */
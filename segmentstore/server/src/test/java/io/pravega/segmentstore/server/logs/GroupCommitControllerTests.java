@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs;
+
+import io.pravega.segmentstore.storage.QueueStats;
+import io.pravega.test.common.AssertExtensions;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link GroupCommitController} class.
+ */
+public class GroupCommitControllerTests {
+    private static final int TARGET_LATENCY_MILLIS = 20;
+    private static final int MAX_FRAME_LENGTH = 1024 * 1024;
+
+    /**
+     * Tests the ability to adapt the target DataFrame length to the observed write latency.
+     */
+    @Test
+    public void testTargetFrameLength() {
+        val gc = new GroupCommitController(TARGET_LATENCY_MILLIS, MAX_FRAME_LENGTH, () -> QueueStats.DEFAULT);
+        val minFrameLength = MAX_FRAME_LENGTH / GroupCommitController.FRAME_LENGTH_STEP_DIVISOR;
+        Assert.assertEquals("Unexpected initial target frame length.", MAX_FRAME_LENGTH, gc.getTargetFrameLength());
+
+        // Writes below target should not cause the target frame length to go above the max.
+        gc.recordWrite(TARGET_LATENCY_MILLIS / 2);
+        Assert.assertEquals("Not expecting target frame length to exceed max.", MAX_FRAME_LENGTH, gc.getTargetFrameLength());
+
+        // Slow writes should eventually push the average above target. Every write after that should halve the frame length.
+        int lastValue = gc.getTargetFrameLength();
+        while (gc.getWriteLatencyMillis() <= TARGET_LATENCY_MILLIS) {
+            gc.recordWrite(TARGET_LATENCY_MILLIS * 10);
+        }
+
+        AssertExtensions.assertLessThan("Expected target frame length to decrease.", lastValue, gc.getTargetFrameLength());
+        for (int i = 0; i < 100; i++) {
+            lastValue = gc.getTargetFrameLength();
+            gc.recordWrite(TARGET_LATENCY_MILLIS * 10);
+            Assert.assertEquals("Unexpected target frame length after slow write.", Math.max(minFrameLength, lastValue / 2), gc.getTargetFrameLength());
+        }
+
+        Assert.assertEquals("Expected target frame length to reach the minimum.", minFrameLength, gc.getTargetFrameLength());
+
+        // Fast writes should eventually bring the average below target. Every write after that should increase the frame length.
+        while (gc.getWriteLatencyMillis() > TARGET_LATENCY_MILLIS) {
+            gc.recordWrite(0);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            lastValue = gc.getTargetFrameLength();
+            gc.recordWrite(0);
+            Assert.assertEquals("Unexpected target frame length after fast write.", Math.min(MAX_FRAME_LENGTH, lastValue + minFrameLength), gc.getTargetFrameLength());
+        }
+
+        Assert.assertEquals("Expected target frame length to reach the maximum.", MAX_FRAME_LENGTH, gc.getTargetFrameLength());
+    }
+
+    /**
+     * Tests the ability to calculate the linger time based on the write latency and DurableDataLog queue statistics.
+     */
+    @Test
+    public void testLinger() {
+        val queueStats = new AtomicReference<QueueStats>(new QueueStats(0, 0, MAX_FRAME_LENGTH, 10));
+        val gc = new GroupCommitController(TARGET_LATENCY_MILLIS, MAX_FRAME_LENGTH, queueStats::get);
+
+        // Nothing in flight.
+        Assert.assertEquals("Not expecting any linger with an empty queue.", 0, gc.getLingerMillis());
+
+        // Writes in flight, no latency recorded so far: linger is bound by the expected processing time.
+        queueStats.set(new QueueStats(1, 0, MAX_FRAME_LENGTH, 10));
+        Assert.assertEquals("Expected linger to be bound by the expected processing time.", 10, gc.getLingerMillis());
+
+        // Linger is also bound by the maximum batching delay.
+        queueStats.set(new QueueStats(1, 0, MAX_FRAME_LENGTH, ThrottlerCalculator.MAX_BATCHING_DELAY_MILLIS * 10));
+        val noLatencyLinger = gc.getLingerMillis();
+        Assert.assertEquals("Expected linger to be bound by the latency headroom.",
+                Math.min(TARGET_LATENCY_MILLIS, ThrottlerCalculator.MAX_BATCHING_DELAY_MILLIS), noLatencyLinger);
+
+        // Higher fill ratios should reduce linger.
+        queueStats.set(new QueueStats(2, MAX_FRAME_LENGTH, MAX_FRAME_LENGTH, ThrottlerCalculator.MAX_BATCHING_DELAY_MILLIS * 10));
+        Assert.assertEquals("Expected linger to be reduced for half-full writes.", noLatencyLinger / 2, gc.getLingerMillis());
+        queueStats.set(new QueueStats(2, 2 * MAX_FRAME_LENGTH, MAX_FRAME_LENGTH, ThrottlerCalculator.MAX_BATCHING_DELAY_MILLIS * 10));
+        Assert.assertEquals("Not expecting any linger for full writes.", 0, gc.getLingerMillis());
+
+        // As the write latency approaches the target, the linger should decrease.
+        queueStats.set(new QueueStats(1, 0, MAX_FRAME_LENGTH, ThrottlerCalculator.MAX_BATCHING_DELAY_MILLIS * 10));
+        int lastValue = noLatencyLinger;
+        while (gc.getWriteLatencyMillis() <= TARGET_LATENCY_MILLIS) {
+            gc.recordWrite(TARGET_LATENCY_MILLIS * 2);
+            val value = gc.getLingerMillis();
+            AssertExtensions.assertLessThanOrEqual("Expected linger to decrease as write latency increases.", lastValue, value);
+            lastValue = value;
+        }
+
+        Assert.assertEquals("Not expecting any linger when above target latency.", 0, gc.getLingerMillis());
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs;
+
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
+import io.pravega.segmentstore.server.logs.operations.CompletableOperation;
+import io.pravega.segmentstore.server.logs.operations.OperationLatencyBreakdown;
+import io.pravega.segmentstore.server.logs.operations.StreamSegmentSealOperation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link OperationLatencyTracker} class.
+ */
+public class OperationLatencyTrackerTests {
+    private static final int CONTAINER_ID = 0;
+
+    /**
+     * Tests the {@link OperationLatencyTracker#sample} method.
+     */
+    @Test
+    public void testSample() {
+        @Cleanup
+        val metrics = new SegmentStoreMetrics.OperationProcessor(CONTAINER_ID);
+        val disabled = new OperationLatencyTracker(CONTAINER_ID, 0, metrics);
+        val all = new OperationLatencyTracker(CONTAINER_ID, 1, metrics);
+        for (int i = 0; i < 100; i++) {
+            val o1 = createOperation(i);
+            disabled.sample(o1);
+            Assert.assertNull("Not expecting any operation to be sampled when disabled.", o1.getLatencyBreakdown());
+
+            val o2 = createOperation(i);
+            all.sample(o2);
+            Assert.assertNotNull("Expecting every operation to be sampled.", o2.getLatencyBreakdown());
+        }
+    }
+
+    /**
+     * Tests the ability to report stage latencies and keep track of the slowest operations.
+     */
+    @Test
+    public void testSlowestOperations() {
+        @Cleanup
+        val metrics = new SegmentStoreMetrics.OperationProcessor(CONTAINER_ID);
+        val tracker = new OperationLatencyTracker(CONTAINER_ID, 1, metrics);
+        val operations = new ArrayList<CompletableOperation>();
+        for (int i = 0; i < OperationLatencyTracker.SLOWEST_OPERATION_COUNT * 3; i++) {
+            val o = createOperation(i);
+            tracker.sample(o);
+            operations.add(o);
+        }
+
+        // Operations that were not sampled should be ignored.
+        val notSampled = createOperation(operations.size());
+        tracker.completed(notSampled);
+        tracker.memoryCommitted(notSampled);
+        Assert.assertTrue("Not expecting any operation to be tracked yet.", tracker.getSlowestOperations().isEmpty());
+
+        for (val o : operations) {
+            val b = o.getLatencyBreakdown();
+            b.stageEnded(OperationLatencyBreakdown.Stage.QUEUE);
+            b.stageEnded(OperationLatencyBreakdown.Stage.FRAMING);
+            b.stageEnded(OperationLatencyBreakdown.Stage.BATCHING);
+            b.stageEnded(OperationLatencyBreakdown.Stage.DURABLE_WRITE);
+            tracker.completed(o);
+            tracker.memoryCommitted(o);
+        }
+
+        val slowest = tracker.getSlowestOperations();
+        Assert.assertEquals("Unexpected number of slowest operations.", OperationLatencyTracker.SLOWEST_OPERATION_COUNT, slowest.size());
+        for (int i = 0; i < slowest.size(); i++) {
+            val b = slowest.get(i);
+            Assert.assertNotNull("Expected a description for a reported operation.", b.getDescription());
+            if (i > 0) {
+                Assert.assertTrue("Expected slowest operations in descending order.", slowest.get(i - 1).getTotalNanos() >= b.getTotalNanos());
+            }
+
+            long stageSum = 0;
+            for (val stage : OperationLatencyBreakdown.Stage.values()) {
+                if (stage != OperationLatencyBreakdown.Stage.MEMORY_COMMIT) {
+                    stageSum += b.getStageNanos(stage);
+                }
+            }
+
+            Assert.assertEquals("Expected sequential stages to add up to the total latency.", b.getTotalNanos(), stageSum);
+        }
+
+        // No operation that was left out should be slower than the ones reported.
+        long minReported = slowest.get(slowest.size() - 1).getTotalNanos();
+        for (val o : operations) {
+            if (!slowest.contains(o.getLatencyBreakdown())) {
+                Assert.assertTrue("Found a slower operation that was not reported.", o.getLatencyBreakdown().getTotalNanos() <= minReported);
+            }
+        }
+    }
+
+    /**
+     * Tests the fact that the slowest operations are only kept for a limited amount of time.
+     */
+    @Test
+    public void testSlowestOperationsWindow() {
+        @Cleanup
+        val metrics = new SegmentStoreMetrics.OperationProcessor(CONTAINER_ID);
+        val time = new AtomicLong(0);
+        val tracker = new OperationLatencyTracker(CONTAINER_ID, 1, metrics, time::get);
+        List<OperationLatencyBreakdown> expected = new ArrayList<>();
+        for (int i = 0; i < OperationLatencyTracker.SLOWEST_OPERATION_COUNT / 2; i++) {
+            val o = createOperation(i);
+            tracker.sample(o);
+            tracker.completed(o);
+            expected.add(o.getLatencyBreakdown());
+        }
+
+        Assert.assertEquals("Unexpected result in the first window.", expected.size(), tracker.getSlowestOperations().size());
+
+        // Operations from the previous window should still be reported.
+        time.addAndGet(OperationLatencyTracker.SLOWEST_OPERATION_WINDOW_NANOS);
+        val slowest = tracker.getSlowestOperations();
+        Assert.assertEquals("Unexpected result in the second window.", expected.size(), slowest.size());
+        Assert.assertTrue("Unexpected operations in the second window.", slowest.containsAll(expected));
+
+        // But not after that.
+        time.addAndGet(OperationLatencyTracker.SLOWEST_OPERATION_WINDOW_NANOS);
+        Assert.assertTrue("Not expecting any operations in the third window.", tracker.getSlowestOperations().isEmpty());
+    }
+
+    private CompletableOperation createOperation(long segmentId) {
+        return new CompletableOperation(new StreamSegmentSealOperation(segmentId), new CompletableFuture<>());
+    }
+}
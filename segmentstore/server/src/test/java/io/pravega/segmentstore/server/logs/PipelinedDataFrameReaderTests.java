@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.logs;
+
+import io.pravega.common.ObjectClosedException;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.CloseableIterator;
+import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.IntentionalException;
+import io.pravega.test.common.ThreadPooledTestSuite;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Unit tests for the {@link PipelinedDataFrameReader} class.
+ */
+public class PipelinedDataFrameReaderTests extends ThreadPooledTestSuite {
+    private static final int CONTAINER_ID = 1;
+    private static final int RECORD_COUNT = 1000;
+    private static final int CAPACITY = 10;
+    @Rule
+    public Timeout globalTimeout = Timeout.seconds(10);
+
+    @Override
+    protected int getThreadPoolSize() {
+        return 2;
+    }
+
+    /**
+     * Tests that all the records are returned, in order, followed by null.
+     */
+    @Test
+    public void testGetNext() throws Exception {
+        val source = new TestSource(RECORD_COUNT, -1);
+        try (val reader = new PipelinedDataFrameReader<TestLogItem>(source, CAPACITY, CONTAINER_ID)) {
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                val record = reader.getNext();
+                Assert.assertNotNull("Not expecting the end so soon.", record);
+                Assert.assertEquals("Unexpected record.", i, record.getItem().getSequenceNumber());
+            }
+
+            Assert.assertNull("Expected the end.", reader.getNext());
+            Assert.assertNull("Expected the end to be sticky.", reader.getNext());
+            Assert.assertTrue("Expected the source to be closed once exhausted.", source.closed.get());
+        }
+
+        AssertExtensions.assertLessThanOrEqual("Source was invoked after it returned null.", RECORD_COUNT + 1, source.invocations.get());
+    }
+
+    /**
+     * Tests that multiple readers can be consumed at the same time from an Executor that has fewer threads than there are
+     * readers (i.e., the consumers do not hold up the threads that the records are fetched on).
+     */
+    @Test
+    public void testConcurrentConsumers() throws Exception {
+        final int readerCount = getThreadPoolSize() * 2;
+        val consumers = new ArrayList<CompletableFuture<Integer>>();
+        for (int i = 0; i < readerCount; i++) {
+            consumers.add(CompletableFuture.supplyAsync(() -> {
+                int count = 0;
+                try (val reader = new PipelinedDataFrameReader<TestLogItem>(new TestSource(RECORD_COUNT, -1), CAPACITY, CONTAINER_ID)) {
+                    while (reader.getNext() != null) {
+                        count++;
+                    }
+                } catch (Exception ex) {
+                    throw new CompletionException(ex);
+                }
+
+                return count;
+            }, executorService()));
+        }
+
+        for (val count : Futures.allOfWithResults(consumers).join()) {
+            Assert.assertEquals("Unexpected number of records returned.", RECORD_COUNT, (int) count);
+        }
+    }
+
+    /**
+     * Tests that an exception thrown by the source is thrown only after all the records before it have been returned.
+     */
+    @Test
+    public void testSourceFailure() throws Exception {
+        final int failAt = RECORD_COUNT / 2;
+        val source = new TestSource(RECORD_COUNT, failAt);
+        try (val reader = new PipelinedDataFrameReader<TestLogItem>(source, CAPACITY, CONTAINER_ID)) {
+            for (int i = 0; i < failAt; i++) {
+                Assert.assertEquals("Unexpected record.", i, reader.getNext().getItem().getSequenceNumber());
+            }
+
+            AssertExtensions.assertThrows("Expected the source exception to be thrown.",
+                    reader::getNext,
+                    ex -> ex instanceof IntentionalException);
+            Assert.assertTrue("Expected the source to be closed after it failed.", source.closed.get());
+        }
+    }
+
+    /**
+     * Tests that closing the reader before reaching the end stops the fetching and closes the source.
+     */
+    @Test
+    public void testClose() throws Exception {
+        val source = new TestSource(RECORD_COUNT, -1);
+        val reader = new PipelinedDataFrameReader<TestLogItem>(source, CAPACITY, CONTAINER_ID);
+        Assert.assertEquals("Unexpected first record.", 0, reader.getNext().getItem().getSequenceNumber());
+        reader.close();
+        Assert.assertTrue("Expected the source to be closed.", source.closed.get());
+        AssertExtensions.assertLessThan("Expected fetching to stop.", RECORD_COUNT, source.invocations.get());
+        AssertExtensions.assertThrows("Expected getNext() to fail after close().",
+                reader::getNext,
+                ex -> ex instanceof ObjectClosedException);
+    }
+
+    @RequiredArgsConstructor
+    private static class TestSource implements CloseableIterator<DataFrameRecord<TestLogItem>, Exception> {
+        private final int recordCount;
+        private final int failAt;
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        @Override
+        public DataFrameRecord<TestLogItem> getNext() {
+            Assert.assertFalse("getNext() invoked after close().", this.closed.get());
+            int seqNo = this.invocations.getAndIncrement();
+            if (seqNo == this.failAt) {
+                throw new IntentionalException();
+            } else if (seqNo >= this.recordCount) {
+                return null;
+            }
+
+            return new DataFrameRecord<>(new TestLogItem(seqNo, new byte[0]), DataFrameRecord.RecordInfo.builder().build());
+        }
+
+        @Override
+        public void close() {
+            this.closed.set(true);
+        }
+    }
+}
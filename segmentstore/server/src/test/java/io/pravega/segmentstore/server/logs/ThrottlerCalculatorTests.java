@@ -90,6 +90,20 @@ public class ThrottlerCalculatorTests {
               });
     }
 
+    /**
+     * Tests the ability to properly calculate batching-related delays when using a {@link GroupCommitController}.
+     */
+    @Test
+    public void testGroupCommitBatching() {
+        val queueStats = new AtomicReference<QueueStats>(createStats(1, 0, 10));
+        val gc = new GroupCommitController(20, MAX_APPEND_LENGTH, queueStats::get);
+        val tc = ThrottlerCalculator.builder().groupCommitThrottler(gc).build();
+        Assert.assertFalse("Not expecting batching to require throttling.", tc.isThrottlingRequired());
+        val delay = tc.getThrottlingDelay();
+        Assert.assertEquals("Unexpected throttler name.", ThrottlerCalculator.ThrottlerName.GroupCommit, delay.getThrottlerName());
+        Assert.assertEquals("Unexpected delay.", gc.getLingerMillis(), delay.getDurationMillis());
+    }
+
     /**
      * Tests the ability to properly calculate DurableDataLog-related delays.
      */
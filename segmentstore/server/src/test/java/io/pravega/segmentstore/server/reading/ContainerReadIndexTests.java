@@ -32,6 +32,7 @@ import io.pravega.segmentstore.server.containers.StreamSegmentMetadata;
 import io.pravega.segmentstore.storage.cache.CacheState;
 import io.pravega.segmentstore.storage.cache.CacheStorage;
 import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
+import io.pravega.segmentstore.storage.cache.TieredCacheStorage;
 import io.pravega.segmentstore.storage.mocks.InMemoryStorage;
 import io.pravega.shared.NameUtils;
 import io.pravega.test.common.AssertExtensions;
@@ -228,6 +229,64 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
         Assert.assertEquals("Not encountered any storage reads, even though one was forced.", lastCacheOffset > 0, encounteredStorageRead);
     }
 
+    /**
+     * Tests the ability of the ReadIndex to detect sequential Storage Reads and prefetch data ahead of the reader. This
+     * test reads an entire segment (which is only in Storage) one aligned block at a time and verifies that, after the
+     * initial reads, all subsequent blocks are served from the Cache and that no block is read from Storage twice.
+     */
+    @Test
+    public void testStorageReadPrefetch() throws Exception {
+        final int alignment = 4096;
+        final int blockCount = 10;
+        final byte[] segmentData = new byte[alignment * blockCount];
+        new Random(0).nextBytes(segmentData);
+
+        final ReadIndexConfig config = ReadIndexConfig.builder()
+                .with(ReadIndexConfig.MEMORY_READ_MIN_LENGTH, 0)
+                .with(ReadIndexConfig.STORAGE_READ_ALIGNMENT, alignment)
+                .with(ReadIndexConfig.STORAGE_READ_PREFETCH_COUNT, 2)
+                .with(ReadIndexConfig.STORAGE_READ_PREFETCH_TRIGGER_COUNT, 2)
+                .build();
+
+        @Cleanup
+        TestContext context = new TestContext(config, CachePolicy.INFINITE);
+
+        // Create the segment in Storage and populate it with all the data (one segment is sufficient for this test).
+        final long segmentId = createSegment(0, context);
+        createSegmentsInStorage(context);
+        final UpdateableSegmentMetadata segmentMetadata = context.metadata.getStreamSegmentMetadata(segmentId);
+        val writeHandle = context.storage.openWrite(segmentMetadata.getName()).join();
+        context.storage.write(writeHandle, 0, new ByteArrayInputStream(segmentData), segmentData.length, TIMEOUT).join();
+        segmentMetadata.setLength(segmentData.length);
+        segmentMetadata.setStorageLength(segmentData.length);
+
+        val storageReadCount = new AtomicInteger();
+        context.storage.setReadInterceptor((segment, wrappedStorage) -> storageReadCount.incrementAndGet());
+
+        for (int block = 0; block < blockCount; block++) {
+            final long offset = (long) block * alignment;
+            if (block >= 2) {
+                // The first two reads establish the sequential pattern; every block after that should have been prefetched.
+                TestUtils.await(
+                        () -> {
+                            try {
+                                return context.readIndex.read(segmentId, offset, alignment, TIMEOUT).next().getType() == ReadResultEntryType.Cache;
+                            } catch (StreamSegmentNotExistsException ex) {
+                                throw new CompletionException(ex);
+                            }
+                        }, 10, TIMEOUT.toMillis());
+            }
+
+            @Cleanup
+            ReadResult readResult = context.readIndex.read(segmentId, offset, alignment, TIMEOUT);
+            val readData = new byte[alignment];
+            readResult.readRemaining(readData, TIMEOUT);
+            AssertExtensions.assertArrayEquals("Unexpected data read at offset " + offset, segmentData, (int) offset, readData, 0, alignment);
+        }
+
+        Assert.assertEquals("Unexpected number of Storage Reads.", blockCount, storageReadCount.get());
+    }
+
     /**
      * Tests the readDirect() method on the ReadIndex.
      */
@@ -1087,7 +1146,9 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
         CachePolicy cachePolicy = new CachePolicy(cacheMaxSize, 1.0, 1.0, Duration.ofMillis(1000 * 2 * entriesPerSegment), Duration.ofMillis(1000));
 
         // To properly test this, we want predictable storage reads.
-        ReadIndexConfig config = ReadIndexConfig.builder().with(ReadIndexConfig.STORAGE_READ_ALIGNMENT, appendSize).build();
+        ReadIndexConfig config = ReadIndexConfig.builder()
+                .with(ReadIndexConfig.STORAGE_READ_ALIGNMENT, appendSize)
+                .build();
 
         ArrayList<Integer> removedEntries = new ArrayList<>();
         @Cleanup
@@ -1653,6 +1714,140 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
         AssertExtensions.assertArrayEquals("Unexpected data read back from segment.", append2.array(), 0, allData, append1.getLength(), append2.getLength());
     }
 
+    /**
+     * Tests the ability to demote Cache entries to the Secondary tier of a {@link TieredCacheStorage} (instead of evicting
+     * them) when the Primary tier exceeds the Cache Policy, and that they can still be read from the Cache afterwards.
+     */
+    @Test
+    public void testCacheDemotion() throws Exception {
+        final int appendSize = 1;
+        final int entryCount = 20;
+        final int cacheMaxSize = entryCount / 2 * appendSize;
+        CachePolicy cachePolicy = new CachePolicy(cacheMaxSize, 1.0, 1.0, Duration.ofMillis(1000 * 2 * entryCount), Duration.ofMillis(1000));
+        @Cleanup
+        TestContext context = new TestContext(DEFAULT_CONFIG, cachePolicy, Integer.MAX_VALUE, new DirectMemoryCache(1024 * 1024));
+        val cache = (TieredCacheStorage) context.cacheManager.getCacheStorage();
+
+        // One Cache entry for each append, and do not let the Primary tier's internal layout get in the way of our math.
+        context.cacheStorage.disableAppends = true;
+        context.cacheStorage.usedBytesSameAsStoredBytes = true;
+
+        long segmentId = createSegment(0, context);
+        val segmentMetadata = context.metadata.getStreamSegmentMetadata(segmentId);
+        createSegmentsInStorage(context);
+        val rnd = new Random(0);
+        byte[] segmentData = new byte[entryCount * appendSize];
+        rnd.nextBytes(segmentData);
+        for (int i = 0; i < entryCount; i++) {
+            // Each append gets its own generation.
+            int offset = i * appendSize;
+            segmentMetadata.setLength(offset + appendSize);
+            context.readIndex.append(segmentId, offset, new ByteArraySegment(segmentData, offset, appendSize));
+            context.cacheManager.applyCachePolicy();
+        }
+
+        // Nothing can be demoted or evicted until it is in Storage.
+        Assert.assertEquals("Not expecting anything in the Secondary tier yet.", 0, cache.getSecondaryState().getStoredBytes());
+        segmentMetadata.setStorageLength(segmentMetadata.getLength());
+        context.cacheManager.applyCachePolicy();
+
+        // The oldest entries should have been demoted, and nothing should have been evicted.
+        AssertExtensions.assertLessThanOrEqual("Expected Primary tier to be within the Cache Policy.",
+                cachePolicy.getEvictionThreshold(), cache.getPrimaryState().getStoredBytes());
+        AssertExtensions.assertGreaterThan("Expected some entries to be demoted.", 0, cache.getSecondaryState().getStoredBytes());
+        Assert.assertEquals("Not expecting any entries to be evicted.", segmentData.length, cache.getState().getStoredBytes());
+
+        // Verify all the data can still be read from the Cache.
+        @Cleanup
+        ReadResult readResult = context.readIndex.read(segmentId, 0, segmentData.length, TIMEOUT);
+        int readOffset = 0;
+        while (readResult.hasNext()) {
+            val entry = readResult.next();
+            Assert.assertEquals("Unexpected entry type at offset " + readOffset, ReadResultEntryType.Cache, entry.getType());
+            val contents = entry.getContent().join();
+            AssertExtensions.assertArrayEquals("Unexpected data read back.", segmentData, readOffset, contents.getCopy(), 0, contents.getLength());
+            readOffset += contents.getLength();
+        }
+
+        Assert.assertEquals("Unexpected number of bytes read.", segmentData.length, readOffset);
+    }
+
+    /**
+     * Tests the ability to coalesce contiguous Cache entries into larger ones once they have been written to Storage.
+     */
+    @Test
+    public void testCoalesceEntries() throws Exception {
+        final int appendSize = 10;
+        final int entryCount = 25;
+        final int entriesPerGroup = 4;
+        final ReadIndexConfig config = ReadIndexConfig.builder()
+                .with(ReadIndexConfig.MEMORY_READ_MIN_LENGTH, 0)
+                .with(ReadIndexConfig.COALESCE_ENTRY_LENGTH_MAX, entriesPerGroup * appendSize)
+                .build();
+        @Cleanup
+        TestContext context = new TestContext(config, CachePolicy.INFINITE);
+
+        // One Cache entry for each append.
+        context.cacheStorage.disableAppends = true;
+        val cacheAddresses = Collections.synchronizedSet(new HashSet<Integer>());
+        context.cacheStorage.insertCallback = cacheAddresses::add;
+        context.cacheStorage.deleteCallback = cacheAddresses::remove;
+
+        long segmentId = createSegment(0, context);
+        val segmentMetadata = context.metadata.getStreamSegmentMetadata(segmentId);
+        createSegmentsInStorage(context);
+        val rnd = new Random(0);
+        byte[] segmentData = new byte[entryCount * appendSize];
+        rnd.nextBytes(segmentData);
+        for (int i = 0; i < entryCount; i++) {
+            int offset = i * appendSize;
+            segmentMetadata.setLength(offset + appendSize);
+            context.readIndex.append(segmentId, offset, new ByteArraySegment(segmentData, offset, appendSize));
+        }
+
+        // Nothing can be coalesced until it is in Storage.
+        context.cacheManager.applyCachePolicy();
+        Assert.assertEquals("Not expecting any entries to be coalesced yet.", entryCount, cacheAddresses.size());
+
+        // Nothing can be coalesced until it has been idle for long enough. We need to record some activity in each cycle,
+        // otherwise the Cache Manager does not advance the generation; we touch the last entry, which is never coalesced
+        // anyway (it may still be appended to).
+        segmentMetadata.setStorageLength(segmentMetadata.getLength());
+        for (int i = 1; i < StreamSegmentReadIndex.COALESCE_MIN_GENERATION_AGE; i++) {
+            @Cleanup
+            ReadResult touchResult = context.readIndex.read(segmentId, segmentData.length - appendSize, appendSize, TIMEOUT);
+            touchResult.next().getContent().join();
+            context.cacheManager.applyCachePolicy();
+            Assert.assertEquals("Not expecting any entries to be coalesced before they are idle.", entryCount, cacheAddresses.size());
+        }
+
+        // Every entry except the last one should now be grouped.
+        @Cleanup
+        ReadResult touchResult = context.readIndex.read(segmentId, segmentData.length - appendSize, appendSize, TIMEOUT);
+        touchResult.next().getContent().join();
+        context.cacheManager.applyCachePolicy();
+        int expectedEntryCount = (entryCount - 1) / entriesPerGroup + 1;
+        Assert.assertEquals("Unexpected number of Cache entries after coalescing.", expectedEntryCount, cacheAddresses.size());
+        Assert.assertEquals("Not expecting any data to be lost.", segmentData.length, context.cacheStorage.getState().getStoredBytes());
+
+        // Verify all the data can still be read from the Cache, using the coalesced entries.
+        @Cleanup
+        ReadResult readResult = context.readIndex.read(segmentId, 0, segmentData.length, TIMEOUT);
+        int readOffset = 0;
+        int readEntryCount = 0;
+        while (readResult.hasNext()) {
+            val entry = readResult.next();
+            Assert.assertEquals("Unexpected entry type at offset " + readOffset, ReadResultEntryType.Cache, entry.getType());
+            val contents = entry.getContent().join();
+            AssertExtensions.assertArrayEquals("Unexpected data read back.", segmentData, readOffset, contents.getCopy(), 0, contents.getLength());
+            readOffset += contents.getLength();
+            readEntryCount++;
+        }
+
+        Assert.assertEquals("Unexpected number of bytes read.", segmentData.length, readOffset);
+        Assert.assertEquals("Unexpected number of entries read.", expectedEntryCount, readEntryCount);
+    }
+
     /**
      * Tests a deadlock-prone scenario involving multiple Storage read requests from multiple segments, all hitting a
      * CacheFullException while trying to process.
@@ -2050,11 +2245,17 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
         }
 
         TestContext(ReadIndexConfig readIndexConfig, CachePolicy cachePolicy, int actualCacheSize) {
+            this(readIndexConfig, cachePolicy, actualCacheSize, null);
+        }
+
+        TestContext(ReadIndexConfig readIndexConfig, CachePolicy cachePolicy, int actualCacheSize, CacheStorage secondaryCacheStorage) {
             this.cacheStorage = new TestCacheStorage(Math.min(Integer.MAX_VALUE, actualCacheSize));
             this.metadata = new MetadataBuilder(CONTAINER_ID).build();
             this.storage = new TestStorage(new InMemoryStorage(), executorService());
             this.storage.initialize(1);
-            this.cacheManager = new TestCacheManager(cachePolicy, this.cacheStorage, executorService());
+            this.cacheManager = new TestCacheManager(cachePolicy,
+                    secondaryCacheStorage == null ? this.cacheStorage : new TieredCacheStorage(this.cacheStorage, secondaryCacheStorage),
+                    executorService());
             this.readIndex = new ContainerReadIndex(readIndexConfig, this.metadata, this.storage, this.cacheManager, executorService());
             this.maxExpectedStorageReadLength = calculateMaxStorageReadLength();
         }
@@ -2070,7 +2271,7 @@ public class ContainerReadIndexTests extends ThreadPooledTestSuite {
         public void close() {
             this.readIndex.close();
             AssertExtensions.assertEventuallyEquals("MEMORY LEAK: Read Index did not delete all CacheStorage entries after closing.",
-                    0L, () -> this.cacheStorage.getState().getStoredBytes(), 10, TIMEOUT.toMillis());
+                    0L, () -> this.cacheManager.getCacheStorage().getState().getStoredBytes(), 10, TIMEOUT.toMillis());
             this.storage.close();
             this.cacheManager.close();
             this.cacheStorage.close();
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.reading;
+
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+/**
+ * Unit tests for the ReadAheadTracker class.
+ */
+public class ReadAheadTrackerTests {
+    private static final int ALIGNMENT = 1024;
+    private static final int PREFETCH_COUNT = 2;
+    private static final int TRIGGER_COUNT = 2;
+    private static final long STORAGE_LENGTH = ALIGNMENT * 10;
+    @Rule
+    public Timeout globalTimeout = Timeout.seconds(10);
+
+    /**
+     * Tests the detection of sequential reads and the ranges returned for prefetching.
+     */
+    @Test
+    public void testSequentialReads() {
+        val t = new ReadAheadTracker(ALIGNMENT, PREFETCH_COUNT, TRIGGER_COUNT);
+        Assert.assertNull("Not expecting a prefetch after the first read.", t.recordRead(0, ALIGNMENT, STORAGE_LENGTH));
+
+        // Second sequential read: we should prefetch the next PREFETCH_COUNT blocks.
+        checkRange(2 * ALIGNMENT, PREFETCH_COUNT * ALIGNMENT, t.recordRead(ALIGNMENT, ALIGNMENT, STORAGE_LENGTH));
+
+        // Reading from the prefetched range should only issue a prefetch for what hasn't been prefetched yet.
+        checkRange(4 * ALIGNMENT, ALIGNMENT, t.recordRead(2 * ALIGNMENT, ALIGNMENT, STORAGE_LENGTH));
+
+        // A partial read should keep PREFETCH_COUNT blocks ahead of the reader's position.
+        checkRange(5 * ALIGNMENT, ALIGNMENT, t.recordRead(3 * ALIGNMENT, ALIGNMENT / 2, STORAGE_LENGTH));
+        Assert.assertNull("Not expecting a prefetch if the reader did not advance into a new block.",
+                t.recordRead(3 * ALIGNMENT + ALIGNMENT / 2, ALIGNMENT / 2, STORAGE_LENGTH));
+    }
+
+    /**
+     * Tests the fact that out-of-order notifications for data behind the reader do not break the sequential pattern.
+     */
+    @Test
+    public void testOutOfOrderReads() {
+        val t = new ReadAheadTracker(ALIGNMENT, PREFETCH_COUNT, TRIGGER_COUNT);
+        Assert.assertNull(t.recordRead(0, ALIGNMENT, STORAGE_LENGTH));
+        checkRange(2 * ALIGNMENT, PREFETCH_COUNT * ALIGNMENT, t.recordRead(ALIGNMENT, ALIGNMENT, STORAGE_LENGTH));
+        checkRange(4 * ALIGNMENT, 2 * ALIGNMENT, t.recordRead(3 * ALIGNMENT, ALIGNMENT, STORAGE_LENGTH));
+
+        // This one arrived late; it should be ignored.
+        Assert.assertNull("Not expecting a prefetch for a stale read.", t.recordRead(2 * ALIGNMENT, ALIGNMENT, STORAGE_LENGTH));
+        checkRange(6 * ALIGNMENT, ALIGNMENT, t.recordRead(4 * ALIGNMENT, ALIGNMENT, STORAGE_LENGTH));
+    }
+
+    /**
+     * Tests the fact that prefetches never go beyond the Storage Length.
+     */
+    @Test
+    public void testStorageLength() {
+        final long storageLength = 2 * ALIGNMENT + ALIGNMENT / 2;
+        val t = new ReadAheadTracker(ALIGNMENT, PREFETCH_COUNT, TRIGGER_COUNT);
+        Assert.assertNull(t.recordRead(0, ALIGNMENT, storageLength));
+        checkRange(2 * ALIGNMENT, ALIGNMENT / 2, t.recordRead(ALIGNMENT, ALIGNMENT, storageLength));
+        Assert.assertNull("Not expecting a prefetch at the end of Storage.", t.recordRead(2 * ALIGNMENT, ALIGNMENT / 2, storageLength));
+    }
+
+    /**
+     * Tests the fact that non-sequential reads reset the tracker and that reset() allows ranges to be prefetched again.
+     */
+    @Test
+    public void testRandomReadsAndReset() {
+        val t = new ReadAheadTracker(ALIGNMENT, PREFETCH_COUNT, TRIGGER_COUNT);
+        Assert.assertNull(t.recordRead(5 * ALIGNMENT, ALIGNMENT, STORAGE_LENGTH));
+        Assert.assertNull("Not expecting a prefetch after a backwards read.", t.recordRead(0, ALIGNMENT, STORAGE_LENGTH));
+        Assert.assertNull("Not expecting a prefetch after a forward jump.", t.recordRead(3 * ALIGNMENT, ALIGNMENT, STORAGE_LENGTH));
+        checkRange(5 * ALIGNMENT, PREFETCH_COUNT * ALIGNMENT, t.recordRead(4 * ALIGNMENT, ALIGNMENT, STORAGE_LENGTH));
+
+        // After a reset, we need to observe the pattern again, at which point the same range may be prefetched again.
+        t.reset();
+        Assert.assertNull("Not expecting a prefetch after reset.", t.recordRead(3 * ALIGNMENT, ALIGNMENT, STORAGE_LENGTH));
+        checkRange(5 * ALIGNMENT, PREFETCH_COUNT * ALIGNMENT, t.recordRead(4 * ALIGNMENT, ALIGNMENT, STORAGE_LENGTH));
+    }
+
+    private void checkRange(long expectedOffset, long expectedLength, ReadAheadTracker.Range actual) {
+        Assert.assertNotNull("Expected a prefetch range.", actual);
+        Assert.assertEquals("Unexpected prefetch offset.", expectedOffset, actual.getOffset());
+        Assert.assertEquals("Unexpected prefetch length.", expectedLength, actual.getLength());
+    }
+}
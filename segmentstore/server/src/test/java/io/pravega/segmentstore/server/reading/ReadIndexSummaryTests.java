@@ -75,6 +75,29 @@ public class ReadIndexSummaryTests {
         testRemove(count, GENERATION_COUNT - 1, s);
     }
 
+    /**
+     * Tests the ability to add low-priority elements (which are recorded in a generation before the current one).
+     */
+    @Test
+    public void testAddLowPriority() {
+        ReadIndexSummary s = new ReadIndexSummary();
+        Assert.assertEquals("Unexpected generation when current generation is 0.", 0, s.addOneLowPriority());
+        s.removeOne(0);
+
+        s.setCurrentGeneration(GENERATION_COUNT);
+        int lowPriorityGeneration = s.addOneLowPriority();
+        Assert.assertEquals("Unexpected generation for low-priority element.", GENERATION_COUNT - 1, lowPriorityGeneration);
+        s.addOne();
+
+        CacheManager.CacheStatus currentStatus = s.toCacheStatus();
+        Assert.assertEquals("Unexpected oldest generation.", GENERATION_COUNT - 1, currentStatus.getOldestGeneration());
+        Assert.assertEquals("Unexpected newest generation.", GENERATION_COUNT, currentStatus.getNewestGeneration());
+
+        // Touching the element should bring it into the current generation.
+        Assert.assertEquals("Unexpected generation after touch.", GENERATION_COUNT, s.touchOne(lowPriorityGeneration));
+        Assert.assertEquals("Unexpected oldest generation after touch.", GENERATION_COUNT, s.toCacheStatus().getOldestGeneration());
+    }
+
     private void testRemove(int count, int maxGeneration, ReadIndexSummary s) {
         for (int generation = 0; generation < GENERATION_COUNT; generation++) {
             for (int i = 0; i < ITEMS_PER_GENERATION; i++) {
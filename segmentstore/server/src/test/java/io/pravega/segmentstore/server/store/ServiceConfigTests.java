@@ -9,6 +9,9 @@
  */
 package io.pravega.segmentstore.server.store;
 
+import io.pravega.common.util.ConfigurationException;
+import io.pravega.segmentstore.storage.cache.MappedFileCache;
+import io.pravega.test.common.AssertExtensions;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -69,6 +72,30 @@ public class ServiceConfigTests {
         assertEquals("", config.getKeyFile());
     }
 
+    @Test
+    public void testCacheSpillMaxSize() {
+        ServiceConfig config = ServiceConfig.builder()
+                .with(ServiceConfig.CONTAINER_COUNT, 1)
+                .with(ServiceConfig.CACHE_SPILL_MAX_SIZE, MappedFileCache.MAX_SIZE_BYTES)
+                .build();
+        assertEquals(MappedFileCache.MAX_SIZE_BYTES, config.getCacheSpillMaxSize());
+
+        AssertExtensions.assertThrows(
+                "Expected a negative value to be rejected.",
+                () -> ServiceConfig.builder()
+                        .with(ServiceConfig.CONTAINER_COUNT, 1)
+                        .with(ServiceConfig.CACHE_SPILL_MAX_SIZE, -1L)
+                        .build(),
+                ex -> ex instanceof ConfigurationException);
+        AssertExtensions.assertThrows(
+                "Expected a value greater than the maximum cache size to be rejected.",
+                () -> ServiceConfig.builder()
+                        .with(ServiceConfig.CONTAINER_COUNT, 1)
+                        .with(ServiceConfig.CACHE_SPILL_MAX_SIZE, MappedFileCache.MAX_SIZE_BYTES + 1)
+                        .build(),
+                ex -> ex instanceof ConfigurationException);
+    }
+
     // region Tests that verify the toString() method.
 
     @Test
@@ -28,6 +28,7 @@ import io.pravega.segmentstore.server.TableStoreMock;
 import io.pravega.segmentstore.storage.cache.CacheStorage;
 import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
 import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.TestUtils;
 import io.pravega.test.common.ThreadPooledTestSuite;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -302,20 +303,7 @@ public class ContainerKeyIndexTests extends ThreadPooledTestSuite {
         }
 
         // Update the keys in the segment (via their buckets).
-        val buckets = iw.locateBuckets(context.segment, keysWithOffsets.keySet(), context.timer).join();
-        Collection<BucketUpdate> bucketUpdates = buckets.entrySet().stream()
-                .map(e -> {
-                    val builder = BucketUpdate.forBucket(e.getValue());
-                    val ko = keysWithOffsets.get(e.getKey());
-                    if (ko != null) {
-                        builder.withKeyUpdate(new BucketUpdate.KeyUpdate(ko.key, ko.offset, ko.offset, false));
-                    }
-
-                    return builder.build();
-                })
-                .collect(Collectors.toList());
-
-        iw.updateBuckets(context.segment, bucketUpdates, 0L, 1L, 0, TIMEOUT).join();
+        indexKeys(keysWithOffsets, iw, 0L, 1L, context);
 
         // First lookup should go directly to the index. The cache should be empty.
         val result1 = context.index.getBucketOffsets(context.segment, hashes, context.timer).join();
@@ -326,6 +314,67 @@ public class ContainerKeyIndexTests extends ThreadPooledTestSuite {
         checkKeyOffsets(hashes, keysWithOffsets, result2);
     }
 
+    /**
+     * Tests the ability of the {@link ContainerKeyIndex#getBucketOffsets} to use a {@link KeyHashFilter} to answer lookups
+     * for inexistent buckets without accessing the index, and that such a filter is kept up to date using
+     * {@link ContainerKeyIndex#notifyBucketsIndexed}.
+     */
+    @Test
+    public void testGetBucketOffsetsWithKeyFilter() throws Exception {
+        @Cleanup
+        val context = new TestContext(true);
+        val iw = new IndexWriter(HASHER, executorService());
+        val segmentId = context.segment.getSegmentId();
+
+        // Generate keys and index them by Hashes and assign offsets. Only half the keys exist; the others do not.
+        val keys = generateUnversionedKeys(BATCH_SIZE, context);
+        val offset = new AtomicLong();
+        val hashes = new ArrayList<UUID>();
+        val keysWithOffsets = new HashMap<UUID, KeyWithOffset>();
+        for (val k : keys) {
+            val hash = HASHER.hash(k.getKey());
+            hashes.add(hash);
+            boolean exists = hashes.size() % 2 == 0;
+            keysWithOffsets.put(hash, exists ? new KeyWithOffset(k.getKey(), offset.getAndAdd(k.getKey().getLength())) : null);
+        }
+
+        indexKeys(keysWithOffsets, iw, 0L, 1L, context);
+
+        // First lookup should trigger the creation of the Key Filter, but it will not be used until it is fully built.
+        val result1 = context.index.getBucketOffsets(context.segment, hashes, context.timer).join();
+        checkKeyOffsets(hashes, keysWithOffsets, result1);
+        TestUtils.await(() -> context.index.isKeyFilterReady(segmentId), 10, TIMEOUT.toMillis());
+
+        // Lookups for inexistent buckets should now be answered by the Key Filter (barring false positives).
+        val inexistentHashes = hashes.stream().filter(h -> keysWithOffsets.get(h) == null).collect(Collectors.toList());
+        int initialReadCount = context.segment.getAttributeReadCount();
+        for (val hash : inexistentHashes) {
+            val result = context.index.getBucketOffsets(context.segment, Collections.singleton(hash), context.timer).join();
+            Assert.assertEquals("Unexpected offset for inexistent bucket.", TableKey.NOT_EXISTS, (long) result.get(hash));
+        }
+
+        AssertExtensions.assertLessThan("Expected most lookups for inexistent buckets to not access the index.",
+                inexistentHashes.size() / 10, context.segment.getAttributeReadCount() - initialReadCount);
+
+        // Index half of the previously inexistent buckets and notify the index. These must now be found.
+        val newKeysWithOffsets = new HashMap<UUID, KeyWithOffset>();
+        for (int i = 0; i < inexistentHashes.size(); i += 2) {
+            val hash = inexistentHashes.get(i);
+            val key = keys.get(hashes.indexOf(hash)).getKey();
+            newKeysWithOffsets.put(hash, new KeyWithOffset(key, offset.getAndAdd(key.getLength())));
+        }
+
+        indexKeys(newKeysWithOffsets, iw, 1L, 2L, context);
+        context.index.notifyBucketsIndexed(segmentId, newKeysWithOffsets.keySet());
+        keysWithOffsets.putAll(newKeysWithOffsets);
+        val result2 = context.index.getBucketOffsets(context.segment, hashes, context.timer).join();
+        checkKeyOffsets(hashes, keysWithOffsets, result2);
+
+        // Evicting the segment should also discard the Key Filter.
+        context.index.notifyIndexOffsetChanged(segmentId, -1L);
+        Assert.assertFalse("Not expecting Key Filter to be available after eviction.", context.index.isKeyFilterReady(segmentId));
+    }
+
     /**
      * Tests the {@link ContainerKeyIndex#getBucketOffsetDirect} method.
      */
@@ -650,6 +699,24 @@ public class ContainerKeyIndexTests extends ThreadPooledTestSuite {
         empty2.get(SHORT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
     }
 
+    private void indexKeys(Map<UUID, KeyWithOffset> keysWithOffsets, IndexWriter iw, long firstIndexedOffset, long lastIndexedOffset,
+                           TestContext context) {
+        val buckets = iw.locateBuckets(context.segment, keysWithOffsets.keySet(), context.timer).join();
+        Collection<BucketUpdate> bucketUpdates = buckets.entrySet().stream()
+                .map(e -> {
+                    val builder = BucketUpdate.forBucket(e.getValue());
+                    val ko = keysWithOffsets.get(e.getKey());
+                    if (ko != null) {
+                        builder.withKeyUpdate(new BucketUpdate.KeyUpdate(ko.key, ko.offset, ko.offset, false));
+                    }
+
+                    return builder.build();
+                })
+                .collect(Collectors.toList());
+
+        iw.updateBuckets(context.segment, bucketUpdates, firstIndexedOffset, lastIndexedOffset, 0, TIMEOUT).join();
+    }
+
     private void checkKeyOffsets(List<UUID> allHashes, Map<UUID, KeyWithOffset> offsets, Map<UUID, Long> bucketOffsets) {
         Assert.assertEquals("Unexpected number of results found.", allHashes.size(), bucketOffsets.size());
         for (int i = 0; i < allHashes.size(); i++) {
@@ -823,6 +890,10 @@ public class ContainerKeyIndexTests extends ThreadPooledTestSuite {
         final Random random;
 
         TestContext() {
+            this(false);
+        }
+
+        TestContext(boolean useKeyFilter) {
             this.cacheStorage = new DirectMemoryCache(Integer.MAX_VALUE);
             this.cacheManager = new CacheManager(CachePolicy.INFINITE, this.cacheStorage, executorService());
             this.segment = new SegmentMock(executorService());
@@ -834,7 +905,8 @@ public class ContainerKeyIndexTests extends ThreadPooledTestSuite {
             this.sortedKeyStorage.createSegment(this.segment.getInfo().getName(), TIMEOUT).join();
             val ds = new SortedKeyIndexDataSource(this.sortedKeyStorage::put, this.sortedKeyStorage::remove, this.sortedKeyStorage::get);
             this.sortedKeyIndex = new ContainerSortedKeyIndex(ds, executorService());
-            this.index = new TestContainerKeyIndex(CONTAINER_ID, this.cacheManager, this.sortedKeyIndex, KeyHashers.DEFAULT_HASHER, executorService());
+            this.index = new TestContainerKeyIndex(CONTAINER_ID, this.cacheManager, this.sortedKeyIndex, KeyHashers.DEFAULT_HASHER,
+                    useKeyFilter, executorService());
             this.timer = new TimeoutTimer(TIMEOUT);
             this.random = new Random(0);
         }
@@ -848,8 +920,8 @@ public class ContainerKeyIndexTests extends ThreadPooledTestSuite {
 
         private class TestContainerKeyIndex extends ContainerKeyIndex {
             TestContainerKeyIndex(int containerId, @NonNull CacheManager cacheManager, @NonNull ContainerSortedKeyIndex sortedKeyIndex,
-                                  @NonNull KeyHasher keyHasher, @NonNull ScheduledExecutorService executor) {
-                super(containerId, cacheManager, sortedKeyIndex, keyHasher, executor);
+                                  @NonNull KeyHasher keyHasher, boolean useKeyFilter, @NonNull ScheduledExecutorService executor) {
+                super(containerId, cacheManager, sortedKeyIndex, keyHasher, useKeyFilter, executor);
             }
 
             @Override
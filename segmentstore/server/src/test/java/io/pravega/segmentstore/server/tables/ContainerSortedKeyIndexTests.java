@@ -12,6 +12,7 @@ package io.pravega.segmentstore.server.tables;
 import io.pravega.common.util.ArrayView;
 import io.pravega.common.util.AsyncIterator;
 import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArrayComparator;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.segmentstore.contracts.Attributes;
 import io.pravega.segmentstore.contracts.SegmentProperties;
@@ -216,30 +217,7 @@ public class ContainerSortedKeyIndexTests extends ThreadPooledTestSuite {
     public void testIteratorsPrefix() {
         val maxPrefixValue = 10;
         val context = new TestContext();
-        // Add a prefix between 0 and maxPrefixValue to each key.
-        Function<byte[], byte[]> addPrefix = array -> {
-            val result = new byte[array.length + 1];
-            result[0] = (byte) (array.length % maxPrefixValue);
-            System.arraycopy(array, 0, result, 1, array.length);
-            return result;
-        };
-        val testItems = generateTestData(2 * BATCH_COUNT, 0.4, addPrefix);
-
-        // First half is persisted.
-        int halfIndex = testItems.size() / 2;
-        for (int i = 0; i < halfIndex; i++) {
-            val t = testItems.get(i);
-            val bucketUpdate = t.getBucketUpdate();
-            context.segmentIndex.persistUpdate(Collections.singleton(bucketUpdate), TIMEOUT).join();
-        }
-
-        // Second half is not.
-        context.containerIndex.notifyIndexOffsetChanged(SEGMENT_ID, testItems.get(halfIndex).batchOffset);
-        for (int i = halfIndex; i < testItems.size(); i++) {
-            context.segmentIndex.includeTailUpdate(testItems.get(i).batch, testItems.get(i).batchOffset);
-        }
-
-        val allExpectedItems = testItems.get(testItems.size() - 1).expectedItems;
+        val allExpectedItems = populateWithPrefixes(maxPrefixValue, context);
         AssertExtensions.assertListEquals("Boundless iterator.", allExpectedItems, context.getAllKeys(), BufferView::equals);
         for (int i = 0; i < maxPrefixValue; i++) {
             // Check prefix iterators, without a start bound (initial iterators).
@@ -265,6 +243,94 @@ public class ContainerSortedKeyIndexTests extends ThreadPooledTestSuite {
         }
     }
 
+    /**
+     * Tests iterators with lower and/or upper bounds, optionally combined with a prefix.
+     */
+    @Test
+    public void testIteratorsRange() {
+        val maxPrefixValue = 10;
+        val context = new TestContext();
+        val allExpectedItems = populateWithPrefixes(maxPrefixValue, context);
+        val step = Math.max(1, allExpectedItems.size() / 10);
+        for (int i = 0; i < allExpectedItems.size(); i += step) {
+            // Lower bound only (inclusive).
+            val lowerBound = allExpectedItems.get(i);
+            val fromLowerBound = allExpectedItems.subList(i, allExpectedItems.size());
+            AssertExtensions.assertListEquals("Iterator with lower bound at index " + i, fromLowerBound,
+                    context.getKeys(context.segmentIndex.iterator(context.segmentIndex.getIteratorRange(null, null, lowerBound, null), TIMEOUT)),
+                    BufferView::equals);
+
+            // Upper bound only (exclusive).
+            AssertExtensions.assertListEquals("Iterator with upper bound at index " + i, allExpectedItems.subList(0, i),
+                    context.getKeys(context.segmentIndex.iterator(context.segmentIndex.getIteratorRange(null, null, null, lowerBound), TIMEOUT)),
+                    BufferView::equals);
+
+            for (int j = i + 1; j < allExpectedItems.size(); j += step) {
+                // Both bounds.
+                val upperBound = allExpectedItems.get(j);
+                val expectedItems = allExpectedItems.subList(i, j);
+                val range = context.segmentIndex.getIteratorRange(null, null, lowerBound, upperBound);
+                AssertExtensions.assertListEquals("Iterator with range " + i + "-" + j, expectedItems,
+                        context.getKeys(context.segmentIndex.iterator(range, TIMEOUT)), BufferView::equals);
+
+                // Resumed iterator.
+                val resumedRange = context.segmentIndex.getIteratorRange(lowerBound, null, lowerBound, upperBound);
+                AssertExtensions.assertListEquals("Resumed iterator with range " + i + "-" + j, expectedItems.subList(1, expectedItems.size()),
+                        context.getKeys(context.segmentIndex.iterator(resumedRange, TIMEOUT)), BufferView::equals);
+
+                // Combined with a prefix.
+                val prefix = new ByteArraySegment(new byte[]{lowerBound.get(0), lowerBound.get(1)});
+                val expectedPrefixItems = expectedItems.stream().filter(a -> isPrefixOf(prefix, a)).collect(Collectors.toList());
+                val prefixRange = context.segmentIndex.getIteratorRange(null, prefix, lowerBound, upperBound);
+                AssertExtensions.assertListEquals("Iterator with range " + i + "-" + j + " and prefix", expectedPrefixItems,
+                        context.getKeys(context.segmentIndex.iterator(prefixRange, TIMEOUT)), BufferView::equals);
+            }
+        }
+
+        // Ranges that do not intersect with the prefix.
+        val prefix = new ByteArraySegment(new byte[]{allExpectedItems.get(0).get(0), allExpectedItems.get(0).get(1)});
+        val emptyRange = context.segmentIndex.getIteratorRange(null, prefix, ByteArrayComparator.getNextItemOfSameLength(prefix), null);
+        Assert.assertTrue("Not expecting any items.", context.getKeys(context.segmentIndex.iterator(emptyRange, TIMEOUT)).isEmpty());
+
+        val lastItem = allExpectedItems.get(allExpectedItems.size() - 1);
+        AssertExtensions.assertThrows("Invalid range.",
+                () -> context.segmentIndex.getIteratorRange(null, null, lastItem, allExpectedItems.get(0)),
+                ex -> ex instanceof IllegalArgumentException);
+    }
+
+    /**
+     * Populates the index with keys that begin with a prefix between 0 and maxPrefixValue. Half of the updates are
+     * persisted and the other half are only included in the tail.
+     *
+     * @return A sorted list of the keys in the index.
+     */
+    private List<ArrayView> populateWithPrefixes(int maxPrefixValue, TestContext context) {
+        // Add a prefix between 0 and maxPrefixValue to each key.
+        Function<byte[], byte[]> addPrefix = array -> {
+            val result = new byte[array.length + 1];
+            result[0] = (byte) (array.length % maxPrefixValue);
+            System.arraycopy(array, 0, result, 1, array.length);
+            return result;
+        };
+        val testItems = generateTestData(2 * BATCH_COUNT, 0.4, addPrefix);
+
+        // First half is persisted.
+        int halfIndex = testItems.size() / 2;
+        for (int i = 0; i < halfIndex; i++) {
+            val t = testItems.get(i);
+            val bucketUpdate = t.getBucketUpdate();
+            context.segmentIndex.persistUpdate(Collections.singleton(bucketUpdate), TIMEOUT).join();
+        }
+
+        // Second half is not.
+        context.containerIndex.notifyIndexOffsetChanged(SEGMENT_ID, testItems.get(halfIndex).batchOffset);
+        for (int i = halfIndex; i < testItems.size(); i++) {
+            context.segmentIndex.includeTailUpdate(testItems.get(i).batch, testItems.get(i).batchOffset);
+        }
+
+        return testItems.get(testItems.size() - 1).expectedItems;
+    }
+
     private boolean isPrefixOf(ArrayView prefix, ArrayView array) {
         for (int i = 0; i < prefix.getLength(); i++) {
             if (prefix.get(i) != array.get(i)) {
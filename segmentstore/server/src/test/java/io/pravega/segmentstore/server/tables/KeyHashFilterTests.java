@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.test.common.AssertExtensions;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.UUID;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link KeyHashFilter} class.
+ */
+public class KeyHashFilterTests {
+    private static final int ITEM_COUNT = 10000;
+
+    /**
+     * Tests {@link KeyHashFilter#add} and {@link KeyHashFilter#mightContain}. Verifies there are no false negatives and
+     * that the false positive rate is in line with what the filter was sized for.
+     */
+    @Test
+    public void testAddMightContain() {
+        val rnd = new Random(0);
+        val f = new KeyHashFilter(ITEM_COUNT);
+        Assert.assertEquals(ITEM_COUNT, f.getCapacity());
+        Assert.assertFalse("Not expecting a new filter to be ready.", f.isReady());
+
+        val added = new ArrayList<UUID>();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            UUID hash = new UUID(rnd.nextLong(), rnd.nextLong());
+            f.add(hash);
+            added.add(hash);
+        }
+
+        for (val hash : added) {
+            Assert.assertTrue("False negative for " + hash, f.mightContain(hash));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            if (f.mightContain(new UUID(rnd.nextLong(), rnd.nextLong()))) {
+                falsePositives++;
+            }
+        }
+
+        AssertExtensions.assertLessThan("Unexpected false positive count.",
+                (int) (2 * KeyHashFilter.TARGET_FALSE_POSITIVE_RATE * ITEM_COUNT), falsePositives);
+        Assert.assertFalse("Not expecting filter to be saturated.", f.isSaturated());
+
+        f.markReady();
+        Assert.assertTrue("Expected filter to be ready.", f.isReady());
+    }
+
+    /**
+     * Tests the sizing of the filter and {@link KeyHashFilter#isSaturated()}.
+     */
+    @Test
+    public void testCapacity() {
+        val rnd = new Random(0);
+        val f1 = new KeyHashFilter(0);
+        Assert.assertEquals(KeyHashFilter.MIN_CAPACITY, f1.getCapacity());
+
+        // Adding the same item multiple times should not count towards saturation.
+        val hash = new UUID(rnd.nextLong(), rnd.nextLong());
+        for (int i = 0; i <= KeyHashFilter.MIN_CAPACITY; i++) {
+            f1.add(hash);
+        }
+
+        Assert.assertFalse("Not expecting filter to be saturated after adding the same item.", f1.isSaturated());
+
+        // Distinct items do (barring those that are false positives at the time they are added).
+        for (int i = 0; i < 2 * KeyHashFilter.MIN_CAPACITY; i++) {
+            f1.add(new UUID(rnd.nextLong(), rnd.nextLong()));
+        }
+
+        Assert.assertTrue("Expecting filter to be saturated.", f1.isSaturated());
+
+        // About 9.6 bits per item for a 1% false positive rate.
+        val f2 = new KeyHashFilter(ITEM_COUNT);
+        AssertExtensions.assertGreaterThan("Unexpected size.", ITEM_COUNT, f2.getSizeBytes());
+        AssertExtensions.assertLessThan("Unexpected size.", 2 * ITEM_COUNT, f2.getSizeBytes());
+        AssertExtensions.assertGreaterThan("Unexpected size.", f2.getSizeBytes(), new KeyHashFilter(2 * ITEM_COUNT).getSizeBytes());
+    }
+}
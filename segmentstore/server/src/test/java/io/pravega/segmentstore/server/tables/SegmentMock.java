@@ -36,6 +36,7 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
@@ -61,6 +62,7 @@ class SegmentMock implements DirectSegmentAccess {
     private final ScheduledExecutorService executor;
     @GuardedBy("this")
     private BiConsumer<Long, Integer> appendCallback;
+    private final AtomicInteger attributeReadCount = new AtomicInteger();
 
     SegmentMock(ScheduledExecutorService executor) {
         this(new StreamSegmentMetadata("Mock", 0, 0), executor);
@@ -82,6 +84,13 @@ class SegmentMock implements DirectSegmentAccess {
         return (int) this.metadata.getAttributes().entrySet().stream().filter(e -> tester.test(e.getKey(), e.getValue())).count();
     }
 
+    /**
+     * Gets the number of times {@link #getAttributes} has been invoked.
+     */
+    int getAttributeReadCount() {
+        return this.attributeReadCount.get();
+    }
+
     /**
      * Sets a callback that will be invoked (synchronously) every time a successful call to {@link #append} completes.
      *
@@ -147,6 +156,7 @@ class SegmentMock implements DirectSegmentAccess {
 
     @Override
     public CompletableFuture<Map<UUID, Long>> getAttributes(Collection<UUID> attributeIds, boolean cache, Duration timeout) {
+        this.attributeReadCount.incrementAndGet();
         return CompletableFuture.supplyAsync(() -> {
             synchronized (this) {
                 return attributeIds.stream()
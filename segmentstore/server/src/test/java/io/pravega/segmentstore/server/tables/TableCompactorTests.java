@@ -35,6 +35,7 @@ import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.Cleanup;
 import lombok.Getter;
@@ -194,6 +195,65 @@ public class TableCompactorTests extends ThreadPooledTestSuite {
         testCompaction(batchCount * UPDATE_ENTRY_LENGTH);
     }
 
+    /**
+     * Tests the {@link TableCompactor#compact} method when the Segment's utilization is low enough for it to perform
+     * multiple passes at once.
+     */
+    @Test
+    public void testCompactionMultiplePasses() throws Exception {
+        final int readLength = 10 * UPDATE_ENTRY_LENGTH;
+        final int maxPasses = 4;
+        @Cleanup
+        val context = new TestContext(readLength, maxPasses);
+
+        // Generate and index the data. Only a fraction of the entries are active, so with a MIN_UTILIZATION of 100 we
+        // should get the maximum number of passes.
+        val keyData = populate(context);
+        setMinUtilization(100, context);
+        val sortedEntries = sort(keyData, context);
+        final long lastIndexedOffset = context.indexWriter.getLastIndexedOffset(context.segmentMetadata);
+        final long initialLength = context.segmentMetadata.getLength();
+
+        // Execute a single compaction and verify it has processed as much as the first few single-pass compactions would have.
+        context.compactor.compact(context.segment, context.timer).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        val sortedIterator = sortedEntries.listIterator();
+        long expectedCompactionOffset = 0;
+        for (int i = 0; i < maxPasses; i++) {
+            expectedCompactionOffset += collect(sortedIterator, readLength).stream().mapToInt(k -> k.length).sum();
+        }
+
+        Assert.assertEquals("Unexpected COMPACTION_OFFSET after the first compaction.",
+                expectedCompactionOffset, context.indexWriter.getCompactionOffset(context.segmentMetadata));
+        Assert.assertEquals("Unexpected compaction lag reported.",
+                lastIndexedOffset - expectedCompactionOffset, context.writerConnector.getCompactionLag().get());
+
+        // Compact the rest of the segment.
+        while (context.indexWriter.getCompactionOffset(context.segmentMetadata) < lastIndexedOffset) {
+            context.compactor.compact(context.segment, context.timer).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        Assert.assertEquals("Expecting TOTAL_ENTRY_COUNT to be 0 after a full compaction.",
+                0, context.indexWriter.getTotalEntryCount(context.segmentMetadata));
+        Assert.assertEquals("Not expecting LAST_INDEX_OFFSET to have changed.",
+                lastIndexedOffset, context.indexWriter.getLastIndexedOffset(context.segmentMetadata));
+
+        // Verify that all active entries have been copied over, in order, and nothing else.
+        long expectedNewOffset = initialLength;
+        for (val e : sortedEntries) {
+            if (e.isActive) {
+                val copiedEntry = readEntryAt(expectedNewOffset, e.length, context);
+                val expectedEntry = keyData.get(e.key).values.get(e.offset);
+                Assert.assertEquals("Unexpected Entry copied over from offset " + e.offset, expectedEntry, copiedEntry);
+                expectedNewOffset += e.length;
+            }
+        }
+
+        Assert.assertEquals("Unexpected Segment length after a full compaction.", expectedNewOffset, context.segmentMetadata.getLength());
+        Assert.assertEquals("Unexpected number of reclaimed bytes reported.",
+                lastIndexedOffset - (expectedNewOffset - initialLength), context.writerConnector.getReclaimedBytes().get());
+        Assert.assertEquals("Unexpected compaction lag reported after a full compaction.", 0, context.writerConnector.getCompactionLag().get());
+    }
+
     @SneakyThrows
     private void testCompaction(int readLength) {
         @Cleanup
@@ -504,11 +564,15 @@ public class TableCompactorTests extends ThreadPooledTestSuite {
         final TimeoutTimer timer;
 
         TestContext(int maxCompactLength) {
+            this(maxCompactLength, 1);
+        }
+
+        TestContext(int maxCompactLength, int maxCompactionPasses) {
             this.segmentMetadata = new StreamSegmentMetadata(SEGMENT_NAME, 1, 1);
             this.segment = new SegmentMock(this.segmentMetadata, executorService());
             this.indexWriter = new IndexWriter(KEY_HASHER, executorService());
             this.serializer = new EntrySerializer();
-            this.writerConnector = new TestConnector(this.segment, this.serializer, KEY_HASHER, maxCompactLength);
+            this.writerConnector = new TestConnector(this.segment, this.serializer, KEY_HASHER, maxCompactLength, maxCompactionPasses);
             this.compactor = new TableCompactor(this.writerConnector, this.indexWriter, executorService());
             this.timer = new TimeoutTimer(TIMEOUT);
         }
@@ -526,6 +590,9 @@ public class TableCompactorTests extends ThreadPooledTestSuite {
         private final EntrySerializer serializer;
         private final KeyHasher keyHasher;
         private final int maxCompactLength;
+        private final int maxCompactionPasses;
+        private final AtomicLong reclaimedBytes = new AtomicLong();
+        private final AtomicLong compactionLag = new AtomicLong(-1);
 
         @Override
         public SegmentMetadata getMetadata() {
@@ -552,6 +619,12 @@ public class TableCompactorTests extends ThreadPooledTestSuite {
             return this.maxCompactLength;
         }
 
+        @Override
+        public void notifyCompacted(long reclaimedBytes, long compactionLag) {
+            this.reclaimedBytes.addAndGet(reclaimedBytes);
+            this.compactionLag.set(compactionLag);
+        }
+
         @Override
         public void close() {
             // Nothing to do.
@@ -13,6 +13,7 @@ import com.google.common.base.Preconditions;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
 import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.BufferedIterator;
 import io.pravega.common.util.CloseableIterator;
 import io.pravega.segmentstore.storage.DataLogCorruptedException;
@@ -20,18 +21,18 @@ import io.pravega.segmentstore.storage.DurableDataLog;
 import io.pravega.segmentstore.storage.DurableDataLogException;
 import java.io.InputStream;
 import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.concurrent.NotThreadSafe;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
-import org.apache.bookkeeper.client.api.BKException;
 import org.apache.bookkeeper.client.api.BookKeeper;
 import org.apache.bookkeeper.client.api.LedgerEntry;
 import org.apache.bookkeeper.client.api.LedgerEntries;
 import org.apache.bookkeeper.client.api.ReadHandle;
 import lombok.NonNull;
-import lombok.SneakyThrows;
+import lombok.RequiredArgsConstructor;
 import org.apache.bookkeeper.client.api.Handle;
 
 /**
@@ -207,12 +208,17 @@ class LogReader implements CloseableIterator<DurableDataLog.ReadItem, DurableDat
         final ReadHandle handle;
         final BufferedIterator<LedgerEntry> reader;
         final AtomicBoolean closed = new AtomicBoolean(false);
+        final long lastEntryId;
+        final int batchSize;
         volatile LedgerEntries currentLedgerEntries;
+        volatile PrefetchedRange prefetchedRange;
 
         public ReadLedger(LedgerMetadata metadata, ReadHandle handle, long firstEntryId, long lastEntryId,
                 int batchSize) {
             this.metadata = metadata;
             this.handle = handle;
+            this.lastEntryId = lastEntryId;
+            this.batchSize = batchSize;
             if (lastEntryId >= firstEntryId) {
                 this.reader = new BufferedIterator<>(this::readRange, firstEntryId, lastEntryId, batchSize);
             } else {
@@ -232,6 +238,11 @@ class LogReader implements CloseableIterator<DurableDataLog.ReadItem, DurableDat
                 if (currentLedgerEntries != null) {
                     currentLedgerEntries.close();
                 }
+                val prefetched = this.prefetchedRange;
+                if (prefetched != null) {
+                    // Nobody is going to consume these entries. Release them as soon as they arrive.
+                    prefetched.entries.thenAccept(LedgerEntries::close);
+                }
                 // closing a ReadHandle is mostly a no-op, it is not expected
                 // to really fail
                 try {
@@ -242,12 +253,35 @@ class LogReader implements CloseableIterator<DurableDataLog.ReadItem, DurableDat
             }
         }
 
-        @SneakyThrows(BKException.class)
         private Iterator<LedgerEntry> readRange(long fromEntryId, long toEntryId) {
             if (currentLedgerEntries != null) {
                 currentLedgerEntries.close();
             }
-            currentLedgerEntries = Exceptions.handleInterruptedCall(() -> this.handle.read(fromEntryId, toEntryId));
+
+            // Use the entries we fetched in the background, if they match what we've been asked for.
+            CompletableFuture<LedgerEntries> read;
+            val prefetched = this.prefetchedRange;
+            this.prefetchedRange = null;
+            if (prefetched != null && prefetched.fromEntryId == fromEntryId && prefetched.toEntryId == toEntryId) {
+                read = prefetched.entries;
+            } else {
+                if (prefetched != null) {
+                    prefetched.entries.thenAccept(LedgerEntries::close);
+                }
+                read = this.handle.readAsync(fromEntryId, toEntryId);
+            }
+
+            // This will rethrow any BKException from the read as-is.
+            currentLedgerEntries = Futures.getThrowingException(read);
+
+            // Begin fetching the next batch while the caller is processing this one. BufferedIterator always requests
+            // ranges in sequence, so we can predict what the next one will be.
+            if (toEntryId < this.lastEntryId) {
+                long nextFrom = toEntryId + 1;
+                long nextTo = Math.min(nextFrom + this.batchSize, this.lastEntryId);
+                this.prefetchedRange = new PrefetchedRange(nextFrom, nextTo, this.handle.readAsync(nextFrom, nextTo));
+            }
+
             return currentLedgerEntries.iterator();
         }
 
@@ -260,6 +294,13 @@ class LogReader implements CloseableIterator<DurableDataLog.ReadItem, DurableDat
         }
     }
 
+    @RequiredArgsConstructor
+    private static class PrefetchedRange {
+        final long fromEntryId;
+        final long toEntryId;
+        final CompletableFuture<LedgerEntries> entries;
+    }
+
     //endregion
 }
 
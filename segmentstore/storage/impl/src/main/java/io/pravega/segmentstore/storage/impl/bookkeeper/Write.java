@@ -13,8 +13,9 @@ import com.google.common.base.Preconditions;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.pravega.common.Timer;
-import io.pravega.common.util.CompositeArrayView;
+import io.pravega.common.util.BufferView;
 import io.pravega.segmentstore.storage.LogAddress;
+import java.util.ArrayList;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -52,12 +53,13 @@ class Write {
     /**
      * Creates a new instance of the Write class.
      *
-     * @param data               An ArrayView representing the data to write.
+     * @param data               A BufferView representing the data to write. This must not be modified or released
+     *                           until the result is completed.
      * @param initialWriteLedger The WriteLedger this write is initially assigned to.
      * @param result             A CompletableFuture that will be completed with the result (or failure cause) once this
      *                           Write is completed.
      */
-    Write(@NonNull CompositeArrayView data, WriteLedger initialWriteLedger, CompletableFuture<LogAddress> result) {
+    Write(@NonNull BufferView data, WriteLedger initialWriteLedger, CompletableFuture<LogAddress> result) {
         this.data = convertData(data);
         this.length = data.getLength();
         this.writeLedger = new AtomicReference<>(Preconditions.checkNotNull(initialWriteLedger, "initialWriteLedger"));
@@ -68,11 +70,12 @@ class Write {
         this.beginAttemptTimer = new AtomicReference<>();
     }
 
-    private ByteBuf convertData(CompositeArrayView data) {
-        ByteBuf[] components = new ByteBuf[data.getComponentCount()];
-        val index = new AtomicInteger();
-        data.collect(bb -> components[index.getAndIncrement()] = Unpooled.wrappedBuffer(bb));
-        return Unpooled.wrappedUnmodifiableBuffer(components);
+    private ByteBuf convertData(BufferView data) {
+        // Wrap (do not copy) each component. The caller may hand us slices of externally-owned buffers (such as ones
+        // received from the network); it keeps them alive until the write's result is completed.
+        val components = new ArrayList<ByteBuf>();
+        data.collect(bb -> components.add(Unpooled.wrappedBuffer(bb)));
+        return Unpooled.wrappedUnmodifiableBuffer(components.toArray(new ByteBuf[components.size()]));
     }
 
     //endregion
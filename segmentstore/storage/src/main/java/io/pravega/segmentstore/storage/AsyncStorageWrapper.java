@@ -14,6 +14,7 @@ import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.MultiKeySequentialProcessor;
 import io.pravega.common.function.RunnableWithException;
+import io.pravega.common.util.BufferView;
 import io.pravega.segmentstore.contracts.SegmentProperties;
 
 import java.io.IOException;
@@ -131,6 +132,11 @@ public class AsyncStorageWrapper implements Storage {
         return supplyAsync(() -> this.syncStorage.read(handle, offset, buffer, bufferOffset, length), handle.getSegmentName());
     }
 
+    @Override
+    public CompletableFuture<BufferView> read(SegmentHandle handle, long offset, int length, Duration timeout) {
+        return supplyAsync(() -> this.syncStorage.read(handle, offset, length), handle.getSegmentName());
+    }
+
     @Override
     public CompletableFuture<SegmentProperties> getStreamSegmentInfo(String streamSegmentName, Duration timeout) {
         return supplyAsync(() -> this.syncStorage.getStreamSegmentInfo(streamSegmentName), streamSegmentName);
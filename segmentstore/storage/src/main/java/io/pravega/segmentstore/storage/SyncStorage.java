@@ -9,6 +9,8 @@
  */
 package io.pravega.segmentstore.storage;
 
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
 import io.pravega.segmentstore.contracts.BadOffsetException;
 import io.pravega.segmentstore.contracts.SegmentProperties;
 import io.pravega.segmentstore.contracts.StreamSegmentException;
@@ -58,6 +60,25 @@ public interface SyncStorage extends AutoCloseable {
      */
     int read(SegmentHandle handle, long offset, byte[] buffer, int bufferOffset, int length) throws StreamSegmentException;
 
+    /**
+     * Reads a range of bytes from the StreamSegment and returns them as a {@link BufferView}.
+     *
+     * Implementations may return a {@link BufferView} that refers to the data directly (i.e., a memory-mapped region of
+     * a file) instead of copying it into a new buffer. The default implementation allocates a new buffer and invokes
+     * {@link #read(SegmentHandle, long, byte[], int, int)}.
+     *
+     * @param handle A SegmentHandle (read-only or read-write) that points to a Segment to read from.
+     * @param offset The offset in the StreamSegment to read data from.
+     * @param length The number of bytes to read.
+     * @return A {@link BufferView} containing the data read. There is no guarantee that its length equals 'length'.
+     * @throws StreamSegmentNotExistsException If the Segment does not exist.
+     */
+    default BufferView read(SegmentHandle handle, long offset, int length) throws StreamSegmentException {
+        byte[] buffer = new byte[length];
+        int bytesRead = read(handle, offset, buffer, 0, length);
+        return new ByteArraySegment(buffer, 0, bytesRead);
+    }
+
     /**
      * Gets current information about a StreamSegment.
      *
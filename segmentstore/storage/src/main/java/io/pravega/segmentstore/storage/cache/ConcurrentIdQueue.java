@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A lock-free FIFO queue of primitive integer ids in the range [0, capacity). Every id may be present in the queue at
+ * most once; attempting to add an id that is already in the queue has no effect. As such, the queue can never hold more
+ * than capacity elements and adding to it never fails because it is full.
+ *
+ * This is implemented as a bounded multi-producer, multi-consumer array-based queue, where each slot has a sequence
+ * number that indicates whether it is ready to be written to or read from. No allocations are made when adding or
+ * removing elements.
+ */
+@ThreadSafe
+class ConcurrentIdQueue {
+    //region Members
+
+    /**
+     * Value returned by {@link #peek()} and {@link #poll()} when the queue is empty.
+     */
+    static final int NO_ID = -1;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicIntegerArray values;
+    private final AtomicIntegerArray contained;
+    private final AtomicLong enqueuePosition;
+    private final AtomicLong dequeuePosition;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new, empty, instance of the {@link ConcurrentIdQueue} class.
+     *
+     * @param capacity The number of distinct ids this queue can hold. Valid ids are in the range [0, capacity).
+     */
+    ConcurrentIdQueue(int capacity) {
+        Preconditions.checkArgument(capacity >= 0 && capacity <= 1 << 30, "capacity must be a non-negative number less than 2^30.");
+        int slotCount = Integer.highestOneBit(Math.max(1, capacity));
+        if (slotCount < capacity) {
+            slotCount <<= 1;
+        }
+
+        this.mask = slotCount - 1;
+        this.sequences = new AtomicLongArray(slotCount);
+        this.values = new AtomicIntegerArray(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            this.sequences.set(i, i);
+        }
+
+        this.contained = new AtomicIntegerArray(capacity);
+        this.enqueuePosition = new AtomicLong();
+        this.dequeuePosition = new AtomicLong();
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Adds the given id at the end of the queue, if it is not already in it.
+     *
+     * @param id The id to add.
+     * @return True if the id was added, false if it was already in the queue.
+     */
+    boolean add(int id) {
+        if (!this.contained.compareAndSet(id, 0, 1)) {
+            return false;
+        }
+
+        while (true) {
+            long position = this.enqueuePosition.get();
+            int slot = (int) position & this.mask;
+            long sequence = this.sequences.get(slot);
+            if (sequence == position && this.enqueuePosition.compareAndSet(position, position + 1)) {
+                this.values.set(slot, id);
+                this.sequences.set(slot, position + 1);
+                return true;
+            }
+
+            // Either we lost the race to another producer, or a consumer hasn't finished releasing this slot. Since we
+            // can never hold more than capacity elements, the latter is transient.
+        }
+    }
+
+    /**
+     * Gets the id at the head of the queue, without removing it.
+     *
+     * @return The id, or {@link #NO_ID} if the queue is empty.
+     */
+    int peek() {
+        while (true) {
+            long position = this.dequeuePosition.get();
+            int slot = (int) position & this.mask;
+            long sequence = this.sequences.get(slot);
+            if (sequence < position + 1) {
+                // Nothing has been written to this slot yet.
+                return NO_ID;
+            }
+
+            int id = this.values.get(slot);
+            if (sequence == position + 1 && this.dequeuePosition.get() == position) {
+                return id;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the id at the head of the queue.
+     *
+     * @return The id, or {@link #NO_ID} if the queue is empty.
+     */
+    int poll() {
+        return pollIf(NO_ID);
+    }
+
+    /**
+     * Removes the id at the head of the queue, but only if it is the given one.
+     *
+     * @param id The id to remove.
+     * @return True if the id was at the head of the queue and was removed, false otherwise.
+     */
+    boolean pollIfHead(int id) {
+        return id != NO_ID && pollIf(id) == id;
+    }
+
+    /**
+     * Removes all ids from the queue.
+     */
+    void clear() {
+        while (poll() != NO_ID) {
+            // Keep removing until there is nothing left.
+        }
+    }
+
+    /**
+     * Removes the id at the head of the queue, if the queue is not empty and (if expectedId is not {@link #NO_ID}) the
+     * id at the head of the queue is expectedId.
+     */
+    private int pollIf(int expectedId) {
+        while (true) {
+            long position = this.dequeuePosition.get();
+            int slot = (int) position & this.mask;
+            long sequence = this.sequences.get(slot);
+            if (sequence < position + 1) {
+                // Nothing has been written to this slot yet.
+                return NO_ID;
+            } else if (sequence == position + 1) {
+                int id = this.values.get(slot);
+                if (expectedId != NO_ID && id != expectedId) {
+                    // Re-validate that this is still the head before reporting a mismatch.
+                    if (this.dequeuePosition.get() == position) {
+                        return NO_ID;
+                    }
+                } else if (this.dequeuePosition.compareAndSet(position, position + 1)) {
+                    this.sequences.set(slot, position + this.mask + 1);
+                    this.contained.set(id, 0);
+                    return id;
+                }
+            }
+
+            // Another consumer got here first. Try again.
+        }
+    }
+
+    //endregion
+}
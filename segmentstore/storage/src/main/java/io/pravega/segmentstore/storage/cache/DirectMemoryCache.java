@@ -19,7 +19,6 @@ import io.netty.buffer.UnpooledByteBufAllocator;
 import io.pravega.common.Exceptions;
 import io.pravega.common.util.BufferView;
 import io.pravega.shared.protocol.netty.ByteBufWrapper;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -27,7 +26,6 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
-import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.NonNull;
 import lombok.val;
@@ -41,8 +39,13 @@ import lombok.val;
  * - The first Block in a Buffer is reserved for metadata, the remaining Blocks are used to store Entry data.
  * - Each Block metadata requires {@link CacheLayout#blockMetadataSize()} bytes and its format is defined by {@link CacheLayout};
  * there are several methods in {@link CacheLayout} that allow manipulating it.
- * - A Buffer is considered full when all its Blocks are used. Non-full Buffers are kept in a FIFO queue; they are addded
- * at the end when they become non-full and taken from the beginning when we need to insert new Entries.
+ * - A Buffer is considered full when all its Blocks are used.
+ * - Buffers are partitioned into Stripes (one per available processor, but no more than the number of Buffers). Each
+ * Stripe keeps track of its non-full and its unallocated Buffers using lock-free FIFO queues of Buffer ids. Non-full
+ * Buffers are added at the end when they become non-full and taken from the beginning when we need to insert new Entries.
+ * Inserting threads prefer a "home" Stripe (based on the thread's id) and only look at other Stripes if their home
+ * Stripe is full. This keeps concurrent inserts from different threads from contending on the same Buffers or on any
+ * shared lock.
  * - An Entry may be split across multiple Buffers. It is inserted in the first available Buffer and anything that doesn't
  * fit in it is inserted into the next available buffer(s).
  * - Entries
@@ -94,10 +97,7 @@ public class DirectMemoryCache implements CacheStorage {
     static final int MAX_CLEANUP_ATTEMPTS = 5;
     private final CacheLayout layout;
     private final DirectMemoryBuffer[] buffers;
-    @GuardedBy("availableBufferIds")
-    private final ArrayDeque<Integer> availableBufferIds;
-    @GuardedBy("availableBufferIds")
-    private final ArrayDeque<Integer> unallocatedBufferIds;
+    private final Stripe[] stripes;
     private final AtomicBoolean closed;
     private final AtomicLong storedBytes;
     private final AtomicReference<Supplier<Boolean>> tryCleanup;
@@ -129,6 +129,21 @@ public class DirectMemoryCache implements CacheStorage {
      */
     @VisibleForTesting
     DirectMemoryCache(@NonNull CacheLayout layout, long maxSizeBytes) {
+        this(layout, maxSizeBytes, null);
+    }
+
+    /**
+     * Creates a new instance of the {@link DirectMemoryCache} class.
+     *
+     * @param layout       The {@link CacheLayout} to use.
+     * @param maxSizeBytes The maximum size (in bytes) of the cache. The actual capacity of the cache may be rounded up
+     *                     to the nearest buffer size alignment, which is a multiple of {@link CacheLayout#bufferSize()}
+     *                     when applied to layout.
+     * @param allocator    The {@link ByteBufAllocator} to allocate Buffers with. If null, {@link #createAllocator()} will
+     *                     be used.
+     * @throws IllegalArgumentException If maxSizeBytes is less than or equal to 0 or greater than {@link CacheLayout#MAX_TOTAL_SIZE}.
+     */
+    DirectMemoryCache(@NonNull CacheLayout layout, long maxSizeBytes, ByteBufAllocator allocator) {
         Preconditions.checkArgument(maxSizeBytes > 0 && maxSizeBytes <= CacheLayout.MAX_TOTAL_SIZE,
                 "maxSizeBytes must be a positive number less than %s.", CacheLayout.MAX_TOTAL_SIZE);
         maxSizeBytes = adjustMaxSizeIfNeeded(maxSizeBytes, layout);
@@ -139,23 +154,30 @@ public class DirectMemoryCache implements CacheStorage {
         this.storedBytes = new AtomicLong(0);
         this.closed = new AtomicBoolean(false);
         this.buffers = new DirectMemoryBuffer[(int) (maxSizeBytes / this.layout.bufferSize())];
-        this.availableBufferIds = new ArrayDeque<>(this.buffers.length);
-        this.unallocatedBufferIds = new ArrayDeque<>(this.buffers.length);
-        createBuffers();
+        this.stripes = new Stripe[Math.max(1, Math.min(getStripeCount(), this.buffers.length))];
+        createBuffers(allocator == null ? createAllocator() : allocator);
     }
 
     /**
-     * Creates all the {@link DirectMemoryBuffer} instances for this {@link DirectMemoryCache} instance.
+     * Creates all the {@link DirectMemoryBuffer} instances for this {@link DirectMemoryCache} instance and assigns them
+     * to {@link Stripe}s in a round-robin fashion.
      */
-    @GuardedBy("availableBufferIds")
-    private void createBuffers() {
-        ByteBufAllocator allocator = createAllocator();
+    private void createBuffers(ByteBufAllocator allocator) {
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new Stripe(this.buffers.length);
+        }
+
         for (int i = 0; i < this.buffers.length; i++) {
-            this.unallocatedBufferIds.addLast(i);
             this.buffers[i] = new DirectMemoryBuffer(i, allocator, this.layout);
+            getStripe(i).unallocatedBufferIds.add(i);
         }
     }
 
+    @VisibleForTesting
+    protected int getStripeCount() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
     @VisibleForTesting
     protected ByteBufAllocator createAllocator() {
         return new UnpooledByteBufAllocator(true, true);
@@ -179,9 +201,9 @@ public class DirectMemoryCache implements CacheStorage {
     @Override
     public void close() {
         if (!this.closed.getAndSet(true)) {
-            synchronized (this.availableBufferIds) {
-                this.availableBufferIds.clear();
-                this.unallocatedBufferIds.clear();
+            for (Stripe s : this.stripes) {
+                s.availableBufferIds.clear();
+                s.unallocatedBufferIds.clear();
             }
 
             for (DirectMemoryBuffer b : this.buffers) {
@@ -303,13 +325,10 @@ public class DirectMemoryCache implements CacheStorage {
             address = result.getPredecessorAddress();
             deletedLength += result.getDeletedLength();
             if (wasFull && b.hasCapacity()) {
-                synchronized (this.availableBufferIds) {
-                    // This block was full before, but it no longer is now. Add it to the pool of available buffer ids
-                    // so we can reuse it if we need to. There is a slim chance that this buffer becomes full in the
-                    // time before we checked above and entering this block, but #getNextAvailableBuffer() can handle
-                    // that situation.
-                    this.availableBufferIds.addLast(b.getId());
-                }
+                // This block was full before, but it no longer is now. Add it to the pool of available buffer ids
+                // so we can reuse it if we need to. There is a slim chance that this buffer becomes full in the
+                // time before we checked above and getting here, but #getNextAvailableBuffer() can handle that situation.
+                getStripe(b.getId()).availableBufferIds.add(b.getId());
             }
         }
 
@@ -376,28 +395,14 @@ public class DirectMemoryCache implements CacheStorage {
     //region Helpers
 
     private DirectMemoryBuffer getNextAvailableBuffer() {
+        int homeStripe = (int) (Thread.currentThread().getId() % this.stripes.length);
         int attempts = 0;
         while (attempts < MAX_CLEANUP_ATTEMPTS) {
-            synchronized (this.availableBufferIds) {
-                while (!this.availableBufferIds.isEmpty() || !this.unallocatedBufferIds.isEmpty()) {
-                    while (!this.availableBufferIds.isEmpty()) {
-                        // We found a Buffer that is available.
-                        DirectMemoryBuffer b = this.buffers[this.availableBufferIds.peekFirst()];
-                        if (b.hasCapacity()) {
-                            // Reusing a buffer.
-                            return b;
-                        } else {
-                            // Buffer is actually full. Clean up. We lazily remove buffers from this pool, since we want
-                            // to introduce as little synchronization overhead in the insert() method so we delay this
-                            // as much as we can.
-                            this.availableBufferIds.removeFirst();
-                        }
-                    }
-
-                    if (!this.unallocatedBufferIds.isEmpty()) {
-                        // We can't reuse any existing buffers, but there are unallocated ones. Fetch one and use it.
-                        this.availableBufferIds.addLast(this.unallocatedBufferIds.removeFirst());
-                    }
+            // Look in our home Stripe first, and only if that is full look at the others.
+            for (int i = 0; i < this.stripes.length; i++) {
+                DirectMemoryBuffer b = this.stripes[(homeStripe + i) % this.stripes.length].getNextAvailableBuffer();
+                if (b != null) {
+                    return b;
                 }
             }
 
@@ -408,7 +413,11 @@ public class DirectMemoryCache implements CacheStorage {
         }
 
         // Unable to reuse any existing buffer or find a new one to allocate and upstream code could not free up data.
-        throw new CacheFullException(String.format("%s full: %s.", DirectMemoryCache.class.getSimpleName(), getState()));
+        throw new CacheFullException(String.format("%s full: %s.", getClass().getSimpleName(), getState()));
+    }
+
+    private Stripe getStripe(int bufferId) {
+        return this.stripes[bufferId % this.stripes.length];
     }
 
     private void tryCleanup(int attempts) {
@@ -424,6 +433,66 @@ public class DirectMemoryCache implements CacheStorage {
 
     //endregion
 
+    //region Stripe
+
+    /**
+     * A subset of this {@link DirectMemoryCache}'s {@link DirectMemoryBuffer}s. Buffer ids are assigned to Stripes in a
+     * round-robin fashion (i.e., Buffer id "i" belongs to Stripe "i % stripeCount").
+     */
+    private class Stripe {
+        /**
+         * Ids of Buffers that have been allocated and are (most likely) not full.
+         */
+        final ConcurrentIdQueue availableBufferIds;
+        /**
+         * Ids of Buffers that have not yet been allocated.
+         */
+        final ConcurrentIdQueue unallocatedBufferIds;
+
+        Stripe(int bufferCount) {
+            this.availableBufferIds = new ConcurrentIdQueue(bufferCount);
+            this.unallocatedBufferIds = new ConcurrentIdQueue(bufferCount);
+        }
+
+        /**
+         * Gets a {@link DirectMemoryBuffer} from this Stripe that has capacity. Allocated Buffers are preferred over
+         * unallocated ones.
+         *
+         * @return A {@link DirectMemoryBuffer}, or null if all the Buffers in this Stripe are full.
+         */
+        DirectMemoryBuffer getNextAvailableBuffer() {
+            while (true) {
+                int bufferId = this.availableBufferIds.peek();
+                if (bufferId == ConcurrentIdQueue.NO_ID) {
+                    // We can't reuse any existing buffers. If there are unallocated ones, fetch one and use it.
+                    bufferId = this.unallocatedBufferIds.poll();
+                    if (bufferId == ConcurrentIdQueue.NO_ID) {
+                        return null;
+                    }
+
+                    this.availableBufferIds.add(bufferId);
+                    continue;
+                }
+
+                DirectMemoryBuffer b = buffers[bufferId];
+                if (b.hasCapacity()) {
+                    // Reusing a buffer.
+                    return b;
+                }
+
+                // Buffer is actually full. Clean up. We lazily remove buffers from this pool, since we want to introduce
+                // as little synchronization overhead in the insert() method so we delay this as much as we can.
+                if (this.availableBufferIds.pollIfHead(bufferId) && b.hasCapacity()) {
+                    // Someone freed up space in this Buffer after we checked, but their attempt to add it back was a
+                    // no-op since it was still in the queue. Put it back ourselves.
+                    this.availableBufferIds.add(bufferId);
+                }
+            }
+        }
+    }
+
+    //endregion
+
     //region NonReleaseableByteBufWrapper
 
     /**
@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.netty.buffer.AbstractByteBufAllocator;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.internal.PlatformDependent;
+import io.pravega.common.Exceptions;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A {@link DirectMemoryCache} whose Buffers are backed by memory-mapped regions of a local file instead of direct memory.
+ *
+ * This uses the exact same {@link CacheLayout} and block addressing as {@link DirectMemoryCache}; the only difference
+ * is where the Buffers reside. The backing file is created (in the given directory) when this instance is constructed
+ * and deleted when it is closed. It is never reused across restarts, so it does not need to be formatted or recovered.
+ *
+ * The file is grown one Buffer at a time, as Buffers are first used, so its size on disk is proportional to the amount
+ * of data that has ever been stored in it (not to `maxSizeBytes`). The Operating System's page cache decides which parts
+ * of it are kept in memory; this is best used with a fast local disk (i.e., NVMe) as a larger, slower, secondary tier
+ * behind a {@link DirectMemoryCache} (see {@link TieredCacheStorage}).
+ */
+@Slf4j
+@ThreadSafe
+public class MappedFileCache extends DirectMemoryCache {
+    //region Members
+
+    /**
+     * The maximum size (in bytes) that a {@link MappedFileCache} may be configured with.
+     */
+    public static final long MAX_SIZE_BYTES = CacheLayout.MAX_TOTAL_SIZE;
+    private static final String FILE_PREFIX = "pravega-cache-";
+    private static final String FILE_SUFFIX = ".dat";
+    @Getter
+    private final Path filePath;
+    private final MappedFileAllocator allocator;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the {@link MappedFileCache} class.
+     *
+     * @param directory    The directory where to create the backing file. This directory must exist.
+     * @param maxSizeBytes The maximum size (in bytes) of the cache. The actual capacity of the cache may be rounded up
+     *                     to the nearest buffer size alignment, which is a multiple of {@link CacheLayout.DefaultLayout#bufferSize()}.
+     * @throws IllegalArgumentException If maxSizeBytes is less than or equal to 0 or greater than {@link CacheLayout#MAX_TOTAL_SIZE}.
+     */
+    public MappedFileCache(@NonNull Path directory, long maxSizeBytes) {
+        this(new CacheLayout.DefaultLayout(), MappedFileAllocator.create(directory), maxSizeBytes);
+    }
+
+    /**
+     * Creates a new instance of the {@link MappedFileCache} class.
+     *
+     * @param layout       The {@link CacheLayout} to use.
+     * @param directory    The directory where to create the backing file. This directory must exist.
+     * @param maxSizeBytes The maximum size (in bytes) of the cache.
+     */
+    @VisibleForTesting
+    MappedFileCache(@NonNull CacheLayout layout, @NonNull Path directory, long maxSizeBytes) {
+        this(layout, MappedFileAllocator.create(directory), maxSizeBytes);
+    }
+
+    private MappedFileCache(CacheLayout layout, MappedFileAllocator allocator, long maxSizeBytes) {
+        super(layout, maxSizeBytes, allocator);
+        this.allocator = allocator;
+        this.filePath = allocator.filePath;
+        log.info("{}: Created backing file '{}' (MaxSize = {}).", getClass().getSimpleName(), this.filePath, maxSizeBytes);
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        // Release all the Buffers first, then unmap and delete the file.
+        super.close();
+        this.allocator.close();
+    }
+
+    //endregion
+
+    //region MappedFileAllocator
+
+    /**
+     * {@link AbstractByteBufAllocator} that hands out sequential, non-overlapping memory-mapped regions of a single file.
+     * Each {@link DirectMemoryBuffer} allocates exactly once in its lifetime, and it never gives its memory back until
+     * the whole cache is closed, so we do not need to track or reuse freed regions.
+     */
+    @ThreadSafe
+    private static class MappedFileAllocator extends AbstractByteBufAllocator implements AutoCloseable {
+        private final Path filePath;
+        @GuardedBy("mappings")
+        private final FileChannel channel;
+        @GuardedBy("mappings")
+        private final List<MappedByteBuffer> mappings;
+        @GuardedBy("mappings")
+        private long nextOffset;
+        @GuardedBy("mappings")
+        private boolean closed;
+
+        private MappedFileAllocator(Path filePath, FileChannel channel) {
+            super(false);
+            this.filePath = filePath;
+            this.channel = channel;
+            this.mappings = new ArrayList<>();
+        }
+
+        @SneakyThrows(IOException.class)
+        static MappedFileAllocator create(Path directory) {
+            Preconditions.checkArgument(Files.isDirectory(directory), "'%s' is not a directory.", directory);
+            Path filePath = Files.createTempFile(directory, FILE_PREFIX, FILE_SUFFIX);
+            try {
+                FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                return new MappedFileAllocator(filePath, channel);
+            } catch (Throwable ex) {
+                Files.deleteIfExists(filePath);
+                throw ex;
+            }
+        }
+
+        @Override
+        @SneakyThrows(IOException.class)
+        protected ByteBuf newDirectBuffer(int initialCapacity, int maxCapacity) {
+            synchronized (this.mappings) {
+                Exceptions.checkNotClosed(this.closed, this);
+                // Mapping a region beyond the end of the file will extend it.
+                MappedByteBuffer mapping = this.channel.map(FileChannel.MapMode.READ_WRITE, this.nextOffset, maxCapacity);
+                this.nextOffset += maxCapacity;
+                this.mappings.add(mapping);
+
+                // The wrapping ByteBuf does not own this mapping, so releasing it will not unmap it. We do that in close().
+                return Unpooled.wrappedBuffer(mapping);
+            }
+        }
+
+        @Override
+        protected ByteBuf newHeapBuffer(int initialCapacity, int maxCapacity) {
+            throw new UnsupportedOperationException("Heap buffers are not supported.");
+        }
+
+        @Override
+        public boolean isDirectBufferPooled() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+            synchronized (this.mappings) {
+                if (this.closed) {
+                    return;
+                }
+
+                this.closed = true;
+                this.mappings.forEach(PlatformDependent::freeDirectBuffer);
+                this.mappings.clear();
+                try {
+                    this.channel.close();
+                    Files.deleteIfExists(this.filePath);
+                } catch (IOException ex) {
+                    log.warn("{}: Unable to delete backing file '{}'.", MappedFileCache.class.getSimpleName(), this.filePath, ex);
+                }
+            }
+        }
+    }
+
+    //endregion
+}
@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.util.BufferView;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.NonNull;
+
+/**
+ * A {@link CacheStorage} made up of two tiers: a fast, small, Primary tier (i.e., {@link DirectMemoryCache}) and a
+ * slower, larger, Secondary tier (i.e., {@link MappedFileCache}).
+ *
+ * All new entries are inserted into the Primary tier. Entries may later be moved to the Secondary tier using
+ * {@link #copyToSecondary} followed by {@link #delete} on the original address; it is up to the caller (generally a
+ * {@link CacheStorage} user that is aware of the age of its entries) to decide when this should happen.
+ *
+ * Addresses from both tiers share the same address space: addresses in the Secondary tier have {@link #SECONDARY_TIER_FLAG}
+ * set. Both tiers must have the same block alignment so that {@link #getAppendableLength} is consistent across them.
+ */
+@ThreadSafe
+public class TieredCacheStorage implements CacheStorage {
+    //region Members
+
+    /**
+     * Bit that is set on all addresses from the Secondary tier. {@link CacheLayout} addresses never use this bit since
+     * {@link CacheLayout#MAX_TOTAL_SIZE} is too small for that.
+     */
+    private static final int SECONDARY_TIER_FLAG = 1 << 30;
+    private final CacheStorage primary;
+    private final CacheStorage secondary;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the {@link TieredCacheStorage} class.
+     *
+     * @param primary   The Primary tier {@link CacheStorage}. All new entries will be inserted here.
+     * @param secondary The Secondary tier {@link CacheStorage}. Entries may be moved here using {@link #copyToSecondary}.
+     * @throws IllegalArgumentException If the two {@link CacheStorage} instances do not have the same block alignment.
+     */
+    public TieredCacheStorage(@NonNull CacheStorage primary, @NonNull CacheStorage secondary) {
+        Preconditions.checkArgument(primary.getBlockAlignment() == secondary.getBlockAlignment(),
+                "primary and secondary must have the same block alignment.");
+        this.primary = primary;
+        this.secondary = secondary;
+    }
+
+    //endregion
+
+    //region AutoCloseable Implementation
+
+    @Override
+    public void close() {
+        this.primary.close();
+        this.secondary.close();
+    }
+
+    //endregion
+
+    //region Tiering
+
+    /**
+     * Gets a value indicating whether the given address refers to an entry in the Secondary tier.
+     *
+     * @param address The address to check.
+     * @return True if Secondary tier, false otherwise.
+     */
+    public boolean isSecondary(int address) {
+        return (address & SECONDARY_TIER_FLAG) != 0;
+    }
+
+    /**
+     * Copies the entry at the given Primary tier address into the Secondary tier. The original entry is not deleted;
+     * the caller should invoke {@link #delete} on it once it has switched to using the new address. If the Secondary
+     * tier is full, this will throw the same {@link CacheFullException} that {@link #insert} would.
+     *
+     * @param address The address of the entry to copy. Must be a Primary tier address.
+     * @return The address of the copy, or {@link #NO_ADDRESS} if there is no entry at the given address.
+     * @throws IllegalArgumentException If address is a Secondary tier address.
+     */
+    public int copyToSecondary(int address) {
+        Preconditions.checkArgument(!isSecondary(address), "address must be a Primary tier address.");
+        BufferView data = this.primary.get(address);
+        if (data == null) {
+            return NO_ADDRESS;
+        }
+
+        return toSecondary(this.secondary.insert(data));
+    }
+
+    /**
+     * Gets a {@link CacheState} representing the current state of the Primary tier.
+     *
+     * @return A new {@link CacheState} instance.
+     */
+    public CacheState getPrimaryState() {
+        return this.primary.getState();
+    }
+
+    /**
+     * Gets a {@link CacheState} representing the current state of the Secondary tier.
+     *
+     * @return A new {@link CacheState} instance.
+     */
+    public CacheState getSecondaryState() {
+        return this.secondary.getState();
+    }
+
+    //endregion
+
+    //region CacheStorage Implementation
+
+    @Override
+    public int getBlockAlignment() {
+        return this.primary.getBlockAlignment();
+    }
+
+    @Override
+    public int getMaxEntryLength() {
+        return Math.min(this.primary.getMaxEntryLength(), this.secondary.getMaxEntryLength());
+    }
+
+    @Override
+    public int insert(BufferView data) {
+        return checkPrimary(this.primary.insert(data));
+    }
+
+    @Override
+    public int replace(int address, BufferView data) {
+        // New data always goes to the Primary tier, regardless of where the old data was.
+        int newAddress = insert(data);
+        delete(address);
+        return newAddress;
+    }
+
+    @Override
+    public int getAppendableLength(int currentLength) {
+        return this.primary.getAppendableLength(currentLength);
+    }
+
+    @Override
+    public int append(int address, int expectedLength, BufferView data) {
+        return isSecondary(address)
+                ? this.secondary.append(fromSecondary(address), expectedLength, data)
+                : this.primary.append(address, expectedLength, data);
+    }
+
+    @Override
+    public void delete(int address) {
+        if (isSecondary(address)) {
+            this.secondary.delete(fromSecondary(address));
+        } else {
+            this.primary.delete(address);
+        }
+    }
+
+    @Override
+    public BufferView get(int address) {
+        return isSecondary(address) ? this.secondary.get(fromSecondary(address)) : this.primary.get(address);
+    }
+
+    @Override
+    public CacheState getState() {
+        CacheState p = this.primary.getState();
+        CacheState s = this.secondary.getState();
+        return new CacheState(
+                p.getStoredBytes() + s.getStoredBytes(),
+                p.getUsedBytes() + s.getUsedBytes(),
+                p.getReservedBytes() + s.getReservedBytes(),
+                p.getAllocatedBytes() + s.getAllocatedBytes(),
+                p.getMaxBytes() + s.getMaxBytes());
+    }
+
+    @Override
+    public void setCacheFullCallback(Supplier<Boolean> cacheFullCallback, int retryDelayBaseMillis) {
+        // Only the Primary tier is written to directly; the caller of copyToSecondary() will handle a full Secondary tier.
+        this.primary.setCacheFullCallback(cacheFullCallback, retryDelayBaseMillis);
+    }
+
+    //endregion
+
+    //region Helpers
+
+    private int checkPrimary(int address) {
+        assert !isSecondary(address) : "Primary tier address overlaps Secondary tier flag: " + address;
+        return address;
+    }
+
+    private int toSecondary(int address) {
+        assert !isSecondary(address) : "Secondary tier address overlaps Secondary tier flag: " + address;
+        return address | SECONDARY_TIER_FLAG;
+    }
+
+    private int fromSecondary(int address) {
+        return address & ~SECONDARY_TIER_FLAG;
+    }
+
+    //endregion
+}
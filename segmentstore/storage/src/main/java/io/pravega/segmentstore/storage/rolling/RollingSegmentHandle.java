@@ -11,15 +11,21 @@ package io.pravega.segmentstore.storage.rolling;
 
 import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
+import io.pravega.common.util.BufferView;
 import io.pravega.segmentstore.storage.SegmentHandle;
 import io.pravega.segmentstore.storage.SegmentRollingPolicy;
 import io.pravega.shared.NameUtils;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 import lombok.Getter;
+import lombok.val;
 
 @ThreadSafe
 class RollingSegmentHandle implements SegmentHandle {
@@ -52,6 +58,22 @@ class RollingSegmentHandle implements SegmentHandle {
     private boolean deleted;
     @GuardedBy("this")
     private SegmentHandle activeChunkHandle;
+    /**
+     * Read-only handles for SegmentChunks, indexed by SegmentChunk name. Opening a handle may be expensive (i.e., on
+     * HDFS it requires a round-trip to the NameNode), so we only do it once per SegmentChunk.
+     */
+    @GuardedBy("this")
+    private final Map<String, SegmentHandle> chunkReadHandles = new HashMap<>();
+    /**
+     * The contents of the Header, as of the last time it was read from Storage. Headers are append-only, so we can use
+     * this to only read what has been appended since then when refreshing this handle.
+     */
+    @GuardedBy("this")
+    private byte[] serializedHeader;
+    @GuardedBy("this")
+    private String prefetchedChunkName;
+    @GuardedBy("this")
+    private CompletableFuture<BufferView> prefetchedChunkHead;
 
     //endregion
 
@@ -98,6 +120,15 @@ class RollingSegmentHandle implements SegmentHandle {
 
         this.segmentChunks = new ArrayList<>(source.chunks());
         setHeaderLength(source.getHeaderLength());
+        setSerializedHeader(source.getSerializedHeader());
+
+        // Only keep cached SegmentChunk handles for those SegmentChunks that are still around.
+        val chunkNames = this.segmentChunks.stream().map(SegmentChunk::getName).collect(Collectors.toSet());
+        this.chunkReadHandles.keySet().retainAll(chunkNames);
+        if (this.prefetchedChunkName != null && !chunkNames.contains(this.prefetchedChunkName)) {
+            clearPrefetchedChunkHead();
+        }
+
         if (source.isSealed()) {
             markSealed();
         }
@@ -138,6 +169,8 @@ class RollingSegmentHandle implements SegmentHandle {
      */
     synchronized void markDeleted() {
         this.deleted = true;
+        this.chunkReadHandles.clear();
+        clearPrefetchedChunkHead();
     }
 
     /**
@@ -271,6 +304,81 @@ class RollingSegmentHandle implements SegmentHandle {
         this.headerLength += value;
     }
 
+    /**
+     * Gets the contents of the Header, as of the last time it was read from Storage.
+     *
+     * @return The contents of the Header, or null if not available.
+     */
+    synchronized byte[] getSerializedHeader() {
+        return this.serializedHeader;
+    }
+
+    /**
+     * Sets the contents of the Header, as read from Storage.
+     *
+     * @param value The contents of the Header. This array should not be modified after this call.
+     */
+    synchronized void setSerializedHeader(byte[] value) {
+        this.serializedHeader = value;
+    }
+
+    /**
+     * Gets a cached read-only handle for the given SegmentChunk.
+     *
+     * @param chunkName The name of the SegmentChunk.
+     * @return The handle, or null if none is cached.
+     */
+    synchronized SegmentHandle getChunkReadHandle(String chunkName) {
+        return this.chunkReadHandles.get(chunkName);
+    }
+
+    /**
+     * Caches the given read-only SegmentChunk handle.
+     *
+     * @param handle The handle to cache.
+     */
+    synchronized void setChunkReadHandle(SegmentHandle handle) {
+        Preconditions.checkArgument(handle.isReadOnly(), "SegmentChunk handle must be read-only.");
+        if (!this.deleted) {
+            this.chunkReadHandles.put(handle.getSegmentName(), handle);
+        }
+    }
+
+    /**
+     * Gets the (pending or completed) result of prefetching the beginning of the given SegmentChunk.
+     *
+     * @param chunkName The name of the SegmentChunk.
+     * @return A CompletableFuture that will contain the first bytes of the SegmentChunk, or null if the given SegmentChunk
+     * has not been prefetched.
+     */
+    synchronized CompletableFuture<BufferView> getPrefetchedChunkHead(String chunkName) {
+        return chunkName.equals(this.prefetchedChunkName) ? this.prefetchedChunkHead : null;
+    }
+
+    /**
+     * Records the fact that the beginning of the given SegmentChunk is being prefetched, replacing any previous prefetch.
+     *
+     * @param chunkName The name of the SegmentChunk.
+     * @param head      A CompletableFuture that will contain the first bytes of the SegmentChunk once prefetched.
+     * @return True if recorded, false if the given SegmentChunk is already being prefetched (or has been) or if this
+     * handle has been deleted.
+     */
+    synchronized boolean setPrefetchedChunkHead(String chunkName, CompletableFuture<BufferView> head) {
+        if (this.deleted || chunkName.equals(this.prefetchedChunkName)) {
+            return false;
+        }
+
+        this.prefetchedChunkName = chunkName;
+        this.prefetchedChunkHead = head;
+        return true;
+    }
+
+    @GuardedBy("this")
+    private void clearPrefetchedChunkHead() {
+        this.prefetchedChunkName = null;
+        this.prefetchedChunkHead = null;
+    }
+
     @Override
     public synchronized String toString() {
         if (this.deleted) {
@@ -13,6 +13,8 @@ import com.google.common.base.Preconditions;
 import io.pravega.common.Exceptions;
 import io.pravega.common.LoggerHelpers;
 import io.pravega.common.io.BoundedInputStream;
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.BufferViewBuilder;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.common.util.CollectionHelpers;
 import io.pravega.segmentstore.contracts.BadOffsetException;
@@ -32,11 +34,17 @@ import io.pravega.shared.NameUtils;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
@@ -76,6 +84,8 @@ public class RollingStorage implements SyncStorage {
 
     private final SyncStorage baseStorage;
     private final SegmentRollingPolicy defaultRollingPolicy;
+    private final int nextChunkPrefetchLength;
+    private final Executor prefetchExecutor;
     private final AtomicBoolean closed;
 
     //endregion
@@ -99,8 +109,28 @@ public class RollingStorage implements SyncStorage {
      *                             defined.
      */
     public RollingStorage(SyncStorage baseStorage, SegmentRollingPolicy defaultRollingPolicy) {
+        this(baseStorage, defaultRollingPolicy, 0, null);
+    }
+
+    /**
+     * Creates a new instance of the RollingStorage class which prefetches the beginning of the next SegmentChunk while
+     * the current one is being read. This hides the latency of opening and reading from a new SegmentChunk from sequential
+     * readers that cross SegmentChunk boundaries.
+     *
+     * @param baseStorage             A SyncStorage that will be used to execute operations.
+     * @param defaultRollingPolicy    A SegmentRollingPolicy to apply to every StreamSegment that does not have its own policy
+     *                                defined.
+     * @param nextChunkPrefetchLength The number of bytes to prefetch from the beginning of the next SegmentChunk. If 0,
+     *                                no prefetching will be done.
+     * @param prefetchExecutor        An Executor to prefetch data on. May be null only if nextChunkPrefetchLength is 0.
+     */
+    public RollingStorage(SyncStorage baseStorage, SegmentRollingPolicy defaultRollingPolicy, int nextChunkPrefetchLength, Executor prefetchExecutor) {
+        Preconditions.checkArgument(nextChunkPrefetchLength >= 0, "nextChunkPrefetchLength must be a non-negative number.");
+        Preconditions.checkArgument(nextChunkPrefetchLength == 0 || prefetchExecutor != null, "prefetchExecutor must be provided if nextChunkPrefetchLength is positive.");
         this.baseStorage = Preconditions.checkNotNull(baseStorage, "baseStorage");
         this.defaultRollingPolicy = Preconditions.checkNotNull(defaultRollingPolicy, "defaultRollingPolicy");
+        this.nextChunkPrefetchLength = nextChunkPrefetchLength;
+        this.prefetchExecutor = prefetchExecutor;
         this.closed = new AtomicBoolean();
     }
 
@@ -135,24 +165,57 @@ public class RollingStorage implements SyncStorage {
 
     @Override
     public int read(SegmentHandle handle, long offset, byte[] buffer, int bufferOffset, int length) throws StreamSegmentException {
-        val h = getHandle(handle);
-        long traceId = LoggerHelpers.traceEnter(log, "read", handle, offset, length);
-        ensureNotDeleted(h);
         Exceptions.checkArrayRange(bufferOffset, length, buffer.length, "bufferOffset", "length");
-
         if (offset < 0 || bufferOffset < 0 || length < 0 || buffer.length < bufferOffset + length) {
             throw new ArrayIndexOutOfBoundsException(String.format(
                     "Offset (%s) must be non-negative, and bufferOffset (%s) and length (%s) must be valid indices into buffer of size %s.",
                     offset, bufferOffset, length, buffer.length));
         }
 
+        return readChunks(handle, offset, length,
+                (chunkHandle, chunkOffset, bytesRead, readLength) ->
+                        this.baseStorage.read(chunkHandle, chunkOffset, buffer, bufferOffset + bytesRead, readLength),
+                (data, bytesRead) -> data.copyTo(ByteBuffer.wrap(buffer, bufferOffset + bytesRead, data.getLength())));
+    }
+
+    @Override
+    public BufferView read(SegmentHandle handle, long offset, int length) throws StreamSegmentException {
+        Preconditions.checkArgument(offset >= 0 && length >= 0, "Offset (%s) and length (%s) must be non-negative.", offset, length);
+
+        // Let the base Storage return each SegmentChunk's data however it wants to (i.e., without copying it), and
+        // stitch the results together.
+        BufferViewBuilder builder = BufferView.builder();
+        readChunks(handle, offset, length, (chunkHandle, chunkOffset, bytesRead, readLength) -> {
+            BufferView data = this.baseStorage.read(chunkHandle, chunkOffset, readLength);
+            builder.add(data);
+            return data.getLength();
+        }, (data, bytesRead) -> builder.add(data));
+        return builder.build();
+    }
+
+    /**
+     * Reads the given range from the Segment's SegmentChunks, one SegmentChunk at a time, using the given {@link ChunkReader}.
+     *
+     * @param handle A SegmentHandle that points to the Segment to read from.
+     * @param offset The offset in the Segment to read data from.
+     * @param length The number of bytes to read.
+     * @param reader A {@link ChunkReader} to read from each SegmentChunk.
+     * @param prefetchedReader A {@link PrefetchedChunkReader} to accept data that has already been prefetched.
+     * @return The number of bytes read.
+     * @throws StreamSegmentException If an exception occurred.
+     */
+    private int readChunks(SegmentHandle handle, long offset, int length, ChunkReader reader, PrefetchedChunkReader prefetchedReader)
+            throws StreamSegmentException {
+        val h = getHandle(handle);
+        long traceId = LoggerHelpers.traceEnter(log, "read", handle, offset, length);
+        ensureNotDeleted(h);
+
         if (!h.isSealed() && offset + length > h.length()) {
             // We have a non-sealed handle (read-only or read-write). It's possible that the SegmentChunks may have been
             // modified since the last time we refreshed it, and we received a request for a read beyond our last known offset.
             // This could happen if the Segment was modified using a different handle or a previous write did succeed but was
             // reported as having failed. Reload the handle before attempting the read so that we have the most up-to-date info.
-            val newHandle = (RollingSegmentHandle) openRead(handle.getSegmentName());
-            h.refresh(newHandle);
+            refreshHandle(h);
             log.debug("Handle refreshed: {}.", h);
         }
 
@@ -180,10 +243,17 @@ public class RollingStorage implements SyncStorage {
                 int readLength = (int) Math.min(length - bytesRead, current.getLength() - readOffset);
                 assert readOffset >= 0 && readLength >= 0 : "negative readOffset or readLength";
 
-                // Read from the actual SegmentChunk into the given buffer.
+                // Read from the actual SegmentChunk (unless we have already prefetched what we need).
                 try {
-                    val sh = this.baseStorage.openRead(current.getName());
-                    int count = this.baseStorage.read(sh, readOffset, buffer, bufferOffset + bytesRead, readLength);
+                    int count;
+                    BufferView prefetched = getPrefetchedData(h, current, readOffset, readLength);
+                    if (prefetched == null) {
+                        count = reader.read(getChunkReadHandle(h, current), readOffset, bytesRead, readLength);
+                    } else {
+                        prefetchedReader.accept(prefetched, bytesRead);
+                        count = prefetched.getLength();
+                    }
+
                     bytesRead += count;
                     if (readOffset + count >= current.getLength()) {
                         currentIndex++;
@@ -194,6 +264,14 @@ public class RollingStorage implements SyncStorage {
                 }
             }
 
+            if (currentIndex < chunks.size() - 1
+                    && offset + bytesRead - chunks.get(currentIndex).getStartOffset() >= this.nextChunkPrefetchLength) {
+                // Sequential readers will most likely move on to the next SegmentChunk once they are done with this one.
+                // Only do this once we are past the part of this SegmentChunk that may have been prefetched (since we can
+                // only hold on to one prefetched SegmentChunk at a time).
+                prefetchChunkHead(h, chunks.get(currentIndex + 1));
+            }
+
             LoggerHelpers.traceLeave(log, "read", traceId, handle, offset, bytesRead);
             return bytesRead;
         } catch (StreamSegmentTruncatedException ex) {
@@ -693,7 +771,55 @@ public class RollingStorage implements SyncStorage {
             handle = new RollingSegmentHandle(segmentHandle);
         }
 
-        // Update each SegmentChunk's Length (based on offset difference) and mark them as Sealed.
+        refreshChunkLengths(handle);
+        return handle;
+    }
+
+    /**
+     * Refreshes the given handle with the latest information from Storage. This is equivalent to opening a new handle
+     * and refreshing the given one with it, except that if we have a cached copy of the Header, we only read the part of
+     * it that has been appended since (Headers are append-only).
+     *
+     * @param handle The handle to refresh.
+     * @throws StreamSegmentException If an exception occurred.
+     */
+    private void refreshHandle(RollingSegmentHandle handle) throws StreamSegmentException {
+        byte[] cachedHeader = handle.getSerializedHeader();
+        SegmentHandle headerHandle = handle.getHeaderHandle();
+        RollingSegmentHandle newHandle = null;
+        if (cachedHeader != null && headerHandle != null) {
+            try {
+                val headerInfo = getHeaderInfo(handle.getSegmentName());
+                if (headerInfo.getLength() >= cachedHeader.length) {
+                    byte[] header = Arrays.copyOf(cachedHeader, (int) headerInfo.getLength());
+                    if (header.length > cachedHeader.length) {
+                        this.baseStorage.read(headerHandle, cachedHeader.length, header, cachedHeader.length, header.length - cachedHeader.length);
+                    }
+
+                    newHandle = createHandle(header, headerInfo, headerHandle);
+                    refreshChunkLengths(newHandle);
+                }
+            } catch (StreamSegmentNotExistsException ex) {
+                // The Header is gone. Reopen the Segment from scratch, which will take care of any special cases.
+                log.debug("Header for '{}' does not exist anymore.", handle.getSegmentName());
+            }
+        }
+
+        if (newHandle == null) {
+            newHandle = openHandle(handle.getSegmentName(), true);
+        }
+
+        handle.refresh(newHandle);
+    }
+
+    /**
+     * Updates each SegmentChunk's Length (based on offset difference) and marks all but the last one as Sealed. The
+     * information for the last one is fetched from Storage.
+     *
+     * @param handle The handle to update.
+     * @throws StreamSegmentException If an exception occurred.
+     */
+    private void refreshChunkLengths(RollingSegmentHandle handle) throws StreamSegmentException {
         SegmentChunk last = null;
         for (SegmentChunk s : handle.chunks()) {
             if (last != null) {
@@ -715,8 +841,6 @@ public class RollingStorage implements SyncStorage {
                 }
             }
         }
-
-        return handle;
     }
 
     private SegmentProperties getHeaderInfo(String segmentName) throws StreamSegmentException {
@@ -733,7 +857,12 @@ public class RollingStorage implements SyncStorage {
     private RollingSegmentHandle readHeader(SegmentProperties headerInfo, SegmentHandle headerHandle) throws StreamSegmentException {
         byte[] readBuffer = new byte[(int) headerInfo.getLength()];
         this.baseStorage.read(headerHandle, 0, readBuffer, 0, readBuffer.length);
-        RollingSegmentHandle handle = HandleSerializer.deserialize(readBuffer, headerHandle);
+        return createHandle(readBuffer, headerInfo, headerHandle);
+    }
+
+    private RollingSegmentHandle createHandle(byte[] header, SegmentProperties headerInfo, SegmentHandle headerHandle) {
+        RollingSegmentHandle handle = HandleSerializer.deserialize(header, headerHandle);
+        handle.setSerializedHeader(header);
         if (headerInfo.isSealed()) {
             handle.markSealed();
         }
@@ -810,6 +939,79 @@ public class RollingStorage implements SyncStorage {
         }
     }
 
+    /**
+     * Gets a read-only handle for the given SegmentChunk, opening (and caching) one if needed.
+     */
+    private SegmentHandle getChunkReadHandle(RollingSegmentHandle handle, SegmentChunk segmentChunk) throws StreamSegmentException {
+        SegmentHandle result = handle.getChunkReadHandle(segmentChunk.getName());
+        if (result == null) {
+            result = this.baseStorage.openRead(segmentChunk.getName());
+            handle.setChunkReadHandle(result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Asynchronously reads the beginning of the given SegmentChunk (and opens a handle for it), unless prefetching is
+     * disabled or this has already been done.
+     */
+    private void prefetchChunkHead(RollingSegmentHandle handle, SegmentChunk segmentChunk) {
+        int length = (int) Math.min(this.nextChunkPrefetchLength, segmentChunk.getLength());
+        if (length <= 0 || !segmentChunk.exists()) {
+            return;
+        }
+
+        CompletableFuture<BufferView> result = new CompletableFuture<>();
+        if (!handle.setPrefetchedChunkHead(segmentChunk.getName(), result)) {
+            // Already prefetched (or being prefetched).
+            return;
+        }
+
+        try {
+            this.prefetchExecutor.execute(() -> {
+                try {
+                    result.complete(this.baseStorage.read(getChunkReadHandle(handle, segmentChunk), 0, length));
+                } catch (Exception ex) {
+                    log.debug("Unable to prefetch SegmentChunk '{}' ({}).", segmentChunk, handle, ex);
+                    result.completeExceptionally(ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            // Not critical; reads will simply go to the SegmentChunk.
+            result.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Gets data for the given range of the given SegmentChunk, but only if it has already been prefetched. If the prefetch
+     * is still in progress, this does not wait for it: the prefetch may be queued up on the same executor that this read
+     * is running on, so waiting could starve (or deadlock) that executor.
+     *
+     * @return The prefetched data (which may be shorter than requested), or null if the range has not been prefetched.
+     */
+    private BufferView getPrefetchedData(RollingSegmentHandle handle, SegmentChunk segmentChunk, long chunkOffset, int length) {
+        CompletableFuture<BufferView> head = handle.getPrefetchedChunkHead(segmentChunk.getName());
+        if (head == null) {
+            return null;
+        }
+
+        BufferView data;
+        try {
+            data = head.getNow(null);
+        } catch (CompletionException ex) {
+            // Prefetching failed. Let the read go to the SegmentChunk directly, which will surface any errors as needed.
+            return null;
+        }
+
+        if (data == null || chunkOffset >= data.getLength()) {
+            // Not prefetched yet, or not far enough. Let the read go to the SegmentChunk directly.
+            return null;
+        }
+
+        return data.slice((int) chunkOffset, (int) Math.min(length, data.getLength() - chunkOffset));
+    }
+
     private RollingSegmentHandle getHandle(SegmentHandle handle) {
         Preconditions.checkArgument(handle instanceof RollingSegmentHandle, "handle must be of type RollingSegmentHandle.");
         return (RollingSegmentHandle) handle;
@@ -845,6 +1047,38 @@ public class RollingStorage implements SyncStorage {
         }
     }
 
+    /**
+     * Reads data from a single SegmentChunk.
+     */
+    @FunctionalInterface
+    private interface ChunkReader {
+        /**
+         * Reads from the given SegmentChunk.
+         *
+         * @param chunkHandle A read-only handle for the SegmentChunk.
+         * @param chunkOffset The offset within the SegmentChunk to read at.
+         * @param bytesRead   The number of bytes read so far (from previous SegmentChunks) as part of this read.
+         * @param length      The number of bytes to read.
+         * @return The number of bytes read.
+         * @throws StreamSegmentException If an exception occurred.
+         */
+        int read(SegmentHandle chunkHandle, long chunkOffset, int bytesRead, int length) throws StreamSegmentException;
+    }
+
+    /**
+     * Accepts data from a single SegmentChunk that has already been prefetched.
+     */
+    @FunctionalInterface
+    private interface PrefetchedChunkReader {
+        /**
+         * Accepts the given data.
+         *
+         * @param data      The data that has been read.
+         * @param bytesRead The number of bytes read so far (from previous SegmentChunks) as part of this read.
+         */
+        void accept(BufferView data, int bytesRead);
+    }
+
     /**
      * Iterator for segments in Rolling storage.
      */
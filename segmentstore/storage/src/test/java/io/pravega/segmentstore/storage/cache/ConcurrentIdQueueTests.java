@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link ConcurrentIdQueue} class.
+ */
+public class ConcurrentIdQueueTests {
+    private static final int CAPACITY = 100;
+
+    /**
+     * Tests the basic functionality of the queue (add, peek, poll, pollIfHead and clear) from a single thread.
+     */
+    @Test
+    public void testBasicOperations() {
+        val q = new ConcurrentIdQueue(CAPACITY);
+        Assert.assertEquals("Expected empty queue.", ConcurrentIdQueue.NO_ID, q.peek());
+        Assert.assertEquals("Expected empty queue.", ConcurrentIdQueue.NO_ID, q.poll());
+
+        for (int i = 0; i < CAPACITY; i++) {
+            Assert.assertTrue("Expected add to succeed.", q.add(i));
+            Assert.assertFalse("Not expecting a duplicate add to succeed.", q.add(i));
+            Assert.assertEquals("Unexpected head.", 0, q.peek());
+        }
+
+        Assert.assertFalse("Not expecting pollIfHead to succeed for a non-head element.", q.pollIfHead(1));
+        Assert.assertTrue("Expected pollIfHead to succeed for the head element.", q.pollIfHead(0));
+        for (int i = 1; i < CAPACITY / 2; i++) {
+            Assert.assertEquals("Unexpected polled element.", i, q.poll());
+        }
+
+        // Once removed, an element can be added back (at the end).
+        Assert.assertTrue("Expected add to succeed after poll.", q.add(0));
+        Assert.assertEquals("Unexpected head after re-adding.", CAPACITY / 2, q.peek());
+
+        q.clear();
+        Assert.assertEquals("Expected empty queue after clear().", ConcurrentIdQueue.NO_ID, q.peek());
+        Assert.assertTrue("Expected add to succeed after clear().", q.add(0));
+        Assert.assertEquals("Unexpected polled element after clear().", 0, q.poll());
+    }
+
+    /**
+     * Tests that the queue can cycle through its slots many times without losing or reordering elements.
+     */
+    @Test
+    public void testWrapAround() {
+        final int capacity = 5; // Not a power of two.
+        val q = new ConcurrentIdQueue(capacity);
+        int expectedNext = 0;
+        for (int i = 0; i < capacity; i++) {
+            q.add(i);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            int id = q.poll();
+            Assert.assertEquals("Unexpected polled element.", expectedNext, id);
+            expectedNext = (expectedNext + 1) % capacity;
+            Assert.assertTrue(q.add(id));
+        }
+    }
+
+    /**
+     * Tests concurrent add and poll operations. Verifies that no element is lost or handed out twice.
+     */
+    @Test(timeout = 30000)
+    public void testConcurrentOperations() throws Exception {
+        final int threadCount = 8;
+        final int iterationsPerThread = 100000;
+        val q = new ConcurrentIdQueue(CAPACITY);
+        for (int i = 0; i < CAPACITY; i++) {
+            q.add(i);
+        }
+
+        // Each thread polls an element, marks it as owned, then releases ownership and adds it back. If an element
+        // were handed out to two threads at once, we'd detect it via the ownership array.
+        val owned = new AtomicIntegerArray(CAPACITY);
+        val errors = new AtomicInteger();
+        val threads = new ArrayList<Thread>();
+        for (int t = 0; t < threadCount; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < iterationsPerThread; i++) {
+                    int id = (i % 2 == 0) ? q.poll() : q.peek();
+                    if (id == ConcurrentIdQueue.NO_ID || (i % 2 != 0 && !q.pollIfHead(id))) {
+                        continue;
+                    }
+
+                    if (!owned.compareAndSet(id, 0, 1)) {
+                        errors.incrementAndGet();
+                    }
+
+                    owned.set(id, 0);
+                    q.add(id);
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        for (val t : threads) {
+            t.join();
+        }
+
+        Assert.assertEquals("Same element handed out to multiple threads at once.", 0, errors.get());
+        val remaining = new boolean[CAPACITY];
+        int id;
+        while ((id = q.poll()) != ConcurrentIdQueue.NO_ID) {
+            Assert.assertFalse("Duplicate element in queue: " + id, remaining[id]);
+            remaining[id] = true;
+        }
+
+        for (int i = 0; i < CAPACITY; i++) {
+            Assert.assertTrue("Element lost: " + i, remaining[i]);
+        }
+    }
+}
@@ -36,6 +36,7 @@ public class DirectMemoryCacheTests {
     private static final long REQUESTED_MAX_SIZE = 11 * 1024 * 1024; // 11MB
     private static final long ACTUAL_MAX_SIZE = REQUESTED_MAX_SIZE - REQUESTED_MAX_SIZE % LAYOUT.bufferSize() + LAYOUT.bufferSize();
     private static final int BUFFER_COUNT = (int) (ACTUAL_MAX_SIZE / LAYOUT.bufferSize());
+    private static final int STRIPE_COUNT = 4;
     private final Random rnd = new Random(0);
 
     /**
@@ -341,6 +342,71 @@ public class DirectMemoryCacheTests {
         checkData(c, address, firstWrite, 0, firstWrite.length);
     }
 
+    /**
+     * Tests concurrent insertions, reads and deletions from multiple threads (which will use different stripes).
+     * Verifies that no data is corrupted, that all the cache capacity can be used and that everything is freed up
+     * at the end.
+     */
+    @Test
+    public void testConcurrentOperations() throws Exception {
+        final int threadCount = STRIPE_COUNT * 2;
+        final int iterationsPerThread = 2000;
+        final byte[] data = new byte[LAYOUT.blockSize() * 3];
+        rnd.nextBytes(data);
+        @Cleanup
+        val c = new TestCache();
+
+        val errors = new AtomicInteger();
+        val threads = new ArrayList<Thread>();
+        for (int t = 0; t < threadCount; t++) {
+            final Random threadRnd = new Random(t);
+            threads.add(new Thread(() -> {
+                val contents = new HashMap<Integer, Map.Entry<Integer, Integer>>();
+                for (int i = 0; i < iterationsPerThread; i++) {
+                    if (contents.size() < 10 && threadRnd.nextBoolean()) {
+                        int offset = threadRnd.nextInt(data.length - 1);
+                        int length = threadRnd.nextInt(data.length - offset);
+                        contents.put(c.insert(new ByteArraySegment(data, offset, length)), new AbstractMap.SimpleImmutableEntry<>(offset, length));
+                    } else if (!contents.isEmpty()) {
+                        int address = contents.keySet().iterator().next();
+                        val e = contents.remove(address);
+                        val r = c.get(address).getCopy();
+                        for (int j = 0; j < e.getValue(); j++) {
+                            if (r[j] != data[e.getKey() + j]) {
+                                errors.incrementAndGet();
+                                break;
+                            }
+                        }
+                        c.delete(address);
+                    }
+                }
+
+                contents.keySet().forEach(c::delete);
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        for (val t : threads) {
+            t.join();
+        }
+
+        Assert.assertEquals("Data corruption detected.", 0, errors.get());
+        checkSnapshot(c, 0L, null, null, null, null);
+
+        // Verify that we can still use the whole cache capacity, regardless of which stripe each buffer belongs to.
+        int writeCount = BUFFER_COUNT * (LAYOUT.blocksPerBuffer() - 1);
+        val addresses = new ArrayList<Integer>();
+        for (int i = 0; i < writeCount; i++) {
+            addresses.add(c.insert(new ByteArraySegment(data, 0, 1)));
+        }
+
+        AssertExtensions.assertThrows("Expecting cache to be full.",
+                () -> c.insert(new ByteArraySegment(data, 0, 1)),
+                ex -> ex instanceof CacheFullException);
+        addresses.forEach(c::delete);
+        checkSnapshot(c, 0L, (long) BUFFER_COUNT * LAYOUT.blockSize(), null, ACTUAL_MAX_SIZE, ACTUAL_MAX_SIZE);
+    }
+
     private void checkData(TestCache c, HashMap<Integer, Map.Entry<Integer, Integer>> entryData, byte[] data) {
         for (val e : entryData.entrySet()) {
             int address = e.getKey();
@@ -396,6 +462,11 @@ public class DirectMemoryCacheTests {
             return this.allocator.metric().usedDirectMemory();
         }
 
+        @Override
+        protected int getStripeCount() {
+            return STRIPE_COUNT;
+        }
+
         @Override
         protected ByteBufAllocator createAllocator() {
             if (this.allocator == null) {
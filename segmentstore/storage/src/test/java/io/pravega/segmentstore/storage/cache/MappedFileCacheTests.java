@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import io.pravega.common.io.FileHelpers;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.test.common.AssertExtensions;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Random;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link MappedFileCache} class. Most of the functionality is inherited from {@link DirectMemoryCache}
+ * (and tested in {@link DirectMemoryCacheTests}), so here we only verify that data is correctly stored in the backing
+ * file and that the file is properly cleaned up.
+ */
+public class MappedFileCacheTests {
+    private static final CacheLayout LAYOUT = new CacheLayout.DefaultLayout();
+    private static final long MAX_SIZE = 4 * LAYOUT.bufferSize();
+    private final Random rnd = new Random(0);
+    private File directory;
+
+    @Before
+    public void setUp() throws Exception {
+        this.directory = Files.createTempDirectory("mapped-file-cache").toFile();
+    }
+
+    @After
+    public void tearDown() {
+        FileHelpers.deleteFileOrDirectory(this.directory);
+    }
+
+    /**
+     * Tests {@link MappedFileCache#insert}, {@link MappedFileCache#append}, {@link MappedFileCache#get} and
+     * {@link MappedFileCache#delete}, as well as the lifecycle of the backing file.
+     */
+    @Test
+    public void testOperations() {
+        val c = new MappedFileCache(LAYOUT, this.directory.toPath(), MAX_SIZE);
+        val filePath = c.getFilePath();
+        Assert.assertTrue("Expected backing file to be created.", Files.exists(filePath));
+        Assert.assertEquals("Expected backing file to be created in the given directory.",
+                this.directory.toPath(), filePath.getParent());
+
+        // Insert entries of various sizes, including some that span multiple buffers.
+        val entries = new HashMap<Integer, byte[]>();
+        for (int length : new int[]{0, 1, LAYOUT.blockSize() - 1, LAYOUT.blockSize(), 3 * LAYOUT.blockSize() + 1, LAYOUT.bufferSize()}) {
+            byte[] data = new byte[length];
+            this.rnd.nextBytes(data);
+            entries.put(c.insert(new ByteArraySegment(data)), data);
+        }
+
+        // Append to an entry.
+        val appendAddress = entries.entrySet().stream().filter(e -> e.getValue().length == 1).findFirst().get().getKey();
+        byte[] appendData = new byte[c.getAppendableLength(1)];
+        this.rnd.nextBytes(appendData);
+        Assert.assertEquals(appendData.length, c.append(appendAddress, 1, new ByteArraySegment(appendData)));
+        byte[] expected = new byte[1 + appendData.length];
+        expected[0] = entries.get(appendAddress)[0];
+        System.arraycopy(appendData, 0, expected, 1, appendData.length);
+        entries.put(appendAddress, expected);
+
+        for (val e : entries.entrySet()) {
+            Assert.assertArrayEquals("Unexpected data for address " + e.getKey(), e.getValue(), c.get(e.getKey()).getCopy());
+        }
+
+        // The file should have only grown as much as we needed it to.
+        long fileSize = filePath.toFile().length();
+        AssertExtensions.assertGreaterThan("Expected backing file to have grown.", 0, fileSize);
+        Assert.assertEquals("Unexpected backing file size.", c.getState().getAllocatedBytes(), fileSize);
+
+        for (val address : entries.keySet()) {
+            c.delete(address);
+            Assert.assertNull("Not expecting data after deletion.", c.get(address));
+        }
+
+        Assert.assertEquals("Unexpected stored bytes after deleting everything.", 0, c.getState().getStoredBytes());
+
+        c.close();
+        Assert.assertFalse("Expected backing file to be deleted on close.", Files.exists(filePath));
+    }
+
+    /**
+     * Verifies that the cache reports full when its capacity is exhausted.
+     */
+    @Test
+    public void testCacheFull() {
+        @Cleanup
+        val c = new MappedFileCache(LAYOUT, this.directory.toPath(), MAX_SIZE);
+        val maxEntry = new ByteArraySegment(new byte[LAYOUT.bufferSize() - LAYOUT.blockSize()]);
+        for (int i = 0; i < MAX_SIZE / LAYOUT.bufferSize(); i++) {
+            c.insert(maxEntry);
+        }
+
+        AssertExtensions.assertThrows(
+                "Expected cache to be full.",
+                () -> c.insert(new ByteArraySegment(new byte[1])),
+                ex -> ex instanceof CacheFullException);
+    }
+
+    /**
+     * Verifies that the constructor fails if the given directory does not exist.
+     */
+    @Test
+    public void testInvalidDirectory() {
+        AssertExtensions.assertThrows(
+                "Expected constructor to fail for a non-existent directory.",
+                () -> new MappedFileCache(LAYOUT, new File(this.directory, "missing").toPath(), MAX_SIZE),
+                ex -> ex instanceof IllegalArgumentException);
+    }
+}
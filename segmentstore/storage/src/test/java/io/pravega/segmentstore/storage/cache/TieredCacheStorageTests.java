@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) Dell Inc., or its subsidiaries. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.test.common.AssertExtensions;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link TieredCacheStorage} class.
+ */
+public class TieredCacheStorageTests {
+    private static final CacheLayout LAYOUT = new CacheLayout.DefaultLayout();
+    private final Random rnd = new Random(0);
+
+    /**
+     * Tests the ability to insert into the Primary tier, move entries to the Secondary tier, and then access them using
+     * {@link TieredCacheStorage#get}, {@link TieredCacheStorage#append} and {@link TieredCacheStorage#delete}.
+     */
+    @Test
+    public void testOperations() {
+        val primary = new DirectMemoryCache(LAYOUT, LAYOUT.bufferSize());
+        val secondary = new DirectMemoryCache(LAYOUT, 2 * LAYOUT.bufferSize());
+        @Cleanup
+        val c = new TieredCacheStorage(primary, secondary);
+        Assert.assertEquals(primary.getBlockAlignment(), c.getBlockAlignment());
+        Assert.assertEquals(primary.getMaxEntryLength(), c.getMaxEntryLength());
+
+        // Insert: always goes to the Primary tier.
+        byte[] data1 = newData(1);
+        int primaryAddress = c.insert(new ByteArraySegment(data1));
+        Assert.assertFalse("Not expecting a Secondary tier address from insert().", c.isSecondary(primaryAddress));
+        Assert.assertEquals(1, c.getPrimaryState().getStoredBytes());
+        Assert.assertEquals(0, c.getSecondaryState().getStoredBytes());
+
+        // Copy to Secondary. The original should be unaffected.
+        int secondaryAddress = c.copyToSecondary(primaryAddress);
+        Assert.assertTrue("Expected a Secondary tier address from copyToSecondary().", c.isSecondary(secondaryAddress));
+        Assert.assertArrayEquals(data1, c.get(primaryAddress).getCopy());
+        Assert.assertArrayEquals(data1, c.get(secondaryAddress).getCopy());
+        Assert.assertEquals(1, c.getSecondaryState().getStoredBytes());
+        Assert.assertEquals("Unexpected combined state.", 2, c.getState().getStoredBytes());
+        Assert.assertEquals("Unexpected combined state.", primary.getState().getMaxBytes() + secondary.getState().getMaxBytes(),
+                c.getState().getMaxBytes());
+        AssertExtensions.assertThrows(
+                "copyToSecondary() accepted a Secondary tier address.",
+                () -> c.copyToSecondary(secondaryAddress),
+                ex -> ex instanceof IllegalArgumentException);
+
+        // Delete the original; the copy should be unaffected.
+        c.delete(primaryAddress);
+        Assert.assertNull(c.get(primaryAddress));
+        Assert.assertEquals(0, c.getPrimaryState().getStoredBytes());
+        Assert.assertEquals(CacheStorage.NO_ADDRESS, c.copyToSecondary(primaryAddress));
+
+        // Append to the copy.
+        byte[] data2 = newData(c.getAppendableLength(data1.length));
+        Assert.assertEquals(data2.length, c.append(secondaryAddress, data1.length, new ByteArraySegment(data2)));
+        val expected = new byte[data1.length + data2.length];
+        System.arraycopy(data1, 0, expected, 0, data1.length);
+        System.arraycopy(data2, 0, expected, data1.length, data2.length);
+        Assert.assertArrayEquals(expected, c.get(secondaryAddress).getCopy());
+        Assert.assertEquals(0, c.getPrimaryState().getStoredBytes());
+
+        // Replace: the new data should be in the Primary tier.
+        byte[] data3 = newData(123);
+        int replacedAddress = c.replace(secondaryAddress, new ByteArraySegment(data3));
+        Assert.assertFalse(c.isSecondary(replacedAddress));
+        Assert.assertNull(c.get(secondaryAddress));
+        Assert.assertArrayEquals(data3, c.get(replacedAddress).getCopy());
+        Assert.assertEquals(0, c.getSecondaryState().getStoredBytes());
+    }
+
+    /**
+     * Tests the behavior when either tier is full.
+     */
+    @Test
+    public void testCacheFull() {
+        val primary = new DirectMemoryCache(LAYOUT, LAYOUT.bufferSize());
+        val secondary = new DirectMemoryCache(LAYOUT, LAYOUT.bufferSize());
+        @Cleanup
+        val c = new TieredCacheStorage(primary, secondary);
+        val callbackCount = new AtomicInteger();
+        c.setCacheFullCallback(() -> {
+            callbackCount.incrementAndGet();
+            return false;
+        }, 0);
+
+        val maxEntry = new ByteArraySegment(new byte[LAYOUT.bufferSize() - LAYOUT.blockSize()]);
+        int address = c.insert(maxEntry);
+        AssertExtensions.assertThrows(
+                "Expected Primary tier to be full.",
+                () -> c.insert(new ByteArraySegment(new byte[1])),
+                ex -> ex instanceof CacheFullException);
+        AssertExtensions.assertGreaterThan("Expected the callback to be invoked for the Primary tier.", 0, callbackCount.get());
+
+        // Fill up the Secondary tier. This should not involve the callback.
+        callbackCount.set(0);
+        c.copyToSecondary(address);
+        AssertExtensions.assertThrows(
+                "Expected Secondary tier to be full.",
+                () -> c.copyToSecondary(address),
+                ex -> ex instanceof CacheFullException);
+        Assert.assertEquals("Not expecting the callback to be invoked for the Secondary tier.", 0, callbackCount.get());
+    }
+
+    private byte[] newData(int length) {
+        byte[] result = new byte[length];
+        this.rnd.nextBytes(result);
+        return result;
+    }
+}
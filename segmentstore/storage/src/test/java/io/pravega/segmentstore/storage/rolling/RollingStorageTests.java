@@ -9,6 +9,7 @@
  */
 package io.pravega.segmentstore.storage.rolling;
 
+import io.pravega.common.util.BufferView;
 import io.pravega.segmentstore.contracts.StreamSegmentException;
 import io.pravega.segmentstore.contracts.StreamSegmentExistsException;
 import io.pravega.segmentstore.contracts.StreamSegmentNotExistsException;
@@ -25,8 +26,14 @@ import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.IntentionalException;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.Cleanup;
 import lombok.val;
 import org.junit.Assert;
@@ -126,6 +133,118 @@ public class RollingStorageTests extends RollingStorageTestBase {
         checkWrittenData(finalExpectedData, wh3, s);
     }
 
+    /**
+     * Tests the ability to prefetch the beginning of the next SegmentChunk while reading sequentially, as well as the
+     * fact that SegmentChunk handles are only opened once.
+     */
+    @Test
+    public void testNextChunkPrefetch() throws Exception {
+        final int prefetchLength = 20;
+        final int readLength = prefetchLength / 2;
+        final int chunkCount = 5;
+        @Cleanup
+        val baseStorage = new TestStorage();
+        @Cleanup
+        val s = new RollingStorage(baseStorage, DEFAULT_ROLLING_POLICY, prefetchLength, Runnable::run); // Prefetch inline.
+        s.initialize(1);
+        val writeHandle = s.create(SEGMENT_NAME);
+        byte[] writtenData = new byte[(int) DEFAULT_ROLLING_POLICY.getMaxLength() * chunkCount];
+        new Random(0).nextBytes(writtenData);
+        for (int offset = 0; offset < writtenData.length; offset += readLength) {
+            s.write(writeHandle, offset, new ByteArrayInputStream(writtenData, offset, readLength), readLength);
+        }
+
+        // Read sequentially, in small increments.
+        val readHandle = (RollingSegmentHandle) s.openRead(SEGMENT_NAME);
+        Assert.assertEquals("Unexpected number of SegmentChunks.", chunkCount, readHandle.chunks().size());
+        baseStorage.reads.clear();
+        baseStorage.openReads.clear();
+        byte[] readBuffer = new byte[readLength];
+        for (int offset = 0; offset < writtenData.length; offset += readLength) {
+            int bytesRead = s.read(readHandle, offset, readBuffer, 0, readLength);
+            Assert.assertEquals("Unexpected number of bytes read.", readLength, bytesRead);
+            AssertExtensions.assertArrayEquals("Unexpected data read back.", writtenData, offset, readBuffer, 0, readLength);
+        }
+
+        for (SegmentChunk chunk : readHandle.chunks()) {
+            Assert.assertEquals("Expected each SegmentChunk to be opened exactly once: " + chunk,
+                    1, baseStorage.openReads.stream().filter(chunk.getName()::equals).count());
+            val headReads = baseStorage.reads.stream()
+                    .filter(r -> r.getKey().equals(chunk.getName()) && r.getValue() < prefetchLength)
+                    .collect(Collectors.toList());
+            if (chunk.getStartOffset() == 0) {
+                // We do not prefetch the first SegmentChunk.
+                Assert.assertEquals("Unexpected reads for first SegmentChunk.", prefetchLength / readLength, headReads.size());
+            } else {
+                // Every other SegmentChunk should have had its beginning prefetched, and the reads served from that.
+                Assert.assertEquals("Expected a single prefetch read for " + chunk, 1, headReads.size());
+                Assert.assertEquals("Expected the prefetch read to begin at the start of " + chunk, 0L, (long) headReads.get(0).getValue());
+            }
+        }
+    }
+
+    /**
+     * Tests that reads do not wait for a prefetch that has not completed yet, and read from the SegmentChunk instead.
+     */
+    @Test
+    public void testNextChunkPrefetchIncomplete() throws Exception {
+        final int prefetchLength = 20;
+        final int readLength = prefetchLength / 2;
+        final int chunkCount = 3;
+        @Cleanup
+        val baseStorage = new TestStorage();
+        val prefetchTasks = new ArrayList<Runnable>();
+        @Cleanup
+        val s = new RollingStorage(baseStorage, DEFAULT_ROLLING_POLICY, prefetchLength, prefetchTasks::add); // Never run.
+        s.initialize(1);
+        val writeHandle = s.create(SEGMENT_NAME);
+        byte[] writtenData = new byte[(int) DEFAULT_ROLLING_POLICY.getMaxLength() * chunkCount];
+        new Random(0).nextBytes(writtenData);
+        for (int offset = 0; offset < writtenData.length; offset += readLength) {
+            s.write(writeHandle, offset, new ByteArrayInputStream(writtenData, offset, readLength), readLength);
+        }
+
+        val readHandle = (RollingSegmentHandle) s.openRead(SEGMENT_NAME);
+        byte[] readBuffer = new byte[readLength];
+        for (int offset = 0; offset < writtenData.length; offset += readLength) {
+            int bytesRead = s.read(readHandle, offset, readBuffer, 0, readLength);
+            Assert.assertEquals("Unexpected number of bytes read.", readLength, bytesRead);
+            AssertExtensions.assertArrayEquals("Unexpected data read back.", writtenData, offset, readBuffer, 0, readLength);
+        }
+
+        Assert.assertEquals("Expected a prefetch to be requested for every SegmentChunk but the first.",
+                chunkCount - 1, prefetchTasks.size());
+    }
+
+    /**
+     * Tests the ability to refresh a handle by only reading the part of the Header that has been appended since.
+     */
+    @Test
+    public void testRefreshHandleIncrementalHeader() throws Exception {
+        @Cleanup
+        val baseStorage = new TestStorage();
+        @Cleanup
+        val s = new RollingStorage(baseStorage, DEFAULT_ROLLING_POLICY);
+        s.initialize(1);
+        val writeHandle = s.create(SEGMENT_NAME);
+        val writeStream = new ByteArrayOutputStream();
+        populate(s, writeHandle, 10, SMALL_WRITE_LENGTH, LARGE_WRITE_LENGTH, writeStream);
+        val readHandle = (RollingSegmentHandle) s.openRead(SEGMENT_NAME);
+        int initialHeaderLength = readHandle.getSerializedHeader().length;
+
+        // Add more data (and SegmentChunks), then read everything using the (now out-of-date) read handle.
+        populate(s, writeHandle, 10, SMALL_WRITE_LENGTH, LARGE_WRITE_LENGTH, writeStream);
+        baseStorage.reads.clear();
+        checkWrittenData(writeStream.toByteArray(), readHandle, s);
+        val headerName = NameUtils.getHeaderSegmentName(SEGMENT_NAME);
+        val headerReads = baseStorage.reads.stream().filter(r -> r.getKey().equals(headerName)).collect(Collectors.toList());
+        Assert.assertEquals("Expected a single Header read.", 1, headerReads.size());
+        Assert.assertEquals("Expected only the new part of the Header to be read.", initialHeaderLength, (long) headerReads.get(0).getValue());
+        Assert.assertEquals("Unexpected cached Header length.", s.getStreamSegmentInfo(headerName).getLength(), readHandle.getSerializedHeader().length);
+        Assert.assertEquals("Unexpected SegmentChunks after refresh.",
+                ((RollingSegmentHandle) s.openRead(SEGMENT_NAME)).chunks().size(), readHandle.chunks().size());
+    }
+
     /**
      * Tests the ability to truncate Segments.
      */
@@ -652,6 +771,11 @@ public class RollingStorageTests extends RollingStorageTestBase {
         int bytesRead = s.read(readHandle, offset, readBuffer, 0, readBuffer.length);
         Assert.assertEquals("Unexpected number of bytes read.", readBuffer.length, bytesRead);
         AssertExtensions.assertArrayEquals("Unexpected data read back.", writtenData, offset, readBuffer, 0, readBuffer.length);
+
+        // Reading into a BufferView should yield the same data, regardless of how many SegmentChunks it spans.
+        BufferView readData = s.read(readHandle, offset, readBuffer.length);
+        Assert.assertEquals("Unexpected number of bytes read (BufferView).", readBuffer.length, readData.getLength());
+        Assert.assertArrayEquals("Unexpected data read back (BufferView).", readBuffer, readData.getCopy());
     }
 
     //endregion
@@ -659,9 +783,23 @@ public class RollingStorageTests extends RollingStorageTestBase {
     //region TestStorage
 
     private static class TestStorage extends InMemoryStorage {
+        private final List<Map.Entry<String, Long>> reads = Collections.synchronizedList(new ArrayList<>()); // Name, Offset.
+        private final List<String> openReads = Collections.synchronizedList(new ArrayList<>());
         private Function<String, IntentionalException> deleteFailure;
         private Function<String, IntentionalException> concatFailure;
 
+        @Override
+        public SegmentHandle openRead(String streamSegmentName) throws StreamSegmentNotExistsException {
+            this.openReads.add(streamSegmentName);
+            return super.openRead(streamSegmentName);
+        }
+
+        @Override
+        public int read(SegmentHandle handle, long offset, byte[] buffer, int bufferOffset, int length) throws StreamSegmentNotExistsException {
+            this.reads.add(new AbstractMap.SimpleImmutableEntry<>(handle.getSegmentName(), offset));
+            return super.read(handle, offset, buffer, bufferOffset, length);
+        }
+
         @Override
         public void delete(SegmentHandle handle) throws StreamSegmentNotExistsException {
             maybeThrow(handle.getSegmentName(), this.deleteFailure);
@@ -9,11 +9,15 @@
  */
 package io.pravega.shared.controller.event;
 
+import com.google.common.collect.ImmutableList;
 import io.pravega.common.ObjectBuilder;
 import io.pravega.common.io.serialization.RevisionDataInput;
 import io.pravega.common.io.serialization.RevisionDataOutput;
 import io.pravega.common.io.serialization.VersionedSerializer;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import lombok.AllArgsConstructor;
@@ -36,6 +40,16 @@ public class AutoScaleEvent implements ControllerEvent {
     private final int numOfSplits;
     private final boolean silent;
     private final long requestId;
+    /**
+     * A sorted sample of the routing key hashes of the traffic the Segment received, which may be used to pick the key
+     * ranges of a scale up (so that each of them receives a similar share of the load). May be empty.
+     */
+    private final List<Double> routingKeySample;
+
+    public AutoScaleEvent(String scope, String stream, long segmentId, byte direction, long timestamp, int numOfSplits,
+                          boolean silent, long requestId) {
+        this(scope, stream, segmentId, direction, timestamp, numOfSplits, silent, requestId, ImmutableList.of());
+    }
 
     @Override
     public String getKey() {
@@ -56,6 +70,7 @@ public class AutoScaleEvent implements ControllerEvent {
     //region Serialization
 
     private static class AutoScaleEventBuilder implements ObjectBuilder<AutoScaleEvent> {
+        private List<Double> routingKeySample = ImmutableList.of();
     }
 
     public static class Serializer extends VersionedSerializer.WithBuilder<AutoScaleEvent, AutoScaleEventBuilder> {
@@ -71,7 +86,8 @@ public class AutoScaleEvent implements ControllerEvent {
 
         @Override
         protected void declareVersions() {
-            version(0).revision(0, this::write00, this::read00);
+            version(0).revision(0, this::write00, this::read00)
+                      .revision(1, this::write01, this::read01);
         }
 
         private void write00(AutoScaleEvent e, RevisionDataOutput target) throws IOException {
@@ -95,6 +111,16 @@ public class AutoScaleEvent implements ControllerEvent {
             b.silent(source.readBoolean());
             b.requestId(source.readLong());
         }
+
+        private void write01(AutoScaleEvent e, RevisionDataOutput target) throws IOException {
+            target.writeCollection(e.routingKeySample, DataOutput::writeDouble);
+        }
+
+        private void read01(RevisionDataInput source, AutoScaleEventBuilder b) throws IOException {
+            ImmutableList.Builder<Double> sample = ImmutableList.builder();
+            source.readCollection(DataInput::readDouble, sample);
+            b.routingKeySample(sample.build());
+        }
     }
 
     //endregion
@@ -34,6 +34,7 @@ package io.pravega.shared;
  * - controller.retention: metrics related to data retention, per stream (e.g., frequency, size of truncated data)
  * - controller.hosts: metrics related to Pravega servers in the cluster (e.g., number of servers, failures)
  * - controller.container: metrics related to container lifecycle (e.g., failovers)
+ * - controller.metadata_cache: metrics related to the cache of metadata records, per table (e.g., hits, misses)
  *
  * We have two types of metrics:
  * - Global metric: Values are directly associated to the metric name that appears in this file. They are convenient if
@@ -96,6 +97,11 @@ public final class MetricsNames {
     public static final String TABLE_SEGMENT_GET = PREFIX + "segmentstore.tablesegment.get";                               // Counter and Per-segment Counter
     public static final String TABLE_SEGMENT_ITERATE_KEYS = PREFIX + "segmentstore.tablesegment.iterate_keys";             // Counter and Per-segment Counter
     public static final String TABLE_SEGMENT_ITERATE_ENTRIES = PREFIX + "segmentstore.tablesegment.iterate_entries";       // Counter and Per-segment Counter
+    public static final String TABLE_SEGMENT_KEY_FILTER_NEGATIVE = PREFIX + "segmentstore.tablesegment.keyfilter.negative";             // Lookups answered by the Key Filter alone. Per-container Counter
+    public static final String TABLE_SEGMENT_KEY_FILTER_FALSE_POSITIVE = PREFIX + "segmentstore.tablesegment.keyfilter.false_positive"; // Key Filter matches that were not in the index. Per-container Counter
+    public static final String TABLE_SEGMENT_KEY_FILTER_SIZE_BYTES = PREFIX + "segmentstore.tablesegment.keyfilter.size_bytes";         // Per-container Gauge
+    public static final String TABLE_SEGMENT_COMPACTION_RECLAIMED_BYTES = PREFIX + "segmentstore.tablesegment.compaction.reclaimed_bytes"; // Per-container Counter
+    public static final String TABLE_SEGMENT_COMPACTION_LAG_BYTES = PREFIX + "segmentstore.tablesegment.compaction.lag_bytes";             // Uncompacted bytes after each compaction. Per-container Histogram
 
     // Storage stats
     public static final String STORAGE_READ_LATENCY = PREFIX + "segmentstore.storage.read_latency_ms";     // Histogram
@@ -123,6 +129,13 @@ public final class MetricsNames {
     public static final String CACHE_ALLOC_SIZE_BYTES = PREFIX + "segmentstore.cache.allocated_size_bytes"; // Gauge
     public static final String CACHE_GENERATION_SPREAD = PREFIX + "segmentstore.cache.gen";                 // Histogram
 
+    // ReadIndex stats
+    public static final String READ_INDEX_PREFETCH_BYTES = PREFIX + "segmentstore.readindex.prefetch_bytes";               // Bytes prefetched from Storage. Per-container Counter
+    public static final String READ_INDEX_PREFETCH_HIT_BYTES = PREFIX + "segmentstore.readindex.prefetch_hit_bytes";       // Prefetched bytes that were read. Per-container Counter
+    public static final String READ_INDEX_PREFETCH_WASTED_BYTES = PREFIX + "segmentstore.readindex.prefetch_wasted_bytes"; // Prefetched bytes evicted before being read. Per-container Counter
+    public static final String READ_INDEX_COALESCED_ENTRIES = PREFIX + "segmentstore.readindex.coalesced_entries";         // Cache entries merged into larger ones. Per-container Counter
+    public static final String READ_INDEX_ENTRY_LENGTH = PREFIX + "segmentstore.readindex.entry_length";                   // Average cache entry length, per Segment. Per-container Histogram
+
     // DurableDataLog (Tier1) stats
     public static final String BK_TOTAL_WRITE_LATENCY = PREFIX + "segmentstore.bookkeeper.total_write_latency_ms";   // Including Queue. Per-container Histogram
     public static final String BK_WRITE_LATENCY = PREFIX + "segmentstore.bookkeeper.write_latency_ms";               // Exclusively the write to BK. Per-container Histogram
@@ -152,6 +165,8 @@ public final class MetricsNames {
     public static final String CONTAINER_SEAL_COUNT = PREFIX + "segmentstore.container.seal_count";                              // Per-container Event Counter
     public static final String CONTAINER_TRUNCATE_COUNT = PREFIX + "segmentstore.container.truncate_count";                      // Per-container Event Counter
     public static final String CONTAINER_RECOVERY_TIME = PREFIX + "segmentstore.container.recovery_time";                        // Per-container Gauge
+    public static final String CONTAINER_RECOVERY_OPERATIONS_PER_SEC = PREFIX + "segmentstore.container.recovery_ops_per_sec";   // Per-container Gauge
+    public static final String CONTAINER_RECOVERY_MB_PER_SEC = PREFIX + "segmentstore.container.recovery_mb_per_sec";            // Per-container Gauge
 
     // Operation processor metrics
     public static final String PROCESS_OPERATIONS_LATENCY = PREFIX + "segmentstore.container.process_operations.latency_ms";                 // Per-container Histogram
@@ -160,10 +175,18 @@ public final class MetricsNames {
     public static final String OPERATION_PROCESSOR_IN_FLIGHT = PREFIX + "segmentstore.container.operation_processor.in_flight";              // Per-container Histogram
     public static final String OPERATION_QUEUE_WAIT_TIME = PREFIX + "segmentstore.container.operation_queue.wait_time";                      // Per-container Histogram
     public static final String OPERATION_PROCESSOR_DELAY_MILLIS = PREFIX + "segmentstore.container.operation_processor.delay_ms";            // Per-container Histogram
+    public static final String OPERATION_PROCESSOR_FRAME_LENGTH = PREFIX + "segmentstore.container.operation_processor.frame_length";        // Per-container Histogram
+    public static final String OPERATION_PROCESSOR_LINGER_MILLIS = PREFIX + "segmentstore.container.operation_processor.linger_ms";          // Per-container Histogram
     public static final String OPERATION_COMMIT_LATENCY = PREFIX + "segmentstore.container.operation_commit.latency_ms";                     // Per-container Histogram
     public static final String OPERATION_LATENCY = PREFIX + "segmentstore.container.operation.latency_ms";                                   // Per-container Histogram
     public static final String OPERATION_COMMIT_MEMORY_COUNT = PREFIX + "segmentstore.container.operation_commit.memory_count";              // Per-container Histogram
     public static final String OPERATION_COMMIT_MEMORY_LATENCY = PREFIX + "segmentstore.container.operation_commit.memory_latency_ms";       // Per-container Histogram
+    public static final String OPERATION_STAGE_QUEUE_LATENCY = PREFIX + "segmentstore.container.operation_stage.queue_latency_ms";           // Per-container Histogram
+    public static final String OPERATION_STAGE_FRAMING_LATENCY = PREFIX + "segmentstore.container.operation_stage.framing_latency_ms";       // Per-container Histogram
+    public static final String OPERATION_STAGE_BATCHING_LATENCY = PREFIX + "segmentstore.container.operation_stage.batching_latency_ms";     // Per-container Histogram
+    public static final String OPERATION_STAGE_DURABLE_WRITE_LATENCY = PREFIX + "segmentstore.container.operation_stage.durable_write_latency_ms"; // Per-container Histogram
+    public static final String OPERATION_STAGE_COMPLETION_LATENCY = PREFIX + "segmentstore.container.operation_stage.completion_latency_ms"; // Per-container Histogram
+    public static final String OPERATION_STAGE_MEMORY_COMMIT_LATENCY = PREFIX + "segmentstore.container.operation_stage.memory_commit_latency_ms"; // Per-container Histogram
     public static final String OPERATION_LOG_SIZE = PREFIX + "segmentstore.container.operation.log_size";                                    // Per-container Counter
 
     // Segment container metadata
@@ -249,6 +272,11 @@ public final class MetricsNames {
     // Zookeeper connectivity metrics
     public static final String CONTROLLER_ZK_SESSION_EXPIRATION = PREFIX + "controller.zookeeper.session_expiration";  // Counter
 
+    // Metadata cache metrics
+    public static final String METADATA_CACHE_HITS = PREFIX + "controller.metadata_cache.hits";                     // Per-table Counter
+    public static final String METADATA_CACHE_MISSES = PREFIX + "controller.metadata_cache.misses";                 // Per-table Counter
+    public static final String METADATA_CACHE_LOAD_LATENCY = PREFIX + "controller.metadata_cache.load_latency_ms";  // Per-table Histogram
+
     public static String globalMetricName(String stringName) {
         return stringName + "_global";
     }
@@ -30,6 +30,7 @@ public final class MetricsTags {
     public static final String TAG_CLASS = "class";
     public static final String TAG_EXCEPTION = "exception";
     public static final String TAG_THROTTLER = "throttler";
+    public static final String TAG_TABLE = "table";
 
     private static final String TRANSACTION_DELIMITER = "#transaction.";
     private static final String EPOCH_DELIMITER = ".#epoch.";
@@ -65,6 +66,15 @@ public final class MetricsTags {
         return new String[] {TAG_CONTAINER, String.valueOf(containerId), TAG_THROTTLER, throttler};
     }
 
+    /**
+     * Generate a table tag (string array) on the input table name to be associated with a metric.
+     * @param table table name.
+     * @return string array as the table tag of metric.
+     */
+    public static String[] tableTag(String table) {
+        return new String[] {TAG_TABLE, table};
+    }
+
     /**
      * Generate a host tag (string array) on the input hostname to be associated with a metric.
      * @param hostname hostname of the metric.
@@ -128,6 +128,13 @@ public class MetricsTagsTest {
         assertEquals("Cache", tags[3]);
     }
 
+    @Test
+    public void testTableTag() {
+        String[] tags = tableTag("metadata");
+        assertEquals(MetricsTags.TAG_TABLE, tags[0]);
+        assertEquals("metadata", tags[1]);
+    }
+
     @Test
     public void testTableSegmentTags() {
         String[] tags = segmentTags("_system/_tables/commonTables");
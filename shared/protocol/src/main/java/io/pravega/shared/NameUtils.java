@@ -15,6 +15,7 @@ import io.pravega.common.Exceptions;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
+import java.util.regex.Pattern;
 import lombok.AccessLevel;
 import lombok.Getter;
 
@@ -42,6 +43,7 @@ public final class NameUtils {
     static final String TAG_EPOCH = "epoch";
     static final String TAG_DEFAULT = "default";
     static final String TAG_WRITER = "writer";
+    static final String TAG_CONNECTION = "connection";
 
     /**
      * This is appended to the end of the Segment/Transaction name to indicate it stores its extended attributes.
@@ -67,6 +69,7 @@ public final class NameUtils {
      * This is appended to the end of the Primary Segment Name, followed by epoch.
      */
     private static final String EPOCH_DELIMITER = ".#epoch.";
+    private static final Pattern EPOCH_DELIMITER_PATTERN = Pattern.compile(EPOCH_DELIMITER, Pattern.LITERAL);
 
     /**
      * Format for Container Metadata Segment name.
@@ -367,7 +370,7 @@ public final class NameUtils {
         int segmentIdIndex = tokens.length == 2 ? 1 : 2;
         long segmentId;
         if (tokens[segmentIdIndex].contains(EPOCH_DELIMITER)) {
-            String[] segmentIdTokens = tokens[segmentIdIndex].split(EPOCH_DELIMITER);
+            String[] segmentIdTokens = EPOCH_DELIMITER_PATTERN.split(tokens[segmentIdIndex]);
             segmentId = computeSegmentId(Integer.parseInt(segmentIdTokens[0]), Integer.parseInt(segmentIdTokens[1]));
         } else {
             // no secondary delimiter, set the secondary id to 0 for segment id computation
@@ -486,7 +489,7 @@ public final class NameUtils {
 
         int segmentIdIndex = (tokens.length == 1) ? 0 : (tokens.length) == 2 ? 1 : 2;
         if (tokens[segmentIdIndex].contains(EPOCH_DELIMITER)) {
-            String[] segmentIdTokens = tokens[segmentIdIndex].split(EPOCH_DELIMITER);
+            String[] segmentIdTokens = EPOCH_DELIMITER_PATTERN.split(tokens[segmentIdIndex]);
             tags[5] = segmentIdTokens[0];
             tags[7] = segmentIdTokens[1];
         } else {
@@ -517,6 +520,17 @@ public final class NameUtils {
         return new String[]{TAG_WRITER, writerId};
     }
 
+    /**
+     * Generate connection tags (string array) based on the connectionId.
+     *
+     * @param connectionId Connection id.
+     * @return String array as connection tag of metric.
+     */
+    public static String[] connectionTags(String connectionId) {
+        Exceptions.checkNotNullOrEmpty(connectionId, "connectionId");
+        return new String[]{TAG_CONNECTION, connectionId};
+    }
+
     /**
      * Get base name of segment with the potential transaction delimiter removed.
      *
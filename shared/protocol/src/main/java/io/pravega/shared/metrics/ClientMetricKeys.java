@@ -30,7 +30,15 @@ public enum ClientMetricKeys {
     /**
      * Metric to track the number of appends which have not been acknowledged by the segment store.
      */
-    CLIENT_OUTSTANDING_APPEND_COUNT("client.segment.outstanding_append_count");
+    CLIENT_OUTSTANDING_APPEND_COUNT("client.segment.outstanding_append_count"),
+    /**
+     * Metric to track the number of flows on a given connection to a Segment Store.
+     */
+    CLIENT_CONNECTION_FLOW_COUNT("client.connection.flow_count"),
+    /**
+     * Metric to track the number of writes (from all flows) that are queued on a given connection to a Segment Store.
+     */
+    CLIENT_CONNECTION_QUEUE_DEPTH("client.connection.outbound_queue_depth");
 
     @VisibleForTesting
     @Getter
@@ -13,6 +13,7 @@ import io.netty.buffer.ByteBuf;
 import io.pravega.shared.protocol.netty.WireCommands.Event;
 import java.util.UUID;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 
 @Data
@@ -25,6 +26,33 @@ public class Append implements Request, Comparable<Append> {
     final ByteBuf data;
     final Long expectedLength;
     final long flowId;
+    /**
+     * The routing key hashes (in the interval [0, 1)) of (a sample of) the Events in this Append, or null if not known.
+     * These are set on the Appends decoded from a block, and are only used to collect statistics, hence they are not
+     * part of the Append's identity.
+     */
+    @EqualsAndHashCode.Exclude
+    final float[] routingKeyHashes;
+    /**
+     * The routing key hash (in the interval [0, 1)) of the single Event in an Append created by a writer, or
+     * {@link Float#NaN} if not known. The {@link CommandEncoder} samples these into the block that it sends.
+     */
+    @EqualsAndHashCode.Exclude
+    final float routingKeyHash;
+
+    public Append(String segment, UUID writerId, long eventNumber, int eventCount, ByteBuf data, Long expectedLength, long flowId) {
+        this(segment, writerId, eventNumber, eventCount, data, expectedLength, flowId, null, Float.NaN);
+    }
+
+    public Append(String segment, UUID writerId, long eventNumber, int eventCount, ByteBuf data, Long expectedLength, long flowId,
+                  float[] routingKeyHashes) {
+        this(segment, writerId, eventNumber, eventCount, data, expectedLength, flowId, routingKeyHashes, Float.NaN);
+    }
+
+    public Append(String segment, UUID writerId, long eventNumber, int eventCount, ByteBuf data, Long expectedLength, long flowId,
+                  float routingKeyHash) {
+        this(segment, writerId, eventNumber, eventCount, data, expectedLength, flowId, null, routingKeyHash);
+    }
 
     public Append(String segment, UUID writerId, long eventNumber, Event event, long flowId) {
         this(segment, writerId, eventNumber, 1, event.getAsByteBuf(), null, flowId);
@@ -185,7 +185,8 @@ public class AppendDecoder extends MessageToMessageDecoder<WireCommand> {
         }
         segment.lastEventNumber = blockEnd.getLastEventNumber();
         currentBlock = null;
-        return new Append(segment.name, writerId, segment.lastEventNumber, blockEnd.numEvents, appendDataBuf, null, blockEnd.getRequestId());
+        return new Append(segment.name, writerId, segment.lastEventNumber, blockEnd.numEvents, appendDataBuf, null, blockEnd.getRequestId(),
+                blockEnd.getRoutingKeyHashes());
     }
 
     private ByteBuf getAppendDataBuf(WireCommands.AppendBlockEnd blockEnd, int sizeOfWholeEventsInBlock) throws IOException {
@@ -24,10 +24,12 @@ import io.pravega.shared.protocol.netty.WireCommands.SetupAppend;
 import java.io.IOException;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
@@ -78,6 +80,11 @@ import static io.pravega.shared.protocol.netty.WireCommands.TYPE_SIZE;
 @Slf4j
 public class CommandEncoder extends FlushingMessageToByteEncoder<Object> {
     private static final byte[] LENGTH_PLACEHOLDER = new byte[4];
+    /**
+     * The maximum number of routing key hashes that are sampled (per AppendBlock) and sent to the Segment Store, which
+     * uses them to pick the key ranges for auto-scaling splits.
+     */
+    private static final int MAX_ROUTING_KEY_HASH_SAMPLES = 8;
     private final Function<Long, AppendBatchSizeTracker> appendTracker;
     private final MetricNotifier metricNotifier;
     private final Map<Map.Entry<String, UUID>, Session> setupSegments = new HashMap<>();
@@ -103,6 +110,8 @@ public class CommandEncoder extends FlushingMessageToByteEncoder<Object> {
         private int  pendingBytes = 0;
         private long lastEventNumber = -1L;
         private int eventCount = 0;
+        private final float[] routingKeyHashSample = new float[MAX_ROUTING_KEY_HASH_SAMPLES];
+        private int routingKeyHashCount = 0;
 
         /**
          * Record the given Append to Session by tracking the last event number and number of events to write.
@@ -110,6 +119,43 @@ public class CommandEncoder extends FlushingMessageToByteEncoder<Object> {
         private void record(Append append) {
             lastEventNumber = append.getEventNumber();
             eventCount += append.getEventCount();
+            if (append.getRoutingKeyHashes() != null) {
+                for (float hash : append.getRoutingKeyHashes()) {
+                    sampleRoutingKeyHash(hash);
+                }
+            }
+            if (!Float.isNaN(append.getRoutingKeyHash())) {
+                sampleRoutingKeyHash(append.getRoutingKeyHash());
+            }
+        }
+
+        /**
+         * Includes the given routing key hash in this block's (uniform) reservoir sample of routing key hashes.
+         */
+        private void sampleRoutingKeyHash(float hash) {
+            routingKeyHashCount++;
+            if (routingKeyHashCount <= routingKeyHashSample.length) {
+                routingKeyHashSample[routingKeyHashCount - 1] = hash;
+            } else {
+                int index = ThreadLocalRandom.current().nextInt(routingKeyHashCount);
+                if (index < routingKeyHashSample.length) {
+                    routingKeyHashSample[index] = hash;
+                }
+            }
+        }
+
+        /**
+         * Gets the routing key hashes that have been sampled since the last call and resets the sample.
+         *
+         * @return The sampled hashes, or null if there are none.
+         */
+        private float[] drainRoutingKeyHashSample() {
+            float[] result = null;
+            if (routingKeyHashCount > 0) {
+                result = Arrays.copyOf(routingKeyHashSample, Math.min(routingKeyHashCount, routingKeyHashSample.length));
+                routingKeyHashCount = 0;
+            }
+            return result;
         }
 
         /**
@@ -174,7 +220,8 @@ public class CommandEncoder extends FlushingMessageToByteEncoder<Object> {
          * @param out               Network channel buffer.
          */
         private void flush(int sizeOfWholeEvents, ByteBuf data, ByteBuf out) {
-            writeMessage(new AppendBlockEnd(id, sizeOfWholeEvents, data, eventCount, lastEventNumber, requestId), out);
+            writeMessage(new AppendBlockEnd(id, sizeOfWholeEvents, data, eventCount, lastEventNumber, requestId,
+                    drainRoutingKeyHashSample()), out);
             eventCount = 0;
         }
     }
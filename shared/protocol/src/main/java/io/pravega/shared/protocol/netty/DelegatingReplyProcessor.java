@@ -63,6 +63,11 @@ public abstract class DelegatingReplyProcessor implements ReplyProcessor {
     public void segmentRead(WireCommands.SegmentRead data) {
         getNextReplyProcessor().segmentRead(data);
     }
+
+    @Override
+    public void segmentsRead(WireCommands.SegmentsRead data) {
+        getNextReplyProcessor().segmentsRead(data);
+    }
     
     @Override
     public void segmentAttributeUpdated(WireCommands.SegmentAttributeUpdated segmentAttributeUpdated) {
@@ -84,6 +89,11 @@ public abstract class DelegatingReplyProcessor implements ReplyProcessor {
         getNextReplyProcessor().segmentCreated(streamsSegmentCreated);
     }
 
+    @Override
+    public void segmentsCreated(WireCommands.SegmentsCreated segmentsCreated) {
+        getNextReplyProcessor().segmentsCreated(segmentsCreated);
+    }
+
     @Override
     public void segmentsMerged(WireCommands.SegmentsMerged segmentsMerged) {
         getNextReplyProcessor().segmentsMerged(segmentsMerged);
@@ -94,11 +104,21 @@ public abstract class DelegatingReplyProcessor implements ReplyProcessor {
         getNextReplyProcessor().segmentSealed(segmentSealed);
     }
 
+    @Override
+    public void segmentsSealed(WireCommands.SegmentsSealed segmentsSealed) {
+        getNextReplyProcessor().segmentsSealed(segmentsSealed);
+    }
+
     @Override
     public void segmentDeleted(WireCommands.SegmentDeleted segmentDeleted) {
         getNextReplyProcessor().segmentDeleted(segmentDeleted);
     }
 
+    @Override
+    public void segmentsDeleted(WireCommands.SegmentsDeleted segmentsDeleted) {
+        getNextReplyProcessor().segmentsDeleted(segmentsDeleted);
+    }
+
     @Override
     public void segmentPolicyUpdated(WireCommands.SegmentPolicyUpdated segment) {
         getNextReplyProcessor().segmentPolicyUpdated(segment);
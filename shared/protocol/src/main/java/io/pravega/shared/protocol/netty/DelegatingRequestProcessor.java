@@ -16,6 +16,7 @@ import io.pravega.shared.protocol.netty.WireCommands.GetSegmentAttribute;
 import io.pravega.shared.protocol.netty.WireCommands.GetStreamSegmentInfo;
 import io.pravega.shared.protocol.netty.WireCommands.KeepAlive;
 import io.pravega.shared.protocol.netty.WireCommands.ReadSegment;
+import io.pravega.shared.protocol.netty.WireCommands.ReadSegments;
 import io.pravega.shared.protocol.netty.WireCommands.SealSegment;
 import io.pravega.shared.protocol.netty.WireCommands.SetupAppend;
 import io.pravega.shared.protocol.netty.WireCommands.TruncateSegment;
@@ -45,6 +46,11 @@ public abstract class DelegatingRequestProcessor implements RequestProcessor {
         getNextRequestProcessor().readSegment(readSegment);
     }
 
+    @Override
+    public void readSegments(ReadSegments readSegments) {
+        getNextRequestProcessor().readSegments(readSegments);
+    }
+
     @Override
     public void updateSegmentAttribute(UpdateSegmentAttribute updateSegmentAttribute) {
         getNextRequestProcessor().updateSegmentAttribute(updateSegmentAttribute);
@@ -65,6 +71,11 @@ public abstract class DelegatingRequestProcessor implements RequestProcessor {
         getNextRequestProcessor().createSegment(createStreamsSegment);
     }
 
+    @Override
+    public void createSegments(WireCommands.CreateSegments createSegments) {
+        getNextRequestProcessor().createSegments(createSegments);
+    }
+
     @Override
     public void updateSegmentPolicy(UpdateSegmentPolicy updateSegmentPolicy) {
         getNextRequestProcessor().updateSegmentPolicy(updateSegmentPolicy);
@@ -80,6 +91,11 @@ public abstract class DelegatingRequestProcessor implements RequestProcessor {
         getNextRequestProcessor().sealSegment(sealSegment);
     }
 
+    @Override
+    public void sealSegments(WireCommands.SealSegments sealSegments) {
+        getNextRequestProcessor().sealSegments(sealSegments);
+    }
+
     @Override
     public void truncateSegment(TruncateSegment truncateSegment) {
         getNextRequestProcessor().truncateSegment(truncateSegment);
@@ -90,6 +106,11 @@ public abstract class DelegatingRequestProcessor implements RequestProcessor {
         getNextRequestProcessor().deleteSegment(deleteSegment);
     }
 
+    @Override
+    public void deleteSegments(WireCommands.DeleteSegments deleteSegments) {
+        getNextRequestProcessor().deleteSegments(deleteSegments);
+    }
+
     @Override
     public void keepAlive(KeepAlive keepAlive) {
         getNextRequestProcessor().keepAlive(keepAlive);
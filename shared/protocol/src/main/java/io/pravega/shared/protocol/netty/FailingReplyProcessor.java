@@ -104,6 +104,11 @@ public abstract class FailingReplyProcessor implements ReplyProcessor {
     public void segmentRead(SegmentRead data) {
         throw new IllegalStateException("Unexpected operation: " + data);
     }
+
+    @Override
+    public void segmentsRead(WireCommands.SegmentsRead data) {
+        throw new IllegalStateException("Unexpected operation: " + data);
+    }
     
     @Override
     public void segmentAttributeUpdated(WireCommands.SegmentAttributeUpdated segmentAttributeUpdated) {
@@ -125,6 +130,11 @@ public abstract class FailingReplyProcessor implements ReplyProcessor {
         throw new IllegalStateException("Unexpected operation: " + streamsSegmentCreated);
     }
 
+    @Override
+    public void segmentsCreated(WireCommands.SegmentsCreated segmentsCreated) {
+        throw new IllegalStateException("Unexpected operation: " + segmentsCreated);
+    }
+
     @Override
     public void segmentsMerged(SegmentsMerged segmentsMerged) {
         throw new IllegalStateException("Unexpected operation: " + segmentsMerged);
@@ -135,6 +145,11 @@ public abstract class FailingReplyProcessor implements ReplyProcessor {
         throw new IllegalStateException("Unexpected operation: " + segmentSealed);
     }
 
+    @Override
+    public void segmentsSealed(WireCommands.SegmentsSealed segmentsSealed) {
+        throw new IllegalStateException("Unexpected operation: " + segmentsSealed);
+    }
+
     @Override
     public void segmentTruncated(SegmentTruncated segmentTruncated) {
         throw new IllegalStateException("Unexpected operation: " + segmentTruncated);
@@ -145,6 +160,11 @@ public abstract class FailingReplyProcessor implements ReplyProcessor {
         throw new IllegalStateException("Unexpected operation: " + segmentDeleted);
     }
 
+    @Override
+    public void segmentsDeleted(WireCommands.SegmentsDeleted segmentsDeleted) {
+        throw new IllegalStateException("Unexpected operation: " + segmentsDeleted);
+    }
+
 
     @Override
     public void tableEntriesUpdated(WireCommands.TableEntriesUpdated tableEntriesUpdated) {
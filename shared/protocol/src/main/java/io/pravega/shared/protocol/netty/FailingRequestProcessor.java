@@ -16,6 +16,7 @@ import io.pravega.shared.protocol.netty.WireCommands.GetStreamSegmentInfo;
 import io.pravega.shared.protocol.netty.WireCommands.Hello;
 import io.pravega.shared.protocol.netty.WireCommands.KeepAlive;
 import io.pravega.shared.protocol.netty.WireCommands.ReadSegment;
+import io.pravega.shared.protocol.netty.WireCommands.ReadSegments;
 import io.pravega.shared.protocol.netty.WireCommands.SealSegment;
 import io.pravega.shared.protocol.netty.WireCommands.SetupAppend;
 import io.pravega.shared.protocol.netty.WireCommands.TruncateSegment;
@@ -48,6 +49,11 @@ public class FailingRequestProcessor implements RequestProcessor {
     public void readSegment(ReadSegment readSegment) {
         throw new IllegalStateException("Unexpected operation");
     }
+
+    @Override
+    public void readSegments(ReadSegments readSegments) {
+        throw new IllegalStateException("Unexpected operation");
+    }
     
     @Override
     public void updateSegmentAttribute(UpdateSegmentAttribute updateSegmentAttribute) {
@@ -69,6 +75,11 @@ public class FailingRequestProcessor implements RequestProcessor {
         throw new IllegalStateException("Unexpected operation");
     }
 
+    @Override
+    public void createSegments(WireCommands.CreateSegments createSegments) {
+        throw new IllegalStateException("Unexpected operation");
+    }
+
     @Override
     public void updateSegmentPolicy(UpdateSegmentPolicy updateSegmentPolicy) {
         throw new IllegalStateException("Unexpected operation");
@@ -124,6 +135,11 @@ public class FailingRequestProcessor implements RequestProcessor {
         throw new IllegalStateException("Unexpected operation");
     }
 
+    @Override
+    public void sealSegments(WireCommands.SealSegments sealSegments) {
+        throw new IllegalStateException("Unexpected operation");
+    }
+
     @Override
     public void sealTableSegment(WireCommands.SealTableSegment sealTableSegment) {
         throw new IllegalStateException("Unexpected operation");
@@ -139,6 +155,11 @@ public class FailingRequestProcessor implements RequestProcessor {
         throw new IllegalStateException("Unexpected operation");
     }
 
+    @Override
+    public void deleteSegments(WireCommands.DeleteSegments deleteSegments) {
+        throw new IllegalStateException("Unexpected operation");
+    }
+
     @Override
     public void keepAlive(KeepAlive keepAlive) {
         // This method intentionally left blank.
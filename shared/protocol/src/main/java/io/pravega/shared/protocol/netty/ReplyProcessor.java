@@ -43,6 +43,8 @@ public interface ReplyProcessor {
     void conditionalCheckFailed(WireCommands.ConditionalCheckFailed dataNotAppended);
 
     void segmentRead(WireCommands.SegmentRead segmentRead);
+
+    void segmentsRead(WireCommands.SegmentsRead segmentsRead);
     
     void segmentAttributeUpdated(WireCommands.SegmentAttributeUpdated segmentAttributeUpdated);
     
@@ -52,14 +54,20 @@ public interface ReplyProcessor {
     
     void segmentCreated(WireCommands.SegmentCreated segmentCreated);
 
+    void segmentsCreated(WireCommands.SegmentsCreated segmentsCreated);
+
     void segmentsMerged(WireCommands.SegmentsMerged segmentsMerged);
 
     void segmentSealed(WireCommands.SegmentSealed segmentSealed);
 
+    void segmentsSealed(WireCommands.SegmentsSealed segmentsSealed);
+
     void segmentTruncated(WireCommands.SegmentTruncated segmentTruncated);
 
     void segmentDeleted(WireCommands.SegmentDeleted segmentDeleted);
 
+    void segmentsDeleted(WireCommands.SegmentsDeleted segmentsDeleted);
+
     void operationUnsupported(WireCommands.OperationUnsupported operationUnsupported);
 
     void keepAlive(WireCommands.KeepAlive keepAlive);
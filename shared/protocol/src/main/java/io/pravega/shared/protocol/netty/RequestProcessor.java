@@ -22,6 +22,7 @@ import io.pravega.shared.protocol.netty.WireCommands.MergeTableSegments;
 import io.pravega.shared.protocol.netty.WireCommands.RemoveTableKeys;
 import io.pravega.shared.protocol.netty.WireCommands.UpdateTableEntries;
 import io.pravega.shared.protocol.netty.WireCommands.ReadSegment;
+import io.pravega.shared.protocol.netty.WireCommands.ReadSegments;
 import io.pravega.shared.protocol.netty.WireCommands.SealSegment;
 import io.pravega.shared.protocol.netty.WireCommands.SealTableSegment;
 import io.pravega.shared.protocol.netty.WireCommands.SetupAppend;
@@ -40,6 +41,8 @@ public interface RequestProcessor {
     void append(Append append);
 
     void readSegment(ReadSegment readSegment);
+
+    void readSegments(ReadSegments readSegments);
     
     void updateSegmentAttribute(UpdateSegmentAttribute updateSegmentAttribute);
     
@@ -49,18 +52,24 @@ public interface RequestProcessor {
 
     void createSegment(CreateSegment createSegment);
 
+    void createSegments(WireCommands.CreateSegments createSegments);
+
     void mergeSegments(MergeSegments mergeSegments);
 
     void mergeTableSegments(MergeTableSegments mergeSegments);
 
     void sealSegment(SealSegment sealSegment);
 
+    void sealSegments(WireCommands.SealSegments sealSegments);
+
     void sealTableSegment(SealTableSegment sealTableSegment);
 
     void truncateSegment(TruncateSegment truncateSegment);
 
     void deleteSegment(DeleteSegment deleteSegment);
 
+    void deleteSegments(WireCommands.DeleteSegments deleteSegments);
+
     void keepAlive(KeepAlive keepAlive);
 
     void updateSegmentPolicy(UpdateSegmentPolicy updateSegmentPolicy);
@@ -28,6 +28,8 @@ public enum WireCommandType {
 
     EVENT(0, null), // Is read manually.
 
+    COMPRESSED_EVENT(-3, null), // Is read manually.
+
     SETUP_APPEND(1, WireCommands.SetupAppend::readFrom),
     APPEND_SETUP(2, WireCommands.AppendSetup::readFrom),
 
@@ -105,6 +107,16 @@ public enum WireCommandType {
     TABLE_ENTRIES_DELTA_READ(87, WireCommands.TableEntriesDeltaRead::readFrom),
     READ_TABLE_ENTRIES_DELTA(88, WireCommands.ReadTableEntriesDelta::readFrom),
 
+    READ_SEGMENTS(89, WireCommands.ReadSegments::readFrom),
+    SEGMENTS_READ(90, WireCommands.SegmentsRead::readFrom),
+
+    CREATE_SEGMENTS(91, WireCommands.CreateSegments::readFrom),
+    SEGMENTS_CREATED(92, WireCommands.SegmentsCreated::readFrom),
+    SEAL_SEGMENTS(93, WireCommands.SealSegments::readFrom),
+    SEGMENTS_SEALED(94, WireCommands.SegmentsSealed::readFrom),
+    DELETE_SEGMENTS(95, WireCommands.DeleteSegments::readFrom),
+    SEGMENTS_DELETED(96, WireCommands.SegmentsDeleted::readFrom),
+
     KEEP_ALIVE(100, WireCommands.KeepAlive::readFrom);
 
     private final int code;
@@ -54,7 +54,7 @@ import static io.netty.buffer.Unpooled.wrappedBuffer;
  * Incompatible changes should instead create a new WireCommand object.
  */
 public final class WireCommands {
-    public static final int WIRE_VERSION = 10;
+    public static final int WIRE_VERSION = 12;
     public static final int OLDEST_COMPATIBLE_VERSION = 5;
     public static final int TYPE_SIZE = 4;
     public static final int TYPE_PLUS_LENGTH_SIZE = 8;
@@ -496,6 +496,45 @@ public final class WireCommands {
         }
     }
 
+    /**
+     * An {@link Event} whose payload has been compressed by the client. This is written to the Segment in place of
+     * the {@link Event} and, like it, is never sent as a standalone command.
+     *
+     * The layout is the same as that of an {@link Event} (type and length), followed by the id of the codec that was
+     * used to compress the payload, the length of the payload before compression and the compressed payload itself.
+     * The length field covers the last three items.
+     */
+    @Data
+    public static final class CompressedEvent implements WireCommand {
+        /**
+         * Number of bytes between the length field and the beginning of the compressed payload.
+         */
+        public static final int COMPRESSION_HEADER_SIZE = Byte.BYTES + Integer.BYTES;
+        final WireCommandType type = WireCommandType.COMPRESSED_EVENT;
+        final byte codecId;
+        final int uncompressedLength;
+        final ByteBuf data;
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeInt(type.getCode());
+            out.writeInt(COMPRESSION_HEADER_SIZE + data.readableBytes());
+            out.writeByte(codecId);
+            out.writeInt(uncompressedLength);
+            data.getBytes(data.readerIndex(), (OutputStream) out, data.readableBytes());
+        }
+
+        public ByteBuf getAsByteBuf() {
+            int headerSize = TYPE_PLUS_LENGTH_SIZE + COMPRESSION_HEADER_SIZE;
+            ByteBuf header = Unpooled.buffer(headerSize, headerSize);
+            header.writeInt(type.getCode());
+            header.writeInt(COMPRESSION_HEADER_SIZE + data.readableBytes());
+            header.writeByte(codecId);
+            header.writeInt(uncompressedLength);
+            return Unpooled.wrappedUnmodifiableBuffer(header, data);
+        }
+    }
+
     @Data
     public static final class SetupAppend implements Request, WireCommand {
         final WireCommandType type = WireCommandType.SETUP_APPEND;
@@ -565,6 +604,7 @@ public final class WireCommands {
     }
 
     @Data
+    @RequiredArgsConstructor
     @EqualsAndHashCode(callSuper = false)
     public static final class AppendBlockEnd extends ReleasableCommand {
         final WireCommandType type = WireCommandType.APPEND_BLOCK_END;
@@ -574,6 +614,15 @@ public final class WireCommands {
         final int numEvents;
         final long lastEventNumber;
         final long requestId;
+        /**
+         * A sample of the routing key hashes of the events in this block, or null if none. This is optional on the wire
+         * (older clients do not send it) and it is only used by the Segment Store to collect auto-scaling statistics.
+         */
+        final float[] routingKeyHashes;
+
+        public AppendBlockEnd(UUID writerId, int sizeOfWholeEvents, ByteBuf data, int numEvents, long lastEventNumber, long requestId) {
+            this(writerId, sizeOfWholeEvents, data, numEvents, lastEventNumber, requestId, null);
+        }
 
         @Override
         public void writeFields(DataOutput out) throws IOException {
@@ -589,6 +638,14 @@ public final class WireCommands {
             out.writeInt(numEvents);
             out.writeLong(lastEventNumber);
             out.writeLong(requestId);
+            if (routingKeyHashes == null) {
+                out.writeInt(0);
+            } else {
+                out.writeInt(routingKeyHashes.length);
+                for (float hash : routingKeyHashes) {
+                    out.writeFloat(hash);
+                }
+            }
         }
 
         public static WireCommand readFrom(EnhancedByteBufInputStream in, int length) throws IOException {
@@ -604,8 +661,16 @@ public final class WireCommands {
             int numEvents = in.readInt();
             long lastEventNumber = in.readLong();
             long requestId = in.available() >= Long.BYTES ? in.readLong() : -1L;
-            return new AppendBlockEnd(writerId, sizeOfHeaderlessAppends, data.retain(), numEvents, lastEventNumber, requestId)
-                    .requireRelease();
+            float[] routingKeyHashes = null;
+            int hashCount = in.available() >= Integer.BYTES ? in.readInt() : 0;
+            if (hashCount > 0) {
+                routingKeyHashes = new float[hashCount];
+                for (int i = 0; i < hashCount; i++) {
+                    routingKeyHashes[i] = in.readFloat();
+                }
+            }
+            return new AppendBlockEnd(writerId, sizeOfHeaderlessAppends, data.retain(), numEvents, lastEventNumber, requestId,
+                    routingKeyHashes).requireRelease();
         }
 
         @Override
@@ -870,6 +935,100 @@ public final class WireCommands {
         }
     }
 
+    /**
+     * Requests data from multiple Segments (that are owned by the same Segment Store) at once. Each contained
+     * {@link ReadSegment} is processed as if it had been sent individually, except that only data that is immediately
+     * available will be returned (in a single {@link SegmentsRead} reply). Reads that cannot be satisfied right away are
+     * omitted from the reply and should be retried individually using {@link ReadSegment}.
+     */
+    @Data
+    public static final class ReadSegments implements Request, WireCommand {
+        final WireCommandType type = WireCommandType.READ_SEGMENTS;
+        final long requestId;
+        final List<ReadSegment> reads;
+
+        @Override
+        public void process(RequestProcessor cp) {
+            cp.readSegments(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeInt(reads.size());
+            for (ReadSegment read : reads) {
+                read.writeFields(out);
+            }
+        }
+
+        public static WireCommand readFrom(ByteBufInputStream in, int length) throws IOException {
+            long requestId = in.readLong();
+            int count = in.readInt();
+            List<ReadSegment> reads = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String segment = in.readUTF();
+                long offset = in.readLong();
+                int suggestedLength = in.readInt();
+                String delegationToken = in.readUTF();
+                long readRequestId = in.readLong();
+                reads.add(new ReadSegment(segment, offset, suggestedLength, delegationToken, readRequestId));
+            }
+            return new ReadSegments(requestId, reads);
+        }
+    }
+
+    /**
+     * Reply to {@link ReadSegments}. Contains a {@link SegmentRead} for each requested read for which data was available
+     * (or which reached the end of its Segment). Requested reads that are not included here were not served.
+     */
+    @Data
+    @EqualsAndHashCode(callSuper = false)
+    public static final class SegmentsRead extends ReleasableCommand implements Reply {
+        final WireCommandType type = WireCommandType.SEGMENTS_READ;
+        final long requestId;
+        final List<SegmentRead> reads;
+
+        @Override
+        public void process(ReplyProcessor cp) {
+            cp.segmentsRead(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeInt(reads.size());
+            for (SegmentRead read : reads) {
+                read.writeFields(out);
+            }
+        }
+
+        public static WireCommand readFrom(EnhancedByteBufInputStream in, int length) throws IOException {
+            long requestId = in.readLong();
+            int count = in.readInt();
+            List<SegmentRead> reads = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String segment = in.readUTF();
+                long offset = in.readLong();
+                boolean atTail = in.readBoolean();
+                boolean endOfSegment = in.readBoolean();
+                int dataLength = in.readInt();
+                if (dataLength > length) {
+                    throw new BufferOverflowException();
+                }
+                ByteBuf data = in.readFully(dataLength).retain();
+                long readRequestId = in.readLong();
+                reads.add((SegmentRead) new SegmentRead(segment, offset, atTail, endOfSegment, data, readRequestId).requireRelease());
+            }
+            return new SegmentsRead(requestId, reads).requireRelease();
+        }
+
+        @Override
+        void releaseInternal() {
+            // SegmentReads that have already been released by whoever they were handed off to will not be released again.
+            this.reads.forEach(SegmentRead::release);
+        }
+    }
+
     @Data
     public static final class GetSegmentAttribute implements Request, WireCommand {
         final WireCommandType type = WireCommandType.GET_SEGMENT_ATTRIBUTE;
@@ -1162,6 +1321,87 @@ public final class WireCommands {
         }
     }
 
+    /**
+     * Creates multiple Segments (that are owned by the same Segment Store and share the same scaling policy) at once.
+     * Each Segment is processed as if it had been sent in its own {@link CreateSegment} request. The server replies with
+     * a single {@link SegmentsCreated}; Segments that could not be created are omitted from it and should be retried
+     * individually using {@link CreateSegment}, which will report the error.
+     */
+    @Data
+    public static final class CreateSegments implements Request, WireCommand {
+        final WireCommandType type = WireCommandType.CREATE_SEGMENTS;
+        final long requestId;
+        final List<String> segments;
+        final byte scaleType;
+        final int targetRate;
+        @ToString.Exclude
+        final String delegationToken;
+
+        @Override
+        public void process(RequestProcessor cp) {
+            cp.createSegments(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeInt(segments.size());
+            for (String segment : segments) {
+                out.writeUTF(segment);
+            }
+            out.writeInt(targetRate);
+            out.writeByte(scaleType);
+            out.writeUTF(delegationToken == null ? "" : delegationToken);
+        }
+
+        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+            long requestId = in.readLong();
+            int count = in.readInt();
+            List<String> segments = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                segments.add(in.readUTF());
+            }
+            int targetRate = in.readInt();
+            byte scaleType = in.readByte();
+            String delegationToken = in.readUTF();
+            return new CreateSegments(requestId, segments, scaleType, targetRate, delegationToken);
+        }
+    }
+
+    /**
+     * Reply to {@link CreateSegments}. Contains the Segments that have been created (or that already existed).
+     */
+    @Data
+    public static final class SegmentsCreated implements Reply, WireCommand {
+        final WireCommandType type = WireCommandType.SEGMENTS_CREATED;
+        final long requestId;
+        final List<String> segments;
+
+        @Override
+        public void process(ReplyProcessor cp) {
+            cp.segmentsCreated(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeInt(segments.size());
+            for (String segment : segments) {
+                out.writeUTF(segment);
+            }
+        }
+
+        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+            long requestId = in.readLong();
+            int count = in.readInt();
+            List<String> segments = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                segments.add(in.readUTF());
+            }
+            return new SegmentsCreated(requestId, segments);
+        }
+    }
+
     @Data
     public static final class UpdateSegmentPolicy implements Request, WireCommand {
 
@@ -1394,6 +1634,80 @@ public final class WireCommands {
         }
     }
 
+    /**
+     * Seals multiple Segments (that are owned by the same Segment Store) at once. Each Segment is processed as if it had
+     * been sent in its own {@link SealSegment} request. The server replies with a single {@link SegmentsSealed}; Segments
+     * that could not be sealed are omitted from it and should be retried individually using {@link SealSegment}.
+     */
+    @Data
+    public static final class SealSegments implements Request, WireCommand {
+        final WireCommandType type = WireCommandType.SEAL_SEGMENTS;
+        final long requestId;
+        final List<String> segments;
+        @ToString.Exclude
+        final String delegationToken;
+
+        @Override
+        public void process(RequestProcessor cp) {
+            cp.sealSegments(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeInt(segments.size());
+            for (String segment : segments) {
+                out.writeUTF(segment);
+            }
+            out.writeUTF(delegationToken == null ? "" : delegationToken);
+        }
+
+        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+            long requestId = in.readLong();
+            int count = in.readInt();
+            List<String> segments = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                segments.add(in.readUTF());
+            }
+            String delegationToken = in.readUTF();
+            return new SealSegments(requestId, segments, delegationToken);
+        }
+    }
+
+    /**
+     * Reply to {@link SealSegments}. Contains the Segments that have been sealed (or that were already sealed).
+     */
+    @Data
+    public static final class SegmentsSealed implements Reply, WireCommand {
+        final WireCommandType type = WireCommandType.SEGMENTS_SEALED;
+        final long requestId;
+        final List<String> segments;
+
+        @Override
+        public void process(ReplyProcessor cp) {
+            cp.segmentsSealed(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeInt(segments.size());
+            for (String segment : segments) {
+                out.writeUTF(segment);
+            }
+        }
+
+        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+            long requestId = in.readLong();
+            int count = in.readInt();
+            List<String> segments = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                segments.add(in.readUTF());
+            }
+            return new SegmentsSealed(requestId, segments);
+        }
+    }
+
     @Data
     public static final class TruncateSegment implements Request, WireCommand {
         final WireCommandType type = WireCommandType.TRUNCATE_SEGMENT;
@@ -1532,6 +1846,80 @@ public final class WireCommands {
         }
     }
 
+    /**
+     * Deletes multiple Segments (that are owned by the same Segment Store) at once. Each Segment is processed as if it had
+     * been sent in its own {@link DeleteSegment} request. The server replies with a single {@link SegmentsDeleted};
+     * Segments that could not be deleted are omitted from it and should be retried individually using {@link DeleteSegment}.
+     */
+    @Data
+    public static final class DeleteSegments implements Request, WireCommand {
+        final WireCommandType type = WireCommandType.DELETE_SEGMENTS;
+        final long requestId;
+        final List<String> segments;
+        @ToString.Exclude
+        final String delegationToken;
+
+        @Override
+        public void process(RequestProcessor cp) {
+            cp.deleteSegments(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeInt(segments.size());
+            for (String segment : segments) {
+                out.writeUTF(segment);
+            }
+            out.writeUTF(delegationToken == null ? "" : delegationToken);
+        }
+
+        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+            long requestId = in.readLong();
+            int count = in.readInt();
+            List<String> segments = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                segments.add(in.readUTF());
+            }
+            String delegationToken = in.readUTF();
+            return new DeleteSegments(requestId, segments, delegationToken);
+        }
+    }
+
+    /**
+     * Reply to {@link DeleteSegments}. Contains the Segments that have been deleted (or that did not exist).
+     */
+    @Data
+    public static final class SegmentsDeleted implements Reply, WireCommand {
+        final WireCommandType type = WireCommandType.SEGMENTS_DELETED;
+        final long requestId;
+        final List<String> segments;
+
+        @Override
+        public void process(ReplyProcessor cp) {
+            cp.segmentsDeleted(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeInt(segments.size());
+            for (String segment : segments) {
+                out.writeUTF(segment);
+            }
+        }
+
+        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+            long requestId = in.readLong();
+            int count = in.readInt();
+            List<String> segments = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                segments.add(in.readUTF());
+            }
+            return new SegmentsDeleted(requestId, segments);
+        }
+    }
+
     @Data
     public static final class KeepAlive implements Request, Reply, WireCommand {
         final WireCommandType type = WireCommandType.KEEP_ALIVE;
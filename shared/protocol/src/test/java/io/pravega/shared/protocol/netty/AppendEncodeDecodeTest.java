@@ -40,6 +40,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.Cleanup;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -440,6 +441,62 @@ public class AppendEncodeDecodeTest extends LeakDetectorTestSuite {
         assertEquals(content.length + TYPE_PLUS_LENGTH_SIZE, readAppend.data.readableBytes());
     }
 
+    /**
+     * Verifies that the routing key hashes of the Appends in a block are sampled and sent to the server along with it.
+     */
+    @Test
+    public void testRoutingKeyHashes() throws Exception {
+        byte[] content = new byte[10];
+        Arrays.fill(content, (byte) 1);
+        CommandEncoder commandEncoder = new CommandEncoder(idBatchSizeTrackerMap::get, NO_OP_METRIC_NOTIFIER);
+        SetupAppend setupAppend = new SetupAppend(1, writerId, "segment", "");
+        commandEncoder.encode(ctx, setupAppend, fakeNetwork);
+        appendDecoder.processCommand(setupAppend);
+        @Cleanup("release")
+        val received = new ReceivedCommands();
+
+        // A few appends, all in the same block.
+        int eventNumber = 0;
+        float[] hashes = new float[]{0.1f, 0.7f, 0.3f};
+        for (float hash : hashes) {
+            Event event = new Event(Unpooled.wrappedBuffer(content));
+            commandEncoder.encode(ctx, new Append("segment", writerId, ++eventNumber, 1, event.getAsByteBuf(), null, 1, hash),
+                    fakeNetwork);
+        }
+        commandEncoder.encode(ctx, new KeepAlive(), fakeNetwork);
+
+        // More appends than we can sample.
+        List<Float> allHashes = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            float hash = i / 20f;
+            allHashes.add(hash);
+            Event event = new Event(Unpooled.wrappedBuffer(content));
+            commandEncoder.encode(ctx, new Append("segment", writerId, ++eventNumber, 1, event.getAsByteBuf(), null, 1, hash),
+                    fakeNetwork);
+        }
+        commandEncoder.encode(ctx, new KeepAlive(), fakeNetwork);
+
+        // An append without any routing key hash.
+        Event event = new Event(Unpooled.wrappedBuffer(content));
+        commandEncoder.encode(ctx, new Append("segment", writerId, ++eventNumber, event, 1), fakeNetwork);
+        commandEncoder.encode(ctx, new KeepAlive(), fakeNetwork);
+        read(fakeNetwork, received);
+
+        List<Append> appends = received.results.stream().filter(r -> r instanceof Append).map(r -> (Append) r).collect(Collectors.toList());
+        assertEquals(3, appends.size());
+        assertEquals(3, appends.get(0).getEventCount());
+        Assert.assertArrayEquals(hashes, appends.get(0).getRoutingKeyHashes(), 0);
+
+        assertEquals(20, appends.get(1).getEventCount());
+        float[] sample = appends.get(1).getRoutingKeyHashes();
+        assertEquals(8, sample.length);
+        for (float hash : sample) {
+            assertTrue("Unexpected sampled hash " + hash, allHashes.contains(hash));
+        }
+
+        Assert.assertNull(appends.get(2).getRoutingKeyHashes());
+    }
+
     @Test
     public void testSwitchingStream() throws Exception {
         int size = appendBlockSize;
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -84,6 +85,13 @@ public class WireCommandsTest extends LeakDetectorTestSuite {
     @Test
     public void testAppendBlockEnd() throws IOException {
         testCommand(new WireCommands.AppendBlockEnd(uuid, i, buf, i, i, l));
+        testCommand(new WireCommands.AppendBlockEnd(uuid, i, buf, i, i, l, new float[]{0.1f, 0.5f, 0.9f}));
+
+        // Test that we are able to decode a message without routing key hashes (previous version).
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        new WireCommands.AppendBlockEnd(uuid, i, buf, i, i, l).writeFields(new DataOutputStream(bout));
+        byte[] bytes = bout.toByteArray();
+        testCommandFromByteArray(Arrays.copyOf(bytes, bytes.length - Integer.BYTES), new WireCommands.AppendBlockEnd(uuid, i, buf, i, i, l));
 
         // Test that it correctly implements ReleasableCommand.
         testReleasableCommand(
@@ -559,6 +567,31 @@ public class WireCommandsTest extends LeakDetectorTestSuite {
 
     }
 
+    @Test
+    public void testReadSegments() throws IOException {
+        testCommand(new WireCommands.ReadSegments(l, Arrays.asList(
+                new WireCommands.ReadSegment(testString1, l, i, "", l),
+                new WireCommands.ReadSegment(testString2, l + 1, i + 1, "token", l + 1))));
+        testCommand(new WireCommands.ReadSegments(l, Collections.emptyList()));
+    }
+
+    @Test
+    public void testSegmentsRead() throws IOException {
+        testCommand(new WireCommands.SegmentsRead(l, Arrays.asList(
+                new WireCommands.SegmentRead(testString1, l, true, false, buf, l),
+                new WireCommands.SegmentRead(testString2, l + 1, false, true, Unpooled.EMPTY_BUFFER, l + 1))));
+        testCommand(new WireCommands.SegmentsRead(l, Collections.emptyList()));
+
+        // Test that it correctly implements ReleasableCommand (each contained SegmentRead retains the buffer once).
+        testReleasableCommand(
+                () -> new WireCommands.SegmentsRead(l, Arrays.asList(
+                        new WireCommands.SegmentRead(testString1, l, true, false, buf, l),
+                        new WireCommands.SegmentRead(testString2, l, true, false, buf, l))),
+                WireCommands.SegmentsRead::readFrom,
+                sr -> sr.getReads().get(0).getData().refCnt(),
+                2);
+    }
+
     @Test
     public void testUpdateSegmentAttribute() throws IOException {
         testCommand(new WireCommands.UpdateSegmentAttribute(l, testString1, uuid, l, l, ""));
@@ -605,6 +638,18 @@ public class WireCommandsTest extends LeakDetectorTestSuite {
         testCommand(new WireCommands.SegmentCreated(l, testString1));
     }
 
+    @Test
+    public void testCreateSegments() throws IOException {
+        testCommand(new WireCommands.CreateSegments(l, Arrays.asList(testString1, testString2), b, i, ""));
+        testCommand(new WireCommands.CreateSegments(l, Collections.emptyList(), b, i, "token"));
+    }
+
+    @Test
+    public void testSegmentsCreated() throws IOException {
+        testCommand(new WireCommands.SegmentsCreated(l, Arrays.asList(testString1, testString2)));
+        testCommand(new WireCommands.SegmentsCreated(l, Collections.emptyList()));
+    }
+
     @Test
     public void testMergeSegments() throws IOException {
         testCommand(new WireCommands.MergeSegments(l, testString1, testString2, ""));
@@ -635,6 +680,18 @@ public class WireCommandsTest extends LeakDetectorTestSuite {
         testCommand(new WireCommands.SegmentSealed(l, testString1));
     }
 
+    @Test
+    public void testSealSegments() throws IOException {
+        testCommand(new WireCommands.SealSegments(l, Arrays.asList(testString1, testString2), ""));
+        testCommand(new WireCommands.SealSegments(l, Collections.emptyList(), "token"));
+    }
+
+    @Test
+    public void testSegmentsSealed() throws IOException {
+        testCommand(new WireCommands.SegmentsSealed(l, Arrays.asList(testString1, testString2)));
+        testCommand(new WireCommands.SegmentsSealed(l, Collections.emptyList()));
+    }
+
     @Test
     public void testTruncateSegment() throws IOException {
         testCommand(new WireCommands.TruncateSegment(l, testString1, l + 1, ""));
@@ -666,6 +723,18 @@ public class WireCommandsTest extends LeakDetectorTestSuite {
         testCommand(new WireCommands.SegmentDeleted(l, testString1));
     }
 
+    @Test
+    public void testDeleteSegments() throws IOException {
+        testCommand(new WireCommands.DeleteSegments(l, Arrays.asList(testString1, testString2), ""));
+        testCommand(new WireCommands.DeleteSegments(l, Collections.emptyList(), "token"));
+    }
+
+    @Test
+    public void testSegmentsDeleted() throws IOException {
+        testCommand(new WireCommands.SegmentsDeleted(l, Arrays.asList(testString1, testString2)));
+        testCommand(new WireCommands.SegmentsDeleted(l, Collections.emptyList()));
+    }
+
     @Test
     public void testUpdateSegmentPolicy() throws IOException {
         testCommand(new WireCommands.UpdateSegmentPolicy(l, testString1, b, i, ""));